@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018-2022. Axon Framework
+ * Copyright (c) 2018-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,6 +22,7 @@
 
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
 
 /**
  * Composite of {@link MessageDispatchInterceptor}s that apply all interceptors in the order of registration.
@@ -46,4 +47,21 @@ public <T extends M> T intercept(T message) {
         }
         return messageToDispatch;
     }
+
+    /**
+     * Applies all interceptors to the given batch of {@code messages}, invoking every interceptor once for the
+     * complete batch. Messages that fail to be intercepted are reported to the given {@code failureHandler}.
+     *
+     * @param messages       the batch of messages to intercept
+     * @param failureHandler the handler to report the position of a message that failed to be intercepted to,
+     *                       together with the failure
+     * @param <T>            the type of message to intercept
+     * @return the intercepted messages, at the same positions as the given {@code messages}, with {@code null} at the
+     * positions of messages that failed to be intercepted
+     * @see MessageDispatchInterceptor#interceptAll(List, List, BiConsumer)
+     */
+    public <T extends M> List<T> interceptAll(List<? extends T> messages,
+                                              BiConsumer<Integer, RuntimeException> failureHandler) {
+        return MessageDispatchInterceptor.interceptAll(dispatchInterceptors, messages, failureHandler);
+    }
 }
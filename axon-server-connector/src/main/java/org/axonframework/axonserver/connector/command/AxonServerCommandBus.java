@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2023. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -54,6 +54,7 @@
 import org.slf4j.LoggerFactory;
 
 import java.lang.invoke.MethodHandles;
+import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
@@ -165,6 +166,32 @@ public <C, R> void dispatch(@Nonnull CommandMessage<C> commandMessage,
         doDispatch(dispatchInterceptors.intercept(commandMessage), commandCallback);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The dispatch interceptors are invoked once for the complete batch, after which the commands are sent to Axon
+     * Server without waiting for the results of the preceding commands. A command that fails to be intercepted is
+     * reported to the {@code callback} with that failure, without affecting the other commands.
+     */
+    @Override
+    public void dispatchAll(@Nonnull List<? extends CommandMessage<?>> commands,
+                            @Nonnull CommandCallback<Object, Object> callback) {
+        logger.debug("Dispatch batch of [{}] commands with callback", commands.size());
+        List<CommandMessage<?>> interceptedCommands = dispatchInterceptors.interceptAll(
+                commands,
+                (index, failure) -> callback.onResult(commands.get(index),
+                                                      GenericCommandResultMessage.asCommandResultMessage(failure))
+        );
+        for (int i = 0; i < commands.size(); i++) {
+            CommandMessage<?> command = commands.get(i);
+            CommandMessage<?> interceptedCommand = interceptedCommands.get(i);
+            if (interceptedCommand != null) {
+                doDispatch(interceptedCommand,
+                           (CommandCallback<Object, Object>) (c, result) -> callback.onResult(command, result));
+            }
+        }
+    }
+
     private <C, R> void doDispatch(CommandMessage<C> commandMessage,
                                    CommandCallback<? super C, ? super R> commandCallback) {
         shutdownLatch.ifShuttingDown("Cannot dispatch new commands as this bus is being shutdown");
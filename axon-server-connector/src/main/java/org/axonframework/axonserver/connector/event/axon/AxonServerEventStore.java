@@ -67,7 +67,10 @@
 import java.lang.invoke.MethodHandles;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Spliterators;
@@ -174,6 +177,16 @@ public DomainEventStream readEvents(String aggregateIdentifier) {
         return super.readEvents(aggregateIdentifier);
     }
 
+    @Override
+    public Map<String, DomainEventStream> readEventsForAggregates(@Nonnull Collection<String> aggregateIdentifiers) {
+        if (!storageEngine().snapshotFilterSet && Objects.equals(storageEngine().eventSerializer, storageEngine().snapshotSerializer)) {
+            Map<String, DomainEventStream> eventStreams = new HashMap<>();
+            aggregateIdentifiers.forEach(id -> eventStreams.put(id, readEvents(id)));
+            return eventStreams;
+        }
+        return super.readEventsForAggregates(aggregateIdentifiers);
+    }
+
     /**
      * Builder class to instantiate a {@link AxonServerEventStore}.
      * <p>
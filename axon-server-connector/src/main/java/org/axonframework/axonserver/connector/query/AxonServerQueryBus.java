@@ -51,6 +51,7 @@
 import org.axonframework.common.AxonConfigurationException;
 import org.axonframework.common.AxonException;
 import org.axonframework.common.AxonThreadFactory;
+import org.axonframework.common.IdentifierFactory;
 import org.axonframework.common.Registration;
 import org.axonframework.common.StringUtils;
 import org.axonframework.lifecycle.Lifecycle;
@@ -69,6 +70,8 @@
 import org.axonframework.queryhandling.GenericQueryResponseMessage;
 import org.axonframework.queryhandling.QueryBus;
 import org.axonframework.queryhandling.QueryBusSpanFactory;
+import org.axonframework.queryhandling.QueryDeadline;
+import org.axonframework.queryhandling.QueryDeadlineExceededException;
 import org.axonframework.queryhandling.QueryMessage;
 import org.axonframework.queryhandling.QueryResponseMessage;
 import org.axonframework.queryhandling.QueryUpdateEmitter;
@@ -93,6 +96,7 @@
 
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Type;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Spliterator;
@@ -101,6 +105,8 @@
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -119,6 +125,10 @@
 /**
  * Axon {@link QueryBus} implementation that connects to Axon Server to submit and receive queries and query responses.
  * Delegates incoming queries to the provided {@code localSegment}.
+ * <p>
+ * When a dispatched query carries a {@link QueryDeadline}, Axon Server is instructed to abort the query once the
+ * deadline has passed, and queries of which the deadline already passed are not dispatched at all. Point-to-point
+ * queries may be hedged by configuring a {@link QueryHedgingPolicy}.
  *
  * @author Marc Gathier
  * @since 4.0
@@ -150,6 +160,7 @@ public class AxonServerQueryBus implements QueryBus, Distributed<QueryBus>, Life
     private final LocalSegmentAdapter localSegmentAdapter;
     private final String context;
     private final QueryBusSpanFactory spanFactory;
+    private final QueryHedgingPolicy hedgingPolicy;
 
     /**
      * Instantiate a {@link AxonServerQueryBus} based on the fields contained in the {@link Builder}.
@@ -168,6 +179,7 @@ public AxonServerQueryBus(Builder builder) {
         this.context = StringUtils.nonEmptyOrNull(builder.defaultContext) ? builder.defaultContext : configuration.getContext();
         this.targetContextResolver = builder.targetContextResolver.orElse(m -> context);
         this.spanFactory = builder.spanFactory;
+        this.hedgingPolicy = builder.hedgingPolicy;
 
         dispatchInterceptors = new DispatchInterceptors<>();
 
@@ -263,6 +275,7 @@ public <Q, R> CompletableFuture<QueryResponseMessage<R>> query(@Nonnull QueryMes
             ShutdownLatch.ActivityHandle queryInTransit = shutdownLatch.registerActivity();
             CompletableFuture<QueryResponseMessage<R>> queryTransaction = new CompletableFuture<>();
             try {
+                QueryDeadline.fromMetaData(interceptedQuery.getMetaData()).ifPresent(QueryDeadline::checkNotExpired);
                 int priority = priorityCalculator.determinePriority(interceptedQuery);
                 QueryRequest queryRequest = serialize(interceptedQuery, false, priority);
                 ResultStream<QueryResponse> result = sendRequest(interceptedQuery, queryRequest);
@@ -272,12 +285,20 @@ public <Q, R> CompletableFuture<QueryResponseMessage<R>> query(@Nonnull QueryMes
                                                                                serializer,
                                                                                queryTransaction,
                                                                                queryMessage.getResponseType(),
-                                                                               responseTaskSpan);
+                                                                               responseTaskSpan,
+                                                                               true);
 
                 result.onAvailable(() -> queryExecutor.execute(new PriorityRunnable(
                         responseProcessingTask,
                         priority,
                         TASK_SEQUENCE.incrementAndGet())));
+                if (hedgingPolicy != null && hedgingPolicy.isHedgeable(interceptedQuery)) {
+                    scheduleHedge(interceptedQuery, queryMessage.getResponseType(), queryRequest, priority,
+                                  queryTransaction);
+                }
+            } catch (QueryDeadlineExceededException e) {
+                logger.debug("Not dispatching query {} as its deadline has passed.", interceptedQuery);
+                queryTransaction.completeExceptionally(e);
             } catch (Exception e) {
                 logger.debug("There was a problem issuing a query {}.", interceptedQuery, e);
                 AxonException exception = ErrorCode.QUERY_DISPATCH_ERROR.convert(configuration.getClientId(), e);
@@ -299,6 +320,75 @@ public <Q, R> CompletableFuture<QueryResponseMessage<R>> query(@Nonnull QueryMes
         }
     }
 
+    /**
+     * Schedules dispatching the given {@code queryRequest} a second time, in case the original request did not yield a
+     * response within the hedge delay of the {@link QueryHedgingPolicy}. The latency of successful responses is
+     * registered with the policy, to base the hedge delay of future queries on.
+     */
+    private <R> void scheduleHedge(QueryMessage<?, R> query,
+                                   ResponseType<R> responseType,
+                                   QueryRequest queryRequest,
+                                   int priority,
+                                   CompletableFuture<QueryResponseMessage<R>> queryTransaction) {
+        String queryName = query.getQueryName();
+        long start = System.nanoTime();
+        ScheduledFuture<?> hedge;
+        try {
+            hedge = hedgingPolicy.schedule(() -> dispatchHedge(query, responseType, queryRequest, priority,
+                                                               queryTransaction),
+                                           hedgingPolicy.hedgeDelay(queryName));
+        } catch (RejectedExecutionException e) {
+            logger.debug("Unable to schedule hedging query {}. Waiting for the original request only.", query, e);
+            return;
+        }
+        queryTransaction.whenComplete((response, error) -> {
+            hedge.cancel(false);
+            if (response != null && !response.isExceptional()) {
+                hedgingPolicy.recordLatency(queryName, Duration.ofNanos(System.nanoTime() - start));
+            }
+        });
+    }
+
+    /**
+     * Dispatches a duplicate of the given {@code queryRequest} under a new message identifier, unless the query was
+     * answered in the meantime or its deadline has passed. The first response of either request completes the given
+     * {@code queryTransaction}. Failures to dispatch the duplicate are not reported, as the original request may still
+     * yield a response.
+     */
+    private <R> void dispatchHedge(QueryMessage<?, R> query,
+                                   ResponseType<R> responseType,
+                                   QueryRequest queryRequest,
+                                   int priority,
+                                   CompletableFuture<QueryResponseMessage<R>> queryTransaction) {
+        if (queryTransaction.isDone() || QueryDeadline.fromMetaData(query.getMetaData())
+                                                      .map(QueryDeadline::isExpired)
+                                                      .orElse(false)) {
+            return;
+        }
+        try {
+            QueryRequest hedgedRequest = queryRequest.toBuilder()
+                                                     .setMessageIdentifier(
+                                                             IdentifierFactory.getInstance().generateIdentifier()
+                                                     )
+                                                     .build();
+            ResultStream<QueryResponse> result = sendRequest(query, hedgedRequest);
+            queryTransaction.whenComplete((r, e) -> result.close());
+            Span responseTaskSpan = spanFactory.createResponseProcessingSpan(query);
+            Runnable responseProcessingTask = new ResponseProcessingTask<>(result,
+                                                                           serializer,
+                                                                           queryTransaction,
+                                                                           responseType,
+                                                                           responseTaskSpan,
+                                                                           false);
+            result.onAvailable(() -> queryExecutor.execute(new PriorityRunnable(
+                    responseProcessingTask,
+                    priority,
+                    TASK_SEQUENCE.incrementAndGet())));
+        } catch (Exception e) {
+            logger.debug("There was a problem issuing a hedged query {}.", query, e);
+        }
+    }
+
     private QueryRequest serializeStreaming(QueryMessage<?, ?> query, int priority) {
         return serialize(query, true, priority);
     }
@@ -343,11 +433,18 @@ private ShutdownLatch.ActivityHandle registerStreamingQueryActivity() {
     private QueryRequest serialize(QueryMessage<?, ?> query, boolean stream, int priority) {
         return serializer.serializeRequest(query,
                                            DIRECT_QUERY_NUMBER_OF_RESULTS,
-                                           DIRECT_QUERY_TIMEOUT_MS,
+                                           directQueryTimeout(query),
                                            priority,
                                            stream);
     }
 
+    private static long directQueryTimeout(QueryMessage<?, ?> query) {
+        return QueryDeadline.fromMetaData(query.getMetaData())
+                            .map(deadline -> Math.max(1, deadline.remaining().toMillis()))
+                            .map(remaining -> Math.min(remaining, DIRECT_QUERY_TIMEOUT_MS))
+                            .orElse(DIRECT_QUERY_TIMEOUT_MS);
+    }
+
     private ResultStream<QueryResponse> sendRequest(QueryMessage<?, ?> queryMessage, QueryRequest queryRequest) {
         return axonServerConnectionManager.getConnection(targetContextResolver.resolveContext(queryMessage))
                                           .queryChannel()
@@ -535,7 +632,11 @@ public void disconnect() {
      * @return a completable future which is resolved once all query dispatching activities are completed
      */
     public CompletableFuture<Void> shutdownDispatching() {
-        return shutdownLatch.initiateShutdown();
+        CompletableFuture<Void> shutdown = shutdownLatch.initiateShutdown();
+        if (hedgingPolicy != null) {
+            return shutdown.whenComplete((r, e) -> hedgingPolicy.shutdown());
+        }
+        return shutdown;
     }
 
     /**
@@ -546,9 +647,9 @@ public CompletableFuture<Void> shutdownDispatching() {
      * to a lambda returning the {@link AxonServerConfiguration#getContext()} as the context. The
      * {@link ExecutorServiceBuilder} defaults to {@link ExecutorServiceBuilder#defaultQueryExecutorServiceBuilder()}.
      * The {@link QueryBusSpanFactory} defaults to a {@link DefaultQueryBusSpanFactory} backed by a
-     * {@link NoOpSpanFactory}. The {@link AxonServerConnectionManager}, the {@link AxonServerConfiguration}, the local
-     * {@link QueryBus}, the {@link QueryUpdateEmitter}, and the message and generic {@link Serializer}s are <b>hard
-     * requirements</b> and as such should be provided.
+     * {@link NoOpSpanFactory} and queries are not hedged by default. The {@link AxonServerConnectionManager}, the
+     * {@link AxonServerConfiguration}, the local {@link QueryBus}, the {@link QueryUpdateEmitter}, and the message and
+     * generic {@link Serializer}s are <b>hard requirements</b> and as such should be provided.
      */
     public static class Builder {
 
@@ -567,6 +668,7 @@ public static class Builder {
         private QueryBusSpanFactory spanFactory = DefaultQueryBusSpanFactory.builder()
                                                                             .spanFactory(NoOpSpanFactory.INSTANCE)
                                                                             .build();
+        private QueryHedgingPolicy hedgingPolicy;
 
         /**
          * Sets the {@link AxonServerConnectionManager} used to create connections between this application and an Axon
@@ -771,6 +873,20 @@ public Builder spanFactory(@Nonnull QueryBusSpanFactory spanFactory) {
             return this;
         }
 
+        /**
+         * Sets the {@link QueryHedgingPolicy} describing when point-to-point queries are dispatched a second time, to
+         * cut off the tail latency of slow handling instances. The policy is shut down when this bus
+         * {@link AxonServerQueryBus#shutdownDispatching() shuts down dispatching}. Queries are not hedged by default.
+         *
+         * @param hedgingPolicy the {@link QueryHedgingPolicy} describing when point-to-point queries are hedged
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder hedgingPolicy(@Nonnull QueryHedgingPolicy hedgingPolicy) {
+            assertNonNull(hedgingPolicy, "QueryHedgingPolicy may not be null");
+            this.hedgingPolicy = hedgingPolicy;
+            return this;
+        }
+
         /**
          * Initializes a {@link AxonServerQueryBus} as specified through this Builder.
          *
@@ -887,16 +1003,19 @@ public int characteristics() {
         private final CompletableFuture<QueryResponseMessage<R>> queryTransaction;
         private final ResponseType<R> expectedResponseType;
         private final Span span;
+        private final boolean reportDispatchErrors;
 
         public ResponseProcessingTask(ResultStream<QueryResponse> result,
                                       QuerySerializer serializer,
                                       CompletableFuture<QueryResponseMessage<R>> queryTransaction,
-                                      ResponseType<R> expectedResponseType, Span responseTaskSpan) {
+                                      ResponseType<R> expectedResponseType, Span responseTaskSpan,
+                                      boolean reportDispatchErrors) {
             this.result = result;
             this.serializer = serializer;
             this.queryTransaction = queryTransaction;
             this.expectedResponseType = expectedResponseType;
             this.span = responseTaskSpan;
+            this.reportDispatchErrors = reportDispatchErrors;
         }
 
         @Override
@@ -907,7 +1026,7 @@ public void run() {
                     span.run(() -> {
                         queryTransaction.complete(serializer.deserializeResponse(nextAvailable, expectedResponseType));
                     });
-                } else if (result.isClosed() && !queryTransaction.isDone()) {
+                } else if (reportDispatchErrors && result.isClosed() && !queryTransaction.isDone()) {
                     Exception exception = result.getError()
                                                 .map(ErrorCode.QUERY_DISPATCH_ERROR::convert)
                                                 .orElse(new AxonServerQueryDispatchException(
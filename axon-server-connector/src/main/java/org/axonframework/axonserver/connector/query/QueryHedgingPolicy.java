@@ -0,0 +1,315 @@
+/*
+ * Copyright (c) 2010-2024. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.axonserver.connector.query;
+
+import org.axonframework.common.AxonConfigurationException;
+import org.axonframework.common.AxonThreadFactory;
+import org.axonframework.queryhandling.QueryMessage;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import javax.annotation.Nonnull;
+
+import static org.axonframework.common.BuilderUtils.assertNonNull;
+import static org.axonframework.common.BuilderUtils.assertStrictPositive;
+import static org.axonframework.common.BuilderUtils.assertThat;
+
+/**
+ * Policy describing when the {@link AxonServerQueryBus} hedges point-to-point queries. A hedged query is dispatched a
+ * second time when no response arrived within the hedge delay, after which the first response to arrive is used. This
+ * cuts off the tail latency caused by a single slow handling instance, at the cost of handling a small fraction of the
+ * queries twice.
+ * <p>
+ * The hedge delay of a query is the configured {@link Builder#percentile(double) percentile} of the latencies recently
+ * measured for queries with the same name, so that only the slowest queries are hedged. Until enough latencies have
+ * been measured, the {@link Builder#initialDelay(Duration) initial delay} is used. The delay is never shorter than the
+ * {@link Builder#minimumDelay(Duration) minimum delay}.
+ * <p>
+ * Axon Server decides which handling instance receives the duplicate query. When several instances of the handling
+ * application are connected, this is typically another instance than the one handling the original query. As the
+ * duplicate may be handled in full, only queries free of side effects should be hedged, which can be controlled
+ * through {@link Builder#hedgeableQueries(Predicate)}.
+ *
+ * @since 4.11.0
+ */
+public class QueryHedgingPolicy {
+
+    private final double percentile;
+    private final Duration initialDelay;
+    private final Duration minimumDelay;
+    private final int minimumSamples;
+    private final int maxSamples;
+    private final Predicate<QueryMessage<?, ?>> hedgeableQueries;
+    private final ScheduledExecutorService scheduler;
+
+    private final Map<String, LatencyWindow> latencies = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiate a Builder to be able to create a {@link QueryHedgingPolicy}.
+     * <p>
+     * The percentile defaults to {@code 0.95}, the initial delay to one second and the minimum delay to ten
+     * milliseconds. The latencies of the latest {@code 1000} queries are kept per query name, of which at least
+     * {@code 100} are required before the percentile is used. All queries are hedgeable by default, and the
+     * {@link ScheduledExecutorService} defaults to a single threaded executor using an {@link AxonThreadFactory}.
+     *
+     * @return a Builder to be able to create a {@link QueryHedgingPolicy}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Instantiate a {@link QueryHedgingPolicy} based on the fields contained in the {@link Builder}.
+     *
+     * @param builder the {@link Builder} used to instantiate a {@link QueryHedgingPolicy} instance
+     */
+    protected QueryHedgingPolicy(Builder builder) {
+        builder.validate();
+        this.percentile = builder.percentile;
+        this.initialDelay = builder.initialDelay;
+        this.minimumDelay = builder.minimumDelay;
+        this.minimumSamples = builder.minimumSamples;
+        this.maxSamples = builder.maxSamples;
+        this.hedgeableQueries = builder.hedgeableQueries;
+        this.scheduler = builder.scheduler;
+    }
+
+    /**
+     * Indicates whether the given {@code query} may be hedged.
+     *
+     * @param query the query to dispatch
+     * @return {@code true} if the given {@code query} may be hedged, {@code false} otherwise
+     */
+    public boolean isHedgeable(@Nonnull QueryMessage<?, ?> query) {
+        return hedgeableQueries.test(query);
+    }
+
+    /**
+     * Returns the time to wait for a response to a query with the given {@code queryName} before dispatching it again.
+     *
+     * @param queryName the name of the query to dispatch
+     * @return the time to wait for a response before dispatching the query again
+     */
+    public Duration hedgeDelay(@Nonnull String queryName) {
+        LatencyWindow window = latencies.get(queryName);
+        long percentileNanos = window == null ? -1 : window.percentile();
+        Duration delay = percentileNanos < 0 ? initialDelay : Duration.ofNanos(percentileNanos);
+        return delay.compareTo(minimumDelay) < 0 ? minimumDelay : delay;
+    }
+
+    /**
+     * Registers the given {@code latency} of a successfully answered query with the given {@code queryName}.
+     *
+     * @param queryName the name of the answered query
+     * @param latency   the time between dispatching the query and receiving its response
+     */
+    public void recordLatency(@Nonnull String queryName, @Nonnull Duration latency) {
+        latencies.computeIfAbsent(queryName, name -> new LatencyWindow()).record(latency.toNanos());
+    }
+
+    /**
+     * Schedules the given {@code hedge} task to run after the given {@code delay}.
+     *
+     * @param hedge the task dispatching the query again
+     * @param delay the time to wait before running the task
+     * @return a {@link ScheduledFuture} to cancel the task with once the query is answered
+     */
+    public ScheduledFuture<?> schedule(@Nonnull Runnable hedge, @Nonnull Duration delay) {
+        return scheduler.schedule(hedge, delay.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Shuts down the {@link ScheduledExecutorService} used to schedule hedged queries.
+     */
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+
+    /**
+     * A sliding window over the latest latencies of a single query name. The percentile is recalculated after every
+     * tenth of the window has been replaced, to avoid sorting the window on every query.
+     */
+    private class LatencyWindow {
+
+        private final long[] samples = new long[maxSamples];
+        private final int recalculationInterval = Math.max(1, maxSamples / 10);
+        private int next;
+        private int size;
+        private int recordedSinceCalculation;
+        private volatile long percentileNanos = -1;
+
+        private synchronized void record(long latencyNanos) {
+            samples[next] = latencyNanos;
+            next = (next + 1) % samples.length;
+            size = Math.min(size + 1, samples.length);
+            recordedSinceCalculation++;
+            if (size >= minimumSamples
+                    && (percentileNanos < 0 || recordedSinceCalculation >= recalculationInterval)) {
+                long[] sorted = Arrays.copyOf(samples, size);
+                Arrays.sort(sorted);
+                percentileNanos = sorted[Math.max(0, (int) Math.ceil(size * percentile) - 1)];
+                recordedSinceCalculation = 0;
+            }
+        }
+
+        private long percentile() {
+            return percentileNanos;
+        }
+    }
+
+    /**
+     * Builder class to instantiate a {@link QueryHedgingPolicy}.
+     * <p>
+     * The percentile defaults to {@code 0.95}, the initial delay to one second and the minimum delay to ten
+     * milliseconds. The latencies of the latest {@code 1000} queries are kept per query name, of which at least
+     * {@code 100} are required before the percentile is used. All queries are hedgeable by default, and the
+     * {@link ScheduledExecutorService} defaults to a single threaded executor using an {@link AxonThreadFactory}.
+     */
+    public static class Builder {
+
+        private double percentile = 0.95;
+        private Duration initialDelay = Duration.ofSeconds(1);
+        private Duration minimumDelay = Duration.ofMillis(10);
+        private int minimumSamples = 100;
+        private int maxSamples = 1000;
+        private Predicate<QueryMessage<?, ?>> hedgeableQueries = query -> true;
+        private ScheduledExecutorService scheduler;
+
+        /**
+         * Sets the percentile of the measured latencies after which a query is hedged. Defaults to {@code 0.95},
+         * meaning roughly five percent of the queries is dispatched twice.
+         *
+         * @param percentile the percentile of the measured latencies after which a query is hedged, in the interval
+         *                   (0, 1)
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder percentile(double percentile) {
+            assertThat(percentile, p -> p > 0 && p < 1, "The percentile should be in the interval (0, 1)");
+            this.percentile = percentile;
+            return this;
+        }
+
+        /**
+         * Sets the hedge delay used until enough latencies have been measured for a query name. Defaults to one
+         * second.
+         *
+         * @param initialDelay the hedge delay used until enough latencies have been measured
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder initialDelay(@Nonnull Duration initialDelay) {
+            assertThat(initialDelay, d -> d != null && !d.isNegative(),
+                       "The initial delay should be a non-negative duration");
+            this.initialDelay = initialDelay;
+            return this;
+        }
+
+        /**
+         * Sets the minimum hedge delay, protecting handling instances from duplicate queries when latencies are very
+         * low. Defaults to ten milliseconds.
+         *
+         * @param minimumDelay the minimum hedge delay
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder minimumDelay(@Nonnull Duration minimumDelay) {
+            assertThat(minimumDelay, d -> d != null && !d.isNegative(),
+                       "The minimum delay should be a non-negative duration");
+            this.minimumDelay = minimumDelay;
+            return this;
+        }
+
+        /**
+         * Sets the number of latencies that should be measured for a query name before its percentile is used as the
+         * hedge delay. Defaults to {@code 100}.
+         *
+         * @param minimumSamples the number of latencies required before the percentile is used
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder minimumSamples(int minimumSamples) {
+            assertStrictPositive(minimumSamples, "The minimum number of samples should be strictly positive");
+            this.minimumSamples = minimumSamples;
+            return this;
+        }
+
+        /**
+         * Sets the number of latest latencies kept per query name to calculate the percentile with. Defaults to
+         * {@code 1000}.
+         *
+         * @param maxSamples the number of latest latencies kept per query name
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder maxSamples(int maxSamples) {
+            assertStrictPositive(maxSamples, "The maximum number of samples should be strictly positive");
+            this.maxSamples = maxSamples;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Predicate} deciding which queries may be hedged. Defaults to hedging all queries.
+         *
+         * @param hedgeableQueries the {@link Predicate} deciding which queries may be hedged
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder hedgeableQueries(@Nonnull Predicate<QueryMessage<?, ?>> hedgeableQueries) {
+            assertNonNull(hedgeableQueries, "The hedgeable queries Predicate may not be null");
+            this.hedgeableQueries = hedgeableQueries;
+            return this;
+        }
+
+        /**
+         * Sets the {@link ScheduledExecutorService} used to dispatch hedged queries once their delay passed. Defaults
+         * to a single threaded executor using an {@link AxonThreadFactory}.
+         *
+         * @param scheduler the {@link ScheduledExecutorService} used to dispatch hedged queries
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder scheduler(@Nonnull ScheduledExecutorService scheduler) {
+            assertNonNull(scheduler, "The ScheduledExecutorService may not be null");
+            this.scheduler = scheduler;
+            return this;
+        }
+
+        /**
+         * Initializes a {@link QueryHedgingPolicy} as specified through this Builder.
+         *
+         * @return a {@link QueryHedgingPolicy} as specified through this Builder
+         */
+        public QueryHedgingPolicy build() {
+            if (scheduler == null) {
+                scheduler = Executors.newSingleThreadScheduledExecutor(new AxonThreadFactory("QueryHedging"));
+            }
+            return new QueryHedgingPolicy(this);
+        }
+
+        /**
+         * Validate whether the fields contained in this Builder are set accordingly.
+         *
+         * @throws AxonConfigurationException if one field is asserted to be incorrect according to the Builder's
+         *                                    specifications
+         */
+        protected void validate() {
+            assertThat(minimumSamples, s -> s <= maxSamples,
+                       "The minimum number of samples may not exceed the maximum number of samples");
+        }
+    }
+}
@@ -47,16 +47,20 @@
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -378,6 +382,29 @@ void dispatchInterceptor() {
         assertEquals(1, results.size());
     }
 
+    @Test
+    void dispatchAllInterceptsOncePerBatchAndReportsTheResultOfEveryCommand() throws Exception {
+        AtomicInteger interceptorInvocations = new AtomicInteger();
+        testSubject.registerDispatchInterceptor(messages -> {
+            interceptorInvocations.incrementAndGet();
+            return (index, message) -> message;
+        });
+        CommandMessage<String> first = new GenericCommandMessage<>("first");
+        CommandMessage<String> second = new GenericCommandMessage<>("second");
+        Map<CommandMessage<?>, Object> results = new ConcurrentHashMap<>();
+        CountDownLatch waiter = new CountDownLatch(2);
+
+        testSubject.dispatchAll(Arrays.asList(first, second), (command, result) -> {
+            results.put(command, result.getPayload());
+            waiter.countDown();
+        });
+
+        assertTrue(waiter.await(5, TimeUnit.SECONDS));
+        assertEquals(1, interceptorInvocations.get());
+        assertEquals("first", results.get(first));
+        assertEquals("second", results.get(second));
+    }
+
     @Test
     void subscribeWithLoadFactor() {
         testSubject.subscribe(String.class.getName(), c -> "Done");
@@ -49,6 +49,8 @@
 import org.axonframework.queryhandling.GenericStreamingQueryMessage;
 import org.axonframework.queryhandling.GenericSubscriptionQueryMessage;
 import org.axonframework.queryhandling.QueryBus;
+import org.axonframework.queryhandling.QueryDeadline;
+import org.axonframework.queryhandling.QueryDeadlineExceededException;
 import org.axonframework.queryhandling.QueryExecutionException;
 import org.axonframework.queryhandling.QueryMessage;
 import org.axonframework.queryhandling.QueryResponseMessage;
@@ -66,6 +68,7 @@
 import reactor.test.StepVerifier;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
@@ -275,6 +278,85 @@ void queryReportsCorrectNonTransientException() throws ExecutionException, Inter
         });
     }
 
+    @Test
+    void queryWithExpiredDeadlineIsNotDispatched() {
+        QueryMessage<String, String> testQuery =
+                new GenericQueryMessage<>("Hello, World", instanceOf(String.class))
+                        .andMetaData(QueryDeadline.at(Instant.now().minusSeconds(1)).asMetaData());
+
+        CompletableFuture<QueryResponseMessage<String>> result = testSubject.query(testQuery);
+
+        ExecutionException exception = assertThrows(ExecutionException.class, result::get);
+        assertTrue(exception.getCause() instanceof QueryDeadlineExceededException);
+        verify(mockQueryChannel, never()).query(any());
+    }
+
+    @Test
+    void queryTimeoutIsLimitedByDeadline() throws Exception {
+        when(mockQueryChannel.query(any())).thenReturn(new StubResultStream<>(stubResponse("<string>test</string>")));
+        QueryMessage<String, String> testQuery =
+                new GenericQueryMessage<>("Hello, World", instanceOf(String.class))
+                        .andMetaData(QueryDeadline.within(Duration.ofSeconds(5)).asMetaData());
+
+        assertEquals("test", testSubject.query(testQuery).get().getPayload());
+
+        ArgumentCaptor<QueryRequest> requestCaptor = ArgumentCaptor.forClass(QueryRequest.class);
+        verify(mockQueryChannel).query(requestCaptor.capture());
+        long timeout = ProcessingInstructionHelper.timeout(requestCaptor.getValue().getProcessingInstructionsList());
+        assertTrue(timeout > 0 && timeout <= 5000, "Unexpected timeout " + timeout);
+    }
+
+    @Test
+    void hedgedQueryIsDispatchedAgainWhenNoResponseArrivesInTime() throws Exception {
+        testSubject = hedgingQueryBus(QueryHedgingPolicy.builder()
+                                                        .initialDelay(Duration.ofMillis(10))
+                                                        .build());
+        //noinspection unchecked
+        ResultStream<QueryResponse> slowResult = mock(ResultStream.class);
+        when(mockQueryChannel.query(any())).thenReturn(slowResult)
+                                           .thenReturn(new StubResultStream<>(stubResponse("<string>hedged</string>")));
+        QueryMessage<String, String> testQuery = new GenericQueryMessage<>("Hello, World", instanceOf(String.class));
+
+        assertEquals("hedged", testSubject.query(testQuery).get(5, TimeUnit.SECONDS).getPayload());
+
+        ArgumentCaptor<QueryRequest> requestCaptor = ArgumentCaptor.forClass(QueryRequest.class);
+        verify(mockQueryChannel, times(2)).query(requestCaptor.capture());
+        List<QueryRequest> requests = requestCaptor.getAllValues();
+        assertEquals(requests.get(0).getQuery(), requests.get(1).getQuery());
+        assertNotEquals(requests.get(0).getMessageIdentifier(), requests.get(1).getMessageIdentifier());
+        verify(slowResult).close();
+    }
+
+    @Test
+    void latencyOfAnsweredQueriesDeterminesHedgeDelay() throws Exception {
+        QueryHedgingPolicy hedgingPolicy = QueryHedgingPolicy.builder()
+                                                             .initialDelay(Duration.ofSeconds(30))
+                                                             .minimumSamples(1)
+                                                             .build();
+        testSubject = hedgingQueryBus(hedgingPolicy);
+        when(mockQueryChannel.query(any())).thenReturn(new StubResultStream<>(stubResponse("<string>test</string>")));
+        QueryMessage<String, String> testQuery = new GenericQueryMessage<>("Hello, World", instanceOf(String.class));
+
+        assertEquals("test", testSubject.query(testQuery).get().getPayload());
+
+        await().atMost(Duration.ofSeconds(5))
+               .until(() -> hedgingPolicy.hedgeDelay(testQuery.getQueryName()).compareTo(Duration.ofSeconds(30)) < 0);
+        verify(mockQueryChannel, times(1)).query(any());
+    }
+
+    private AxonServerQueryBus hedgingQueryBus(QueryHedgingPolicy hedgingPolicy) throws Exception {
+        testSubject.shutdownDispatching().get(5, TimeUnit.SECONDS);
+        return AxonServerQueryBus.builder()
+                                 .axonServerConnectionManager(axonServerConnectionManager)
+                                 .configuration(configuration)
+                                 .localSegment(localSegment)
+                                 .updateEmitter(SimpleQueryUpdateEmitter.builder().build())
+                                 .messageSerializer(serializer)
+                                 .genericSerializer(serializer)
+                                 .hedgingPolicy(hedgingPolicy)
+                                 .build();
+    }
+
     @Test
     void queryCloseConnectionOnCompletableFutureCancel() {
         ResultStream<QueryResponse> resultStream = mock(ResultStream.class);
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2010-2024. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.axonserver.connector.query;
+
+import org.axonframework.common.AxonConfigurationException;
+import org.axonframework.queryhandling.GenericQueryMessage;
+import org.junit.jupiter.api.*;
+
+import java.time.Duration;
+
+import static org.axonframework.messaging.responsetypes.ResponseTypes.instanceOf;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class validating the {@link QueryHedgingPolicy}.
+ */
+class QueryHedgingPolicyTest {
+
+    private QueryHedgingPolicy testSubject;
+
+    @AfterEach
+    void tearDown() {
+        if (testSubject != null) {
+            testSubject.shutdown();
+        }
+    }
+
+    @Test
+    void initialDelayIsUsedUntilEnoughLatenciesAreMeasured() {
+        testSubject = QueryHedgingPolicy.builder()
+                                        .initialDelay(Duration.ofMillis(500))
+                                        .minimumSamples(10)
+                                        .build();
+
+        for (int i = 0; i < 9; i++) {
+            testSubject.recordLatency("query", Duration.ofMillis(20));
+        }
+        assertEquals(Duration.ofMillis(500), testSubject.hedgeDelay("query"));
+
+        testSubject.recordLatency("query", Duration.ofMillis(20));
+        assertEquals(Duration.ofMillis(20), testSubject.hedgeDelay("query"));
+        assertEquals(Duration.ofMillis(500), testSubject.hedgeDelay("otherQuery"));
+    }
+
+    @Test
+    void hedgeDelayIsConfiguredPercentileOfLatestLatencies() {
+        testSubject = QueryHedgingPolicy.builder()
+                                        .percentile(0.9)
+                                        .minimumDelay(Duration.ZERO)
+                                        .minimumSamples(10)
+                                        .maxSamples(100)
+                                        .build();
+
+        for (int i = 1; i <= 100; i++) {
+            testSubject.recordLatency("query", Duration.ofMillis(i));
+        }
+        assertEquals(Duration.ofMillis(90), testSubject.hedgeDelay("query"));
+
+        // the oldest latencies slide out of the window as new ones are recorded
+        for (int i = 0; i < 100; i++) {
+            testSubject.recordLatency("query", Duration.ofMillis(5));
+        }
+        assertEquals(Duration.ofMillis(5), testSubject.hedgeDelay("query"));
+    }
+
+    @Test
+    void hedgeDelayIsNeverShorterThanMinimumDelay() {
+        testSubject = QueryHedgingPolicy.builder()
+                                        .minimumDelay(Duration.ofMillis(50))
+                                        .minimumSamples(1)
+                                        .build();
+
+        testSubject.recordLatency("query", Duration.ofMillis(1));
+
+        assertEquals(Duration.ofMillis(50), testSubject.hedgeDelay("query"));
+    }
+
+    @Test
+    void onlyQueriesMatchingThePredicateAreHedgeable() {
+        testSubject = QueryHedgingPolicy.builder()
+                                        .hedgeableQueries(query -> "findBalance".equals(query.getQueryName()))
+                                        .build();
+
+        assertTrue(testSubject.isHedgeable(new GenericQueryMessage<>("id", "findBalance", instanceOf(String.class))));
+        assertFalse(testSubject.isHedgeable(new GenericQueryMessage<>("id", "export", instanceOf(String.class))));
+    }
+
+    @Test
+    void buildWithInvalidSettingsThrowsAxonConfigurationException() {
+        QueryHedgingPolicy.Builder builder = QueryHedgingPolicy.builder();
+
+        assertThrows(AxonConfigurationException.class, () -> builder.percentile(1.0));
+        assertThrows(AxonConfigurationException.class, () -> builder.minimumDelay(Duration.ofMillis(-1)));
+        assertThrows(AxonConfigurationException.class, () -> builder.maxSamples(0));
+        assertThrows(AxonConfigurationException.class,
+                     () -> QueryHedgingPolicy.builder().minimumSamples(10).maxSamples(5).build());
+    }
+}
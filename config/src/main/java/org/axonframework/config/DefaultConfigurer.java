@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2023. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -744,6 +744,8 @@ protected Snapshotter defaultSnapshotter(Configuration config) {
                                                .spanFactory(config.getComponent(SnapshotterSpanFactory.class))
                                                .handlerDefinition(retrieveHandlerDefinition(config,
                                                                                             aggregateConfigurations))
+                                               .messageMonitor(config.messageMonitor(Snapshotter.class,
+                                                                                     "snapshotter"))
                                                .build();
                 });
     }
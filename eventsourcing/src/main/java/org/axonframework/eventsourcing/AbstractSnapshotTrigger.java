@@ -63,21 +63,37 @@ public void initializationFinished() {
     }
 
     private void prepareSnapshotScheduling(DomainEventMessage<?> eventMessage) {
+        long eventsSinceLastSnapshot = eventsSinceLastSnapshot();
         if (CurrentUnitOfWork.isStarted()) {
             if (initialized) {
                 CurrentUnitOfWork.get().onPrepareCommit(
-                        u -> scheduleSnapshot(eventMessage));
+                        u -> scheduleSnapshot(eventMessage, eventsSinceLastSnapshot));
             } else {
                 CurrentUnitOfWork.get().onCleanup(
-                        u -> scheduleSnapshot(eventMessage));
+                        u -> scheduleSnapshot(eventMessage, eventsSinceLastSnapshot));
             }
         } else {
-            scheduleSnapshot(eventMessage);
+            scheduleSnapshot(eventMessage, eventsSinceLastSnapshot);
         }
     }
 
-    private void scheduleSnapshot(DomainEventMessage<?> eventMessage) {
-        snapshotter.scheduleSnapshot(aggregateType, eventMessage.getAggregateIdentifier());
+    private void scheduleSnapshot(DomainEventMessage<?> eventMessage, long eventsSinceLastSnapshot) {
+        if (eventsSinceLastSnapshot > 0) {
+            snapshotter.scheduleSnapshot(aggregateType, eventMessage.getAggregateIdentifier(), eventsSinceLastSnapshot);
+        } else {
+            snapshotter.scheduleSnapshot(aggregateType, eventMessage.getAggregateIdentifier());
+        }
+    }
+
+    /**
+     * Returns the number of events handled since the last snapshot, which is passed to the {@link Snapshotter} to
+     * prioritize snapshot requests. Invoked right before a snapshot is scheduled, and thus before {@link #reset()}.
+     * Defaults to {@code 0}, meaning the number of events is unknown.
+     *
+     * @return the number of events handled since the last snapshot, or {@code 0} if unknown
+     */
+    protected long eventsSinceLastSnapshot() {
+        return 0;
     }
 
     /**
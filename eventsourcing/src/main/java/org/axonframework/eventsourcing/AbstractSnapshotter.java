@@ -26,6 +26,8 @@
 import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
 import org.axonframework.messaging.unitofwork.UnitOfWork;
 import org.axonframework.modelling.command.ConcurrencyException;
+import org.axonframework.monitoring.MessageMonitor;
+import org.axonframework.monitoring.NoOpMessageMonitor;
 import org.axonframework.tracing.NoOpSpanFactory;
 import org.axonframework.tracing.Span;
 import org.axonframework.tracing.SpanFactory;
@@ -33,19 +35,35 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import javax.annotation.Nonnull;
 
 import static java.lang.String.format;
 import static org.axonframework.common.BuilderUtils.assertNonNull;
+import static org.axonframework.common.BuilderUtils.assertStrictPositive;
 
 /**
  * Abstract implementation of the {@link org.axonframework.eventsourcing.Snapshotter} that uses a task executor to
  * creates snapshots. Actual snapshot creation logic should be provided by a subclass.
+ * <p>
+ * By default, every scheduled snapshot is handed to the {@link Executor} as a separate task. When a
+ * {@link Builder#queueCapacity(int) queue capacity} is configured, scheduled snapshots are placed in a bounded queue
+ * instead. Repeated requests for the same aggregate are coalesced into a single entry, and entries are processed in
+ * order of the number of events applied since the last snapshot (as reported through
+ * {@link #scheduleSnapshot(Class, String, long)}), followed by the number of coalesced requests. When the queue is
+ * full, the request with the lowest priority is dropped. The queue is drained by a single task at a time, which
+ * creates and stores up to {@link Builder#storageBatchSize(int) storage batch size} snapshots per transaction.
  *
  * @author Allard Buijze
  * @since 0.6
@@ -61,6 +79,15 @@ public abstract class AbstractSnapshotter implements Snapshotter {
     private final TransactionManager transactionManager;
     private final Set<AggregateTypeId> snapshotsInProgress = ConcurrentHashMap.newKeySet();
     private final SnapshotterSpanFactory spanFactory;
+    private final int queueCapacity;
+    private final int storageBatchSize;
+    private final MessageMonitor<? super DomainEventMessage<?>> messageMonitor;
+
+    private final Object queueLock = new Object();
+    private final Map<AggregateTypeId, SnapshotRequest> queuedRequests = new HashMap<>();
+    private final NavigableSet<SnapshotRequest> requestQueue = new TreeSet<>(SnapshotRequest.PRIORITY_ORDER);
+    private long requestSequence;
+    private boolean drainScheduled;
 
     /**
      * Instantiate a {@link AbstractSnapshotter} based on the fields contained in the {@link Builder}.
@@ -76,18 +103,30 @@ protected AbstractSnapshotter(Builder builder) {
         this.executor = builder.executor;
         this.transactionManager = builder.transactionManager;
         this.spanFactory = builder.builderSpanFactory;
+        this.queueCapacity = builder.queueCapacity;
+        this.storageBatchSize = builder.storageBatchSize;
+        this.messageMonitor = builder.messageMonitor;
     }
 
     @Override
     public void scheduleSnapshot(@Nonnull Class<?> aggregateType, @Nonnull String aggregateIdentifier) {
+        scheduleSnapshot(aggregateType, aggregateIdentifier, 0);
+    }
+
+    @Override
+    public void scheduleSnapshot(@Nonnull Class<?> aggregateType,
+                                 @Nonnull String aggregateIdentifier,
+                                 long eventsSinceLastSnapshot) {
         if (CurrentUnitOfWork.isStarted() && CurrentUnitOfWork.get().phase().isBefore(UnitOfWork.Phase.COMMIT)) {
-            CurrentUnitOfWork.get().afterCommit(u -> doScheduleSnapshot(aggregateType, aggregateIdentifier));
+            CurrentUnitOfWork.get().afterCommit(
+                    u -> doScheduleSnapshot(aggregateType, aggregateIdentifier, eventsSinceLastSnapshot)
+            );
         } else {
-            doScheduleSnapshot(aggregateType, aggregateIdentifier);
+            doScheduleSnapshot(aggregateType, aggregateIdentifier, eventsSinceLastSnapshot);
         }
     }
 
-    private void doScheduleSnapshot(Class<?> aggregateType, String aggregateIdentifier) {
+    private void doScheduleSnapshot(Class<?> aggregateType, String aggregateIdentifier, long eventsSinceLastSnapshot) {
         AggregateTypeId typeAndId = new AggregateTypeId(aggregateType, aggregateIdentifier);
         if (CurrentUnitOfWork.isStarted()) {
             Set<AggregateTypeId> scheduledSnapshotMap =
@@ -98,13 +137,17 @@ private void doScheduleSnapshot(Class<?> aggregateType, String aggregateIdentifi
                 return;
             }
         }
-        if (snapshotsInProgress.add(typeAndId)) {
+        if (queueCapacity > 0) {
+            enqueueSnapshot(typeAndId, eventsSinceLastSnapshot);
+        } else if (snapshotsInProgress.add(typeAndId)) {
             Span span = spanFactory.createScheduleSnapshotSpan(aggregateType.getSimpleName(), aggregateIdentifier).start();
             try(SpanScope unused = span.makeCurrent()) {
+                Runnable task = snapshotTask(aggregateType,
+                                             aggregateIdentifier,
+                                             snapshotFromCommittedState(aggregateType, aggregateIdentifier));
                 Span internalSpan = spanFactory.createCreateSnapshotSpan(aggregateType.getSimpleName(), aggregateIdentifier);
                 executor.execute(silently(internalSpan.wrapRunnable(
-                        () -> transactionManager.executeInTransaction(
-                                createSnapshotterTask(aggregateType, aggregateIdentifier)))
+                        () -> transactionManager.executeInTransaction(task))
                 ).andFinally(() -> snapshotsInProgress.remove(typeAndId)));
             } catch (Exception e) {
                 snapshotsInProgress.remove(typeAndId);
@@ -116,6 +159,158 @@ private void doScheduleSnapshot(Class<?> aggregateType, String aggregateIdentifi
         }
     }
 
+    private DomainEventMessage<?> snapshotFromCommittedState(Class<?> aggregateType, String aggregateIdentifier) {
+        if (!CurrentUnitOfWork.isStarted() || CurrentUnitOfWork.get().phase() != UnitOfWork.Phase.AFTER_COMMIT) {
+            return null;
+        }
+        try {
+            return createSnapshotFromCommittedState(aggregateType, aggregateIdentifier);
+        } catch (Exception e) {
+            logger.warn("Creating a snapshot from the committed state of aggregate [{}] failed. "
+                                + "Falling back to loading the aggregate. Exception summary: {}",
+                        aggregateIdentifier, e.getMessage());
+            return null;
+        }
+    }
+
+    private Runnable snapshotTask(Class<?> aggregateType,
+                                  String aggregateIdentifier,
+                                  DomainEventMessage<?> preparedSnapshot) {
+        return preparedSnapshot != null
+                ? () -> storeSnapshot(preparedSnapshot)
+                : createSnapshotterTask(aggregateType, aggregateIdentifier);
+    }
+
+    private void enqueueSnapshot(AggregateTypeId typeAndId, long eventsSinceLastSnapshot) {
+        String aggregateTypeName = typeAndId.aggregateType.getSimpleName();
+        Span span = spanFactory.createScheduleSnapshotSpan(aggregateTypeName, typeAndId.aggregateIdentifier).start();
+        try (SpanScope unused = span.makeCurrent()) {
+            SnapshotRequest request;
+            boolean prepareSnapshot;
+            synchronized (queueLock) {
+                request = queuedRequests.get(typeAndId);
+                if (request != null) {
+                    requestQueue.remove(request);
+                    request.coalesce(eventsSinceLastSnapshot);
+                    requestQueue.add(request);
+                } else if (!snapshotsInProgress.contains(typeAndId)) {
+                    request = new SnapshotRequest(typeAndId, eventsSinceLastSnapshot, requestSequence++);
+                    if (requestQueue.size() >= queueCapacity) {
+                        SnapshotRequest lowest = requestQueue.last();
+                        if (SnapshotRequest.PRIORITY_ORDER.compare(request, lowest) > 0) {
+                            logger.debug("Snapshot queue is full. Ignoring snapshot request for aggregate [{}].",
+                                         typeAndId.aggregateIdentifier);
+                            return;
+                        }
+                        logger.debug("Snapshot queue is full. Dropping snapshot request for aggregate [{}].",
+                                     lowest.typeAndId.aggregateIdentifier);
+                        requestQueue.remove(lowest);
+                        queuedRequests.remove(lowest.typeAndId);
+                    }
+                    queuedRequests.put(typeAndId, request);
+                    requestQueue.add(request);
+                }
+                // Coalesced requests keep the state prepared earlier, which is an older but still valid snapshot
+                prepareSnapshot = request != null && !request.hasPreparedSnapshot();
+            }
+            // The committed state is only serialized once the request is known to be queued
+            DomainEventMessage<?> preparedSnapshot = null;
+            if (prepareSnapshot) {
+                preparedSnapshot = snapshotFromCommittedState(typeAndId.aggregateType, typeAndId.aggregateIdentifier);
+            }
+            boolean scheduleDrain;
+            synchronized (queueLock) {
+                if (preparedSnapshot != null && queuedRequests.get(typeAndId) == request) {
+                    request.prepare(preparedSnapshot);
+                }
+                scheduleDrain = !drainScheduled && !requestQueue.isEmpty();
+                drainScheduled |= scheduleDrain;
+            }
+            if (scheduleDrain) {
+                scheduleDrain();
+            }
+        } catch (Exception e) {
+            span.recordException(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    private void scheduleDrain() {
+        try {
+            executor.execute(this::drainQueue);
+        } catch (Exception e) {
+            synchronized (queueLock) {
+                drainScheduled = false;
+            }
+            throw e;
+        }
+    }
+
+    private void drainQueue() {
+        boolean drained = false;
+        try {
+            List<SnapshotRequest> batch;
+            while (!(batch = nextBatch()).isEmpty()) {
+                List<SnapshotRequest> currentBatch = batch;
+                try {
+                    transactionManager.executeInTransaction(() -> currentBatch.forEach(this::createQueuedSnapshot));
+                } catch (Exception e) {
+                    logger.warn("Storing a batch of {} snapshots failed. Exception summary: {}",
+                                currentBatch.size(), e.getMessage());
+                } finally {
+                    currentBatch.forEach(request -> snapshotsInProgress.remove(request.typeAndId));
+                }
+            }
+            drained = true;
+        } finally {
+            if (!drained) {
+                // nextBatch() only clears the flag once the queue is empty, so do it here when the drain is aborted
+                synchronized (queueLock) {
+                    drainScheduled = false;
+                }
+            }
+        }
+    }
+
+    private List<SnapshotRequest> nextBatch() {
+        synchronized (queueLock) {
+            List<SnapshotRequest> batch = new ArrayList<>(Math.min(storageBatchSize, requestQueue.size()));
+            while (batch.size() < storageBatchSize && !requestQueue.isEmpty()) {
+                SnapshotRequest request = requestQueue.pollFirst();
+                queuedRequests.remove(request.typeAndId);
+                snapshotsInProgress.add(request.typeAndId);
+                batch.add(request);
+            }
+            if (batch.isEmpty()) {
+                drainScheduled = false;
+            }
+            return batch;
+        }
+    }
+
+    private void createQueuedSnapshot(SnapshotRequest request) {
+        Class<?> aggregateType = request.typeAndId.aggregateType;
+        String aggregateIdentifier = request.typeAndId.aggregateIdentifier;
+        spanFactory.createCreateSnapshotSpan(aggregateType.getSimpleName(), aggregateIdentifier)
+                   .wrapRunnable(silently(snapshotTask(aggregateType, aggregateIdentifier, request.preparedSnapshot)))
+                   .run();
+    }
+
+    /**
+     * Returns the number of snapshot requests waiting in the queue of this snapshotter. Requests that are being
+     * processed are not included. Will always return {@code 0} if no {@link Builder#queueCapacity(int) queue capacity}
+     * has been configured.
+     *
+     * @return the number of snapshot requests waiting in the queue of this snapshotter
+     */
+    public int getQueueDepth() {
+        synchronized (queueLock) {
+            return requestQueue.size();
+        }
+    }
+
     private SilentTask silently(Runnable r) {
         return new SilentTask(r);
     }
@@ -131,6 +326,30 @@ protected Runnable createSnapshotterTask(Class<?> aggregateType, String aggregat
         return new CreateSnapshotTask(aggregateType, aggregateIdentifier);
     }
 
+    /**
+     * Creates a snapshot event for an aggregate based on the state it has right after a successful commit, without
+     * reading the aggregate's events. This method is invoked in the
+     * {@link UnitOfWork.Phase#AFTER_COMMIT after commit} phase of the Unit of Work that scheduled the snapshot, while
+     * the lock on the aggregate is still held. Implementations should return a snapshot which is not affected by later
+     * changes to the aggregate, as the snapshot is stored asynchronously.
+     * <p>
+     * This method is only invoked once the snapshot request has been accepted. Requests that are ignored because the
+     * queue is full, or that are coalesced into a queued request for which the state was already created, do not
+     * invoke it.
+     * <p>
+     * Returning {@code null} signals that no such state is available, in which case the snapshot is created through
+     * the task provided by {@link #createSnapshotterTask(Class, String)}. Defaults to returning {@code null}.
+     *
+     * @param aggregateType       The aggregate's type identifier
+     * @param aggregateIdentifier The identifier of the aggregate to create a snapshot for
+     * @return the snapshot event for the committed state of the aggregate, or {@code null} if that state is not
+     * available
+     */
+    protected DomainEventMessage<?> createSnapshotFromCommittedState(Class<?> aggregateType,
+                                                                     String aggregateIdentifier) {
+        return null;
+    }
+
     /**
      * Creates a snapshot event for an aggregate of which passed events are available in the given {@code eventStream}.
      * May return {@code null} to indicate a snapshot event is not necessary or appropriate for the given event stream.
@@ -161,6 +380,48 @@ protected Executor getExecutor() {
         return executor;
     }
 
+    /**
+     * Returns the {@link MessageMonitor} which is notified of every snapshot this snapshotter attempts to store.
+     *
+     * @return the {@link MessageMonitor} which is notified of every snapshot this snapshotter attempts to store
+     */
+    protected MessageMonitor<? super DomainEventMessage<?>> getMessageMonitor() {
+        return messageMonitor;
+    }
+
+    private static class SnapshotRequest {
+
+        private static final Comparator<SnapshotRequest> PRIORITY_ORDER =
+                Comparator.comparingLong((SnapshotRequest r) -> r.eventsSinceLastSnapshot).reversed()
+                          .thenComparing(Comparator.comparingInt((SnapshotRequest r) -> r.requestCount).reversed())
+                          .thenComparingLong(r -> r.sequence);
+
+        private final AggregateTypeId typeAndId;
+        private final long sequence;
+        private long eventsSinceLastSnapshot;
+        private DomainEventMessage<?> preparedSnapshot;
+        private int requestCount = 1;
+
+        private SnapshotRequest(AggregateTypeId typeAndId, long eventsSinceLastSnapshot, long sequence) {
+            this.typeAndId = typeAndId;
+            this.eventsSinceLastSnapshot = eventsSinceLastSnapshot;
+            this.sequence = sequence;
+        }
+
+        private void coalesce(long eventsSinceLastSnapshot) {
+            this.eventsSinceLastSnapshot = Math.max(this.eventsSinceLastSnapshot, eventsSinceLastSnapshot);
+            this.requestCount++;
+        }
+
+        private boolean hasPreparedSnapshot() {
+            return preparedSnapshot != null;
+        }
+
+        private void prepare(DomainEventMessage<?> preparedSnapshot) {
+            this.preparedSnapshot = preparedSnapshot;
+        }
+    }
+
     private static class AggregateTypeId {
 
         private final Class<?> aggregateType;
@@ -195,8 +456,10 @@ public int hashCode() {
      * <p>
      * The {@link Executor} is defaulted to an {@link DirectExecutor#INSTANCE}, the {@link TransactionManager} defaults
      * to a {@link NoTransactionManager}, and the {@link SnapshotterSpanFactory} defaults to a
-     * {@link DefaultSnapshotterSpanFactory} with a {@link NoOpSpanFactory} delegate. The
-     * {@link EventStore} is a <b>hard requirement</b> and as such should be provided.
+     * {@link DefaultSnapshotterSpanFactory} with a {@link NoOpSpanFactory} delegate. The {@code queueCapacity} defaults
+     * to {@code 0}, meaning snapshot requests are not queued, the {@code storageBatchSize} defaults to {@code 1} and the
+     * {@link MessageMonitor} defaults to a {@link NoOpMessageMonitor}. The {@link EventStore} is a <b>hard
+     * requirement</b> and as such should be provided.
      */
     public abstract static class Builder {
 
@@ -204,6 +467,9 @@ public abstract static class Builder {
         private Executor executor = DirectExecutor.INSTANCE;
         private TransactionManager transactionManager = NoTransactionManager.INSTANCE;
         private SnapshotterSpanFactory builderSpanFactory = DefaultSnapshotterSpanFactory.builder().spanFactory(NoOpSpanFactory.INSTANCE).build();
+        private int queueCapacity = 0;
+        private int storageBatchSize = 1;
+        private MessageMonitor<? super DomainEventMessage<?>> messageMonitor = NoOpMessageMonitor.INSTANCE;
 
         /**
          * Sets the {@link EventStore} instance which this {@link AbstractSnapshotter} implementation will store
@@ -274,6 +540,57 @@ public Builder transactionManager(TransactionManager transactionManager) {
             return this;
         }
 
+        /**
+         * Enables queueing of snapshot requests, allowing at most the given {@code queueCapacity} requests to wait for
+         * processing. Repeated requests for the same aggregate are coalesced and requests are processed by priority.
+         * Defaults to {@code 0}, which disables queueing and hands every request to the {@link Executor} directly.
+         * <p>
+         * It is recommended to combine this with an asynchronous {@link #executor(Executor)}, as the queue is drained
+         * on the thread provided by the executor.
+         *
+         * @param queueCapacity the maximum number of snapshot requests waiting for processing, or {@code 0} to disable
+         *                      queueing
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder queueCapacity(int queueCapacity) {
+            if (queueCapacity != 0) {
+                assertStrictPositive(queueCapacity, "The queue capacity should be a positive number or 0");
+            }
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of queued snapshots which are created and stored within a single transaction.
+         * Defaults to {@code 1}. Only takes effect if a {@link #queueCapacity(int) queue capacity} is configured.
+         * <p>
+         * Note that some databases abort the entire transaction when a single statement fails. In that case, a
+         * snapshot which could not be stored will cause the other snapshots in the same batch to be discarded as well.
+         *
+         * @param storageBatchSize the maximum number of snapshots stored within a single transaction
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder storageBatchSize(int storageBatchSize) {
+            assertStrictPositive(storageBatchSize, "The storage batch size should be a positive number");
+            this.storageBatchSize = storageBatchSize;
+            return this;
+        }
+
+        /**
+         * Sets the {@link MessageMonitor} which is notified of every snapshot this snapshotter attempts to store. The
+         * monitor is notified once the snapshot has been created and reports success or failure once it has been
+         * handed to the {@link EventStore}. Defaults to a {@link NoOpMessageMonitor}.
+         *
+         * @param messageMonitor the {@link MessageMonitor} notified of every snapshot this snapshotter attempts to
+         *                       store
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder messageMonitor(@Nonnull MessageMonitor<? super DomainEventMessage<?>> messageMonitor) {
+            assertNonNull(messageMonitor, "MessageMonitor may not be null");
+            this.messageMonitor = messageMonitor;
+            return this;
+        }
+
         /**
          * Validates whether the fields contained in this Builder are set accordingly.
          *
@@ -334,6 +651,17 @@ public void run() {
         }
     }
 
+    private void storeSnapshot(DomainEventMessage<?> snapshotEvent) {
+        MessageMonitor.MonitorCallback monitorCallback = messageMonitor.onMessageIngested(snapshotEvent);
+        try {
+            eventStore.storeSnapshot(snapshotEvent);
+            monitorCallback.reportSuccess();
+        } catch (Exception e) {
+            monitorCallback.reportFailure(e);
+            throw e;
+        }
+    }
+
     private final class CreateSnapshotTask implements Runnable {
 
         private final Class<?> aggregateType;
@@ -349,9 +677,9 @@ public void run() {
             DomainEventStream eventStream = eventStore.readEvents(identifier);
             // a snapshot should only be stored if the snapshot replaces at least more than one event
             long firstEventSequenceNumber = eventStream.peek().getSequenceNumber();
-            DomainEventMessage snapshotEvent = createSnapshot(aggregateType, identifier, eventStream);
+            DomainEventMessage<?> snapshotEvent = createSnapshot(aggregateType, identifier, eventStream);
             if (snapshotEvent != null && snapshotEvent.getSequenceNumber() > firstEventSequenceNumber) {
-                eventStore.storeSnapshot(snapshotEvent);
+                storeSnapshot(snapshotEvent);
             }
         }
     }
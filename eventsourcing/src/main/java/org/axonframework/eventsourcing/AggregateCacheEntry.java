@@ -58,4 +58,16 @@ public EventSourcedAggregate<T> recreateAggregate(AggregateModel<T> model, Event
                                                          .reconfigure(aggregateRoot.getClass(), this.snapshotTrigger)
         );
     }
+
+    T getAggregateRoot() {
+        return aggregateRoot;
+    }
+
+    Long getVersion() {
+        return version;
+    }
+
+    boolean isDeleted() {
+        return deleted;
+    }
 }
@@ -17,9 +17,12 @@
 package org.axonframework.eventsourcing;
 
 import org.axonframework.common.AxonConfigurationException;
+import org.axonframework.common.IdentifierFactory;
+import org.axonframework.common.caching.Cache;
 import org.axonframework.common.transaction.TransactionManager;
 import org.axonframework.eventhandling.DomainEventMessage;
 import org.axonframework.eventhandling.GenericDomainEventMessage;
+import org.axonframework.eventhandling.GenericEventMessage;
 import org.axonframework.eventsourcing.eventstore.DomainEventStream;
 import org.axonframework.eventsourcing.eventstore.EventStore;
 import org.axonframework.messaging.Message;
@@ -32,8 +35,13 @@
 import org.axonframework.modelling.command.RepositoryProvider;
 import org.axonframework.modelling.command.inspection.AggregateModel;
 import org.axonframework.modelling.command.inspection.AnnotatedAggregateMetaModelFactory;
+import org.axonframework.monitoring.MessageMonitor;
+import org.axonframework.serialization.LazyDeserializingObject;
+import org.axonframework.serialization.SerializedMessage;
+import org.axonframework.serialization.Serializer;
 import org.axonframework.tracing.SpanFactory;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -48,6 +56,14 @@
  * Implementation of a snapshotter that uses the actual aggregate and its state to create a snapshot event. The
  * motivation is that an aggregate always contains all relevant state. Therefore, storing the aggregate itself inside an
  * event should capture all necessary information.
+ * <p>
+ * When {@link Builder#aggregateCaches(Cache...) aggregate caches} are configured, snapshots scheduled by a successfully
+ * committed Unit of Work are created from the cached aggregate instead of reloading the aggregate from the
+ * {@link EventStore}. At commit time, the cached aggregate root is serialized with the configured
+ * {@link Builder#snapshotSerializer(Serializer) snapshot serializer}, which results in a copy that is unaffected by
+ * later changes to the aggregate. If the aggregate is not present in any of the caches, the snapshot is created by
+ * reloading the aggregate. To prevent serializing the snapshot twice, the snapshot serializer should be the serializer
+ * used by the {@link EventStore} to store snapshots.
  *
  * @author Allard Buijze
  * @since 0.6
@@ -58,6 +74,8 @@ public class AggregateSnapshotter extends AbstractSnapshotter {
     private final RepositoryProvider repositoryProvider;
     private final ParameterResolverFactory parameterResolverFactory;
     private final HandlerDefinition handlerDefinition;
+    private final List<Cache> aggregateCaches;
+    private final Serializer snapshotSerializer;
 
     private final Map<Class<?>, AggregateModel<?>> aggregateModels = new ConcurrentHashMap<>();
 
@@ -76,6 +94,8 @@ protected AggregateSnapshotter(Builder builder) {
         this.repositoryProvider = builder.repositoryProvider;
         this.parameterResolverFactory = builder.buildParameterResolverFactory();
         this.handlerDefinition = builder.buildHandlerDefinition();
+        this.aggregateCaches = new ArrayList<>(builder.aggregateCaches);
+        this.snapshotSerializer = builder.snapshotSerializer;
     }
 
     /**
@@ -109,13 +129,10 @@ protected DomainEventMessage createSnapshot(Class<?> aggregateType,
                     "Aggregate Type is unknown in this snapshotter: " + aggregateType.getName()
             );
         }
-        aggregateModels.computeIfAbsent(aggregateType,
-                                        k -> AnnotatedAggregateMetaModelFactory
-                                                .inspectAggregate(k, parameterResolverFactory, handlerDefinition));
         Object aggregateRoot = aggregateFactory.createAggregateRoot(aggregateIdentifier, firstEvent);
         //noinspection rawtypes,unchecked
         SnapshotAggregate<Object> aggregate = new SnapshotAggregate(aggregateRoot,
-                                                                    aggregateModels.get(aggregateType),
+                                                                    aggregateModel(aggregateType),
                                                                     repositoryProvider);
         aggregate.initializeState(eventStream);
         if (aggregate.isDeleted()) {
@@ -125,6 +142,40 @@ protected DomainEventMessage createSnapshot(Class<?> aggregateType,
                                                aggregate.getAggregateRoot());
     }
 
+    @Override
+    protected DomainEventMessage<?> createSnapshotFromCommittedState(Class<?> aggregateType,
+                                                                     String aggregateIdentifier) {
+        for (Cache cache : aggregateCaches) {
+            AggregateCacheEntry<?> cacheEntry = cache.get(aggregateIdentifier);
+            if (cacheEntry != null && aggregateType.isInstance(cacheEntry.getAggregateRoot())) {
+                if (cacheEntry.isDeleted() || cacheEntry.getVersion() == null) {
+                    return null;
+                }
+                SerializedMessage<?> serializedAggregate = new SerializedMessage<>(
+                        IdentifierFactory.getInstance().generateIdentifier(),
+                        new LazyDeserializingObject<>(
+                                snapshotSerializer.serialize(cacheEntry.getAggregateRoot(), byte[].class),
+                                snapshotSerializer
+                        ),
+                        new LazyDeserializingObject<>(MetaData.emptyInstance())
+                );
+                return new GenericDomainEventMessage<>(aggregateModel(aggregateType).type(),
+                                                       aggregateIdentifier,
+                                                       cacheEntry.getVersion(),
+                                                       serializedAggregate,
+                                                       GenericEventMessage.clock.instant());
+            }
+        }
+        return null;
+    }
+
+    private AggregateModel<?> aggregateModel(Class<?> aggregateType) {
+        return aggregateModels.computeIfAbsent(aggregateType,
+                                               k -> AnnotatedAggregateMetaModelFactory
+                                                       .inspectAggregate(k, parameterResolverFactory,
+                                                                         handlerDefinition));
+    }
+
     /**
      * Returns the AggregateFactory registered for the given {@code aggregateType}, or {@code null} if no such
      * AggregateFactory is known.
@@ -171,6 +222,8 @@ public static class Builder extends AbstractSnapshotter.Builder {
         private RepositoryProvider repositoryProvider;
         private ParameterResolverFactory parameterResolverFactory;
         private HandlerDefinition handlerDefinition;
+        private final List<Cache> aggregateCaches = new ArrayList<>();
+        private Serializer snapshotSerializer;
 
         @Override
         public Builder spanFactory(@Nonnull SnapshotterSpanFactory spanFactory) {
@@ -196,6 +249,24 @@ public Builder transactionManager(TransactionManager transactionManager) {
             return this;
         }
 
+        @Override
+        public Builder queueCapacity(int queueCapacity) {
+            super.queueCapacity(queueCapacity);
+            return this;
+        }
+
+        @Override
+        public Builder storageBatchSize(int storageBatchSize) {
+            super.storageBatchSize(storageBatchSize);
+            return this;
+        }
+
+        @Override
+        public Builder messageMonitor(@Nonnull MessageMonitor<? super DomainEventMessage<?>> messageMonitor) {
+            super.messageMonitor(messageMonitor);
+            return this;
+        }
+
         /**
          * Sets the {@code aggregateFactories} supported by this snapshotter. The {@link AggregateFactory} instances are
          * used to create the relevant Aggregate Root instance, which represent the snapshots.
@@ -221,6 +292,50 @@ public Builder aggregateFactories(List<AggregateFactory<?>> aggregateFactories)
             return this;
         }
 
+        /**
+         * Sets the {@link Cache caches} used by the caching repositories of the aggregates this snapshotter supports.
+         * Snapshots scheduled by a successfully committed Unit of Work are created from the cached aggregate state,
+         * rather than by reloading the aggregate from the {@link EventStore}. Requires a
+         * {@link #snapshotSerializer(Serializer)} to be configured.
+         *
+         * @param aggregateCaches an array of {@link Cache} instances containing {@link AggregateCacheEntry cached
+         *                        aggregates}
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder aggregateCaches(Cache... aggregateCaches) {
+            return aggregateCaches(Arrays.asList(aggregateCaches));
+        }
+
+        /**
+         * Sets the {@link Cache caches} used by the caching repositories of the aggregates this snapshotter supports.
+         * Snapshots scheduled by a successfully committed Unit of Work are created from the cached aggregate state,
+         * rather than by reloading the aggregate from the {@link EventStore}. Requires a
+         * {@link #snapshotSerializer(Serializer)} to be configured.
+         *
+         * @param aggregateCaches a {@link List} of {@link Cache} instances containing {@link AggregateCacheEntry
+         *                        cached aggregates}
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder aggregateCaches(List<Cache> aggregateCaches) {
+            assertNonNull(aggregateCaches, "AggregateCaches may not be null");
+            this.aggregateCaches.addAll(aggregateCaches);
+            return this;
+        }
+
+        /**
+         * Sets the {@link Serializer} used to copy the state of cached aggregates when creating a snapshot from an
+         * {@link #aggregateCaches(Cache...) aggregate cache}. Should be the serializer the {@link EventStore} uses for
+         * snapshots, as the copy is then stored without being serialized again.
+         *
+         * @param snapshotSerializer the {@link Serializer} used to copy the state of cached aggregates
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder snapshotSerializer(Serializer snapshotSerializer) {
+            assertNonNull(snapshotSerializer, "Snapshot Serializer may not be null");
+            this.snapshotSerializer = snapshotSerializer;
+            return this;
+        }
+
         /**
          * Sets the {@link RepositoryProvider} provided to the snapshot aggregates this snapshotter creates for correct
          * instantiation.
@@ -324,6 +439,10 @@ protected HandlerDefinition buildHandlerDefinition() {
         @Override
         protected void validate() throws AxonConfigurationException {
             super.validate();
+            if (!aggregateCaches.isEmpty()) {
+                assertNonNull(snapshotSerializer,
+                              "The snapshot Serializer is a hard requirement when aggregate caches are provided");
+            }
         }
     }
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2018. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,13 +17,21 @@
 package org.axonframework.eventsourcing;
 
 import org.axonframework.common.caching.Cache;
+import org.axonframework.common.lock.Lock;
 import org.axonframework.common.lock.LockFactory;
+import org.axonframework.eventsourcing.eventstore.DomainEventStream;
 import org.axonframework.eventsourcing.eventstore.EventStore;
 import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
 import org.axonframework.modelling.command.Aggregate;
 import org.axonframework.modelling.command.RepositoryProvider;
 import org.axonframework.modelling.command.inspection.AggregateModel;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+
 import static org.axonframework.common.BuilderUtils.assertNonNull;
 
 /**
@@ -96,6 +104,47 @@ protected void doDeleteWithLock(EventSourcedAggregate<T> aggregate) {
         cache.put(key, new AggregateCacheEntry<>(aggregate));
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The events of all given aggregates that are not cached yet are read from the {@link EventStore} in a single bulk
+     * operation. The aggregates are initialized while holding their lock and added to the cache, so that loading them
+     * afterwards does not require a round trip to the event store. Aggregates that have been cached in the meantime
+     * are left untouched.
+     */
+    @Override
+    public void prefetch(@Nonnull Collection<String> aggregateIdentifiers) {
+        List<String> uncached = aggregateIdentifiers.stream()
+                                                    .distinct()
+                                                    .filter(identifier -> !cache.containsKey(identifier))
+                                                    .collect(Collectors.toList());
+        if (uncached.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<String, DomainEventStream> entry : readEventsForAggregates(uncached).entrySet()) {
+            String aggregateIdentifier = entry.getKey();
+            Lock lock = obtainLock(aggregateIdentifier);
+            try {
+                DomainEventStream eventStream = entry.getValue();
+                if (!cache.containsKey(aggregateIdentifier) && eventStream.hasNext()) {
+                    EventSourcedAggregate<T> aggregate = initializeAggregate(
+                            aggregateIdentifier,
+                            snapshotTriggerDefinition.prepareTrigger(getAggregateType()),
+                            eventStream
+                    );
+                    cache.put(aggregateIdentifier, new AggregateCacheEntry<>(aggregate));
+                }
+            } finally {
+                lock.release();
+            }
+        }
+    }
+
+    @Override
+    protected boolean mayCreateOptimistically(String aggregateIdentifier) {
+        return super.mayCreateOptimistically(aggregateIdentifier) && !cache.containsKey(aggregateIdentifier);
+    }
+
     /**
      * Perform the actual loading of an aggregate. The necessary locks have been obtained. If the aggregate is
      * available in the cache, it is returned from there. Otherwise the underlying persistence logic is called to
@@ -0,0 +1,529 @@
+/*
+ * Copyright (c) 2010-2024. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.eventsourcing;
+
+import org.axonframework.common.AxonConfigurationException;
+import org.axonframework.eventhandling.DomainEventMessage;
+import org.axonframework.eventhandling.EventMessage;
+import org.axonframework.monitoring.MessageMonitor;
+import org.axonframework.monitoring.NoOpMessageMonitor;
+import org.axonframework.serialization.Serializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import javax.annotation.Nonnull;
+
+import static org.axonframework.common.BuilderUtils.assertNonNull;
+import static org.axonframework.common.BuilderUtils.assertThat;
+
+/**
+ * A {@link SnapshotTriggerDefinition} which triggers snapshot creation once the predicted cost of replaying the events
+ * applied since the last snapshot exceeds a latency budget.
+ * <p>
+ * The cost of replaying a single event is learned per aggregate type from actual loads. Every time an aggregate is
+ * event sourced, the time between the start of loading and the end of the initialization is divided by the number of
+ * events read. As events read from the event store are deserialized lazily, this duration includes reading, upcasting
+ * and deserializing the events, as well as applying them on the aggregate. The per-event averages are maintained as an
+ * exponentially weighted moving average. When a {@link Builder#serializer(Serializer) serializer} is configured, the
+ * serialized size of the event payloads read from the event store is tracked as well, allowing an optional budget on
+ * the number of bytes to replay. The size of events applied after initialization is estimated through the learned
+ * average, as these have not been serialized yet.
+ * <p>
+ * A snapshot the aggregate is loaded from is not counted as an event. The load time is measured from the moment the
+ * snapshot has been applied, so that only the events read after the snapshot are timed.
+ * <p>
+ * A snapshot is triggered when the number of events since the last snapshot multiplied by the learned average cost per
+ * event exceeds the {@link Builder#latencyBudget(Duration) latency budget}. As long as no load has been measured for an
+ * aggregate type, the actual load time is compared to the budget instead. Since the prediction also takes events
+ * applied after initialization into account, aggregates kept in a cache are snapshotted before their next load from
+ * the event store becomes too expensive.
+ * <p>
+ * Every load from the event store is reported to the configured {@link Builder#messageMonitor(MessageMonitor) message
+ * monitor}, ingesting the first event read and reporting success once the aggregate has been initialized, or failure
+ * when initialization failed. Failed loads are not used to learn the cost per event. Every decision made on a domain
+ * event is reported to the configured {@link Builder#decisionMonitor(MessageMonitor) decision monitor}, reporting
+ * success when a snapshot is triggered and ignored when it is skipped. The learned costs and the decisions made per
+ * aggregate type are available through {@link #statistics(Class)}.
+ *
+ * @since 4.11.0
+ */
+public class CostBasedSnapshotTriggerDefinition implements SnapshotTriggerDefinition {
+
+    private static final Logger logger = LoggerFactory.getLogger(CostBasedSnapshotTriggerDefinition.class);
+
+    private final Snapshotter snapshotter;
+    private final long latencyBudgetNanos;
+    private final long byteBudget;
+    private final double smoothingFactor;
+    private final Serializer serializer;
+    private final MessageMonitor<? super DomainEventMessage<?>> messageMonitor;
+    private final MessageMonitor<? super DomainEventMessage<?>> decisionMonitor;
+    private final LongSupplier nanoTimeSupplier;
+
+    private final Map<Class<?>, AggregateCostStatistics> statistics = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiate a {@link CostBasedSnapshotTriggerDefinition} based on the fields contained in the {@link Builder}.
+     * <p>
+     * Will assert that the {@link Snapshotter} and latency budget have been provided, and will throw an
+     * {@link AxonConfigurationException} if this is not the case.
+     *
+     * @param builder the {@link Builder} used to instantiate a {@link CostBasedSnapshotTriggerDefinition} instance
+     */
+    protected CostBasedSnapshotTriggerDefinition(Builder builder) {
+        builder.validate();
+        this.snapshotter = builder.snapshotter;
+        this.latencyBudgetNanos = builder.latencyBudget.toNanos();
+        this.byteBudget = builder.byteBudget;
+        this.smoothingFactor = builder.smoothingFactor;
+        this.serializer = builder.serializer;
+        this.messageMonitor = builder.messageMonitor;
+        this.decisionMonitor = builder.decisionMonitor;
+        this.nanoTimeSupplier = builder.nanoTimeSupplier;
+    }
+
+    /**
+     * Instantiate a Builder to be able to create a {@link CostBasedSnapshotTriggerDefinition}.
+     * <p>
+     * The byte budget defaults to {@code 0}, meaning it is not enforced, the smoothing factor defaults to {@code 0.2},
+     * the load and decision {@link MessageMonitor MessageMonitors} default to a {@link NoOpMessageMonitor} and load
+     * times are measured through {@link System#nanoTime()}. No {@link Serializer} is configured by default, meaning
+     * serialized sizes are not tracked. The {@link Snapshotter} and latency budget are <b>hard requirements</b> and as
+     * such should be provided.
+     *
+     * @return a Builder to be able to create a {@link CostBasedSnapshotTriggerDefinition}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public SnapshotTrigger prepareTrigger(@Nonnull Class<?> aggregateType) {
+        return new CostBasedSnapshotTrigger(this, aggregateType, nanoTimeSupplier.getAsLong());
+    }
+
+    @Override
+    public SnapshotTrigger reconfigure(@Nonnull Class<?> aggregateType, @Nonnull SnapshotTrigger trigger) {
+        if (trigger instanceof CostBasedSnapshotTrigger) {
+            ((CostBasedSnapshotTrigger) trigger).reconfigure(this);
+            return trigger;
+        }
+        return new CostBasedSnapshotTrigger(this, aggregateType, nanoTimeSupplier.getAsLong());
+    }
+
+    /**
+     * Returns the learned costs and snapshot decisions for aggregates of the given {@code aggregateType}.
+     *
+     * @param aggregateType the type of aggregate to return the statistics for
+     * @return the learned costs and snapshot decisions for aggregates of the given {@code aggregateType}
+     */
+    public AggregateCostStatistics statistics(@Nonnull Class<?> aggregateType) {
+        return statistics.computeIfAbsent(aggregateType, t -> new AggregateCostStatistics(smoothingFactor));
+    }
+
+    private long serializedSize(EventMessage<?> event) {
+        if (serializer == null) {
+            return 0;
+        }
+        // events read from the event store return their stored form when using the serializer they were read with
+        try {
+            return event.serializePayload(serializer, byte[].class).getData().length;
+        } catch (Exception e) {
+            logger.debug("Unable to determine the serialized size of event [{}].", event.getIdentifier(), e);
+            return 0;
+        }
+    }
+
+    /**
+     * The costs learned for, and snapshot decisions made on, aggregates of a single type.
+     */
+    public static final class AggregateCostStatistics {
+
+        private final double smoothingFactor;
+
+        private double averageNanosPerEvent;
+        private double averageBytesPerEvent;
+        private long measuredLoads;
+        private long snapshotsTriggered;
+        private long lastPredictedReplayNanos;
+
+        private AggregateCostStatistics(double smoothingFactor) {
+            this.smoothingFactor = smoothingFactor;
+        }
+
+        private synchronized void recordLoad(long eventCount, long bytes, long durationNanos) {
+            double nanosPerEvent = (double) durationNanos / eventCount;
+            double bytesPerEvent = (double) bytes / eventCount;
+            if (measuredLoads == 0) {
+                averageNanosPerEvent = nanosPerEvent;
+                averageBytesPerEvent = bytesPerEvent;
+            } else {
+                averageNanosPerEvent += smoothingFactor * (nanosPerEvent - averageNanosPerEvent);
+                averageBytesPerEvent += smoothingFactor * (bytesPerEvent - averageBytesPerEvent);
+            }
+            measuredLoads++;
+        }
+
+        private synchronized long predictReplayNanos(long eventCount) {
+            return (long) (eventCount * averageNanosPerEvent);
+        }
+
+        private synchronized long estimateBytes(long eventCount) {
+            return (long) (eventCount * averageBytesPerEvent);
+        }
+
+        private synchronized void recordTrigger(long predictedReplayNanos) {
+            lastPredictedReplayNanos = predictedReplayNanos;
+            snapshotsTriggered++;
+        }
+
+        /**
+         * Returns the average time it takes to replay a single event, including reading, upcasting, deserializing and
+         * applying it, in nanoseconds.
+         *
+         * @return the average time it takes to replay a single event in nanoseconds
+         */
+        public synchronized double getAverageNanosPerEvent() {
+            return averageNanosPerEvent;
+        }
+
+        /**
+         * Returns the average serialized size of a single event payload in bytes. Is {@code 0} when no
+         * {@link Serializer} has been configured.
+         *
+         * @return the average serialized size of a single event payload in bytes
+         */
+        public synchronized double getAverageBytesPerEvent() {
+            return averageBytesPerEvent;
+        }
+
+        /**
+         * Returns the number of loads from which the averages have been learned.
+         *
+         * @return the number of loads from which the averages have been learned
+         */
+        public synchronized long getMeasuredLoads() {
+            return measuredLoads;
+        }
+
+        /**
+         * Returns the number of times a snapshot has been triggered.
+         *
+         * @return the number of times a snapshot has been triggered
+         */
+        public synchronized long getSnapshotsTriggered() {
+            return snapshotsTriggered;
+        }
+
+        /**
+         * Returns the predicted replay time in nanoseconds at the moment the last snapshot was triggered.
+         *
+         * @return the predicted replay time in nanoseconds at the moment the last snapshot was triggered
+         */
+        public synchronized long getLastPredictedReplayNanos() {
+            return lastPredictedReplayNanos;
+        }
+    }
+
+    private static class CostBasedSnapshotTrigger extends AbstractSnapshotTrigger {
+
+        private static final long serialVersionUID = -2749405386283573528L;
+
+        private transient CostBasedSnapshotTriggerDefinition definition;
+        private transient AggregateCostStatistics statistics;
+        private transient long loadStartNanos;
+        private transient boolean loadMeasured;
+        private transient MessageMonitor.MonitorCallback loadCallback;
+        private transient boolean loadFailed;
+        private transient boolean snapshotTriggered;
+        private final Class<?> aggregateType;
+        private boolean initialized;
+        private long eventsLoaded;
+        private long bytesLoaded;
+        private long eventsSinceSnapshot;
+        private long bytesSinceSnapshot;
+
+        private CostBasedSnapshotTrigger(CostBasedSnapshotTriggerDefinition definition,
+                                         Class<?> aggregateType,
+                                         long loadStartNanos) {
+            super(definition.snapshotter, aggregateType);
+            this.definition = definition;
+            this.statistics = definition.statistics(aggregateType);
+            this.aggregateType = aggregateType;
+            this.loadStartNanos = loadStartNanos;
+            this.loadMeasured = true;
+        }
+
+        private void reconfigure(CostBasedSnapshotTriggerDefinition definition) {
+            this.definition = definition;
+            this.statistics = definition.statistics(aggregateType);
+            setSnapshotter(definition.snapshotter);
+        }
+
+        @Override
+        public void eventHandled(@Nonnull EventMessage<?> msg) {
+            if (isSnapshot(msg)) {
+                if (loadMeasured && loadCallback == null) {
+                    loadCallback = definition.messageMonitor.onMessageIngested((DomainEventMessage<?>) msg);
+                }
+                // only the events read after the snapshot are replayed, so only those are timed
+                loadStartNanos = definition.nanoTimeSupplier.getAsLong();
+            } else if (msg instanceof DomainEventMessage) {
+                eventsSinceSnapshot++;
+                if (!initialized) {
+                    if (loadMeasured && loadCallback == null) {
+                        loadCallback = definition.messageMonitor.onMessageIngested((DomainEventMessage<?>) msg);
+                    }
+                    long bytes = definition.serializedSize(msg);
+                    eventsLoaded++;
+                    bytesLoaded += bytes;
+                    bytesSinceSnapshot += bytes;
+                } else if (definition.serializer != null) {
+                    bytesSinceSnapshot += statistics.estimateBytes(1);
+                }
+                snapshotTriggered = false;
+                super.eventHandled(msg);
+                MessageMonitor.MonitorCallback decision =
+                        definition.decisionMonitor.onMessageIngested((DomainEventMessage<?>) msg);
+                if (snapshotTriggered) {
+                    decision.reportSuccess();
+                } else {
+                    decision.reportIgnored();
+                }
+            } else {
+                super.eventHandled(msg);
+            }
+        }
+
+        /**
+         * Returns whether the given {@code msg} is the snapshot the aggregate is loaded from, which can only be the
+         * first message read. A snapshot is recognized by its payload being an instance of the aggregate type.
+         */
+        private boolean isSnapshot(EventMessage<?> msg) {
+            return !initialized && eventsLoaded == 0 && msg instanceof DomainEventMessage
+                    && aggregateType.isAssignableFrom(msg.getPayloadType());
+        }
+
+        @Override
+        public void initializationFailed(@Nonnull Throwable failure) {
+            loadFailed = true;
+            if (loadCallback != null) {
+                loadCallback.reportFailure(failure);
+                loadCallback = null;
+            }
+        }
+
+        @Override
+        public void initializationFinished() {
+            if (!initialized && eventsLoaded > 0 && loadMeasured && !loadFailed) {
+                long durationNanos = definition.nanoTimeSupplier.getAsLong() - loadStartNanos;
+                statistics.recordLoad(eventsLoaded, bytesLoaded, durationNanos);
+            }
+            if (loadCallback != null) {
+                loadCallback.reportSuccess();
+                loadCallback = null;
+            }
+            initialized = true;
+            super.initializationFinished();
+        }
+
+        @Override
+        protected boolean exceedsThreshold() {
+            long predictedReplayNanos = statistics.getMeasuredLoads() > 0
+                    ? statistics.predictReplayNanos(eventsSinceSnapshot)
+                    : measuredLoadNanos();
+            boolean exceedsBudget = predictedReplayNanos > definition.latencyBudgetNanos
+                    || (definition.byteBudget > 0 && bytesSinceSnapshot > definition.byteBudget);
+            if (exceedsBudget) {
+                statistics.recordTrigger(predictedReplayNanos);
+            }
+            snapshotTriggered = exceedsBudget;
+            return exceedsBudget;
+        }
+
+        private long measuredLoadNanos() {
+            if (initialized || !loadMeasured) {
+                return 0;
+            }
+            return definition.nanoTimeSupplier.getAsLong() - loadStartNanos;
+        }
+
+        @Override
+        protected long eventsSinceLastSnapshot() {
+            return eventsSinceSnapshot;
+        }
+
+        @Override
+        protected void reset() {
+            eventsSinceSnapshot = 0;
+            bytesSinceSnapshot = 0;
+        }
+    }
+
+    /**
+     * Builder class to instantiate a {@link CostBasedSnapshotTriggerDefinition}.
+     * <p>
+     * The byte budget defaults to {@code 0}, meaning it is not enforced, the smoothing factor defaults to {@code 0.2},
+     * the load and decision {@link MessageMonitor MessageMonitors} default to a {@link NoOpMessageMonitor} and load
+     * times are measured through {@link System#nanoTime()}. No {@link Serializer} is configured by default, meaning
+     * serialized sizes are not tracked. The {@link Snapshotter} and latency budget are <b>hard requirements</b> and as
+     * such should be provided.
+     */
+    public static class Builder {
+
+        private Snapshotter snapshotter;
+        private Duration latencyBudget;
+        private long byteBudget = 0;
+        private double smoothingFactor = 0.2;
+        private Serializer serializer;
+        private MessageMonitor<? super DomainEventMessage<?>> messageMonitor = NoOpMessageMonitor.INSTANCE;
+        private MessageMonitor<? super DomainEventMessage<?>> decisionMonitor = NoOpMessageMonitor.INSTANCE;
+        private LongSupplier nanoTimeSupplier = System::nanoTime;
+
+        /**
+         * Sets the {@link Snapshotter} to notify when a snapshot needs to be taken.
+         *
+         * @param snapshotter the {@link Snapshotter} to notify when a snapshot needs to be taken
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder snapshotter(@Nonnull Snapshotter snapshotter) {
+            assertNonNull(snapshotter, "Snapshotter may not be null");
+            this.snapshotter = snapshotter;
+            return this;
+        }
+
+        /**
+         * Sets the maximum time replaying the events of an aggregate since its last snapshot may take. A snapshot is
+         * triggered once the predicted replay time exceeds this budget.
+         *
+         * @param latencyBudget the maximum time replaying the events of an aggregate since its last snapshot may take
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder latencyBudget(@Nonnull Duration latencyBudget) {
+            assertNonNull(latencyBudget, "The latency budget may not be null");
+            assertThat(latencyBudget, d -> !d.isNegative() && !d.isZero(), "The latency budget should be positive");
+            this.latencyBudget = latencyBudget;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of serialized payload bytes that may be replayed since the last snapshot of an
+         * aggregate. Only enforced when a {@link #serializer(Serializer)} is configured. Defaults to {@code 0}, meaning
+         * it is not enforced.
+         *
+         * @param byteBudget the maximum number of serialized payload bytes replayed since the last snapshot
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder byteBudget(long byteBudget) {
+            assertThat(byteBudget, b -> b >= 0, "The byte budget should be a positive number or 0");
+            this.byteBudget = byteBudget;
+            return this;
+        }
+
+        /**
+         * Sets the weight given to the most recent load when updating the learned averages. Must be larger than
+         * {@code 0} and at most {@code 1}. Defaults to {@code 0.2}.
+         *
+         * @param smoothingFactor the weight given to the most recent load when updating the learned averages
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder smoothingFactor(double smoothingFactor) {
+            assertThat(smoothingFactor, f -> f > 0 && f <= 1, "The smoothing factor should be in the range (0, 1]");
+            this.smoothingFactor = smoothingFactor;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Serializer} used to determine the serialized size of event payloads read from the event
+         * store. Should be the event serializer of the event store, as payloads are otherwise serialized again to
+         * determine their size.
+         *
+         * @param serializer the {@link Serializer} used to determine the serialized size of event payloads
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder serializer(@Nonnull Serializer serializer) {
+            assertNonNull(serializer, "Serializer may not be null");
+            this.serializer = serializer;
+            return this;
+        }
+
+        /**
+         * Sets the {@link MessageMonitor} notified of every load of an aggregate from the event store. The first event
+         * read is ingested, and success is reported once the aggregate has been initialized. Failure is reported when
+         * the initialization failed. Defaults to a {@link NoOpMessageMonitor}.
+         *
+         * @param messageMonitor the {@link MessageMonitor} notified of every load of an aggregate from the event store
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder messageMonitor(@Nonnull MessageMonitor<? super DomainEventMessage<?>> messageMonitor) {
+            assertNonNull(messageMonitor, "MessageMonitor may not be null");
+            this.messageMonitor = messageMonitor;
+            return this;
+        }
+
+        /**
+         * Sets the {@link MessageMonitor} notified of every snapshot decision. Every domain event handled by the
+         * aggregate is ingested, reporting success when it triggered a snapshot and ignored when the snapshot was
+         * skipped. Defaults to a {@link NoOpMessageMonitor}.
+         *
+         * @param decisionMonitor the {@link MessageMonitor} notified of every snapshot decision
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder decisionMonitor(@Nonnull MessageMonitor<? super DomainEventMessage<?>> decisionMonitor) {
+            assertNonNull(decisionMonitor, "The decision MessageMonitor may not be null");
+            this.decisionMonitor = decisionMonitor;
+            return this;
+        }
+
+        /**
+         * Sets the source of the monotonic time in nanoseconds used to measure load times. Defaults to
+         * {@link System#nanoTime()}.
+         *
+         * @param nanoTimeSupplier the source of the monotonic time in nanoseconds used to measure load times
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder nanoTimeSupplier(@Nonnull LongSupplier nanoTimeSupplier) {
+            assertNonNull(nanoTimeSupplier, "The nano time supplier may not be null");
+            this.nanoTimeSupplier = nanoTimeSupplier;
+            return this;
+        }
+
+        /**
+         * Initializes a {@link CostBasedSnapshotTriggerDefinition} as specified through this Builder.
+         *
+         * @return a {@link CostBasedSnapshotTriggerDefinition} as specified through this Builder
+         */
+        public CostBasedSnapshotTriggerDefinition build() {
+            return new CostBasedSnapshotTriggerDefinition(this);
+        }
+
+        /**
+         * Validates whether the fields contained in this Builder are set accordingly.
+         *
+         * @throws AxonConfigurationException if one field is asserted to be incorrect according to the Builder's
+         *                                    specifications
+         */
+        protected void validate() throws AxonConfigurationException {
+            assertNonNull(snapshotter, "The Snapshotter is a hard requirement and should be provided");
+            assertNonNull(latencyBudget, "The latency budget is a hard requirement and should be provided");
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2022. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -82,6 +82,11 @@ public boolean exceedsThreshold() {
             return ++counter >= threshold;
         }
 
+        @Override
+        protected long eventsSinceLastSnapshot() {
+            return counter;
+        }
+
         @Override
         public void reset() {
             counter = 0;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2023. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -295,6 +295,9 @@ public void initializeState(DomainEventStream eventStream) {
             try {
                 eventStream.forEachRemaining(this::publish);
                 initSequence(eventStream.getLastSequenceNumber());
+            } catch (Throwable e) {
+                snapshotTrigger.initializationFailed(e);
+                throw e;
             } finally {
                 this.initializing = false;
                 snapshotTrigger.initializationFinished();
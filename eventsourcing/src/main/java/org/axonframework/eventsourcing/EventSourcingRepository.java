@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2023. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@
 package org.axonframework.eventsourcing;
 
 import org.axonframework.common.caching.Cache;
+import org.axonframework.common.lock.Lock;
 import org.axonframework.common.lock.LockFactory;
 import org.axonframework.eventhandling.DomainEventMessage;
 import org.axonframework.eventsourcing.conflictresolution.ConflictResolution;
@@ -26,8 +27,11 @@
 import org.axonframework.messaging.annotation.HandlerDefinition;
 import org.axonframework.messaging.annotation.ParameterResolverFactory;
 import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
+import org.axonframework.messaging.unitofwork.ExecutionResult;
+import org.axonframework.messaging.unitofwork.UnitOfWork;
 import org.axonframework.modelling.command.Aggregate;
 import org.axonframework.modelling.command.AggregateNotFoundException;
+import org.axonframework.modelling.command.AggregateStreamCreationException;
 import org.axonframework.modelling.command.LockAwareAggregate;
 import org.axonframework.modelling.command.LockingRepository;
 import org.axonframework.modelling.command.Repository;
@@ -36,12 +40,18 @@
 import org.axonframework.modelling.command.inspection.AggregateModel;
 import org.axonframework.tracing.SpanFactory;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.function.Predicate;
 import javax.annotation.Nonnull;
 
+import static java.lang.String.format;
 import static org.axonframework.common.BuilderUtils.assertNonNull;
+import static org.axonframework.common.BuilderUtils.assertStrictPositive;
 
 /**
  * Abstract repository implementation that allows easy implementation of an Event Sourcing mechanism. It will
@@ -55,11 +65,15 @@
  */
 public class EventSourcingRepository<T> extends LockingRepository<T, EventSourcedAggregate<T>> {
 
+    private static final int DEFAULT_KNOWN_AGGREGATES_CAPACITY = 10_000;
+
     private final EventStore eventStore;
     private final SnapshotTriggerDefinition snapshotTriggerDefinition;
     private final AggregateFactory<T> aggregateFactory;
     private final RepositoryProvider repositoryProvider;
     private final Predicate<? super DomainEventMessage<?>> eventStreamFilter;
+    private final boolean optimisticCreation;
+    private final Set<String> knownAggregates;
 
     /**
      * Instantiate a {@link EventSourcingRepository} based on the fields contained in the {@link Builder}.
@@ -89,6 +103,20 @@ protected EventSourcingRepository(Builder<T> builder) {
         this.snapshotTriggerDefinition = builder.snapshotTriggerDefinition;
         this.repositoryProvider = builder.repositoryProvider;
         this.eventStreamFilter = builder.eventStreamFilter;
+        this.optimisticCreation = builder.optimisticCreation;
+        this.knownAggregates = boundedSet(builder.knownAggregatesCapacity);
+    }
+
+    private static Set<String> boundedSet(int capacity) {
+        Map<String, Boolean> leastRecentlyUsed = new LinkedHashMap<String, Boolean>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > capacity;
+            }
+        };
+        return Collections.newSetFromMap(Collections.synchronizedMap(leastRecentlyUsed));
     }
 
     /**
@@ -132,17 +160,34 @@ protected EventSourcedAggregate<T> doLoadWithLock(String aggregateIdentifier, Lo
         if (!eventStream.hasNext()) {
             throw new AggregateNotFoundException(aggregateIdentifier, "The aggregate was not found in the event store");
         }
-        AggregateModel<T> model = aggregateModel();
-        EventSourcedAggregate<T> aggregate = spanFactory
-                .createInitializeStateSpan(model.type(), aggregateIdentifier)
-                .runSupplier(() -> doLoadAggregate(aggregateIdentifier, trigger, eventStream, model));
+        EventSourcedAggregate<T> aggregate = initializeAggregate(aggregateIdentifier, trigger, eventStream);
 
         if (aggregate.isDeleted()) {
             throw new AggregateDeletedException(aggregateIdentifier);
         }
+        if (optimisticCreation) {
+            knownAggregates.add(aggregateIdentifier);
+        }
         return aggregate;
     }
 
+    /**
+     * Initializes the state of the aggregate with given {@code aggregateIdentifier} by applying the events in the
+     * given, non-empty, {@code eventStream}. The necessary locks should have been obtained.
+     *
+     * @param aggregateIdentifier the identifier of the aggregate to initialize
+     * @param trigger             the {@link SnapshotTrigger} to notify of the applied events
+     * @param eventStream         the events to initialize the aggregate with
+     * @return the initialized aggregate, which may be marked as deleted
+     */
+    protected EventSourcedAggregate<T> initializeAggregate(String aggregateIdentifier,
+                                                           SnapshotTrigger trigger,
+                                                           DomainEventStream eventStream) {
+        AggregateModel<T> model = aggregateModel();
+        return spanFactory.createInitializeStateSpan(model.type(), aggregateIdentifier)
+                          .runSupplier(() -> doLoadAggregate(aggregateIdentifier, trigger, eventStream, model));
+    }
+
     private EventSourcedAggregate<T> doLoadAggregate(String aggregateIdentifier,
                                                      SnapshotTrigger trigger,
                                                      DomainEventStream eventStream,
@@ -172,6 +217,22 @@ protected DomainEventStream readEvents(String aggregateIdentifier) {
         return eventStreamFilter != null ? fullStream.filter(eventStreamFilter) : fullStream;
     }
 
+    /**
+     * Reads the events for each of the given {@code aggregateIdentifiers} from the eventStore in a single bulk
+     * operation. The returned map contains a, possibly empty, stream for every given identifier.
+     *
+     * @param aggregateIdentifiers the identifiers of the aggregates to load
+     * @return a map of aggregate identifier to the domain event stream of that aggregate, with
+     * {@link #eventStreamFilter} applied if one was configured
+     */
+    protected Map<String, DomainEventStream> readEventsForAggregates(Collection<String> aggregateIdentifiers) {
+        Map<String, DomainEventStream> eventStreams = eventStore.readEventsForAggregates(aggregateIdentifiers);
+        if (eventStreamFilter != null) {
+            eventStreams.replaceAll((aggregateIdentifier, fullStream) -> fullStream.filter(eventStreamFilter));
+        }
+        return eventStreams;
+    }
+
     @Override
     protected void validateOnLoad(Aggregate<T> aggregate, Long expectedVersion) {
         if (expectedVersion != null && expectedVersion < aggregate.version()) {
@@ -190,6 +251,79 @@ protected void reportIllegalState(LockAwareAggregate<T, EventSourcedAggregate<T>
         // event sourcing repositories are able to reconstruct the current state
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * When optimistic creation is enabled and {@link #mayCreateOptimistically(String)} allows it, the aggregate is
+     * created without reading anything from the {@link EventStore} first. Whether the aggregate already existed is
+     * detected when its first event is appended, through the duplicate key violation on aggregate identifier and
+     * sequence number reported by the {@link org.axonframework.common.jdbc.PersistenceExceptionResolver} of the event
+     * storage. Such a conflict rolls back the Unit of Work with an {@link AggregateStreamCreationException}. The
+     * identifier is then remembered as existing, so that a retry of the command loads the aggregate instead. Only when
+     * the created aggregate applies no events at all, the {@link EventStore} is asked for the last sequence number of
+     * the aggregate before committing, as there is no append to detect the conflict with.
+     */
+    @Override
+    protected LockAwareAggregate<T, EventSourcedAggregate<T>> doLoadOrCreate(String aggregateIdentifier,
+                                                                           Callable<T> factoryMethod)
+            throws Exception {
+        if (!optimisticCreation || !mayCreateOptimistically(aggregateIdentifier)) {
+            return super.doLoadOrCreate(aggregateIdentifier, factoryMethod);
+        }
+        Lock lock = obtainLock(aggregateIdentifier);
+        try {
+            EventSourcedAggregate<T> aggregate = doCreateNewForLock(factoryMethod);
+            UnitOfWork<?> unitOfWork = CurrentUnitOfWork.get();
+            unitOfWork.onPrepareCommit(u -> verifyOptimisticCreation(aggregateIdentifier, aggregate));
+            unitOfWork.root().afterCommit(u -> knownAggregates.add(aggregateIdentifier));
+            unitOfWork.root().onRollback(u -> {
+                if (isCreationConflict(u.getExecutionResult())) {
+                    knownAggregates.add(aggregateIdentifier);
+                }
+            });
+            unitOfWork.onCleanup(u -> lock.release());
+            return new LockAwareAggregate<>(aggregate, lock);
+        } catch (Throwable ex) {
+            lock.release();
+            throw ex;
+        }
+    }
+
+    private void verifyOptimisticCreation(String aggregateIdentifier, EventSourcedAggregate<T> aggregate) {
+        // Without any applied events, there is no append to detect an existing aggregate with
+        if (aggregate.version() == null && eventStore.lastSequenceNumberFor(aggregateIdentifier).isPresent()) {
+            throw new AggregateStreamCreationException(format(
+                    "Aggregate [%s] already exists, while it has been handled as a new aggregate", aggregateIdentifier
+            ));
+        }
+    }
+
+    /**
+     * Indicates whether the aggregate with given {@code aggregateIdentifier} may be created without reading its events
+     * first, when optimistic creation is enabled. Returns {@code false} for aggregates this repository has seen being
+     * stored or failing to be created before.
+     *
+     * @param aggregateIdentifier the identifier of the aggregate to load or create
+     * @return {@code true} if the aggregate may be created optimistically, {@code false} if it should be loaded
+     */
+    protected boolean mayCreateOptimistically(String aggregateIdentifier) {
+        return !knownAggregates.contains(aggregateIdentifier);
+    }
+
+    private static boolean isCreationConflict(ExecutionResult executionResult) {
+        if (executionResult == null || !executionResult.isExceptionResult()) {
+            return false;
+        }
+        Throwable cause = executionResult.getExceptionResult();
+        while (cause != null) {
+            if (cause instanceof AggregateStreamCreationException) {
+                return true;
+            }
+            cause = cause.getCause();
+        }
+        return false;
+    }
+
     @Override
     protected EventSourcedAggregate<T> doCreateNewForLock(Callable<T> factoryMethod) throws Exception {
         return EventSourcedAggregate.initialize(factoryMethod, aggregateModel(), eventStore, repositoryProvider,
@@ -244,6 +378,8 @@ public AggregateFactory<T> getAggregateFactory() {
         protected RepositoryProvider repositoryProvider;
         protected Cache cache;
         protected Predicate<? super DomainEventMessage<?>> eventStreamFilter;
+        private boolean optimisticCreation = false;
+        private int knownAggregatesCapacity = DEFAULT_KNOWN_AGGREGATES_CAPACITY;
 
         /**
          * Creates a builder for a Repository for given {@code aggregateType}.
@@ -396,6 +532,41 @@ public Builder<T> filterByAggregateType() {
             return eventStreamFilter(event -> aggregateType.equals(event.getType()));
         }
 
+        /**
+         * Enables or disables optimistic creation of aggregates in {@link Repository#loadOrCreate(String, Callable)},
+         * as used by command handlers with {@link org.axonframework.modelling.command.AggregateCreationPolicy#CREATE_IF_MISSING}.
+         * Defaults to {@code false}.
+         * <p>
+         * When enabled, aggregates that are not known to exist are created without reading from the event store first,
+         * saving the round trips to the event store for creation heavy workloads. An aggregate that turns out to exist
+         * already is detected when its first event is appended, which requires the
+         * {@link org.axonframework.common.jdbc.PersistenceExceptionResolver} of the event storage to be configured.
+         * Such a conflict fails the command with an {@link AggregateStreamCreationException}, after which a retry of
+         * the command, for example through a {@link org.axonframework.commandhandling.gateway.RetryScheduler}, loads
+         * the aggregate.
+         *
+         * @param optimisticCreation whether aggregates may be created without reading their events first
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder<T> optimisticCreation(boolean optimisticCreation) {
+            this.optimisticCreation = optimisticCreation;
+            return this;
+        }
+
+        /**
+         * Sets the number of aggregate identifiers that are remembered as existing when {@link
+         * #optimisticCreation(boolean) optimistic creation} is enabled. Aggregates that are remembered are loaded
+         * instead of created optimistically. Defaults to {@code 10000}.
+         *
+         * @param knownAggregatesCapacity the number of aggregate identifiers remembered as existing
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder<T> knownAggregatesCapacity(int knownAggregatesCapacity) {
+            assertStrictPositive(knownAggregatesCapacity, "The known aggregates capacity should be a positive number");
+            this.knownAggregatesCapacity = knownAggregatesCapacity;
+            return this;
+        }
+
         /**
          * Initializes a {@link EventSourcingRepository} or {@link CachingEventSourcingRepository} as specified through
          * this Builder. Will return a CachingEventSourcingRepository if {@link #cache(Cache)} has been set. Otherwise
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2022. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -25,7 +25,9 @@
 
 import java.time.Instant;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -90,11 +92,21 @@ public DomainEventStream readEvents(@Nonnull String aggregateIdentifier, long fi
         return delegate.readEvents(aggregateIdentifier, firstSequenceNumber);
     }
 
+    @Override
+    public Map<String, DomainEventStream> readEventsForAggregates(@Nonnull Map<String, Long> firstSequenceNumbers) {
+        return delegate.readEventsForAggregates(firstSequenceNumbers);
+    }
+
     @Override
     public Optional<DomainEventMessage<?>> readSnapshot(@Nonnull String aggregateIdentifier) {
         return delegate.readSnapshot(aggregateIdentifier);
     }
 
+    @Override
+    public Map<String, DomainEventMessage<?>> readSnapshots(@Nonnull Collection<String> aggregateIdentifiers) {
+        return delegate.readSnapshots(aggregateIdentifiers);
+    }
+
     @Override
     public Optional<Long> lastSequenceNumberFor(@Nonnull String aggregateIdentifier) {
         return delegate.lastSequenceNumberFor(aggregateIdentifier);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2022. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -50,4 +50,14 @@ public interface SnapshotTrigger {
      * of {@link #eventHandled(EventMessage)} involves an event being applied on "current state".
      */
     void initializationFinished();
+
+    /**
+     * Invoked when the initialization of the aggregate based on passed events failed, right before
+     * {@link #initializationFinished()} is invoked. Allows implementations to discard any measurements taken during the
+     * initialization. Defaults to doing nothing.
+     *
+     * @param failure The exception that caused the initialization to fail
+     */
+    default void initializationFailed(@Nonnull Throwable failure) {
+    }
 }
@@ -35,4 +35,22 @@ public interface Snapshotter {
      * @param aggregateIdentifier The identifier of the aggregate to take the snapshot for
      */
     void scheduleSnapshot(@Nonnull Class<?> aggregateType, @Nonnull String aggregateIdentifier);
+
+    /**
+     * Schedules snapshot taking for an aggregate with given {@code aggregateIdentifier}, providing the number of events
+     * applied to the aggregate since its last snapshot. Implementations may use the {@code eventsSinceLastSnapshot} to
+     * prioritize snapshot requests. The implementation may choose to process this call synchronously (i.e. in the
+     * caller's thread), asynchronously, or ignore the call altogether.
+     * <p>
+     * Defaults to {@link #scheduleSnapshot(Class, String)}, ignoring the {@code eventsSinceLastSnapshot}.
+     *
+     * @param aggregateType           the type of the aggregate to take the snapshot for
+     * @param aggregateIdentifier     The identifier of the aggregate to take the snapshot for
+     * @param eventsSinceLastSnapshot the number of events applied to the aggregate since its last snapshot
+     */
+    default void scheduleSnapshot(@Nonnull Class<?> aggregateType,
+                                  @Nonnull String aggregateIdentifier,
+                                  long eventsSinceLastSnapshot) {
+        scheduleSnapshot(aggregateType, aggregateIdentifier);
+    }
 }
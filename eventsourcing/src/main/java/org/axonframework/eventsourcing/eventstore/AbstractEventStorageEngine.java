@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2022. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -32,7 +32,10 @@
 import org.axonframework.serialization.upcasting.event.NoOpEventUpcaster;
 import org.axonframework.serialization.xml.XStreamSerializer;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -87,17 +90,39 @@ public DomainEventStream readEvents(@Nonnull String aggregateIdentifier, long fi
         return upcastAndDeserializeDomainEvents(input, getEventSerializer(), upcasterChain);
     }
 
+    @Override
+    public Map<String, DomainEventStream> readEventsForAggregates(@Nonnull Map<String, Long> firstSequenceNumbers) {
+        Map<String, DomainEventStream> eventStreams = new HashMap<>();
+        readEventData(firstSequenceNumbers).forEach((aggregateIdentifier, input) -> eventStreams.put(
+                aggregateIdentifier, upcastAndDeserializeDomainEvents(input, getEventSerializer(), upcasterChain)
+        ));
+        return eventStreams;
+    }
+
     @Override
     public Optional<DomainEventMessage<?>> readSnapshot(@Nonnull String aggregateIdentifier) {
-        return readSnapshotData(aggregateIdentifier)
-                .filter(snapshotFilter::allow)
-                .map(snapshot -> upcastAndDeserializeDomainEvents(Stream.of(snapshot),
-                                                                  getSnapshotSerializer(),
-                                                                  upcasterChain
-                ))
-                .flatMap(DomainEventStream::asStream)
-                .findFirst()
-                .map(event -> (DomainEventMessage<?>) event);
+        return firstAllowedSnapshot(readSnapshotData(aggregateIdentifier));
+    }
+
+    @Override
+    public Map<String, DomainEventMessage<?>> readSnapshots(@Nonnull Collection<String> aggregateIdentifiers) {
+        Map<String, DomainEventMessage<?>> snapshots = new HashMap<>();
+        readSnapshotData(aggregateIdentifiers).forEach(
+                (aggregateIdentifier, snapshotData) -> firstAllowedSnapshot(snapshotData)
+                        .ifPresent(snapshot -> snapshots.put(aggregateIdentifier, snapshot))
+        );
+        return snapshots;
+    }
+
+    private Optional<DomainEventMessage<?>> firstAllowedSnapshot(Stream<? extends DomainEventData<?>> snapshotData) {
+        return snapshotData.filter(snapshotFilter::allow)
+                           .map(snapshot -> upcastAndDeserializeDomainEvents(Stream.of(snapshot),
+                                                                             getSnapshotSerializer(),
+                                                                             upcasterChain
+                           ))
+                           .flatMap(DomainEventStream::asStream)
+                           .findFirst()
+                           .map(event -> (DomainEventMessage<?>) event);
     }
 
     @Override
@@ -195,6 +220,29 @@ private String buildExceptionMessage(EventMessage<?> failedEvent) {
      */
     protected abstract Stream<? extends DomainEventData<?>> readEventData(String identifier, long firstSequenceNumber);
 
+    /**
+     * Returns a {@link Stream} of serialized event data entries for each of the aggregates in the given {@code
+     * firstSequenceNumbers}, starting at the sequence number mapped to the identifier of that aggregate. The returned
+     * map should contain an entry for every given identifier, with an empty stream for aggregates that have no matching
+     * events.
+     * <p>
+     * The default implementation opens a stream per aggregate through {@link #readEventData(String, long)}. Storage
+     * engines that are able to fetch the events of several aggregates in a single round trip should override this
+     * method.
+     *
+     * @param firstSequenceNumbers The identifiers of the aggregates to open a stream for, mapped to the sequence number
+     *                             of the first expected event entry of that aggregate
+     * @return a Map of aggregate identifier to a Stream of serialized event entries for that aggregate
+     */
+    protected Map<String, Stream<? extends DomainEventData<?>>> readEventData(Map<String, Long> firstSequenceNumbers) {
+        Map<String, Stream<? extends DomainEventData<?>>> result = new HashMap<>();
+        firstSequenceNumbers.forEach(
+                (identifier, firstSequenceNumber) -> result.put(identifier,
+                                                                readEventData(identifier, firstSequenceNumber))
+        );
+        return result;
+    }
+
     /**
      * Returns a global {@link Stream} containing all serialized event data entries in the event storage that have a
      * {@link TrackingToken} greater than the given {@code trackingToken}. Event entries in the stream should be ordered
@@ -226,6 +274,23 @@ protected abstract Stream<? extends TrackedEventData<?>> readEventData(TrackingT
      */
     protected abstract Stream<? extends DomainEventData<?>> readSnapshotData(String aggregateIdentifier);
 
+    /**
+     * Returns a stream of serialized snapshot entries for each of the aggregates with given {@code identifiers}. The
+     * returned map should only contain entries for the aggregates that have a snapshot, with the snapshots of each
+     * aggregate in descending order of their sequence number.
+     * <p>
+     * The default implementation invokes {@link #readSnapshotData(String)} per aggregate. Storage engines that are able
+     * to fetch the snapshots of several aggregates in a single round trip should override this method.
+     *
+     * @param identifiers The identifiers of the aggregates to fetch a snapshot for
+     * @return a Map of aggregate identifier to a Stream of serialized snapshots of that aggregate
+     */
+    protected Map<String, Stream<? extends DomainEventData<?>>> readSnapshotData(Collection<String> identifiers) {
+        Map<String, Stream<? extends DomainEventData<?>>> result = new HashMap<>();
+        identifiers.forEach(identifier -> result.put(identifier, readSnapshotData(identifier)));
+        return result;
+    }
+
     /**
      * Get the serializer used by this storage engine when storing and retrieving snapshots.
      *
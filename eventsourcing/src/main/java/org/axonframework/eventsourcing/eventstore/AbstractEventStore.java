@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2023. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -29,7 +29,10 @@
 import org.slf4j.LoggerFactory;
 
 import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
@@ -75,12 +78,7 @@ protected void prepareCommit(List<? extends EventMessage<?>> events) {
      */
     @Override
     public DomainEventStream readEvents(@Nonnull String aggregateIdentifier) {
-        Optional<DomainEventMessage<?>> optionalSnapshot;
-        try {
-            optionalSnapshot = storageEngine.readSnapshot(aggregateIdentifier);
-        } catch (Exception | LinkageError e) {
-            optionalSnapshot = handleSnapshotReadingError(aggregateIdentifier, e);
-        }
+        Optional<DomainEventMessage<?>> optionalSnapshot = readSnapshot(aggregateIdentifier);
         DomainEventStream eventStream;
         if (optionalSnapshot.isPresent()) {
             DomainEventMessage<?> snapshot = optionalSnapshot.get();
@@ -95,6 +93,55 @@ public DomainEventStream readEvents(@Nonnull String aggregateIdentifier) {
         return DomainEventStream.concat(eventStream, DomainEventStream.of(domainEventMessages));
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The snapshots of the given aggregates are read from the {@link EventStorageEngine} in a single bulk operation,
+     * followed by a single bulk operation reading the events of every aggregate since its snapshot. When reading the
+     * snapshots in bulk fails, they are read one by one instead, so that a failing snapshot only affects its own
+     * aggregate.
+     */
+    @Override
+    public Map<String, DomainEventStream> readEventsForAggregates(@Nonnull Collection<String> aggregateIdentifiers) {
+        Map<String, DomainEventMessage<?>> snapshots = readSnapshots(aggregateIdentifiers);
+        Map<String, Long> firstSequenceNumbers = new HashMap<>();
+        for (String aggregateIdentifier : aggregateIdentifiers) {
+            DomainEventMessage<?> snapshot = snapshots.get(aggregateIdentifier);
+            firstSequenceNumbers.put(aggregateIdentifier, snapshot == null ? 0L : snapshot.getSequenceNumber() + 1);
+        }
+        Map<String, DomainEventStream> eventStreams = storageEngine.readEventsForAggregates(firstSequenceNumbers);
+        eventStreams.replaceAll((aggregateIdentifier, eventStream) -> {
+            DomainEventMessage<?> snapshot = snapshots.get(aggregateIdentifier);
+            DomainEventStream storedEvents = snapshot == null
+                    ? eventStream
+                    : DomainEventStream.concat(DomainEventStream.of(snapshot), eventStream);
+            return DomainEventStream.concat(storedEvents,
+                                            DomainEventStream.of(stagedDomainEventMessages(aggregateIdentifier)));
+        });
+        return eventStreams;
+    }
+
+    private Optional<DomainEventMessage<?>> readSnapshot(String aggregateIdentifier) {
+        try {
+            return storageEngine.readSnapshot(aggregateIdentifier);
+        } catch (Exception | LinkageError e) {
+            return handleSnapshotReadingError(aggregateIdentifier, e);
+        }
+    }
+
+    private Map<String, DomainEventMessage<?>> readSnapshots(Collection<String> aggregateIdentifiers) {
+        try {
+            return storageEngine.readSnapshots(aggregateIdentifiers);
+        } catch (Exception | LinkageError e) {
+            logger.debug("Error reading snapshots in bulk. Reading them one by one instead.", e);
+            Map<String, DomainEventMessage<?>> snapshots = new HashMap<>();
+            aggregateIdentifiers.forEach(aggregateIdentifier -> readSnapshot(aggregateIdentifier).ifPresent(
+                    snapshot -> snapshots.put(aggregateIdentifier, snapshot)
+            ));
+            return snapshots;
+        }
+    }
+
     /**
      * Invoked when an error ({@link Exception} or {@link LinkageError}) occurs while attempting to read a snapshot
      * event. This method can be overridden to change the default behavior, which is to log the exception (warn level)
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2022. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,7 +22,10 @@
 import org.axonframework.eventhandling.TrackingToken;
 
 import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
@@ -115,6 +118,28 @@ default DomainEventStream readEvents(@Nonnull String aggregateIdentifier) {
      */
     DomainEventStream readEvents(@Nonnull String aggregateIdentifier, long firstSequenceNumber);
 
+    /**
+     * Get a {@link DomainEventStream} for each of the aggregates in the given {@code firstSequenceNumbers}, containing
+     * the events published by that aggregate starting with the first event having a sequence number that is equal or
+     * larger than the sequence number mapped to its identifier. Implementations may read the events of all aggregates in
+     * a single operation, making this method suitable to load a batch of aggregates at once. The returned map contains
+     * an entry for each of the given identifiers, with an empty stream for aggregates without any matching events.
+     * <p>
+     * By default, this method invokes {@link #readEvents(String, long)} for each of the given identifiers.
+     *
+     * @param firstSequenceNumbers The identifiers of the aggregates to return an event stream for, mapped to the
+     *                             expected sequence number of the first event in the stream of that aggregate
+     * @return A map of the given aggregate identifiers to a non-blocking DomainEventStream of that aggregate
+     */
+    default Map<String, DomainEventStream> readEventsForAggregates(@Nonnull Map<String, Long> firstSequenceNumbers) {
+        Map<String, DomainEventStream> eventStreams = new HashMap<>();
+        firstSequenceNumbers.forEach(
+                (identifier, firstSequenceNumber) -> eventStreams.put(identifier,
+                                                                      readEvents(identifier, firstSequenceNumber))
+        );
+        return eventStreams;
+    }
+
     /**
      * Try to load a snapshot event of the aggregate with given {@code aggregateIdentifier}. If the storage engine has
      * no snapshot event of the aggregate, an empty Optional is returned.
@@ -124,6 +149,24 @@ default DomainEventStream readEvents(@Nonnull String aggregateIdentifier) {
      */
     Optional<DomainEventMessage<?>> readSnapshot(@Nonnull String aggregateIdentifier);
 
+    /**
+     * Try to load a snapshot event for each of the aggregates with given {@code aggregateIdentifiers}.
+     * Implementations may read the snapshots of all aggregates in a single operation. The returned map only contains
+     * entries for the aggregates that have a snapshot.
+     * <p>
+     * By default, this method invokes {@link #readSnapshot(String)} for each of the given identifiers.
+     *
+     * @param aggregateIdentifiers The identifiers of the aggregates to load a snapshot for
+     * @return A map of aggregate identifier to the snapshot of that aggregate
+     */
+    default Map<String, DomainEventMessage<?>> readSnapshots(@Nonnull Collection<String> aggregateIdentifiers) {
+        Map<String, DomainEventMessage<?>> snapshots = new HashMap<>();
+        aggregateIdentifiers.forEach(
+                identifier -> readSnapshot(identifier).ifPresent(snapshot -> snapshots.put(identifier, snapshot))
+        );
+        return snapshots;
+    }
+
     /**
      * Returns the last known sequence number for the given {@code aggregateIdentifier}.
      * <p>
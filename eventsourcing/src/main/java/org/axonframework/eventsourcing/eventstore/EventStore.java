@@ -23,6 +23,9 @@
 import org.axonframework.eventhandling.TrackingToken;
 import org.axonframework.messaging.StreamableMessageSource;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import javax.annotation.Nonnull;
 
@@ -69,6 +72,23 @@ default DomainEventStream readEvents(@Nonnull String aggregateIdentifier, long f
                     wholeStream::getLastSequenceNumber);
     }
 
+    /**
+     * Open an event stream for each of the aggregates with given {@code aggregateIdentifiers}, containing all domain
+     * events required to reconstruct that aggregate. Implementations may read the events of several aggregates in a
+     * single operation, making this method suitable to load a batch of aggregates at once. The returned map contains an
+     * entry for each of the given identifiers, with an empty stream for aggregates without any events.
+     * <p>
+     * By default, this method invokes {@link #readEvents(String)} for each of the given identifiers.
+     *
+     * @param aggregateIdentifiers the identifiers of the aggregates to load
+     * @return a map of the given aggregate identifiers to an event stream of that aggregate
+     */
+    default Map<String, DomainEventStream> readEventsForAggregates(@Nonnull Collection<String> aggregateIdentifiers) {
+        Map<String, DomainEventStream> eventStreams = new HashMap<>();
+        aggregateIdentifiers.forEach(identifier -> eventStreams.put(identifier, readEvents(identifier)));
+        return eventStreams;
+    }
+
     /**
      * Stores the given (temporary) {@code snapshot} event. This snapshot replaces the segment of the event stream
      * identified by the {@code snapshot}'s {@link DomainEventMessage#getAggregateIdentifier() Aggregate Identifier} up
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2023. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -45,8 +45,10 @@
 import org.axonframework.eventsourcing.eventstore.jdbc.statements.JdbcEventStorageEngineStatements;
 import org.axonframework.eventsourcing.eventstore.jdbc.statements.LastSequenceNumberForStatementBuilder;
 import org.axonframework.eventsourcing.eventstore.jdbc.statements.ReadEventDataForAggregateStatementBuilder;
+import org.axonframework.eventsourcing.eventstore.jdbc.statements.ReadEventDataForAggregatesStatementBuilder;
 import org.axonframework.eventsourcing.eventstore.jdbc.statements.ReadEventDataWithGapsStatementBuilder;
 import org.axonframework.eventsourcing.eventstore.jdbc.statements.ReadEventDataWithoutGapsStatementBuilder;
+import org.axonframework.eventsourcing.eventstore.jdbc.statements.ReadSnapshotDataForAggregatesStatementBuilder;
 import org.axonframework.eventsourcing.eventstore.jdbc.statements.ReadSnapshotDataStatementBuilder;
 import org.axonframework.eventsourcing.eventstore.jdbc.statements.TimestampWriter;
 import org.axonframework.eventsourcing.snapshotting.SnapshotFilter;
@@ -65,8 +67,12 @@
 import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.SortedSet;
 import java.util.TreeSet;
@@ -106,6 +112,10 @@ public class JdbcEventStorageEngine extends BatchingEventStorageEngine {
     private static final int DEFAULT_GAP_TIMEOUT = 60000;
     private static final int DEFAULT_GAP_CLEANING_THRESHOLD = 250;
     private static final boolean DEFAULT_EXTENDED_GAP_CHECK_ENABLED = true;
+    // Several databases, like Oracle, restrict the number of expressions in an IN list to 1000
+    private static final int MAX_IDENTIFIERS_PER_QUERY = 1000;
+    // events are read with two parameters per aggregate, staying below limits like the 2100 parameters of SQL Server
+    private static final int MAX_AGGREGATES_PER_EVENT_QUERY = 500;
 
     private final ConnectionProvider connectionProvider;
     private final TransactionManager transactionManager;
@@ -124,7 +134,9 @@ public class JdbcEventStorageEngine extends BatchingEventStorageEngine {
     private final FetchTrackedEventsStatementBuilder fetchTrackedEvents;
     private final CleanGapsStatementBuilder cleanGaps;
     private final ReadEventDataForAggregateStatementBuilder readEventDataForAggregate;
+    private final ReadEventDataForAggregatesStatementBuilder readEventDataForAggregates;
     private final ReadSnapshotDataStatementBuilder readSnapshotData;
+    private final ReadSnapshotDataForAggregatesStatementBuilder readSnapshotDataForAggregates;
     private final ReadEventDataWithoutGapsStatementBuilder readEventDataWithoutGaps;
     private final ReadEventDataWithGapsStatementBuilder readEventDataWithGaps;
     private int gapTimeout;
@@ -160,7 +172,9 @@ protected JdbcEventStorageEngine(Builder builder) {
         this.fetchTrackedEvents = builder.fetchTrackedEvents;
         this.cleanGaps = builder.cleanGaps;
         this.readEventDataForAggregate = builder.readEventDataForAggregate;
+        this.readEventDataForAggregates = builder.readEventDataForAggregates;
         this.readSnapshotData = builder.readSnapshotData;
+        this.readSnapshotDataForAggregates = builder.readSnapshotDataForAggregates;
         this.readEventDataWithoutGaps = builder.readEventDataWithoutGaps;
         this.readEventDataWithGaps = builder.readEventDataWithGaps;
     }
@@ -191,7 +205,9 @@ protected JdbcEventStorageEngine(Builder builder) {
      * <li>The {@code fetchTrackedEvents} defaults to {@link JdbcEventStorageEngineStatements#fetchTrackedEvents}.</li>
      * <li>The {@code cleanGaps} defaults to {@link JdbcEventStorageEngineStatements#cleanGaps}.</li>
      * <li>The {@code readEventDataForAggregate} defaults to {@link JdbcEventStorageEngineStatements#readEventDataForAggregate}.</li>
+     * <li>The {@code readEventDataForAggregates} defaults to {@link JdbcEventStorageEngineStatements#readEventDataForAggregates}.</li>
      * <li>The {@code readSnapshotData} defaults to {@link JdbcEventStorageEngineStatements#readSnapshotData}.</li>
+     * <li>The {@code readSnapshotDataForAggregates} defaults to {@link JdbcEventStorageEngineStatements#readSnapshotDataForAggregates}.</li>
      * <li>The {@code readEventDataWithoutGaps} defaults to {@link JdbcEventStorageEngineStatements#readEventDataWithoutGaps}.</li>
      * <li>The {@code readEventDataWithGaps} defaults to {@link JdbcEventStorageEngineStatements#readEventDataWithGaps}.</li>
      * </ul>
@@ -343,6 +359,21 @@ protected PreparedStatement readEventData(Connection connection, String identifi
         return readEventDataForAggregate.build(connection, schema, identifier, firstSequenceNumber, batchSize);
     }
 
+    /**
+     * Creates a statement to be used at {@link JdbcEventStorageEngine#readEventData(Map)}.
+     *
+     * @param connection           The connection to the database.
+     * @param firstSequenceNumbers The identifiers of the aggregates, mapped to the sequence number of the first event
+     *                             to read for that aggregate.
+     *
+     * @return The newly created {@link PreparedStatement}.
+     * @throws SQLException when an exception occurs while creating the prepared statement.
+     */
+    protected PreparedStatement readEventData(Connection connection, Map<String, Long> firstSequenceNumbers)
+            throws SQLException {
+        return readEventDataForAggregates.build(connection, schema, firstSequenceNumbers);
+    }
+
     /**
      * Creates a statement to be used at {@link JdbcEventStorageEngine#readSnapshotData(String)}.
      *
@@ -356,6 +387,20 @@ protected PreparedStatement readSnapshotData(Connection connection, String ident
         return readSnapshotData.build(connection, schema, identifier);
     }
 
+    /**
+     * Creates a statement to be used at {@link JdbcEventStorageEngine#readSnapshotData(Collection)}.
+     *
+     * @param connection  The connection to the database.
+     * @param identifiers The identifiers of the aggregates.
+     *
+     * @return The newly created {@link PreparedStatement}.
+     * @throws SQLException when an exception occurs while creating the prepared statement.
+     */
+    protected PreparedStatement readSnapshotData(Connection connection, Collection<String> identifiers)
+            throws SQLException {
+        return readSnapshotDataForAggregates.build(connection, schema, identifiers);
+    }
+
     /**
      * Creates a statement to be used at {@link JdbcEventStorageEngine#fetchTrackedEvents(TrackingToken, int)}
      *
@@ -498,6 +543,55 @@ protected List<? extends DomainEventData<?>> fetchDomainEvents(String aggregateI
                 ));
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The events of the given aggregates are read with a single query for up to 500 aggregates at a time, instead of
+     * with a query per batch per aggregate. Such a query is only executed once the stream of one of its aggregates is
+     * consumed. The query only selects the events from the first sequence number of each aggregate on, so that events
+     * before a snapshot are not read. Entries a customized statement returns before the first sequence number of their
+     * aggregate are skipped while reading the results.
+     */
+    @Override
+    protected Map<String, Stream<? extends DomainEventData<?>>> readEventData(Map<String, Long> firstSequenceNumbers) {
+        Map<String, Stream<? extends DomainEventData<?>>> streams = new HashMap<>();
+        List<String> identifiers = new ArrayList<>(firstSequenceNumbers.keySet());
+        for (int start = 0; start < identifiers.size(); start += MAX_AGGREGATES_PER_EVENT_QUERY) {
+            Map<String, Long> chunk = new HashMap<>();
+            identifiers.subList(start, Math.min(start + MAX_AGGREGATES_PER_EVENT_QUERY, identifiers.size()))
+                       .forEach(identifier -> chunk.put(identifier, firstSequenceNumbers.get(identifier)));
+            ChunkedEventData chunkedEventData = new ChunkedEventData(chunk);
+            chunk.keySet().forEach(identifier -> streams.put(
+                    identifier, Stream.of(identifier).flatMap(id -> chunkedEventData.get(id).stream())
+            ));
+        }
+        return streams;
+    }
+
+    private Map<String, List<DomainEventData<?>>> fetchEventDataForAggregates(Map<String, Long> firstSequenceNumbers) {
+        return transactionManager.fetchInTransaction(
+                () -> executeQuery(
+                        getConnection(),
+                        connection -> readEventData(connection, firstSequenceNumbers),
+                        resultSet -> {
+                            Map<String, List<DomainEventData<?>>> eventData = new HashMap<>();
+                            while (resultSet.next()) {
+                                String identifier = resultSet.getString(schema.aggregateIdentifierColumn());
+                                Long firstSequenceNumber = firstSequenceNumbers.get(identifier);
+                                if (firstSequenceNumber != null
+                                        && resultSet.getLong(schema.sequenceNumberColumn()) >= firstSequenceNumber) {
+                                    eventData.computeIfAbsent(identifier, id -> new ArrayList<>())
+                                             .add(getDomainEventData(resultSet));
+                                }
+                            }
+                            return eventData;
+                        },
+                        e -> new EventStoreException(
+                                format("Failed to read events for aggregates %s", firstSequenceNumbers.keySet()), e
+                        )
+                ));
+    }
+
     @Override
     protected boolean fetchForAggregateUntilEmpty() {
         return true;
@@ -602,6 +696,35 @@ protected Stream<? extends DomainEventData<?>> readSnapshotData(String aggregate
         });
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The snapshots of the given aggregates are read with a single query for up to 1000 aggregates at a time.
+     */
+    @Override
+    protected Map<String, Stream<? extends DomainEventData<?>>> readSnapshotData(Collection<String> identifiers) {
+        Map<String, List<DomainEventData<?>>> snapshotData = new HashMap<>();
+        List<String> distinctIdentifiers = new ArrayList<>(new HashSet<>(identifiers));
+        for (int start = 0; start < distinctIdentifiers.size(); start += MAX_IDENTIFIERS_PER_QUERY) {
+            List<String> chunk = distinctIdentifiers.subList(
+                    start, Math.min(start + MAX_IDENTIFIERS_PER_QUERY, distinctIdentifiers.size())
+            );
+            List<DomainEventData<?>> result = transactionManager.fetchInTransaction(
+                    () -> executeQuery(
+                            getConnection(),
+                            connection -> readSnapshotData(connection, chunk),
+                            JdbcUtils.listResults(this::getSnapshotData),
+                            e -> new EventStoreException(format("Error reading aggregate snapshots %s", chunk), e)
+                    ));
+            result.forEach(entry -> snapshotData.computeIfAbsent(entry.getAggregateIdentifier(),
+                                                                 identifier -> new ArrayList<>())
+                                                .add(entry));
+        }
+        Map<String, Stream<? extends DomainEventData<?>>> streams = new HashMap<>();
+        snapshotData.forEach((identifier, entries) -> streams.put(identifier, entries.stream()));
+        return streams;
+    }
+
     /**
      * Creates a statement to read all tracked event entries stored.
      *
@@ -852,6 +975,26 @@ public void setGapCleaningThreshold(int gapCleaningThreshold) {
         this.gapCleaningThreshold = gapCleaningThreshold;
     }
 
+    /**
+     * The events of a chunk of aggregates read by {@link #readEventData(Map)}, fetched on first access.
+     */
+    private class ChunkedEventData {
+
+        private final Map<String, Long> firstSequenceNumbers;
+        private Map<String, List<DomainEventData<?>>> eventData;
+
+        private ChunkedEventData(Map<String, Long> firstSequenceNumbers) {
+            this.firstSequenceNumbers = firstSequenceNumbers;
+        }
+
+        private synchronized List<DomainEventData<?>> get(String aggregateIdentifier) {
+            if (eventData == null) {
+                eventData = fetchEventDataForAggregates(firstSequenceNumbers);
+            }
+            return eventData.getOrDefault(aggregateIdentifier, Collections.emptyList());
+        }
+    }
+
     /**
      * Builder class to instantiate a {@link JdbcEventStorageEngine}.
      * <p>
@@ -878,7 +1021,9 @@ public void setGapCleaningThreshold(int gapCleaningThreshold) {
      * <li>The {@code fetchTrackedEvents} defaults to {@link JdbcEventStorageEngineStatements#fetchTrackedEvents}.</li>
      * <li>The {@code cleanGaps} defaults to {@link JdbcEventStorageEngineStatements#cleanGaps}.</li>
      * <li>The {@code readEventDataForAggregate} defaults to {@link JdbcEventStorageEngineStatements#readEventDataForAggregate}.</li>
+     * <li>The {@code readEventDataForAggregates} defaults to {@link JdbcEventStorageEngineStatements#readEventDataForAggregates}.</li>
      * <li>The {@code readSnapshotData} defaults to {@link JdbcEventStorageEngineStatements#readSnapshotData}.</li>
+     * <li>The {@code readSnapshotDataForAggregates} defaults to {@link JdbcEventStorageEngineStatements#readSnapshotDataForAggregates}.</li>
      * <li>The {@code readEventDataWithoutGaps} defaults to {@link JdbcEventStorageEngineStatements#readEventDataWithoutGaps}.</li>
      * <li>The {@code readEventDataWithGaps} defaults to {@link JdbcEventStorageEngineStatements#readEventDataWithGaps}.</li>
      * </ul>
@@ -908,7 +1053,9 @@ public static class Builder extends BatchingEventStorageEngine.Builder {
         private FetchTrackedEventsStatementBuilder fetchTrackedEvents = JdbcEventStorageEngineStatements::fetchTrackedEvents;
         private CleanGapsStatementBuilder cleanGaps = JdbcEventStorageEngineStatements::cleanGaps;
         private ReadEventDataForAggregateStatementBuilder readEventDataForAggregate = JdbcEventStorageEngineStatements::readEventDataForAggregate;
+        private ReadEventDataForAggregatesStatementBuilder readEventDataForAggregates = JdbcEventStorageEngineStatements::readEventDataForAggregates;
         private ReadSnapshotDataStatementBuilder readSnapshotData = JdbcEventStorageEngineStatements::readSnapshotData;
+        private ReadSnapshotDataForAggregatesStatementBuilder readSnapshotDataForAggregates = JdbcEventStorageEngineStatements::readSnapshotDataForAggregates;
         private ReadEventDataWithoutGapsStatementBuilder readEventDataWithoutGaps = JdbcEventStorageEngineStatements::readEventDataWithoutGaps;
         private ReadEventDataWithGapsStatementBuilder readEventDataWithGaps = JdbcEventStorageEngineStatements::readEventDataWithGaps;
 
@@ -1041,6 +1188,21 @@ public Builder readEventDataForAggregate(ReadEventDataForAggregateStatementBuild
             return this;
         }
 
+        /**
+         * Set the PreparedStatement to be used on {@link JdbcEventStorageEngine#readEventData(Connection, Map)}.
+         * Defaults to {@link JdbcEventStorageEngineStatements#readEventDataForAggregates(Connection, EventSchema,
+         * Map)}
+         *
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder readEventDataForAggregates(
+                ReadEventDataForAggregatesStatementBuilder readEventDataForAggregates
+        ) {
+            assertNonNull(readEventDataForAggregates, "readEventDataForAggregates may not be null");
+            this.readEventDataForAggregates = readEventDataForAggregates;
+            return this;
+        }
+
         /**
          * Set the PreparedStatement to be used on {@link JdbcEventStorageEngine#readSnapshotData(Connection, String)}.
          * Defaults to {@link JdbcEventStorageEngineStatements#readSnapshotData(Connection, EventSchema, String)}
@@ -1053,6 +1215,21 @@ public Builder readSnapshotData(ReadSnapshotDataStatementBuilder readSnapshotDat
             return this;
         }
 
+        /**
+         * Set the PreparedStatement to be used on {@link JdbcEventStorageEngine#readSnapshotData(Connection,
+         * Collection)}. Defaults to {@link JdbcEventStorageEngineStatements#readSnapshotDataForAggregates(Connection,
+         * EventSchema, Collection)}
+         *
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder readSnapshotDataForAggregates(
+                ReadSnapshotDataForAggregatesStatementBuilder readSnapshotDataForAggregates
+        ) {
+            assertNonNull(readSnapshotDataForAggregates, "readSnapshotDataForAggregates may not be null");
+            this.readSnapshotDataForAggregates = readSnapshotDataForAggregates;
+            return this;
+        }
+
         /**
          * Set the PreparedStatement to be used on {@link JdbcEventStorageEngine#readEventDataWithoutGaps(Connection,
          * long, int)}. Defaults to {@link JdbcEventStorageEngineStatements#readEventDataWithoutGaps(Connection,
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2022. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -32,8 +32,10 @@
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.SortedSet;
 
 import static org.axonframework.common.DateTimeUtils.formatInstant;
@@ -352,6 +354,42 @@ public static PreparedStatement readEventDataForAggregate(Connection connection,
         return statement;
     }
 
+    /**
+     * Set the PreparedStatement to be used on {@link JdbcEventStorageEngine#readEventData(Connection, Map)}. Defaults
+     * to:
+     * <p/>
+     * {@code "SELECT [trackedEventFields] FROM [domainEventTable] WHERE ([aggregateIdentifierColumn] = ? AND
+     * [sequenceNumberColumn] >= ?) OR ... ORDER BY [aggregateIdentifierColumn] ASC, [sequenceNumberColumn] ASC" }
+     * <p/>
+     * <b>NOTE:</b> a condition with an identifier and a sequence number parameter is added for each of the given
+     * {@code firstSequenceNumbers}, so that only the events from the first sequence number of each aggregate on are
+     * read. Events before a snapshot of an aggregate are thus never returned.
+     *
+     * @param connection           The connection to the database.
+     * @param schema               The EventSchema to be used
+     * @param firstSequenceNumbers The identifiers of the aggregates, mapped to the sequence number of the first event
+     *                             to read for that aggregate.
+     * @return The newly created {@link PreparedStatement}.
+     * @throws SQLException when an exception occurs while creating the prepared statement.
+     */
+    public static PreparedStatement readEventDataForAggregates(Connection connection, EventSchema schema,
+                                                               Map<String, Long> firstSequenceNumbers)
+            throws SQLException {
+        String condition = "(" + schema.aggregateIdentifierColumn() + " = ? AND "
+                + schema.sequenceNumberColumn() + " >= ?)";
+        final String sql = "SELECT " + schema.trackedEventFields() + " FROM " + schema.domainEventTable()
+                + " WHERE " + String.join(" OR ", Collections.nCopies(firstSequenceNumbers.size(), condition))
+                + " ORDER BY " + schema.aggregateIdentifierColumn() + " ASC, " + schema.sequenceNumberColumn()
+                + " ASC";
+        PreparedStatement statement = connection.prepareStatement(sql);
+        int index = 1;
+        for (Map.Entry<String, Long> firstSequenceNumber : firstSequenceNumbers.entrySet()) {
+            statement.setString(index++, firstSequenceNumber.getKey());
+            statement.setLong(index++, firstSequenceNumber.getValue());
+        }
+        return statement;
+    }
+
     /**
      * Set the PreparedStatement to be used on {@link JdbcEventStorageEngine#readSnapshotData(String)}. Defaults to:
      * <p/>
@@ -378,6 +416,35 @@ public static PreparedStatement readSnapshotData(Connection connection, EventSch
         return statement;
     }
 
+    /**
+     * Set the PreparedStatement to be used on {@link JdbcEventStorageEngine#readSnapshotData(Connection, Collection)}.
+     * Defaults to:
+     * <p/>
+     * {@code "SELECT [domainEventFields] FROM [snapshotTable] WHERE [aggregateIdentifierColumn] IN (?, ..., ?) ORDER BY
+     * [aggregateIdentifierColumn] ASC, [sequenceNumberColumn] DESC" }
+     * <p/>
+     * <b>NOTE:</b> a "?" parameter is added for each of the given {@code identifiers}.
+     *
+     * @param connection  The connection to the database.
+     * @param schema      The EventSchema to be used
+     * @param identifiers The identifiers of the aggregates.
+     * @return The newly created {@link PreparedStatement}.
+     * @throws SQLException when an exception occurs while creating the prepared statement.
+     */
+    public static PreparedStatement readSnapshotDataForAggregates(Connection connection, EventSchema schema,
+                                                                  Collection<String> identifiers) throws SQLException {
+        final String sql = "SELECT " + schema.domainEventFields() + " FROM " + schema.snapshotTable()
+                + " WHERE " + schema.aggregateIdentifierColumn() + " IN ("
+                + String.join(",", Collections.nCopies(identifiers.size(), "?")) + ") ORDER BY "
+                + schema.aggregateIdentifierColumn() + " ASC, " + schema.sequenceNumberColumn() + " DESC";
+        PreparedStatement statement = connection.prepareStatement(sql);
+        int index = 1;
+        for (String identifier : identifiers) {
+            statement.setString(index++, identifier);
+        }
+        return statement;
+    }
+
     /**
      * Set the PreparedStatement to be used on {@link JdbcEventStorageEngine#fetchTrackedEvents(TrackingToken, int)}
      * when there is no gaps on the {@link GapAwareTrackingToken}. Defaults to:
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2010-2024. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.eventsourcing.eventstore.jdbc.statements;
+
+import org.axonframework.eventsourcing.eventstore.jdbc.EventSchema;
+import org.axonframework.eventsourcing.eventstore.jdbc.JdbcEventStorageEngine;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Map;
+
+/**
+ * Contract which defines how to build a PreparedStatement for use on {@link JdbcEventStorageEngine#readEventData(Connection,
+ * Map)}
+ *
+ * @since 4.11.0
+ */
+@FunctionalInterface
+public interface ReadEventDataForAggregatesStatementBuilder {
+
+    /**
+     * Creates a statement to read the domain event entries for the aggregates with given identifiers, ordered by
+     * aggregate identifier and sequence number. The statement returns at least the entries starting at the sequence
+     * number mapped to each identifier. It may return earlier entries too, which are skipped by the
+     * {@link JdbcEventStorageEngine}.
+     *
+     * @param connection           The connection to the database.
+     * @param schema               The EventSchema to be used
+     * @param firstSequenceNumbers The identifiers of the aggregates, mapped to the sequence number of the first event
+     *                             to read for that aggregate.
+     * @return The newly created {@link PreparedStatement}.
+     * @throws SQLException when an exception occurs while creating the prepared statement.
+     */
+    PreparedStatement build(Connection connection, EventSchema schema, Map<String, Long> firstSequenceNumbers)
+            throws SQLException;
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2010-2024. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.eventsourcing.eventstore.jdbc.statements;
+
+import org.axonframework.eventsourcing.eventstore.jdbc.EventSchema;
+import org.axonframework.eventsourcing.eventstore.jdbc.JdbcEventStorageEngine;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collection;
+
+/**
+ * Contract which defines how to build a PreparedStatement for use on
+ * {@link JdbcEventStorageEngine#readSnapshotData(Connection, Collection)}
+ *
+ * @since 4.11.0
+ */
+@FunctionalInterface
+public interface ReadSnapshotDataForAggregatesStatementBuilder {
+
+    /**
+     * Creates a statement to read the snapshot entries for the aggregates with given identifiers, ordered by aggregate
+     * identifier and by sequence number in descending order.
+     *
+     * @param connection  The connection to the database.
+     * @param schema      The EventSchema to be used
+     * @param identifiers The identifiers of the aggregates.
+     * @return The newly created {@link PreparedStatement}.
+     * @throws SQLException when an exception occurs while creating the prepared statement.
+     */
+    PreparedStatement build(Connection connection, EventSchema schema, Collection<String> identifiers)
+            throws SQLException;
+}
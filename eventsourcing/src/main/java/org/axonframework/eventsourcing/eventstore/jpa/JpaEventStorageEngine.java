@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2023. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@
 package org.axonframework.eventsourcing.eventstore.jpa;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 import jakarta.persistence.TypedQuery;
 import org.axonframework.common.Assert;
 import org.axonframework.common.AxonConfigurationException;
@@ -46,8 +47,12 @@
 import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.TreeSet;
 import java.util.function.Predicate;
@@ -78,6 +83,8 @@ public class JpaEventStorageEngine extends BatchingEventStorageEngine {
     private static final long DEFAULT_LOWEST_GLOBAL_SEQUENCE = 1;
     private static final int DEFAULT_GAP_TIMEOUT = 60000;
     private static final int DEFAULT_GAP_CLEANING_THRESHOLD = 250;
+    // Several databases, like Oracle, restrict the number of expressions in an IN list to 1000
+    private static final int MAX_IDENTIFIERS_PER_QUERY = 1000;
 
     private final EntityManagerProvider entityManagerProvider;
     private final TransactionManager transactionManager;
@@ -290,6 +297,85 @@ protected List<? extends DomainEventData<?>> fetchDomainEvents(String aggregateI
                         .getResultList());
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The events of the given aggregates are read with a single query for up to 1000 aggregates at a time, instead of
+     * with a query per batch per aggregate.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    protected Map<String, Stream<? extends DomainEventData<?>>> readEventData(Map<String, Long> firstSequenceNumbers) {
+        Map<String, List<DomainEventData<?>>> eventData = new HashMap<>();
+        firstSequenceNumbers.keySet().forEach(identifier -> eventData.put(identifier, new ArrayList<>()));
+        List<String> remaining = new ArrayList<>(eventData.keySet());
+        for (int start = 0; start < remaining.size(); start += MAX_IDENTIFIERS_PER_QUERY) {
+            List<String> chunk = remaining.subList(start, Math.min(start + MAX_IDENTIFIERS_PER_QUERY,
+                                                                   remaining.size()));
+            StringBuilder condition = new StringBuilder();
+            for (int i = 0; i < chunk.size(); i++) {
+                if (i > 0) {
+                    condition.append(" OR ");
+                }
+                condition.append("(e.aggregateIdentifier = :id").append(i)
+                         .append(" AND e.sequenceNumber >= :seq").append(i).append(")");
+            }
+            List<DomainEventData<?>> result = transactionManager.fetchInTransaction(() -> {
+                Query query = entityManager()
+                        .createQuery(
+                                "SELECT new org.axonframework.eventhandling.GenericDomainEventEntry(" +
+                                        "e.type, e.aggregateIdentifier, e.sequenceNumber, e.eventIdentifier, e.timeStamp, "
+                                        + "e.payloadType, e.payloadRevision, e.payload, e.metaData) FROM "
+                                        + domainEventEntryEntityName() + " e WHERE " + condition
+                                        + " ORDER BY e.aggregateIdentifier ASC, e.sequenceNumber ASC"
+                        );
+                for (int i = 0; i < chunk.size(); i++) {
+                    query.setParameter("id" + i, chunk.get(i))
+                         .setParameter("seq" + i, firstSequenceNumbers.get(chunk.get(i)));
+                }
+                return query.getResultList();
+            });
+            result.forEach(entry -> eventData.get(entry.getAggregateIdentifier()).add(entry));
+        }
+        Map<String, Stream<? extends DomainEventData<?>>> streams = new HashMap<>();
+        eventData.forEach((identifier, entries) -> streams.put(identifier, entries.stream()));
+        return streams;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The latest snapshots of the given aggregates are read with a single query for up to 1000 aggregates at a time.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    protected Map<String, Stream<? extends DomainEventData<?>>> readSnapshotData(Collection<String> identifiers) {
+        Map<String, DomainEventData<?>> snapshotData = new HashMap<>();
+        List<String> remaining = new ArrayList<>(new HashSet<>(identifiers));
+        for (int start = 0; start < remaining.size(); start += MAX_IDENTIFIERS_PER_QUERY) {
+            List<String> chunk = remaining.subList(start, Math.min(start + MAX_IDENTIFIERS_PER_QUERY,
+                                                                   remaining.size()));
+            List<DomainEventData<?>> result = transactionManager.fetchInTransaction(
+                    () -> entityManager()
+                            .createQuery(
+                                    "SELECT new org.axonframework.eventhandling.GenericDomainEventEntry("
+                                            + "e.type, e.aggregateIdentifier, e.sequenceNumber, e.eventIdentifier, "
+                                            + "e.timeStamp, e.payloadType, e.payloadRevision, e.payload, e.metaData) "
+                                            + "FROM " + snapshotEventEntryEntityName() + " e "
+                                            + "WHERE e.aggregateIdentifier IN :ids "
+                                            + "ORDER BY e.aggregateIdentifier ASC, e.sequenceNumber DESC"
+                            )
+                            .setParameter("ids", chunk)
+                            .getResultList());
+            result.forEach(entry -> snapshotData.putIfAbsent(entry.getAggregateIdentifier(), entry));
+        }
+        Map<String, Stream<? extends DomainEventData<?>>> streams = new HashMap<>();
+        remaining.forEach(identifier -> streams.put(identifier, snapshotData.containsKey(identifier)
+                ? Stream.of(snapshotData.get(identifier))
+                : Stream.empty()));
+        return streams;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     protected Stream<? extends DomainEventData<?>> readSnapshotData(String aggregateIdentifier) {
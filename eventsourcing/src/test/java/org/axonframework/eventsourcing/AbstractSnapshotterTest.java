@@ -30,6 +30,7 @@
 import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
 import org.axonframework.messaging.unitofwork.DefaultUnitOfWork;
 import org.axonframework.modelling.command.ConcurrencyException;
+import org.axonframework.monitoring.MessageMonitor;
 import org.axonframework.tracing.SpanFactory;
 import org.axonframework.tracing.TestSpanFactory;
 import org.junit.jupiter.api.AfterEach;
@@ -39,6 +40,7 @@
 import org.mockito.InOrder;
 
 import javax.annotation.Nonnull;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
@@ -48,6 +50,7 @@
 import static org.axonframework.eventsourcing.utils.EventStoreTestUtils.createEvent;
 import static org.axonframework.eventsourcing.utils.EventStoreTestUtils.createEvents;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.argThat;
@@ -236,6 +239,163 @@ void scheduleSnapshot_AcceptedWhenOtherSnapshotIsScheduled() {
         assertEquals(1, executor.size());
     }
 
+    @Test
+    void queuedSnapshotRequestsForSameAggregateAreCoalesced() {
+        StubExecutor executor = new StubExecutor();
+        testSubject = TestSnapshotter.builder().eventStore(mockEventStore).executor(executor).queueCapacity(10).build();
+        when(mockEventStore.readEvents(anyString()))
+                .thenAnswer(invocation -> DomainEventStream.of(createEvents(2)));
+
+        testSubject.scheduleSnapshot(Object.class, "id1");
+        testSubject.scheduleSnapshot(Object.class, "id1");
+        testSubject.scheduleSnapshot(Object.class, "id2");
+
+        assertEquals(1, executor.size());
+        assertEquals(2, testSubject.getQueueDepth());
+
+        executor.executeNext();
+
+        assertEquals(0, testSubject.getQueueDepth());
+        verify(mockEventStore, times(1)).readEvents("id1");
+        verify(mockEventStore, times(1)).readEvents("id2");
+        verify(mockEventStore, times(2)).storeSnapshot(isA(DomainEventMessage.class));
+    }
+
+    @Test
+    void queuedSnapshotRequestsAreProcessedByPriority() {
+        StubExecutor executor = new StubExecutor();
+        testSubject = TestSnapshotter.builder().eventStore(mockEventStore).executor(executor).queueCapacity(10).build();
+        when(mockEventStore.readEvents(anyString()))
+                .thenAnswer(invocation -> DomainEventStream.of(createEvents(2)));
+
+        testSubject.scheduleSnapshot(Object.class, "low", 10);
+        testSubject.scheduleSnapshot(Object.class, "high", 500);
+        testSubject.scheduleSnapshot(Object.class, "medium", 100);
+        executor.executeNext();
+
+        InOrder inOrder = inOrder(mockEventStore);
+        inOrder.verify(mockEventStore).readEvents("high");
+        inOrder.verify(mockEventStore).readEvents("medium");
+        inOrder.verify(mockEventStore).readEvents("low");
+    }
+
+    @Test
+    void lowestPriorityRequestIsDroppedWhenQueueIsFull() {
+        StubExecutor executor = new StubExecutor();
+        testSubject = TestSnapshotter.builder().eventStore(mockEventStore).executor(executor).queueCapacity(2).build();
+        when(mockEventStore.readEvents(anyString()))
+                .thenAnswer(invocation -> DomainEventStream.of(createEvents(2)));
+
+        testSubject.scheduleSnapshot(Object.class, "id1", 100);
+        testSubject.scheduleSnapshot(Object.class, "id2", 10);
+        testSubject.scheduleSnapshot(Object.class, "id3", 50);
+        testSubject.scheduleSnapshot(Object.class, "id4", 1);
+
+        assertEquals(2, testSubject.getQueueDepth());
+        executor.executeNext();
+
+        verify(mockEventStore).readEvents("id1");
+        verify(mockEventStore).readEvents("id3");
+        verify(mockEventStore, never()).readEvents("id2");
+        verify(mockEventStore, never()).readEvents("id4");
+    }
+
+    @Test
+    void queuedSnapshotsAreStoredInBatchedTransactions() {
+        Transaction mockTransaction = mock(Transaction.class);
+        TransactionManager txManager = spy(new StubTransactionManager(mockTransaction));
+        StubExecutor executor = new StubExecutor();
+        testSubject = TestSnapshotter.builder()
+                                     .eventStore(mockEventStore)
+                                     .executor(executor)
+                                     .transactionManager(txManager)
+                                     .queueCapacity(10)
+                                     .storageBatchSize(2)
+                                     .build();
+        when(mockEventStore.readEvents(anyString()))
+                .thenAnswer(invocation -> DomainEventStream.of(createEvents(2)));
+
+        testSubject.scheduleSnapshot(Object.class, "id1");
+        testSubject.scheduleSnapshot(Object.class, "id2");
+        testSubject.scheduleSnapshot(Object.class, "id3");
+        executor.executeNext();
+
+        verify(txManager, times(2)).startTransaction();
+        verify(mockTransaction, times(2)).commit();
+        verify(mockEventStore, times(3)).storeSnapshot(isA(DomainEventMessage.class));
+        assertEquals(0, executor.size());
+    }
+
+    @Test
+    void queueIsDrainedAgainAfterDrainTaskFailed() {
+        Transaction mockTransaction = mock(Transaction.class);
+        TransactionManager txManager = spy(new StubTransactionManager(mockTransaction));
+        when(txManager.startTransaction()).thenThrow(new Error("Mock failure")).thenReturn(mockTransaction);
+        StubExecutor executor = new StubExecutor();
+        testSubject = TestSnapshotter.builder()
+                                     .eventStore(mockEventStore)
+                                     .executor(executor)
+                                     .transactionManager(txManager)
+                                     .queueCapacity(10)
+                                     .build();
+        when(mockEventStore.readEvents(anyString()))
+                .thenAnswer(invocation -> DomainEventStream.of(createEvents(2)));
+
+        testSubject.scheduleSnapshot(Object.class, "id1");
+        assertThrows(Error.class, executor::executeNext);
+
+        testSubject.scheduleSnapshot(Object.class, "id2");
+        assertEquals(1, executor.size());
+        executor.executeNext();
+
+        verify(mockEventStore).readEvents("id2");
+        verify(mockEventStore, times(1)).storeSnapshot(isA(DomainEventMessage.class));
+    }
+
+    @Test
+    void committedStateIsOnlyCreatedForAcceptedSnapshotRequests() {
+        StubExecutor executor = new StubExecutor();
+        List<String> preparedAggregates = new ArrayList<>();
+        TestSnapshotter.Builder builder =
+                TestSnapshotter.builder().eventStore(mockEventStore).executor(executor).queueCapacity(1);
+        testSubject = new TestSnapshotter(builder) {
+            @Override
+            protected DomainEventMessage<?> createSnapshotFromCommittedState(Class<?> aggregateType,
+                                                                             String aggregateIdentifier) {
+                preparedAggregates.add(aggregateIdentifier);
+                return new GenericDomainEventMessage<>("test", aggregateIdentifier, 1, "Mock contents");
+            }
+        };
+
+        DefaultUnitOfWork<?> uow = DefaultUnitOfWork.startAndGet(null);
+        testSubject.scheduleSnapshot(Object.class, "id1", 100);
+        uow.commit();
+        uow = DefaultUnitOfWork.startAndGet(null);
+        testSubject.scheduleSnapshot(Object.class, "id1", 150);
+        testSubject.scheduleSnapshot(Object.class, "id2", 10);
+        uow.commit();
+
+        assertEquals(Collections.singletonList("id1"), preparedAggregates);
+        executor.executeNext();
+        verify(mockEventStore, never()).readEvents(anyString());
+        verify(mockEventStore).storeSnapshot(argThat(event("id1", 1)));
+    }
+
+    @Test
+    void messageMonitorIsNotifiedOfStoredSnapshots() {
+        //noinspection unchecked
+        MessageMonitor<DomainEventMessage<?>> messageMonitor = mock(MessageMonitor.class);
+        MessageMonitor.MonitorCallback callback = mock(MessageMonitor.MonitorCallback.class);
+        when(messageMonitor.onMessageIngested(any())).thenReturn(callback);
+        testSubject = TestSnapshotter.builder().eventStore(mockEventStore).messageMonitor(messageMonitor).build();
+        when(mockEventStore.readEvents("id1")).thenReturn(DomainEventStream.of(createEvents(2)));
+
+        testSubject.scheduleSnapshot(Object.class, "id1");
+
+        verify(messageMonitor).onMessageIngested(argThat(event("id1", 1)));
+        verify(callback).reportSuccess();
+    }
+
     @SuppressWarnings("SameParameterValue")
     private ArgumentMatcher<DomainEventMessage<?>> event(final Object aggregateIdentifier, final long i) {
         return x -> aggregateIdentifier.equals(x.getAggregateIdentifier()) && x.getSequenceNumber() == i;
@@ -297,6 +457,24 @@ public Builder spanFactory(@Nonnull SnapshotterSpanFactory spanFactory) {
                 return this;
             }
 
+            @Override
+            public Builder queueCapacity(int queueCapacity) {
+                super.queueCapacity(queueCapacity);
+                return this;
+            }
+
+            @Override
+            public Builder storageBatchSize(int storageBatchSize) {
+                super.storageBatchSize(storageBatchSize);
+                return this;
+            }
+
+            @Override
+            public Builder messageMonitor(@Nonnull MessageMonitor<? super DomainEventMessage<?>> messageMonitor) {
+                super.messageMonitor(messageMonitor);
+                return this;
+            }
+
             private TestSnapshotter build() {
                 return new TestSnapshotter(this);
             }
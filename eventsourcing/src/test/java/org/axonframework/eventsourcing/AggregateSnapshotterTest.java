@@ -16,15 +16,21 @@
 
 package org.axonframework.eventsourcing;
 
+import org.axonframework.common.AxonConfigurationException;
+import org.axonframework.common.caching.Cache;
+import org.axonframework.common.caching.WeakReferenceCache;
 import org.axonframework.eventhandling.DomainEventMessage;
 import org.axonframework.eventhandling.EventMessage;
 import org.axonframework.eventhandling.GenericDomainEventMessage;
 import org.axonframework.eventsourcing.eventstore.DomainEventStream;
 import org.axonframework.eventsourcing.eventstore.EventStore;
 import org.axonframework.eventsourcing.utils.StubDomainEvent;
+import org.axonframework.eventsourcing.utils.TestSerializer;
 import org.axonframework.messaging.MetaData;
+import org.axonframework.messaging.unitofwork.DefaultUnitOfWork;
 import org.axonframework.modelling.command.AggregateIdentifier;
 import org.junit.jupiter.api.*;
+import org.mockito.ArgumentCaptor;
 
 import java.util.UUID;
 
@@ -111,6 +117,66 @@ void createSnapshot_AggregateMarkedDeletedWillNotGenerateSnapshot() {
         assertNull(snapshot, "Snapshotter shouldn't have created snapshot of deleted aggregate");
     }
 
+    @Test
+    @SuppressWarnings({"unchecked"})
+    void snapshotIsCreatedFromCachedAggregateAfterCommit() {
+        EventStore eventStore = mock(EventStore.class);
+        Cache cache = new WeakReferenceCache();
+        testSubject = AggregateSnapshotter.builder()
+                                          .eventStore(eventStore)
+                                          .aggregateFactories(singletonList(mockAggregateFactory))
+                                          .aggregateCaches(cache)
+                                          .snapshotSerializer(TestSerializer.xStreamSerializer())
+                                          .build();
+        String aggregateIdentifier = UUID.randomUUID().toString();
+        StubAggregate aggregateRoot = new StubAggregate(aggregateIdentifier);
+        EventSourcedAggregate<StubAggregate> aggregate = mock(EventSourcedAggregate.class);
+        when(aggregate.getAggregateRoot()).thenReturn(aggregateRoot);
+        when(aggregate.version()).thenReturn(5L);
+        cache.put(aggregateIdentifier, new AggregateCacheEntry<>(aggregate));
+
+        DefaultUnitOfWork<?> uow = DefaultUnitOfWork.startAndGet(null);
+        testSubject.scheduleSnapshot(StubAggregate.class, aggregateIdentifier);
+        uow.commit();
+
+        ArgumentCaptor<DomainEventMessage<?>> snapshotCaptor = ArgumentCaptor.forClass(DomainEventMessage.class);
+        verify(eventStore).storeSnapshot(snapshotCaptor.capture());
+        verify(eventStore, never()).readEvents(anyString());
+        DomainEventMessage<?> snapshot = snapshotCaptor.getValue();
+        assertEquals(5L, snapshot.getSequenceNumber());
+        assertEquals(aggregateIdentifier, snapshot.getAggregateIdentifier());
+        assertNotSame(aggregateRoot, snapshot.getPayload());
+        assertEquals(aggregateIdentifier, ((StubAggregate) snapshot.getPayload()).getIdentifier());
+    }
+
+    @Test
+    void snapshotIsCreatedFromEventStoreOnCacheMiss() {
+        EventStore eventStore = mock(EventStore.class);
+        testSubject = AggregateSnapshotter.builder()
+                                          .eventStore(eventStore)
+                                          .aggregateFactories(singletonList(mockAggregateFactory))
+                                          .aggregateCaches(new WeakReferenceCache())
+                                          .snapshotSerializer(TestSerializer.xStreamSerializer())
+                                          .build();
+        String aggregateIdentifier = UUID.randomUUID().toString();
+        when(eventStore.readEvents(aggregateIdentifier)).thenReturn(DomainEventStream.empty());
+
+        DefaultUnitOfWork<?> uow = DefaultUnitOfWork.startAndGet(null);
+        testSubject.scheduleSnapshot(StubAggregate.class, aggregateIdentifier);
+        uow.commit();
+
+        verify(eventStore).readEvents(aggregateIdentifier);
+    }
+
+    @Test
+    void buildingWithAggregateCachesRequiresSnapshotSerializer() {
+        AggregateSnapshotter.Builder builder = AggregateSnapshotter.builder()
+                                                                   .eventStore(mock(EventStore.class))
+                                                                   .aggregateCaches(new WeakReferenceCache());
+
+        assertThrows(AxonConfigurationException.class, builder::build);
+    }
+
     public static class StubAggregate {
 
         @AggregateIdentifier
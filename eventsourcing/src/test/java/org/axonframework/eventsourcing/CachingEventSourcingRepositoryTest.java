@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2018. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -42,6 +42,7 @@
 import org.junit.jupiter.api.*;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -225,6 +226,30 @@ void cacheClearedAfterRollbackOfCreatedAggregateUsingLoadOrCreate() throws Excep
         assertNull(cache.get("id1"));
     }
 
+    @Test
+    void prefetchReadsEventsOfUncachedAggregatesInBulk() throws Exception {
+        startAndGetUnitOfWork();
+        testSubject.newInstance(() -> new StubAggregate("id1")).execute(StubAggregate::doSomething);
+        testSubject.newInstance(() -> new StubAggregate("id2")).execute(StubAggregate::doSomething);
+        testSubject.newInstance(() -> new StubAggregate("id3")).execute(StubAggregate::doSomething);
+        CurrentUnitOfWork.commit();
+        ehCache.remove("id1");
+        ehCache.remove("id2");
+
+        testSubject.prefetch(Arrays.asList("id1", "id2", "id3", "unknown"));
+
+        verify(mockEventStore).readEventsForAggregates(Arrays.asList("id1", "id2", "unknown"));
+        assertNotNull(cache.get("id1"));
+        assertNotNull(cache.get("id2"));
+        assertNull(cache.get("unknown"));
+
+        startAndGetUnitOfWork();
+        LockAwareAggregate<StubAggregate, EventSourcedAggregate<StubAggregate>> loaded = testSubject.load("id1");
+        assertEquals(0, loaded.getWrappedAggregate().lastSequence());
+        CurrentUnitOfWork.commit();
+        verify(mockEventStore, never()).readEvents("id1");
+    }
+
     private UnitOfWork<?> startAndGetUnitOfWork() {
         return DefaultUnitOfWork.startAndGet(null);
     }
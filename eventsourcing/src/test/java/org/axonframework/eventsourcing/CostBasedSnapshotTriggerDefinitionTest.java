@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) 2010-2024. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.eventsourcing;
+
+import org.axonframework.common.AxonConfigurationException;
+import org.axonframework.eventhandling.DomainEventMessage;
+import org.axonframework.eventhandling.GenericDomainEventMessage;
+import org.axonframework.eventsourcing.utils.StubAggregate;
+import org.axonframework.eventsourcing.utils.TestSerializer;
+import org.axonframework.monitoring.MessageMonitor;
+import org.junit.jupiter.api.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class validating the {@link CostBasedSnapshotTriggerDefinition}.
+ */
+class CostBasedSnapshotTriggerDefinitionTest {
+
+    private static final String AGGREGATE_IDENTIFIER = "aggregateIdentifier";
+
+    private Snapshotter snapshotter;
+    private AtomicLong nanoTime;
+    private CostBasedSnapshotTriggerDefinition testSubject;
+
+    @BeforeEach
+    void setUp() {
+        snapshotter = mock(Snapshotter.class);
+        nanoTime = new AtomicLong(System.nanoTime());
+        testSubject = CostBasedSnapshotTriggerDefinition.builder()
+                                                        .snapshotter(snapshotter)
+                                                        .latencyBudget(Duration.ofMillis(100))
+                                                        .nanoTimeSupplier(nanoTime::get)
+                                                        .build();
+    }
+
+    @Test
+    void snapshotIsTriggeredWhenFirstLoadExceedsBudget() {
+        SnapshotTrigger trigger = testSubject.prepareTrigger(StubAggregate.class);
+
+        trigger.eventHandled(event(0));
+        advance(Duration.ofMillis(101));
+        trigger.eventHandled(event(1));
+
+        verify(snapshotter).scheduleSnapshot(StubAggregate.class, AGGREGATE_IDENTIFIER, 2);
+    }
+
+    @Test
+    void learnedCostPerEventIsUsedToPredictReplayCost() {
+        loadAggregate(10, Duration.ofMillis(10));
+        CostBasedSnapshotTriggerDefinition.AggregateCostStatistics statistics =
+                testSubject.statistics(StubAggregate.class);
+        assertEquals(1, statistics.getMeasuredLoads());
+        assertEquals(Duration.ofMillis(1).toNanos(), statistics.getAverageNanosPerEvent(), 0.1);
+
+        SnapshotTrigger trigger = testSubject.prepareTrigger(StubAggregate.class);
+        for (int i = 0; i < 100; i++) {
+            trigger.eventHandled(event(i));
+        }
+        verifyNoInteractions(snapshotter);
+
+        trigger.eventHandled(event(100));
+
+        verify(snapshotter).scheduleSnapshot(StubAggregate.class, AGGREGATE_IDENTIFIER, 101);
+        assertEquals(1, statistics.getSnapshotsTriggered());
+        assertTrue(statistics.getLastPredictedReplayNanos() > Duration.ofMillis(100).toNanos());
+    }
+
+    @Test
+    void eventsAppliedAfterInitializationCountTowardsPredictedCost() {
+        loadAggregate(10, Duration.ofMillis(10));
+
+        SnapshotTrigger trigger = testSubject.prepareTrigger(StubAggregate.class);
+        for (int i = 0; i < 60; i++) {
+            trigger.eventHandled(event(i));
+        }
+        advance(Duration.ofMillis(60));
+        trigger.initializationFinished();
+        for (int i = 60; i < 101; i++) {
+            trigger.eventHandled(event(i));
+        }
+
+        verify(snapshotter).scheduleSnapshot(StubAggregate.class, AGGREGATE_IDENTIFIER, 101);
+    }
+
+    @Test
+    void snapshotEventIsNeitherCountedNorTimed() {
+        testSubject = CostBasedSnapshotTriggerDefinition.builder()
+                                                        .snapshotter(snapshotter)
+                                                        .latencyBudget(Duration.ofMillis(100))
+                                                        .serializer(TestSerializer.xStreamSerializer())
+                                                        .byteBudget(1_000)
+                                                        .nanoTimeSupplier(nanoTime::get)
+                                                        .build();
+        SnapshotTrigger trigger = testSubject.prepareTrigger(StubAggregate.class);
+        DomainEventMessage<StubAggregate> snapshot = new GenericDomainEventMessage<>(
+                "type", AGGREGATE_IDENTIFIER, 99, new StubAggregate(largeIdentifier())
+        );
+
+        trigger.eventHandled(snapshot);
+        advance(Duration.ofMillis(500));
+        trigger.eventHandled(event(100));
+        advance(Duration.ofMillis(2));
+        trigger.initializationFinished();
+
+        verifyNoInteractions(snapshotter);
+        CostBasedSnapshotTriggerDefinition.AggregateCostStatistics statistics =
+                testSubject.statistics(StubAggregate.class);
+        assertEquals(1, statistics.getMeasuredLoads());
+        assertEquals(Duration.ofMillis(2).toNanos(), statistics.getAverageNanosPerEvent(), 0.1);
+    }
+
+    private static String largeIdentifier() {
+        StringBuilder identifier = new StringBuilder();
+        for (int i = 0; i < 2_000; i++) {
+            identifier.append('x');
+        }
+        return identifier.toString();
+    }
+
+    @Test
+    void byteBudgetTriggersSnapshotWhenSerializerIsConfigured() {
+        testSubject = CostBasedSnapshotTriggerDefinition.builder()
+                                                        .snapshotter(snapshotter)
+                                                        .latencyBudget(Duration.ofHours(1))
+                                                        .serializer(TestSerializer.xStreamSerializer())
+                                                        .byteBudget(10)
+                                                        .nanoTimeSupplier(nanoTime::get)
+                                                        .build();
+        SnapshotTrigger trigger = testSubject.prepareTrigger(StubAggregate.class);
+
+        trigger.eventHandled(event(0));
+
+        verify(snapshotter).scheduleSnapshot(StubAggregate.class, AGGREGATE_IDENTIFIER, 1);
+    }
+
+    @Test
+    void eventsAppliedAfterInitializationAreNotSerialized() {
+        testSubject = CostBasedSnapshotTriggerDefinition.builder()
+                                                        .snapshotter(snapshotter)
+                                                        .latencyBudget(Duration.ofHours(1))
+                                                        .serializer(TestSerializer.xStreamSerializer())
+                                                        .nanoTimeSupplier(nanoTime::get)
+                                                        .build();
+        SnapshotTrigger trigger = testSubject.prepareTrigger(StubAggregate.class);
+        trigger.initializationFinished();
+        DomainEventMessage<?> appliedEvent = spy(event(0));
+
+        trigger.eventHandled(appliedEvent);
+
+        verify(appliedEvent, never()).serializePayload(any(), any());
+    }
+
+    @Test
+    void loadsAreReportedToMessageMonitor() {
+        @SuppressWarnings("unchecked")
+        MessageMonitor<DomainEventMessage<?>> messageMonitor = mock(MessageMonitor.class);
+        MessageMonitor.MonitorCallback callback = mock(MessageMonitor.MonitorCallback.class);
+        when(messageMonitor.onMessageIngested(any())).thenReturn(callback);
+        testSubject = CostBasedSnapshotTriggerDefinition.builder()
+                                                        .snapshotter(snapshotter)
+                                                        .latencyBudget(Duration.ofMillis(100))
+                                                        .messageMonitor(messageMonitor)
+                                                        .nanoTimeSupplier(nanoTime::get)
+                                                        .build();
+
+        loadAggregate(10, Duration.ofMillis(10));
+
+        verify(messageMonitor, times(1)).onMessageIngested(any());
+        verify(callback).reportSuccess();
+    }
+
+    @Test
+    void failedLoadsAreReportedToMessageMonitorAndNotLearned() {
+        @SuppressWarnings("unchecked")
+        MessageMonitor<DomainEventMessage<?>> messageMonitor = mock(MessageMonitor.class);
+        MessageMonitor.MonitorCallback callback = mock(MessageMonitor.MonitorCallback.class);
+        when(messageMonitor.onMessageIngested(any())).thenReturn(callback);
+        testSubject = CostBasedSnapshotTriggerDefinition.builder()
+                                                        .snapshotter(snapshotter)
+                                                        .latencyBudget(Duration.ofMillis(100))
+                                                        .messageMonitor(messageMonitor)
+                                                        .nanoTimeSupplier(nanoTime::get)
+                                                        .build();
+        SnapshotTrigger trigger = testSubject.prepareTrigger(StubAggregate.class);
+        RuntimeException failure = new RuntimeException("Mock failure");
+
+        trigger.eventHandled(event(0));
+        advance(Duration.ofMillis(10));
+        trigger.initializationFailed(failure);
+        trigger.initializationFinished();
+
+        verify(callback).reportFailure(failure);
+        verify(callback, never()).reportSuccess();
+        assertEquals(0, testSubject.statistics(StubAggregate.class).getMeasuredLoads());
+    }
+
+    @Test
+    void snapshotDecisionsAreReportedToDecisionMonitor() {
+        @SuppressWarnings("unchecked")
+        MessageMonitor<DomainEventMessage<?>> decisionMonitor = mock(MessageMonitor.class);
+        MessageMonitor.MonitorCallback callback = mock(MessageMonitor.MonitorCallback.class);
+        when(decisionMonitor.onMessageIngested(any())).thenReturn(callback);
+        testSubject = CostBasedSnapshotTriggerDefinition.builder()
+                                                        .snapshotter(snapshotter)
+                                                        .latencyBudget(Duration.ofMillis(100))
+                                                        .decisionMonitor(decisionMonitor)
+                                                        .nanoTimeSupplier(nanoTime::get)
+                                                        .build();
+        SnapshotTrigger trigger = testSubject.prepareTrigger(StubAggregate.class);
+
+        trigger.eventHandled(event(0));
+        advance(Duration.ofMillis(101));
+        trigger.eventHandled(event(1));
+
+        verify(decisionMonitor, times(2)).onMessageIngested(any());
+        verify(callback).reportIgnored();
+        verify(callback).reportSuccess();
+    }
+
+    @Test
+    void triggerIsReconfiguredAfterSerialization() throws IOException, ClassNotFoundException {
+        loadAggregate(10, Duration.ofMillis(10));
+        SnapshotTrigger trigger = testSubject.prepareTrigger(StubAggregate.class);
+        trigger.initializationFinished();
+        for (int i = 0; i < 50; i++) {
+            trigger.eventHandled(event(i));
+        }
+
+        SnapshotTrigger deserialized = testSubject.reconfigure(StubAggregate.class, serializeAndDeserialize(trigger));
+        for (int i = 50; i < 101; i++) {
+            deserialized.eventHandled(event(i));
+        }
+
+        verify(snapshotter).scheduleSnapshot(StubAggregate.class, AGGREGATE_IDENTIFIER, 101);
+    }
+
+    @Test
+    void buildWithoutLatencyBudgetThrowsAxonConfigurationException() {
+        CostBasedSnapshotTriggerDefinition.Builder builder =
+                CostBasedSnapshotTriggerDefinition.builder().snapshotter(snapshotter);
+
+        assertThrows(AxonConfigurationException.class, builder::build);
+    }
+
+    @Test
+    void buildWithInvalidSmoothingFactorThrowsAxonConfigurationException() {
+        CostBasedSnapshotTriggerDefinition.Builder builder = CostBasedSnapshotTriggerDefinition.builder();
+
+        assertThrows(AxonConfigurationException.class, () -> builder.smoothingFactor(0));
+        assertThrows(AxonConfigurationException.class, () -> builder.smoothingFactor(1.5));
+    }
+
+    private void loadAggregate(int eventCount, Duration loadTime) {
+        SnapshotTrigger trigger = testSubject.prepareTrigger(StubAggregate.class);
+        for (int i = 0; i < eventCount; i++) {
+            trigger.eventHandled(event(i));
+        }
+        advance(loadTime);
+        trigger.initializationFinished();
+    }
+
+    private void advance(Duration duration) {
+        nanoTime.addAndGet(duration.toNanos());
+    }
+
+    private static GenericDomainEventMessage<String> event(long sequenceNumber) {
+        return new GenericDomainEventMessage<>("type", AGGREGATE_IDENTIFIER, sequenceNumber, "payload");
+    }
+
+    private static SnapshotTrigger serializeAndDeserialize(SnapshotTrigger trigger)
+            throws IOException, ClassNotFoundException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(trigger);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (SnapshotTrigger) in.readObject();
+        }
+    }
+}
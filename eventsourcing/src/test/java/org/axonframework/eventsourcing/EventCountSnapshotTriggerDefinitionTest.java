@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2020. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -53,6 +53,7 @@ void setUp() {
             CurrentUnitOfWork.get().rollback();
         }
         mockSnapshotter = mock(Snapshotter.class);
+        doCallRealMethod().when(mockSnapshotter).scheduleSnapshot(any(), any(), anyLong());
         testSubject = new EventCountSnapshotTriggerDefinition(mockSnapshotter, 3);
         aggregateIdentifier = "aggregateIdentifier";
         DefaultUnitOfWork.startAndGet(new GenericMessage<>("test"));
@@ -140,6 +141,21 @@ void snapshotterTriggeredOnUnitOfWorkRollbackWhenEventsHandledBeforeInitializati
         verify(mockSnapshotter).scheduleSnapshot(aggregate.rootType(), aggregateIdentifier);
     }
 
+    @Test
+    void snapshotterReceivesNumberOfEventsSinceLastSnapshot() {
+        SnapshotTrigger trigger = testSubject.prepareTrigger(aggregate.rootType());
+        GenericDomainEventMessage<String> msg = new GenericDomainEventMessage<>(
+                "type", aggregateIdentifier, 0, "Mock contents", MetaData.emptyInstance()
+        );
+        trigger.initializationFinished();
+        trigger.eventHandled(msg);
+        trigger.eventHandled(msg);
+        trigger.eventHandled(msg);
+
+        CurrentUnitOfWork.commit();
+        verify(mockSnapshotter).scheduleSnapshot(aggregate.rootType(), aggregateIdentifier, 3);
+    }
+
     @Test
     void snapshotterNotTriggered() {
         SnapshotTrigger trigger = testSubject.prepareTrigger(aggregate.rootType());
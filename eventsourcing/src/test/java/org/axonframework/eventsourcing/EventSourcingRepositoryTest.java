@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2023. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -31,6 +31,7 @@
 import org.axonframework.modelling.command.AggregateIdentifier;
 import org.axonframework.modelling.command.AggregateLifecycle;
 import org.axonframework.modelling.command.AggregateRoot;
+import org.axonframework.modelling.command.AggregateStreamCreationException;
 import org.axonframework.modelling.command.ConflictingAggregateVersionException;
 import org.axonframework.modelling.command.DefaultRepositorySpanFactory;
 import org.axonframework.tracing.TestSpanFactory;
@@ -39,6 +40,7 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.axonframework.messaging.MetaData.emptyInstance;
@@ -232,6 +234,74 @@ void loadEventsWithSnapshotter() {
         inOrder.verify(snapshotTrigger, times(2)).eventHandled(any());
     }
 
+    @Test
+    void loadOrCreateWithOptimisticCreationDoesNotReadEventsOfUnknownAggregate() throws Exception {
+        testSubject = optimisticCreationRepository();
+        String identifier = UUID.randomUUID().toString();
+
+        Aggregate<TestAggregate> aggregate =
+                testSubject.loadOrCreate(identifier, () -> new TestAggregate(identifier));
+        aggregate.execute(r -> r.apply(new StubDomainEvent()));
+        CurrentUnitOfWork.commit();
+
+        verify(mockEventStore, never()).readEvents(anyString());
+        verify(mockEventStore, never()).lastSequenceNumberFor(anyString());
+        verify(mockEventStore).publish((EventMessage) any());
+
+        unitOfWork = DefaultUnitOfWork.startAndGet(new GenericMessage<>("test"));
+        DomainEventMessage<?> event =
+                new GenericDomainEventMessage<>("type", identifier, 0L, "Mock contents", emptyInstance());
+        when(mockEventStore.readEvents(identifier)).thenReturn(DomainEventStream.of(event));
+
+        Aggregate<TestAggregate> loaded = testSubject.loadOrCreate(identifier, () -> new TestAggregate(identifier));
+
+        verify(mockEventStore).readEvents(identifier);
+        assertEquals(1, loaded.invoke(TestAggregate::getHandledEvents).size());
+    }
+
+    @Test
+    void loadOrCreateWithOptimisticCreationLoadsAggregateAfterCreationConflict() throws Exception {
+        testSubject = optimisticCreationRepository();
+        String identifier = UUID.randomUUID().toString();
+
+        testSubject.loadOrCreate(identifier, () -> new TestAggregate(identifier))
+                   .execute(r -> r.apply(new StubDomainEvent()));
+        unitOfWork.onPrepareCommit(u -> {
+            throw new AggregateStreamCreationException("Duplicate first event");
+        });
+        assertThrows(AggregateStreamCreationException.class, unitOfWork::commit);
+        verify(mockEventStore, never()).readEvents(anyString());
+
+        unitOfWork = DefaultUnitOfWork.startAndGet(new GenericMessage<>("test"));
+        DomainEventMessage<?> event =
+                new GenericDomainEventMessage<>("type", identifier, 0L, "Mock contents", emptyInstance());
+        when(mockEventStore.readEvents(identifier)).thenReturn(DomainEventStream.of(event));
+
+        testSubject.loadOrCreate(identifier, () -> new TestAggregate(identifier));
+
+        verify(mockEventStore).readEvents(identifier);
+    }
+
+    @Test
+    void optimisticCreationWithoutAppliedEventsVerifiesAggregateDoesNotExist() throws Exception {
+        testSubject = optimisticCreationRepository();
+        String identifier = UUID.randomUUID().toString();
+        when(mockEventStore.lastSequenceNumberFor(identifier)).thenReturn(Optional.of(3L));
+
+        testSubject.loadOrCreate(identifier, () -> new TestAggregate(identifier));
+
+        assertThrows(AggregateStreamCreationException.class, unitOfWork::commit);
+    }
+
+    private EventSourcingRepository<TestAggregate> optimisticCreationRepository() {
+        return EventSourcingRepository.builder(TestAggregate.class)
+                                      .aggregateFactory(stubAggregateFactory)
+                                      .eventStore(mockEventStore)
+                                      .snapshotTriggerDefinition(triggerDefinition)
+                                      .optimisticCreation(true)
+                                      .build();
+    }
+
     @Test
     void buildWithNullSubtypesThrowsAxonConfigurationException() {
         EventSourcingRepository.Builder<TestAggregate> builderTestSubject =
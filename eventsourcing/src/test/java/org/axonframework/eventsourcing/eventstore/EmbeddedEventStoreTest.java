@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2023. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -38,8 +38,12 @@
 import org.mockito.stubbing.*;
 
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -336,6 +340,45 @@ void loadWithFailingSnapshot() {
         assertEquals(109, eventMessages.get(eventMessages.size() - 1).getSequenceNumber());
     }
 
+    @Test
+    void loadMultipleAggregatesReadsSnapshotsAndEventsInBulk() {
+        String withSnapshot = UUID.randomUUID().toString();
+        String withoutSnapshot = UUID.randomUUID().toString();
+        testSubject.publish(createEvents(() -> withSnapshot, 10));
+        testSubject.publish(createEvents(() -> withoutSnapshot, 5));
+        transactionManager.executeInTransaction(() -> storageEngine.storeSnapshot(createEvent(withSnapshot, 6)));
+        List<String> aggregateIdentifiers = Arrays.asList(withSnapshot, withoutSnapshot);
+
+        Map<String, DomainEventStream> result = testSubject.readEventsForAggregates(aggregateIdentifiers);
+
+        List<Long> snapshotAndEvents = result.get(withSnapshot).asStream()
+                                             .map(DomainEventMessage::getSequenceNumber)
+                                             .collect(toList());
+        assertEquals(Arrays.asList(6L, 7L, 8L, 9L), snapshotAndEvents);
+        assertEquals(5, result.get(withoutSnapshot).asStream().count());
+        verify(storageEngine).readSnapshots(aggregateIdentifiers);
+        Map<String, Long> expectedFirstSequenceNumbers = new HashMap<>();
+        expectedFirstSequenceNumbers.put(withSnapshot, 7L);
+        expectedFirstSequenceNumbers.put(withoutSnapshot, 0L);
+        verify(storageEngine).readEventsForAggregates(expectedFirstSequenceNumbers);
+    }
+
+    @Test
+    void loadMultipleAggregatesFallsBackToSingleSnapshotReadsWhenBulkReadFails() {
+        String aggregateId = UUID.randomUUID().toString();
+        testSubject.publish(createEvents(() -> aggregateId, 10));
+        transactionManager.executeInTransaction(() -> storageEngine.storeSnapshot(createEvent(aggregateId, 6)));
+        doThrow(new MockException()).when(storageEngine).readSnapshots(any());
+
+        Map<String, DomainEventStream> result =
+                testSubject.readEventsForAggregates(Collections.singletonList(aggregateId));
+
+        assertEquals(Arrays.asList(6L, 7L, 8L, 9L), result.get(aggregateId).asStream()
+                                                          .map(DomainEventMessage::getSequenceNumber)
+                                                          .collect(toList()));
+        verify(storageEngine).readSnapshot(aggregateId);
+    }
+
     @Test
     void loadEventsAfterPublishingInSameUnitOfWork() {
         String aggregateId = UUID.randomUUID().toString();
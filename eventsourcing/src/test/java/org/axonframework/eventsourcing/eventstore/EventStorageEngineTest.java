@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2018. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -28,7 +28,9 @@
 import java.time.Clock;
 import java.time.Instant;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static java.util.Collections.singletonMap;
@@ -116,6 +118,46 @@ public void loadNonExistent() {
         assertEquals(0L, testSubject.readEvents(randomUUID().toString()).asStream().count());
     }
 
+    @Test
+    public void loadEventsOfMultipleAggregates() {
+        testSubject.appendEvents(createEvents(3));
+        testSubject.appendEvents(createEvent("otherAggregate", 0), createEvent("otherAggregate", 1));
+        String nonExistent = randomUUID().toString();
+
+        Map<String, Long> firstSequenceNumbers = new HashMap<>();
+        firstSequenceNumbers.put(AGGREGATE, 1L);
+        firstSequenceNumbers.put("otherAggregate", 0L);
+        firstSequenceNumbers.put(nonExistent, 0L);
+
+        Map<String, DomainEventStream> result = testSubject.readEventsForAggregates(firstSequenceNumbers);
+
+        assertEquals(3, result.size());
+        assertEquals(Arrays.asList(1L, 2L), result.get(AGGREGATE).asStream()
+                                                  .map(DomainEventMessage::getSequenceNumber)
+                                                  .collect(toList()));
+        assertEquals(Arrays.asList(0L, 1L), result.get("otherAggregate").asStream()
+                                                  .map(DomainEventMessage::getSequenceNumber)
+                                                  .collect(toList()));
+        assertFalse(result.get(nonExistent).hasNext());
+    }
+
+    @Test
+    public void loadLatestSnapshotsOfMultipleAggregates() {
+        testSubject.storeSnapshot(createEvent(0));
+        testSubject.storeSnapshot(createEvent(2));
+        testSubject.storeSnapshot(createEvent(1));
+        testSubject.storeSnapshot(createEvent("otherAggregate", 4));
+        String nonExistent = randomUUID().toString();
+
+        Map<String, DomainEventMessage<?>> result =
+                testSubject.readSnapshots(Arrays.asList(AGGREGATE, "otherAggregate", nonExistent));
+
+        assertEquals(2, result.size());
+        assertEquals(2L, result.get(AGGREGATE).getSequenceNumber());
+        assertEquals(4L, result.get("otherAggregate").getSequenceNumber());
+        assertFalse(result.containsKey(nonExistent));
+    }
+
     @Test
     @SuppressWarnings("OptionalGetWithoutIsPresent")
     public void readPartialStream() {
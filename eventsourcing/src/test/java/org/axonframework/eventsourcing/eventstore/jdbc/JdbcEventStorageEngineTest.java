@@ -45,8 +45,11 @@
 import java.time.Clock;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
@@ -426,6 +429,31 @@ void readEventsForAggregateWithEventsExceedingOneBatchAndGapsReturnsTheCompleteS
         assertEquals(7, result.get(6).getSequenceNumber());
     }
 
+    @Test
+    void readEventDataForAggregatesOnlySelectsEventsFromTheFirstSequenceNumberOfEachAggregate() throws SQLException {
+        testSubject.appendEvents(createEvents(5));
+        testSubject.appendEvents(createEvent("otherAggregate", 0), createEvent("otherAggregate", 1));
+        Map<String, Long> firstSequenceNumbers = new HashMap<>();
+        firstSequenceNumbers.put(AGGREGATE, 3L);
+        firstSequenceNumbers.put("otherAggregate", 0L);
+
+        EventSchema schema = new EventSchema();
+        List<String> selectedEvents = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = JdbcEventStorageEngineStatements.readEventDataForAggregates(
+                     connection, schema, firstSequenceNumbers
+             );
+             ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                selectedEvents.add(resultSet.getString(schema.aggregateIdentifierColumn()) + "-"
+                                           + resultSet.getLong(schema.sequenceNumberColumn()));
+            }
+        }
+
+        assertEquals(Arrays.asList(AGGREGATE + "-3", AGGREGATE + "-4", "otherAggregate-0", "otherAggregate-1"),
+                     selectedEvents.stream().sorted().collect(toList()));
+    }
+
     @Override
     protected JdbcEventStorageEngine createEngine(UnaryOperator<JdbcEventStorageEngine.Builder> customization) {
         return createEngine(customization, HsqlEventTableFactory.INSTANCE);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2023. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -30,12 +30,17 @@
 import org.axonframework.modelling.saga.AssociationValue;
 import org.axonframework.modelling.saga.Saga;
 import org.axonframework.modelling.saga.repository.AnnotatedSagaRepository;
+import org.axonframework.modelling.saga.repository.SagaStore;
 import org.axonframework.modelling.saga.repository.StubSaga;
 import org.axonframework.modelling.utils.TestSerializer;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -47,6 +52,7 @@
  */
 class JpaSagaStoreTest {
 
+    private JpaSagaStore sagaStore;
     private AnnotatedSagaRepository<StubSaga> repository;
 
     private final EntityManagerFactory entityManagerFactory = Persistence.createEntityManagerFactory("h6sagastore");
@@ -56,7 +62,7 @@ class JpaSagaStoreTest {
 
     @BeforeEach
     void setUp() {
-        JpaSagaStore sagaStore = JpaSagaStore.builder()
+        sagaStore = JpaSagaStore.builder()
                 .entityManagerProvider(entityManagerProvider)
                 .serializer(
                         TestSerializer.xStreamSerializer())
@@ -197,4 +203,89 @@ void endSaga() {
         assertTrue(entityManager.createQuery("SELECT ae FROM AssociationValueEntry ae WHERE ae.sagaId = :id")
                 .setParameter("id", identifier).getResultList().isEmpty());
     }
+
+    @Test
+    void batchedPersistenceStoresAllSagasOfUnitOfWork() {
+        AnnotatedSagaRepository<StubSaga> batchingRepository = AnnotatedSagaRepository.<StubSaga>builder()
+                .sagaType(StubSaga.class)
+                .sagaStore(sagaStore)
+                .batchedPersistence(true)
+                .build();
+        String updatedId = IdentifierFactory.getInstance().generateIdentifier();
+        String endedId = IdentifierFactory.getInstance().generateIdentifier();
+        String createdId = IdentifierFactory.getInstance().generateIdentifier();
+        unitOfWork.execute(() -> {
+            batchingRepository.createInstance(updatedId, StubSaga::new).execute(s -> s.associate("key", "value"));
+            batchingRepository.createInstance(endedId, StubSaga::new).execute(s -> s.associate("key", "value"));
+        });
+        entityManager.clear();
+
+        startUnitOfWork();
+        unitOfWork.execute(() -> {
+            batchingRepository.load(updatedId).execute(s -> s.associate("key", "other"));
+            batchingRepository.load(endedId).execute(StubSaga::end);
+            batchingRepository.createInstance(createdId, StubSaga::new).execute(s -> s.associate("key", "value"));
+        });
+        entityManager.clear();
+
+        assertNotNull(entityManager.find(SagaEntry.class, updatedId));
+        assertNotNull(entityManager.find(SagaEntry.class, createdId));
+        assertNull(entityManager.find(SagaEntry.class, endedId));
+        startUnitOfWork();
+        Set<String> found = unitOfWork.executeWithResult(
+                () -> batchingRepository.find(new AssociationValue("key", "value"))
+        ).getPayload();
+        assertEquals(2, found.size());
+        assertTrue(found.contains(updatedId));
+        assertTrue(found.contains(createdId));
+        assertEquals(1, sagaStore.findSagas(StubSaga.class, new AssociationValue("key", "other")).size());
+    }
+
+    @Test
+    void findSagasForMultipleAssociationValues() {
+        AssociationValue first = new AssociationValue("key", "first");
+        AssociationValue second = new AssociationValue("key", "second");
+        AssociationValue unknown = new AssociationValue("other", "second");
+        sagaStore.insertSaga(StubSaga.class, "1", new StubSaga(), Collections.singleton(first));
+        sagaStore.insertSaga(StubSaga.class, "2", new StubSaga(), Collections.singleton(second));
+        sagaStore.insertSaga(StubSaga.class, "3", new StubSaga(),
+                             Collections.singleton(new AssociationValue("other", "first")));
+        entityManager.flush();
+
+        Map<AssociationValue, Set<String>> found =
+                sagaStore.findSagas(StubSaga.class, Arrays.asList(first, second, unknown));
+
+        assertEquals(Collections.singleton("1"), found.get(first));
+        assertEquals(Collections.singleton("2"), found.get(second));
+        assertTrue(found.get(unknown).isEmpty());
+    }
+
+    @Test
+    void loadSagasLoadsMultipleSagasWithTheirAssociations() {
+        AssociationValue first = new AssociationValue("key", "first");
+        AssociationValue second = new AssociationValue("key", "second");
+        sagaStore.insertSaga(StubSaga.class, "1", new StubSaga(), new HashSet<>(Arrays.asList(first, second)));
+        sagaStore.insertSaga(StubSaga.class, "2", new StubSaga(), Collections.singleton(second));
+        entityManager.flush();
+        entityManager.clear();
+
+        Map<String, SagaStore.Entry<StubSaga>> found =
+                sagaStore.loadSagas(StubSaga.class, Arrays.asList("1", "2", "unknown"));
+
+        assertEquals(new HashSet<>(Arrays.asList("1", "2")), found.keySet());
+        assertEquals(new HashSet<>(Arrays.asList(first, second)), found.get("1").associationValues());
+        assertEquals(Collections.singleton(second), found.get("2").associationValues());
+        assertNotNull(found.get("2").saga());
+    }
+
+    @Test
+    void findSagaIdentifiersReturnsPagesOrderedByIdentifier() {
+        for (String sagaIdentifier : Arrays.asList("c", "a", "b")) {
+            sagaStore.insertSaga(StubSaga.class, sagaIdentifier, new StubSaga(), Collections.emptySet());
+        }
+        entityManager.flush();
+
+        assertEquals(Arrays.asList("a", "b"), sagaStore.findSagaIdentifiers(StubSaga.class, null, 2));
+        assertEquals(Collections.singletonList("c"), sagaStore.findSagaIdentifiers(StubSaga.class, "b", 2));
+    }
 }
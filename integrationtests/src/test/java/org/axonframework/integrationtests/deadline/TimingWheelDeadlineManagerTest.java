@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2010-2024. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.integrationtests.deadline;
+
+import org.axonframework.config.Configuration;
+import org.axonframework.config.ConfigurationScopeAwareProvider;
+import org.axonframework.deadline.DeadlineManager;
+import org.axonframework.deadline.DeadlineManagerSpanFactory;
+import org.axonframework.deadline.TimingWheelDeadlineManager;
+
+import java.time.Duration;
+
+class TimingWheelDeadlineManagerTest extends AbstractDeadlineManagerTestSuite {
+
+    @Override
+    public DeadlineManager buildDeadlineManager(Configuration configuration) {
+        return TimingWheelDeadlineManager.builder()
+                                         .scopeAwareProvider(new ConfigurationScopeAwareProvider(configuration))
+                                         .spanFactory(configuration.getComponent(DeadlineManagerSpanFactory.class))
+                                         .tickDuration(Duration.ofMillis(5))
+                                         .build();
+    }
+}
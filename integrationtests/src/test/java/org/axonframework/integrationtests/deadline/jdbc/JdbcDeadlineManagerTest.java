@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2010-2024. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.integrationtests.deadline.jdbc;
+
+import org.axonframework.config.Configuration;
+import org.axonframework.config.ConfigurationScopeAwareProvider;
+import org.axonframework.deadline.DeadlineManager;
+import org.axonframework.deadline.DeadlineManagerSpanFactory;
+import org.axonframework.deadline.jdbc.DeadlineSchema;
+import org.axonframework.deadline.jdbc.GenericDeadlineTableFactory;
+import org.axonframework.deadline.jdbc.JdbcDeadlineManager;
+import org.axonframework.integrationtests.deadline.AbstractDeadlineManagerTestSuite;
+import org.axonframework.serialization.TestSerializer;
+import org.hsqldb.jdbc.JDBCDataSource;
+import org.axonframework.modelling.saga.SagaScopeDescriptor;
+import org.junit.jupiter.api.BeforeEach;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+class JdbcDeadlineManagerTest extends AbstractDeadlineManagerTestSuite {
+
+    private static final int WARM_UP_ROUNDS = 250;
+
+    private static boolean warmedUp = false;
+
+    @BeforeEach
+    void buildDeadlineManagerUpFront() {
+        // recreating the deadline table while handling the first event would delay it beyond the deadline timeout
+        configuration.getComponent(DeadlineManager.class);
+    }
+
+    @Override
+    public DeadlineManager buildDeadlineManager(Configuration configuration) {
+        JDBCDataSource dataSource = new JDBCDataSource();
+        dataSource.setUrl("jdbc:hsqldb:mem:testdb");
+        dataSource.setUser("sa");
+        dataSource.setPassword("");
+        dropTable(dataSource);
+
+        JdbcDeadlineManager deadlineManager =
+                JdbcDeadlineManager.builder()
+                                   .scopeAwareProvider(new ConfigurationScopeAwareProvider(configuration))
+                                   .connectionProvider(dataSource::getConnection)
+                                   .serializer(TestSerializer.JACKSON.getSerializer())
+                                   .spanFactory(configuration.getComponent(DeadlineManagerSpanFactory.class))
+                                   .pollInterval(Duration.ofMillis(10))
+                                   // HSQLDB does not support SKIP LOCKED
+                                   .skipLockedRows(false)
+                                   .build();
+        deadlineManager.createSchema(GenericDeadlineTableFactory.INSTANCE);
+        warmUp(deadlineManager);
+        return deadlineManager;
+    }
+
+    /**
+     * The test suite expects several deadlines to be scheduled within a single deadline timeout. A cold JVM needs
+     * considerably longer than that to serialize and insert the first deadlines, hence the warm-up on the first run.
+     */
+    private static void warmUp(JdbcDeadlineManager deadlineManager) {
+        if (warmedUp) {
+            return;
+        }
+        SagaScopeDescriptor warmUpScope = new SagaScopeDescriptor("warmUp", "warmUp");
+        for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+            deadlineManager.schedule(Duration.ofMinutes(1), "warmUp", "warmUp", warmUpScope);
+            deadlineManager.cancelAllWithinScope("warmUp", warmUpScope);
+        }
+        warmedUp = true;
+    }
+
+    private static void dropTable(JDBCDataSource dataSource) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.executeUpdate("DROP TABLE IF EXISTS " + DeadlineSchema.defaultSchema().deadlineTable());
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to drop the deadline table", e);
+        }
+    }
+}
@@ -482,6 +482,19 @@ void tokenIsStoredWhenEventIsRead() throws Exception {
         assertNotNull(tokenStore.fetchToken(testSubject.getName(), 0));
     }
 
+    @Test
+    void segmentClaimedIsInvokedOnInvokerBeforeEventsAreHandled() throws Exception {
+        doThrow(new MockException("Simulated failure")).when(eventHandlerInvoker).segmentClaimed(any());
+        eventBus.publish(createEvent());
+        testSubject.start();
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(
+                () -> verify(mockHandler).handle(any())
+        );
+        InOrder inOrder = inOrder(eventHandlerInvoker);
+        inOrder.verify(eventHandlerInvoker).segmentClaimed(Segment.ROOT_SEGMENT);
+        inOrder.verify(eventHandlerInvoker).handle(any(), eq(Segment.ROOT_SEGMENT));
+    }
+
     @Test
     void segmentReleasedIsInvokedOnInvokerWhenSegmentIsReleased() {
         eventBus.publish(createEvent());
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2010-2024. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.commandhandling;
+
+import org.axonframework.messaging.MessageHandler;
+
+import java.util.List;
+import javax.annotation.Nonnull;
+
+/**
+ * A {@link MessageHandler} for {@link CommandMessage CommandMessages} which is able to prepare for handling a batch of
+ * commands, for example by prefetching the state these commands operate on in a single round trip.
+ * <p>
+ * Command buses dispatching a batch through {@link CommandBus#dispatchAll(List, CommandCallback)} may invoke
+ * {@link #prepareBatch(List)} with the commands of the batch routed to this handler, before any of them is handled.
+ * Preparing a batch is an optimization only. Each command is still handled through {@link #handle(Object)}, and
+ * failures to prepare a batch do not affect the handling of its commands.
+ *
+ * @since 4.11.0
+ */
+public interface BatchPreparingCommandHandler extends MessageHandler<CommandMessage<?>> {
+
+    /**
+     * Prepares for handling the given {@code commands}, which are about to be handled by this handler. Invoked outside
+     * of the Unit of Work of any of the given commands.
+     *
+     * @param commands the commands of a batch that are about to be handled by this handler
+     */
+    void prepareBatch(@Nonnull List<? extends CommandMessage<?>> commands);
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2022. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,6 +21,7 @@
 import org.axonframework.messaging.MessageHandler;
 import org.axonframework.messaging.MessageHandlerInterceptorSupport;
 
+import java.util.List;
 import javax.annotation.Nonnull;
 
 /**
@@ -66,6 +67,30 @@ public interface CommandBus extends MessageHandlerInterceptorSupport<CommandMess
      */
     <C, R> void dispatch(@Nonnull CommandMessage<C> command, @Nonnull CommandCallback<? super C, ? super R> callback);
 
+    /**
+     * Dispatch the given batch of {@code commands} to the CommandHandlers subscribed to their names. The given
+     * {@code callback} is invoked once for every command in the batch, with the command message <em>as given in the
+     * list</em>, regardless of any changes made by dispatch interceptors. This allows callers to correlate the results
+     * with their commands by identity, which is why every command message instance should only occur once in the
+     * batch.
+     * <p/>
+     * Implementations may optimize dispatching of batches, for example by invoking dispatch interceptors once for the
+     * complete batch, and by sending the commands targeting the same destination together. Commands in the batch are
+     * otherwise treated as if they were dispatched separately; they are handled in separate Units of Work and the
+     * failure of one command does not affect the others. By default, every command is
+     * {@link #dispatch(CommandMessage, CommandCallback) dispatched} separately.
+     *
+     * @param commands The Commands to dispatch
+     * @param callback The callback to invoke for every command when its processing is complete
+     * @since 4.11.0
+     */
+    default void dispatchAll(@Nonnull List<? extends CommandMessage<?>> commands,
+                             @Nonnull CommandCallback<Object, Object> callback) {
+        for (CommandMessage<?> command : commands) {
+            dispatch(command, (CommandCallback<Object, Object>) (c, result) -> callback.onResult(command, result));
+        }
+    }
+
     /**
      * Subscribe the given {@code handler} to commands with the given {@code commandName}.
      * <p/>
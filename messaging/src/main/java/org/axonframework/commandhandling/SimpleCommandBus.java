@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2023. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -36,10 +36,15 @@
 import org.axonframework.tracing.NoOpSpanFactory;
 import org.axonframework.tracing.Span;
 import org.axonframework.tracing.SpanFactory;
+import org.axonframework.tracing.SpanScope;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -132,6 +137,74 @@ public <C, R> void dispatch(@Nonnull CommandMessage<C> command,
         });
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The dispatch interceptors are invoked once for the complete batch, while the dispatch span of every command is
+     * active. A command that fails to be intercepted is reported to the {@code callback} with that failure, without
+     * affecting the other commands. Subscribed handlers implementing {@link BatchPreparingCommandHandler} are then asked
+     * to prepare for the commands routed to them, when that is more than a single command. Every command is handled in
+     * its own Unit of Work.
+     */
+    @Override
+    public void dispatchAll(@Nonnull List<? extends CommandMessage<?>> commands,
+                            @Nonnull CommandCallback<Object, Object> callback) {
+        List<Span> spans = new ArrayList<>(commands.size());
+        commands.forEach(command -> spans.add(spanFactory.createDispatchCommandSpan(command, false).start()));
+        List<CommandMessage<?>> interceptedCommands = MessageDispatchInterceptor.interceptAll(
+                dispatchInterceptors, commands, (index, failure) -> {
+                    spans.get(index).recordException(failure).end();
+                    callback.onResult(commands.get(index), asCommandResultMessage(failure));
+                }
+        );
+        List<CommandMessage<?>> commandsToDispatch = new ArrayList<>(interceptedCommands);
+        commandsToDispatch.removeIf(Objects::isNull);
+        prepareBatch(commandsToDispatch);
+        for (int i = 0; i < commands.size(); i++) {
+            CommandMessage<?> command = commands.get(i);
+            CommandMessage<?> interceptedCommand = interceptedCommands.get(i);
+            if (interceptedCommand == null) {
+                continue;
+            }
+            Span span = spans.get(i);
+            try (SpanScope unused = span.makeCurrent()) {
+                doDispatch(interceptedCommand, (CommandCallback<Object, Object>) (c, result) -> {
+                    if (result.isExceptional()) {
+                        span.recordException(result.exceptionResult());
+                    }
+                    callback.onResult(command, result);
+                });
+            } catch (Exception e) {
+                span.recordException(e);
+                throw e;
+            } finally {
+                span.end();
+            }
+        }
+    }
+
+    private void prepareBatch(List<CommandMessage<?>> commands) {
+        Map<BatchPreparingCommandHandler, List<CommandMessage<?>>> commandsPerHandler = new LinkedHashMap<>();
+        for (CommandMessage<?> command : commands) {
+            findCommandHandlerFor(command)
+                    .filter(BatchPreparingCommandHandler.class::isInstance)
+                    .map(BatchPreparingCommandHandler.class::cast)
+                    .ifPresent(handler -> commandsPerHandler.computeIfAbsent(handler, h -> new ArrayList<>())
+                                                            .add(command));
+        }
+        commandsPerHandler.forEach((handler, handlerCommands) -> {
+            if (handlerCommands.size() < 2) {
+                return;
+            }
+            try {
+                handler.prepareBatch(handlerCommands);
+            } catch (Exception e) {
+                logger.info("Preparing a batch of {} commands failed. Handling them without preparation.",
+                            handlerCommands.size(), e);
+            }
+        });
+    }
+
     /**
      * Invokes all the dispatch interceptors.
      *
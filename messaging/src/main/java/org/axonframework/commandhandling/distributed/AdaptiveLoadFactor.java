@@ -0,0 +1,346 @@
+/*
+ * Copyright (c) 2010-2024. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.axonframework.commandhandling.distributed;
+
+import org.axonframework.common.AxonConfigurationException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nonnull;
+
+import static org.axonframework.common.BuilderUtils.assertNonNull;
+import static org.axonframework.common.BuilderUtils.assertStrictPositive;
+import static org.axonframework.common.BuilderUtils.assertThat;
+
+/**
+ * Adjusts the load factor of a node of a {@link DistributedCommandBus} to its live command handling load. The number
+ * of in-flight commands and the 99th percentile of the handling latency are measured on the node. Whenever either
+ * exceeds its configured threshold, the load factor is reduced proportionally, so that other nodes take over a share
+ * of its routing keys. Once the load decreases, the load factor is restored.
+ * <p>
+ * To prevent routing keys, and thereby aggregates, from bouncing between nodes, changes are subject to hysteresis: the
+ * load is evaluated at most once every {@link Builder#evaluationInterval(Duration) evaluation interval}, and the load
+ * factor only changes when the newly calculated ratio differs more than the
+ * {@link Builder#hysteresis(double) hysteresis} from the current one. The load factor never drops below the
+ * {@link Builder#minimumRatio(double) minimum ratio} of the configured load factor, which guarantees the node keeps
+ * receiving commands to measure its recovery with.
+ * <p>
+ * Provide an instance to {@link DistributedCommandBus.Builder#adaptiveLoadFactor(AdaptiveLoadFactor)} to enable load
+ * aware routing. Every instance should be used by a single {@link DistributedCommandBus} only.
+ *
+ * @since 4.11.0
+ */
+public class AdaptiveLoadFactor {
+
+    private final Duration latencyThreshold;
+    private final int inFlightThreshold;
+    private final double minimumRatio;
+    private final double hysteresis;
+    private final Duration evaluationInterval;
+    private final Clock clock;
+
+    private final AtomicInteger inFlightCommands = new AtomicInteger();
+    private final long[] latencySamples;
+    private int sampleCount;
+    private long observedCount;
+    private Instant lastEvaluation;
+    private volatile double ratio = 1.0;
+    private volatile LoadSignal lastSignal = LoadSignal.idle();
+
+    /**
+     * Instantiate a Builder to be able to create an {@link AdaptiveLoadFactor}.
+     * <p>
+     * The p99 latency threshold defaults to one second and the in-flight threshold is disabled by default. The minimum
+     * ratio defaults to {@code 0.1}, the hysteresis to {@code 0.2} and the evaluation interval to five seconds. At most
+     * {@code 1000} latency samples are kept per evaluation interval, and the {@link Clock} defaults to the
+     * {@link Clock#systemUTC() system clock}.
+     *
+     * @return a Builder to be able to create an {@link AdaptiveLoadFactor}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Instantiate an {@link AdaptiveLoadFactor} based on the fields contained in the {@link Builder}.
+     *
+     * @param builder the {@link Builder} used to instantiate an {@link AdaptiveLoadFactor} instance
+     */
+    protected AdaptiveLoadFactor(Builder builder) {
+        builder.validate();
+        this.latencyThreshold = builder.latencyThreshold;
+        this.inFlightThreshold = builder.inFlightThreshold;
+        this.minimumRatio = builder.minimumRatio;
+        this.hysteresis = builder.hysteresis;
+        this.evaluationInterval = builder.evaluationInterval;
+        this.clock = builder.clock;
+        this.latencySamples = new long[builder.maxSamples];
+        this.lastEvaluation = clock.instant();
+    }
+
+    /**
+     * Registers the start of handling a command.
+     *
+     * @return the moment handling started, to be passed to {@link #commandCompleted(Instant)}
+     */
+    public Instant commandStarted() {
+        inFlightCommands.incrementAndGet();
+        return clock.instant();
+    }
+
+    /**
+     * Registers the completion of handling a command, which started at the given {@code start}.
+     *
+     * @param start the moment handling started, as returned by {@link #commandStarted()}
+     */
+    public void commandCompleted(@Nonnull Instant start) {
+        inFlightCommands.decrementAndGet();
+        long latency = Duration.between(start, clock.instant()).toNanos();
+        synchronized (latencySamples) {
+            observedCount++;
+            if (sampleCount < latencySamples.length) {
+                latencySamples[sampleCount++] = latency;
+            } else {
+                // reservoir sampling keeps a uniform sample of all latencies observed during the interval
+                long index = ThreadLocalRandom.current().nextLong(observedCount);
+                if (index < latencySamples.length) {
+                    latencySamples[(int) index] = latency;
+                }
+            }
+        }
+    }
+
+    /**
+     * Evaluates the load measured since the previous evaluation, if the evaluation interval has passed. Returns
+     * {@code true} when the evaluation changed the ratio of the load factor, in which case the adjusted load factor
+     * should be published to the other nodes.
+     *
+     * @return {@code true} if the ratio of the load factor changed, otherwise {@code false}
+     */
+    public boolean evaluate() {
+        Instant now = clock.instant();
+        long[] samples;
+        synchronized (latencySamples) {
+            if (now.isBefore(lastEvaluation.plus(evaluationInterval))) {
+                return false;
+            }
+            lastEvaluation = now;
+            samples = Arrays.copyOf(latencySamples, sampleCount);
+            sampleCount = 0;
+            observedCount = 0;
+        }
+        LoadSignal signal = new LoadSignal(inFlightCommands.get(), Duration.ofNanos(percentile99(samples)));
+        lastSignal = signal;
+
+        double pressure = (double) signal.p99Latency().toNanos() / latencyThreshold.toNanos();
+        if (inFlightThreshold > 0) {
+            pressure = Math.max(pressure, (double) signal.inFlightCommands() / inFlightThreshold);
+        }
+        double current = ratio;
+        double reducedRatio = boundedRatio(1.0 / pressure);
+        if (reducedRatio < current * (1 - hysteresis)) {
+            ratio = reducedRatio;
+            return true;
+        }
+        // only recover as far as the load stays clear of the thresholds by the hysteresis margin
+        double recoveredRatio = boundedRatio((1 - hysteresis) / pressure);
+        if (recoveredRatio > current * (1 + hysteresis) || (recoveredRatio == 1.0 && current < 1.0)) {
+            ratio = recoveredRatio;
+            return true;
+        }
+        return false;
+    }
+
+    private double boundedRatio(double ratio) {
+        return Math.max(minimumRatio, Math.min(1.0, ratio));
+    }
+
+    private static long percentile99(long[] samples) {
+        if (samples.length == 0) {
+            return 0;
+        }
+        Arrays.sort(samples);
+        return samples[(int) Math.ceil(samples.length * 0.99) - 1];
+    }
+
+    /**
+     * Returns the given {@code loadFactor} adjusted to the load measured during the latest evaluations. A positive
+     * {@code loadFactor} is never adjusted below {@code 1}.
+     *
+     * @param loadFactor the configured load factor of the node
+     * @return the load factor adjusted to the measured load
+     */
+    public int adjust(int loadFactor) {
+        if (loadFactor <= 0) {
+            return loadFactor;
+        }
+        return Math.max(1, (int) Math.round(loadFactor * ratio));
+    }
+
+    /**
+     * Returns the ratio by which the load factor is currently adjusted, between the minimum ratio and {@code 1}.
+     *
+     * @return the ratio by which the load factor is currently adjusted
+     */
+    public double ratio() {
+        return ratio;
+    }
+
+    /**
+     * Returns the load measured during the latest evaluation.
+     *
+     * @return the load measured during the latest evaluation
+     */
+    public LoadSignal currentLoad() {
+        return lastSignal;
+    }
+
+    /**
+     * Builder class to instantiate an {@link AdaptiveLoadFactor}.
+     * <p>
+     * The p99 latency threshold defaults to one second and the in-flight threshold is disabled by default. The minimum
+     * ratio defaults to {@code 0.1}, the hysteresis to {@code 0.2} and the evaluation interval to five seconds. At most
+     * {@code 1000} latency samples are kept per evaluation interval, and the {@link Clock} defaults to the
+     * {@link Clock#systemUTC() system clock}.
+     */
+    public static class Builder {
+
+        private Duration latencyThreshold = Duration.ofSeconds(1);
+        private int inFlightThreshold = 0;
+        private double minimumRatio = 0.1;
+        private double hysteresis = 0.2;
+        private Duration evaluationInterval = Duration.ofSeconds(5);
+        private int maxSamples = 1000;
+        private Clock clock = Clock.systemUTC();
+
+        /**
+         * Sets the 99th percentile of the command handling latency above which the load factor is reduced. The load
+         * factor is reduced proportionally to the factor by which the threshold is exceeded. Defaults to one second.
+         *
+         * @param latencyThreshold the p99 latency above which the load factor is reduced
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder p99LatencyThreshold(@Nonnull Duration latencyThreshold) {
+            assertThat(latencyThreshold, t -> t != null && !t.isNegative() && !t.isZero(),
+                       "The p99 latency threshold should be a positive duration");
+            this.latencyThreshold = latencyThreshold;
+            return this;
+        }
+
+        /**
+         * Sets the number of in-flight commands above which the load factor is reduced. The load factor is reduced
+         * proportionally to the factor by which the threshold is exceeded. Disabled by default.
+         *
+         * @param inFlightThreshold the number of in-flight commands above which the load factor is reduced
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder inFlightThreshold(int inFlightThreshold) {
+            assertStrictPositive(inFlightThreshold, "The in-flight threshold should be strictly positive");
+            this.inFlightThreshold = inFlightThreshold;
+            return this;
+        }
+
+        /**
+         * Sets the minimum ratio of the configured load factor the load factor may be reduced to. Defaults to
+         * {@code 0.1}.
+         *
+         * @param minimumRatio the minimum ratio of the configured load factor, in the interval (0, 1]
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder minimumRatio(double minimumRatio) {
+            assertThat(minimumRatio, r -> r > 0 && r <= 1, "The minimum ratio should be in the interval (0, 1]");
+            this.minimumRatio = minimumRatio;
+            return this;
+        }
+
+        /**
+         * Sets the relative change of the ratio required before the load factor is adjusted. Defaults to {@code 0.2},
+         * meaning the load factor only changes when the newly calculated ratio differs more than 20% from the current
+         * one. When recovering, the load factor is only increased as far as the load stays below the thresholds by the
+         * same margin, and is only fully restored once the load drops below 80% of the thresholds.
+         *
+         * @param hysteresis the relative change of the ratio required before the load factor is adjusted
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder hysteresis(double hysteresis) {
+            assertThat(hysteresis, h -> h >= 0 && h < 1, "The hysteresis should be in the interval [0, 1)");
+            this.hysteresis = hysteresis;
+            return this;
+        }
+
+        /**
+         * Sets the minimum interval between two evaluations of the load. Defaults to five seconds.
+         *
+         * @param evaluationInterval the minimum interval between two evaluations of the load
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder evaluationInterval(@Nonnull Duration evaluationInterval) {
+            assertThat(evaluationInterval, i -> i != null && !i.isNegative(),
+                       "The evaluation interval should be a non-negative duration");
+            this.evaluationInterval = evaluationInterval;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of latency samples kept per evaluation interval. When more commands are handled, a
+         * uniform random sample of the latencies is kept. Defaults to {@code 1000}.
+         *
+         * @param maxSamples the maximum number of latency samples kept per evaluation interval
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder maxSamples(int maxSamples) {
+            assertStrictPositive(maxSamples, "The maximum number of samples should be strictly positive");
+            this.maxSamples = maxSamples;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Clock} used to measure latencies and evaluation intervals. Defaults to the
+         * {@link Clock#systemUTC() system clock}.
+         *
+         * @param clock the {@link Clock} used to measure latencies and evaluation intervals
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder clock(@Nonnull Clock clock) {
+            assertNonNull(clock, "Clock may not be null");
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * Initializes an {@link AdaptiveLoadFactor} as specified through this Builder.
+         *
+         * @return an {@link AdaptiveLoadFactor} as specified through this Builder
+         */
+        public AdaptiveLoadFactor build() {
+            return new AdaptiveLoadFactor(this);
+        }
+
+        /**
+         * Validate whether the fields contained in this Builder are set accordingly.
+         *
+         * @throws AxonConfigurationException if one field is asserted to be incorrect according to the Builder's
+         *                                    specifications
+         */
+        protected void validate() {
+            // Nothing to validate, as all fields are validated when they are set
+        }
+    }
+}
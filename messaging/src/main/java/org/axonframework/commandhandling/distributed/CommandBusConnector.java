@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2022. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -25,10 +25,13 @@
 import org.axonframework.messaging.MessageHandlerInterceptorSupport;
 import org.axonframework.messaging.RemoteHandlingException;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import javax.annotation.Nonnull;
 
+import static org.axonframework.commandhandling.GenericCommandResultMessage.asCommandResultMessage;
+
 /**
  * Interface describing the component that remotely connects multiple CommandBus instances.
  *
@@ -79,6 +82,46 @@ <C, R> void send(@Nonnull Member destination, @Nonnull CommandMessage<C> command
                      @Nonnull CommandCallback<? super C, R> callback)
             throws Exception;
 
+    /**
+     * Sends the given batch of {@code commands} to the given {@code destination}. The sender expects a reply for every
+     * command, reported to the callback at the same index in the given {@code callbacks}. A command may occur more than
+     * once in a batch, in which case every occurrence is sent and reported separately.
+     * <p/>
+     * Implementations may send the commands in fewer network frames than sending them one by one. If this method throws
+     * an exception, the sender is guaranteed that the destination did not receive any of the commands. Failures
+     * concerning individual commands should be reported through the {@code callback} instead.
+     * <p/>
+     * By default, every command is {@link #send(Member, CommandMessage, CommandCallback) sent} separately. Failures to
+     * send a command are reported to its callback as a {@link CommandDispatchException}, and mark the
+     * {@code destination} as {@link Member#suspect() suspect}.
+     *
+     * @param destination The member of the network to send the messages to
+     * @param commands    The commands to send to the (remote) member
+     * @param callbacks   The callbacks to notify of the result of the command at the same index
+     * @throws Exception when an error occurs before any of the messages is sent
+     * @since 4.11.0
+     */
+    default void sendAll(@Nonnull Member destination,
+                         @Nonnull List<? extends CommandMessage<?>> commands,
+                         @Nonnull List<? extends CommandCallback<Object, Object>> callbacks) throws Exception {
+        boolean suspected = false;
+        for (int i = 0; i < commands.size(); i++) {
+            CommandMessage<?> command = commands.get(i);
+            CommandCallback<Object, Object> callback = callbacks.get(i);
+            try {
+                send(destination, command, callback);
+            } catch (Exception e) {
+                if (!suspected) {
+                    destination.suspect();
+                    suspected = true;
+                }
+                callback.onResult(command, asCommandResultMessage(
+                        new CommandDispatchException("An error occurred while sending a command: " + e.getMessage(), e)
+                ));
+            }
+        }
+    }
+
     /**
      * Subscribes a command message handler for commands with given {@code commandName}.
      *
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2018. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -43,4 +43,22 @@ public interface CommandRouter {
      * @param commandFilter the new capabilities of the member for this endpoint
      */
     void updateMembership(int loadFactor, CommandMessageFilter commandFilter);
+
+    /**
+     * Updates the load factor and capabilities of this member representing the current endpoint, along with the
+     * {@link LoadSignal} describing the live load of the current endpoint. This method is used instead of
+     * {@link #updateMembership(int, CommandMessageFilter)} when the load factor of the current endpoint is adjusted
+     * by an {@link AdaptiveLoadFactor}.
+     * <p>
+     * Implementations capable of sharing additional membership information may publish the given {@code loadSignal}
+     * to the other members. By default, the signal is ignored and the load factor and capabilities are updated through
+     * {@link #updateMembership(int, CommandMessageFilter)}.
+     *
+     * @param loadFactor    the new load factor of the member for this endpoint
+     * @param commandFilter the new capabilities of the member for this endpoint
+     * @param loadSignal    the live load of the member for this endpoint
+     */
+    default void updateMembership(int loadFactor, CommandMessageFilter commandFilter, LoadSignal loadSignal) {
+        updateMembership(loadFactor, commandFilter);
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2018. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -32,10 +32,15 @@
  * <p>
  * A ConsistentHash is used to route commands targeting the same aggregate to the same member. In that case the
  * aggregate identifier is the routing key.
+ * <p>
+ * The actual mapping of routing keys to members is delegated to a {@link RoutingTable}. By default, the
+ * {@link Md5RoutingTable} is used. Faster implementations, like the {@link SortedArrayRoutingTable} and
+ * {@link RendezvousRoutingTable}, can be provided using {@link #ConsistentHash(RoutingTable)}. Note that all members of
+ * a cluster should use the same type of routing table.
  */
 public class ConsistentHash {
 
-    private final SortedMap<String, ConsistentHashMember> hashToMember;
+    private final RoutingTable routingTable;
     private final int modCount;
     private final Function<String, String> hashFunction;
     private final Map<String, ConsistentHashMember> members;
@@ -64,19 +69,34 @@ public ConsistentHash() {
      * @param hashFunction The hash function to use to calculate each member's positions on the ring
      */
     public ConsistentHash(Function<String, String> hashFunction) {
-        hashToMember = Collections.emptySortedMap();
-        members = Collections.emptyMap();
-        modCount = 0;
+        this(new Md5RoutingTable(), hashFunction);
+    }
+
+    /**
+     * Initializes a new {@link ConsistentHash} using the given {@code routingTable} to map routing keys to members. The
+     * given {@code routingTable} is expected to be empty. To register members use
+     * {@link #with(Member, int, CommandMessageFilter)}.
+     *
+     * @param routingTable The empty routing table used to map routing keys to members
+     */
+    public ConsistentHash(RoutingTable routingTable) {
+        this(routingTable, ConsistentHash::hash);
+    }
+
+    private ConsistentHash(RoutingTable routingTable, Function<String, String> hashFunction) {
+        Assert.notNull(routingTable, () -> "RoutingTable may not be null");
+        this.routingTable = routingTable;
+        this.members = Collections.emptyMap();
+        this.modCount = 0;
         this.hashFunction = hashFunction;
     }
 
-    private ConsistentHash(Map<String, ConsistentHashMember> members,
+    private ConsistentHash(Map<String, ConsistentHashMember> members, RoutingTable routingTable,
                            Function<String, String> hashFunction, int modCount) {
         this.hashFunction = hashFunction;
         this.modCount = modCount;
-        this.hashToMember = new TreeMap<>();
+        this.routingTable = routingTable;
         this.members = members;
-        members.values().forEach(m -> m.hashes().forEach(h -> hashToMember.put(h, m)));
     }
 
     /**
@@ -88,12 +108,7 @@ private ConsistentHash(Map<String, ConsistentHashMember> members,
      * @return A collection containing each of the nodes, in the order they would be considered
      */
     public Collection<ConsistentHashMember> getEligibleMembers(String routingKey) {
-        String hash = hash(routingKey);
-        Collection<ConsistentHashMember> tail = hashToMember.tailMap(hash).values();
-        Collection<ConsistentHashMember> head = hashToMember.headMap(hash).values();
-        LinkedHashSet<ConsistentHashMember> combined = new LinkedHashSet<>(tail);
-        combined.addAll(head);
-        return combined;
+        return routingTable.getEligibleMembers(routingKey);
     }
 
     /**
@@ -105,20 +120,7 @@ public Collection<ConsistentHashMember> getEligibleMembers(String routingKey) {
      * @return the member that should handle the message or an empty Optional if no suitable member was found
      */
     public Optional<Member> getMember(String routingKey, CommandMessage<?> commandMessage) {
-        String hash = hash(routingKey);
-        Optional<Member> foundMember = findSuitableMember(commandMessage, hashToMember.tailMap(hash).values());
-        if (!foundMember.isPresent()) {
-            foundMember = findSuitableMember(commandMessage, hashToMember.headMap(hash).values());
-        }
-        return foundMember;
-    }
-
-    private Optional<Member> findSuitableMember(CommandMessage<?> commandMessage,
-                                                Collection<ConsistentHashMember> members) {
-        return members.stream()
-                .filter(member -> member.commandFilter.matches(commandMessage))
-                .map(Member.class::cast)
-                .findAny();
+        return routingTable.getMember(routingKey, commandMessage).map(Member.class::cast);
     }
 
     /**
@@ -153,7 +155,7 @@ public ConsistentHash with(Member member, int loadFactor, CommandMessageFilter c
         Map<String, ConsistentHashMember> newMembers = new TreeMap<>(members);
         newMembers.put(member.name(), newMember);
 
-        return new ConsistentHash(newMembers, hashFunction, modCount + 1);
+        return new ConsistentHash(newMembers, routingTable.with(newMember), hashFunction, modCount + 1);
     }
 
     /**
@@ -170,7 +172,7 @@ public ConsistentHash without(Member member) {
 
         Map<String, ConsistentHashMember> newMembers = new TreeMap<>(members);
         newMembers.remove(member.name());
-        return new ConsistentHash(newMembers, hashFunction, modCount + 1);
+        return new ConsistentHash(newMembers, routingTable.without(member.name()), hashFunction, modCount + 1);
     }
 
     @Override
@@ -182,12 +184,12 @@ public boolean equals(Object o) {
             return false;
         }
         ConsistentHash that = (ConsistentHash) o;
-        return Objects.equals(hashToMember, that.hashToMember);
+        return Objects.equals(routingTable, that.routingTable);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(hashToMember);
+        return Objects.hash(routingTable);
     }
 
     @Override
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2023. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -28,13 +28,16 @@
 import org.axonframework.commandhandling.distributed.commandfilter.DenyAll;
 import org.axonframework.commandhandling.distributed.commandfilter.DenyCommandNameFilter;
 import org.axonframework.common.AxonConfigurationException;
+import org.axonframework.common.AxonThreadFactory;
 import org.axonframework.common.Registration;
 import org.axonframework.lifecycle.Lifecycle;
 import org.axonframework.lifecycle.Phase;
 import org.axonframework.messaging.Distributed;
+import org.axonframework.messaging.InterceptorChain;
 import org.axonframework.messaging.MessageDispatchInterceptor;
 import org.axonframework.messaging.MessageHandler;
 import org.axonframework.messaging.MessageHandlerInterceptor;
+import org.axonframework.messaging.unitofwork.UnitOfWork;
 import org.axonframework.monitoring.MessageMonitor;
 import org.axonframework.monitoring.NoOpMessageMonitor;
 import org.axonframework.tracing.NoOpSpanFactory;
@@ -45,10 +48,21 @@
 import org.slf4j.LoggerFactory;
 
 import java.lang.invoke.MethodHandles;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import javax.annotation.Nonnull;
 
@@ -86,6 +100,11 @@ public class DistributedCommandBus implements CommandBus, Distributed<CommandBus
     private final AtomicReference<CommandMessageFilter> commandFilter = new AtomicReference<>(DenyAll.INSTANCE);
     private final CommandCallback<Object, Object> defaultCommandCallback;
     private final CommandBusSpanFactory spanFactory;
+    private final AdaptiveLoadFactor adaptiveLoadFactor;
+    private final Executor loadUpdateExecutor;
+    private final ExecutorService ownedLoadUpdateExecutor;
+    private final AtomicBoolean loadUpdatePending = new AtomicBoolean();
+    private final Registration loadMeasurementRegistration;
 
     private volatile int loadFactor = INITIAL_LOAD_FACTOR;
 
@@ -118,13 +137,74 @@ protected DistributedCommandBus(Builder builder) {
         this.messageMonitor = builder.messageMonitor;
         this.defaultCommandCallback = builder.defaultCommandCallback;
         this.spanFactory = builder.spanFactory;
+        this.adaptiveLoadFactor = builder.adaptiveLoadFactor;
+        if (adaptiveLoadFactor == null) {
+            this.ownedLoadUpdateExecutor = null;
+            this.loadUpdateExecutor = null;
+            this.loadMeasurementRegistration = null;
+        } else {
+            this.ownedLoadUpdateExecutor = builder.loadUpdateExecutor == null ? createLoadUpdateExecutor() : null;
+            this.loadUpdateExecutor = builder.loadUpdateExecutor == null
+                    ? ownedLoadUpdateExecutor
+                    : builder.loadUpdateExecutor;
+            this.loadMeasurementRegistration = connector.registerHandlerInterceptor(this::measureLoad);
+        }
+    }
+
+    private static ExecutorService createLoadUpdateExecutor() {
+        // a single thread, which stops when idle, as pending load updates are coalesced into one task
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                1, 1, 1, TimeUnit.MINUTES, new LinkedBlockingQueue<>(), new AxonThreadFactory("LoadUpdates")
+        );
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private Object measureLoad(UnitOfWork<? extends CommandMessage<?>> unitOfWork,
+                               InterceptorChain interceptorChain) throws Exception {
+        Instant start = adaptiveLoadFactor.commandStarted();
+        try {
+            return interceptorChain.proceed();
+        } finally {
+            adaptiveLoadFactor.commandCompleted(start);
+            if (adaptiveLoadFactor.evaluate()) {
+                logger.debug("Load of this node changed to [{}]. Adjusting load factor to [{}].",
+                             adaptiveLoadFactor.currentLoad(), getEffectiveLoadFactor());
+                scheduleLoadUpdate();
+            }
+        }
+    }
+
+    private void scheduleLoadUpdate() {
+        if (!loadUpdatePending.compareAndSet(false, true)) {
+            // the pending update publishes the latest load, as it is only read once the update runs
+            return;
+        }
+        try {
+            loadUpdateExecutor.execute(() -> {
+                loadUpdatePending.set(false);
+                updateMembership(commandFilter.get());
+            });
+        } catch (RejectedExecutionException e) {
+            loadUpdatePending.set(false);
+            logger.debug("Load update of this node was rejected, as the DistributedCommandBus is shutting down.");
+        }
     }
 
     /**
      * Disconnect the command bus for receiving new commands, by unsubscribing all registered command handlers. This
      * shutdown operation is performed in the {@link Phase#INBOUND_COMMAND_CONNECTOR} phase.
+     * <p>
+     * When an {@link AdaptiveLoadFactor} is configured, the load of this node is no longer measured or published after
+     * disconnecting.
      */
     public void disconnect() {
+        if (loadMeasurementRegistration != null) {
+            loadMeasurementRegistration.cancel();
+        }
+        if (ownedLoadUpdateExecutor != null) {
+            ownedLoadUpdateExecutor.shutdown();
+        }
         commandRouter.updateMembership(loadFactor, DenyAll.INSTANCE);
     }
 
@@ -191,6 +271,69 @@ public <C, R> void dispatch(@Nonnull CommandMessage<C> command,
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The dispatch interceptors are invoked once for the complete batch. A command that fails to be intercepted is
+     * reported to the {@code callback} with that failure, without affecting the other commands. The commands are grouped
+     * per destination, as determined by the {@link CommandRouter}, and every group is sent using a single invocation of
+     * {@link CommandBusConnector#sendAll(Member, List, List)}. Commands for which no destination is found
+     * are reported to the {@code callback} with a {@link NoHandlerForCommandException}.
+     */
+    @Override
+    public void dispatchAll(@Nonnull List<? extends CommandMessage<?>> commands,
+                            @Nonnull CommandCallback<Object, Object> callback) {
+        List<CommandMessage<?>> interceptedCommands = MessageDispatchInterceptor.interceptAll(
+                dispatchInterceptors, commands,
+                (index, failure) -> callback.onResult(commands.get(index), asCommandResultMessage(failure))
+        );
+        Map<Member, PendingBatch> batchPerDestination = new LinkedHashMap<>();
+        for (int i = 0; i < commands.size(); i++) {
+            CommandMessage<?> command = commands.get(i);
+            CommandMessage<?> interceptedCommand = interceptedCommands.get(i);
+            if (interceptedCommand == null) {
+                continue;
+            }
+            MessageMonitor.MonitorCallback monitorCallback = messageMonitor.onMessageIngested(interceptedCommand);
+            Span span = spanFactory.createDispatchCommandSpan(command, true).start();
+            Optional<Member> destination = commandRouter.findDestination(interceptedCommand);
+            if (destination.isPresent()) {
+                CommandMessage<?> commandToSend;
+                try (SpanScope ignored = span.makeCurrent()) {
+                    commandToSend = spanFactory.propagateContext(interceptedCommand);
+                }
+                batchPerDestination.computeIfAbsent(destination.get(), d -> new PendingBatch())
+                                   .add(commandToSend, span, new MonitorAwareCallback<>(
+                                           (c, result) -> callback.onResult(command, result), monitorCallback
+                                   ));
+            } else {
+                NoHandlerForCommandException exception = new NoHandlerForCommandException(
+                        format("No node known to accept command [%s].", interceptedCommand.getCommandName())
+                );
+                span.recordException(exception).end();
+                monitorCallback.reportFailure(exception);
+                callback.onResult(command, asCommandResultMessage(exception));
+            }
+        }
+        batchPerDestination.forEach(this::sendAll);
+    }
+
+    private void sendAll(Member destination, PendingBatch batch) {
+        try {
+            connector.sendAll(destination, batch.commands, batch.callbacks);
+        } catch (Exception e) {
+            destination.suspect();
+            for (int i = 0; i < batch.commands.size(); i++) {
+                batch.spans.get(i).recordException(e);
+                batch.callbacks.get(i).onResult(batch.commands.get(i), asCommandResultMessage(
+                        new CommandDispatchException(DISPATCH_ERROR_MESSAGE + ": " + e.getMessage(), e)
+                ));
+            }
+        } finally {
+            batch.spans.forEach(Span::end);
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private <C> CommandMessage<? extends C> intercept(CommandMessage<C> command) {
         CommandMessage<? extends C> interceptedCommand = command;
@@ -220,7 +363,15 @@ public Registration subscribe(@Nonnull String commandName,
 
     private void updateFilter(CommandMessageFilter newFilter) {
         if (!commandFilter.getAndSet(newFilter).equals(newFilter)) {
-            commandRouter.updateMembership(loadFactor, newFilter);
+            updateMembership(newFilter);
+        }
+    }
+
+    private void updateMembership(CommandMessageFilter filter) {
+        if (adaptiveLoadFactor == null) {
+            commandRouter.updateMembership(loadFactor, filter);
+        } else {
+            commandRouter.updateMembership(getEffectiveLoadFactor(), filter, adaptiveLoadFactor.currentLoad());
         }
     }
 
@@ -244,6 +395,17 @@ public int getLoadFactor() {
         return loadFactor;
     }
 
+    /**
+     * Returns the load factor of this node as published to the {@link CommandRouter}. When an
+     * {@link AdaptiveLoadFactor} is configured, this is the {@link #getLoadFactor() load factor} adjusted to the live
+     * load of this node. Otherwise, it equals the {@link #getLoadFactor() load factor}.
+     *
+     * @return the load factor of this node as published to the {@link CommandRouter}
+     */
+    public int getEffectiveLoadFactor() {
+        return adaptiveLoadFactor == null ? loadFactor : adaptiveLoadFactor.adjust(loadFactor);
+    }
+
     /**
      * Updates the load factor of this node compared to other nodes registered with the {@link CommandRouter}.
      *
@@ -251,7 +413,7 @@ public int getLoadFactor() {
      */
     public void updateLoadFactor(int loadFactor) {
         this.loadFactor = loadFactor;
-        commandRouter.updateMembership(loadFactor, commandFilter.get());
+        updateMembership(commandFilter.get());
     }
 
     /**
@@ -273,6 +435,23 @@ public Registration registerHandlerInterceptor(
         return connector.registerHandlerInterceptor(handlerInterceptor);
     }
 
+    /**
+     * The commands of a batch that is being sent to a single destination, with the span and callback of every command
+     * at the same index as the command.
+     */
+    private static class PendingBatch {
+
+        private final List<CommandMessage<?>> commands = new ArrayList<>();
+        private final List<Span> spans = new ArrayList<>();
+        private final List<CommandCallback<Object, Object>> callbacks = new ArrayList<>();
+
+        private void add(CommandMessage<?> command, Span span, CommandCallback<Object, Object> callback) {
+            commands.add(command);
+            spans.add(span);
+            callbacks.add(callback);
+        }
+    }
+
     /**
      * Builder class to instantiate a {@link DistributedCommandBus}.
      * <p>
@@ -289,6 +468,8 @@ public static class Builder {
         private MessageMonitor<? super CommandMessage<?>> messageMonitor = NoOpMessageMonitor.INSTANCE;
         private CommandBusSpanFactory spanFactory = DefaultCommandBusSpanFactory
                 .builder().spanFactory(NoOpSpanFactory.INSTANCE).build();
+        private AdaptiveLoadFactor adaptiveLoadFactor;
+        private Executor loadUpdateExecutor;
 
         /**
          * Sets the {@link CommandRouter} used to determine the target node for each dispatched command.
@@ -372,6 +553,40 @@ public Builder spanFactory(@Nonnull CommandBusSpanFactory spanFactory) {
             return this;
         }
 
+        /**
+         * Sets the {@link AdaptiveLoadFactor} adjusting the load factor of this node to its live command handling load,
+         * enabling load aware routing. The load is measured by a handler interceptor registered with the
+         * {@link CommandBusConnector}. Adjusted load factors are published through
+         * {@link CommandRouter#updateMembership(int, CommandMessageFilter, LoadSignal)} by the
+         * {@link #loadUpdateExecutor(Executor) load update executor}, outside the command handling thread. Defaults to
+         * {@code null}, meaning the configured load factor is published as is.
+         *
+         * @param adaptiveLoadFactor the {@link AdaptiveLoadFactor} adjusting the load factor of this node
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder adaptiveLoadFactor(@Nonnull AdaptiveLoadFactor adaptiveLoadFactor) {
+            assertNonNull(adaptiveLoadFactor, "AdaptiveLoadFactor may not be null");
+            this.adaptiveLoadFactor = adaptiveLoadFactor;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Executor} publishing the load factors adjusted by the
+         * {@link #adaptiveLoadFactor(AdaptiveLoadFactor) adaptive load factor}, so that membership updates do not add
+         * to the latency of handling commands. Load changes evaluated while an update is pending are coalesced into
+         * that update. Defaults to a single thread owned by the {@link DistributedCommandBus}, which is stopped when
+         * the bus {@link DistributedCommandBus#disconnect() disconnects}. A given {@code Executor} is not stopped by
+         * the bus.
+         *
+         * @param loadUpdateExecutor the {@link Executor} publishing the adjusted load factors
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder loadUpdateExecutor(@Nonnull Executor loadUpdateExecutor) {
+            assertNonNull(loadUpdateExecutor, "Load update Executor may not be null");
+            this.loadUpdateExecutor = loadUpdateExecutor;
+            return this;
+        }
+
         /**
          * Initializes a {@link DistributedCommandBus} as specified through this Builder.
          *
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2010-2024. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.axonframework.commandhandling.distributed;
+
+import java.time.Duration;
+import java.util.Objects;
+import javax.annotation.Nonnull;
+
+/**
+ * Describes the live command handling load of a node in a cluster, as measured by an {@link AdaptiveLoadFactor}. Load
+ * signals are published through the {@link CommandRouter} along with the membership of a node, see
+ * {@link CommandRouter#updateMembership(int, CommandMessageFilter, LoadSignal)}.
+ *
+ * @since 4.11.0
+ */
+public final class LoadSignal {
+
+    private static final LoadSignal IDLE = new LoadSignal(0, Duration.ZERO);
+
+    private final int inFlightCommands;
+    private final Duration p99Latency;
+
+    /**
+     * Initializes a {@link LoadSignal} with given {@code inFlightCommands} and {@code p99Latency}.
+     *
+     * @param inFlightCommands the number of commands currently being handled by the node
+     * @param p99Latency       the 99th percentile of the handling latency of recently handled commands
+     */
+    public LoadSignal(int inFlightCommands, @Nonnull Duration p99Latency) {
+        this.inFlightCommands = inFlightCommands;
+        this.p99Latency = p99Latency;
+    }
+
+    /**
+     * Returns a signal describing a node without any load.
+     *
+     * @return a signal describing a node without any load
+     */
+    public static LoadSignal idle() {
+        return IDLE;
+    }
+
+    /**
+     * Returns the number of commands that were being handled by the node when this signal was created.
+     *
+     * @return the number of commands being handled by the node
+     */
+    public int inFlightCommands() {
+        return inFlightCommands;
+    }
+
+    /**
+     * Returns the 99th percentile of the handling latency of the commands handled by the node since the previous
+     * signal. Is {@link Duration#ZERO} when no commands have been handled since.
+     *
+     * @return the 99th percentile of the recent handling latency of the node
+     */
+    public Duration p99Latency() {
+        return p99Latency;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        LoadSignal that = (LoadSignal) o;
+        return inFlightCommands == that.inFlightCommands && Objects.equals(p99Latency, that.p99Latency);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(inFlightCommands, p99Latency);
+    }
+
+    @Override
+    public String toString() {
+        return "LoadSignal{inFlightCommands=" + inFlightCommands + ", p99Latency=" + p99Latency + '}';
+    }
+}
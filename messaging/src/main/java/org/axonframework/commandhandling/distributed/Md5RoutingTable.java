@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2010-2024. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.axonframework.commandhandling.distributed;
+
+import org.axonframework.commandhandling.CommandMessage;
+import org.axonframework.commandhandling.distributed.ConsistentHash.ConsistentHashMember;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import javax.annotation.Nonnull;
+
+/**
+ * {@link RoutingTable} implementation placing members on a ring of MD5 hashes in hex encoding. Every member covers as
+ * many positions on the ring as its {@link ConsistentHashMember#segmentCount() segment count}, given by
+ * {@link ConsistentHashMember#hashes()}. A routing key is routed to the first member with a matching command filter,
+ * clockwise from the position of the hash of the routing key.
+ * <p>
+ * This is the routing table used by a {@link ConsistentHash} by default, retaining compatibility with the routing of
+ * nodes using earlier versions. Both {@link SortedArrayRoutingTable} and {@link RendezvousRoutingTable} provide
+ * considerably faster lookups and membership changes.
+ *
+ * @since 4.11.0
+ */
+public class Md5RoutingTable implements RoutingTable {
+
+    private final SortedMap<String, ConsistentHashMember> hashToMember;
+
+    /**
+     * Initializes an empty {@link Md5RoutingTable}.
+     */
+    public Md5RoutingTable() {
+        this(Collections.emptySortedMap());
+    }
+
+    private Md5RoutingTable(SortedMap<String, ConsistentHashMember> hashToMember) {
+        this.hashToMember = hashToMember;
+    }
+
+    @Override
+    public Md5RoutingTable with(@Nonnull ConsistentHashMember member) {
+        TreeMap<String, ConsistentHashMember> newHashToMember = new TreeMap<>(hashToMember);
+        newHashToMember.values().removeIf(m -> m.name().equals(member.name()));
+        member.hashes().forEach(hash -> newHashToMember.put(hash, member));
+        return new Md5RoutingTable(newHashToMember);
+    }
+
+    @Override
+    public Md5RoutingTable without(@Nonnull String memberName) {
+        TreeMap<String, ConsistentHashMember> newHashToMember = new TreeMap<>(hashToMember);
+        newHashToMember.values().removeIf(m -> m.name().equals(memberName));
+        return new Md5RoutingTable(newHashToMember);
+    }
+
+    @Override
+    public Collection<ConsistentHashMember> getEligibleMembers(@Nonnull String routingKey) {
+        String hash = ConsistentHash.hash(routingKey);
+        LinkedHashSet<ConsistentHashMember> combined = new LinkedHashSet<>(hashToMember.tailMap(hash).values());
+        combined.addAll(hashToMember.headMap(hash).values());
+        return combined;
+    }
+
+    @Override
+    public Optional<ConsistentHashMember> getMember(@Nonnull String routingKey,
+                                                    @Nonnull CommandMessage<?> commandMessage) {
+        String hash = ConsistentHash.hash(routingKey);
+        Optional<ConsistentHashMember> foundMember =
+                findSuitableMember(commandMessage, hashToMember.tailMap(hash).values());
+        if (!foundMember.isPresent()) {
+            foundMember = findSuitableMember(commandMessage, hashToMember.headMap(hash).values());
+        }
+        return foundMember;
+    }
+
+    private Optional<ConsistentHashMember> findSuitableMember(CommandMessage<?> commandMessage,
+                                                              Collection<ConsistentHashMember> members) {
+        return members.stream()
+                      .filter(member -> member.getCommandFilter().matches(commandMessage))
+                      .findFirst();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        Md5RoutingTable that = (Md5RoutingTable) o;
+        return Objects.equals(hashToMember, that.hashToMember);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(hashToMember);
+    }
+}
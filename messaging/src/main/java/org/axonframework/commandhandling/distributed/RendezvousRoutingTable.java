@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2010-2024. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.axonframework.commandhandling.distributed;
+
+import org.axonframework.commandhandling.CommandMessage;
+import org.axonframework.commandhandling.distributed.ConsistentHash.ConsistentHashMember;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.ToLongFunction;
+import javax.annotation.Nonnull;
+
+/**
+ * {@link RoutingTable} implementation using weighted rendezvous hashing, also known as highest random weight hashing.
+ * For every routing key, each member is given a score based on the hashes of both the routing key and the member name,
+ * weighted by the {@link ConsistentHashMember#segmentCount() segment count} of the member. The routing key is routed
+ * to the member with the highest score of which the command filter matches. Members with a segment count of zero or
+ * less are never selected.
+ * <p>
+ * Like a hash ring, only the routing keys of a member that leaves are redistributed, but without the need for virtual
+ * nodes to achieve an even distribution. The table only stores one entry per member, making membership changes cheap,
+ * regardless of the load factors in use. Lookups are linear in the number of members, making this implementation
+ * especially suitable for clusters of a moderate size.
+ *
+ * @since 4.11.0
+ */
+public class RendezvousRoutingTable implements RoutingTable {
+
+    private static final Comparator<ConsistentHashMember> BY_NAME = Comparator.comparing(ConsistentHashMember::name);
+
+    private final ToLongFunction<String> hashFunction;
+    private final ConsistentHashMember[] members;
+    private final long[] memberHashes;
+
+    /**
+     * Initializes an empty {@link RendezvousRoutingTable} using a fast, non-cryptographic 64-bit hash function.
+     */
+    public RendezvousRoutingTable() {
+        this(RoutingHashes::hash);
+    }
+
+    /**
+     * Initializes an empty {@link RendezvousRoutingTable} using the given {@code hashFunction} to hash both member
+     * names and routing keys.
+     *
+     * @param hashFunction the function calculating the hash of member names and routing keys
+     */
+    public RendezvousRoutingTable(@Nonnull ToLongFunction<String> hashFunction) {
+        this(hashFunction, new ConsistentHashMember[0], new long[0]);
+    }
+
+    private RendezvousRoutingTable(ToLongFunction<String> hashFunction,
+                                   ConsistentHashMember[] members,
+                                   long[] memberHashes) {
+        this.hashFunction = hashFunction;
+        this.members = members;
+        this.memberHashes = memberHashes;
+    }
+
+    @Override
+    public RendezvousRoutingTable with(@Nonnull ConsistentHashMember member) {
+        int index = Arrays.binarySearch(members, member, BY_NAME);
+        if (index >= 0) {
+            ConsistentHashMember[] newMembers = members.clone();
+            newMembers[index] = member;
+            return new RendezvousRoutingTable(hashFunction, newMembers, memberHashes);
+        }
+        int insertAt = -index - 1;
+        ConsistentHashMember[] newMembers = new ConsistentHashMember[members.length + 1];
+        long[] newMemberHashes = new long[members.length + 1];
+        System.arraycopy(members, 0, newMembers, 0, insertAt);
+        System.arraycopy(memberHashes, 0, newMemberHashes, 0, insertAt);
+        newMembers[insertAt] = member;
+        newMemberHashes[insertAt] = hashFunction.applyAsLong(member.name());
+        System.arraycopy(members, insertAt, newMembers, insertAt + 1, members.length - insertAt);
+        System.arraycopy(memberHashes, insertAt, newMemberHashes, insertAt + 1, members.length - insertAt);
+        return new RendezvousRoutingTable(hashFunction, newMembers, newMemberHashes);
+    }
+
+    @Override
+    public RendezvousRoutingTable without(@Nonnull String memberName) {
+        int index = -1;
+        for (int i = 0; i < members.length && index < 0; i++) {
+            if (members[i].name().equals(memberName)) {
+                index = i;
+            }
+        }
+        if (index < 0) {
+            return this;
+        }
+        ConsistentHashMember[] newMembers = new ConsistentHashMember[members.length - 1];
+        long[] newMemberHashes = new long[members.length - 1];
+        System.arraycopy(members, 0, newMembers, 0, index);
+        System.arraycopy(memberHashes, 0, newMemberHashes, 0, index);
+        System.arraycopy(members, index + 1, newMembers, index, members.length - index - 1);
+        System.arraycopy(memberHashes, index + 1, newMemberHashes, index, members.length - index - 1);
+        return new RendezvousRoutingTable(hashFunction, newMembers, newMemberHashes);
+    }
+
+    @Override
+    public Collection<ConsistentHashMember> getEligibleMembers(@Nonnull String routingKey) {
+        long keyHash = hashFunction.applyAsLong(routingKey);
+        List<Integer> candidates = new ArrayList<>(members.length);
+        double[] scores = new double[members.length];
+        for (int i = 0; i < members.length; i++) {
+            if (members[i].segmentCount() > 0) {
+                scores[i] = score(keyHash, i);
+                candidates.add(i);
+            }
+        }
+        candidates.sort((first, second) -> Double.compare(scores[second], scores[first]));
+        List<ConsistentHashMember> eligibleMembers = new ArrayList<>(candidates.size());
+        candidates.forEach(i -> eligibleMembers.add(members[i]));
+        return eligibleMembers;
+    }
+
+    @Override
+    public Optional<ConsistentHashMember> getMember(@Nonnull String routingKey,
+                                                    @Nonnull CommandMessage<?> commandMessage) {
+        long keyHash = hashFunction.applyAsLong(routingKey);
+        ConsistentHashMember selected = null;
+        double highestScore = 0;
+        for (int i = 0; i < members.length; i++) {
+            if (members[i].segmentCount() > 0) {
+                double score = score(keyHash, i);
+                if ((selected == null || score > highestScore)
+                        && members[i].getCommandFilter().matches(commandMessage)) {
+                    selected = members[i];
+                    highestScore = score;
+                }
+            }
+        }
+        return Optional.ofNullable(selected);
+    }
+
+    /**
+     * Calculates the score of the member at given {@code memberIndex} for a routing key with given {@code keyHash}.
+     * The combined hash is mapped to a uniformly distributed value {@code u} in the open interval (0, 1), resulting
+     * in a score of {@code -weight / ln(u)}. The chance of a member having the highest score is proportional to its
+     * weight.
+     */
+    private double score(long keyHash, int memberIndex) {
+        long combined = RoutingHashes.mix(keyHash ^ memberHashes[memberIndex]);
+        double uniform = ((combined >>> 11) + 0.5) * 0x1.0p-53;
+        return -members[memberIndex].segmentCount() / Math.log(uniform);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        RendezvousRoutingTable that = (RendezvousRoutingTable) o;
+        return Arrays.equals(members, that.members);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(members);
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2010-2024. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.axonframework.commandhandling.distributed;
+
+/**
+ * Utility class providing the fast, non-cryptographic hash functions used by the {@link SortedArrayRoutingTable} and
+ * {@link RendezvousRoutingTable}.
+ *
+ * @since 4.11.0
+ */
+abstract class RoutingHashes {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private RoutingHashes() {
+        // Utility class
+    }
+
+    /**
+     * Returns a 64-bit hash of the given {@code value}. The characters are combined using FNV-1a, after which the
+     * result is passed through {@link #mix(long)} to spread similar inputs, like the routing keys of a sequence, evenly
+     * over the full range of longs.
+     *
+     * @param value the value to hash
+     * @return the 64-bit hash of the given {@code value}
+     */
+    static long hash(String value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return mix(hash);
+    }
+
+    /**
+     * Returns the given {@code value} with its bits mixed, using the finalization step of MurmurHash3.
+     *
+     * @param value the value to mix
+     * @return the mixed value
+     */
+    static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2010-2024. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.axonframework.commandhandling.distributed;
+
+import org.axonframework.commandhandling.CommandMessage;
+import org.axonframework.commandhandling.distributed.ConsistentHash.ConsistentHashMember;
+
+import java.util.Collection;
+import java.util.Optional;
+import javax.annotation.Nonnull;
+
+/**
+ * The routing table of a {@link ConsistentHash}, mapping routing keys to the members that should handle the commands
+ * with that routing key. Implementations are immutable; membership changes result in a new routing table.
+ * <p>
+ * Implementations should take the {@link ConsistentHashMember#segmentCount() segment count} of members into account
+ * as their relative load factor, and should only select members of which the
+ * {@link ConsistentHashMember#getCommandFilter() command filter} matches the command to route. Every node of a cluster
+ * should use the same type of routing table, as routing of commands is only consistent between identical tables.
+ *
+ * @see Md5RoutingTable
+ * @see SortedArrayRoutingTable
+ * @see RendezvousRoutingTable
+ * @since 4.11.0
+ */
+public interface RoutingTable {
+
+    /**
+     * Returns a routing table containing the given {@code member}, replacing any member with the same
+     * {@link Member#name() name}.
+     *
+     * @param member the member to add to the routing table
+     * @return a routing table containing the given {@code member}
+     */
+    RoutingTable with(@Nonnull ConsistentHashMember member);
+
+    /**
+     * Returns a routing table without the member with given {@code memberName}.
+     *
+     * @param memberName the name of the member to remove from the routing table
+     * @return a routing table without the member with given {@code memberName}
+     */
+    RoutingTable without(@Nonnull String memberName);
+
+    /**
+     * Returns the members in the order they would be considered for the given {@code routingKey}, regardless of their
+     * command filters. Members that do not cover any part of the table, like members with a load factor of zero, are
+     * not included.
+     *
+     * @param routingKey the routing key to select the ordering for
+     * @return the members in the order they would be considered for the given {@code routingKey}
+     */
+    Collection<ConsistentHashMember> getEligibleMembers(@Nonnull String routingKey);
+
+    /**
+     * Returns the first member in the order of {@link #getEligibleMembers(String)} of which the command filter matches
+     * the given {@code commandMessage}, or an empty Optional if no such member exists.
+     *
+     * @param routingKey     the routing key of the given {@code commandMessage}
+     * @param commandMessage the command message to find a member for
+     * @return the member that should handle the message or an empty Optional if no suitable member was found
+     */
+    Optional<ConsistentHashMember> getMember(@Nonnull String routingKey, @Nonnull CommandMessage<?> commandMessage);
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2010-2024. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.axonframework.commandhandling.distributed;
+
+import org.axonframework.commandhandling.CommandMessage;
+import org.axonframework.commandhandling.distributed.ConsistentHash.ConsistentHashMember;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.ToLongFunction;
+import javax.annotation.Nonnull;
+
+/**
+ * {@link RoutingTable} implementation placing members on a ring of 64-bit hashes, stored in a sorted array. Every
+ * member covers as many positions on the ring as its {@link ConsistentHashMember#segmentCount() segment count}. A
+ * routing key is routed to the first member with a matching command filter, clockwise from the position of the hash of
+ * the routing key.
+ * <p>
+ * By default, positions are calculated using a fast, non-cryptographic hash function. Compared to the
+ * {@link Md5RoutingTable}, lookups are a binary search over an array of primitive longs, without allocating any
+ * intermediate strings or collections. Membership changes merge the positions of the changed member into a copy of
+ * the array, instead of rebuilding the complete ring.
+ *
+ * @since 4.11.0
+ */
+public class SortedArrayRoutingTable implements RoutingTable {
+
+    private final ToLongFunction<String> hashFunction;
+    private final long[] positions;
+    private final ConsistentHashMember[] owners;
+
+    /**
+     * Initializes an empty {@link SortedArrayRoutingTable} using a fast, non-cryptographic 64-bit hash function.
+     */
+    public SortedArrayRoutingTable() {
+        this(RoutingHashes::hash);
+    }
+
+    /**
+     * Initializes an empty {@link SortedArrayRoutingTable} using the given {@code hashFunction} to calculate the
+     * positions of both members and routing keys on the ring.
+     *
+     * @param hashFunction the function calculating the position of a value on the ring
+     */
+    public SortedArrayRoutingTable(@Nonnull ToLongFunction<String> hashFunction) {
+        this(hashFunction, new long[0], new ConsistentHashMember[0]);
+    }
+
+    private SortedArrayRoutingTable(ToLongFunction<String> hashFunction,
+                                    long[] positions,
+                                    ConsistentHashMember[] owners) {
+        this.hashFunction = hashFunction;
+        this.positions = positions;
+        this.owners = owners;
+    }
+
+    @Override
+    public SortedArrayRoutingTable with(@Nonnull ConsistentHashMember member) {
+        SortedArrayRoutingTable remaining = without(member.name());
+        int segmentCount = Math.max(0, member.segmentCount());
+        long[] memberPositions = new long[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            memberPositions[i] = hashFunction.applyAsLong(member.name() + " #" + i);
+        }
+        Arrays.sort(memberPositions);
+        return remaining.merge(memberPositions, member);
+    }
+
+    private SortedArrayRoutingTable merge(long[] memberPositions, ConsistentHashMember member) {
+        int size = positions.length + memberPositions.length;
+        long[] newPositions = new long[size];
+        ConsistentHashMember[] newOwners = new ConsistentHashMember[size];
+        int current = 0;
+        int added = 0;
+        for (int i = 0; i < size; i++) {
+            if (added == memberPositions.length
+                    || (current < positions.length && precedes(current, memberPositions[added], member))) {
+                newPositions[i] = positions[current];
+                newOwners[i] = owners[current++];
+            } else {
+                newPositions[i] = memberPositions[added++];
+                newOwners[i] = member;
+            }
+        }
+        return new SortedArrayRoutingTable(hashFunction, newPositions, newOwners);
+    }
+
+    /**
+     * Ties between equal positions are broken on member name, making sure the ring is identical regardless of the
+     * order in which members have been added.
+     */
+    private boolean precedes(int index, long position, ConsistentHashMember member) {
+        return positions[index] < position
+                || (positions[index] == position && owners[index].name().compareTo(member.name()) < 0);
+    }
+
+    @Override
+    public SortedArrayRoutingTable without(@Nonnull String memberName) {
+        int remaining = 0;
+        for (ConsistentHashMember owner : owners) {
+            if (!owner.name().equals(memberName)) {
+                remaining++;
+            }
+        }
+        if (remaining == owners.length) {
+            return this;
+        }
+        long[] newPositions = new long[remaining];
+        ConsistentHashMember[] newOwners = new ConsistentHashMember[remaining];
+        int index = 0;
+        for (int i = 0; i < owners.length; i++) {
+            if (!owners[i].name().equals(memberName)) {
+                newPositions[index] = positions[i];
+                newOwners[index++] = owners[i];
+            }
+        }
+        return new SortedArrayRoutingTable(hashFunction, newPositions, newOwners);
+    }
+
+    @Override
+    public Collection<ConsistentHashMember> getEligibleMembers(@Nonnull String routingKey) {
+        int start = startIndex(routingKey);
+        Set<ConsistentHashMember> eligibleMembers = new LinkedHashSet<>();
+        for (int i = 0; i < owners.length; i++) {
+            eligibleMembers.add(owners[(start + i) % owners.length]);
+        }
+        return eligibleMembers;
+    }
+
+    @Override
+    public Optional<ConsistentHashMember> getMember(@Nonnull String routingKey,
+                                                    @Nonnull CommandMessage<?> commandMessage) {
+        int start = startIndex(routingKey);
+        Set<ConsistentHashMember> rejected = null;
+        for (int i = 0; i < owners.length; i++) {
+            ConsistentHashMember candidate = owners[(start + i) % owners.length];
+            if (rejected != null && rejected.contains(candidate)) {
+                continue;
+            }
+            if (candidate.getCommandFilter().matches(commandMessage)) {
+                return Optional.of(candidate);
+            }
+            if (rejected == null) {
+                rejected = Collections.newSetFromMap(new IdentityHashMap<>());
+            }
+            rejected.add(candidate);
+        }
+        return Optional.empty();
+    }
+
+    private int startIndex(String routingKey) {
+        int index = Arrays.binarySearch(positions, hashFunction.applyAsLong(routingKey));
+        if (index < 0) {
+            return -index - 1;
+        }
+        // binary search returns any of equal positions, while the ring starts at the first
+        while (index > 0 && positions[index - 1] == positions[index]) {
+            index--;
+        }
+        return index;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        SortedArrayRoutingTable that = (SortedArrayRoutingTable) o;
+        return Arrays.equals(positions, that.positions) && Arrays.equals(owners, that.owners);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(positions) + Arrays.hashCode(owners);
+    }
+}
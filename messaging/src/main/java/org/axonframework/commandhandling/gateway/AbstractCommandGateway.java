@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2022. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,17 +19,23 @@
 import org.axonframework.commandhandling.CommandBus;
 import org.axonframework.commandhandling.CommandCallback;
 import org.axonframework.commandhandling.CommandMessage;
+import org.axonframework.commandhandling.GenericCommandMessage;
 import org.axonframework.commandhandling.callbacks.LoggingCallback;
+import org.axonframework.common.Assert;
 import org.axonframework.common.AxonConfigurationException;
 import org.axonframework.common.Registration;
 import org.axonframework.messaging.MessageDispatchInterceptor;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
 import javax.annotation.Nonnull;
 
 import static java.util.Arrays.asList;
 import static org.axonframework.commandhandling.GenericCommandMessage.asCommandMessage;
+import static org.axonframework.commandhandling.GenericCommandResultMessage.asCommandResultMessage;
 import static org.axonframework.common.BuilderUtils.assertNonNull;
 
 /**
@@ -76,6 +82,51 @@ protected <C, R> void send(@Nonnull C command, @Nonnull CommandCallback<? super
         commandBus.dispatch(commandMessage, commandCallback);
     }
 
+    /**
+     * Sends the given {@code commands} as a single batch, using {@link CommandBus#dispatchAll(List, CommandCallback)}.
+     * The dispatch interceptors of this gateway are invoked once for the complete batch. The result of every command is
+     * reported to the callback at the same position in the given {@code callbacks}. A command that fails to be
+     * intercepted is not dispatched, and its callback is notified of that failure.
+     *
+     * @param commands  The commands to dispatch
+     * @param callbacks The callbacks to notify with the processing result of the command at the same position
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    protected void sendAll(@Nonnull List<?> commands, @Nonnull List<? extends CommandCallback<?, ?>> callbacks) {
+        Assert.isTrue(commands.size() == callbacks.size(), () -> "Every command requires exactly one callback");
+        List<CommandMessage<?>> commandMessages = new ArrayList<>(commands.size());
+        commands.forEach(command -> commandMessages.add(asCommandMessage(command)));
+        List<CommandMessage<?>> interceptedCommands = MessageDispatchInterceptor.interceptAll(
+                dispatchInterceptors, commandMessages,
+                (index, failure) -> ((CommandCallback) callbacks.get(index))
+                        .onResult(commandMessages.get(index), asCommandResultMessage(failure))
+        );
+
+        List<CommandMessage<?>> commandsToDispatch = new ArrayList<>(interceptedCommands.size());
+        Map<CommandMessage<?>, CommandCallback> callbacksPerCommand = new IdentityHashMap<>();
+        for (int i = 0; i < interceptedCommands.size(); i++) {
+            CommandMessage<?> command = interceptedCommands.get(i);
+            if (command == null) {
+                continue;
+            }
+            CommandCallback callback = callbacks.get(i);
+            if (retryScheduler != null) {
+                callback = new RetryingCallback<>(callback, retryScheduler, commandBus);
+            }
+            if (callbacksPerCommand.containsKey(command)) {
+                // results are correlated by identity, so repeated instances are dispatched as a distinct instance
+                command = new GenericCommandMessage<>(command, command.getCommandName());
+            }
+            commandsToDispatch.add(command);
+            callbacksPerCommand.put(command, callback);
+        }
+        if (commandsToDispatch.isEmpty()) {
+            return;
+        }
+        commandBus.dispatchAll(commandsToDispatch,
+                               (command, result) -> callbacksPerCommand.get(command).onResult(command, result));
+    }
+
     /**
      * Dispatches a command without callback. When dispatching fails, since there is no callback, the command will
      * <em>not</em> be retried.
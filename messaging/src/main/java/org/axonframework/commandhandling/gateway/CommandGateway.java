@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2022. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -25,6 +25,9 @@
 import org.axonframework.messaging.MessageDispatchInterceptorSupport;
 import org.axonframework.messaging.MetaData;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnull;
@@ -200,4 +203,33 @@ default <R> R sendAndWait(@Nonnull Object command, @Nonnull MetaData metaData, l
     default <R> CompletableFuture<R> send(@Nonnull Object command, @Nonnull MetaData metaData) {
         return send(GenericCommandMessage.asCommandMessage(command).andMetaData(metaData));
     }
+
+    /**
+     * Sends the given {@code commands} as a single batch and returns a {@link CompletableFuture} per command
+     * immediately, without waiting for the commands to execute. The futures are returned in the iteration order of the
+     * given {@code commands}, and are resolved successfully or exceptionally based on the execution result of their
+     * command.
+     * <p/>
+     * Implementations may optimize dispatching of the batch, for example by invoking dispatch interceptors once for
+     * the complete batch and by using {@link org.axonframework.commandhandling.CommandBus#dispatchAll}. Each command is
+     * still executed separately, meaning the failure of one command does not affect the others. By default, every
+     * command is {@link #send(Object) sent} separately.
+     * <p/>
+     * Every command is wrapped as the payload of the {@link CommandMessage} that is eventually posted on the
+     * {@link org.axonframework.commandhandling.CommandBus}, unless the command already implements {@link Message}. In
+     * that case, a {@code CommandMessage} is constructed from that message's payload and
+     * {@link org.axonframework.messaging.MetaData}.
+     *
+     * @param commands The commands to dispatch.
+     * @param <R>      The type of result expected from command execution.
+     * @return A {@link CompletableFuture} per command, in the iteration order of the given {@code commands}.
+     * @since 4.11.0
+     */
+    default <R> List<CompletableFuture<R>> sendAll(@Nonnull Collection<?> commands) {
+        List<CompletableFuture<R>> results = new ArrayList<>(commands.size());
+        for (Object command : commands) {
+            results.add(send(command));
+        }
+        return results;
+    }
 }
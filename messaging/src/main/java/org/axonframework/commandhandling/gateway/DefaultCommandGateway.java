@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2022. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -30,6 +30,8 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
@@ -136,6 +138,32 @@ public <R> R sendAndWait(@Nonnull Object command, long timeout, @Nonnull TimeUni
     public <R> CompletableFuture<R> send(@Nonnull Object command) {
         FutureCallback<Object, R> callback = new FutureCallback<>();
         send(command, callback.wrap((CommandCallback<Object, R>) commandCallback));
+        return asCompletableFuture(callback);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The commands are dispatched using {@link CommandBus#dispatchAll(List, CommandCallback)}, invoking the dispatch
+     * interceptors of this gateway once for the complete batch.
+     */
+    @SuppressWarnings("unchecked") // Cast for commandCallback wrap
+    @Override
+    public <R> List<CompletableFuture<R>> sendAll(@Nonnull Collection<?> commands) {
+        List<FutureCallback<Object, R>> futureCallbacks = new ArrayList<>(commands.size());
+        List<CommandCallback<Object, R>> callbacks = new ArrayList<>(commands.size());
+        for (int i = 0; i < commands.size(); i++) {
+            FutureCallback<Object, R> futureCallback = new FutureCallback<>();
+            futureCallbacks.add(futureCallback);
+            callbacks.add(futureCallback.wrap((CommandCallback<Object, R>) commandCallback));
+        }
+        sendAll(new ArrayList<>(commands), callbacks);
+        List<CompletableFuture<R>> results = new ArrayList<>(commands.size());
+        futureCallbacks.forEach(futureCallback -> results.add(asCompletableFuture(futureCallback)));
+        return results;
+    }
+
+    private <R> CompletableFuture<R> asCompletableFuture(FutureCallback<Object, R> callback) {
         CompletableFuture<R> result = new CompletableFuture<>();
         callback.exceptionally(GenericCommandResultMessage::asCommandResultMessage)
                 .thenAccept(r -> {
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2010-2024. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.common.jdbc;
+
+import org.axonframework.common.transaction.TransactionManager;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.axonframework.common.jdbc.JdbcUtils.executeQuery;
+import static org.axonframework.common.jdbc.JdbcUtils.listResults;
+
+/**
+ * A {@link Publisher} streaming the results of a JDBC query using paging. Pages are only fetched when subscribers
+ * signal demand for more items, so that at most one page of results is held in memory per subscriber, regardless of
+ * the size of the full result. This makes it suitable as the result of a streaming query handler returning large
+ * results, for example by wrapping it in a {@code Flux}.
+ * <p>
+ * Every page is fetched in a separate transaction of the given {@link TransactionManager}, on the thread signalling
+ * the demand. The {@link Connection} is released after every page, so no database resources are held while waiting
+ * for demand, nor after a subscriber cancels its subscription.
+ * <p>
+ * Do not use this for paging when you care about concurrent deletes. If you loaded a page, delete an item from it, and
+ * load the next, you will miss an item during iteration.
+ * <p>
+ * Every subscriber receives the results of the query from the start.
+ *
+ * @param <R> The mapped result type.
+ * @since 4.11.0
+ */
+public class PagingJdbcPublisher<R> implements Publisher<R> {
+
+    private final int pageSize;
+    private final Supplier<Connection> connectionProvider;
+    private final TransactionManager transactionManager;
+    private final PagingJdbcIterable.PagingStatementSupplier pagingQuerySupplier;
+    private final JdbcUtils.SqlResultConverter<R> resultConverter;
+    private final Function<SQLException, RuntimeException> errorHandler;
+
+    /**
+     * Construct a new {@link Publisher} of type {@code R}, utilizing paging queries to retrieve the entries on demand.
+     *
+     * @param transactionManager  The {@link TransactionManager} used to execute the paging query.
+     * @param connectionProvider  The supplier of the {@link Connection} used by the given {@code pagingQuerySupplier}.
+     * @param pagingQuerySupplier A factory function supply the paging {@link PreparedStatement} to execute.
+     * @param pageSize            The size of the pages to retrieve. Used to calculate the {@code offset} and
+     *                            {@code maxSize} of the paging query
+     * @param resultConverter     The converter of the {@link java.sql.ResultSet} into entries of type {@code R}.
+     * @param errorHandler        The error handler to deal with exceptions when executing a paging
+     *                            {@link PreparedStatement}.
+     */
+    public PagingJdbcPublisher(TransactionManager transactionManager,
+                               Supplier<Connection> connectionProvider,
+                               PagingJdbcIterable.PagingStatementSupplier pagingQuerySupplier,
+                               int pageSize,
+                               JdbcUtils.SqlResultConverter<R> resultConverter,
+                               Function<SQLException, RuntimeException> errorHandler) {
+        this.transactionManager = transactionManager;
+        this.connectionProvider = connectionProvider;
+        this.pagingQuerySupplier = pagingQuerySupplier;
+        this.pageSize = pageSize;
+        this.resultConverter = resultConverter;
+        this.errorHandler = errorHandler;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super R> subscriber) {
+        Objects.requireNonNull(subscriber, "The subscriber may not be null");
+        PagingSubscription subscription = new PagingSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+    }
+
+    /**
+     * The {@link Subscription} fetching the pages of the query for a single {@link Subscriber}. Items are emitted from
+     * a drain loop guarded by a work-in-progress counter, guaranteeing signals are never emitted concurrently, nor
+     * recursively when the subscriber requests more items from within {@link Subscriber#onNext(Object)}.
+     */
+    private class PagingSubscription implements Subscription {
+
+        private final Subscriber<? super R> subscriber;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private Deque<R> currentPage = new ArrayDeque<>();
+        private int offset = 0;
+        private boolean lastPageFetched = false;
+        private volatile boolean done = false;
+        private volatile Throwable invalidRequest;
+
+        private PagingSubscription(Subscriber<? super R> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException(
+                        "The number of requested items should be positive, but was [" + n + "]"
+                );
+            } else {
+                requested.accumulateAndGet(n, (current, added) -> {
+                    long sum = current + added;
+                    return sum < 0 ? Long.MAX_VALUE : sum;
+                });
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            done = true;
+            drain();
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                emitRequestedItems();
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void emitRequestedItems() {
+            while (!done) {
+                if (invalidRequest != null) {
+                    terminate();
+                    subscriber.onError(invalidRequest);
+                    return;
+                }
+                if (currentPage.isEmpty() && lastPageFetched) {
+                    terminate();
+                    subscriber.onComplete();
+                    return;
+                }
+                if (requested.get() == 0) {
+                    return;
+                }
+                if (currentPage.isEmpty()) {
+                    try {
+                        fetchNextPage();
+                    } catch (Exception e) {
+                        terminate();
+                        subscriber.onError(e);
+                        return;
+                    }
+                    continue;
+                }
+                if (requested.get() != Long.MAX_VALUE) {
+                    requested.decrementAndGet();
+                }
+                subscriber.onNext(currentPage.pop());
+            }
+            currentPage.clear();
+        }
+
+        private void fetchNextPage() {
+            List<R> results = transactionManager.fetchInTransaction(
+                    () -> executeQuery(connectionProvider.get(),
+                                       connection -> pagingQuerySupplier.apply(connection, offset, pageSize),
+                                       listResults(resultConverter),
+                                       errorHandler)
+            );
+            offset += results.size();
+            lastPageFetched = results.size() < pageSize;
+            currentPage = new ArrayDeque<>(results);
+        }
+
+        private void terminate() {
+            done = true;
+            currentPage.clear();
+        }
+    }
+}
@@ -0,0 +1,694 @@
+/*
+ * Copyright (c) 2010-2024. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.deadline;
+
+import org.axonframework.common.AxonConfigurationException;
+import org.axonframework.common.AxonThreadFactory;
+import org.axonframework.common.transaction.NoTransactionManager;
+import org.axonframework.common.transaction.TransactionManager;
+import org.axonframework.eventhandling.GenericEventMessage;
+import org.axonframework.lifecycle.Lifecycle;
+import org.axonframework.lifecycle.Phase;
+import org.axonframework.messaging.DefaultInterceptorChain;
+import org.axonframework.messaging.ExecutionException;
+import org.axonframework.messaging.InterceptorChain;
+import org.axonframework.messaging.ResultMessage;
+import org.axonframework.messaging.ScopeAwareProvider;
+import org.axonframework.messaging.ScopeDescriptor;
+import org.axonframework.messaging.unitofwork.DefaultUnitOfWork;
+import org.axonframework.messaging.unitofwork.UnitOfWork;
+import org.axonframework.tracing.NoOpSpanFactory;
+import org.axonframework.tracing.Span;
+import org.axonframework.tracing.SpanScope;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import javax.annotation.Nonnull;
+
+import static java.lang.String.format;
+import static org.axonframework.common.BuilderUtils.assertNonNull;
+import static org.axonframework.common.BuilderUtils.assertThat;
+import static org.axonframework.deadline.GenericDeadlineMessage.asDeadlineMessage;
+
+/**
+ * Implementation of {@link DeadlineManager} which keeps scheduled deadlines in a hierarchical timing wheel. Contrary to
+ * the {@link SimpleDeadlineManager}, which schedules every deadline as a separate task on a
+ * {@link java.util.concurrent.ScheduledExecutorService}, scheduling and cancelling a deadline takes constant time,
+ * regardless of the number of scheduled deadlines.
+ * <p>
+ * A single ticker thread advances the wheel every {@link Builder#tickDuration(Duration) tick}, handing due deadlines
+ * to the configured {@link Executor} for triggering. Deadlines are indexed by their schedule identifier, their name,
+ * and their name combined with their scope. Hence, the cost of {@link #cancelSchedule(String, String)},
+ * {@link #cancelAll(String)} and {@link #cancelAllWithinScope(String, ScopeDescriptor)} is proportional to the number
+ * of cancelled deadlines, rather than the number of scheduled deadlines. This makes this manager suitable for
+ * applications scheduling large amounts of deadlines, most of which are cancelled before they trigger.
+ * <p>
+ * Deadlines trigger on the first tick at or after their trigger time, and may thus trigger up to one tick duration
+ * late. Like the {@link SimpleDeadlineManager}, this mechanism is non-persistent. Scheduled deadlines will be lost when
+ * the JVM is shut down.
+ *
+ * @since 4.11.0
+ */
+public class TimingWheelDeadlineManager extends AbstractDeadlineManager implements Lifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(TimingWheelDeadlineManager.class);
+    private static final String THREAD_FACTORY_GROUP_NAME = "deadlineManager";
+
+    private final ScopeAwareProvider scopeAwareProvider;
+    private final Executor executor;
+    private final ThreadFactory threadFactory;
+    private final TransactionManager transactionManager;
+    private final DeadlineManagerSpanFactory spanFactory;
+    private final long tickNanos;
+    private final long startTime = System.nanoTime();
+
+    // the wheel is only accessed by the ticker thread, other threads pass deadlines through these queues
+    private final TimingWheel wheel;
+    private final Queue<ScheduledDeadline> scheduledDeadlines = new ConcurrentLinkedQueue<>();
+    private final Queue<ScheduledDeadline> cancelledDeadlines = new ConcurrentLinkedQueue<>();
+
+    private final Map<String, ScheduledDeadline> deadlinesById = new ConcurrentHashMap<>();
+    private final Map<String, Set<ScheduledDeadline>> deadlinesByName = new ConcurrentHashMap<>();
+    private final Map<ScopeKey, Set<ScheduledDeadline>> deadlinesByScope = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean started = new AtomicBoolean();
+    private volatile boolean shutdown;
+    private volatile Thread ticker;
+
+    /**
+     * Instantiate a Builder to be able to create a {@link TimingWheelDeadlineManager}.
+     * <p>
+     * The {@link Executor} triggering deadlines is defaulted to an {@link Executors#newSingleThreadExecutor()} which
+     * contains an {@link AxonThreadFactory}, the {@link ThreadFactory} for the ticker thread to an
+     * {@link AxonThreadFactory}, the {@link TransactionManager} defaults to a {@link NoTransactionManager}, and the
+     * {@link DeadlineManagerSpanFactory} is defaulted to a {@link DefaultDeadlineManagerSpanFactory} backed by a
+     * {@link NoOpSpanFactory}. The tick duration defaults to 10 milliseconds and the number of ticks per wheel to
+     * {@code 512}. The {@link ScopeAwareProvider} is a <b>hard requirement</b> and as such should be provided.
+     *
+     * @return a Builder to be able to create a {@link TimingWheelDeadlineManager}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Instantiate a {@link TimingWheelDeadlineManager} based on the fields contained in the {@link Builder} to handle
+     * the process around scheduling and triggering a {@link DeadlineMessage}.
+     * <p>
+     * Will assert that the {@link ScopeAwareProvider} is not {@code null}, and will throw an
+     * {@link AxonConfigurationException} if it is {@code null}.
+     *
+     * @param builder the {@link Builder} used to instantiate a {@link TimingWheelDeadlineManager} instance
+     */
+    protected TimingWheelDeadlineManager(Builder builder) {
+        builder.validate();
+        this.scopeAwareProvider = builder.scopeAwareProvider;
+        this.executor = builder.executor;
+        this.threadFactory = builder.threadFactory;
+        this.transactionManager = builder.transactionManager;
+        this.spanFactory = builder.spanFactory;
+        this.tickNanos = builder.tickDuration.toNanos();
+        this.wheel = new TimingWheel(builder.ticksPerWheel);
+    }
+
+    @Override
+    public String schedule(@Nonnull Instant triggerDateTime,
+                           @Nonnull String deadlineName,
+                           Object messageOrPayload,
+                           @Nonnull ScopeDescriptor deadlineScope) {
+        DeadlineMessage<?> deadlineMessage = asDeadlineMessage(deadlineName, messageOrPayload, triggerDateTime);
+        String deadlineMessageId = deadlineMessage.getIdentifier();
+        Span span = spanFactory.createScheduleSpan(deadlineName, deadlineMessageId, deadlineMessage);
+        runOnPrepareCommitOrNow(span.wrapRunnable(() -> {
+            DeadlineMessage<?> interceptedDeadlineMessage = processDispatchInterceptors(deadlineMessage);
+            ScheduledDeadline deadline = new ScheduledDeadline(deadlineName,
+                                                               deadlineScope,
+                                                               deadlineMessageId,
+                                                               interceptedDeadlineMessage,
+                                                               expirationTick(triggerDateTime));
+            index(deadline);
+            scheduledDeadlines.add(deadline);
+            startTicker();
+        }));
+
+        return deadlineMessageId;
+    }
+
+    private long expirationTick(Instant triggerDateTime) {
+        long elapsedNanos = System.nanoTime() - startTime;
+        long delayNanos;
+        try {
+            delayNanos = Math.max(0, Duration.between(Instant.now(), triggerDateTime).toNanos());
+        } catch (ArithmeticException e) {
+            delayNanos = Long.MAX_VALUE;
+        }
+        long dueNanos = elapsedNanos + Math.min(delayNanos, Long.MAX_VALUE / 2);
+        // rounding up ensures deadlines never trigger before their trigger time
+        return (dueNanos + tickNanos - 1) / tickNanos;
+    }
+
+    private void startTicker() {
+        if (started.compareAndSet(false, true)) {
+            Thread tickerThread = threadFactory.newThread(this::tick);
+            ticker = tickerThread;
+            tickerThread.start();
+        }
+    }
+
+    @Override
+    public void cancelSchedule(@Nonnull String deadlineName, @Nonnull String scheduleId) {
+        Span span = spanFactory.createCancelScheduleSpan(deadlineName, scheduleId);
+        runOnPrepareCommitOrNow(span.wrapRunnable(() -> {
+            ScheduledDeadline deadline = deadlinesById.get(scheduleId);
+            if (deadline != null && deadline.deadlineName.equals(deadlineName)) {
+                cancel(deadline);
+            }
+        }));
+    }
+
+    @Override
+    public void cancelAll(@Nonnull String deadlineName) {
+        Span span = spanFactory.createCancelAllSpan(deadlineName);
+        runOnPrepareCommitOrNow(span.wrapRunnable(() -> cancel(deadlinesByName.remove(deadlineName))));
+    }
+
+    @Override
+    public void cancelAllWithinScope(@Nonnull String deadlineName, @Nonnull ScopeDescriptor scope) {
+        Span span = spanFactory.createCancelAllWithinScopeSpan(deadlineName, scope);
+        runOnPrepareCommitOrNow(span.wrapRunnable(
+                () -> cancel(deadlinesByScope.remove(new ScopeKey(deadlineName, scope)))
+        ));
+    }
+
+    private void cancel(Set<ScheduledDeadline> deadlines) {
+        // a set removed from the index is no longer modified by other threads
+        if (deadlines != null) {
+            deadlines.forEach(this::cancel);
+        }
+    }
+
+    private void cancel(ScheduledDeadline deadline) {
+        if (deadline.complete()) {
+            unindex(deadline);
+            // lets the ticker thread release the deadline from the wheel, rather than waiting for its trigger time
+            cancelledDeadlines.add(deadline);
+        }
+    }
+
+    private void index(ScheduledDeadline deadline) {
+        deadlinesById.put(deadline.deadlineId, deadline);
+        deadlinesByName.compute(deadline.deadlineName, (name, deadlines) -> add(deadlines, deadline));
+        deadlinesByScope.compute(deadline.scopeKey, (key, deadlines) -> add(deadlines, deadline));
+    }
+
+    private static Set<ScheduledDeadline> add(Set<ScheduledDeadline> deadlines, ScheduledDeadline deadline) {
+        Set<ScheduledDeadline> result = deadlines == null ? new HashSet<>() : deadlines;
+        result.add(deadline);
+        return result;
+    }
+
+    private void unindex(ScheduledDeadline deadline) {
+        deadlinesById.remove(deadline.deadlineId, deadline);
+        deadlinesByName.computeIfPresent(deadline.deadlineName, (name, deadlines) -> remove(deadlines, deadline));
+        deadlinesByScope.computeIfPresent(deadline.scopeKey, (key, deadlines) -> remove(deadlines, deadline));
+    }
+
+    private static Set<ScheduledDeadline> remove(Set<ScheduledDeadline> deadlines, ScheduledDeadline deadline) {
+        deadlines.remove(deadline);
+        return deadlines.isEmpty() ? null : deadlines;
+    }
+
+    private void tick() {
+        long tick = (System.nanoTime() - startTime) / tickNanos;
+        while (!shutdown) {
+            long sleepNanos = startTime + (tick + 1) * tickNanos - System.nanoTime();
+            if (sleepNanos > 0) {
+                LockSupport.parkNanos(this, sleepNanos);
+                continue;
+            }
+            tick++;
+            ScheduledDeadline deadline;
+            while ((deadline = cancelledDeadlines.poll()) != null) {
+                deadline.unlink();
+            }
+            while ((deadline = scheduledDeadlines.poll()) != null) {
+                if (deadline.expirationTick <= tick) {
+                    trigger(deadline);
+                } else if (!deadline.isComplete()) {
+                    wheel.add(deadline, tick);
+                }
+            }
+            wheel.advance(tick, this::trigger);
+        }
+    }
+
+    private void trigger(ScheduledDeadline deadline) {
+        if (!deadline.complete()) {
+            return;
+        }
+        unindex(deadline);
+        try {
+            executor.execute(new DeadlineTask(deadline));
+        } catch (RejectedExecutionException e) {
+            logger.error("The deadline [{}] with identifier [{}] was rejected by the executor and will not trigger",
+                         deadline.deadlineName, deadline.deadlineId, e);
+        }
+    }
+
+    @Override
+    public void registerLifecycleHandlers(@Nonnull LifecycleRegistry lifecycle) {
+        lifecycle.onShutdown(Phase.INBOUND_EVENT_CONNECTORS, this::shutdown);
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        Thread tickerThread = ticker;
+        if (tickerThread != null) {
+            LockSupport.unpark(tickerThread);
+        }
+        if (executor instanceof ExecutorService) {
+            ((ExecutorService) executor).shutdown();
+        }
+    }
+
+    /**
+     * A hierarchical timing wheel, in which every level consists of the same number of buckets. A bucket on level
+     * {@code n} spans {@code ticksPerWheel^n} ticks. Deadlines are added to the lowest level able to hold them. Once
+     * the ticks of a bucket on a higher level are reached, its deadlines cascade down to the lower levels.
+     * <p>
+     * This class is not thread safe and should only be used by the ticker thread.
+     */
+    private static final class TimingWheel {
+
+        private final int bits;
+        private final int mask;
+        private final Bucket[][] levels;
+
+        private TimingWheel(int ticksPerWheel) {
+            this.bits = Integer.numberOfTrailingZeros(ticksPerWheel);
+            this.mask = ticksPerWheel - 1;
+            // enough levels to hold any positive tick
+            this.levels = new Bucket[(Long.SIZE - 1 + bits - 1) / bits][ticksPerWheel];
+            for (Bucket[] level : levels) {
+                for (int i = 0; i < level.length; i++) {
+                    level[i] = new Bucket();
+                }
+            }
+        }
+
+        private void add(ScheduledDeadline deadline, long currentTick) {
+            long remainingTicks = deadline.expirationTick - currentTick;
+            int level = 0;
+            while (level < levels.length - 1 && (remainingTicks >>> (bits * (level + 1))) != 0) {
+                level++;
+            }
+            levels[level][(int) (deadline.expirationTick >>> (bits * level)) & mask].add(deadline);
+        }
+
+        private void advance(long tick, Consumer<ScheduledDeadline> expired) {
+            for (int level = levels.length - 1; level > 0; level--) {
+                if ((tick & ((1L << (bits * level)) - 1)) == 0) {
+                    Bucket bucket = levels[level][(int) (tick >>> (bits * level)) & mask];
+                    ScheduledDeadline deadline;
+                    while ((deadline = bucket.poll()) != null) {
+                        if (deadline.expirationTick <= tick) {
+                            expired.accept(deadline);
+                        } else {
+                            add(deadline, tick);
+                        }
+                    }
+                }
+            }
+            Bucket bucket = levels[0][(int) tick & mask];
+            ScheduledDeadline deadline;
+            while ((deadline = bucket.poll()) != null) {
+                expired.accept(deadline);
+            }
+        }
+    }
+
+    /**
+     * A doubly linked list of deadlines, allowing deadlines to be removed in constant time.
+     */
+    private static final class Bucket {
+
+        private ScheduledDeadline head;
+        private ScheduledDeadline tail;
+
+        private void add(ScheduledDeadline deadline) {
+            deadline.bucket = this;
+            deadline.previous = tail;
+            deadline.next = null;
+            if (tail == null) {
+                head = deadline;
+            } else {
+                tail.next = deadline;
+            }
+            tail = deadline;
+        }
+
+        private ScheduledDeadline poll() {
+            ScheduledDeadline deadline = head;
+            if (deadline != null) {
+                remove(deadline);
+            }
+            return deadline;
+        }
+
+        private void remove(ScheduledDeadline deadline) {
+            if (deadline.previous == null) {
+                head = deadline.next;
+            } else {
+                deadline.previous.next = deadline.next;
+            }
+            if (deadline.next == null) {
+                tail = deadline.previous;
+            } else {
+                deadline.next.previous = deadline.previous;
+            }
+            deadline.bucket = null;
+            deadline.previous = null;
+            deadline.next = null;
+        }
+    }
+
+    private static final class ScheduledDeadline {
+
+        private final String deadlineName;
+        private final ScopeDescriptor deadlineScope;
+        private final String deadlineId;
+        private final DeadlineMessage<?> deadlineMessage;
+        private final long expirationTick;
+        private final ScopeKey scopeKey;
+        private final AtomicBoolean completed = new AtomicBoolean();
+
+        // only accessed by the ticker thread
+        private Bucket bucket;
+        private ScheduledDeadline previous;
+        private ScheduledDeadline next;
+
+        private ScheduledDeadline(String deadlineName,
+                                  ScopeDescriptor deadlineScope,
+                                  String deadlineId,
+                                  DeadlineMessage<?> deadlineMessage,
+                                  long expirationTick) {
+            this.deadlineName = deadlineName;
+            this.deadlineScope = deadlineScope;
+            this.deadlineId = deadlineId;
+            this.deadlineMessage = deadlineMessage;
+            this.expirationTick = expirationTick;
+            this.scopeKey = new ScopeKey(deadlineName, deadlineScope);
+        }
+
+        /**
+         * Marks this deadline as triggered or cancelled.
+         *
+         * @return {@code true} if this invocation completed the deadline, {@code false} if it was already completed
+         */
+        private boolean complete() {
+            return completed.compareAndSet(false, true);
+        }
+
+        private boolean isComplete() {
+            return completed.get();
+        }
+
+        private void unlink() {
+            if (bucket != null) {
+                bucket.remove(this);
+            }
+        }
+    }
+
+    private static final class ScopeKey {
+
+        private final String deadlineName;
+        private final ScopeDescriptor deadlineScope;
+
+        private ScopeKey(String deadlineName, ScopeDescriptor deadlineScope) {
+            this.deadlineName = deadlineName;
+            this.deadlineScope = deadlineScope;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(deadlineName, deadlineScope);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            ScopeKey other = (ScopeKey) obj;
+            return Objects.equals(this.deadlineName, other.deadlineName)
+                    && Objects.equals(this.deadlineScope, other.deadlineScope);
+        }
+    }
+
+    /**
+     * Builder class to instantiate a {@link TimingWheelDeadlineManager}.
+     * <p>
+     * The {@link Executor} triggering deadlines is defaulted to an {@link Executors#newSingleThreadExecutor()} which
+     * contains an {@link AxonThreadFactory}, the {@link ThreadFactory} for the ticker thread to an
+     * {@link AxonThreadFactory}, the {@link TransactionManager} defaults to a {@link NoTransactionManager}, and the
+     * {@link DeadlineManagerSpanFactory} is defaulted to a {@link DefaultDeadlineManagerSpanFactory} backed by a
+     * {@link NoOpSpanFactory}. The tick duration defaults to 10 milliseconds and the number of ticks per wheel to
+     * {@code 512}. The {@link ScopeAwareProvider} is a <b>hard requirement</b> and as such should be provided.
+     */
+    public static class Builder {
+
+        private ScopeAwareProvider scopeAwareProvider;
+        private Executor executor =
+                Executors.newSingleThreadExecutor(new AxonThreadFactory(THREAD_FACTORY_GROUP_NAME));
+        private ThreadFactory threadFactory = new AxonThreadFactory(THREAD_FACTORY_GROUP_NAME);
+        private TransactionManager transactionManager = NoTransactionManager.INSTANCE;
+        private DeadlineManagerSpanFactory spanFactory =
+                DefaultDeadlineManagerSpanFactory.builder().spanFactory(NoOpSpanFactory.INSTANCE).build();
+        private Duration tickDuration = Duration.ofMillis(10);
+        private int ticksPerWheel = 512;
+
+        /**
+         * Sets the {@link ScopeAwareProvider} which is capable of providing a stream of
+         * {@link org.axonframework.messaging.Scope} instances for a given {@link ScopeDescriptor}. Used to return the
+         * right Scope to trigger a deadline in.
+         *
+         * @param scopeAwareProvider a {@link ScopeAwareProvider} used to find the right
+         *                           {@link org.axonframework.messaging.Scope} to trigger a deadline in
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder scopeAwareProvider(@Nonnull ScopeAwareProvider scopeAwareProvider) {
+            assertNonNull(scopeAwareProvider, "ScopeAwareProvider may not be null");
+            this.scopeAwareProvider = scopeAwareProvider;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Executor} used to trigger deadlines once they are due. Defaults to a
+         * {@link Executors#newSingleThreadExecutor()}, containing an {@link AxonThreadFactory}. If the given
+         * {@code executor} is an {@link ExecutorService}, it is shut down when this deadline manager shuts down.
+         *
+         * @param executor an {@link Executor} used to trigger deadlines
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder executor(@Nonnull Executor executor) {
+            assertNonNull(executor, "Executor may not be null");
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Sets the {@link ThreadFactory} used to create the thread advancing the timing wheel. This thread is started
+         * once the first deadline is scheduled. Defaults to an {@link AxonThreadFactory}.
+         *
+         * @param threadFactory a {@link ThreadFactory} used to create the thread advancing the timing wheel
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder threadFactory(@Nonnull ThreadFactory threadFactory) {
+            assertNonNull(threadFactory, "ThreadFactory may not be null");
+            this.threadFactory = threadFactory;
+            return this;
+        }
+
+        /**
+         * Sets the {@link TransactionManager} used to build transactions and ties them to deadline. Defaults to a
+         * {@link NoTransactionManager}.
+         *
+         * @param transactionManager a {@link TransactionManager} used to build transactions and ties them to deadline
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder transactionManager(@Nonnull TransactionManager transactionManager) {
+            assertNonNull(transactionManager, "TransactionManager may not be null");
+            this.transactionManager = transactionManager;
+            return this;
+        }
+
+        /**
+         * Sets the {@link DeadlineManagerSpanFactory} implementation to use for providing tracing capabilities.
+         * Defaults to a {@link DefaultDeadlineManagerSpanFactory} backed by a {@link NoOpSpanFactory} by default, which
+         * provides no tracing capabilities.
+         *
+         * @param spanFactory The {@link DeadlineManagerSpanFactory} implementation
+         * @return The current Builder instance, for fluent interfacing.
+         */
+        public Builder spanFactory(@Nonnull DeadlineManagerSpanFactory spanFactory) {
+            assertNonNull(spanFactory, "SpanFactory may not be null");
+            this.spanFactory = spanFactory;
+            return this;
+        }
+
+        /**
+         * Sets the duration of a single tick of the timing wheel. Deadlines trigger on the first tick at or after
+         * their trigger time. Shorter ticks thus trigger deadlines more precisely, at the cost of waking up the ticker
+         * thread more often. Defaults to 10 milliseconds.
+         *
+         * @param tickDuration the duration of a single tick of the timing wheel
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder tickDuration(@Nonnull Duration tickDuration) {
+            assertNonNull(tickDuration, "The tick duration may not be null");
+            assertThat(tickDuration,
+                       duration -> !duration.isNegative() && !duration.isZero(),
+                       "The tick duration should be strictly positive");
+            this.tickDuration = tickDuration;
+            return this;
+        }
+
+        /**
+         * Sets the number of ticks, or buckets, of every level of the hierarchical timing wheel. Deadlines due within
+         * this number of ticks are kept in the lowest level. Deadlines further away are kept in higher levels, which
+         * are cascaded down as time passes. Should be a power of two of at least {@code 2}. Defaults to {@code 512}.
+         *
+         * @param ticksPerWheel the number of ticks of every level of the hierarchical timing wheel
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder ticksPerWheel(int ticksPerWheel) {
+            assertThat(ticksPerWheel,
+                       ticks -> ticks >= 2 && Integer.bitCount(ticks) == 1,
+                       "The ticks per wheel should be a power of two of at least 2");
+            this.ticksPerWheel = ticksPerWheel;
+            return this;
+        }
+
+        /**
+         * Initializes a {@link TimingWheelDeadlineManager} as specified through this Builder.
+         *
+         * @return a {@link TimingWheelDeadlineManager} as specified through this Builder
+         */
+        public TimingWheelDeadlineManager build() {
+            return new TimingWheelDeadlineManager(this);
+        }
+
+        /**
+         * Validates whether the fields contained in this Builder are set accordingly.
+         *
+         * @throws AxonConfigurationException if one field is asserted to be incorrect according to the Builder's
+         *                                    specifications
+         */
+        protected void validate() throws AxonConfigurationException {
+            assertNonNull(scopeAwareProvider, "The ScopeAwareProvider is a hard requirement and should be provided");
+        }
+    }
+
+    private class DeadlineTask implements Runnable {
+
+        private final ScheduledDeadline deadline;
+
+        private DeadlineTask(ScheduledDeadline deadline) {
+            this.deadline = deadline;
+        }
+
+        @Override
+        public void run() {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Triggered deadline");
+            }
+
+            Span span = spanFactory.createExecuteSpan(deadline.deadlineName,
+                                                      deadline.deadlineId,
+                                                      deadline.deadlineMessage)
+                                   .start();
+            try (SpanScope unused = span.makeCurrent()) {
+                Instant triggerInstant = GenericEventMessage.clock.instant();
+                UnitOfWork<DeadlineMessage<?>> unitOfWork = new DefaultUnitOfWork<>(new GenericDeadlineMessage<>(
+                        deadline.deadlineName,
+                        deadline.deadlineMessage,
+                        () -> triggerInstant));
+                unitOfWork.onRollback(uow -> span.recordException(uow.getExecutionResult().getExceptionResult()));
+                unitOfWork.attachTransaction(transactionManager);
+                InterceptorChain chain =
+                        new DefaultInterceptorChain<>(unitOfWork,
+                                                      handlerInterceptors(),
+                                                      deadlineMessage -> {
+                                                          executeScheduledDeadline(deadlineMessage,
+                                                                                   deadline.deadlineScope);
+                                                          return null;
+                                                      });
+                ResultMessage<?> resultMessage = unitOfWork.executeWithResult(chain::proceed);
+                if (resultMessage.isExceptional()) {
+                    Throwable e = resultMessage.exceptionResult();
+                    logger.error("An error occurred while triggering the deadline [{}] with identifier [{}]",
+                                 deadline.deadlineName, deadline.deadlineId, e);
+                }
+            } catch (Exception e) {
+                span.recordException(e);
+                logger.error("An error occurred while triggering the deadline [{}] with identifier [{}]",
+                             deadline.deadlineName, deadline.deadlineId, e);
+            } finally {
+                span.end();
+            }
+        }
+
+        @SuppressWarnings("Duplicates")
+        private void executeScheduledDeadline(DeadlineMessage deadlineMessage, ScopeDescriptor deadlineScope) {
+            scopeAwareProvider.provideScopeAwareStream(deadlineScope)
+                              .filter(scopeAwareComponent -> scopeAwareComponent.canResolve(deadlineScope))
+                              .forEach(scopeAwareComponent -> {
+                                  try {
+                                      scopeAwareComponent.send(deadlineMessage, deadlineScope);
+                                  } catch (Exception e) {
+                                      String exceptionMessage = format(
+                                              "Failed to send a DeadlineMessage for scope [%s]",
+                                              deadlineScope.scopeDescription()
+                                      );
+                                      throw new ExecutionException(exceptionMessage, e);
+                                  }
+                              });
+        }
+    }
+}
@@ -0,0 +1,414 @@
+/*
+ * Copyright (c) 2010-2024. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.deadline.jdbc;
+
+import static org.axonframework.common.BuilderUtils.assertNonEmpty;
+
+/**
+ * Schema description of the table in which the {@link JdbcDeadlineManager} stores scheduled deadlines.
+ *
+ * @since 4.11.0
+ */
+public class DeadlineSchema {
+
+    private final String deadlineTable;
+    private final String deadlineIdentifierColumn;
+    private final String deadlineNameColumn;
+    private final String scopeHashColumn;
+    private final String triggerTimeColumn;
+    private final String scopeTypeColumn;
+    private final String scopeColumn;
+    private final String payloadTypeColumn;
+    private final String payloadRevisionColumn;
+    private final String payloadColumn;
+    private final String metaDataColumn;
+    private final String ownerColumn;
+    private final String claimedAtColumn;
+
+    /**
+     * Instantiate a {@link DeadlineSchema} based on the given {@link Builder builder}.
+     *
+     * @param builder The {@link Builder} used to instantiate a {@link DeadlineSchema} instance.
+     */
+    protected DeadlineSchema(Builder builder) {
+        this.deadlineTable = builder.deadlineTable;
+        this.deadlineIdentifierColumn = builder.deadlineIdentifierColumn;
+        this.deadlineNameColumn = builder.deadlineNameColumn;
+        this.scopeHashColumn = builder.scopeHashColumn;
+        this.triggerTimeColumn = builder.triggerTimeColumn;
+        this.scopeTypeColumn = builder.scopeTypeColumn;
+        this.scopeColumn = builder.scopeColumn;
+        this.payloadTypeColumn = builder.payloadTypeColumn;
+        this.payloadRevisionColumn = builder.payloadRevisionColumn;
+        this.payloadColumn = builder.payloadColumn;
+        this.metaDataColumn = builder.metaDataColumn;
+        this.ownerColumn = builder.ownerColumn;
+        this.claimedAtColumn = builder.claimedAtColumn;
+    }
+
+    /**
+     * Instantiate a builder to construct a {@link DeadlineSchema}.
+     * <p>
+     * The table defaults to {@code DeadlineEntry} and all configurable columns default to their respective field name.
+     * Thus, the result of the {@link #triggerTimeColumn()} defaults to {@code triggerTime}, etc.
+     *
+     * @return A Builder that can construct a {@link DeadlineSchema}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Instantiate a default {@link DeadlineSchema} using the pre-configured table and column names.
+     *
+     * @return A default {@link DeadlineSchema} using the pre-configured table and column names.
+     */
+    public static DeadlineSchema defaultSchema() {
+        return builder().build();
+    }
+
+    /**
+     * Returns the configured {@code deadline} table name.
+     *
+     * @return The configured {@code deadline} table name.
+     */
+    public String deadlineTable() {
+        return deadlineTable;
+    }
+
+    /**
+     * Returns the configured {@code deadlineIdentifier} column name.
+     *
+     * @return The configured {@code deadlineIdentifier} column name.
+     */
+    public String deadlineIdentifierColumn() {
+        return deadlineIdentifierColumn;
+    }
+
+    /**
+     * Returns the configured {@code deadlineName} column name.
+     *
+     * @return The configured {@code deadlineName} column name.
+     */
+    public String deadlineNameColumn() {
+        return deadlineNameColumn;
+    }
+
+    /**
+     * Returns the configured {@code scopeHash} column name. This column contains a hash of the serialized
+     * {@link org.axonframework.messaging.ScopeDescriptor}, allowing deadlines to be cancelled by their scope through
+     * an index.
+     *
+     * @return The configured {@code scopeHash} column name.
+     */
+    public String scopeHashColumn() {
+        return scopeHashColumn;
+    }
+
+    /**
+     * Returns the configured {@code triggerTime} column name. This column contains the moment the deadline is due, in
+     * milliseconds since the epoch.
+     *
+     * @return The configured {@code triggerTime} column name.
+     */
+    public String triggerTimeColumn() {
+        return triggerTimeColumn;
+    }
+
+    /**
+     * Returns the configured {@code scopeType} column name.
+     *
+     * @return The configured {@code scopeType} column name.
+     */
+    public String scopeTypeColumn() {
+        return scopeTypeColumn;
+    }
+
+    /**
+     * Returns the configured {@code scope} column name.
+     *
+     * @return The configured {@code scope} column name.
+     */
+    public String scopeColumn() {
+        return scopeColumn;
+    }
+
+    /**
+     * Returns the configured {@code payloadType} column name.
+     *
+     * @return The configured {@code payloadType} column name.
+     */
+    public String payloadTypeColumn() {
+        return payloadTypeColumn;
+    }
+
+    /**
+     * Returns the configured {@code payloadRevision} column name.
+     *
+     * @return The configured {@code payloadRevision} column name.
+     */
+    public String payloadRevisionColumn() {
+        return payloadRevisionColumn;
+    }
+
+    /**
+     * Returns the configured {@code payload} column name.
+     *
+     * @return The configured {@code payload} column name.
+     */
+    public String payloadColumn() {
+        return payloadColumn;
+    }
+
+    /**
+     * Returns the configured {@code metaData} column name.
+     *
+     * @return The configured {@code metaData} column name.
+     */
+    public String metaDataColumn() {
+        return metaDataColumn;
+    }
+
+    /**
+     * Returns the configured {@code owner} column name. This column contains the identifier of the node that claimed
+     * the deadline for triggering.
+     *
+     * @return The configured {@code owner} column name.
+     */
+    public String ownerColumn() {
+        return ownerColumn;
+    }
+
+    /**
+     * Returns the configured {@code claimedAt} column name. This column contains the moment the deadline was claimed
+     * for triggering, in milliseconds since the epoch.
+     *
+     * @return The configured {@code claimedAt} column name.
+     */
+    public String claimedAtColumn() {
+        return claimedAtColumn;
+    }
+
+    /**
+     * Return a comma separated list of the deadline column names to insert a deadline into the
+     * {@link #deadlineTable() deadline table}. Excludes the {@link #ownerColumn()} and {@link #claimedAtColumn()},
+     * which are only set when the deadline is claimed.
+     *
+     * @return A comma separated list of deadline column names.
+     */
+    public String deadlineFields() {
+        return String.join(",",
+                           deadlineIdentifierColumn,
+                           deadlineNameColumn,
+                           scopeHashColumn,
+                           triggerTimeColumn,
+                           scopeTypeColumn,
+                           scopeColumn,
+                           payloadTypeColumn,
+                           payloadRevisionColumn,
+                           payloadColumn,
+                           metaDataColumn);
+    }
+
+    /**
+     * Builder class to instantiate a {@link DeadlineSchema}.
+     * <p>
+     * The table defaults to {@code DeadlineEntry} and all configurable columns default to their respective field name.
+     * Thus, the result of the {@link #triggerTimeColumn()} defaults to {@code triggerTime}, etc.
+     */
+    public static class Builder {
+
+        private String deadlineTable = "DeadlineEntry";
+        private String deadlineIdentifierColumn = "deadlineIdentifier";
+        private String deadlineNameColumn = "deadlineName";
+        private String scopeHashColumn = "scopeHash";
+        private String triggerTimeColumn = "triggerTime";
+        private String scopeTypeColumn = "scopeType";
+        private String scopeColumn = "scope";
+        private String payloadTypeColumn = "payloadType";
+        private String payloadRevisionColumn = "payloadRevision";
+        private String payloadColumn = "payload";
+        private String metaDataColumn = "metaData";
+        private String ownerColumn = "owner";
+        private String claimedAtColumn = "claimedAt";
+
+        /**
+         * Sets the name of the deadline table. Defaults to {@code DeadlineEntry}.
+         *
+         * @param deadlineTable The name for the deadline table.
+         * @return The current Builder instance, for fluent interfacing.
+         */
+        public Builder deadlineTable(String deadlineTable) {
+            assertNonEmpty(deadlineTable, "The deadlineTable should be not null or empty");
+            this.deadlineTable = deadlineTable;
+            return this;
+        }
+
+        /**
+         * Sets the name of the {@code deadlineIdentifier} column. Defaults to {@code deadlineIdentifier}.
+         *
+         * @param deadlineIdentifierColumn The name for the {@code deadlineIdentifier} column.
+         * @return The current Builder instance, for fluent interfacing.
+         */
+        public Builder deadlineIdentifierColumn(String deadlineIdentifierColumn) {
+            assertNonEmpty(deadlineIdentifierColumn, "The deadlineIdentifierColumn should be not null or empty");
+            this.deadlineIdentifierColumn = deadlineIdentifierColumn;
+            return this;
+        }
+
+        /**
+         * Sets the name of the {@code deadlineName} column. Defaults to {@code deadlineName}.
+         *
+         * @param deadlineNameColumn The name for the {@code deadlineName} column.
+         * @return The current Builder instance, for fluent interfacing.
+         */
+        public Builder deadlineNameColumn(String deadlineNameColumn) {
+            assertNonEmpty(deadlineNameColumn, "The deadlineNameColumn should be not null or empty");
+            this.deadlineNameColumn = deadlineNameColumn;
+            return this;
+        }
+
+        /**
+         * Sets the name of the {@code scopeHash} column. Defaults to {@code scopeHash}.
+         *
+         * @param scopeHashColumn The name for the {@code scopeHash} column.
+         * @return The current Builder instance, for fluent interfacing.
+         */
+        public Builder scopeHashColumn(String scopeHashColumn) {
+            assertNonEmpty(scopeHashColumn, "The scopeHashColumn should be not null or empty");
+            this.scopeHashColumn = scopeHashColumn;
+            return this;
+        }
+
+        /**
+         * Sets the name of the {@code triggerTime} column. Defaults to {@code triggerTime}.
+         *
+         * @param triggerTimeColumn The name for the {@code triggerTime} column.
+         * @return The current Builder instance, for fluent interfacing.
+         */
+        public Builder triggerTimeColumn(String triggerTimeColumn) {
+            assertNonEmpty(triggerTimeColumn, "The triggerTimeColumn should be not null or empty");
+            this.triggerTimeColumn = triggerTimeColumn;
+            return this;
+        }
+
+        /**
+         * Sets the name of the {@code scopeType} column. Defaults to {@code scopeType}.
+         *
+         * @param scopeTypeColumn The name for the {@code scopeType} column.
+         * @return The current Builder instance, for fluent interfacing.
+         */
+        public Builder scopeTypeColumn(String scopeTypeColumn) {
+            assertNonEmpty(scopeTypeColumn, "The scopeTypeColumn should be not null or empty");
+            this.scopeTypeColumn = scopeTypeColumn;
+            return this;
+        }
+
+        /**
+         * Sets the name of the {@code scope} column. Defaults to {@code scope}.
+         *
+         * @param scopeColumn The name for the {@code scope} column.
+         * @return The current Builder instance, for fluent interfacing.
+         */
+        public Builder scopeColumn(String scopeColumn) {
+            assertNonEmpty(scopeColumn, "The scopeColumn should be not null or empty");
+            this.scopeColumn = scopeColumn;
+            return this;
+        }
+
+        /**
+         * Sets the name of the {@code payloadType} column. Defaults to {@code payloadType}.
+         *
+         * @param payloadTypeColumn The name for the {@code payloadType} column.
+         * @return The current Builder instance, for fluent interfacing.
+         */
+        public Builder payloadTypeColumn(String payloadTypeColumn) {
+            assertNonEmpty(payloadTypeColumn, "The payloadTypeColumn should be not null or empty");
+            this.payloadTypeColumn = payloadTypeColumn;
+            return this;
+        }
+
+        /**
+         * Sets the name of the {@code payloadRevision} column. Defaults to {@code payloadRevision}.
+         *
+         * @param payloadRevisionColumn The name for the {@code payloadRevision} column.
+         * @return The current Builder instance, for fluent interfacing.
+         */
+        public Builder payloadRevisionColumn(String payloadRevisionColumn) {
+            assertNonEmpty(payloadRevisionColumn, "The payloadRevisionColumn should be not null or empty");
+            this.payloadRevisionColumn = payloadRevisionColumn;
+            return this;
+        }
+
+        /**
+         * Sets the name of the {@code payload} column. Defaults to {@code payload}.
+         *
+         * @param payloadColumn The name for the {@code payload} column.
+         * @return The current Builder instance, for fluent interfacing.
+         */
+        public Builder payloadColumn(String payloadColumn) {
+            assertNonEmpty(payloadColumn, "The payloadColumn should be not null or empty");
+            this.payloadColumn = payloadColumn;
+            return this;
+        }
+
+        /**
+         * Sets the name of the {@code metaData} column. Defaults to {@code metaData}.
+         *
+         * @param metaDataColumn The name for the {@code metaData} column.
+         * @return The current Builder instance, for fluent interfacing.
+         */
+        public Builder metaDataColumn(String metaDataColumn) {
+            assertNonEmpty(metaDataColumn, "The metaDataColumn should be not null or empty");
+            this.metaDataColumn = metaDataColumn;
+            return this;
+        }
+
+        /**
+         * Sets the name of the {@code owner} column. Defaults to {@code owner}.
+         *
+         * @param ownerColumn The name for the {@code owner} column.
+         * @return The current Builder instance, for fluent interfacing.
+         */
+        public Builder ownerColumn(String ownerColumn) {
+            assertNonEmpty(ownerColumn, "The ownerColumn should be not null or empty");
+            this.ownerColumn = ownerColumn;
+            return this;
+        }
+
+        /**
+         * Sets the name of the {@code claimedAt} column. Defaults to {@code claimedAt}.
+         *
+         * @param claimedAtColumn The name for the {@code claimedAt} column.
+         * @return The current Builder instance, for fluent interfacing.
+         */
+        public Builder claimedAtColumn(String claimedAtColumn) {
+            assertNonEmpty(claimedAtColumn, "The claimedAtColumn should be not null or empty");
+            this.claimedAtColumn = claimedAtColumn;
+            return this;
+        }
+
+        /**
+         * Initializes a {@link DeadlineSchema} as specified through this Builder.
+         *
+         * @return A {@link DeadlineSchema} as specified through this Builder.
+         */
+        public DeadlineSchema build() {
+            return new DeadlineSchema(this);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2010-2024. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.deadline.jdbc;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * A functional interface to create the table, and its indices, in which the {@link JdbcDeadlineManager} stores
+ * scheduled deadlines. Also describes the database specific syntax the {@link JdbcDeadlineManager} uses to query that
+ * table.
+ *
+ * @since 4.11.0
+ */
+@FunctionalInterface
+public interface DeadlineTableFactory {
+
+    /**
+     * Creates a {@link Statement} to use for construction of the deadline table and its indices.
+     * <p>
+     * The returned {@code Statement} typically contains several SQL statements and hence the invoker is inclined to
+     * execute the {@code Statement} as a batch by invoking {@link Statement#executeBatch()}.
+     *
+     * @param connection The connection to create the {@link Statement} with.
+     * @param schema     The schema defining the table and column names.
+     * @return A {@link Statement statement} to create the table and its indices with, ready to be
+     * {@link Statement#executeBatch() executed}.
+     * @throws SQLException when an exception occurs while creating the {@link Statement}.
+     */
+    Statement createTableStatement(Connection connection, DeadlineSchema schema) throws SQLException;
+
+    /**
+     * Returns the clause limiting the rows selected by a query to the given {@code maxRows}. The clause is placed
+     * after the {@code ORDER BY} clause and before the {@code FOR UPDATE} clause of the query, so that only the
+     * limited rows are locked. Defaults to the standard {@code FETCH FIRST n ROWS ONLY}.
+     *
+     * @param maxRows The maximum number of rows selected by the query.
+     * @return The clause limiting the rows selected by a query to the given {@code maxRows}.
+     */
+    default String limitClause(int maxRows) {
+        return "FETCH FIRST " + maxRows + " ROWS ONLY";
+    }
+}
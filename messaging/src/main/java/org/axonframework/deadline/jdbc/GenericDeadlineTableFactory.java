@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2010-2024. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.deadline.jdbc;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * A {@link DeadlineTableFactory} implementation compatible with most databases.
+ *
+ * @since 4.11.0
+ */
+@SuppressWarnings({"SqlDialectInspection", "SqlNoDataSourceInspection"})
+public class GenericDeadlineTableFactory implements DeadlineTableFactory {
+
+    /**
+     * Creates a singleton reference to the {@link GenericDeadlineTableFactory} implementation.
+     */
+    public static final GenericDeadlineTableFactory INSTANCE = new GenericDeadlineTableFactory();
+
+    protected GenericDeadlineTableFactory() {
+    }
+
+    @Override
+    public Statement createTableStatement(Connection connection, DeadlineSchema schema) throws SQLException {
+        Statement statement = connection.createStatement();
+        statement.addBatch(createTableSql(schema));
+        statement.addBatch(triggerTimeIndexSql(schema));
+        statement.addBatch(scopeIndexSql(schema));
+        return statement;
+    }
+
+    /**
+     * Constructs the SQL to create a deadline table, using the given {@code schema} to deduce the table and column
+     * names.
+     *
+     * @param schema The schema defining the table and column names.
+     * @return The SQL to construct the deadline table.
+     */
+    protected String createTableSql(DeadlineSchema schema) {
+        return "CREATE TABLE IF NOT EXISTS " + schema.deadlineTable() + " (\n" +
+                schema.deadlineIdentifierColumn() + " VARCHAR(255) NOT NULL,\n" +
+                schema.deadlineNameColumn() + " VARCHAR(255) NOT NULL,\n" +
+                schema.scopeHashColumn() + " VARCHAR(32) NOT NULL,\n" +
+                schema.triggerTimeColumn() + " BIGINT NOT NULL,\n" +
+                schema.scopeTypeColumn() + " VARCHAR(255) NOT NULL,\n" +
+                schema.scopeColumn() + " " + serializedDataType() + " NOT NULL,\n" +
+                schema.payloadTypeColumn() + " VARCHAR(255),\n" +
+                schema.payloadRevisionColumn() + " VARCHAR(255),\n" +
+                schema.payloadColumn() + " " + serializedDataType() + ",\n" +
+                schema.metaDataColumn() + " " + serializedDataType() + ",\n" +
+                schema.ownerColumn() + " VARCHAR(255),\n" +
+                schema.claimedAtColumn() + " BIGINT,\n" +
+                "PRIMARY KEY (" + schema.deadlineIdentifierColumn() + ")\n)";
+    }
+
+    /**
+     * Constructs the SQL to create an index of the {@link DeadlineSchema#triggerTimeColumn() trigger time}, using the
+     * given {@code schema} to deduce the table and column names. This index is used to find due deadlines.
+     *
+     * @param schema The schema defining the table and column names.
+     * @return The SQL to construct the index for the {@link DeadlineSchema#triggerTimeColumn() trigger time} of the
+     * deadline table.
+     */
+    protected String triggerTimeIndexSql(DeadlineSchema schema) {
+        return "CREATE INDEX " + schema.deadlineTable() + "_" + schema.triggerTimeColumn() + "_INDEX "
+                + "ON " + schema.deadlineTable() + " "
+                + "(" + schema.triggerTimeColumn() + ")";
+    }
+
+    /**
+     * Constructs the SQL to create an index for the {@link DeadlineSchema#deadlineNameColumn() deadline name} and
+     * {@link DeadlineSchema#scopeHashColumn() scope hash} combination, using the given {@code schema} to deduce the
+     * table and column names. This index is used to cancel deadlines by their name, and by their name and scope.
+     *
+     * @param schema The schema defining the table and column names.
+     * @return The SQL to construct the index for the {@link DeadlineSchema#deadlineNameColumn() deadline name} and
+     * {@link DeadlineSchema#scopeHashColumn() scope hash} combination of the deadline table.
+     */
+    protected String scopeIndexSql(DeadlineSchema schema) {
+        return "CREATE INDEX " + schema.deadlineTable() + "_" + schema.scopeHashColumn() + "_INDEX "
+                + "ON " + schema.deadlineTable() + " "
+                + "(" + schema.deadlineNameColumn() + "," + schema.scopeHashColumn() + ")";
+    }
+
+    /**
+     * Returns the SQL to describe the type for serialized data columns.
+     * <p>
+     * Used for the {@link DeadlineSchema#scopeColumn()}, {@link DeadlineSchema#payloadColumn()} and the
+     * {@link DeadlineSchema#metaDataColumn()}. Defaults to {@code BLOB}.
+     *
+     * @return The SQL to describe the type for serialized data columns.
+     */
+    protected String serializedDataType() {
+        return "BLOB";
+    }
+}
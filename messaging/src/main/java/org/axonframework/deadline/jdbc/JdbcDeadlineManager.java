@@ -0,0 +1,944 @@
+/*
+ * Copyright (c) 2010-2024. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.deadline.jdbc;
+
+import org.axonframework.common.AxonConfigurationException;
+import org.axonframework.common.AxonThreadFactory;
+import org.axonframework.common.digest.Digester;
+import org.axonframework.common.jdbc.ConnectionProvider;
+import org.axonframework.common.jdbc.JdbcException;
+import org.axonframework.common.transaction.NoTransactionManager;
+import org.axonframework.common.transaction.TransactionManager;
+import org.axonframework.deadline.AbstractDeadlineManager;
+import org.axonframework.deadline.DeadlineManager;
+import org.axonframework.deadline.DeadlineManagerSpanFactory;
+import org.axonframework.deadline.DeadlineMessage;
+import org.axonframework.deadline.DefaultDeadlineManagerSpanFactory;
+import org.axonframework.deadline.GenericDeadlineMessage;
+import org.axonframework.eventhandling.GenericEventMessage;
+import org.axonframework.lifecycle.Lifecycle;
+import org.axonframework.lifecycle.Phase;
+import org.axonframework.messaging.DefaultInterceptorChain;
+import org.axonframework.messaging.ExecutionException;
+import org.axonframework.messaging.InterceptorChain;
+import org.axonframework.messaging.MetaData;
+import org.axonframework.messaging.ResultMessage;
+import org.axonframework.messaging.ScopeAwareProvider;
+import org.axonframework.messaging.ScopeDescriptor;
+import org.axonframework.messaging.unitofwork.DefaultUnitOfWork;
+import org.axonframework.messaging.unitofwork.UnitOfWork;
+import org.axonframework.serialization.SerializedMetaData;
+import org.axonframework.serialization.SerializedObject;
+import org.axonframework.serialization.Serializer;
+import org.axonframework.serialization.SimpleSerializedObject;
+import org.axonframework.tracing.NoOpSpanFactory;
+import org.axonframework.tracing.Span;
+import org.axonframework.tracing.SpanScope;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.Nonnull;
+
+import static java.lang.String.format;
+import static org.axonframework.common.BuilderUtils.assertNonEmpty;
+import static org.axonframework.common.BuilderUtils.assertNonNull;
+import static org.axonframework.common.BuilderUtils.assertStrictPositive;
+import static org.axonframework.common.BuilderUtils.assertThat;
+import static org.axonframework.common.jdbc.JdbcUtils.*;
+import static org.axonframework.deadline.GenericDeadlineMessage.asDeadlineMessage;
+
+/**
+ * Implementation of {@link DeadlineManager} which stores scheduled deadlines in a database table through JDBC.
+ * Contrary to the {@link org.axonframework.deadline.quartz.QuartzDeadlineManager},
+ * {@link org.axonframework.deadline.dbscheduler.DbSchedulerDeadlineManager} and
+ * {@link org.axonframework.deadline.jobrunr.JobRunrDeadlineManager}, which store every deadline as a separate job of a
+ * scheduling library, this manager keeps deadlines in a single compact table, indexed by their trigger time.
+ * <p>
+ * Every {@link Builder#pollInterval(Duration) poll interval}, due deadlines are claimed in batches of
+ * {@link Builder#batchSize(int) batch size}. Claiming selects the due deadlines with {@code FOR UPDATE SKIP LOCKED},
+ * so that several nodes can claim deadlines concurrently without blocking one another, after which the selected
+ * deadlines are marked with the identifier of this node. The claimed deadlines are triggered on the configured
+ * {@link Executor}, in parallel per {@link ScopeDescriptor scope}, and removed once triggered. If a node fails to
+ * trigger its claimed deadlines, they can be claimed by another node once the {@link Builder#claimTimeout(Duration)
+ * claim timeout} has passed. Hence, deadlines are triggered at least once.
+ * <p>
+ * Cancelling deadlines deletes them through the primary key, or through an index on the deadline name and a hash of
+ * the serialized scope, rather than scanning all scheduled deadlines.
+ * <p>
+ * Before using this deadline manager make sure the database contains a table named
+ * {@link DeadlineSchema#deadlineTable()} in which to store the deadlines. For convenience, this table can be
+ * constructed through the {@link #createSchema(DeadlineTableFactory)} operation.
+ *
+ * @since 4.11.0
+ */
+public class JdbcDeadlineManager extends AbstractDeadlineManager implements Lifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(JdbcDeadlineManager.class);
+    private static final String THREAD_FACTORY_GROUP_NAME = "deadlineManager";
+
+    private final ScopeAwareProvider scopeAwareProvider;
+    private final ConnectionProvider connectionProvider;
+    private final Serializer serializer;
+    private final TransactionManager transactionManager;
+    private final DeadlineManagerSpanFactory spanFactory;
+    private final DeadlineSchema schema;
+    private final Executor executor;
+    private final ExecutorService defaultExecutor;
+    private final ScheduledExecutorService pollingExecutor;
+    private final Duration pollInterval;
+    private final int batchSize;
+    private final Duration claimTimeout;
+    private final String nodeId;
+    private final boolean skipLockedRows;
+    private final DeadlineTableFactory tableFactory;
+
+    private final AtomicBoolean started = new AtomicBoolean();
+    private volatile boolean shutdown;
+
+    /**
+     * Instantiate a Builder to be able to create a {@link JdbcDeadlineManager}.
+     * <p>
+     * The {@link TransactionManager} defaults to a {@link NoTransactionManager}, the
+     * {@link DeadlineManagerSpanFactory} to a {@link DefaultDeadlineManagerSpanFactory} backed by a
+     * {@link NoOpSpanFactory}, and the {@link DeadlineSchema} to the {@link DeadlineSchema#defaultSchema()}. The
+     * {@link Executor} triggering deadlines is defaulted to an {@link Executors#newFixedThreadPool(int)} of four
+     * threads, and the {@link ThreadFactory} for the polling thread to an {@link AxonThreadFactory}. The poll interval
+     * defaults to 1 second, the batch size to {@code 100}, the claim timeout to 1 minute, the {@code nodeId} to the
+     * name of the managed bean for the runtime system of the Java virtual machine, rows are selected with
+     * {@code SKIP LOCKED} and the {@link DeadlineTableFactory} defaults to the {@link GenericDeadlineTableFactory}. The
+     * {@link ScopeAwareProvider}, {@link ConnectionProvider} and {@link Serializer} are <b>hard requirements</b> and
+     * as such should be provided.
+     *
+     * @return a Builder to be able to create a {@link JdbcDeadlineManager}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Instantiate a {@link JdbcDeadlineManager} based on the fields contained in the {@link Builder}.
+     * <p>
+     * Will assert that the {@link ScopeAwareProvider}, {@link ConnectionProvider} and {@link Serializer} are not
+     * {@code null}, and will throw an {@link AxonConfigurationException} if any of them is {@code null}.
+     *
+     * @param builder the {@link Builder} used to instantiate a {@link JdbcDeadlineManager} instance
+     */
+    protected JdbcDeadlineManager(Builder builder) {
+        builder.validate();
+        this.scopeAwareProvider = builder.scopeAwareProvider;
+        this.connectionProvider = builder.connectionProvider;
+        this.serializer = builder.serializer;
+        this.transactionManager = builder.transactionManager;
+        this.spanFactory = builder.spanFactory;
+        this.schema = builder.schema;
+        if (builder.executor != null) {
+            this.executor = builder.executor;
+            this.defaultExecutor = null;
+        } else {
+            this.defaultExecutor = Executors.newFixedThreadPool(4, new AxonThreadFactory(THREAD_FACTORY_GROUP_NAME));
+            this.executor = defaultExecutor;
+        }
+        this.pollingExecutor = Executors.newSingleThreadScheduledExecutor(builder.threadFactory);
+        this.pollInterval = builder.pollInterval;
+        this.batchSize = builder.batchSize;
+        this.claimTimeout = builder.claimTimeout;
+        this.nodeId = builder.nodeId;
+        this.skipLockedRows = builder.skipLockedRows;
+        this.tableFactory = builder.tableFactory;
+    }
+
+    /**
+     * Performs the DDL queries to create the schema necessary for this deadline manager implementation.
+     *
+     * @param tableFactory factory of the deadline table and its indices
+     */
+    public void createSchema(DeadlineTableFactory tableFactory) {
+        Connection connection = getConnection();
+        try {
+            Statement statement = tableFactory.createTableStatement(connection, schema);
+            try {
+                statement.executeBatch();
+            } finally {
+                closeQuietly(statement);
+            }
+        } catch (SQLException e) {
+            throw new JdbcException("Failed to create the deadline table", e);
+        } finally {
+            closeQuietly(connection);
+        }
+    }
+
+    @Override
+    public String schedule(@Nonnull Instant triggerDateTime,
+                           @Nonnull String deadlineName,
+                           Object messageOrPayload,
+                           @Nonnull ScopeDescriptor deadlineScope) {
+        DeadlineMessage<?> deadlineMessage = asDeadlineMessage(deadlineName, messageOrPayload, triggerDateTime);
+        String deadlineId = deadlineMessage.getIdentifier();
+        Span span = spanFactory.createScheduleSpan(deadlineName, deadlineId, deadlineMessage);
+        runOnPrepareCommitOrNow(span.wrapRunnable(() -> {
+            DeadlineMessage<?> interceptedDeadlineMessage = processDispatchInterceptors(deadlineMessage);
+            transactionManager.executeInTransaction(() -> {
+                Connection connection = getConnection();
+                try {
+                    executeUpdate(connection,
+                                  c -> insertDeadline(c, deadlineId, triggerDateTime,
+                                                      interceptedDeadlineMessage, deadlineScope),
+                                  e -> new JdbcException(format("Failed to schedule deadline [%s] with identifier [%s]",
+                                                                deadlineName, deadlineId), e));
+                } finally {
+                    closeQuietly(connection);
+                }
+            });
+            start();
+        }));
+        return deadlineId;
+    }
+
+    @Override
+    public void cancelSchedule(@Nonnull String deadlineName, @Nonnull String scheduleId) {
+        Span span = spanFactory.createCancelScheduleSpan(deadlineName, scheduleId);
+        runOnPrepareCommitOrNow(span.wrapRunnable(() -> cancel(
+                c -> deleteDeadline(c, deadlineName, scheduleId),
+                format("Failed to cancel deadline [%s] with identifier [%s]", deadlineName, scheduleId)
+        )));
+    }
+
+    @Override
+    public void cancelAll(@Nonnull String deadlineName) {
+        Span span = spanFactory.createCancelAllSpan(deadlineName);
+        runOnPrepareCommitOrNow(span.wrapRunnable(() -> cancel(
+                c -> deleteDeadlines(c, deadlineName),
+                format("Failed to cancel all deadlines with name [%s]", deadlineName)
+        )));
+    }
+
+    @Override
+    public void cancelAllWithinScope(@Nonnull String deadlineName, @Nonnull ScopeDescriptor scope) {
+        Span span = spanFactory.createCancelAllWithinScopeSpan(deadlineName, scope);
+        runOnPrepareCommitOrNow(span.wrapRunnable(() -> {
+            String scopeHash = scopeHash(serializer.serialize(scope, byte[].class));
+            cancel(c -> deleteDeadlines(c, deadlineName, scopeHash),
+                   format("Failed to cancel all deadlines with name [%s] within scope [%s]",
+                          deadlineName, scope.scopeDescription()));
+        }));
+    }
+
+    private void cancel(SqlFunction deleteFunction, String errorMessage) {
+        transactionManager.executeInTransaction(() -> {
+            Connection connection = getConnection();
+            try {
+                executeUpdate(connection, deleteFunction, e -> new JdbcException(errorMessage, e));
+            } finally {
+                closeQuietly(connection);
+            }
+        });
+    }
+
+    /**
+     * Starts polling the deadline table for due deadlines, if this has not been done already. Invoked when the
+     * application starts, and when a deadline is scheduled.
+     */
+    public void start() {
+        if (!shutdown && started.compareAndSet(false, true)) {
+            pollingExecutor.scheduleWithFixedDelay(this::poll, 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void poll() {
+        try {
+            int claimed;
+            do {
+                claimed = triggerDueDeadlines();
+            } while (claimed >= batchSize && !shutdown);
+        } catch (Exception e) {
+            logger.warn("Failed to trigger due deadlines. Retrying in [{}] ms", pollInterval.toMillis(), e);
+        }
+    }
+
+    private int triggerDueDeadlines() {
+        List<DeadlineEntry> deadlines = claimDueDeadlines(GenericEventMessage.clock.instant());
+        if (deadlines.isEmpty()) {
+            return 0;
+        }
+        // deadlines of the same scope are triggered in order, while distinct scopes are triggered in parallel
+        Map<String, List<DeadlineEntry>> deadlinesPerScope = new LinkedHashMap<>();
+        for (DeadlineEntry deadline : deadlines) {
+            deadlinesPerScope.computeIfAbsent(deadline.scopeHash, scope -> new ArrayList<>()).add(deadline);
+        }
+        Queue<String> triggeredIds = new ConcurrentLinkedQueue<>();
+        List<CompletableFuture<Void>> triggers = new ArrayList<>();
+        try {
+            for (List<DeadlineEntry> scopedDeadlines : deadlinesPerScope.values()) {
+                triggers.add(CompletableFuture.runAsync(() -> scopedDeadlines.forEach(deadline -> {
+                    trigger(deadline);
+                    triggeredIds.add(deadline.deadlineId);
+                }), executor));
+            }
+        } catch (RejectedExecutionException e) {
+            logger.warn("Due deadlines were rejected by the executor. "
+                                + "They will be claimed again once their claim times out", e);
+        }
+        CompletableFuture.allOf(triggers.toArray(new CompletableFuture[0])).join();
+        removeDeadlines(triggeredIds);
+        return deadlines.size();
+    }
+
+    private List<DeadlineEntry> claimDueDeadlines(Instant now) {
+        long currentTime = now.toEpochMilli();
+        long claimExpiry = now.minus(claimTimeout).toEpochMilli();
+        return transactionManager.fetchInTransaction(() -> {
+            Connection connection = getConnection();
+            try {
+                List<DeadlineEntry> dueDeadlines = executeQuery(
+                        connection,
+                        c -> selectDueDeadlines(c, currentTime, claimExpiry),
+                        listResults(this::readDeadlineEntry),
+                        e -> new JdbcException("Failed to select due deadlines", e),
+                        false
+                );
+                if (dueDeadlines.isEmpty()) {
+                    return dueDeadlines;
+                }
+                List<String> deadlineIds = new ArrayList<>();
+                dueDeadlines.forEach(deadline -> deadlineIds.add(deadline.deadlineId));
+                int[] claims = executeBatch(connection,
+                                            c -> claimDeadlines(c, deadlineIds, currentTime, claimExpiry),
+                                            e -> {
+                                                throw new JdbcException("Failed to claim due deadlines", e);
+                                            });
+                // without a row lock, another node may have claimed a deadline between the select and the update
+                List<DeadlineEntry> claimedDeadlines = new ArrayList<>();
+                for (int i = 0; i < claims.length; i++) {
+                    if (claims[i] > 0 || claims[i] == Statement.SUCCESS_NO_INFO) {
+                        claimedDeadlines.add(dueDeadlines.get(i));
+                    }
+                }
+                return claimedDeadlines;
+            } finally {
+                closeQuietly(connection);
+            }
+        });
+    }
+
+    private void removeDeadlines(Collection<String> deadlineIds) {
+        if (deadlineIds.isEmpty()) {
+            return;
+        }
+        transactionManager.executeInTransaction(() -> executeBatch(
+                getConnection(),
+                c -> deleteDeadlines(c, deadlineIds),
+                e -> {
+                    throw new JdbcException("Failed to remove triggered deadlines", e);
+                }
+        ));
+    }
+
+    private void trigger(DeadlineEntry deadline) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Triggered deadline");
+        }
+
+        DeadlineMessage<?> deadlineMessage;
+        ScopeDescriptor deadlineScope;
+        try {
+            deadlineMessage = deadline.asDeadlineMessage(serializer);
+            deadlineScope = serializer.deserialize(deadline.scope);
+        } catch (Exception e) {
+            logger.error("Failed to deserialize the deadline [{}] with identifier [{}]. It will not be triggered",
+                         deadline.deadlineName, deadline.deadlineId, e);
+            return;
+        }
+        Span span = spanFactory.createExecuteSpan(deadline.deadlineName, deadline.deadlineId, deadlineMessage)
+                               .start();
+        try (SpanScope unused = span.makeCurrent()) {
+            UnitOfWork<DeadlineMessage<?>> unitOfWork = new DefaultUnitOfWork<>(deadlineMessage);
+            unitOfWork.onRollback(uow -> span.recordException(uow.getExecutionResult().getExceptionResult()));
+            unitOfWork.attachTransaction(transactionManager);
+            InterceptorChain chain =
+                    new DefaultInterceptorChain<>(unitOfWork,
+                                                  handlerInterceptors(),
+                                                  interceptedDeadlineMessage -> {
+                                                      executeScheduledDeadline(interceptedDeadlineMessage,
+                                                                               deadlineScope);
+                                                      return null;
+                                                  });
+            ResultMessage<?> resultMessage = unitOfWork.executeWithResult(chain::proceed);
+            if (resultMessage.isExceptional()) {
+                Throwable e = resultMessage.exceptionResult();
+                logger.error("An error occurred while triggering the deadline [{}] with identifier [{}]",
+                             deadline.deadlineName, deadline.deadlineId, e);
+            }
+        } catch (Exception e) {
+            span.recordException(e);
+            logger.error("An error occurred while triggering the deadline [{}] with identifier [{}]",
+                         deadline.deadlineName, deadline.deadlineId, e);
+        } finally {
+            span.end();
+        }
+    }
+
+    @SuppressWarnings("Duplicates")
+    private void executeScheduledDeadline(DeadlineMessage<?> deadlineMessage, ScopeDescriptor deadlineScope) {
+        scopeAwareProvider.provideScopeAwareStream(deadlineScope)
+                          .filter(scopeAwareComponent -> scopeAwareComponent.canResolve(deadlineScope))
+                          .forEach(scopeAwareComponent -> {
+                              try {
+                                  scopeAwareComponent.send(deadlineMessage, deadlineScope);
+                              } catch (Exception e) {
+                                  String exceptionMessage = format(
+                                          "Failed to send a DeadlineMessage for scope [%s]",
+                                          deadlineScope.scopeDescription()
+                                  );
+                                  throw new ExecutionException(exceptionMessage, e);
+                              }
+                          });
+    }
+
+    /**
+     * Creates a statement to insert a deadline with the given {@code deadlineId}, due at the given
+     * {@code triggerDateTime}, into the deadline table.
+     *
+     * @param connection      the connection to the database
+     * @param deadlineId      the identifier of the deadline to insert
+     * @param triggerDateTime the moment the deadline is due
+     * @param deadlineMessage the message to trigger once the deadline is due
+     * @param deadlineScope   the scope in which the deadline is triggered
+     * @return a {@link PreparedStatement} inserting the deadline
+     * @throws SQLException when an exception occurs while creating the prepared statement
+     */
+    protected PreparedStatement insertDeadline(Connection connection,
+                                               String deadlineId,
+                                               Instant triggerDateTime,
+                                               DeadlineMessage<?> deadlineMessage,
+                                               ScopeDescriptor deadlineScope) throws SQLException {
+        SerializedObject<byte[]> serializedScope = serializer.serialize(deadlineScope, byte[].class);
+        SerializedObject<byte[]> serializedPayload = deadlineMessage.serializePayload(serializer, byte[].class);
+        SerializedObject<byte[]> serializedMetaData = deadlineMessage.serializeMetaData(serializer, byte[].class);
+        final String sql = "INSERT INTO " + schema.deadlineTable() + " (" + schema.deadlineFields() + ") "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        PreparedStatement statement = connection.prepareStatement(sql);
+        statement.setString(1, deadlineId);
+        statement.setString(2, deadlineMessage.getDeadlineName());
+        statement.setString(3, scopeHash(serializedScope));
+        statement.setLong(4, triggerDateTime.toEpochMilli());
+        statement.setString(5, serializedScope.getType().getName());
+        statement.setBytes(6, serializedScope.getData());
+        statement.setString(7, serializedPayload.getType().getName());
+        statement.setString(8, serializedPayload.getType().getRevision());
+        statement.setBytes(9, serializedPayload.getData());
+        statement.setBytes(10, serializedMetaData.getData());
+        return statement;
+    }
+
+    /**
+     * Creates a statement selecting at most {@link Builder#batchSize(int) batch size} deadlines which are due at the
+     * given {@code currentTime}, and which are not claimed or of which the claim expired before the given
+     * {@code claimExpiry}. The selected rows are locked, skipping rows locked by other nodes, unless
+     * {@link Builder#skipLockedRows(boolean)} is disabled. The batch is limited in the query itself, through the
+     * {@link DeadlineTableFactory#limitClause(int) limit clause} of the configured {@link DeadlineTableFactory}, so
+     * that only the rows of the batch are locked.
+     *
+     * @param connection  the connection to the database
+     * @param currentTime the current time in milliseconds since the epoch
+     * @param claimExpiry the time in milliseconds since the epoch before which claims are considered expired
+     * @return a {@link PreparedStatement} selecting due deadlines
+     * @throws SQLException when an exception occurs while creating the prepared statement
+     */
+    protected PreparedStatement selectDueDeadlines(Connection connection,
+                                                   long currentTime,
+                                                   long claimExpiry) throws SQLException {
+        final String sql = "SELECT " + schema.deadlineFields() + " FROM " + schema.deadlineTable()
+                + " WHERE " + schema.triggerTimeColumn() + " <= ?"
+                + " AND (" + schema.ownerColumn() + " IS NULL OR " + schema.claimedAtColumn() + " < ?)"
+                + " ORDER BY " + schema.triggerTimeColumn()
+                + " " + tableFactory.limitClause(batchSize)
+                + " FOR UPDATE" + (skipLockedRows ? " SKIP LOCKED" : "");
+        PreparedStatement statement = connection.prepareStatement(sql);
+        statement.setLong(1, currentTime);
+        statement.setLong(2, claimExpiry);
+        return statement;
+    }
+
+    /**
+     * Creates a batch statement claiming the deadlines with the given {@code deadlineIds} for this node. A deadline is
+     * only claimed if it is not claimed yet, or if its claim expired before the given {@code claimExpiry}. The update
+     * count of every statement in the batch thus indicates whether the deadline was claimed.
+     *
+     * @param connection  the connection to the database
+     * @param deadlineIds the identifiers of the deadlines to claim
+     * @param currentTime the current time in milliseconds since the epoch
+     * @param claimExpiry the time in milliseconds since the epoch before which claims are considered expired
+     * @return a {@link PreparedStatement} claiming the deadlines, ready to be executed as a batch
+     * @throws SQLException when an exception occurs while creating the prepared statement
+     */
+    protected PreparedStatement claimDeadlines(Connection connection,
+                                               List<String> deadlineIds,
+                                               long currentTime,
+                                               long claimExpiry) throws SQLException {
+        final String sql = "UPDATE " + schema.deadlineTable()
+                + " SET " + schema.ownerColumn() + " = ?, " + schema.claimedAtColumn() + " = ?"
+                + " WHERE " + schema.deadlineIdentifierColumn() + " = ?"
+                + " AND (" + schema.ownerColumn() + " IS NULL OR " + schema.claimedAtColumn() + " < ?)";
+        PreparedStatement statement = connection.prepareStatement(sql);
+        for (String deadlineId : deadlineIds) {
+            statement.setString(1, nodeId);
+            statement.setLong(2, currentTime);
+            statement.setString(3, deadlineId);
+            statement.setLong(4, claimExpiry);
+            statement.addBatch();
+        }
+        return statement;
+    }
+
+    /**
+     * Creates a batch statement deleting the deadlines with the given {@code deadlineIds}, used once they have been
+     * triggered.
+     *
+     * @param connection  the connection to the database
+     * @param deadlineIds the identifiers of the deadlines to delete
+     * @return a {@link PreparedStatement} deleting the deadlines, ready to be executed as a batch
+     * @throws SQLException when an exception occurs while creating the prepared statement
+     */
+    protected PreparedStatement deleteDeadlines(Connection connection,
+                                                Collection<String> deadlineIds) throws SQLException {
+        final String sql = "DELETE FROM " + schema.deadlineTable()
+                + " WHERE " + schema.deadlineIdentifierColumn() + " = ?";
+        PreparedStatement statement = connection.prepareStatement(sql);
+        for (String deadlineId : deadlineIds) {
+            statement.setString(1, deadlineId);
+            statement.addBatch();
+        }
+        return statement;
+    }
+
+    /**
+     * Creates a statement deleting the deadline with the given {@code deadlineName} and {@code deadlineId}.
+     *
+     * @param connection   the connection to the database
+     * @param deadlineName the name of the deadline to delete
+     * @param deadlineId   the identifier of the deadline to delete
+     * @return a {@link PreparedStatement} deleting the deadline
+     * @throws SQLException when an exception occurs while creating the prepared statement
+     */
+    protected PreparedStatement deleteDeadline(Connection connection,
+                                               String deadlineName,
+                                               String deadlineId) throws SQLException {
+        final String sql = "DELETE FROM " + schema.deadlineTable()
+                + " WHERE " + schema.deadlineIdentifierColumn() + " = ?"
+                + " AND " + schema.deadlineNameColumn() + " = ?";
+        PreparedStatement statement = connection.prepareStatement(sql);
+        statement.setString(1, deadlineId);
+        statement.setString(2, deadlineName);
+        return statement;
+    }
+
+    /**
+     * Creates a statement deleting all deadlines with the given {@code deadlineName}.
+     *
+     * @param connection   the connection to the database
+     * @param deadlineName the name of the deadlines to delete
+     * @return a {@link PreparedStatement} deleting the deadlines
+     * @throws SQLException when an exception occurs while creating the prepared statement
+     */
+    protected PreparedStatement deleteDeadlines(Connection connection, String deadlineName) throws SQLException {
+        final String sql = "DELETE FROM " + schema.deadlineTable()
+                + " WHERE " + schema.deadlineNameColumn() + " = ?";
+        PreparedStatement statement = connection.prepareStatement(sql);
+        statement.setString(1, deadlineName);
+        return statement;
+    }
+
+    /**
+     * Creates a statement deleting all deadlines with the given {@code deadlineName}, scheduled in the scope with the
+     * given {@code scopeHash}.
+     *
+     * @param connection   the connection to the database
+     * @param deadlineName the name of the deadlines to delete
+     * @param scopeHash    the hash of the serialized scope of the deadlines to delete
+     * @return a {@link PreparedStatement} deleting the deadlines
+     * @throws SQLException when an exception occurs while creating the prepared statement
+     */
+    protected PreparedStatement deleteDeadlines(Connection connection,
+                                                String deadlineName,
+                                                String scopeHash) throws SQLException {
+        final String sql = "DELETE FROM " + schema.deadlineTable()
+                + " WHERE " + schema.deadlineNameColumn() + " = ?"
+                + " AND " + schema.scopeHashColumn() + " = ?";
+        PreparedStatement statement = connection.prepareStatement(sql);
+        statement.setString(1, deadlineName);
+        statement.setString(2, scopeHash);
+        return statement;
+    }
+
+    private DeadlineEntry readDeadlineEntry(ResultSet resultSet) throws SQLException {
+        return new DeadlineEntry(
+                resultSet.getString(schema.deadlineIdentifierColumn()),
+                resultSet.getString(schema.deadlineNameColumn()),
+                resultSet.getString(schema.scopeHashColumn()),
+                resultSet.getLong(schema.triggerTimeColumn()),
+                new SimpleSerializedObject<>(resultSet.getBytes(schema.scopeColumn()),
+                                             byte[].class,
+                                             resultSet.getString(schema.scopeTypeColumn()),
+                                             null),
+                new SimpleSerializedObject<>(resultSet.getBytes(schema.payloadColumn()),
+                                             byte[].class,
+                                             resultSet.getString(schema.payloadTypeColumn()),
+                                             resultSet.getString(schema.payloadRevisionColumn())),
+                new SerializedMetaData<>(resultSet.getBytes(schema.metaDataColumn()), byte[].class)
+        );
+    }
+
+    private static String scopeHash(SerializedObject<byte[]> serializedScope) {
+        return Digester.newMD5Instance().update(serializedScope.getData()).digestHex();
+    }
+
+    private Connection getConnection() {
+        try {
+            return connectionProvider.getConnection();
+        } catch (SQLException e) {
+            throw new JdbcException("Failed to obtain a database connection", e);
+        }
+    }
+
+    @Override
+    public void registerLifecycleHandlers(@Nonnull LifecycleRegistry lifecycle) {
+        lifecycle.onStart(Phase.INBOUND_EVENT_CONNECTORS, this::start);
+        lifecycle.onShutdown(Phase.INBOUND_EVENT_CONNECTORS, this::shutdown);
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        pollingExecutor.shutdown();
+        if (defaultExecutor != null) {
+            defaultExecutor.shutdown();
+        }
+    }
+
+    /**
+     * Builder class to instantiate a {@link JdbcDeadlineManager}.
+     * <p>
+     * The {@link TransactionManager} defaults to a {@link NoTransactionManager}, the
+     * {@link DeadlineManagerSpanFactory} to a {@link DefaultDeadlineManagerSpanFactory} backed by a
+     * {@link NoOpSpanFactory}, and the {@link DeadlineSchema} to the {@link DeadlineSchema#defaultSchema()}. The
+     * {@link Executor} triggering deadlines is defaulted to an {@link Executors#newFixedThreadPool(int)} of four
+     * threads, and the {@link ThreadFactory} for the polling thread to an {@link AxonThreadFactory}. The poll interval
+     * defaults to 1 second, the batch size to {@code 100}, the claim timeout to 1 minute, the {@code nodeId} to the
+     * name of the managed bean for the runtime system of the Java virtual machine, rows are selected with
+     * {@code SKIP LOCKED} and the {@link DeadlineTableFactory} defaults to the {@link GenericDeadlineTableFactory}. The
+     * {@link ScopeAwareProvider}, {@link ConnectionProvider} and {@link Serializer} are <b>hard requirements</b> and
+     * as such should be provided.
+     */
+    public static class Builder {
+
+        private ScopeAwareProvider scopeAwareProvider;
+        private ConnectionProvider connectionProvider;
+        private Serializer serializer;
+        private TransactionManager transactionManager = NoTransactionManager.INSTANCE;
+        private DeadlineManagerSpanFactory spanFactory =
+                DefaultDeadlineManagerSpanFactory.builder().spanFactory(NoOpSpanFactory.INSTANCE).build();
+        private DeadlineSchema schema = DeadlineSchema.defaultSchema();
+        private Executor executor;
+        private ThreadFactory threadFactory = new AxonThreadFactory(THREAD_FACTORY_GROUP_NAME);
+        private Duration pollInterval = Duration.ofSeconds(1);
+        private int batchSize = 100;
+        private Duration claimTimeout = Duration.ofMinutes(1);
+        private String nodeId = ManagementFactory.getRuntimeMXBean().getName();
+        private boolean skipLockedRows = true;
+        private DeadlineTableFactory tableFactory = GenericDeadlineTableFactory.INSTANCE;
+
+        /**
+         * Sets the {@link ScopeAwareProvider} which is capable of providing a stream of
+         * {@link org.axonframework.messaging.Scope} instances for a given {@link ScopeDescriptor}. Used to return the
+         * right Scope to trigger a deadline in.
+         *
+         * @param scopeAwareProvider a {@link ScopeAwareProvider} used to find the right
+         *                           {@link org.axonframework.messaging.Scope} to trigger a deadline in
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder scopeAwareProvider(@Nonnull ScopeAwareProvider scopeAwareProvider) {
+            assertNonNull(scopeAwareProvider, "ScopeAwareProvider may not be null");
+            this.scopeAwareProvider = scopeAwareProvider;
+            return this;
+        }
+
+        /**
+         * Sets the {@link ConnectionProvider} which provides access to a JDBC connection.
+         *
+         * @param connectionProvider a {@link ConnectionProvider} which provides access to a JDBC connection
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder connectionProvider(@Nonnull ConnectionProvider connectionProvider) {
+            assertNonNull(connectionProvider, "ConnectionProvider may not be null");
+            this.connectionProvider = connectionProvider;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Serializer} used to (de)serialize the payload, {@link org.axonframework.messaging.MetaData}
+         * and {@link ScopeDescriptor} of deadlines.
+         *
+         * @param serializer a {@link Serializer} used to (de)serialize deadlines
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder serializer(@Nonnull Serializer serializer) {
+            assertNonNull(serializer, "Serializer may not be null");
+            this.serializer = serializer;
+            return this;
+        }
+
+        /**
+         * Sets the {@link TransactionManager} used to build transactions and ties them to deadline. Defaults to a
+         * {@link NoTransactionManager}.
+         *
+         * @param transactionManager a {@link TransactionManager} used to build transactions and ties them to deadline
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder transactionManager(@Nonnull TransactionManager transactionManager) {
+            assertNonNull(transactionManager, "TransactionManager may not be null");
+            this.transactionManager = transactionManager;
+            return this;
+        }
+
+        /**
+         * Sets the {@link DeadlineManagerSpanFactory} implementation to use for providing tracing capabilities.
+         * Defaults to a {@link DefaultDeadlineManagerSpanFactory} backed by a {@link NoOpSpanFactory} by default, which
+         * provides no tracing capabilities.
+         *
+         * @param spanFactory The {@link DeadlineManagerSpanFactory} implementation
+         * @return The current Builder instance, for fluent interfacing.
+         */
+        public Builder spanFactory(@Nonnull DeadlineManagerSpanFactory spanFactory) {
+            assertNonNull(spanFactory, "SpanFactory may not be null");
+            this.spanFactory = spanFactory;
+            return this;
+        }
+
+        /**
+         * Sets the {@link DeadlineSchema} describing the table and column names of the deadline table. Defaults to
+         * the {@link DeadlineSchema#defaultSchema()}.
+         *
+         * @param schema the {@link DeadlineSchema} describing the deadline table
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder schema(@Nonnull DeadlineSchema schema) {
+            assertNonNull(schema, "DeadlineSchema may not be null");
+            this.schema = schema;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Executor} used to trigger deadlines once they are due. Claimed deadlines of distinct scopes
+         * are handed to the executor separately, allowing them to be triggered in parallel. Defaults to an
+         * {@link Executors#newFixedThreadPool(int)} of four threads, containing an {@link AxonThreadFactory}, which is
+         * shut down when this deadline manager shuts down. The given {@code executor} is not shut down by this deadline
+         * manager, as its lifecycle is managed by the caller.
+         *
+         * @param executor an {@link Executor} used to trigger deadlines
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder executor(@Nonnull Executor executor) {
+            assertNonNull(executor, "Executor may not be null");
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Sets the {@link ThreadFactory} used to create the thread polling for due deadlines. Defaults to an
+         * {@link AxonThreadFactory}.
+         *
+         * @param threadFactory a {@link ThreadFactory} used to create the thread polling for due deadlines
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder threadFactory(@Nonnull ThreadFactory threadFactory) {
+            assertNonNull(threadFactory, "ThreadFactory may not be null");
+            this.threadFactory = threadFactory;
+            return this;
+        }
+
+        /**
+         * Sets the interval between two polls for due deadlines. When a poll claims a full
+         * {@link #batchSize(int) batch}, the next batch is claimed right away instead. Deadlines may thus trigger up
+         * to one poll interval late. Defaults to 1 second.
+         *
+         * @param pollInterval the interval between two polls for due deadlines
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder pollInterval(@Nonnull Duration pollInterval) {
+            assertNonNull(pollInterval, "The poll interval may not be null");
+            assertThat(pollInterval,
+                       interval -> interval.toMillis() > 0,
+                       "The poll interval should be at least one millisecond");
+            this.pollInterval = pollInterval;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of due deadlines claimed in a single transaction. Defaults to {@code 100}.
+         *
+         * @param batchSize the maximum number of due deadlines claimed in a single transaction
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder batchSize(int batchSize) {
+            assertStrictPositive(batchSize, "The batch size should be strictly positive");
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Sets the duration after which a claim on a deadline expires, allowing another node to claim it. Should
+         * exceed the time it takes to trigger a batch of deadlines, as deadlines of an expired claim may be triggered
+         * again. Defaults to 1 minute.
+         *
+         * @param claimTimeout the duration after which a claim on a deadline expires
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder claimTimeout(@Nonnull Duration claimTimeout) {
+            assertNonNull(claimTimeout, "The claim timeout may not be null");
+            assertThat(claimTimeout,
+                       timeout -> !timeout.isNegative() && !timeout.isZero(),
+                       "The claim timeout should be strictly positive");
+            this.claimTimeout = claimTimeout;
+            return this;
+        }
+
+        /**
+         * Sets the identifier of this node, marking the deadlines it claimed. Defaults to the name of the managed
+         * bean for the runtime system of the Java virtual machine.
+         *
+         * @param nodeId the identifier of this node
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder nodeId(String nodeId) {
+            assertNonEmpty(nodeId, "The nodeId may not be null or empty");
+            this.nodeId = nodeId;
+            return this;
+        }
+
+        /**
+         * Sets whether due deadlines are selected with {@code FOR UPDATE SKIP LOCKED}, rather than with
+         * {@code FOR UPDATE}. Skipping locked rows lets several nodes claim distinct deadlines concurrently, instead of
+         * waiting on one another. Should be disabled for databases that do not support {@code SKIP LOCKED}. Defaults
+         * to {@code true}.
+         *
+         * @param skipLockedRows whether due deadlines are selected with {@code FOR UPDATE SKIP LOCKED}
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder skipLockedRows(boolean skipLockedRows) {
+            this.skipLockedRows = skipLockedRows;
+            return this;
+        }
+
+        /**
+         * Sets the {@link DeadlineTableFactory} describing the database specific syntax used to query the deadline
+         * table, like the clause limiting the number of due deadlines selected in a single batch. Should match the
+         * database in use, and typically is the factory given to {@link JdbcDeadlineManager#createSchema}. Defaults
+         * to the {@link GenericDeadlineTableFactory}.
+         *
+         * @param tableFactory the {@link DeadlineTableFactory} describing the database specific query syntax
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder tableFactory(@Nonnull DeadlineTableFactory tableFactory) {
+            assertNonNull(tableFactory, "DeadlineTableFactory may not be null");
+            this.tableFactory = tableFactory;
+            return this;
+        }
+
+        /**
+         * Initializes a {@link JdbcDeadlineManager} as specified through this Builder.
+         *
+         * @return a {@link JdbcDeadlineManager} as specified through this Builder
+         */
+        public JdbcDeadlineManager build() {
+            return new JdbcDeadlineManager(this);
+        }
+
+        /**
+         * Validates whether the fields contained in this Builder are set accordingly.
+         *
+         * @throws AxonConfigurationException if one field is asserted to be incorrect according to the Builder's
+         *                                    specifications
+         */
+        protected void validate() throws AxonConfigurationException {
+            assertNonNull(scopeAwareProvider, "The ScopeAwareProvider is a hard requirement and should be provided");
+            assertNonNull(connectionProvider, "The ConnectionProvider is a hard requirement and should be provided");
+            assertNonNull(serializer, "The Serializer is a hard requirement and should be provided");
+        }
+    }
+
+    private static final class DeadlineEntry {
+
+        private final String deadlineId;
+        private final String deadlineName;
+        private final String scopeHash;
+        private final long triggerTime;
+        private final SerializedObject<byte[]> scope;
+        private final SerializedObject<byte[]> payload;
+        private final SerializedObject<byte[]> metaData;
+
+        private DeadlineEntry(String deadlineId,
+                              String deadlineName,
+                              String scopeHash,
+                              long triggerTime,
+                              SerializedObject<byte[]> scope,
+                              SerializedObject<byte[]> payload,
+                              SerializedObject<byte[]> metaData) {
+            this.deadlineId = deadlineId;
+            this.deadlineName = deadlineName;
+            this.scopeHash = scopeHash;
+            this.triggerTime = triggerTime;
+            this.scope = scope;
+            this.payload = payload;
+            this.metaData = metaData;
+        }
+
+        private DeadlineMessage<?> asDeadlineMessage(Serializer serializer) {
+            MetaData deserializedMetaData = metaData.getData() == null ? MetaData.emptyInstance()
+                                                                        : serializer.deserialize(metaData);
+            return new GenericDeadlineMessage<>(deadlineName,
+                                                deadlineId,
+                                                serializer.deserialize(payload),
+                                                deserializedMetaData,
+                                                Instant.ofEpochMilli(triggerTime));
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2023. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -101,4 +101,16 @@ default <R> void performReset(@Nullable R resetContext) {
      */
     default void segmentReleased(Segment segment) {
     }
+
+    /**
+     * This is a way for an event processor to communicate that a segment has been claimed, before events of that
+     * {@link Segment} are processed. This might be used to prepare state related to the {@code Segment}, for example by
+     * warming up caches. Exceptions thrown by this method are logged by the event processor, after which the events of
+     * the segment are processed regardless.
+     *
+     * @param segment the segment which was claimed.
+     * @since 4.11.0
+     */
+    default void segmentClaimed(Segment segment) {
+    }
 }
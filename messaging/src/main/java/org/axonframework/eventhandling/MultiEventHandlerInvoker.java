@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2022. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -110,4 +110,9 @@ public <R> void performReset(R resetContext) {
                  .filter(EventHandlerInvoker::supportsReset)
                  .forEach(eventHandlerInvoker -> eventHandlerInvoker.performReset(resetContext));
     }
+
+    @Override
+    public void segmentClaimed(Segment segment) {
+        delegates.forEach(eventHandlerInvoker -> eventHandlerInvoker.segmentClaimed(segment));
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2023. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -307,6 +307,7 @@ protected void processingLoop(Segment segment) {
         BlockingStream<TrackedEventMessage<?>> eventStream = null;
         long errorWaitTime = 1;
         try {
+            notifySegmentClaimed(segment);
             // only execute the loop when in running state, no processing instructions have been executed, and the
             // segment is not ignored for release
             while (state.get().isRunning() && !processInstructions(segment.getSegmentId())
@@ -353,6 +354,15 @@ && canClaimSegment(segment.getSegmentId())) {
         }
     }
 
+    private void notifySegmentClaimed(Segment segment) {
+        try {
+            eventHandlerInvoker().segmentClaimed(segment);
+        } catch (Exception e) {
+            logger.warn("Preparing segment {} of processor [{}] failed. Continuing processing.",
+                        segment.getSegmentId(), getName(), e);
+        }
+    }
+
     private boolean processInstructions(int segmentId) {
         List<Instruction> toExecute = instructions.getOrDefault(segmentId, Collections.emptyList());
         boolean instructionsPresent = !toExecute.isEmpty();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2023. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -42,8 +42,11 @@
 import org.slf4j.LoggerFactory;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Predicate;
@@ -51,6 +54,8 @@
 import javax.annotation.Nonnull;
 
 import static org.axonframework.common.BuilderUtils.assertNonNull;
+import static org.axonframework.common.BuilderUtils.assertStrictPositive;
+import static org.axonframework.common.BuilderUtils.assertThat;
 import static org.axonframework.messaging.deadletter.ThrowableCause.truncated;
 
 /**
@@ -83,6 +88,12 @@
     private final boolean sequenceIdentifierCacheEnabled;
     private final int sequenceIdentifierCacheSize;
     private final Map<Segment, SequenceIdentifierCache> sequenceIdentifierCache;
+    private final boolean sequenceIdentifierFilterEnabled;
+    private final int sequenceIdentifierFilterSize;
+    private final double sequenceIdentifierFilterFalsePositiveRate;
+    private final Set<Segment> filteredSegments = ConcurrentHashMap.newKeySet();
+    private final Object filterLock = new Object();
+    private volatile SequenceIdentifierFilter sequenceIdentifierFilter;
     private final List<MessageHandlerInterceptor<? super EventMessage<?>>> interceptors = new CopyOnWriteArrayList<>();
 
     /**
@@ -104,6 +115,11 @@ protected DeadLetteringEventHandlerInvoker(Builder builder) {
         } else {
             sequenceIdentifierCache = null;
         }
+        this.sequenceIdentifierFilterEnabled = builder.sequenceIdentifierFilterEnabled;
+        this.sequenceIdentifierFilterSize = builder.sequenceIdentifierFilterSize;
+        this.sequenceIdentifierFilterFalsePositiveRate = builder.sequenceIdentifierFilterFalsePositiveRate;
+        this.sequenceIdentifierFilter =
+                sequenceIdentifierFilterEnabled ? emptyFilter(sequenceIdentifierFilterSize) : null;
     }
 
     /**
@@ -113,9 +129,12 @@ protected DeadLetteringEventHandlerInvoker(Builder builder) {
      * {@link Throwable#getMessage()} size to {@code 1024} characters when invoked for any dead letter, the
      * {@link ListenerInvocationErrorHandler} is defaulted to a {@link PropagatingErrorHandler}, the
      * {@link SequencingPolicy} to a {@link SequentialPerAggregatePolicy}, {@code allowReset} defaults to {@code false},
-     * {@code sequenceIdentifierCacheEnabled} defaults to {@code false} and  {@code sequenceIdentifierCacheSize}
-     * defaults to {@code 1024}. Providing at least one Event Handler, a {@link SequencedDeadLetterQueue}, and a
-     * {@link TransactionManager} are <b>hard requirements</b> and as such should be provided.
+     * {@code sequenceIdentifierCacheEnabled} defaults to {@code false}, {@code sequenceIdentifierCacheSize} defaults
+     * to {@code 1024}, {@code sequenceIdentifierFilterEnabled} defaults to {@code false},
+     * {@code sequenceIdentifierFilterSize} defaults to {@code 1024} and
+     * {@code sequenceIdentifierFilterFalsePositiveRate} defaults to {@code 0.01}. Providing at least one Event
+     * Handler, a {@link SequencedDeadLetterQueue}, and a {@link TransactionManager} are <b>hard requirements</b> and as
+     * such should be provided.
      *
      * @return A builder that can construct a {@link DeadLetteringEventHandlerInvoker}.
      */
@@ -189,6 +208,11 @@ private boolean mightBePresent(
             @Nonnull Object sequenceIdentifier,
             @Nonnull Segment segment
     ) {
+        if (sequenceIdentifierFilterEnabled
+                && filteredSegments.contains(segment)
+                && !sequenceIdentifierFilter.mightContain(sequenceIdentifier)) {
+            return false;
+        }
         if (!sequenceIdentifierCacheEnabled) {
             return true;
         }
@@ -200,6 +224,9 @@ private boolean mightBePresent(
     }
 
     private void markEnqueued(@Nonnull Object sequenceIdentifier, @Nonnull Segment segment) {
+        if (sequenceIdentifierFilterEnabled) {
+            sequenceIdentifierFilter.add(sequenceIdentifier);
+        }
         if (sequenceIdentifierCacheEnabled) {
             sequenceIdentifierCache.computeIfPresent(segment, (k, v) -> v.markEnqueued(sequenceIdentifier));
         }
@@ -214,7 +241,7 @@ private void markNotEnqueued(@Nonnull Object sequenceIdentifier, @Nonnull Segmen
     @Override
     public void performReset() {
         if (allowReset) {
-            transactionManager.executeInTransaction(queue::clear);
+            clearQueue();
         }
         super.performReset(null);
     }
@@ -222,11 +249,20 @@ public void performReset() {
     @Override
     public <R> void performReset(R resetContext) {
         if (allowReset) {
-            transactionManager.executeInTransaction(queue::clear);
+            clearQueue();
         }
         super.performReset(resetContext);
     }
 
+    private void clearQueue() {
+        transactionManager.executeInTransaction(queue::clear);
+        if (sequenceIdentifierFilterEnabled) {
+            synchronized (filterLock) {
+                sequenceIdentifierFilter = emptyFilter(sequenceIdentifierFilterSize);
+            }
+        }
+    }
+
     @Override
     public boolean process(Predicate<DeadLetter<? extends EventMessage<?>>> sequenceFilter) {
         DeadLetteredEventProcessingTask processingTask =
@@ -239,6 +275,23 @@ public boolean process(Predicate<DeadLetter<? extends EventMessage<?>>> sequence
         return uow.executeWithResult(() -> queue.process(sequenceFilter, processingTask::process)).getPayload();
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Delegates to {@link SequencedDeadLetterQueue#processSequences} of the configured queue. Contrary to
+     * {@link #process(Predicate)}, the queue is not invoked within an overarching transaction, allowing it to claim
+     * and process sequences in parallel. Every letter is handled within its own transaction.
+     */
+    @Override
+    public int processSequences(Predicate<DeadLetter<? extends EventMessage<?>>> sequenceFilter, int maxSequences) {
+        DeadLetteredEventProcessingTask processingTask =
+                new DeadLetteredEventProcessingTask(super.eventHandlers(),
+                                                    interceptors,
+                                                    enqueuePolicy,
+                                                    transactionManager);
+        return queue.processSequences(sequenceFilter, processingTask::process, maxSequences);
+    }
+
     @Override
     public Registration registerHandlerInterceptor(
             @Nonnull MessageHandlerInterceptor<? super EventMessage<?>> interceptor) {
@@ -246,8 +299,67 @@ public Registration registerHandlerInterceptor(
         return () -> interceptors.remove(interceptor);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * When the sequence identifier filter is enabled, the sequence identifiers belonging to the claimed
+     * {@code segment} are loaded from the {@link SequencedDeadLetterQueue} into the filter. From then on, events of
+     * that segment are only checked against the queue when their sequence identifier passes the filter. If this is
+     * the only segment claimed by this invoker, the filter is replaced entirely, dropping identifiers of sequences
+     * that have been evicted in the meantime.
+     */
+    @Override
+    public void segmentClaimed(Segment segment) {
+        if (sequenceIdentifierFilterEnabled) {
+            loadSequenceIdentifierFilter(segment);
+        }
+        super.segmentClaimed(segment);
+    }
+
+    private void loadSequenceIdentifierFilter(Segment segment) {
+        synchronized (filterLock) {
+            filteredSegments.remove(segment);
+            long amountOfSequences = transactionManager.fetchInTransaction(queue::amountOfSequences);
+            // without other claimed segments, no enqueue can be in progress and the filter can safely be replaced
+            SequenceIdentifierFilter filter = filteredSegments.isEmpty()
+                    ? emptyFilter((int) Math.min(Integer.MAX_VALUE,
+                                                 Math.max(sequenceIdentifierFilterSize, amountOfSequences)))
+                    : sequenceIdentifierFilter;
+            if (amountOfSequences > 0) {
+                transactionManager.executeInTransaction(() -> loadSequenceIdentifiers(filter, segment));
+            }
+            sequenceIdentifierFilter = filter;
+            filteredSegments.add(segment);
+        }
+    }
+
+    private void loadSequenceIdentifiers(SequenceIdentifierFilter filter, Segment segment) {
+        int loaded = 0;
+        for (Iterable<DeadLetter<? extends EventMessage<?>>> sequence : queue.deadLetters()) {
+            Iterator<DeadLetter<? extends EventMessage<?>>> letters = sequence.iterator();
+            if (letters.hasNext()) {
+                Object sequenceIdentifier = sequenceIdentifier(letters.next().message());
+                if (segment.matches(Objects.hashCode(sequenceIdentifier))) {
+                    filter.add(sequenceIdentifier);
+                    loaded++;
+                }
+            }
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("Loaded [{}] sequence identifiers into the filter for segment [{}].",
+                         loaded, segment.getSegmentId());
+        }
+    }
+
+    private SequenceIdentifierFilter emptyFilter(int expectedIdentifiers) {
+        return new SequenceIdentifierFilter(expectedIdentifiers, sequenceIdentifierFilterFalsePositiveRate);
+    }
+
     @Override
     public void segmentReleased(Segment segment) {
+        if (sequenceIdentifierFilterEnabled) {
+            filteredSegments.remove(segment);
+        }
         if (sequenceIdentifierCacheEnabled) {
             if (logger.isTraceEnabled()) {
                 logger.trace("Clearing the cache for segment [{}].", segment.getSegmentId());
@@ -265,8 +377,11 @@ public void segmentReleased(Segment segment) {
      * {@link ListenerInvocationErrorHandler} is defaulted to a {@link PropagatingErrorHandler}, the
      * {@link SequencingPolicy} to a {@link SequentialPerAggregatePolicy}, {@code allowReset} defaults to {@code false},
      * {@code sequenceIdentifierCacheEnabled} defaults to {@code false} and {@code sequenceIdentifierCacheSize} used
-     * defaults to 1024. Providing at least one Event Handler, a {@link SequencedDeadLetterQueue}, and a
-     * {@link TransactionManager} are <b>hard requirements</b> and as such should be provided.
+     * defaults to 1024, {@code sequenceIdentifierFilterEnabled} defaults to {@code false},
+     * {@code sequenceIdentifierFilterSize} defaults to {@code 1024} and
+     * {@code sequenceIdentifierFilterFalsePositiveRate} defaults to {@code 0.01}. Providing at least one Event
+     * Handler, a {@link SequencedDeadLetterQueue}, and a {@link TransactionManager} are <b>hard requirements</b> and as
+     * such should be provided.
      */
     public static class Builder extends SimpleEventHandlerInvoker.Builder<Builder> {
 
@@ -276,6 +391,9 @@ public static class Builder extends SimpleEventHandlerInvoker.Builder<Builder> {
         private boolean allowReset = false;
         private boolean sequenceIdentifierCacheEnabled = false;
         private int sequenceIdentifierCacheSize = 1024;
+        private boolean sequenceIdentifierFilterEnabled = false;
+        private int sequenceIdentifierFilterSize = 1024;
+        private double sequenceIdentifierFilterFalsePositiveRate = 0.01;
 
         private Builder() {
             // The parent's error handler defaults to propagating the error.
@@ -382,6 +500,64 @@ public Builder sequenceIdentifierCacheSize(int sequenceIdentifierCacheSize) {
             return this;
         }
 
+        /**
+         * Enables this {@link DeadLetteringEventHandlerInvoker} to keep a probabilistic filter of the sequence
+         * identifiers contained in the {@link SequencedDeadLetterQueue}. The filter prevents calling
+         * {@link SequencedDeadLetterQueue#enqueueIfPresent(Object, Supplier)} for sequence identifiers that are
+         * certainly not present, which holds for nearly all events when the queue is empty or small.
+         * <p>
+         * The filter is loaded from the queue whenever a {@link Segment} is claimed, through
+         * {@link #segmentClaimed(Segment)}, and updated whenever this invoker enqueues a dead letter. Hence, the filter
+         * is only used for segments claimed by a streaming event processor, as these guarantee no other instance
+         * enqueues letters for the segment while it is claimed. Loading the filter iterates over the first letter of
+         * every sequence in the queue, which is skipped entirely when the queue is empty.
+         * <p>
+         * The filter may be combined with the {@link #enableSequenceIdentifierCache() sequence identifier cache}, in
+         * which case the cache is only consulted for identifiers passing the filter.
+         *
+         * @return The current Builder instance for fluent interfacing.
+         */
+        public Builder enableSequenceIdentifierFilter() {
+            this.sequenceIdentifierFilterEnabled = true;
+            return this;
+        }
+
+        /**
+         * Sets the number of sequence identifiers the filter is initially sized for. The filter grows when more
+         * identifiers are added, and is sized for at least the number of sequences in the queue when it is loaded.
+         * Defaults to {@code 1024}.
+         * <p>
+         * Note that this setting will only be used in combination with {@link #enableSequenceIdentifierFilter()}.
+         *
+         * @param sequenceIdentifierFilterSize The number of sequence identifiers the filter is initially sized for.
+         * @return The current Builder instance for fluent interfacing.
+         */
+        public Builder sequenceIdentifierFilterSize(int sequenceIdentifierFilterSize) {
+            assertStrictPositive(sequenceIdentifierFilterSize,
+                                 "The sequence identifier filter size should be strictly positive");
+            this.sequenceIdentifierFilterSize = sequenceIdentifierFilterSize;
+            return this;
+        }
+
+        /**
+         * Sets the desired false positive rate of the sequence identifier filter. A false positive results in a query
+         * on the {@link SequencedDeadLetterQueue} for a sequence that is not present. Lower rates increase the memory
+         * used by the filter. Defaults to {@code 0.01}.
+         * <p>
+         * Note that this setting will only be used in combination with {@link #enableSequenceIdentifierFilter()}.
+         *
+         * @param falsePositiveRate The desired false positive rate of the sequence identifier filter, between {@code 0}
+         *                          and {@code 1} exclusive.
+         * @return The current Builder instance for fluent interfacing.
+         */
+        public Builder sequenceIdentifierFilterFalsePositiveRate(double falsePositiveRate) {
+            assertThat(falsePositiveRate,
+                       rate -> rate > 0 && rate < 1,
+                       "The sequence identifier filter false positive rate should be between 0 and 1");
+            this.sequenceIdentifierFilterFalsePositiveRate = falsePositiveRate;
+            return this;
+        }
+
         /**
          * Initializes a {@link DeadLetteringEventHandlerInvoker} as specified through this Builder.
          *
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2010-2024. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.eventhandling.deadletter;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A probabilistic set of the sequence identifiers contained in a
+ * {@link org.axonframework.messaging.deadletter.SequencedDeadLetterQueue}, implemented as a scalable Bloom filter.
+ * When {@link #mightContain(Object)} returns {@code false}, the sequence identifier has never been
+ * {@link #add(Object) added} to this filter, allowing the {@link DeadLetteringEventHandlerInvoker} to skip querying
+ * the queue altogether. A {@code true} result may be a false positive, in which case the queue has to be consulted.
+ * <p>
+ * Identifiers are hashed based on their {@link Object#hashCode()}. Once the number of added identifiers exceeds the
+ * expected number of identifiers, a new and larger filter is added, keeping the false positive rate bounded.
+ * Identifiers can not be removed from this filter. Instead, the invoker replaces the filter when it is reloaded from
+ * the queue.
+ * <p>
+ * This implementation is thread safe.
+ *
+ * @since 4.11.0
+ */
+class SequenceIdentifierFilter {
+
+    private final List<Slice> slices = new CopyOnWriteArrayList<>();
+
+    /**
+     * Construct an empty filter expecting {@code expectedIdentifiers} identifiers to be added, resulting in the given
+     * {@code falsePositiveRate}.
+     *
+     * @param expectedIdentifiers The number of identifiers expected to be added to this filter.
+     * @param falsePositiveRate   The desired probability of {@link #mightContain(Object)} returning {@code true} for an
+     *                            identifier that has not been added.
+     */
+    SequenceIdentifierFilter(int expectedIdentifiers, double falsePositiveRate) {
+        slices.add(new Slice(expectedIdentifiers, falsePositiveRate));
+    }
+
+    /**
+     * Indicates whether the given {@code sequenceIdentifier} might have been added to this filter.
+     *
+     * @param sequenceIdentifier The sequence identifier to validate.
+     * @return {@code false} if the {@code sequenceIdentifier} was definitely not added, {@code true} otherwise.
+     */
+    boolean mightContain(Object sequenceIdentifier) {
+        return mightContain(hash(sequenceIdentifier));
+    }
+
+    /**
+     * Adds the given {@code sequenceIdentifier} to this filter.
+     *
+     * @param sequenceIdentifier The sequence identifier to add.
+     */
+    void add(Object sequenceIdentifier) {
+        long hash = hash(sequenceIdentifier);
+        if (mightContain(hash)) {
+            // prevents identifiers which are enqueued repeatedly from filling up the filter
+            return;
+        }
+        Slice slice = slices.get(slices.size() - 1);
+        if (slice.isFull()) {
+            slice = grow(slice);
+        }
+        slice.add(hash);
+    }
+
+    private boolean mightContain(long hash) {
+        for (Slice slice : slices) {
+            if (slice.mightContain(hash)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private synchronized Slice grow(Slice full) {
+        Slice last = slices.get(slices.size() - 1);
+        if (last != full) {
+            return last;
+        }
+        // halving the rate of every next slice keeps the combined false positive rate below twice the initial rate
+        Slice next = new Slice((int) Math.min(Integer.MAX_VALUE, full.capacity * 2L), full.falsePositiveRate / 2);
+        slices.add(next);
+        return next;
+    }
+
+    private static long hash(Object sequenceIdentifier) {
+        long hash = Objects.hashCode(sequenceIdentifier) * 0x9E3779B97F4A7C15L;
+        hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+        hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
+    }
+
+    private static final class Slice {
+
+        private final int capacity;
+        private final double falsePositiveRate;
+        private final int bitCount;
+        private final int hashFunctions;
+        private final AtomicLongArray bits;
+        private final AtomicInteger insertions = new AtomicInteger();
+
+        private Slice(int capacity, double falsePositiveRate) {
+            this.capacity = Math.max(1, capacity);
+            this.falsePositiveRate = falsePositiveRate;
+            double optimalBits = -this.capacity * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+            long words = Math.max(1, Math.min((long) Math.ceil(optimalBits / Long.SIZE),
+                                              Integer.MAX_VALUE / Long.SIZE));
+            this.bitCount = (int) words * Long.SIZE;
+            this.hashFunctions = Math.max(1, (int) Math.round((double) bitCount / this.capacity * Math.log(2)));
+            this.bits = new AtomicLongArray((int) words);
+        }
+
+        private boolean isFull() {
+            return insertions.get() >= capacity;
+        }
+
+        private boolean mightContain(long hash) {
+            int first = (int) hash;
+            int second = (int) (hash >>> 32);
+            for (int i = 1; i <= hashFunctions; i++) {
+                int index = index(first + i * second);
+                if ((bits.get(index / Long.SIZE) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void add(long hash) {
+            int first = (int) hash;
+            int second = (int) (hash >>> 32);
+            for (int i = 1; i <= hashFunctions; i++) {
+                int index = index(first + i * second);
+                int word = index / Long.SIZE;
+                long mask = 1L << index;
+                long current = bits.get(word);
+                while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+                    current = bits.get(word);
+                }
+            }
+            insertions.incrementAndGet();
+        }
+
+        private int index(int combinedHash) {
+            return (combinedHash < 0 ? ~combinedHash : combinedHash) % bitCount;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2023. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -25,6 +25,8 @@
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
@@ -291,6 +293,98 @@ PreparedStatement nextLetterInSequenceStatement(@Nonnull Connection connection,
                                                     @Nonnull String sequenceIdentifier,
                                                     long sequenceIndex) throws SQLException;
 
+    /**
+     * Claims the {@link DeadLetter} entries with the given {@code identifiers} at once, used by
+     * {@link JdbcSequencedDeadLetterQueue#processSequences(Predicate, Function, int) bulk processing}. Each letter is
+     * claimed like the {@link #claimStatement(Connection, String, Instant, Instant) claim statement} does.
+     * <p>
+     * By default, the letters are claimed one by one through the
+     * {@link #claimStatement(Connection, String, Instant, Instant) claim statement}. Implementations may override this
+     * operation to claim all letters through a single batched statement.
+     *
+     * @param connection             The {@link Connection} used to claim the letters.
+     * @param identifiers            The identifiers of the {@link DeadLetter dead letters} to claim.
+     * @param current                The {@link Instant} used to update the
+     *                               {@link DeadLetterSchema#processingStartedColumn() processing started} field with to
+     *                               mark the letters as claimed.
+     * @param processingStartedLimit The {@link Instant} used to compare with the
+     *                               {@link DeadLetterSchema#processingStartedColumn() processing started} field, to
+     *                               ensure the letters weren't claimed by another process.
+     * @return The update count of every given identifier, in the order of the given {@code identifiers}, used to deduce
+     * whether the corresponding letter was claimed.
+     * @throws SQLException When the letters could not be claimed.
+     */
+    default int[] bulkClaim(@Nonnull Connection connection,
+                            @Nonnull List<String> identifiers,
+                            @Nonnull Instant current,
+                            @Nonnull Instant processingStartedLimit) throws SQLException {
+        int[] updateCounts = new int[identifiers.size()];
+        for (int i = 0; i < identifiers.size(); i++) {
+            try (PreparedStatement statement =
+                         claimStatement(connection, identifiers.get(i), current, processingStartedLimit)) {
+                updateCounts[i] = statement.executeUpdate();
+            }
+        }
+        return updateCounts;
+    }
+
+    /**
+     * Evicts the {@link DeadLetter} entries with the given {@code identifiers} at once, used by
+     * {@link JdbcSequencedDeadLetterQueue#processSequences(Predicate, Function, int) bulk processing}.
+     * <p>
+     * By default, the letters are evicted one by one through the
+     * {@link #evictStatement(Connection, String) evict statement}. Implementations may override this operation to
+     * evict all letters through a single statement.
+     *
+     * @param connection  The {@link Connection} used to evict the letters.
+     * @param identifiers The identifiers of the {@link DeadLetter dead letters} to evict.
+     * @return The number of evicted {@link DeadLetter dead letters}.
+     * @throws SQLException When the letters could not be evicted.
+     */
+    default int bulkEvict(@Nonnull Connection connection, @Nonnull List<String> identifiers) throws SQLException {
+        int evicted = 0;
+        for (String identifier : identifiers) {
+            try (PreparedStatement statement = evictStatement(connection, identifier)) {
+                evicted += statement.executeUpdate();
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * Requeues the given {@link DeadLetter} entries at once, used by
+     * {@link JdbcSequencedDeadLetterQueue#processSequences(Predicate, Function, int) bulk processing}. Each letter is
+     * updated like the {@link #requeueStatement(Connection, String, Cause, Instant, MetaData) requeue statement} does,
+     * with the {@link DeadLetter#cause() cause}, {@link DeadLetter#lastTouched() last touched} and
+     * {@link DeadLetter#diagnostics() diagnostics} of the given letter.
+     * <p>
+     * By default, the letters are requeued one by one through the
+     * {@link #requeueStatement(Connection, String, Cause, Instant, MetaData) requeue statement}. Implementations may
+     * override this operation to requeue all letters through a single batched statement.
+     *
+     * @param connection The {@link Connection} used to requeue the letters.
+     * @param letters    The updated {@link DeadLetter dead letters} to requeue, by their identifier.
+     * @return The update count of every given letter, where a count of {@code 0} indicates the letter is no longer
+     * present.
+     * @throws SQLException When the letters could not be requeued.
+     */
+    default int[] bulkRequeue(@Nonnull Connection connection,
+                              @Nonnull Map<String, ? extends DeadLetter<? extends E>> letters) throws SQLException {
+        int[] updateCounts = new int[letters.size()];
+        int i = 0;
+        for (Map.Entry<String, ? extends DeadLetter<? extends E>> entry : letters.entrySet()) {
+            DeadLetter<? extends E> letter = entry.getValue();
+            try (PreparedStatement statement = requeueStatement(connection,
+                                                                entry.getKey(),
+                                                                letter.cause().orElse(null),
+                                                                letter.lastTouched(),
+                                                                letter.diagnostics())) {
+                updateCounts[i++] = statement.executeUpdate();
+            }
+        }
+        return updateCounts;
+    }
+
     /**
      * Constructs the {@link PreparedStatement} used for the {@link JdbcSequencedDeadLetterQueue#clear() clear}
      * operation.
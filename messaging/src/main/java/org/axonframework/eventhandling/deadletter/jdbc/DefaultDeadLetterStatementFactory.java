@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2023. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -34,6 +34,9 @@
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 import javax.annotation.Nonnull;
@@ -225,27 +228,84 @@ public PreparedStatement evictStatement(@Nonnull Connection connection,
         return statement;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Evicts all letters through a single statement. Subclasses customizing
+     * {@link #evictStatement(Connection, String)} should override this operation as well.
+     */
+    @Override
+    public int bulkEvict(@Nonnull Connection connection, @Nonnull List<String> identifiers) throws SQLException {
+        String sql = "DELETE "
+                + "FROM " + schema.deadLetterTable() + " "
+                + "WHERE " + schema.deadLetterIdentifierColumn() + " IN (" + parameters(identifiers.size()) + ")";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < identifiers.size(); i++) {
+                statement.setString(i + 1, identifiers.get(i));
+            }
+            return statement.executeUpdate();
+        }
+    }
+
+    private static String parameters(int count) {
+        return String.join(",", Collections.nCopies(count, "?"));
+    }
+
     @Override
     public PreparedStatement requeueStatement(@Nonnull Connection connection,
                                               @Nonnull String letterIdentifier,
                                               Cause cause,
                                               @Nonnull Instant lastTouched,
                                               MetaData diagnostics) throws SQLException {
-        String sql = "UPDATE " + schema.deadLetterTable() + " SET "
+        PreparedStatement statement = connection.prepareStatement(requeueSql());
+        setRequeueFields(statement, letterIdentifier, cause, lastTouched, diagnostics);
+        return statement;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Requeues all letters through a single batched statement. Subclasses customizing
+     * {@link #requeueStatement(Connection, String, Cause, Instant, MetaData)} should override this operation as well.
+     */
+    @Override
+    public int[] bulkRequeue(@Nonnull Connection connection,
+                             @Nonnull Map<String, ? extends DeadLetter<? extends E>> letters) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(requeueSql())) {
+            for (Map.Entry<String, ? extends DeadLetter<? extends E>> entry : letters.entrySet()) {
+                DeadLetter<? extends E> letter = entry.getValue();
+                setRequeueFields(statement,
+                                 entry.getKey(),
+                                 letter.cause().orElse(null),
+                                 letter.lastTouched(),
+                                 letter.diagnostics());
+                statement.addBatch();
+            }
+            return statement.executeBatch();
+        }
+    }
+
+    private String requeueSql() {
+        return "UPDATE " + schema.deadLetterTable() + " SET "
                 + schema.causeTypeColumn() + "=?, "
                 + schema.causeMessageColumn() + "=?, "
                 + schema.lastTouchedColumn() + "=?, "
                 + schema.diagnosticsColumn() + "=?, "
                 + schema.processingStartedColumn() + "=NULL "
                 + "WHERE " + schema.deadLetterIdentifierColumn() + "=?";
-        PreparedStatement statement = connection.prepareStatement(sql);
+    }
+
+    private void setRequeueFields(PreparedStatement statement,
+                                  String letterIdentifier,
+                                  Cause cause,
+                                  Instant lastTouched,
+                                  MetaData diagnostics) throws SQLException {
         statement.setString(1, getOrDefault(cause, Cause::type, null));
         statement.setString(2, getOrDefault(cause, Cause::message, null));
         statement.setString(3, DateTimeUtils.formatInstant(lastTouched));
         SerializedObject<byte[]> serializedDiagnostics = eventSerializer.serialize(diagnostics, byte[].class);
         statement.setBytes(4, serializedDiagnostics.getData());
         statement.setString(5, letterIdentifier);
-        return statement;
     }
 
     @Override
@@ -374,18 +434,48 @@ public PreparedStatement claimStatement(@Nonnull Connection connection,
                                             @Nonnull String identifier,
                                             @Nonnull Instant current,
                                             @Nonnull Instant processingStartedLimit) throws SQLException {
-        String sql = "UPDATE " + schema.deadLetterTable() + " SET "
+        PreparedStatement statement = connection.prepareStatement(claimSql());
+        setClaimFields(statement, identifier, current, processingStartedLimit);
+        return statement;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Claims all letters through a single batched statement. Subclasses customizing
+     * {@link #claimStatement(Connection, String, Instant, Instant)} should override this operation as well.
+     */
+    @Override
+    public int[] bulkClaim(@Nonnull Connection connection,
+                           @Nonnull List<String> identifiers,
+                           @Nonnull Instant current,
+                           @Nonnull Instant processingStartedLimit) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(claimSql())) {
+            for (String identifier : identifiers) {
+                setClaimFields(statement, identifier, current, processingStartedLimit);
+                statement.addBatch();
+            }
+            return statement.executeBatch();
+        }
+    }
+
+    private String claimSql() {
+        return "UPDATE " + schema.deadLetterTable() + " SET "
                 + schema.processingStartedColumn() + "=? "
                 + "WHERE " + schema.deadLetterIdentifierColumn() + "=? "
                 + "AND ("
                 + schema.processingStartedColumn() + " IS NULL "
                 + "OR " + schema.processingStartedColumn() + "<?"
                 + ")";
-        PreparedStatement statement = connection.prepareStatement(sql);
+    }
+
+    private void setClaimFields(PreparedStatement statement,
+                                String identifier,
+                                Instant current,
+                                Instant processingStartedLimit) throws SQLException {
         statement.setString(1, DateTimeUtils.formatInstant(current));
         statement.setString(2, identifier);
         statement.setString(3, DateTimeUtils.formatInstant(processingStartedLimit));
-        return statement;
     }
 
     @Override
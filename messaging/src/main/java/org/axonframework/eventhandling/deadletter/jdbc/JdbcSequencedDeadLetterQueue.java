@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2023. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@
 package org.axonframework.eventhandling.deadletter.jdbc;
 
 import org.axonframework.common.AxonConfigurationException;
+import org.axonframework.common.DirectExecutor;
 import org.axonframework.common.jdbc.ConnectionProvider;
 import org.axonframework.common.jdbc.JdbcException;
 import org.axonframework.common.jdbc.PagingJdbcIterable;
@@ -40,10 +41,17 @@
 import java.sql.Statement;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
@@ -68,6 +76,11 @@
  * {@link DeadLetterSchema#processingStartedColumn() processing started} property, locking other processes out of the
  * sequence for the configured {@code claimDuration} (30 seconds by default).
  * <p>
+ * To retry a large number of sequences, {@link #processSequences(Predicate, Function, int)} claims several sequences
+ * with a single statement and processes them in parallel on the configured
+ * {@link Builder#processingExecutor(Executor) processing Executor}. The outcome of processing is written with bulk
+ * statements, reducing the number of round trips to the database.
+ * <p>
  * The stored entries are converted to a {@link JdbcDeadLetter} when they need to be processed or filtered. In order to
  * restore the original {@link EventMessage} the {@link DeadLetterJdbcConverter} is used. The default supports all
  * {@code EventMessage} implementations provided by the framework. If you have a custom variant, you have to build your
@@ -86,6 +99,8 @@
     private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
     private static final boolean CLOSE_QUIETLY = true;
+    // several databases limit the number of expressions in an IN clause, like Oracle to 1000
+    private static final int MAX_BULK_EVICTIONS = 1000;
 
     private final String processingGroup;
     private final ConnectionProvider connectionProvider;
@@ -97,6 +112,7 @@
     private final int maxSequenceSize;
     private final int pageSize;
     private final Duration claimDuration;
+    private final Executor processingExecutor;
 
     /**
      * Instantiate a JDBC-based {@link SequencedDeadLetterQueue} through the given {@link Builder builder}.
@@ -122,6 +138,7 @@ protected JdbcSequencedDeadLetterQueue(Builder<E> builder) {
         this.maxSequenceSize = builder.maxSequenceSize;
         this.pageSize = builder.pageSize;
         this.claimDuration = builder.claimDuration;
+        this.processingExecutor = builder.processingExecutor;
     }
 
     /**
@@ -134,6 +151,7 @@ protected JdbcSequencedDeadLetterQueue(Builder<E> builder) {
      *     <li>The {@link Builder#maxSequenceSize(int) maximum sequence size} defaults to {@code 1024}.</li>
      *     <li>The {@link Builder#pageSize(int) page size} defaults to {@code 100}.</li>
      *     <li>The {@link Builder#claimDuration(Duration) claim duration} defaults to 30 seconds.</li>
+     *     <li>The {@link Builder#processingExecutor(Executor) processing Executor} defaults to a {@link DirectExecutor}.</li>
      * </ul>
      * <p>
      * The {@link Builder#processingGroup(String) processing group},
@@ -590,6 +608,229 @@ private JdbcDeadLetter<E> findNext(String sequenceIdentifier, long sequenceIndex
         ));
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Claims up to {@code maxSequences} sequences with a single batched statement, after which the claimed sequences
+     * are processed in parallel on the configured {@link Builder#processingExecutor(Executor) processing Executor}.
+     * The letters within a sequence are processed in order, retrieving a {@link Builder#pageSize(int) page} of letters
+     * of the sequence at a time. Once every claimed sequence processed its page, the outcome is stored in a single
+     * transaction. It evicts the successfully processed letters through a single statement, and requeues the failed
+     * letters and claims the next letters of unfinished sequences through batched statements.
+     * <p>
+     * As evictions are stored once per page, a successfully processed letter may be processed again when the
+     * application stops before the page of its sequence was stored. Claims, evictions and requeues go through the bulk
+     * operations of the configured {@link DeadLetterStatementFactory}, which default to its single letter statements.
+     */
+    @Override
+    public int processSequences(@Nonnull Predicate<DeadLetter<? extends E>> sequenceFilter,
+                                @Nonnull Function<DeadLetter<? extends E>, EnqueueDecision<E>> processingTask,
+                                int maxSequences) {
+        logger.debug("Received a request to process up to [{}] matching sequences of dead letters.", maxSequences);
+        if (maxSequences < 1) {
+            return 0;
+        }
+
+        List<JdbcDeadLetter<E>> candidates = new ArrayList<>();
+        Iterator<? extends JdbcDeadLetter<E>> iterator = findClaimableSequences(maxSequences);
+        while (iterator.hasNext() && candidates.size() < maxSequences) {
+            JdbcDeadLetter<E> next = iterator.next();
+            if (sequenceFilter.test(next)) {
+                candidates.add(next);
+            }
+        }
+        List<JdbcDeadLetter<E>> claimedLetters = transactionManager.fetchInTransaction(() -> {
+            Connection connection = getConnection();
+            try {
+                return claimDeadLetters(connection, candidates);
+            } finally {
+                closeQuietly(connection);
+            }
+        });
+        if (claimedLetters.isEmpty()) {
+            logger.debug("Received a request to process dead letters but there are no matching or claimable sequences.");
+            return 0;
+        }
+
+        int processedSequences = 0;
+        while (!claimedLetters.isEmpty()) {
+            List<SequencePage<E>> pages = processPages(claimedLetters, processingTask);
+            processedSequences += (int) pages.stream().filter(SequencePage::isCompleted).count();
+            claimedLetters = storeOutcome(pages);
+        }
+        return processedSequences;
+    }
+
+    /**
+     * Claims the given {@code letters} through the {@link DeadLetterStatementFactory#bulkClaim bulk claim} operation,
+     * returning the letters that were claimed successfully.
+     */
+    private List<JdbcDeadLetter<E>> claimDeadLetters(Connection connection, List<JdbcDeadLetter<E>> letters) {
+        if (letters.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> identifiers = new ArrayList<>();
+        letters.forEach(letter -> identifiers.add(letter.getIdentifier()));
+        Instant processingStartedLimit = processingStartedLimit();
+        int[] updateCounts;
+        try {
+            updateCounts = statementFactory.bulkClaim(
+                    connection, identifiers, GenericDeadLetter.clock.instant(), processingStartedLimit
+            );
+        } catch (SQLException e) {
+            throw new JdbcException("Failed to claim [" + letters.size() + "] JDBC dead letters for processing", e);
+        }
+        List<JdbcDeadLetter<E>> claimedLetters = new ArrayList<>();
+        for (int i = 0; i < letters.size(); i++) {
+            // drivers not reporting the update count of a batch entry leave the outcome of the claim unknown
+            if (i < updateCounts.length && updateCounts[i] > 0) {
+                claimedLetters.add(letters.get(i));
+            } else {
+                logger.debug("Failed to claim dead letter with identifier [{}].", identifiers.get(i));
+            }
+        }
+        logger.debug("Claimed [{}] out of [{}] dead letters to process.", claimedLetters.size(), letters.size());
+        return claimedLetters;
+    }
+
+    /**
+     * Processes a page of letters for the sequence of each of the given {@code claimedLetters} on the
+     * {@link Builder#processingExecutor(Executor) processing Executor}. When processing a sequence fails
+     * exceptionally, the outcome of the other sequences is stored before rethrowing the exception.
+     */
+    private List<SequencePage<E>> processPages(List<JdbcDeadLetter<E>> claimedLetters,
+                                               Function<DeadLetter<? extends E>, EnqueueDecision<E>> processingTask) {
+        List<CompletableFuture<SequencePage<E>>> futures = new ArrayList<>();
+        for (JdbcDeadLetter<E> claimedLetter : claimedLetters) {
+            futures.add(CompletableFuture.supplyAsync(() -> processPage(claimedLetter, processingTask),
+                                                      processingExecutor));
+        }
+        List<SequencePage<E>> pages = new ArrayList<>();
+        RuntimeException failure = null;
+        for (CompletableFuture<SequencePage<E>> future : futures) {
+            try {
+                pages.add(future.join());
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+                }
+            }
+        }
+        if (failure != null) {
+            storeOutcome(pages);
+            throw failure;
+        }
+        return pages;
+    }
+
+    /**
+     * Processes the letters of the sequence starting with the given {@code claimedLetter}, up to the configured
+     * {@link Builder#pageSize(int) page size}. Stops at the first letter that should be requeued. Retrieves one letter
+     * more than the page size, which is claimed to continue processing the sequence with after this page is stored.
+     */
+    private SequencePage<E> processPage(JdbcDeadLetter<E> claimedLetter,
+                                        Function<DeadLetter<? extends E>, EnqueueDecision<E>> processingTask) {
+        String sequenceIdentifier = claimedLetter.getSequenceIdentifier();
+        List<JdbcDeadLetter<E>> letters =
+                findLetters(sequenceIdentifier, claimedLetter.getSequenceIndex(), pageSize + 1);
+        if (letters.isEmpty() || !letters.get(0).getIdentifier().equals(claimedLetter.getIdentifier())) {
+            logger.info("Dead letter with identifier [{}] is no longer the first letter of sequence [{}]. "
+                                + "Skipping the sequence.", claimedLetter.getIdentifier(), sequenceIdentifier);
+            return SequencePage.abandoned();
+        }
+
+        List<String> evictions = new ArrayList<>();
+        for (JdbcDeadLetter<E> letter : letters.subList(0, Math.min(pageSize, letters.size()))) {
+            logger.info("Processing dead letter with identifier [{}] at index [{}]",
+                        letter.getIdentifier(), letter.getSequenceIndex());
+            EnqueueDecision<E> decision = processingTask.apply(letter);
+            if (decision.shouldEnqueue()) {
+                DeadLetter<? extends E> requeuedLetter = decision.withDiagnostics(letter)
+                                                                 .withCause(decision.enqueueCause().orElse(null))
+                                                                 .markTouched();
+                return SequencePage.requeued(evictions, letter.getIdentifier(), requeuedLetter);
+            }
+            evictions.add(letter.getIdentifier());
+        }
+        return letters.size() > pageSize
+                ? SequencePage.continued(evictions, letters.get(pageSize))
+                : SequencePage.completed(evictions);
+    }
+
+    /**
+     * Finds up to {@code maxSize} letters of the sequence with the given {@code sequenceIdentifier}, starting at the
+     * given {@code firstIndex}.
+     */
+    private List<JdbcDeadLetter<E>> findLetters(String sequenceIdentifier, long firstIndex, int maxSize) {
+        return transactionManager.fetchInTransaction(() -> executeQuery(
+                getConnection(),
+                connection -> statementFactory.letterSequenceStatement(
+                        connection, processingGroup, sequenceIdentifier, Math.toIntExact(firstIndex), maxSize
+                ),
+                listResults(converter::convertToLetter),
+                e -> new JdbcException(
+                        "Failed to find the dead letters in sequence [" + sequenceIdentifier + "] for processing", e
+                ),
+                CLOSE_QUIETLY
+        ));
+    }
+
+    /**
+     * Stores the outcome of processing the given {@code pages} in a single transaction. Claims the next letter of each
+     * sequence that was not processed entirely, evicts all successfully processed letters and requeues the letters
+     * that failed.
+     *
+     * @return The next letters of unfinished sequences that were claimed successfully.
+     */
+    private List<JdbcDeadLetter<E>> storeOutcome(List<SequencePage<E>> pages) {
+        List<JdbcDeadLetter<E>> nextLetters = new ArrayList<>();
+        List<String> evictions = new ArrayList<>();
+        Map<String, DeadLetter<? extends E>> requeues = new HashMap<>();
+        for (SequencePage<E> page : pages) {
+            evictions.addAll(page.evictions);
+            if (page.requeuedLetter != null) {
+                requeues.put(page.requeuedIdentifier, page.requeuedLetter);
+            }
+            if (page.nextLetter != null) {
+                nextLetters.add(page.nextLetter);
+            }
+        }
+
+        return transactionManager.fetchInTransaction(() -> {
+            Connection connection = getConnection();
+            try {
+                List<JdbcDeadLetter<E>> claimedLetters = claimDeadLetters(connection, nextLetters);
+                for (int start = 0; start < evictions.size(); start += MAX_BULK_EVICTIONS) {
+                    List<String> batch = evictions.subList(
+                            start, Math.min(start + MAX_BULK_EVICTIONS, evictions.size())
+                    );
+                    try {
+                        statementFactory.bulkEvict(connection, batch);
+                    } catch (SQLException e) {
+                        throw new JdbcException("Failed to evict [" + batch.size() + "] dead letters", e);
+                    }
+                }
+                if (!requeues.isEmpty()) {
+                    int[] updateCounts;
+                    try {
+                        updateCounts = statementFactory.bulkRequeue(connection, requeues);
+                    } catch (SQLException e) {
+                        throw new JdbcException("Failed to requeue [" + requeues.size() + "] dead letters", e);
+                    }
+                    long missing = Arrays.stream(updateCounts).filter(count -> count == 0).count();
+                    if (missing > 0) {
+                        logger.info("Could not requeue [{}] dead letters as they are no longer present.", missing);
+                    }
+                }
+                logger.debug("Evicted [{}] and requeued [{}] dead letters for processing group [{}].",
+                             evictions.size(), requeues.size(), processingGroup);
+                return claimedLetters;
+            } finally {
+                closeQuietly(connection);
+            }
+        });
+    }
+
     @Override
     public void clear() {
         Connection connection = getConnection();
@@ -614,6 +855,54 @@ private String toStringSequenceIdentifier(Object sequenceIdentifier) {
                 : Integer.toString(sequenceIdentifier.hashCode());
     }
 
+    /**
+     * The outcome of processing a page of letters of a single sequence during
+     * {@link #processSequences(Predicate, Function, int)}.
+     */
+    private static final class SequencePage<E extends EventMessage<?>> {
+
+        private final List<String> evictions;
+        private final String requeuedIdentifier;
+        private final DeadLetter<? extends E> requeuedLetter;
+        private final JdbcDeadLetter<E> nextLetter;
+        private final boolean completed;
+
+        private SequencePage(List<String> evictions,
+                             String requeuedIdentifier,
+                             DeadLetter<? extends E> requeuedLetter,
+                             JdbcDeadLetter<E> nextLetter,
+                             boolean completed) {
+            this.evictions = evictions;
+            this.requeuedIdentifier = requeuedIdentifier;
+            this.requeuedLetter = requeuedLetter;
+            this.nextLetter = nextLetter;
+            this.completed = completed;
+        }
+
+        private static <E extends EventMessage<?>> SequencePage<E> completed(List<String> evictions) {
+            return new SequencePage<>(evictions, null, null, null, true);
+        }
+
+        private static <E extends EventMessage<?>> SequencePage<E> continued(List<String> evictions,
+                                                                             JdbcDeadLetter<E> nextLetter) {
+            return new SequencePage<>(evictions, null, null, nextLetter, false);
+        }
+
+        private static <E extends EventMessage<?>> SequencePage<E> requeued(List<String> evictions,
+                                                                            String requeuedIdentifier,
+                                                                            DeadLetter<? extends E> requeuedLetter) {
+            return new SequencePage<>(evictions, requeuedIdentifier, requeuedLetter, null, false);
+        }
+
+        private static <E extends EventMessage<?>> SequencePage<E> abandoned() {
+            return new SequencePage<>(Collections.emptyList(), null, null, null, false);
+        }
+
+        private boolean isCompleted() {
+            return completed;
+        }
+    }
+
     /**
      * Builder class to instantiate an {@link JdbcSequencedDeadLetterQueue}.
      * <p>
@@ -624,6 +913,7 @@ private String toStringSequenceIdentifier(Object sequenceIdentifier) {
      *     <li>The {@link Builder#maxSequenceSize(int) maximum sequence size} defaults to {@code 1024}.</li>
      *     <li>The {@link Builder#pageSize(int) page size} defaults to {@code 100}.</li>
      *     <li>The {@link Builder#claimDuration(Duration) claim duration} defaults to 30 seconds.</li>
+     *     <li>The {@link Builder#processingExecutor(Executor) processing Executor} defaults to a {@link DirectExecutor}.</li>
      * </ul>
      * <p>
      * The {@link Builder#processingGroup(String) processing group},
@@ -655,6 +945,7 @@ private String toStringSequenceIdentifier(Object sequenceIdentifier) {
         private int maxSequenceSize = 1024;
         private int pageSize = 100;
         private Duration claimDuration = Duration.ofSeconds(30);
+        private Executor processingExecutor = DirectExecutor.INSTANCE;
 
         /**
          * Sets the processing group, which is used for storing and querying which processing group a dead-lettered
@@ -850,6 +1141,21 @@ public Builder<E> pageSize(int pageSize) {
             return this;
         }
 
+        /**
+         * Sets the {@link Executor} used to process the sequences claimed by a single
+         * {@link JdbcSequencedDeadLetterQueue#processSequences(Predicate, Function, int)} invocation in parallel. The
+         * letters within a sequence are always processed in order. Defaults to a {@link DirectExecutor}, processing
+         * the claimed sequences one after the other on the invoking thread.
+         *
+         * @param processingExecutor The {@link Executor} used to process claimed sequences in parallel.
+         * @return The current Builder instance, for fluent interfacing.
+         */
+        public Builder<E> processingExecutor(@Nonnull Executor processingExecutor) {
+            assertNonNull(processingExecutor, "The processing Executor may not be null");
+            this.processingExecutor = processingExecutor;
+            return this;
+        }
+
         /**
          * Initializes a {@link JdbcSequencedDeadLetterQueue} as specified through this Builder.
          *
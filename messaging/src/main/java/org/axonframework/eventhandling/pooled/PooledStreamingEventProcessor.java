@@ -371,6 +371,7 @@ private WorkPackage spawnWorker(Segment segment, TrackingToken initialToken) {
                                   segment.getSegmentId(), new TrackerStatus(segment, initialToken)
                           ))
                           .clock(clock)
+                          .segmentClaimedAction(claimedSegment -> eventHandlerInvoker().segmentClaimed(claimedSegment))
                           .build();
     }
 
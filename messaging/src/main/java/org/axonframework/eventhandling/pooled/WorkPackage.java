@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2023. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -85,6 +85,7 @@ class WorkPackage {
     private final long claimExtensionThreshold;
     private final Consumer<UnaryOperator<TrackerStatus>> segmentStatusUpdater;
     private final Clock clock;
+    private final Consumer<Segment> segmentClaimedAction;
     private final String segmentIdResourceKey;
     private final String lastTokenResourceKey;
 
@@ -93,6 +94,7 @@ class WorkPackage {
     private TrackingToken lastStoredToken;
     private final AtomicLong nextClaimExtension;
     private final AtomicBoolean processingEvents;
+    private volatile boolean segmentClaimedActionPerformed;
 
     private final Queue<ProcessingEntry> processingQueue = new ConcurrentLinkedQueue<>();
     private final AtomicBoolean scheduled = new AtomicBoolean();
@@ -122,6 +124,7 @@ private WorkPackage(Builder builder) {
         this.claimExtensionThreshold = builder.claimExtensionThreshold;
         this.segmentStatusUpdater = builder.segmentStatusUpdater;
         this.clock = builder.clock;
+        this.segmentClaimedAction = builder.segmentClaimedAction;
         this.segmentIdResourceKey = "Processor[" + builder.name + "]/SegmentId";
         this.lastTokenResourceKey = "Processor[" + builder.name + "]/Token";
 
@@ -294,6 +297,9 @@ public void scheduleWorker() {
     }
 
     private void processEvents() throws Exception {
+        if (!segmentClaimedActionPerformed) {
+            performSegmentClaimedAction();
+        }
         List<TrackedEventMessage<?>> eventBatch = new ArrayList<>();
         while (!isAbortTriggered() && eventBatch.size() < batchSize && !processingQueue.isEmpty()) {
             ProcessingEntry entry = processingQueue.poll();
@@ -331,6 +337,16 @@ private void processEvents() throws Exception {
         }
     }
 
+    private void performSegmentClaimedAction() {
+        segmentClaimedActionPerformed = true;
+        try {
+            segmentClaimedAction.accept(segment);
+        } catch (Exception e) {
+            logger.warn("Preparing Work Package [{}]-[{}] failed. Continuing processing.",
+                        segment.getSegmentId(), name, e);
+        }
+    }
+
     /**
      * Extend the claim of the {@link TrackingToken} owned by this {@code WorkPackage}, if the configurable
      * {@link PooledStreamingEventProcessor.Builder#claimExtensionThreshold(long) claim extension threshold} is met.
@@ -520,6 +536,8 @@ static class Builder {
         private long claimExtensionThreshold = 5000;
         private Consumer<UnaryOperator<TrackerStatus>> segmentStatusUpdater;
         private Clock clock = GenericEventMessage.clock;
+        private Consumer<Segment> segmentClaimedAction = segment -> {
+        };
 
         /**
          * The {@code name} of the processor this {@link WorkPackage} processes events for.
@@ -660,6 +678,18 @@ Builder clock(Clock clock) {
             return this;
         }
 
+        /**
+         * Registers an action to perform with the claimed {@link Segment}, before this {@link WorkPackage} processes
+         * its first batch of events. Defaults to a no-op.
+         *
+         * @param segmentClaimedAction the action to perform before the first batch of events is processed
+         * @return the current Builder instance, for fluent interfacing
+         */
+        Builder segmentClaimedAction(Consumer<Segment> segmentClaimedAction) {
+            this.segmentClaimedAction = segmentClaimedAction;
+            return this;
+        }
+
         /**
          * Initializes a {@link WorkPackage} as specified through this Builder.
          *
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2022. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,8 +16,10 @@
 
 package org.axonframework.messaging;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import javax.annotation.Nonnull;
 
@@ -53,4 +55,60 @@ default T handle(@Nonnull T message) {
     @Nonnull
     BiFunction<Integer, T, T> handle(@Nonnull List<? extends T> messages);
 
+    /**
+     * Applies the given {@code interceptors} to the given batch of {@code messages}, in order. Every interceptor is
+     * invoked once for the complete batch, through {@link #handle(List)}, instead of once per message. The returned
+     * list contains the messages to dispatch, at the same positions as the given {@code messages}.
+     * <p>
+     * A failure to intercept a message only affects that message. It is reported to the given {@code failureHandler}
+     * with the position of the message, after which the message is left out of the remaining interceptors and its
+     * position in the returned list is {@code null}. When an interceptor fails on the complete batch, it is invoked
+     * for every remaining message separately, to find out which messages it rejects.
+     *
+     * @param interceptors   the interceptors to apply to the given {@code messages}
+     * @param messages       the batch of messages to intercept
+     * @param failureHandler the handler to report the position of a message that failed to be intercepted to,
+     *                       together with the failure
+     * @param <T>            the type of message to intercept
+     * @return the intercepted messages, at the same positions as the given {@code messages}, with {@code null} at the
+     * positions of messages that failed to be intercepted
+     * @since 4.11.0
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static <T extends Message<?>> List<T> interceptAll(
+            @Nonnull List<? extends MessageDispatchInterceptor<? super T>> interceptors,
+            @Nonnull List<? extends T> messages,
+            @Nonnull BiConsumer<Integer, RuntimeException> failureHandler
+    ) {
+        List<T> intercepted = new ArrayList<>(messages);
+        for (MessageDispatchInterceptor interceptor : interceptors) {
+            List<Integer> positions = new ArrayList<>(intercepted.size());
+            List<T> batch = new ArrayList<>(intercepted.size());
+            for (int i = 0; i < intercepted.size(); i++) {
+                if (intercepted.get(i) != null) {
+                    positions.add(i);
+                    batch.add(intercepted.get(i));
+                }
+            }
+            if (batch.isEmpty()) {
+                break;
+            }
+            BiFunction<Integer, T, T> processor;
+            try {
+                processor = interceptor.handle(batch);
+            } catch (RuntimeException e) {
+                processor = (index, message) -> (T) interceptor.handle(message);
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                int position = positions.get(i);
+                try {
+                    intercepted.set(position, processor.apply(i, batch.get(i)));
+                } catch (RuntimeException e) {
+                    intercepted.set(position, null);
+                    failureHandler.accept(position, e);
+                }
+            }
+        }
+        return intercepted;
+    }
 }
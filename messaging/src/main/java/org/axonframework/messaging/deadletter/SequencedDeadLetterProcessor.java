@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2022. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -55,4 +55,25 @@
     default boolean processAny() {
         return process(letter -> true);
     }
+
+    /**
+     * Process up to {@code maxSequences} sequences of {@link DeadLetter dead letters} matching the given
+     * {@code sequenceFilter}.
+     * <p>
+     * Implementations may process several sequences at once, for example through
+     * {@link SequencedDeadLetterQueue#processSequences}. By default, this operation invokes
+     * {@link #process(Predicate)} up to {@code maxSequences} times, stopping as soon as a sequence could not be
+     * processed successfully.
+     *
+     * @param sequenceFilter A filter for the first {@link DeadLetter dead letter} entries of each sequence.
+     * @param maxSequences   The maximum number of sequences to process.
+     * @return The number of sequences of which all {@link DeadLetter dead letters} were processed successfully.
+     */
+    default int processSequences(Predicate<DeadLetter<? extends M>> sequenceFilter, int maxSequences) {
+        int processedSequences = 0;
+        while (processedSequences < maxSequences && process(sequenceFilter)) {
+            processedSequences++;
+        }
+        return processedSequences;
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2022. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -225,6 +225,34 @@ default boolean process(@Nonnull Function<DeadLetter<? extends M>, EnqueueDecisi
         return process(letter -> true, processingTask);
     }
 
+    /**
+     * Process up to {@code maxSequences} sequences of enqueued {@link DeadLetter dead letters} matching the
+     * {@code sequenceFilter} through the given {@code processingTask}. Each sequence is processed as described by
+     * {@link #process(Predicate, Function)}, thus keeping the letters within a sequence in order.
+     * <p>
+     * Implementations may claim and process several sequences at once, which is beneficial when a large number of
+     * sequences should be retried. By default, this operation invokes {@link #process(Predicate, Function)} up to
+     * {@code maxSequences} times, stopping as soon as a sequence could not be processed successfully, as that
+     * indicates there are no more claimable sequences or the processing task is failing.
+     *
+     * @param sequenceFilter A {@link Predicate lambda} selecting the sequences within this queue to process with the
+     *                       {@code processingTask}.
+     * @param processingTask A function processing a {@link DeadLetter dead letter}. Returns a {@link EnqueueDecision}
+     *                       used to deduce whether to {@link #evict(DeadLetter)} or
+     *                       {@link #requeue(DeadLetter, UnaryOperator)} the dead letter.
+     * @param maxSequences   The maximum number of sequences to process.
+     * @return The number of sequences of which all {@link DeadLetter dead letters} were processed successfully.
+     */
+    default int processSequences(@Nonnull Predicate<DeadLetter<? extends M>> sequenceFilter,
+                                 @Nonnull Function<DeadLetter<? extends M>, EnqueueDecision<M>> processingTask,
+                                 int maxSequences) {
+        int processedSequences = 0;
+        while (processedSequences < maxSequences && process(sequenceFilter, processingTask)) {
+            processedSequences++;
+        }
+        return processedSequences;
+    }
+
     /**
      * Clears out all {@link DeadLetter dead letters} present in this queue.
      */
@@ -0,0 +1,658 @@
+/*
+ * Copyright (c) 2010-2024. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.queryhandling;
+
+import org.axonframework.common.AxonConfigurationException;
+import org.axonframework.common.Registration;
+import org.axonframework.common.caching.Cache;
+import org.axonframework.messaging.MessageDispatchInterceptor;
+import org.axonframework.messaging.MessageHandler;
+import org.axonframework.messaging.MessageHandlerInterceptor;
+import org.axonframework.messaging.MetaData;
+import org.axonframework.messaging.responsetypes.ResponseType;
+import org.axonframework.messaging.responsetypes.ResponseTypes;
+import org.reactivestreams.Publisher;
+
+import java.io.Serializable;
+import java.lang.reflect.Type;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import javax.annotation.Nonnull;
+
+import static org.axonframework.common.BuilderUtils.assertNonNull;
+import static org.axonframework.common.BuilderUtils.assertStrictPositive;
+import static org.axonframework.common.BuilderUtils.assertThat;
+
+/**
+ * A {@link QueryBus} decorator caching the responses of point-to-point queries. Responses of
+ * {@link #query(QueryMessage) queries} are stored in the configured {@link Cache}, keyed on the query name, payload,
+ * response type and a configurable selection of {@link MetaData} entries. Subsequent identical queries are answered
+ * from the cache without reaching the query handler. Exceptional responses are never cached.
+ * <p>
+ * Cached responses are evicted when their time-to-live expires, when the maximum number of entries is exceeded (least
+ * recently used first), when the {@link Cache} itself evicts them, or when they are invalidated explicitly.
+ * Invalidation is possible through the {@code invalidate} methods on this bus, or by emitting updates through the
+ * configured {@link QueryUpdateEmitter}, which defaults to the emitter of the delegate {@link QueryBus}. To that end,
+ * a single {@link QueryUpdateEmitter#registerUpdateListener(String, java.util.function.Consumer) update listener} is
+ * registered per query name, so that any update matching a cached query evicts its response, regardless of the
+ * component emitting the update. Within a {@link org.axonframework.messaging.unitofwork.UnitOfWork}, invalidation
+ * happens when the emitter delivers the update, which is after the Unit of Work commits. Responses of queries
+ * invalidated while they were being handled are not cached.
+ * <p>
+ * {@link #registerDispatchInterceptor(MessageDispatchInterceptor) Dispatch interceptors} registered on this bus are
+ * invoked before the cache is consulted, so they apply to queries answered from the cache as well, and the cache key
+ * is built from the intercepted query.
+ * <p>
+ * Streaming queries, scatter-gather queries and subscription queries are not cached and are passed to the delegate
+ * as is.
+ *
+ * @since 4.11.0
+ */
+public class CachingQueryBus implements QueryBus {
+
+    private final QueryBus delegate;
+    private final Cache cache;
+    private final Duration timeToLive;
+    private final int maximumEntries;
+    private final Predicate<QueryMessage<?, ?>> cacheableQueries;
+    private final List<String> cacheKeyMetaDataKeys;
+    private final Clock clock;
+    private final QueryUpdateEmitter queryUpdateEmitter;
+
+    private final List<MessageDispatchInterceptor<? super QueryMessage<?, ?>>> dispatchInterceptors =
+            new CopyOnWriteArrayList<>();
+    private final ConcurrentMap<String, Registration> updateListeners = new ConcurrentHashMap<>();
+    private final Map<CacheKey, CacheEntry> cachedQueries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, Set<CacheEntry>> entriesByQueryName = new HashMap<>();
+    private final Set<CacheEntry> entriesByExpiry = new LinkedHashSet<>();
+    private final Queue<Object> keysRemovedByCache = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Instantiate a {@link CachingQueryBus} based on the fields contained in the {@link Builder}.
+     * <p>
+     * Will assert that the delegate {@link QueryBus} and {@link Cache} are not {@code null}, and will throw an
+     * {@link AxonConfigurationException} if either of them is.
+     *
+     * @param builder the {@link Builder} used to instantiate a {@link CachingQueryBus} instance
+     */
+    protected CachingQueryBus(Builder builder) {
+        builder.validate();
+        this.delegate = builder.delegate;
+        this.cache = builder.cache;
+        this.timeToLive = builder.timeToLive;
+        this.maximumEntries = builder.maximumEntries;
+        this.cacheableQueries = builder.cacheableQueries;
+        this.cacheKeyMetaDataKeys = new ArrayList<>(builder.cacheKeyMetaDataKeys);
+        this.clock = builder.clock;
+        this.queryUpdateEmitter = builder.queryUpdateEmitter != null
+                ? builder.queryUpdateEmitter
+                : delegate.queryUpdateEmitter();
+        cache.registerCacheEntryListener(new CacheRemovalListener());
+    }
+
+    /**
+     * Instantiate a Builder to be able to create a {@link CachingQueryBus}.
+     * <p>
+     * All queries are considered cacheable, no {@link MetaData} is part of the cache key, cached responses do not
+     * expire and at most {@code 10_000} responses are cached. The {@link Clock} defaults to
+     * {@link Clock#systemUTC()} and the {@link QueryUpdateEmitter} to the emitter of the delegate {@link QueryBus}.
+     * The delegate {@link QueryBus} and the {@link Cache} are <b>hard requirements</b> and as such should be provided.
+     *
+     * @return a Builder to be able to create a {@link CachingQueryBus}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public <Q, R> CompletableFuture<QueryResponseMessage<R>> query(@Nonnull QueryMessage<Q, R> query) {
+        QueryMessage<Q, R> interceptedQuery = intercept(query);
+        if (!cacheableQueries.test(interceptedQuery)) {
+            return delegate.query(interceptedQuery);
+        }
+        CacheKey key = cacheKey(interceptedQuery);
+        CachedResponse cached = cache.get(key);
+        if (cached != null && !cached.isExpired(clock.millis())) {
+            synchronized (cachedQueries) {
+                cachedQueries.get(key);
+            }
+            //noinspection unchecked
+            return CompletableFuture.completedFuture((QueryResponseMessage<R>) cached.response);
+        }
+        CacheEntry entry = track(key, interceptedQuery);
+        return delegate.query(interceptedQuery).whenComplete((response, error) -> {
+            if (error == null && !response.isExceptional()) {
+                store(entry, response);
+            } else {
+                release(entry);
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private <Q, R, T extends QueryMessage<Q, R>> T intercept(T query) {
+        T intercepted = query;
+        for (MessageDispatchInterceptor<? super QueryMessage<?, ?>> interceptor : dispatchInterceptors) {
+            intercepted = (T) interceptor.handle(intercepted);
+        }
+        return intercepted;
+    }
+
+    /**
+     * Starts tracking a new {@link CacheEntry} for the given {@code query}, so that updates emitted while the query is
+     * handled prevent its response from being cached. Registers the update listener of the query name on the
+     * {@link QueryUpdateEmitter} when this is the first query with that name.
+     */
+    private CacheEntry track(CacheKey key, QueryMessage<?, ?> query) {
+        updateListeners.computeIfAbsent(key.queryName, queryName -> queryUpdateEmitter.registerUpdateListener(
+                queryName, filter -> onUpdate(queryName, filter)
+        ));
+        CacheEntry entry = new CacheEntry(key, asSubscriptionQuery(query));
+        synchronized (cachedQueries) {
+            removeStaleEntries();
+            entriesByQueryName.computeIfAbsent(key.queryName, queryName -> new HashSet<>()).add(entry);
+        }
+        return entry;
+    }
+
+    private static <Q, R> SubscriptionQueryMessage<Q, R, Object> asSubscriptionQuery(QueryMessage<Q, R> query) {
+        // emitted updates describe the queries they apply to through a predicate on subscription queries
+        return new GenericSubscriptionQueryMessage<>(
+                query, query.getQueryName(), query.getResponseType(), ResponseTypes.instanceOf(Object.class)
+        );
+    }
+
+    private void onUpdate(String queryName, Predicate<SubscriptionQueryMessage<?, ?, ?>> filter) {
+        synchronized (cachedQueries) {
+            release(entriesByQueryName.getOrDefault(queryName, Collections.emptySet()), filter);
+        }
+    }
+
+    private void store(CacheEntry entry, QueryResponseMessage<?> response) {
+        synchronized (cachedQueries) {
+            // an update or invalidation during dispatch may have made this response stale already
+            if (entry.released) {
+                return;
+            }
+            CacheEntry previous = cachedQueries.get(entry.key);
+            if (previous != null) {
+                release(previous);
+            }
+            entry.expiresAt = timeToLive == null ? Long.MAX_VALUE : clock.millis() + timeToLive.toMillis();
+            cache.put(entry.key, new CachedResponse(response, entry.expiresAt));
+            cachedQueries.put(entry.key, entry);
+            if (timeToLive != null) {
+                entriesByExpiry.add(entry);
+            }
+            if (cachedQueries.size() > maximumEntries) {
+                release(cachedQueries.values().iterator().next());
+            }
+        }
+    }
+
+    /**
+     * Stops tracking the given {@code entry}, evicting its response from the {@link Cache} if it was stored.
+     */
+    private void release(CacheEntry entry) {
+        synchronized (cachedQueries) {
+            if (entry.released) {
+                return;
+            }
+            entry.released = true;
+            entriesByQueryName.computeIfPresent(entry.key.queryName, (queryName, entries) -> {
+                entries.remove(entry);
+                return entries.isEmpty() ? null : entries;
+            });
+            entriesByExpiry.remove(entry);
+            if (cachedQueries.remove(entry.key, entry)) {
+                cache.remove(entry.key);
+            }
+        }
+    }
+
+    /**
+     * Releases the entries of which the response expired or has been removed by the {@link Cache} itself. Expired
+     * entries are found in order of expiry, as all entries share the same time-to-live.
+     */
+    private void removeStaleEntries() {
+        Object removedKey;
+        while ((removedKey = keysRemovedByCache.poll()) != null) {
+            CacheEntry entry = cachedQueries.get(removedKey);
+            if (entry != null && !cache.containsKey(removedKey)) {
+                release(entry);
+            }
+        }
+        long now = clock.millis();
+        Iterator<CacheEntry> expiring = entriesByExpiry.iterator();
+        while (expiring.hasNext()) {
+            CacheEntry entry = expiring.next();
+            if (entry.expiresAt > now) {
+                return;
+            }
+            expiring.remove();
+            release(entry);
+        }
+    }
+
+    private CacheKey cacheKey(QueryMessage<?, ?> query) {
+        Map<String, Object> metaData;
+        if (cacheKeyMetaDataKeys.isEmpty()) {
+            metaData = Collections.emptyMap();
+        } else {
+            metaData = new HashMap<>();
+            for (String metaDataKey : cacheKeyMetaDataKeys) {
+                metaData.put(metaDataKey, query.getMetaData().get(metaDataKey));
+            }
+        }
+        return new CacheKey(query.getQueryName(), query.getPayload(), query.getResponseType(), metaData);
+    }
+
+    /**
+     * Evicts all cached responses of queries matching the given {@code filter}. Responses of matching queries that
+     * are being handled at the moment will not be cached.
+     *
+     * @param filter the predicate on the cached query messages to evict the responses of
+     */
+    public void invalidate(@Nonnull Predicate<QueryMessage<?, ?>> filter) {
+        synchronized (cachedQueries) {
+            List<CacheEntry> entries = new ArrayList<>();
+            entriesByQueryName.values().forEach(entries::addAll);
+            release(entries, filter);
+        }
+    }
+
+    /**
+     * Evicts all cached responses of queries with the given {@code queryName}. Responses of matching queries that
+     * are being handled at the moment will not be cached.
+     *
+     * @param queryName the name of the queries to evict the responses of
+     */
+    public void invalidate(@Nonnull String queryName) {
+        synchronized (cachedQueries) {
+            release(entriesByQueryName.getOrDefault(queryName, Collections.emptySet()), query -> true);
+        }
+    }
+
+    /**
+     * Evicts all cached responses of queries with the given {@code queryName} and {@code payload}. Responses of
+     * matching queries that are being handled at the moment will not be cached.
+     *
+     * @param queryName the name of the queries to evict the responses of
+     * @param payload   the payload of the queries to evict the responses of
+     */
+    public void invalidate(@Nonnull String queryName, @Nonnull Object payload) {
+        synchronized (cachedQueries) {
+            release(entriesByQueryName.getOrDefault(queryName, Collections.emptySet()),
+                    query -> payload.equals(query.getPayload()));
+        }
+    }
+
+    private void release(Collection<CacheEntry> entries, Predicate<? super SubscriptionQueryMessage<?, ?, ?>> filter) {
+        new ArrayList<>(entries).stream()
+                                .filter(entry -> filter.test(entry.query))
+                                .forEach(this::release);
+    }
+
+    /**
+     * Evicts all responses cached by this query bus.
+     */
+    public void invalidateAll() {
+        invalidate(query -> true);
+    }
+
+    @Override
+    public <R> Registration subscribe(@Nonnull String queryName,
+                                      @Nonnull Type responseType,
+                                      @Nonnull MessageHandler<? super QueryMessage<?, R>> handler) {
+        return delegate.subscribe(queryName, responseType, handler);
+    }
+
+    @Override
+    public <Q, R> Publisher<QueryResponseMessage<R>> streamingQuery(StreamingQueryMessage<Q, R> query) {
+        return delegate.streamingQuery(intercept(query));
+    }
+
+    @Override
+    public <Q, R> Stream<QueryResponseMessage<R>> scatterGather(@Nonnull QueryMessage<Q, R> query,
+                                                                long timeout,
+                                                                @Nonnull TimeUnit unit) {
+        return delegate.scatterGather(intercept(query), timeout, unit);
+    }
+
+    @Override
+    @Deprecated
+    public <Q, I, U> SubscriptionQueryResult<QueryResponseMessage<I>, SubscriptionQueryUpdateMessage<U>> subscriptionQuery(
+            @Nonnull SubscriptionQueryMessage<Q, I, U> query,
+            SubscriptionQueryBackpressure backpressure,
+            int updateBufferSize
+    ) {
+        return delegate.subscriptionQuery(intercept(query), backpressure, updateBufferSize);
+    }
+
+    @Override
+    public <Q, I, U> SubscriptionQueryResult<QueryResponseMessage<I>, SubscriptionQueryUpdateMessage<U>> subscriptionQuery(
+            @Nonnull SubscriptionQueryMessage<Q, I, U> query,
+            int updateBufferSize
+    ) {
+        return delegate.subscriptionQuery(intercept(query), updateBufferSize);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns the {@link QueryUpdateEmitter} this bus listens to for updates. Updates emitted through it evict the
+     * cached responses of all queries that match the update, as if they were subscription queries.
+     */
+    @Override
+    public QueryUpdateEmitter queryUpdateEmitter() {
+        return queryUpdateEmitter;
+    }
+
+    @Override
+    public @Nonnull Registration registerHandlerInterceptor(
+            @Nonnull MessageHandlerInterceptor<? super QueryMessage<?, ?>> handlerInterceptor
+    ) {
+        return delegate.registerHandlerInterceptor(handlerInterceptor);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The interceptor is invoked by this bus before the cache is consulted, so that it applies to queries answered
+     * from the cache too, and the cache key is built from the intercepted query. Interceptors registered on the
+     * delegate {@link QueryBus} directly only apply to queries that are dispatched on the delegate.
+     */
+    @Override
+    public @Nonnull Registration registerDispatchInterceptor(
+            @Nonnull MessageDispatchInterceptor<? super QueryMessage<?, ?>> dispatchInterceptor
+    ) {
+        dispatchInterceptors.add(dispatchInterceptor);
+        return () -> dispatchInterceptors.remove(dispatchInterceptor);
+    }
+
+    /**
+     * A {@link Cache.EntryListener} collecting the keys of responses the {@link Cache} expired or removed by itself.
+     * The keys are only collected here, as the cache may notify its listeners while holding its own locks. Entries are
+     * released the next time a query is tracked.
+     */
+    private class CacheRemovalListener extends Cache.EntryListenerAdapter {
+
+        @Override
+        public void onEntryExpired(Object key) {
+            onEntryRemoved(key);
+        }
+
+        @Override
+        public void onEntryRemoved(Object key) {
+            if (key instanceof CacheKey) {
+                keysRemovedByCache.add(key);
+            }
+        }
+    }
+
+    /**
+     * A query of which the response is being retrieved or is cached, in the form emitted updates are matched against.
+     * Mutable state is guarded by the lock on {@code cachedQueries}.
+     */
+    private static final class CacheEntry {
+
+        private final CacheKey key;
+        private final SubscriptionQueryMessage<?, ?, ?> query;
+        private long expiresAt = Long.MAX_VALUE;
+        private boolean released;
+
+        private CacheEntry(CacheKey key, SubscriptionQueryMessage<?, ?, ?> query) {
+            this.key = key;
+            this.query = query;
+        }
+    }
+
+    private static final class CacheKey implements Serializable {
+
+        private static final long serialVersionUID = 2630475617093411286L;
+
+        private final String queryName;
+        private final Object payload;
+        private final ResponseType<?> responseType;
+        private final Map<String, Object> metaData;
+
+        private CacheKey(String queryName, Object payload, ResponseType<?> responseType,
+                         Map<String, Object> metaData) {
+            this.queryName = queryName;
+            this.payload = payload;
+            this.responseType = responseType;
+            this.metaData = metaData;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            CacheKey that = (CacheKey) o;
+            return Objects.equals(queryName, that.queryName)
+                    && Objects.equals(payload, that.payload)
+                    && Objects.equals(responseType, that.responseType)
+                    && Objects.equals(metaData, that.metaData);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(queryName, payload, responseType, metaData);
+        }
+
+        @Override
+        public String toString() {
+            return "CacheKey{queryName='" + queryName + "', payload=" + payload
+                    + ", responseType=" + responseType + ", metaData=" + metaData + '}';
+        }
+    }
+
+    private static final class CachedResponse implements Serializable {
+
+        private static final long serialVersionUID = -3856108274093526213L;
+
+        private final QueryResponseMessage<?> response;
+        private final long expiresAt;
+
+        private CachedResponse(QueryResponseMessage<?> response, long expiresAt) {
+            this.response = response;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+
+    /**
+     * Builder class to instantiate a {@link CachingQueryBus}.
+     * <p>
+     * All queries are considered cacheable, no {@link MetaData} is part of the cache key, cached responses do not
+     * expire and at most {@code 10_000} responses are cached. The {@link Clock} defaults to
+     * {@link Clock#systemUTC()} and the {@link QueryUpdateEmitter} to the emitter of the delegate {@link QueryBus}.
+     * The delegate {@link QueryBus} and the {@link Cache} are <b>hard requirements</b> and as such should be provided.
+     */
+    public static class Builder {
+
+        private QueryBus delegate;
+        private Cache cache;
+        private Duration timeToLive;
+        private int maximumEntries = 10_000;
+        private Predicate<QueryMessage<?, ?>> cacheableQueries = query -> true;
+        private List<String> cacheKeyMetaDataKeys = Collections.emptyList();
+        private Clock clock = Clock.systemUTC();
+        private QueryUpdateEmitter queryUpdateEmitter;
+
+        /**
+         * Sets the {@link QueryBus} queries are dispatched on when no cached response is available.
+         *
+         * @param delegate the {@link QueryBus} to dispatch queries on when no cached response is available
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder delegate(@Nonnull QueryBus delegate) {
+            assertNonNull(delegate, "Delegate QueryBus may not be null");
+            this.delegate = delegate;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Cache} used to store query responses. Any implementation may be used, like a
+         * {@link org.axonframework.common.caching.WeakReferenceCache} or a
+         * {@link org.axonframework.common.caching.JCacheAdapter}. Cache keys and values are {@link Serializable}, as
+         * caches may store entries by value. For such caches, the payloads and the
+         * {@link #cacheKeyMetaDataKeys(String...) selected meta data} of the queries, as well as the responses, need to
+         * be serializable too.
+         *
+         * @param cache the {@link Cache} used to store query responses
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder cache(@Nonnull Cache cache) {
+            assertNonNull(cache, "Cache may not be null");
+            this.cache = cache;
+            return this;
+        }
+
+        /**
+         * Sets the time a cached response may be used after it has been stored. Defaults to {@code null}, meaning
+         * responses only leave the cache through eviction or invalidation.
+         *
+         * @param timeToLive the time a cached response may be used after it has been stored
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder timeToLive(Duration timeToLive) {
+            assertThat(timeToLive, ttl -> ttl == null || !(ttl.isNegative() || ttl.isZero()),
+                       "The time to live should be a positive duration");
+            this.timeToLive = timeToLive;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of responses cached by the bus. When exceeded, the least recently used response is
+         * evicted. Defaults to {@code 10_000}.
+         *
+         * @param maximumEntries the maximum number of responses cached by the bus
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder maximumEntries(int maximumEntries) {
+            assertStrictPositive(maximumEntries, "The maximum number of entries should be a positive number");
+            this.maximumEntries = maximumEntries;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Predicate} deciding which queries are answered from and stored in the cache. Queries not
+         * matching the predicate are always dispatched on the delegate. Defaults to caching all queries.
+         *
+         * @param cacheableQueries the {@link Predicate} deciding which queries are cached
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder cacheableQueries(@Nonnull Predicate<QueryMessage<?, ?>> cacheableQueries) {
+            assertNonNull(cacheableQueries, "Cacheable queries predicate may not be null");
+            this.cacheableQueries = cacheableQueries;
+            return this;
+        }
+
+        /**
+         * Sets the {@link MetaData} keys of which the values are part of the cache key, next to the query name,
+         * payload and response type. Queries only differing in these entries are cached separately. Defaults to no
+         * keys.
+         *
+         * @param metaDataKeys the {@link MetaData} keys of which the values are part of the cache key
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder cacheKeyMetaDataKeys(@Nonnull String... metaDataKeys) {
+            assertNonNull(metaDataKeys, "MetaData keys may not be null");
+            this.cacheKeyMetaDataKeys = Arrays.asList(metaDataKeys);
+            return this;
+        }
+
+        /**
+         * Sets the {@link Clock} used to determine whether a cached response has expired. Defaults to
+         * {@link Clock#systemUTC()}.
+         *
+         * @param clock the {@link Clock} used to determine whether a cached response has expired
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder clock(@Nonnull Clock clock) {
+            assertNonNull(clock, "Clock may not be null");
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * Sets the {@link QueryUpdateEmitter} this bus listens to, so that the updates emitted through it invalidate
+         * the cached responses. The emitter needs to support
+         * {@link QueryUpdateEmitter#registerUpdateListener(String, java.util.function.Consumer) update listeners}, and
+         * should be the emitter used by the components emitting updates, like event handlers. Defaults to the
+         * {@link QueryBus#queryUpdateEmitter() emitter} of the delegate {@link QueryBus}.
+         *
+         * @param queryUpdateEmitter the {@link QueryUpdateEmitter} of which the updates invalidate cached responses
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder queryUpdateEmitter(@Nonnull QueryUpdateEmitter queryUpdateEmitter) {
+            assertNonNull(queryUpdateEmitter, "QueryUpdateEmitter may not be null");
+            this.queryUpdateEmitter = queryUpdateEmitter;
+            return this;
+        }
+
+        /**
+         * Initializes a {@link CachingQueryBus} as specified through this Builder.
+         *
+         * @return a {@link CachingQueryBus} as specified through this Builder
+         */
+        public CachingQueryBus build() {
+            return new CachingQueryBus(this);
+        }
+
+        /**
+         * Validate whether the fields contained in this Builder are set accordingly.
+         *
+         * @throws AxonConfigurationException if one field is asserted to be incorrect according to the Builder's
+         *                                    specifications
+         */
+        protected void validate() throws AxonConfigurationException {
+            assertNonNull(delegate, "The delegate QueryBus is a hard requirement and should be provided");
+            assertNonNull(cache, "The Cache is a hard requirement and should be provided");
+        }
+    }
+}
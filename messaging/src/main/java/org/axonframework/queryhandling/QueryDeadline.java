@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2010-2024. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.queryhandling;
+
+import org.axonframework.messaging.Message;
+import org.axonframework.messaging.MetaData;
+import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
+import org.axonframework.messaging.unitofwork.UnitOfWork;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import javax.annotation.Nonnull;
+
+import static org.axonframework.common.BuilderUtils.assertNonNull;
+
+/**
+ * The absolute point in time after which the sender of a query is no longer interested in its result. The deadline
+ * travels with the {@link QueryMessage} as {@link MetaData}, see {@link #asMetaData()}, so it is also known to query
+ * handlers in other applications when dispatching through a distributed {@link QueryBus}.
+ * <p>
+ * Query buses do not invoke handlers for queries of which the deadline has passed, but report a
+ * {@link QueryDeadlineExceededException} instead. Long-running handlers may observe the deadline of the query they are
+ * handling through {@link #current()}, to abort work that is no longer needed:
+ * <pre>{@code
+ * QueryDeadline.current().ifPresent(QueryDeadline::checkNotExpired);
+ * }</pre>
+ * As the deadline is an absolute point in time, handlers in other applications rely on their clocks being
+ * synchronized with the clock of the sender.
+ *
+ * @since 4.11.0
+ */
+public final class QueryDeadline {
+
+    /**
+     * The {@link MetaData} key under which the deadline of a query is stored, in milliseconds since the epoch.
+     */
+    public static final String DEADLINE_KEY = "axon-query-deadline";
+
+    private final Instant deadline;
+    private final Clock clock;
+
+    private QueryDeadline(Instant deadline, Clock clock) {
+        this.deadline = deadline;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns a deadline at the given {@code deadline}, evaluated against the system clock.
+     *
+     * @param deadline the point in time after which the result of the query is no longer of interest
+     * @return a deadline at the given point in time
+     */
+    public static QueryDeadline at(@Nonnull Instant deadline) {
+        return at(deadline, Clock.systemUTC());
+    }
+
+    /**
+     * Returns a deadline at the given {@code deadline}, evaluated against the given {@code clock}.
+     *
+     * @param deadline the point in time after which the result of the query is no longer of interest
+     * @param clock    the {@link Clock} used to validate whether the deadline has passed
+     * @return a deadline at the given point in time
+     */
+    public static QueryDeadline at(@Nonnull Instant deadline, @Nonnull Clock clock) {
+        assertNonNull(deadline, "The deadline may not be null");
+        assertNonNull(clock, "The Clock may not be null");
+        return new QueryDeadline(Instant.ofEpochMilli(deadline.toEpochMilli()), clock);
+    }
+
+    /**
+     * Returns a deadline the given {@code timeout} from now, according to the system clock.
+     *
+     * @param timeout the time the sender of the query is willing to wait for its result
+     * @return a deadline the given {@code timeout} from now
+     */
+    public static QueryDeadline within(@Nonnull Duration timeout) {
+        return within(timeout, Clock.systemUTC());
+    }
+
+    /**
+     * Returns a deadline the given {@code timeout} from now, according to the given {@code clock}.
+     *
+     * @param timeout the time the sender of the query is willing to wait for its result
+     * @param clock   the {@link Clock} used to determine the deadline and to validate whether it has passed
+     * @return a deadline the given {@code timeout} from now
+     */
+    public static QueryDeadline within(@Nonnull Duration timeout, @Nonnull Clock clock) {
+        assertNonNull(timeout, "The timeout may not be null");
+        assertNonNull(clock, "The Clock may not be null");
+        return at(clock.instant().plus(timeout), clock);
+    }
+
+    /**
+     * Returns the deadline described by the given {@code metaData} of a query, if any.
+     *
+     * @param metaData the {@link MetaData} of a query
+     * @return the deadline described by the given {@code metaData}, or an empty {@link Optional} if it describes none
+     */
+    public static Optional<QueryDeadline> fromMetaData(@Nonnull MetaData metaData) {
+        return fromMetaData(metaData, Clock.systemUTC());
+    }
+
+    /**
+     * Returns the deadline described by the given {@code metaData} of a query, if any, evaluated against the given
+     * {@code clock}.
+     *
+     * @param metaData the {@link MetaData} of a query
+     * @param clock    the {@link Clock} used to validate whether the deadline has passed
+     * @return the deadline described by the given {@code metaData}, or an empty {@link Optional} if it describes none
+     */
+    public static Optional<QueryDeadline> fromMetaData(@Nonnull MetaData metaData, @Nonnull Clock clock) {
+        Object deadline = metaData.get(DEADLINE_KEY);
+        if (deadline == null) {
+            return Optional.empty();
+        }
+        long epochMillis = deadline instanceof Number
+                ? ((Number) deadline).longValue()
+                : Long.parseLong(deadline.toString());
+        return Optional.of(new QueryDeadline(Instant.ofEpochMilli(epochMillis), clock));
+    }
+
+    /**
+     * Returns the deadline of the query handled in the current {@link UnitOfWork}, if any. Returns an empty
+     * {@link Optional} when no {@code UnitOfWork} is active, or when its message does not carry a deadline.
+     *
+     * @return the deadline of the query handled in the current {@link UnitOfWork}, if any
+     */
+    public static Optional<QueryDeadline> current() {
+        return CurrentUnitOfWork.map(UnitOfWork::getMessage)
+                                .map(Message::getMetaData)
+                                .flatMap(QueryDeadline::fromMetaData);
+    }
+
+    /**
+     * Returns the {@link MetaData} describing this deadline, to be attached to a query. The deadline is stored as a
+     * {@link Long} value, allowing it to be transferred along with the query.
+     *
+     * @return the {@link MetaData} describing this deadline
+     */
+    public MetaData asMetaData() {
+        return MetaData.with(DEADLINE_KEY, deadline.toEpochMilli());
+    }
+
+    /**
+     * Returns the point in time after which the result of the query is no longer of interest.
+     *
+     * @return the point in time after which the result of the query is no longer of interest
+     */
+    public Instant instant() {
+        return deadline;
+    }
+
+    /**
+     * Returns the time remaining until this deadline passes. Returns {@link Duration#ZERO} when it already passed.
+     *
+     * @return the time remaining until this deadline passes
+     */
+    public Duration remaining() {
+        Duration remaining = Duration.between(clock.instant(), deadline);
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    /**
+     * Indicates whether this deadline has passed.
+     *
+     * @return {@code true} if this deadline has passed, {@code false} otherwise
+     */
+    public boolean isExpired() {
+        return !clock.instant().isBefore(deadline);
+    }
+
+    /**
+     * Throws a {@link QueryDeadlineExceededException} if this deadline has passed.
+     *
+     * @throws QueryDeadlineExceededException if this deadline has passed
+     */
+    public void checkNotExpired() {
+        if (isExpired()) {
+            throw new QueryDeadlineExceededException("The deadline of the query passed at [" + deadline + "]");
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return deadline.equals(((QueryDeadline) o).deadline);
+    }
+
+    @Override
+    public int hashCode() {
+        return deadline.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "QueryDeadline{deadline=" + deadline + '}';
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2010-2024. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.queryhandling;
+
+import org.axonframework.messaging.MessageDispatchInterceptor;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.BiFunction;
+import javax.annotation.Nonnull;
+
+import static org.axonframework.common.BuilderUtils.assertNonNull;
+import static org.axonframework.common.BuilderUtils.assertThat;
+
+/**
+ * A {@link MessageDispatchInterceptor} attaching a {@link QueryDeadline} to every dispatched {@link QueryMessage} that
+ * does not carry one yet. The deadline is set the configured default timeout after the moment of dispatching. Queries
+ * that already carry a deadline, for example because the sender set a deadline explicitly, are left untouched.
+ *
+ * @since 4.11.0
+ */
+public class QueryDeadlineDispatchInterceptor implements MessageDispatchInterceptor<QueryMessage<?, ?>> {
+
+    private final Duration defaultTimeout;
+    private final Clock clock;
+
+    /**
+     * Initializes an interceptor attaching a deadline the given {@code defaultTimeout} from the moment of dispatching,
+     * according to the system clock.
+     *
+     * @param defaultTimeout the time after dispatching a query after which its result is no longer of interest
+     */
+    public QueryDeadlineDispatchInterceptor(@Nonnull Duration defaultTimeout) {
+        this(defaultTimeout, Clock.systemUTC());
+    }
+
+    /**
+     * Initializes an interceptor attaching a deadline the given {@code defaultTimeout} from the moment of dispatching,
+     * according to the given {@code clock}.
+     *
+     * @param defaultTimeout the time after dispatching a query after which its result is no longer of interest
+     * @param clock          the {@link Clock} used to determine the deadline of dispatched queries
+     */
+    public QueryDeadlineDispatchInterceptor(@Nonnull Duration defaultTimeout, @Nonnull Clock clock) {
+        assertThat(defaultTimeout, t -> t != null && !t.isNegative() && !t.isZero(),
+                   "The default timeout should be a positive duration");
+        assertNonNull(clock, "The Clock may not be null");
+        this.defaultTimeout = defaultTimeout;
+        this.clock = clock;
+    }
+
+    @Nonnull
+    @Override
+    public BiFunction<Integer, QueryMessage<?, ?>, QueryMessage<?, ?>> handle(
+            @Nonnull List<? extends QueryMessage<?, ?>> messages
+    ) {
+        return (index, query) -> {
+            if (query.getMetaData().containsKey(QueryDeadline.DEADLINE_KEY)) {
+                return query;
+            }
+            return query.andMetaData(QueryDeadline.within(defaultTimeout, clock).asMetaData());
+        };
+    }
+}
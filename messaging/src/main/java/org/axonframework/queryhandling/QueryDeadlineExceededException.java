@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2010-2024. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.queryhandling;
+
+import org.axonframework.common.AxonTransientException;
+
+/**
+ * Exception indicating a query was not (fully) handled because its {@link QueryDeadline} has passed. As the sender of
+ * the query is no longer interested in the result, handling it any further would waste resources.
+ *
+ * @since 4.11.0
+ */
+public class QueryDeadlineExceededException extends AxonTransientException {
+
+    private static final long serialVersionUID = -2411290546375960183L;
+
+    /**
+     * Initialize this exception with the given {@code message}.
+     *
+     * @param message the message describing the cause of the exception
+     */
+    public QueryDeadlineExceededException(String message) {
+        super(message);
+    }
+}
@@ -15,6 +15,7 @@
  */
 package org.axonframework.queryhandling;
 
+import org.axonframework.messaging.GenericMessage;
 import org.axonframework.messaging.MessageDispatchInterceptorSupport;
 import org.axonframework.messaging.responsetypes.ResponseType;
 import org.axonframework.messaging.responsetypes.ResponseTypes;
@@ -408,4 +409,71 @@ <Q, I, U> SubscriptionQueryResult<I, U> subscriptionQuery(@Nonnull String queryN
                                                               @Nonnull ResponseType<I> initialResponseType,
                                                               @Nonnull ResponseType<U> updateResponseType,
                                                               int updateBufferSize);
+
+    /**
+     * Sends given {@code query} over the {@link QueryBus} and returns result containing initial response and
+     * incremental updates, conflated according to the given {@code conflationPolicy}. The query name is derived from
+     * the query payload, and a default update buffer size is used.
+     * <p>
+     * <b>Note</b>: Any {@code null} results, on the initial result or the updates, will be filtered out by the
+     * QueryGateway. If you require the {@code null} to be returned for the initial and update results, we suggest using
+     * the {@link QueryBus} instead.
+     *
+     * @param query               the {@code query} to be sent
+     * @param initialResponseType the initial response type used for this query
+     * @param updateResponseType  the update response type used for this query
+     * @param conflationPolicy    the {@link UpdateConflationPolicy} applied to the updates of this query
+     * @param <Q>                 the type of the query
+     * @param <I>                 the type of the initial response
+     * @param <U>                 the type of the incremental update
+     * @return registration which can be used to cancel receiving updates
+     * @see UpdateConflationPolicy
+     */
+    default <Q, I, U> SubscriptionQueryResult<I, U> subscriptionQuery(@Nonnull Q query,
+                                                                      @Nonnull ResponseType<I> initialResponseType,
+                                                                      @Nonnull ResponseType<U> updateResponseType,
+                                                                      @Nonnull UpdateConflationPolicy conflationPolicy) {
+        return subscriptionQuery(queryName(query),
+                                 query,
+                                 initialResponseType,
+                                 updateResponseType,
+                                 Queues.SMALL_BUFFER_SIZE,
+                                 conflationPolicy);
+    }
+
+    /**
+     * Sends given {@code query} over the {@link QueryBus} and returns result containing initial response and
+     * incremental updates, conflated according to the given {@code conflationPolicy}. The policy is attached to the
+     * query as {@link org.axonframework.messaging.MetaData} and applied by the {@link QueryUpdateEmitter} on the
+     * handling side, so that it also reduces the updates sent by a distributed {@link QueryBus}.
+     * <p>
+     * <b>Note</b>: Any {@code null} results, on the initial result or the updates, will be filtered out by the
+     * QueryGateway. If you require the {@code null} to be returned for the initial and update results, we suggest using
+     * the {@link QueryBus} instead.
+     *
+     * @param queryName           a {@link String} describing query to be executed
+     * @param query               the {@code query} to be sent
+     * @param initialResponseType the initial response type used for this query
+     * @param updateResponseType  the update response type used for this query
+     * @param updateBufferSize    the size of buffer which accumulates updates before subscription to the flux
+     *                            is made
+     * @param conflationPolicy    the {@link UpdateConflationPolicy} applied to the updates of this query
+     * @param <Q>                 the type of the query
+     * @param <I>                 the type of the initial response
+     * @param <U>                 the type of the incremental update
+     * @return registration which can be used to cancel receiving updates
+     * @see UpdateConflationPolicy
+     */
+    default <Q, I, U> SubscriptionQueryResult<I, U> subscriptionQuery(@Nonnull String queryName,
+                                                                      @Nonnull Q query,
+                                                                      @Nonnull ResponseType<I> initialResponseType,
+                                                                      @Nonnull ResponseType<U> updateResponseType,
+                                                                      int updateBufferSize,
+                                                                      @Nonnull UpdateConflationPolicy conflationPolicy) {
+        return subscriptionQuery(queryName,
+                                 GenericMessage.asMessage(query).andMetaData(conflationPolicy.asMetaData()),
+                                 initialResponseType,
+                                 updateResponseType,
+                                 updateBufferSize);
+    }
 }
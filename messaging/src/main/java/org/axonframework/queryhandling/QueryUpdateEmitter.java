@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2022. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,10 +16,12 @@
 
 package org.axonframework.queryhandling;
 
+import org.axonframework.common.Registration;
 import org.axonframework.messaging.MessageDispatchInterceptorSupport;
 
 import java.util.Collections;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -103,6 +105,79 @@ default <Q, U> void emit(@Nonnull Class<Q> queryType, @Nonnull Predicate<? super
         }
     }
 
+    /**
+     * Emits given incremental update to subscription queries with given {@code queryName} matching given filter.
+     * Implementations may look up subscriptions by their query name, so that subscriptions to other queries are not
+     * tested against the filter.
+     *
+     * @param queryName the name of the subscription queries to emit the update to
+     * @param filter    predicate on query payload used to filter subscription queries
+     * @param update    incremental update message
+     * @param <Q>       the type of the query
+     * @param <U>       the type of the update
+     */
+    @SuppressWarnings("unchecked")
+    default <Q, U> void emitByQueryName(@Nonnull String queryName,
+                                       @Nonnull Predicate<? super Q> filter,
+                                       @Nonnull SubscriptionQueryUpdateMessage<U> update) {
+        Predicate<SubscriptionQueryMessage<?, ?, U>> sqmFilter =
+                m -> queryName.equals(m.getQueryName()) && filter.test((Q) m.getPayload());
+        emit(sqmFilter, update);
+    }
+
+    /**
+     * Emits given incremental update to subscription queries with given {@code queryName} matching given filter. If an
+     * {@code update} is {@code null}, emit will be skipped. In order to send nullable updates, use {@link
+     * #emitByQueryName(String, Predicate, SubscriptionQueryUpdateMessage)}.
+     *
+     * @param queryName the name of the subscription queries to emit the update to
+     * @param filter    predicate on query payload used to filter subscription queries
+     * @param update    incremental update
+     * @param <Q>       the type of the query
+     * @param <U>       the type of the update
+     */
+    default <Q, U> void emitByQueryName(@Nonnull String queryName,
+                                       @Nonnull Predicate<? super Q> filter,
+                                       @Nullable U update) {
+        if (update != null) {
+            emitByQueryName(queryName, filter, GenericSubscriptionQueryUpdateMessage.asUpdateMessage(update));
+        }
+    }
+
+    /**
+     * Emits given incremental update to subscription queries with given {@code queryName} and {@code key}. The key of
+     * a subscription query is determined by the implementation, and defaults to the query payload. Implementations
+     * may index subscriptions on their key, making this method cheaper than filtering through a {@link Predicate}.
+     *
+     * @param queryName the name of the subscription queries to emit the update to
+     * @param key       the key of the subscription queries to emit the update to
+     * @param update    incremental update message
+     * @param <U>       the type of the update
+     */
+    default <U> void emitByKey(@Nonnull String queryName,
+                               @Nonnull Object key,
+                               @Nonnull SubscriptionQueryUpdateMessage<U> update) {
+        Predicate<SubscriptionQueryMessage<?, ?, U>> sqmFilter =
+                m -> queryName.equals(m.getQueryName()) && key.equals(m.getPayload());
+        emit(sqmFilter, update);
+    }
+
+    /**
+     * Emits given incremental update to subscription queries with given {@code queryName} and {@code key}. If an
+     * {@code update} is {@code null}, emit will be skipped. In order to send nullable updates, use {@link
+     * #emitByKey(String, Object, SubscriptionQueryUpdateMessage)}.
+     *
+     * @param queryName the name of the subscription queries to emit the update to
+     * @param key       the key of the subscription queries to emit the update to
+     * @param update    incremental update
+     * @param <U>       the type of the update
+     */
+    default <U> void emitByKey(@Nonnull String queryName, @Nonnull Object key, @Nullable U update) {
+        if (update != null) {
+            emitByKey(queryName, key, GenericSubscriptionQueryUpdateMessage.asUpdateMessage(update));
+        }
+    }
+
     /**
      * Completes subscription queries matching given filter.
      *
@@ -194,4 +269,28 @@ <U> UpdateHandlerRegistration<U> registerUpdateHandler(@Nonnull SubscriptionQuer
     default Set<SubscriptionQueryMessage<?, ?, ?>> activeSubscriptions() {
         return Collections.emptySet();
     }
+
+    /**
+     * Registers the given {@code listener} to be notified of every update, completion and error emitted towards
+     * subscription queries with the given {@code queryName}, regardless of whether any subscription query matches it.
+     * The listener receives a predicate telling which queries the emission applies to, which allows a component to
+     * react to the updates of many queries through a single registration instead of registering a subscription query
+     * per query. Listeners are notified when the emission is delivered to the subscription queries, which is after the
+     * {@link org.axonframework.messaging.unitofwork.UnitOfWork} it was emitted in commits.
+     * <p>
+     * Implementations that do not support listeners throw an {@link UnsupportedOperationException}.
+     *
+     * @param queryName the name of the queries to be notified of the emissions of
+     * @param listener  the listener receiving the predicate on the queries an emission applies to
+     * @return a handle to unregister the {@code listener}
+     * @throws UnsupportedOperationException if this emitter does not support listeners
+     */
+    default Registration registerUpdateListener(
+            @Nonnull String queryName,
+            @Nonnull Consumer<Predicate<SubscriptionQueryMessage<?, ?, ?>>> listener
+    ) {
+        throw new UnsupportedOperationException(
+                "The " + getClass().getSimpleName() + " does not support listening to emitted updates"
+        );
+    }
 }
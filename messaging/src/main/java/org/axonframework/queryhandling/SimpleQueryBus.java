@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2023. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -54,12 +54,19 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
@@ -67,6 +74,7 @@
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import javax.annotation.Nonnull;
 
 import static java.lang.String.format;
@@ -83,6 +91,9 @@
  * <p>
  * In case multiple handlers are registered for the same query and response type, the {@link #query(QueryMessage)}
  * method will invoke one of these handlers. Which one is unspecified.
+ * <p>
+ * Handlers are not invoked for queries carrying a {@link QueryDeadline} that has passed. Instead, the query results in
+ * a {@link QueryDeadlineExceededException}.
  *
  * @author Marc Gathier
  * @author Allard Buijze
@@ -103,6 +114,7 @@ public class SimpleQueryBus implements QueryBus {
     private final QueryBusSpanFactory spanFactory;
 
     private final QueryUpdateEmitter queryUpdateEmitter;
+    private final Executor scatterGatherExecutor;
 
     /**
      * Instantiate a {@link SimpleQueryBus} based on the fields contained in the {@link Builder}.
@@ -119,6 +131,7 @@ protected SimpleQueryBus(Builder builder) {
         this.queryUpdateEmitter = builder.queryUpdateEmitter;
         this.duplicateQueryHandlerResolver = builder.duplicateQueryHandlerResolver;
         this.spanFactory = builder.spanFactory;
+        this.scatterGatherExecutor = builder.scatterGatherExecutor;
     }
 
     /**
@@ -127,7 +140,9 @@ protected SimpleQueryBus(Builder builder) {
      * The {@link MessageMonitor} is defaulted to {@link NoOpMessageMonitor}, {@link TransactionManager} to
      * {@link NoTransactionManager}, {@link QueryInvocationErrorHandler} to {@link LoggingQueryInvocationErrorHandler},
      * the {@link QueryBusSpanFactory} defaults to a {@link DefaultQueryBusSpanFactory} backed by a
-     * {@link NoOpSpanFactory} and {@link QueryUpdateEmitter} to {@link SimpleQueryUpdateEmitter}.
+     * {@link NoOpSpanFactory} and {@link QueryUpdateEmitter} to {@link SimpleQueryUpdateEmitter}. No scatter-gather
+     * {@link Executor} is configured by default, meaning scatter-gather handlers are invoked sequentially on the
+     * consuming thread.
      *
      * @return a Builder to be able to create a {@link SimpleQueryBus}
      */
@@ -251,6 +266,50 @@ public <Q, R> Publisher<QueryResponseMessage<R>> streamingQuery(StreamingQueryMe
         }
     }
 
+    /**
+     * A {@link Spliterator} providing scatter-gather responses in order of arrival, until the expected number of
+     * responses has been received or the deadline has passed.
+     */
+    private static class ScatterGatherSpliterator<R> extends Spliterators.AbstractSpliterator<QueryResponseMessage<R>> {
+
+        private final BlockingQueue<Optional<QueryResponseMessage<R>>> responses;
+        private final long deadline;
+        private int remaining;
+
+        private ScatterGatherSpliterator(BlockingQueue<Optional<QueryResponseMessage<R>>> responses,
+                                         int expectedResponses,
+                                         long deadline) {
+            super(expectedResponses, Spliterator.NONNULL);
+            this.responses = responses;
+            this.remaining = expectedResponses;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super QueryResponseMessage<R>> action) {
+            while (remaining > 0) {
+                Optional<QueryResponseMessage<R>> response;
+                try {
+                    response = responses.poll(getRemainingOfDeadline(deadline), TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+                if (response == null) {
+                    logger.debug("Scatter-gather deadline passed with {} handler(s) yet to respond.", remaining);
+                    remaining = 0;
+                    return false;
+                }
+                remaining--;
+                if (response.isPresent()) {
+                    action.accept(response.get());
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
     /**
      * <p>
      * The reason for this static class to exist at all is the ability of instantiating {@link SimpleQueryBus} even
@@ -413,6 +472,9 @@ public <Q, R> Stream<QueryResponseMessage<R>> scatterGather(@Nonnull QueryMessag
                 int handlerIndex = handlers.indexOf(handler);
                 return spanFactory.createScatterGatherHandlerSpan(query, handlerIndex);
             }).collect(Collectors.toList());
+            if (scatterGatherExecutor != null) {
+                return concurrentScatterGather(spans, monitorCallback, interceptedQuery, deadline, handlers);
+            }
             return handlers
                     .stream()
                     .map(handler -> {
@@ -424,6 +486,42 @@ public <Q, R> Stream<QueryResponseMessage<R>> scatterGather(@Nonnull QueryMessag
         });
     }
 
+    /**
+     * Invokes all given {@code handlers} concurrently on the configured scatter-gather {@link Executor}. The returned
+     * {@link Stream} provides the responses in order of completion and ends when all handlers have responded or when
+     * the {@code deadline} has passed, whichever comes first. Responses arriving after the deadline are discarded.
+     */
+    private <Q, R> Stream<QueryResponseMessage<R>> concurrentScatterGather(
+            List<Span> spans,
+            MessageMonitor.MonitorCallback monitorCallback,
+            QueryMessage<Q, R> interceptedQuery,
+            long deadline,
+            List<MessageHandler<? super QueryMessage<?, ?>>> handlers
+    ) {
+        BlockingQueue<Optional<QueryResponseMessage<R>>> responses = new LinkedBlockingQueue<>();
+        for (int i = 0; i < handlers.size(); i++) {
+            Span span = spans.get(i);
+            MessageHandler<? super QueryMessage<?, ?>> handler = handlers.get(i);
+            try {
+                scatterGatherExecutor.execute(() -> {
+                    QueryResponseMessage<R> response = null;
+                    try {
+                        response = span.runSupplier(
+                                () -> scatterGatherHandler(span, monitorCallback, interceptedQuery, deadline, handler)
+                        );
+                    } finally {
+                        responses.add(Optional.ofNullable(response));
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                monitorCallback.reportFailure(e);
+                errorHandler.onError(e, interceptedQuery, handler);
+                responses.add(Optional.empty());
+            }
+        }
+        return StreamSupport.stream(new ScatterGatherSpliterator<>(responses, handlers.size(), deadline), false);
+    }
+
     private <Q, R> QueryResponseMessage<R> scatterGatherHandler(
             Span span,
             MessageMonitor.MonitorCallback monitorCallback,
@@ -531,6 +629,7 @@ private <Q, R> ResultMessage<CompletableFuture<QueryResponseMessage<R>>> interce
             MessageHandler<? super QueryMessage<?, R>> handler
     ) {
         return uow.executeWithResult(() -> {
+            checkDeadline(uow.getMessage());
             ResponseType<R> responseType = uow.getMessage().getResponseType();
             Object queryResponse = new DefaultInterceptorChain<>(uow, handlerInterceptors, handler).proceed();
             if (queryResponse instanceof CompletableFuture) {
@@ -557,6 +656,7 @@ private <Q, R> ResultMessage<Publisher<QueryResponseMessage<R>>> interceptAndInv
         try (SpanScope unused = span.makeCurrent()) {
             DefaultUnitOfWork<StreamingQueryMessage<Q, R>> uow = DefaultUnitOfWork.startAndGet(query);
             return uow.executeWithResult(() -> {
+                checkDeadline(query);
                 Object queryResponse = new DefaultInterceptorChain<>(uow, handlerInterceptors, handler).proceed();
                 return Flux.from(query.getResponseType()
                                       .convert(queryResponse))
@@ -565,6 +665,14 @@ private <Q, R> ResultMessage<Publisher<QueryResponseMessage<R>>> interceptAndInv
         }
     }
 
+    /**
+     * Throws a {@link QueryDeadlineExceededException} when the given {@code query} carries a {@link QueryDeadline} that
+     * has passed, as there is no use in invoking a handler for a result the sender is no longer waiting for.
+     */
+    private static void checkDeadline(QueryMessage<?, ?> query) {
+        QueryDeadline.fromMetaData(query.getMetaData()).ifPresent(QueryDeadline::checkNotExpired);
+    }
+
     private <R> CompletableFuture<QueryResponseMessage<R>> buildCompletableFuture(ResponseType<R> responseType,
                                                                                   Object queryResponse) {
         return CompletableFuture.completedFuture(asNullableResponseMessage(
@@ -652,7 +760,8 @@ Registration registerDispatchInterceptor(
      * The {@link MessageMonitor} is defaulted to {@link NoOpMessageMonitor}, {@link TransactionManager} to
      * {@link NoTransactionManager}, {@link QueryInvocationErrorHandler} to {@link LoggingQueryInvocationErrorHandler},
      * the {@link QueryUpdateEmitter} to {@link SimpleQueryUpdateEmitter} and the {@link QueryBusSpanFactory} defaults to a
-     * {@link DefaultQueryBusSpanFactory} backed by a {@link NoOpSpanFactory}.
+     * {@link DefaultQueryBusSpanFactory} backed by a {@link NoOpSpanFactory}. No scatter-gather {@link Executor} is
+     * configured by default.
      */
     public static class Builder {
 
@@ -668,6 +777,7 @@ public static class Builder {
         private QueryBusSpanFactory spanFactory = DefaultQueryBusSpanFactory.builder()
                                                                             .spanFactory(NoOpSpanFactory.INSTANCE)
                                                                             .build();
+        private Executor scatterGatherExecutor;
 
         /**
          * Sets the {@link MessageMonitor} used to monitor query messages. Defaults to a {@link NoOpMessageMonitor}.
@@ -769,6 +879,26 @@ public Builder spanFactory(@Nonnull QueryBusSpanFactory spanFactory) {
             return this;
         }
 
+        /**
+         * Sets the {@link Executor} used to invoke the handlers of a
+         * {@link QueryBus#scatterGather(QueryMessage, long, TimeUnit) scatter-gather query} concurrently. When set,
+         * all handlers are invoked as soon as the query is dispatched, and the returned {@link Stream} provides the
+         * responses in order of completion. The stream ends once all handlers responded or the given timeout
+         * expired, providing the partial result gathered up to that point.
+         * <p>
+         * Any {@code Executor} is supported, like a bounded thread pool or an executor creating a virtual thread per
+         * task. Defaults to {@code null}, meaning handlers are invoked sequentially on the thread consuming the
+         * stream.
+         *
+         * @param scatterGatherExecutor the {@link Executor} used to invoke scatter-gather handlers concurrently
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder scatterGatherExecutor(@Nonnull Executor scatterGatherExecutor) {
+            assertNonNull(scatterGatherExecutor, "Scatter-gather Executor may not be null");
+            this.scatterGatherExecutor = scatterGatherExecutor;
+            return this;
+        }
+
         /**
          * Initializes a {@link SimpleQueryBus} as specified through this Builder.
          *
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2023. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,6 +22,7 @@
 import org.axonframework.messaging.responsetypes.MultipleInstancesResponseType;
 import org.axonframework.messaging.responsetypes.OptionalResponseType;
 import org.axonframework.messaging.responsetypes.PublisherResponseType;
+import org.axonframework.messaging.responsetypes.ResponseType;
 import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
 import org.axonframework.messaging.unitofwork.UnitOfWork;
 import org.axonframework.monitoring.MessageMonitor;
@@ -37,14 +38,23 @@
 import reactor.core.publisher.FluxSink;
 import reactor.core.publisher.Sinks;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import javax.annotation.Nonnull;
 
@@ -67,8 +77,15 @@ public class SimpleQueryUpdateEmitter implements QueryUpdateEmitter {
     private final MessageMonitor<? super SubscriptionQueryUpdateMessage<?>> updateMessageMonitor;
     private final QueryUpdateEmitterSpanFactory spanFactory;
 
-    private final ConcurrentMap<SubscriptionQueryMessage<?, ?, ?>, SinkWrapper<?>> updateHandlers =
+    private final ConcurrentMap<SubscriptionQueryMessage<?, ?, ?>, Subscription> subscriptions =
             new ConcurrentHashMap<>();
+    private final SubscriptionIndex<String> subscriptionsByQueryName = new SubscriptionIndex<>();
+    private final SubscriptionIndex<Class<?>> subscriptionsByQueryType = new SubscriptionIndex<>();
+    private final ConcurrentMap<SubscriptionKey, Set<Subscription>> subscriptionsByKey = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, List<Consumer<Predicate<SubscriptionQueryMessage<?, ?, ?>>>>> updateListeners =
+            new ConcurrentHashMap<>();
+    private final Map<String, Function<Object, ?>> keyExtractors;
+    private final Map<String, Function<Object, ?>> updateKeyExtractors;
     private final List<MessageDispatchInterceptor<? super SubscriptionQueryUpdateMessage<?>>> dispatchInterceptors =
             new CopyOnWriteArrayList<>();
 
@@ -81,6 +98,8 @@ protected SimpleQueryUpdateEmitter(Builder builder) {
         builder.validate();
         this.updateMessageMonitor = builder.updateMessageMonitor;
         this.spanFactory = builder.spanFactory;
+        this.keyExtractors = new HashMap<>(builder.keyExtractors);
+        this.updateKeyExtractors = new HashMap<>(builder.updateKeyExtractors);
     }
 
     /**
@@ -97,9 +116,9 @@ public static Builder builder() {
 
     @Override
     public boolean queryUpdateHandlerRegistered(@Nonnull SubscriptionQueryMessage<?, ?, ?> query) {
-        return updateHandlers.keySet()
-                             .stream()
-                             .anyMatch(m -> m.getIdentifier().equals(query.getIdentifier()));
+        return subscriptions.keySet()
+                            .stream()
+                            .anyMatch(m -> m.getIdentifier().equals(query.getIdentifier()));
     }
 
     /**
@@ -112,50 +131,200 @@ public boolean queryUpdateHandlerRegistered(@Nonnull SubscriptionQueryMessage<?,
     public <U> UpdateHandlerRegistration<U> registerUpdateHandler(SubscriptionQueryMessage<?, ?, ?> query,
                                                                   SubscriptionQueryBackpressure backpressure,
                                                                   int updateBufferSize) {
+        UpdateConflationPolicy conflationPolicy = conflationPolicy(query);
         EmitterProcessor<SubscriptionQueryUpdateMessage<U>> processor = EmitterProcessor.create(updateBufferSize);
         FluxSink<SubscriptionQueryUpdateMessage<U>> sink = processor.sink(backpressure.getOverflowStrategy());
-        sink.onDispose(() -> updateHandlers.remove(query));
+        sink.onDispose(() -> removeUpdateHandler(query));
         FluxSinkWrapper<SubscriptionQueryUpdateMessage<U>> fluxSinkWrapper = new FluxSinkWrapper<>(sink);
-        updateHandlers.put(query, fluxSinkWrapper);
+        addUpdateHandler(query, conflationPolicy, fluxSinkWrapper);
 
         Registration registration = () -> {
-            updateHandlers.remove(query);
+            removeUpdateHandler(query);
             return true;
         };
 
+        Flux<SubscriptionQueryUpdateMessage<U>> updateMessageFlux = processor.replay(updateBufferSize).autoConnect();
         return new UpdateHandlerRegistration<>(registration,
-                                               processor.replay(updateBufferSize).autoConnect(),
+                                               conflate(query, conflationPolicy, updateMessageFlux),
                                                fluxSinkWrapper::complete);
     }
 
     @Override
     public <U> UpdateHandlerRegistration<U> registerUpdateHandler(@Nonnull SubscriptionQueryMessage<?, ?, ?> query,
                                                                   int updateBufferSize) {
+        UpdateConflationPolicy conflationPolicy = conflationPolicy(query);
         Sinks.Many<SubscriptionQueryUpdateMessage<U>> sink = Sinks.many().replay().limit(updateBufferSize);
         SinksManyWrapper<SubscriptionQueryUpdateMessage<U>> sinksManyWrapper = new SinksManyWrapper<>(sink);
 
-        Runnable removeHandler = () -> updateHandlers.remove(query);
+        Runnable removeHandler = () -> removeUpdateHandler(query);
         Registration registration = () -> {
             removeHandler.run();
             return true;
         };
 
-        updateHandlers.put(query, sinksManyWrapper);
+        addUpdateHandler(query, conflationPolicy, sinksManyWrapper);
         Flux<SubscriptionQueryUpdateMessage<U>> updateMessageFlux = sink.asFlux()
                                                                         .doOnCancel(removeHandler)
                                                                         .doOnTerminate(removeHandler);
-        return new UpdateHandlerRegistration<>(registration, updateMessageFlux, sinksManyWrapper::complete);
+        return new UpdateHandlerRegistration<>(registration,
+                                               conflate(query, conflationPolicy, updateMessageFlux),
+                                               sinksManyWrapper::complete);
+    }
+
+    /**
+     * Returns the {@link UpdateConflationPolicy} of the given {@code query}, validating that it can be applied to the
+     * query's update response type.
+     */
+    private static UpdateConflationPolicy conflationPolicy(SubscriptionQueryMessage<?, ?, ?> query) {
+        UpdateConflationPolicy conflationPolicy = UpdateConflationPolicy.fromMetaData(query.getMetaData());
+        conflationPolicy.emittedUpdateType(query.getUpdateResponseType());
+        return conflationPolicy;
+    }
+
+    private <U> Flux<SubscriptionQueryUpdateMessage<U>> conflate(SubscriptionQueryMessage<?, ?, ?> query,
+                                                                 UpdateConflationPolicy conflationPolicy,
+                                                                 Flux<SubscriptionQueryUpdateMessage<U>> updates) {
+        Function<Object, ?> updateKeyExtractor =
+                updateKeyExtractors.getOrDefault(query.getQueryName(), Function.identity());
+        return conflationPolicy.apply(updates, update -> updateKeyExtractor.apply(update.getPayload()));
+    }
+
+    /**
+     * Registers the given {@code updateHandler} for the given {@code query} in the subscription indices. The response
+     * type individual updates should match is determined once, through the given {@code conflationPolicy}, as is the
+     * key of the subscription.
+     */
+    private void addUpdateHandler(SubscriptionQueryMessage<?, ?, ?> query,
+                                  UpdateConflationPolicy conflationPolicy,
+                                  SinkWrapper<?> updateHandler) {
+        Subscription subscription = new Subscription(query,
+                                                     updateHandler,
+                                                     conflationPolicy.emittedUpdateType(query.getUpdateResponseType()),
+                                                     subscriptionKey(query));
+        Subscription replaced = subscriptions.put(query, subscription);
+        if (replaced != null) {
+            unindex(replaced);
+        }
+        subscriptionsByQueryName.add(query.getQueryName(), subscription);
+        subscriptionsByQueryType.add(query.getPayloadType(), subscription);
+        if (subscription.key != null) {
+            subscriptionsByKey.compute(subscription.key, (k, keyed) -> {
+                Set<Subscription> result = keyed != null ? keyed : ConcurrentHashMap.newKeySet();
+                result.add(subscription);
+                return result;
+            });
+        }
+    }
+
+    private void removeUpdateHandler(SubscriptionQueryMessage<?, ?, ?> query) {
+        Subscription subscription = subscriptions.remove(query);
+        if (subscription != null) {
+            unindex(subscription);
+        }
+    }
+
+    private void unindex(Subscription subscription) {
+        subscriptionsByQueryName.remove(subscription.query.getQueryName(), subscription);
+        subscriptionsByQueryType.remove(subscription.query.getPayloadType(), subscription);
+        if (subscription.key != null) {
+            subscriptionsByKey.computeIfPresent(subscription.key, (k, keyed) -> {
+                keyed.remove(subscription);
+                return keyed.isEmpty() ? null : keyed;
+            });
+        }
+    }
+
+    private SubscriptionKey subscriptionKey(SubscriptionQueryMessage<?, ?, ?> query) {
+        Function<Object, ?> keyExtractor = keyExtractors.getOrDefault(query.getQueryName(), Function.identity());
+        try {
+            Object key = keyExtractor.apply(query.getPayload());
+            return key != null ? new SubscriptionKey(query.getQueryName(), key) : null;
+        } catch (Exception e) {
+            logger.warn("Unable to extract the key of subscription query '{}'. "
+                                + "The subscription will not receive keyed updates.", query.getQueryName(), e);
+            return null;
+        }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * When invoked within a {@link UnitOfWork}, the update is emitted once the Unit of Work commits, together with all
+     * other updates emitted within it. These updates are matched against the subscriptions in a single pass, after
+     * which each subscription receives its matching updates in the order they were emitted. Subscriptions are grouped
+     * on the response type of their updates, so that the {@code filter} is only tested against the subscriptions that
+     * accept the type of the update.
+     */
     @Override
+    @SuppressWarnings("unchecked")
     public <U> void emit(@Nonnull Predicate<SubscriptionQueryMessage<?, ?, U>> filter,
                          @Nonnull SubscriptionQueryUpdateMessage<U> update) {
-        SubscriptionQueryUpdateMessage<U> updateMessage = spanFactory.propagateContext(update);
+        Predicate<SubscriptionQueryMessage<?, ?, ?>> subscriptionFilter =
+                subscription -> filter.test((SubscriptionQueryMessage<?, ?, U>) subscription);
+        scheduleEmit(update, null, null, subscriptionFilter, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Only the subscriptions of which the query payload is of the given {@code queryType} are looked up through the
+     * subscription index and tested against the {@code filter}.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <Q, U> void emit(@Nonnull Class<Q> queryType,
+                            @Nonnull Predicate<? super Q> filter,
+                            @Nonnull SubscriptionQueryUpdateMessage<U> update) {
+        Predicate<SubscriptionQueryMessage<?, ?, ?>> subscriptionFilter =
+                subscription -> filter.test((Q) subscription.getPayload());
+        scheduleEmit(update, null, queryType, subscriptionFilter, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Only the subscriptions with the given {@code queryName} are looked up through the subscription index and tested
+     * against the {@code filter}.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <Q, U> void emitByQueryName(@Nonnull String queryName,
+                                       @Nonnull Predicate<? super Q> filter,
+                                       @Nonnull SubscriptionQueryUpdateMessage<U> update) {
+        Predicate<SubscriptionQueryMessage<?, ?, ?>> subscriptionFilter =
+                subscription -> filter.test((Q) subscription.getPayload());
+        scheduleEmit(update, queryName, null, subscriptionFilter, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The subscriptions are matched through an index on query name and key, so the cost of this operation depends on
+     * the number of matching subscriptions only. The key of a subscription defaults to the payload of its query, and
+     * can be customized per query name through {@link Builder#subscriptionKeyExtractor(String, Function)}.
+     */
+    @Override
+    public <U> void emitByKey(@Nonnull String queryName, @Nonnull Object key,
+                         @Nonnull SubscriptionQueryUpdateMessage<U> update) {
+        scheduleEmit(update, queryName, null, null, new SubscriptionKey(queryName, key));
+    }
+
+    private void scheduleEmit(SubscriptionQueryUpdateMessage<?> update,
+                              String queryName,
+                              Class<?> queryType,
+                              Predicate<SubscriptionQueryMessage<?, ?, ?>> filter,
+                              SubscriptionKey key) {
+        SubscriptionQueryUpdateMessage<?> updateMessage = spanFactory.propagateContext(update);
         Span span = spanFactory.createUpdateScheduleEmitSpan(updateMessage);
         span.run(() -> {
-            Span doEmitSpan = spanFactory.createUpdateEmitSpan(updateMessage);
-            runOnAfterCommitOrNow(doEmitSpan.wrapRunnable(
-                    () -> doEmit(filter, intercept(spanFactory.propagateContext(updateMessage)))));
+            PendingUpdate pendingUpdate = new PendingUpdate(
+                    updateMessage, spanFactory.createUpdateEmitSpan(updateMessage), queryName, queryType, filter, key
+            );
+            if (inStartedPhaseOfUnitOfWork()) {
+                deferredTasks(CurrentUnitOfWork.get()).add(pendingUpdate);
+            } else {
+                doEmit(Collections.singletonList(pendingUpdate));
+            }
         });
     }
 
@@ -187,61 +356,198 @@ Registration registerDispatchInterceptor(
         return () -> dispatchInterceptors.remove(interceptor);
     }
 
-    @SuppressWarnings("unchecked")
-    private <U> void doEmit(Predicate<SubscriptionQueryMessage<?, ?, U>> filter,
-                            SubscriptionQueryUpdateMessage<U> update) {
-        updateHandlers.keySet()
-                      .stream()
-                      .filter(payloadMatchesQueryResponseType(update.getPayloadType()))
-                      .filter(sqm -> filter.test((SubscriptionQueryMessage<?, ?, U>) sqm))
-                      .forEach(query -> Optional.ofNullable(updateHandlers.get(query))
-                                                .ifPresent(uh -> doEmit(query, uh, update)));
-    }
-
-    private Predicate<SubscriptionQueryMessage<?, ?, ?>> payloadMatchesQueryResponseType(Class<?> payloadType) {
-        return sqm -> {
-            if (sqm.getUpdateResponseType() instanceof MultipleInstancesResponseType) {
-                return payloadType.isArray() || Iterable.class.isAssignableFrom(payloadType);
+    /**
+     * Emits the given {@code pendingUpdates} to all matching subscriptions. The updates are intercepted in order,
+     * after which all subscriptions are matched against all updates in a single pass over the subscription indices.
+     * Updates scoped to a query name or query type only visit the subscriptions indexed under that name or type. Only
+     * updates emitted through {@link #emit(Predicate, SubscriptionQueryUpdateMessage)} require a pass over the
+     * subscriptions of all query names. Each subscription then receives its matching updates in the order they were
+     * emitted.
+     */
+    private void doEmit(List<PendingUpdate> pendingUpdates) {
+        int size = pendingUpdates.size();
+        SubscriptionQueryUpdateMessage<?>[] updates = new SubscriptionQueryUpdateMessage<?>[size];
+        BitSet unscopedUpdates = new BitSet(size);
+        Map<String, BitSet> updatesByQueryName = new LinkedHashMap<>();
+        Map<Class<?>, BitSet> updatesByQueryType = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            PendingUpdate pendingUpdate = pendingUpdates.get(i);
+            updates[i] = pendingUpdate.emitSpan.runSupplier(
+                    () -> intercept(spanFactory.propagateContext(pendingUpdate.update))
+            );
+            if (pendingUpdate.filter == null) {
+                continue;
             }
-            if (sqm.getUpdateResponseType() instanceof OptionalResponseType) {
-                return Optional.class.isAssignableFrom(payloadType);
+            if (pendingUpdate.queryName != null) {
+                updatesByQueryName.computeIfAbsent(pendingUpdate.queryName, name -> new BitSet(size)).set(i);
+            } else if (pendingUpdate.queryType != null) {
+                updatesByQueryType.computeIfAbsent(pendingUpdate.queryType, type -> new BitSet(size)).set(i);
+            } else {
+                unscopedUpdates.set(i);
             }
-            if (sqm.getUpdateResponseType() instanceof PublisherResponseType) {
-                return Publisher.class.isAssignableFrom(payloadType);
+        }
+
+        Map<Subscription, BitSet> matches = new LinkedHashMap<>();
+        if (!unscopedUpdates.isEmpty()) {
+            subscriptionsByQueryName.forEach(
+                    (queryName, byUpdateType) -> matchFiltered(byUpdateType, unscopedUpdates,
+                                                               pendingUpdates, updates, matches)
+            );
+        }
+        updatesByQueryName.forEach((queryName, applicableUpdates) -> {
+            Map<ResponseType<?>, Set<Subscription>> byUpdateType = subscriptionsByQueryName.get(queryName);
+            if (byUpdateType != null) {
+                matchFiltered(byUpdateType, applicableUpdates, pendingUpdates, updates, matches);
             }
-            return sqm.getUpdateResponseType().getExpectedResponseType().isAssignableFrom(payloadType);
-        };
+        });
+        if (!updatesByQueryType.isEmpty()) {
+            subscriptionsByQueryType.forEach((payloadType, byUpdateType) -> {
+                BitSet applicableUpdates = new BitSet(size);
+                updatesByQueryType.forEach((queryType, typedUpdates) -> {
+                    if (queryType.isAssignableFrom(payloadType)) {
+                        applicableUpdates.or(typedUpdates);
+                    }
+                });
+                if (!applicableUpdates.isEmpty()) {
+                    matchFiltered(byUpdateType, applicableUpdates, pendingUpdates, updates, matches);
+                }
+            });
+        }
+        for (int i = 0; i < size; i++) {
+            SubscriptionKey key = pendingUpdates.get(i).key;
+            Set<Subscription> keyed = key != null ? subscriptionsByKey.get(key) : null;
+            if (keyed == null) {
+                continue;
+            }
+            Class<?> payloadType = updates[i].getPayloadType();
+            for (Subscription subscription : keyed) {
+                if (payloadMatchesResponseType(subscription.emittedUpdateType, payloadType)) {
+                    matches.computeIfAbsent(subscription, s -> new BitSet(size)).set(i);
+                }
+            }
+        }
+
+        matches.forEach((subscription, matchingUpdates) -> {
+            boolean active = subscriptions.get(subscription.query) == subscription;
+            for (int i = matchingUpdates.nextSetBit(0);
+                 i >= 0 && active && doEmit(subscription, updates[i]);
+                 i = matchingUpdates.nextSetBit(i + 1)) {
+                // updates are emitted in the loop condition, which stops once a subscription failed
+            }
+        });
+        if (!updateListeners.isEmpty()) {
+            pendingUpdates.forEach(this::notifyUpdateListeners);
+        }
+    }
+
+    /**
+     * Notifies the update listeners of the query names the given {@code pendingUpdate} applies to, passing them a
+     * predicate combining the query name, query type, filter or key of the update.
+     */
+    private void notifyUpdateListeners(PendingUpdate pendingUpdate) {
+        if (pendingUpdate.key != null) {
+            SubscriptionKey key = pendingUpdate.key;
+            notifyUpdateListeners(key.queryName, query -> key.equals(subscriptionKey(query)));
+        } else if (pendingUpdate.queryName != null) {
+            notifyUpdateListeners(pendingUpdate.queryName, pendingUpdate.filter);
+        } else if (pendingUpdate.queryType != null) {
+            Class<?> queryType = pendingUpdate.queryType;
+            Predicate<SubscriptionQueryMessage<?, ?, ?>> filter = pendingUpdate.filter;
+            notifyUpdateListeners(query -> queryType.isAssignableFrom(query.getPayloadType()) && filter.test(query));
+        } else {
+            notifyUpdateListeners(pendingUpdate.filter);
+        }
+    }
+
+    private void notifyUpdateListeners(Predicate<SubscriptionQueryMessage<?, ?, ?>> filter) {
+        updateListeners.keySet().forEach(queryName -> notifyUpdateListeners(queryName, filter));
+    }
+
+    private void notifyUpdateListeners(String queryName, Predicate<SubscriptionQueryMessage<?, ?, ?>> filter) {
+        for (Consumer<Predicate<SubscriptionQueryMessage<?, ?, ?>>> listener :
+                updateListeners.getOrDefault(queryName, Collections.emptyList())) {
+            try {
+                listener.accept(filter);
+            } catch (Exception e) {
+                logger.warn("An update listener of query '{}' failed to process an emitted update.", queryName, e);
+            }
+        }
+    }
+
+    /**
+     * Matches the given subscriptions, grouped by the response type of their updates, against the filters of the
+     * {@code applicableUpdates}, registering the matching updates per subscription in the given {@code matches}.
+     */
+    private static void matchFiltered(Map<ResponseType<?>, Set<Subscription>> byUpdateType,
+                                      BitSet applicableUpdates,
+                                      List<PendingUpdate> pendingUpdates,
+                                      SubscriptionQueryUpdateMessage<?>[] updates,
+                                      Map<Subscription, BitSet> matches) {
+        int size = pendingUpdates.size();
+        byUpdateType.forEach((updateType, subscriptionsOfType) -> {
+            BitSet candidates = new BitSet(size);
+            for (int i = applicableUpdates.nextSetBit(0); i >= 0; i = applicableUpdates.nextSetBit(i + 1)) {
+                if (payloadMatchesResponseType(updateType, updates[i].getPayloadType())) {
+                    candidates.set(i);
+                }
+            }
+            if (candidates.isEmpty()) {
+                return;
+            }
+            for (Subscription subscription : subscriptionsOfType) {
+                for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+                    if (pendingUpdates.get(i).filter.test(subscription.query)) {
+                        matches.computeIfAbsent(subscription, s -> new BitSet(size)).set(i);
+                    }
+                }
+            }
+        });
+    }
+
+    private static boolean payloadMatchesResponseType(ResponseType<?> responseType, Class<?> payloadType) {
+        if (responseType instanceof MultipleInstancesResponseType) {
+            return payloadType.isArray() || Iterable.class.isAssignableFrom(payloadType);
+        }
+        if (responseType instanceof OptionalResponseType) {
+            return Optional.class.isAssignableFrom(payloadType);
+        }
+        if (responseType instanceof PublisherResponseType) {
+            return Publisher.class.isAssignableFrom(payloadType);
+        }
+        return responseType.getExpectedResponseType().isAssignableFrom(payloadType);
     }
 
     @SuppressWarnings("unchecked")
-    private <U> void doEmit(SubscriptionQueryMessage<?, ?, ?> query, SinkWrapper<?> updateHandler,
-                            SubscriptionQueryUpdateMessage<U> update) {
+    private <U> boolean doEmit(Subscription subscription, SubscriptionQueryUpdateMessage<U> update) {
         MessageMonitor.MonitorCallback monitorCallback = updateMessageMonitor.onMessageIngested(update);
         try {
-            ((SinkWrapper<SubscriptionQueryUpdateMessage<U>>) updateHandler).next(update);
+            ((SinkWrapper<SubscriptionQueryUpdateMessage<U>>) subscription.updateHandler).next(update);
             monitorCallback.reportSuccess();
+            return true;
         } catch (Exception e) {
             logger.info("An error occurred while trying to emit an update to a query '{}'. " +
                                 "The subscription will be cancelled. Exception summary: {}",
-                        query.getQueryName(), e.toString());
+                        subscription.query.getQueryName(), e.toString());
             monitorCallback.reportFailure(e);
-            updateHandlers.remove(query);
-            emitError(query, e, updateHandler);
+            removeUpdateHandler(subscription.query);
+            emitError(subscription.query, e, subscription.updateHandler);
+            return false;
         }
     }
 
     private void doComplete(Predicate<SubscriptionQueryMessage<?, ?, ?>> filter) {
-        updateHandlers.keySet()
-                      .stream()
-                      .filter(filter)
-                      .forEach(query -> Optional.ofNullable(updateHandlers.get(query))
-                                                .ifPresent(updateHandler -> {
-                                                    try {
-                                                        updateHandler.complete();
-                                                    } catch (Exception e) {
-                                                        emitError(query, e, updateHandler);
-                                                    }
-                                                }));
+        notifyUpdateListeners(filter);
+        subscriptions.keySet()
+                     .stream()
+                     .filter(filter)
+                     .forEach(query -> Optional.ofNullable(subscriptions.get(query))
+                                               .ifPresent(subscription -> {
+                                                   try {
+                                                       subscription.updateHandler.complete();
+                                                   } catch (Exception e) {
+                                                       emitError(query, e, subscription.updateHandler);
+                                                   }
+                                               }));
     }
 
     private void emitError(SubscriptionQueryMessage<?, ?, ?> query, Throwable cause,
@@ -255,15 +561,18 @@ private void emitError(SubscriptionQueryMessage<?, ?, ?> query, Throwable cause,
     }
 
     private void doCompleteExceptionally(Predicate<SubscriptionQueryMessage<?, ?, ?>> filter, Throwable cause) {
-        updateHandlers.keySet()
-                      .stream()
-                      .filter(filter)
-                      .forEach(query -> Optional.ofNullable(updateHandlers.get(query))
-                                                .ifPresent(updateHandler -> emitError(query, cause, updateHandler)));
+        notifyUpdateListeners(filter);
+        subscriptions.keySet()
+                     .stream()
+                     .filter(filter)
+                     .forEach(query -> Optional.ofNullable(subscriptions.get(query))
+                                               .ifPresent(subscription -> emitError(
+                                                       query, cause, subscription.updateHandler
+                                               )));
     }
 
     /**
-     * Either runs the provided {@link Runnable} immediately or adds it to a {@link List} as a resource to the current
+     * Either runs the provided {@link Runnable} immediately or adds it to the {@link DeferredTasks} of the current
      * {@link UnitOfWork} if {@link SimpleQueryUpdateEmitter#inStartedPhaseOfUnitOfWork} returns {@code true}. This is
      * done to ensure any emitter calls made from a message handling function are executed in the
      * {@link UnitOfWork.Phase#AFTER_COMMIT} phase.
@@ -278,20 +587,27 @@ private void doCompleteExceptionally(Predicate<SubscriptionQueryMessage<?, ?, ?>
      */
     private void runOnAfterCommitOrNow(Runnable queryUpdateTask) {
         if (inStartedPhaseOfUnitOfWork()) {
-            UnitOfWork<?> unitOfWork = CurrentUnitOfWork.get();
-            unitOfWork.getOrComputeResource(
-                    this.toString() + QUERY_UPDATE_TASKS_RESOURCE_KEY,
-                    resourceKey -> {
-                        List<Runnable> queryUpdateTasks = new ArrayList<>();
-                        unitOfWork.afterCommit(uow -> queryUpdateTasks.forEach(Runnable::run));
-                        return queryUpdateTasks;
-                    }
-            ).add(queryUpdateTask);
+            deferredTasks(CurrentUnitOfWork.get()).add(queryUpdateTask);
         } else {
             queryUpdateTask.run();
         }
     }
 
+    /**
+     * Returns the {@link DeferredTasks} of the given {@code unitOfWork}, registering them to be executed in its
+     * {@link UnitOfWork.Phase#AFTER_COMMIT} phase when they are first requested.
+     */
+    private DeferredTasks deferredTasks(UnitOfWork<?> unitOfWork) {
+        return unitOfWork.getOrComputeResource(
+                this.toString() + QUERY_UPDATE_TASKS_RESOURCE_KEY,
+                resourceKey -> {
+                    DeferredTasks deferredTasks = new DeferredTasks();
+                    unitOfWork.afterCommit(uow -> deferredTasks.run());
+                    return deferredTasks;
+                }
+        );
+    }
+
     /**
      * Return {@code true} if the {@link CurrentUnitOfWork#isStarted()} returns {@code true} and in if the phase is
      * {@link UnitOfWork.Phase#STARTED}, otherwise {@code false}.
@@ -305,7 +621,183 @@ private boolean inStartedPhaseOfUnitOfWork() {
 
     @Override
     public Set<SubscriptionQueryMessage<?, ?, ?>> activeSubscriptions() {
-        return Collections.unmodifiableSet(updateHandlers.keySet());
+        return Collections.unmodifiableSet(subscriptions.keySet());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Updates emitted by key are passed to the listener as a predicate matching the queries with that key, as
+     * determined through the {@link Builder#subscriptionKeyExtractor(String, Function) subscription key extractor} of
+     * the query name. Updates, completions and errors that are not scoped to a query name are passed to the listeners
+     * of all query names.
+     */
+    @Override
+    public Registration registerUpdateListener(
+            @Nonnull String queryName,
+            @Nonnull Consumer<Predicate<SubscriptionQueryMessage<?, ?, ?>>> listener
+    ) {
+        updateListeners.computeIfAbsent(queryName, name -> new CopyOnWriteArrayList<>()).add(listener);
+        return () -> updateListeners.getOrDefault(queryName, Collections.emptyList()).remove(listener);
+    }
+
+    /**
+     * The tasks deferred to the commit of a {@link UnitOfWork}, in the order they were scheduled. Consecutive updates
+     * are gathered into a single batch, which is emitted through one pass over the subscriptions. Other tasks, like
+     * completing subscriptions, end the current batch to retain the order of operations.
+     */
+    private class DeferredTasks {
+
+        private final List<Object> tasks = new ArrayList<>();
+
+        private void add(Runnable task) {
+            tasks.add(task);
+        }
+
+        @SuppressWarnings("unchecked")
+        private void add(PendingUpdate pendingUpdate) {
+            Object lastTask = tasks.isEmpty() ? null : tasks.get(tasks.size() - 1);
+            if (lastTask instanceof List) {
+                ((List<PendingUpdate>) lastTask).add(pendingUpdate);
+            } else {
+                List<PendingUpdate> batch = new ArrayList<>();
+                batch.add(pendingUpdate);
+                tasks.add(batch);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void run() {
+            for (Object task : tasks) {
+                if (task instanceof Runnable) {
+                    ((Runnable) task).run();
+                } else {
+                    doEmit((List<PendingUpdate>) task);
+                }
+            }
+        }
+    }
+
+    /**
+     * An update awaiting emission, together with the query name, query type, filter or key describing the
+     * subscriptions it should be emitted to. A filter without query name and query type applies to the subscriptions
+     * of all queries.
+     */
+    private static final class PendingUpdate {
+
+        private final SubscriptionQueryUpdateMessage<?> update;
+        private final Span emitSpan;
+        private final String queryName;
+        private final Class<?> queryType;
+        private final Predicate<SubscriptionQueryMessage<?, ?, ?>> filter;
+        private final SubscriptionKey key;
+
+        private PendingUpdate(SubscriptionQueryUpdateMessage<?> update,
+                              Span emitSpan,
+                              String queryName,
+                              Class<?> queryType,
+                              Predicate<SubscriptionQueryMessage<?, ?, ?>> filter,
+                              SubscriptionKey key) {
+            this.update = update;
+            this.emitSpan = emitSpan;
+            this.queryName = queryName;
+            this.queryType = queryType;
+            this.filter = filter;
+            this.key = key;
+        }
+    }
+
+    /**
+     * A registered subscription query, together with its update handler and the values it is indexed on. These
+     * values are determined once, when the subscription is registered.
+     */
+    private static final class Subscription {
+
+        private final SubscriptionQueryMessage<?, ?, ?> query;
+        private final SinkWrapper<?> updateHandler;
+        private final ResponseType<?> emittedUpdateType;
+        private final SubscriptionKey key;
+
+        private Subscription(SubscriptionQueryMessage<?, ?, ?> query,
+                             SinkWrapper<?> updateHandler,
+                             ResponseType<?> emittedUpdateType,
+                             SubscriptionKey key) {
+            this.query = query;
+            this.updateHandler = updateHandler;
+            this.emittedUpdateType = emittedUpdateType;
+            this.key = key;
+        }
+    }
+
+    /**
+     * An index of subscriptions on a property of their query, grouping the subscriptions per property value on the
+     * response type individual updates should match.
+     *
+     * @param <K> the type of the indexed property
+     */
+    private static final class SubscriptionIndex<K> {
+
+        private final ConcurrentMap<K, ConcurrentMap<ResponseType<?>, Set<Subscription>>> subscriptions =
+                new ConcurrentHashMap<>();
+
+        private void add(K property, Subscription subscription) {
+            subscriptions.compute(property, (p, byUpdateType) -> {
+                ConcurrentMap<ResponseType<?>, Set<Subscription>> result =
+                        byUpdateType != null ? byUpdateType : new ConcurrentHashMap<>();
+                result.computeIfAbsent(subscription.emittedUpdateType, type -> ConcurrentHashMap.newKeySet())
+                      .add(subscription);
+                return result;
+            });
+        }
+
+        private void remove(K property, Subscription subscription) {
+            subscriptions.computeIfPresent(property, (p, byUpdateType) -> {
+                byUpdateType.computeIfPresent(subscription.emittedUpdateType, (type, subscriptionsOfType) -> {
+                    subscriptionsOfType.remove(subscription);
+                    return subscriptionsOfType.isEmpty() ? null : subscriptionsOfType;
+                });
+                return byUpdateType.isEmpty() ? null : byUpdateType;
+            });
+        }
+
+        private Map<ResponseType<?>, Set<Subscription>> get(K property) {
+            return subscriptions.get(property);
+        }
+
+        private void forEach(BiConsumer<K, Map<ResponseType<?>, Set<Subscription>>> action) {
+            subscriptions.forEach(action);
+        }
+    }
+
+    /**
+     * Key of a subscription query in the keyed index, combining the query name with the key extracted from the query.
+     */
+    private static final class SubscriptionKey {
+
+        private final String queryName;
+        private final Object key;
+
+        private SubscriptionKey(String queryName, Object key) {
+            this.queryName = queryName;
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            SubscriptionKey that = (SubscriptionKey) o;
+            return Objects.equals(queryName, that.queryName) && Objects.equals(key, that.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(queryName, key);
+        }
     }
 
     /**
@@ -322,6 +814,8 @@ public static class Builder {
                 .builder()
                 .spanFactory(NoOpSpanFactory.INSTANCE)
                 .build();
+        private final Map<String, Function<Object, ?>> keyExtractors = new HashMap<>();
+        private final Map<String, Function<Object, ?>> updateKeyExtractors = new HashMap<>();
 
         /**
          * Sets the {@link MessageMonitor} used to monitor {@link SubscriptionQueryUpdateMessage}s being processed.
@@ -366,6 +860,44 @@ public Builder spanFactory(@Nonnull QueryUpdateEmitterSpanFactory spanFactory) {
             return this;
         }
 
+        /**
+         * Registers the function extracting the key of subscription queries with given {@code queryName} from their
+         * payload. Subscriptions are indexed on this key, so that updates emitted through
+         * {@link QueryUpdateEmitter#emitByKey(String, Object, SubscriptionQueryUpdateMessage)} only visit the
+         * subscriptions with a matching key. When no key extractor is registered for a query name, the query payload
+         * itself is used as the key.
+         *
+         * @param queryName    the name of the queries to extract the key from
+         * @param keyExtractor the function extracting the key from the query payload, may return {@code null} to
+         *                     exclude a subscription from the keyed index
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder subscriptionKeyExtractor(@Nonnull String queryName,
+                                                @Nonnull Function<Object, ?> keyExtractor) {
+            assertNonNull(queryName, "The query name may not be null");
+            assertNonNull(keyExtractor, "The key extractor may not be null");
+            this.keyExtractors.put(queryName, keyExtractor);
+            return this;
+        }
+
+        /**
+         * Registers the function extracting the key of updates emitted to subscription queries with given
+         * {@code queryName} from the update payload. The key is used by the
+         * {@link UpdateConflationPolicy#keyedLatest(Duration) keyed latest} conflation policy, which only delivers the
+         * most recent update per key. When no key extractor is registered for a query name, the update payload itself
+         * is used as the key.
+         *
+         * @param queryName    the name of the queries to extract the update key for
+         * @param keyExtractor the function extracting the key from the update payload
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder updateKeyExtractor(@Nonnull String queryName, @Nonnull Function<Object, ?> keyExtractor) {
+            assertNonNull(queryName, "The query name may not be null");
+            assertNonNull(keyExtractor, "The key extractor may not be null");
+            this.updateKeyExtractors.put(queryName, keyExtractor);
+            return this;
+        }
+
         /**
          * Initializes a {@link SimpleQueryUpdateEmitter} as specified through this Builder.
          *
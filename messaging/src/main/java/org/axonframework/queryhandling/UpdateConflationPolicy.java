@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) 2010-2024. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.queryhandling;
+
+import org.axonframework.messaging.MetaData;
+import org.axonframework.messaging.responsetypes.MultipleInstancesResponseType;
+import org.axonframework.messaging.responsetypes.ResponseType;
+import org.axonframework.messaging.responsetypes.ResponseTypes;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import javax.annotation.Nonnull;
+
+import static org.axonframework.common.BuilderUtils.assertThat;
+
+/**
+ * Policy describing how the updates of a single subscription query are conflated before they are delivered to the
+ * subscriber. Conflation trades intermediate updates for a lower update rate, which is useful when the subscriber only
+ * needs the most recent state, like a UI showing the current balance of an account.
+ * <p>
+ * The policy travels with the {@link SubscriptionQueryMessage} as {@link MetaData}, see {@link #asMetaData()}, and is
+ * applied by the {@link QueryUpdateEmitter} of the query handling side. This way it also applies to subscription
+ * queries dispatched through a distributed {@link QueryBus}, reducing the number of updates sent over the network.
+ * <p>
+ * The following policies are supported:
+ * <ul>
+ *     <li>{@link #none()} - every update is delivered.</li>
+ *     <li>{@link #latest()} - when the subscriber is slower than the emitter, only the most recent update is kept.</li>
+ *     <li>{@link #latest(Duration)} - only the most recent update of each time window is delivered.</li>
+ *     <li>{@link #keyedLatest(Duration)} - the most recent update per key of each time window is delivered. The key
+ *     of an update is determined by the emitter, see
+ *     {@link SimpleQueryUpdateEmitter.Builder#updateKeyExtractor(String, Function)}.</li>
+ *     <li>{@link #batched(Duration)} - all updates of each time window are delivered as a single update containing
+ *     the list of update payloads. This requires the update response type of the subscription query to be a
+ *     {@link ResponseTypes#multipleInstancesOf(Class) multiple instances} response type.</li>
+ * </ul>
+ *
+ * @since 4.11.0
+ */
+public final class UpdateConflationPolicy {
+
+    /**
+     * The {@link MetaData} key under which the conflation mode of a subscription query is stored.
+     */
+    public static final String CONFLATION_MODE_KEY = "axon-update-conflation";
+    /**
+     * The {@link MetaData} key under which the conflation window of a subscription query is stored, in milliseconds.
+     */
+    public static final String CONFLATION_WINDOW_KEY = "axon-update-conflation-window";
+
+    private static final UpdateConflationPolicy NONE = new UpdateConflationPolicy(Mode.NONE, Duration.ZERO);
+    private static final UpdateConflationPolicy LATEST = new UpdateConflationPolicy(Mode.LATEST, Duration.ZERO);
+
+    private final Mode mode;
+    private final Duration window;
+
+    private UpdateConflationPolicy(Mode mode, Duration window) {
+        this.mode = mode;
+        this.window = window;
+    }
+
+    /**
+     * Returns a policy delivering every update, which is the default for subscription queries.
+     *
+     * @return a policy delivering every update
+     */
+    public static UpdateConflationPolicy none() {
+        return NONE;
+    }
+
+    /**
+     * Returns a policy that only keeps the most recent update while the subscriber has not requested more updates.
+     * Subscribers keeping up with the emitter receive every update.
+     *
+     * @return a policy keeping only the most recent update for slow subscribers
+     */
+    public static UpdateConflationPolicy latest() {
+        return LATEST;
+    }
+
+    /**
+     * Returns a policy delivering only the most recent update emitted within every time window of the given
+     * {@code window} length.
+     *
+     * @param window the length of the time window of which only the most recent update is delivered
+     * @return a policy delivering the most recent update of every time window
+     */
+    public static UpdateConflationPolicy latest(@Nonnull Duration window) {
+        return new UpdateConflationPolicy(Mode.LATEST, positive(window));
+    }
+
+    /**
+     * Returns a policy delivering the most recent update per key emitted within every time window of the given
+     * {@code window} length. Updates are delivered in order of their last occurrence in the window.
+     *
+     * @param window the length of the time window of which the most recent update per key is delivered
+     * @return a policy delivering the most recent update per key of every time window
+     */
+    public static UpdateConflationPolicy keyedLatest(@Nonnull Duration window) {
+        return new UpdateConflationPolicy(Mode.KEYED_LATEST, positive(window));
+    }
+
+    /**
+     * Returns a policy delivering all updates emitted within every time window of the given {@code window} length as
+     * a single update, of which the payload is the list of payloads of the original updates. Windows without updates
+     * do not result in an update.
+     *
+     * @param window the length of the time window of which the updates are batched
+     * @return a policy batching the updates of every time window into a single update
+     */
+    public static UpdateConflationPolicy batched(@Nonnull Duration window) {
+        return new UpdateConflationPolicy(Mode.BATCHED, positive(window));
+    }
+
+    private static Duration positive(Duration window) {
+        assertThat(window, w -> w != null && !w.isNegative() && !w.isZero(),
+                   "The conflation window should be a positive duration");
+        return window;
+    }
+
+    /**
+     * Returns the policy described by the given {@code metaData} of a subscription query. Returns {@link #none()} when
+     * the {@code metaData} does not describe a policy.
+     *
+     * @param metaData the {@link MetaData} of a subscription query
+     * @return the policy described by the given {@code metaData}
+     */
+    public static UpdateConflationPolicy fromMetaData(@Nonnull MetaData metaData) {
+        Object mode = metaData.get(CONFLATION_MODE_KEY);
+        if (mode == null) {
+            return NONE;
+        }
+        Object window = metaData.get(CONFLATION_WINDOW_KEY);
+        long windowMillis = window == null ? 0L : Long.parseLong(window.toString());
+        return new UpdateConflationPolicy(Mode.valueOf(mode.toString()), Duration.ofMillis(windowMillis));
+    }
+
+    /**
+     * Returns the {@link MetaData} describing this policy, to be attached to a subscription query. The values are
+     * plain {@link String} and {@link Long} values, allowing them to be transferred along with the query.
+     *
+     * @return the {@link MetaData} describing this policy
+     */
+    public MetaData asMetaData() {
+        if (mode == Mode.NONE) {
+            return MetaData.emptyInstance();
+        }
+        return MetaData.with(CONFLATION_MODE_KEY, mode.name())
+                       .and(CONFLATION_WINDOW_KEY, window.toMillis());
+    }
+
+    /**
+     * Returns the update response type under which updates are emitted to subscriptions with the given
+     * {@code updateResponseType} using this policy. For batching policies, this is the type of the individual
+     * elements, as the emitter combines these into a list. For any other policy, it is the given
+     * {@code updateResponseType}.
+     *
+     * @param updateResponseType the update response type of the subscription query
+     * @return the update response type of the individual updates emitted to the subscription
+     */
+    ResponseType<?> emittedUpdateType(ResponseType<?> updateResponseType) {
+        if (mode != Mode.BATCHED) {
+            return updateResponseType;
+        }
+        if (!(updateResponseType instanceof MultipleInstancesResponseType)) {
+            throw new IllegalArgumentException(
+                    "Batching updates requires a subscription query with a multiple instances update response type"
+            );
+        }
+        return ResponseTypes.instanceOf(updateResponseType.getExpectedResponseType());
+    }
+
+    /**
+     * Applies this policy to the given {@code updates}.
+     *
+     * @param updates      the updates of a single subscription query
+     * @param keyExtractor the function extracting the key of an update, used by keyed policies
+     * @param <U>          the type of the updates
+     * @return the conflated updates
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    <U> Flux<SubscriptionQueryUpdateMessage<U>> apply(Flux<SubscriptionQueryUpdateMessage<U>> updates,
+                                                      Function<SubscriptionQueryUpdateMessage<?>, ?> keyExtractor) {
+        switch (mode) {
+            case LATEST:
+                return window.isZero() ? updates.onBackpressureLatest() : updates.sample(window);
+            case KEYED_LATEST:
+                return updates.buffer(window)
+                              .flatMapIterable(batch -> latestPerKey(batch, keyExtractor));
+            case BATCHED:
+                return updates.buffer(window)
+                              .filter(batch -> !batch.isEmpty())
+                              .map(batch -> (SubscriptionQueryUpdateMessage<U>) combine((List) batch));
+            default:
+                return updates;
+        }
+    }
+
+    private static <U> Iterable<SubscriptionQueryUpdateMessage<U>> latestPerKey(
+            List<SubscriptionQueryUpdateMessage<U>> batch,
+            Function<SubscriptionQueryUpdateMessage<?>, ?> keyExtractor
+    ) {
+        Map<Object, SubscriptionQueryUpdateMessage<U>> latest = new LinkedHashMap<>();
+        for (SubscriptionQueryUpdateMessage<U> update : batch) {
+            Object key = keyExtractor.apply(update);
+            latest.remove(key);
+            latest.put(key, update);
+        }
+        return latest.values();
+    }
+
+    private static SubscriptionQueryUpdateMessage<List<Object>> combine(
+            List<SubscriptionQueryUpdateMessage<?>> batch
+    ) {
+        List<Object> payloads = new ArrayList<>(batch.size());
+        MetaData metaData = MetaData.emptyInstance();
+        for (SubscriptionQueryUpdateMessage<?> update : batch) {
+            payloads.add(update.getPayload());
+            metaData = metaData.mergedWith(update.getMetaData());
+        }
+        return new GenericSubscriptionQueryUpdateMessage<>(payloads).withMetaData(metaData);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        UpdateConflationPolicy that = (UpdateConflationPolicy) o;
+        return mode == that.mode && Objects.equals(window, that.window);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(mode, window);
+    }
+
+    @Override
+    public String toString() {
+        return "UpdateConflationPolicy{mode=" + mode + ", window=" + window + '}';
+    }
+
+    private enum Mode {
+        NONE, LATEST, KEYED_LATEST, BATCHED
+    }
+}
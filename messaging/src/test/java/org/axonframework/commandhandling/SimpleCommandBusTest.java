@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2023. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -28,12 +28,21 @@
 import org.axonframework.messaging.unitofwork.UnitOfWork;
 import org.axonframework.monitoring.MessageMonitor;
 import org.axonframework.tracing.TestSpanFactory;
+import org.axonframework.utils.MockException;
 import org.junit.jupiter.api.*;
 import org.mockito.*;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import javax.annotation.Nonnull;
 
 import static org.axonframework.commandhandling.GenericCommandMessage.asCommandMessage;
 import static org.junit.jupiter.api.Assertions.*;
@@ -397,6 +406,113 @@ void duplicateCommandHandlerResolverSetsTheExpectedHandler() {
         verify(initialHandler, never()).handle(testMessage);
     }
 
+    @Test
+    void dispatchAllInvokesDispatchInterceptorsOncePerBatch() {
+        AtomicInteger interceptorInvocations = new AtomicInteger();
+        testSubject.registerDispatchInterceptor(messages -> {
+            interceptorInvocations.incrementAndGet();
+            return (index, message) -> message.andMetaData(Collections.singletonMap("index", index));
+        });
+        testSubject.subscribe(String.class.getName(), command -> command.getMetaData().get("index"));
+        CommandMessage<Object> first = asCommandMessage("first");
+        CommandMessage<Object> second = asCommandMessage("second");
+        Map<CommandMessage<?>, Object> results = new IdentityHashMap<>();
+
+        testSubject.dispatchAll(Arrays.asList(first, second),
+                                (command, result) -> results.put(command, result.getPayload()));
+
+        assertEquals(1, interceptorInvocations.get());
+        assertEquals(2, results.size());
+        assertEquals(0, results.get(first));
+        assertEquals(1, results.get(second));
+    }
+
+    @Test
+    void dispatchAllReportsFailuresPerCommand() {
+        testSubject.subscribe(String.class.getName(), command -> {
+            if ("fail".equals(command.getPayload())) {
+                throw new MockException();
+            }
+            return command.getPayload();
+        });
+        CommandMessage<Object> failing = asCommandMessage("fail");
+        CommandMessage<Object> succeeding = asCommandMessage("succeed");
+        Map<CommandMessage<?>, CommandResultMessage<?>> results = new IdentityHashMap<>();
+
+        testSubject.dispatchAll(Arrays.asList(failing, succeeding), results::put);
+
+        assertTrue(results.get(failing).isExceptional());
+        assertEquals("succeed", results.get(succeeding).getPayload());
+        spanFactory.verifySpanHasException("CommandBus.dispatchCommand", MockException.class);
+    }
+
+    @Test
+    void dispatchAllReportsInterceptionFailuresPerCommand() {
+        testSubject.registerDispatchInterceptor(messages -> (index, message) -> {
+            if ("invalid".equals(message.getPayload())) {
+                throw new MockException();
+            }
+            return message;
+        });
+        testSubject.subscribe(String.class.getName(), CommandMessage::getPayload);
+        CommandMessage<Object> invalid = asCommandMessage("invalid");
+        CommandMessage<Object> valid = asCommandMessage("valid");
+        Map<CommandMessage<?>, CommandResultMessage<?>> results = new IdentityHashMap<>();
+
+        testSubject.dispatchAll(Arrays.asList(invalid, valid), results::put);
+
+        assertTrue(results.get(invalid).isExceptional());
+        assertTrue(results.get(invalid).exceptionResult() instanceof MockException);
+        assertEquals("valid", results.get(valid).getPayload());
+        spanFactory.verifySpanHasException("CommandBus.dispatchCommand", MockException.class);
+    }
+
+    @Test
+    void dispatchAllPreparesBatchPreparingHandlersBeforeHandling() {
+        List<String> invocations = new ArrayList<>();
+        testSubject.subscribe(String.class.getName(), new BatchPreparingCommandHandler() {
+            @Override
+            public void prepareBatch(@Nonnull List<? extends CommandMessage<?>> commands) {
+                invocations.add("prepare " + commands.size());
+            }
+
+            @Override
+            public Object handle(CommandMessage<?> message) {
+                invocations.add("handle " + message.getPayload());
+                return null;
+            }
+        });
+
+        testSubject.dispatchAll(Arrays.asList(asCommandMessage("first"), asCommandMessage("second")),
+                                (command, result) -> {
+                                });
+
+        assertEquals(Arrays.asList("prepare 2", "handle first", "handle second"), invocations);
+    }
+
+    @Test
+    void dispatchAllHandlesCommandsWhenPreparingBatchFails() {
+        List<Object> handled = new ArrayList<>();
+        testSubject.subscribe(String.class.getName(), new BatchPreparingCommandHandler() {
+            @Override
+            public void prepareBatch(@Nonnull List<? extends CommandMessage<?>> commands) {
+                throw new MockException();
+            }
+
+            @Override
+            public Object handle(CommandMessage<?> message) {
+                handled.add(message.getPayload());
+                return null;
+            }
+        });
+
+        testSubject.dispatchAll(Arrays.asList(asCommandMessage("first"), asCommandMessage("second")),
+                                (command, result) -> {
+                                });
+
+        assertEquals(Arrays.asList("first", "second"), handled);
+    }
+
     private static class MyStringCommandHandler implements MessageHandler<CommandMessage<?>> {
 
         @Override
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2010-2024. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.axonframework.commandhandling.distributed;
+
+import org.axonframework.common.AxonConfigurationException;
+import org.junit.jupiter.api.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class validating the {@link AdaptiveLoadFactor}.
+ */
+class AdaptiveLoadFactorTest {
+
+    private static final Duration INTERVAL = Duration.ofSeconds(1);
+    private static final Duration THRESHOLD = Duration.ofMillis(100);
+
+    private final AtomicReference<Instant> now = new AtomicReference<>(Instant.EPOCH);
+    private AdaptiveLoadFactor testSubject;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = mock(Clock.class);
+        when(clock.instant()).thenAnswer(i -> now.get());
+        testSubject = AdaptiveLoadFactor.builder()
+                                        .p99LatencyThreshold(THRESHOLD)
+                                        .inFlightThreshold(10)
+                                        .minimumRatio(0.1)
+                                        .hysteresis(0.2)
+                                        .evaluationInterval(INTERVAL)
+                                        .clock(clock)
+                                        .build();
+    }
+
+    @Test
+    void loadIsNotEvaluatedBeforeTheEvaluationIntervalPassed() {
+        handleCommands(10, Duration.ofMillis(40));
+
+        assertFalse(testSubject.evaluate());
+        assertEquals(LoadSignal.idle(), testSubject.currentLoad());
+    }
+
+    @Test
+    void loadFactorIsReducedProportionallyToTheExceededLatencyThreshold() {
+        handleCommands(100, Duration.ofMillis(400));
+        now.set(now.get().plus(INTERVAL));
+
+        assertTrue(testSubject.evaluate());
+        assertEquals(0.25, testSubject.ratio(), 0.001);
+        assertEquals(25, testSubject.adjust(100));
+        assertEquals(new LoadSignal(0, Duration.ofMillis(400)), testSubject.currentLoad());
+    }
+
+    @Test
+    void loadFactorIsReducedWhenTheInFlightThresholdIsExceeded() {
+        for (int i = 0; i < 20; i++) {
+            testSubject.commandStarted();
+        }
+        now.set(now.get().plus(INTERVAL));
+
+        assertTrue(testSubject.evaluate());
+        assertEquals(0.5, testSubject.ratio(), 0.001);
+        assertEquals(20, testSubject.currentLoad().inFlightCommands());
+    }
+
+    @Test
+    void loadFactorIsNotReducedBelowTheMinimumRatio() {
+        handleCommands(1, Duration.ofSeconds(100));
+        now.set(now.get().plus(INTERVAL));
+
+        assertTrue(testSubject.evaluate());
+        assertEquals(10, testSubject.adjust(100));
+        assertEquals(1, testSubject.adjust(5));
+    }
+
+    @Test
+    void smallLoadChangesWithinTheHysteresisDoNotChangeTheLoadFactor() {
+        evaluateInterval(Duration.ofMillis(110));
+        assertEquals(1.0, testSubject.ratio());
+
+        evaluateInterval(Duration.ofMillis(200));
+        assertEquals(0.5, testSubject.ratio(), 0.001);
+
+        assertFalse(evaluateInterval(Duration.ofMillis(220)));
+        assertFalse(evaluateInterval(Duration.ofMillis(150)));
+        assertEquals(0.5, testSubject.ratio(), 0.001);
+    }
+
+    @Test
+    void loadFactorRecoversOnceTheLoadIsClearlyBelowTheThresholds() {
+        evaluateInterval(Duration.ofMillis(400));
+        assertEquals(0.25, testSubject.ratio(), 0.001);
+
+        assertTrue(evaluateInterval(Duration.ofMillis(100)));
+        assertEquals(0.8, testSubject.ratio(), 0.001);
+
+        assertTrue(evaluateInterval(Duration.ofMillis(50)));
+        assertEquals(1.0, testSubject.ratio());
+        assertEquals(100, testSubject.adjust(100));
+    }
+
+    @Test
+    void idleNodeRecoversItsFullLoadFactor() {
+        evaluateInterval(Duration.ofMillis(400));
+        now.set(now.get().plus(INTERVAL));
+
+        assertTrue(testSubject.evaluate());
+        assertEquals(1.0, testSubject.ratio());
+        assertEquals(LoadSignal.idle(), testSubject.currentLoad());
+    }
+
+    @Test
+    void buildWithInvalidSettingsThrowsAxonConfigurationException() {
+        AdaptiveLoadFactor.Builder builder = AdaptiveLoadFactor.builder();
+        assertThrows(AxonConfigurationException.class, () -> builder.p99LatencyThreshold(Duration.ZERO));
+        assertThrows(AxonConfigurationException.class, () -> builder.inFlightThreshold(0));
+        assertThrows(AxonConfigurationException.class, () -> builder.minimumRatio(0));
+        assertThrows(AxonConfigurationException.class, () -> builder.hysteresis(1));
+        assertThrows(AxonConfigurationException.class, () -> builder.evaluationInterval(Duration.ofSeconds(-1)));
+        assertThrows(AxonConfigurationException.class, () -> builder.maxSamples(0));
+        assertThrows(AxonConfigurationException.class, () -> builder.clock(null));
+    }
+
+    private boolean evaluateInterval(Duration latency) {
+        handleCommands(100, latency);
+        now.set(now.get().plus(INTERVAL));
+        return testSubject.evaluate();
+    }
+
+    private void handleCommands(int count, Duration latency) {
+        for (int i = 0; i < count; i++) {
+            Instant start = testSubject.commandStarted();
+            now.set(now.get().plus(latency));
+            testSubject.commandCompleted(start);
+        }
+    }
+}
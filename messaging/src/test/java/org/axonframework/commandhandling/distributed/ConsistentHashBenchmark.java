@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2010-2024. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.axonframework.commandhandling.distributed;
+
+import org.axonframework.commandhandling.CommandMessage;
+import org.axonframework.commandhandling.GenericCommandMessage;
+import org.axonframework.commandhandling.distributed.commandfilter.AcceptAll;
+import org.axonframework.messaging.GenericMessage;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Benchmark approach for the lookups in, and membership changes of, a {@link ConsistentHash} using the different
+ * {@link RoutingTable} implementations.
+ */
+public class ConsistentHashBenchmark {
+
+    private static final int MEMBER_COUNT = 20;
+    private static final int LOAD_FACTOR = 100;
+    private static final int KEY_COUNT = 100_000;
+    private static final int LOOKUP_ROUNDS = 20;
+    private static final int REBUILD_COUNT = 10_000;
+    private static final int ITERATIONS = 5;
+
+    public static void main(String[] args) {
+        String[] routingKeys = new String[KEY_COUNT];
+        for (int i = 0; i < KEY_COUNT; i++) {
+            routingKeys[i] = UUID.randomUUID().toString();
+        }
+        Member[] members = new Member[MEMBER_COUNT];
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            members[i] = new SimpleMember<>("member" + i, "", false, null);
+        }
+
+        for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+            System.out.println("Iteration " + (iteration + 1));
+            benchmark("md5", Md5RoutingTable::new, members, routingKeys);
+            benchmark("sortedArray", SortedArrayRoutingTable::new, members, routingKeys);
+            benchmark("rendezvous", RendezvousRoutingTable::new, members, routingKeys);
+        }
+    }
+
+    private static void benchmark(String name, Supplier<RoutingTable> routingTable,
+                                  Member[] members, String[] routingKeys) {
+        ConsistentHash consistentHash = new ConsistentHash(routingTable.get());
+        for (Member member : members) {
+            consistentHash = consistentHash.with(member, LOAD_FACTOR, AcceptAll.INSTANCE);
+        }
+
+        CommandMessage<?> command = new GenericCommandMessage<>(new GenericMessage<>("test"), "command");
+        int found = 0;
+        long start = System.nanoTime();
+        for (int round = 0; round < LOOKUP_ROUNDS; round++) {
+            for (String routingKey : routingKeys) {
+                if (consistentHash.getMember(routingKey, command).isPresent()) {
+                    found++;
+                }
+            }
+        }
+        long lookupNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < REBUILD_COUNT; i++) {
+            Member member = members[i % members.length];
+            consistentHash = consistentHash.without(member).with(member, LOAD_FACTOR, AcceptAll.INSTANCE);
+        }
+        long rebuildNanos = System.nanoTime() - start;
+
+        System.out.printf("%-12s lookup: %8.1f ns/op, rebuild: %10.1f ns/op (%d routed)%n",
+                          name,
+                          lookupNanos / (double) (LOOKUP_ROUNDS * routingKeys.length),
+                          rebuildNanos / (2.0 * REBUILD_COUNT),
+                          found);
+    }
+}
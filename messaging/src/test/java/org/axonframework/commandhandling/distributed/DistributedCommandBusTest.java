@@ -29,8 +29,10 @@
 import org.axonframework.commandhandling.distributed.commandfilter.DenyAll;
 import org.axonframework.common.AxonConfigurationException;
 import org.axonframework.common.Registration;
+import org.axonframework.messaging.InterceptorChain;
 import org.axonframework.messaging.MessageHandler;
 import org.axonframework.messaging.MessageHandlerInterceptor;
+import org.axonframework.messaging.unitofwork.UnitOfWork;
 import org.axonframework.monitoring.MessageMonitor;
 import org.axonframework.tracing.TestSpanFactory;
 import org.junit.jupiter.api.*;
@@ -38,9 +40,18 @@
 import org.mockito.*;
 import org.mockito.junit.jupiter.*;
 
+import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import javax.annotation.Nonnull;
 
 import static org.awaitility.Awaitility.await;
@@ -291,6 +302,136 @@ void updateLoadFactor() {
         assertEquals(expectedLoadFactor, testSubject.getLoadFactor());
     }
 
+    @Test
+    void loadChangesArePublishedByTheLoadUpdateExecutorAndStopOnDisconnect() throws Exception {
+        AtomicReference<Instant> now = new AtomicReference<>(Instant.EPOCH);
+        Clock clock = mock(Clock.class);
+        when(clock.instant()).thenAnswer(i -> now.get());
+        AdaptiveLoadFactor adaptiveLoadFactor = AdaptiveLoadFactor.builder()
+                                                                  .p99LatencyThreshold(Duration.ofMillis(100))
+                                                                  .evaluationInterval(Duration.ZERO)
+                                                                  .clock(clock)
+                                                                  .build();
+        CommandBusConnector connector = mock(CommandBusConnector.class);
+        Registration loadMeasurementRegistration = mock(Registration.class);
+        ArgumentCaptor<MessageHandlerInterceptor<? super CommandMessage<?>>> interceptorCaptor =
+                ArgumentCaptor.forClass(MessageHandlerInterceptor.class);
+        when(connector.registerHandlerInterceptor(interceptorCaptor.capture()))
+                .thenReturn(loadMeasurementRegistration);
+        List<Runnable> loadUpdates = new ArrayList<>();
+        DistributedCommandBus loadAwareBus = DistributedCommandBus.builder()
+                                                                  .commandRouter(mockCommandRouter)
+                                                                  .connector(connector)
+                                                                  .adaptiveLoadFactor(adaptiveLoadFactor)
+                                                                  .loadUpdateExecutor(loadUpdates::add)
+                                                                  .build();
+        MessageHandlerInterceptor<? super CommandMessage<?>> loadMeasurement = interceptorCaptor.getValue();
+        UnitOfWork<CommandMessage<?>> unitOfWork = mock(UnitOfWork.class);
+        InterceptorChain slowHandler = () -> now.updateAndGet(instant -> instant.plusSeconds(1));
+        InterceptorChain fastHandler = () -> "result";
+
+        loadMeasurement.handle(unitOfWork, slowHandler);
+        assertEquals(10, loadAwareBus.getEffectiveLoadFactor());
+        loadMeasurement.handle(unitOfWork, fastHandler);
+        assertEquals(INITIAL_LOAD_FACTOR, loadAwareBus.getEffectiveLoadFactor());
+
+        verifyNoInteractions(mockCommandRouter);
+        assertEquals(1, loadUpdates.size(), "Expected pending load updates to be coalesced");
+        loadUpdates.remove(0).run();
+        verify(mockCommandRouter).updateMembership(eq(INITIAL_LOAD_FACTOR), eq(DenyAll.INSTANCE), any());
+
+        loadMeasurement.handle(unitOfWork, slowHandler);
+        assertEquals(1, loadUpdates.size());
+
+        loadAwareBus.disconnect();
+        verify(loadMeasurementRegistration).cancel();
+    }
+
+    @Test
+    void dispatchAllSendsCommandsGroupedPerDestination() throws Exception {
+        Member otherMember = mock(Member.class);
+        CommandMessage<Object> first = GenericCommandMessage.asCommandMessage("first");
+        CommandMessage<Object> second = GenericCommandMessage.asCommandMessage("fail");
+        CommandMessage<Object> third = GenericCommandMessage.asCommandMessage("third");
+        when(mockCommandRouter.findDestination(any())).thenAnswer(
+                i -> Optional.of("third".equals(i.<CommandMessage<?>>getArgument(0).getPayload())
+                                         ? otherMember : mockMember)
+        );
+        when(mockMessageMonitor.onMessageIngested(any())).thenReturn(mockMonitorCallback);
+        AtomicInteger interceptorInvocations = new AtomicInteger();
+        testSubject.registerDispatchInterceptor(messages -> {
+            interceptorInvocations.incrementAndGet();
+            return (index, message) -> message;
+        });
+        Map<CommandMessage<?>, CommandResultMessage<?>> results = new IdentityHashMap<>();
+
+        testSubject.dispatchAll(Arrays.asList(first, second, third), results::put);
+
+        assertEquals(1, interceptorInvocations.get());
+        verify(mockConnector).sendAll(eq(mockMember), argThat(batch -> batch.size() == 2), any());
+        verify(mockConnector).sendAll(eq(otherMember), argThat(batch -> batch.size() == 1), any());
+        assertEquals(3, results.size());
+        assertFalse(results.get(first).isExceptional());
+        assertTrue(results.get(second).isExceptional());
+        assertFalse(results.get(third).isExceptional());
+        verify(mockMonitorCallback, times(2)).reportSuccess();
+        verify(mockMonitorCallback).reportFailure(any());
+    }
+
+    @Test
+    void dispatchAllReportsCommandsWithoutDestinationAsFailed() throws Exception {
+        CommandMessage<Object> routed = GenericCommandMessage.asCommandMessage("routed");
+        CommandMessage<Object> unrouted = GenericCommandMessage.asCommandMessage("unrouted");
+        when(mockCommandRouter.findDestination(any())).thenAnswer(
+                i -> "routed".equals(i.<CommandMessage<?>>getArgument(0).getPayload())
+                        ? Optional.of(mockMember) : Optional.empty()
+        );
+        when(mockMessageMonitor.onMessageIngested(any())).thenReturn(mockMonitorCallback);
+        Map<CommandMessage<?>, CommandResultMessage<?>> results = new IdentityHashMap<>();
+
+        testSubject.dispatchAll(Arrays.asList(routed, unrouted), results::put);
+
+        assertFalse(results.get(routed).isExceptional());
+        assertTrue(results.get(unrouted).exceptionResult() instanceof NoHandlerForCommandException);
+        verify(mockConnector).sendAll(eq(mockMember), argThat(batch -> batch.size() == 1), any());
+    }
+
+    @Test
+    void dispatchAllReportsAllCommandsOfBatchAsFailedWhenSendingFails() throws Exception {
+        CommandMessage<Object> first = GenericCommandMessage.asCommandMessage("first");
+        CommandMessage<Object> second = GenericCommandMessage.asCommandMessage("second");
+        when(mockCommandRouter.findDestination(any())).thenReturn(Optional.of(mockMember));
+        when(mockMessageMonitor.onMessageIngested(any())).thenReturn(mockMonitorCallback);
+        doThrow(new RuntimeException("Connection lost")).when(mockConnector).sendAll(any(), any(), any());
+        Map<CommandMessage<?>, CommandResultMessage<?>> results = new IdentityHashMap<>();
+
+        testSubject.dispatchAll(Arrays.asList(first, second), results::put);
+
+        assertTrue(results.get(first).exceptionResult() instanceof CommandDispatchException);
+        assertTrue(results.get(second).exceptionResult() instanceof CommandDispatchException);
+        verify(mockMember).suspect();
+        verify(mockMonitorCallback, times(2)).reportFailure(any());
+    }
+
+    @Test
+    void dispatchAllReportsEveryOccurrenceOfTheSameCommand() throws Exception {
+        CommandMessage<Object> command = GenericCommandMessage.asCommandMessage("repeated");
+        MessageMonitor.MonitorCallback firstMonitorCallback = mock(MessageMonitor.MonitorCallback.class);
+        MessageMonitor.MonitorCallback secondMonitorCallback = mock(MessageMonitor.MonitorCallback.class);
+        when(mockCommandRouter.findDestination(any())).thenReturn(Optional.of(mockMember));
+        when(mockMessageMonitor.onMessageIngested(any())).thenReturn(firstMonitorCallback, secondMonitorCallback);
+        List<CommandMessage<?>> reportedCommands = new ArrayList<>();
+
+        testSubject.dispatchAll(Arrays.asList(command, command), (c, result) -> reportedCommands.add(c));
+
+        verify(mockConnector).sendAll(eq(mockMember), argThat(batch -> batch.size() == 2), any());
+        assertEquals(2, reportedCommands.size());
+        assertSame(command, reportedCommands.get(0));
+        assertSame(command, reportedCommands.get(1));
+        verify(firstMonitorCallback).reportSuccess();
+        verify(secondMonitorCallback).reportSuccess();
+    }
+
     @Test
     void shouldThrowWithNullDefaultCommandCallback() {
         DistributedCommandBus.Builder builder = DistributedCommandBus.builder();
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2010-2024. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.axonframework.commandhandling.distributed;
+
+import org.axonframework.commandhandling.CommandBus;
+import org.axonframework.commandhandling.CommandCallback;
+import org.axonframework.commandhandling.CommandMessage;
+import org.axonframework.commandhandling.GenericCommandMessage;
+import org.axonframework.commandhandling.SimpleCommandBus;
+import org.axonframework.common.Registration;
+import org.axonframework.messaging.GenericMessage;
+import org.axonframework.messaging.MessageHandler;
+import org.axonframework.messaging.MessageHandlerInterceptor;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+import javax.annotation.Nonnull;
+
+/**
+ * Test harness running multiple nodes of a {@link DistributedCommandBus} within a single JVM. Every node has its own
+ * {@link SimpleCommandBus} as local segment. Nodes share a single {@link ConsistentHash} through their
+ * {@link CommandRouter}, while their {@link CommandBusConnector} dispatches commands directly on the local segment of
+ * the destination node. The routing key of a command is the string representation of its payload.
+ */
+class InMemoryCommandCluster {
+
+    private final AtomicReference<ConsistentHash> consistentHash;
+    private final Map<String, Node> nodes = new ConcurrentHashMap<>();
+    private final Map<String, LoadSignal> publishedLoad = new ConcurrentHashMap<>();
+
+    InMemoryCommandCluster(RoutingTable routingTable) {
+        this.consistentHash = new AtomicReference<>(new ConsistentHash(routingTable));
+    }
+
+    Node addNode(String name) {
+        return addNode(name, UnaryOperator.identity());
+    }
+
+    Node addNode(String name, UnaryOperator<DistributedCommandBus.Builder> customization) {
+        Node node = new Node(name, customization);
+        nodes.put(name, node);
+        return node;
+    }
+
+    Node node(String name) {
+        return nodes.get(name);
+    }
+
+    Optional<LoadSignal> publishedLoad(String name) {
+        return Optional.ofNullable(publishedLoad.get(name));
+    }
+
+    /**
+     * Returns the number of routing keys out of {@code "key0"} to {@code "key<keyCount - 1>"} that are routed to each
+     * node, for the given {@code commandName}.
+     */
+    Map<String, Integer> distribution(String commandName, int keyCount) {
+        Map<String, Integer> distribution = new HashMap<>();
+        for (int i = 0; i < keyCount; i++) {
+            CommandMessage<?> command = new GenericCommandMessage<>(new GenericMessage<>("key" + i), commandName);
+            consistentHash.get()
+                          .getMember("key" + i, command)
+                          .ifPresent(member -> distribution.merge(member.name(), 1, Integer::sum));
+        }
+        return distribution;
+    }
+
+    class Node {
+
+        private final String name;
+        private final SimpleCommandBus localSegment;
+        private final DistributedCommandBus commandBus;
+        private final Member member;
+
+        private Node(String name, UnaryOperator<DistributedCommandBus.Builder> customization) {
+            this.name = name;
+            this.member = new SimpleMember<>(name, name, false, null);
+            this.localSegment = SimpleCommandBus.builder().build();
+            this.commandBus = customization.apply(DistributedCommandBus.builder()
+                                                                       .commandRouter(new Router())
+                                                                       .connector(new Connector()))
+                                           .build();
+        }
+
+        String name() {
+            return name;
+        }
+
+        DistributedCommandBus commandBus() {
+            return commandBus;
+        }
+
+        private class Router implements CommandRouter {
+
+            @Override
+            public Optional<Member> findDestination(CommandMessage<?> message) {
+                return consistentHash.get().getMember(message.getPayload().toString(), message);
+            }
+
+            @Override
+            public void updateMembership(int loadFactor, CommandMessageFilter commandFilter) {
+                consistentHash.updateAndGet(hash -> hash.with(member, loadFactor, commandFilter));
+            }
+
+            @Override
+            public void updateMembership(int loadFactor, CommandMessageFilter commandFilter, LoadSignal loadSignal) {
+                publishedLoad.put(name, loadSignal);
+                updateMembership(loadFactor, commandFilter);
+            }
+        }
+
+        private class Connector implements CommandBusConnector {
+
+            @Override
+            public <C> void send(@Nonnull Member destination, @Nonnull CommandMessage<? extends C> command) {
+                nodes.get(destination.name()).localSegment.dispatch(command);
+            }
+
+            @Override
+            public <C, R> void send(@Nonnull Member destination,
+                                    @Nonnull CommandMessage<C> command,
+                                    @Nonnull CommandCallback<? super C, R> callback) {
+                nodes.get(destination.name()).localSegment.dispatch(command, callback);
+            }
+
+            @Override
+            public Registration subscribe(@Nonnull String commandName,
+                                          @Nonnull MessageHandler<? super CommandMessage<?>> handler) {
+                return localSegment.subscribe(commandName, handler);
+            }
+
+            @Override
+            public Registration registerHandlerInterceptor(
+                    @Nonnull MessageHandlerInterceptor<? super CommandMessage<?>> handlerInterceptor
+            ) {
+                return localSegment.registerHandlerInterceptor(handlerInterceptor);
+            }
+
+            @Override
+            public Optional<CommandBus> localSegment() {
+                return Optional.of(localSegment);
+            }
+        }
+    }
+}
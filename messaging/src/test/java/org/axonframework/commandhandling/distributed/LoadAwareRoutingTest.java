@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2010-2024. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.axonframework.commandhandling.distributed;
+
+import org.axonframework.commandhandling.CommandMessage;
+import org.axonframework.commandhandling.GenericCommandMessage;
+import org.axonframework.commandhandling.callbacks.FutureCallback;
+import org.axonframework.common.DirectExecutor;
+import org.axonframework.messaging.GenericMessage;
+import org.junit.jupiter.api.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class validating load aware routing of commands between the nodes of a {@link DistributedCommandBus}, using an
+ * {@link InMemoryCommandCluster}.
+ */
+class LoadAwareRoutingTest {
+
+    private static final String COMMAND_NAME = "command";
+    private static final int KEY_COUNT = 1000;
+
+    private final AtomicReference<Instant> now = new AtomicReference<>(Instant.EPOCH);
+    private final AtomicReference<Duration> slowNodeLatency = new AtomicReference<>(Duration.ofMillis(400));
+    private InMemoryCommandCluster cluster;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = mock(Clock.class);
+        when(clock.instant()).thenAnswer(i -> now.get());
+
+        cluster = new InMemoryCommandCluster(new SortedArrayRoutingTable());
+        for (String name : new String[]{"node1", "node2", "slow"}) {
+            AdaptiveLoadFactor adaptiveLoadFactor = AdaptiveLoadFactor.builder()
+                                                                      .p99LatencyThreshold(Duration.ofMillis(100))
+                                                                      .evaluationInterval(Duration.ofSeconds(1))
+                                                                      .clock(clock)
+                                                                      .build();
+            InMemoryCommandCluster.Node node =
+                    cluster.addNode(name, builder -> builder.adaptiveLoadFactor(adaptiveLoadFactor)
+                                                            .loadUpdateExecutor(DirectExecutor.INSTANCE));
+            Duration latency = Duration.ofMillis(10);
+            //noinspection resource
+            node.commandBus().subscribe(COMMAND_NAME, command -> {
+                now.set(now.get().plus("slow".equals(name) ? slowNodeLatency.get() : latency));
+                return name;
+            });
+        }
+    }
+
+    @Test
+    void slowNodeReceivesFewerRoutingKeysUntilItRecovers() {
+        Map<String, Integer> initial = cluster.distribution(COMMAND_NAME, KEY_COUNT);
+        assertEquals(100, cluster.node("slow").commandBus().getEffectiveLoadFactor());
+
+        dispatchAll();
+
+        DistributedCommandBus slowBus = cluster.node("slow").commandBus();
+        assertEquals(25, slowBus.getEffectiveLoadFactor());
+        assertEquals(100, slowBus.getLoadFactor());
+        assertEquals(Duration.ofMillis(400), cluster.publishedLoad("slow").map(LoadSignal::p99Latency).orElse(null));
+        assertEquals(LoadSignal.idle(), cluster.publishedLoad("node1").orElse(null));
+        assertEquals(100, cluster.node("node1").commandBus().getEffectiveLoadFactor());
+
+        Map<String, Integer> reduced = cluster.distribution(COMMAND_NAME, KEY_COUNT);
+        assertTrue(reduced.get("slow") < initial.get("slow") / 2,
+                   "Expected the share of the slow node to drop, but was " + reduced + " compared to " + initial);
+
+        slowNodeLatency.set(Duration.ofMillis(10));
+        dispatchAll();
+
+        assertEquals(100, slowBus.getEffectiveLoadFactor());
+        assertEquals(initial, cluster.distribution(COMMAND_NAME, KEY_COUNT));
+    }
+
+    @Test
+    void routingKeysOnlyMoveAwayFromTheSlowNode() {
+        Map<String, Integer> initial = cluster.distribution(COMMAND_NAME, KEY_COUNT);
+
+        dispatchAll();
+
+        Map<String, Integer> reduced = cluster.distribution(COMMAND_NAME, KEY_COUNT);
+        assertTrue(reduced.get("node1") >= initial.get("node1"));
+        assertTrue(reduced.get("node2") >= initial.get("node2"));
+    }
+
+    private void dispatchAll() {
+        for (int i = 0; i < KEY_COUNT; i++) {
+            CommandMessage<Object> command = new GenericCommandMessage<>(new GenericMessage<>("key" + i), COMMAND_NAME);
+            FutureCallback<Object, Object> callback = new FutureCallback<>();
+            cluster.node("node1").commandBus().dispatch(command, callback);
+            assertFalse(callback.getResult().isExceptional());
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2010-2024. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.axonframework.commandhandling.distributed;
+
+import org.axonframework.commandhandling.CommandMessage;
+import org.axonframework.commandhandling.GenericCommandMessage;
+import org.axonframework.commandhandling.distributed.commandfilter.AcceptAll;
+import org.axonframework.commandhandling.distributed.commandfilter.CommandNameFilter;
+import org.axonframework.messaging.GenericMessage;
+import org.junit.jupiter.params.*;
+import org.junit.jupiter.params.provider.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class validating the {@link RoutingTable} implementations, through a {@link ConsistentHash}.
+ */
+class RoutingTableTest {
+
+    private static final int KEY_COUNT = 10_000;
+
+    private final Member member1 = new SimpleMember<>("member1", "", false, null);
+    private final Member member2 = new SimpleMember<>("member2", "", false, null);
+    private final Member member3 = new SimpleMember<>("member3", "", false, null);
+
+    static Stream<Arguments> routingTables() {
+        return Stream.of(
+                Arguments.of("md5", (Supplier<RoutingTable>) Md5RoutingTable::new),
+                Arguments.of("sortedArray", (Supplier<RoutingTable>) SortedArrayRoutingTable::new),
+                Arguments.of("rendezvous", (Supplier<RoutingTable>) RendezvousRoutingTable::new)
+        );
+    }
+
+    @ParameterizedTest(name = "[{index}] {0}")
+    @MethodSource("routingTables")
+    void routingIsIndependentOfTheOrderOfMembershipChanges(String name, Supplier<RoutingTable> routingTable) {
+        ConsistentHash first = new ConsistentHash(routingTable.get()).with(member1, 10, AcceptAll.INSTANCE)
+                                                                     .with(member2, 10, AcceptAll.INSTANCE)
+                                                                     .with(member3, 10, AcceptAll.INSTANCE);
+        ConsistentHash second = new ConsistentHash(routingTable.get()).with(member3, 10, AcceptAll.INSTANCE)
+                                                                      .with(member1, 10, AcceptAll.INSTANCE)
+                                                                      .with(member2, 5, AcceptAll.INSTANCE)
+                                                                      .with(member2, 10, AcceptAll.INSTANCE);
+
+        assertEquals(first, second);
+        for (int i = 0; i < 1000; i++) {
+            String routingKey = "key" + i;
+            assertEquals(first.getMember(routingKey, command("any")), second.getMember(routingKey, command("any")));
+            assertEquals(first.getEligibleMembers(routingKey), second.getEligibleMembers(routingKey));
+        }
+    }
+
+    @ParameterizedTest(name = "[{index}] {0}")
+    @MethodSource("routingTables")
+    void membersNotMatchingTheCommandFilterAreSkipped(String name, Supplier<RoutingTable> routingTable) {
+        ConsistentHash testSubject = new ConsistentHash(routingTable.get())
+                .with(member1, 10, new CommandNameFilter("name1"))
+                .with(member2, 10, new CommandNameFilter("name1"))
+                .with(member3, 10, new CommandNameFilter("name3"));
+
+        for (int i = 0; i < 1000; i++) {
+            String routingKey = "key" + i;
+            Optional<Member> actual = testSubject.getMember(routingKey, command("name3"));
+            assertTrue(actual.isPresent());
+            assertEquals("member3", actual.get().name());
+
+            String expected = testSubject.getEligibleMembers(routingKey).stream()
+                                         .filter(m -> !"member3".equals(m.name()))
+                                         .findFirst()
+                                         .map(Member::name)
+                                         .orElseThrow(IllegalStateException::new);
+            assertEquals(expected, testSubject.getMember(routingKey, command("name1")).map(Member::name).orElse(null));
+        }
+        assertFalse(testSubject.getMember("key", command("unknown")).isPresent());
+    }
+
+    @ParameterizedTest(name = "[{index}] {0}")
+    @MethodSource("routingTables")
+    void onlyRoutingKeysOfRemovedMemberAreRedistributed(String name, Supplier<RoutingTable> routingTable) {
+        ConsistentHash before = new ConsistentHash(routingTable.get()).with(member1, 100, AcceptAll.INSTANCE)
+                                                                      .with(member2, 100, AcceptAll.INSTANCE)
+                                                                      .with(member3, 100, AcceptAll.INSTANCE);
+        ConsistentHash after = before.without(member2);
+
+        for (int i = 0; i < KEY_COUNT; i++) {
+            String routingKey = "key" + i;
+            Member original = before.getMember(routingKey, command("any")).orElseThrow(IllegalStateException::new);
+            Member current = after.getMember(routingKey, command("any")).orElseThrow(IllegalStateException::new);
+            if (!"member2".equals(original.name())) {
+                assertEquals(original.name(), current.name());
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "[{index}] {0}")
+    @MethodSource("routingTables")
+    void routingKeysAreDistributedAccordingToLoadFactor(String name, Supplier<RoutingTable> routingTable) {
+        ConsistentHash testSubject = new ConsistentHash(routingTable.get()).with(member1, 100, AcceptAll.INSTANCE)
+                                                                           .with(member2, 300, AcceptAll.INSTANCE)
+                                                                           .with(member3, 0, AcceptAll.INSTANCE);
+
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < KEY_COUNT; i++) {
+            testSubject.getMember("key" + i, command("any"))
+                       .ifPresent(member -> counts.merge(member.name(), 1, Integer::sum));
+        }
+
+        assertFalse(counts.containsKey("member3"));
+        double share = counts.getOrDefault("member2", 0) / (double) KEY_COUNT;
+        assertEquals(0.75, share, 0.05, "Unexpected share of routing keys for member2: " + share);
+        assertFalse(testSubject.getEligibleMembers("key").stream().anyMatch(m -> "member3".equals(m.name())));
+    }
+
+    @ParameterizedTest(name = "[{index}] {0}")
+    @MethodSource("routingTables")
+    void emptyRoutingTableHasNoMembers(String name, Supplier<RoutingTable> routingTable) {
+        ConsistentHash testSubject = new ConsistentHash(routingTable.get()).with(member1, 10, AcceptAll.INSTANCE)
+                                                                           .without(member1);
+
+        assertFalse(testSubject.getMember("key", command("any")).isPresent());
+        assertTrue(testSubject.getEligibleMembers("key").isEmpty());
+        assertEquals(new ConsistentHash(routingTable.get()), testSubject);
+    }
+
+    private static CommandMessage<?> command(String commandName) {
+        return new GenericCommandMessage<>(new GenericMessage<>("test"), commandName);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2022. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,6 +23,7 @@
 import org.axonframework.commandhandling.CommandResultMessage;
 import org.axonframework.commandhandling.GenericCommandMessage;
 import org.axonframework.commandhandling.GenericCommandResultMessage;
+import org.axonframework.commandhandling.SimpleCommandBus;
 import org.axonframework.messaging.MessageDispatchInterceptor;
 import org.axonframework.messaging.MetaData;
 import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
@@ -34,6 +35,7 @@
 import org.mockito.invocation.*;
 import org.mockito.stubbing.*;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -43,6 +45,7 @@
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.axonframework.commandhandling.GenericCommandResultMessage.asCommandResultMessage;
@@ -463,6 +466,83 @@ void commandCallbackIsCustomized() {
         assertTrue(customizedCallbackIsCalled.get());
     }
 
+    @Test
+    void sendAllReturnsResultPerCommandAndInterceptsOncePerBatch() throws Exception {
+        SimpleCommandBus commandBus = SimpleCommandBus.builder().build();
+        //noinspection resource
+        commandBus.subscribe(String.class.getName(), command -> {
+            if ("fail".equals(command.getPayload())) {
+                throw new MockException();
+            }
+            return command.getPayload() + "-" + command.getMetaData().get("index");
+        });
+        AtomicInteger interceptorInvocations = new AtomicInteger();
+        testSubject = DefaultCommandGateway.builder()
+                                           .commandBus(commandBus)
+                                           .dispatchInterceptors(messages -> {
+                                               interceptorInvocations.incrementAndGet();
+                                               return (index, message) -> message.andMetaData(
+                                                       Collections.singletonMap("index", index)
+                                               );
+                                           })
+                                           .build();
+        CommandMessage<Object> repeated = GenericCommandMessage.asCommandMessage("repeated");
+
+        List<CompletableFuture<String>> results =
+                testSubject.sendAll(Arrays.asList("first", "fail", repeated, repeated));
+
+        assertEquals(1, interceptorInvocations.get());
+        assertEquals(4, results.size());
+        assertEquals("first-0", results.get(0).get());
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> results.get(1).get());
+        assertTrue(exception.getCause() instanceof MockException);
+        assertEquals("repeated-2", results.get(2).get());
+        assertEquals("repeated-3", results.get(3).get());
+    }
+
+    @Test
+    void sendAllFailsOnlyCommandsRejectedByDispatchInterceptor() throws Exception {
+        SimpleCommandBus commandBus = SimpleCommandBus.builder().build();
+        //noinspection resource
+        commandBus.subscribe(String.class.getName(), CommandMessage::getPayload);
+        testSubject = DefaultCommandGateway.builder()
+                                           .commandBus(commandBus)
+                                           .dispatchInterceptors(messages -> (index, message) -> {
+                                               if ("invalid".equals(message.getPayload())) {
+                                                   throw new MockException();
+                                               }
+                                               return message;
+                                           })
+                                           .build();
+
+        List<CompletableFuture<String>> results = testSubject.sendAll(Arrays.asList("first", "invalid", "last"));
+
+        assertEquals("first", results.get(0).get());
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> results.get(1).get());
+        assertTrue(exception.getCause() instanceof MockException);
+        assertEquals("last", results.get(2).get());
+    }
+
+    @Test
+    void sendAllRetriesFailedCommandsIndividually() {
+        when(mockCommandMessageTransformer.handle(anyList())).thenReturn((index, message) -> message);
+        doAnswer(invocation -> {
+            List<CommandMessage<?>> commands = invocation.getArgument(0);
+            CommandCallback<Object, Object> callback = invocation.getArgument(1);
+            commands.forEach(command -> callback.onResult(command, asCommandResultMessage(new RuntimeException())));
+            return null;
+        }).when(mockCommandBus).dispatchAll(anyList(), any());
+        when(mockRetryScheduler.scheduleRetry(isA(CommandMessage.class), isA(RuntimeException.class), isA(List.class),
+                                              isA(Runnable.class)))
+                .thenReturn(false);
+
+        List<CompletableFuture<Object>> results = testSubject.sendAll(Arrays.asList("first", "second"));
+
+        verify(mockRetryScheduler, times(2)).scheduleRetry(isA(CommandMessage.class), isA(RuntimeException.class),
+                                                           isA(List.class), isA(Runnable.class));
+        assertTrue(results.stream().allMatch(CompletableFuture::isCompletedExceptionally));
+    }
+
     private static class RescheduleCommand implements Answer<Boolean> {
 
         @Override
@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2010-2024. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.common.jdbc;
+
+import org.axonframework.common.transaction.Transaction;
+import org.axonframework.common.transaction.TransactionManager;
+import org.hsqldb.jdbc.JDBCDataSource;
+import org.junit.jupiter.api.*;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+
+import static org.axonframework.common.jdbc.JdbcUtils.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class validating the {@link PagingJdbcPublisher}.
+ */
+@SuppressWarnings({"SqlDialectInspection", "SqlNoDataSourceInspection"})
+class PagingJdbcPublisherTest {
+
+    private static final int PAGE_SIZE = 10;
+
+    private DataSource dataSource;
+    private TransactionManager transactionManager;
+    private AtomicInteger executedQueries;
+    private PagingJdbcPublisher<String> testSubject;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = dataSource();
+        transactionManager = transactionManager(dataSource);
+        transactionManager.executeInTransaction(() -> {
+            Connection connection = null;
+            try {
+                connection = dataSource.getConnection();
+                executeUpdates(
+                        connection,
+                        e -> {
+                            throw new JdbcException("Enable to prepare test_table", e);
+                        },
+                        c -> c.prepareStatement("DROP TABLE IF EXISTS test_table"),
+                        c -> c.prepareStatement(
+                                "CREATE TABLE IF NOT EXISTS test_table ("
+                                        + "identifier VARCHAR(255) NOT NULL,"
+                                        + "idIndex BIGINT NOT NULL"
+                                        + ")"
+                        )
+                );
+            } catch (SQLException e) {
+                throw new IllegalStateException("Enable to retrieve a Connection to prepare the test_table", e);
+            } finally {
+                closeQuietly(connection);
+            }
+        });
+
+        executedQueries = new AtomicInteger();
+        testSubject = new PagingJdbcPublisher<>(
+                transactionManager,
+                () -> {
+                    try {
+                        return dataSource.getConnection();
+                    } catch (SQLException e) {
+                        throw new RuntimeException(e);
+                    }
+                },
+                (connection, offset, maxSize) -> {
+                    executedQueries.incrementAndGet();
+                    String sql = "SELECT * FROM test_table ORDER BY idIndex LIMIT ? OFFSET ?";
+                    PreparedStatement statement = connection.prepareStatement(sql);
+                    statement.setLong(1, maxSize);
+                    statement.setLong(2, offset);
+                    return statement;
+                },
+                PAGE_SIZE,
+                resultSet -> resultSet.getString("identifier"),
+                RuntimeException::new
+        );
+    }
+
+    private DataSource dataSource() {
+        JDBCDataSource dataSource = new JDBCDataSource();
+        dataSource.setUrl("jdbc:hsqldb:mem:axontest");
+        dataSource.setUser("sa");
+        dataSource.setPassword("");
+        return dataSource;
+    }
+
+    private TransactionManager transactionManager(DataSource dataSource) {
+        PlatformTransactionManager platformTransactionManager = new DataSourceTransactionManager(dataSource);
+        return () -> {
+            TransactionStatus transaction =
+                    platformTransactionManager.getTransaction(new DefaultTransactionDefinition());
+            return new Transaction() {
+                @Override
+                public void commit() {
+                    platformTransactionManager.commit(transaction);
+                }
+
+                @Override
+                public void rollback() {
+                    platformTransactionManager.rollback(transaction);
+                }
+            };
+        };
+    }
+
+    @Test
+    void publishesAllItemsOfMultiplePages() {
+        List<String> expectedIds = addEntries(25);
+
+        StepVerifier.create(testSubject)
+                    .expectNextSequence(expectedIds)
+                    .verifyComplete();
+        assertEquals(3, executedQueries.get());
+    }
+
+    @Test
+    void completesWithoutItemsForAnEmptyResult() {
+        StepVerifier.create(testSubject)
+                    .verifyComplete();
+        assertEquals(1, executedQueries.get());
+    }
+
+    @Test
+    void fetchesPagesOnlyWhenItemsAreRequested() {
+        List<String> expectedIds = addEntries(25);
+
+        StepVerifier.create(testSubject, 0)
+                    .then(() -> assertEquals(0, executedQueries.get()))
+                    .thenRequest(5)
+                    .expectNextSequence(expectedIds.subList(0, 5))
+                    .then(() -> assertEquals(1, executedQueries.get()))
+                    .thenRequest(6)
+                    .expectNextSequence(expectedIds.subList(5, 11))
+                    .then(() -> assertEquals(2, executedQueries.get()))
+                    .thenCancel()
+                    .verify();
+        assertEquals(2, executedQueries.get());
+    }
+
+    @Test
+    void eachSubscriberReceivesTheResultsFromTheStart() {
+        List<String> expectedIds = addEntries(15);
+
+        assertEquals(expectedIds, Flux.from(testSubject).collectList().block());
+        assertEquals(expectedIds, Flux.from(testSubject).collectList().block());
+    }
+
+    @Test
+    void signalsErrorWhenTheQueryFails() {
+        PagingJdbcPublisher<String> failingPublisher = new PagingJdbcPublisher<>(
+                transactionManager,
+                () -> {
+                    try {
+                        return dataSource.getConnection();
+                    } catch (SQLException e) {
+                        throw new RuntimeException(e);
+                    }
+                },
+                (connection, offset, maxSize) -> connection.prepareStatement("SELECT * FROM non_existing_table"),
+                PAGE_SIZE,
+                resultSet -> resultSet.getString("identifier"),
+                e -> new JdbcException("Failed to fetch page", e)
+        );
+
+        StepVerifier.create(failingPublisher)
+                    .verifyError(JdbcException.class);
+    }
+
+    private List<String> addEntries(int count) {
+        List<String> ids = IntStream.range(0, count)
+                                    .mapToObj(index -> String.format("id-%03d", index))
+                                    .collect(Collectors.toList());
+        for (int index = 0; index < count; index++) {
+            addEntryAt(ids.get(index), index);
+        }
+        return ids;
+    }
+
+    private void addEntryAt(String id, long index) {
+        transactionManager.executeInTransaction(() -> {
+            Connection connection = null;
+            try {
+                connection = dataSource.getConnection();
+                executeUpdate(
+                        connection,
+                        c -> {
+                            String sql = "INSERT INTO test_table (identifier, idIndex) VALUES(?,?)";
+                            PreparedStatement statement = c.prepareStatement(sql);
+                            statement.setString(1, id);
+                            statement.setLong(2, index);
+                            return statement;
+                        },
+                        e -> new JdbcException("Enable to insert entry [" + id + "] at index [" + index + "]", e)
+                );
+            } catch (SQLException e) {
+                throw new IllegalStateException(
+                        "Enable to retrieve a Connection to insert entry [" + id + "] at index [" + index + "]", e
+                );
+            } finally {
+                closeQuietly(connection);
+            }
+        });
+    }
+}
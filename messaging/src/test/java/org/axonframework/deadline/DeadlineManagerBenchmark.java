@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2010-2024. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.deadline;
+
+import org.axonframework.messaging.Message;
+import org.axonframework.messaging.ScopeAware;
+import org.axonframework.messaging.ScopeDescriptor;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Benchmark approach comparing the {@link SimpleDeadlineManager} and the {@link TimingWheelDeadlineManager} for
+ * scheduling, cancelling, and triggering large amounts of deadlines.
+ */
+public class DeadlineManagerBenchmark {
+
+    private static final int SCHEDULE_COUNT = 50_000;
+    private static final int CANCEL_COUNT = 500;
+    private static final int TRIGGER_COUNT = 100_000;
+    private static final int ITERATIONS = 3;
+
+    public static void main(String[] args) throws InterruptedException {
+        for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+            System.out.println("Iteration " + (iteration + 1));
+            benchmark("simple", scopeAware -> SimpleDeadlineManager.builder()
+                                                                   .scopeAwareProvider(scope -> Stream.of(scopeAware))
+                                                                   .build());
+            benchmark("timingWheel", scopeAware -> TimingWheelDeadlineManager.builder()
+                                                                             .scopeAwareProvider(
+                                                                                     scope -> Stream.of(scopeAware)
+                                                                             )
+                                                                             .build());
+        }
+    }
+
+    private static void benchmark(String name, Function<ScopeAware, DeadlineManager> managerFactory)
+            throws InterruptedException {
+        CountingScopeAware scopeAware = new CountingScopeAware();
+
+        // scheduling timeouts far in the future, like a timeout per order, after which all are cancelled by scope
+        DeadlineManager manager = managerFactory.apply(scopeAware);
+        long start = System.nanoTime();
+        for (int i = 0; i < SCHEDULE_COUNT; i++) {
+            manager.schedule(Duration.ofMinutes(30 + i % 30), "orderTimeout", null, scope(i));
+        }
+        long scheduleNanos = System.nanoTime() - start;
+        start = System.nanoTime();
+        for (int i = 0; i < CANCEL_COUNT; i++) {
+            manager.cancelAllWithinScope("orderTimeout", scope(i));
+        }
+        long cancelNanos = System.nanoTime() - start;
+        manager.cancelAll("orderTimeout");
+        manager.shutdown();
+
+        // triggering short timeouts
+        scopeAware.expect(TRIGGER_COUNT);
+        manager = managerFactory.apply(scopeAware);
+        start = System.nanoTime();
+        for (int i = 0; i < TRIGGER_COUNT; i++) {
+            manager.schedule(Duration.ofMillis(i % 1000), "shortTimeout", null, scope(i));
+        }
+        boolean triggered = scopeAware.await();
+        long triggerNanos = System.nanoTime() - start;
+        manager.shutdown();
+
+        System.out.printf("%-12s schedule: %8.1f ns/op, cancel within scope: %10.1f ns/op, "
+                                  + "trigger %d short deadlines: %6d ms%s%n",
+                          name,
+                          scheduleNanos / (double) SCHEDULE_COUNT,
+                          cancelNanos / (double) CANCEL_COUNT,
+                          TRIGGER_COUNT,
+                          TimeUnit.NANOSECONDS.toMillis(triggerNanos),
+                          triggered ? "" : " (timed out)");
+    }
+
+    private static ScopeDescriptor scope(int i) {
+        return new TestScopeDescriptor("order", i);
+    }
+
+    private static class CountingScopeAware implements ScopeAware {
+
+        private volatile CountDownLatch latch = new CountDownLatch(0);
+
+        private void expect(int count) {
+            latch = new CountDownLatch(count);
+        }
+
+        private boolean await() throws InterruptedException {
+            return latch.await(1, TimeUnit.MINUTES);
+        }
+
+        @Override
+        public void send(Message<?> message, ScopeDescriptor scopeDescription) {
+            latch.countDown();
+        }
+
+        @Override
+        public boolean canResolve(ScopeDescriptor scopeDescription) {
+            return true;
+        }
+    }
+}
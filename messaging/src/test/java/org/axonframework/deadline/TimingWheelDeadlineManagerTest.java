@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2010-2024. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.deadline;
+
+import org.axonframework.common.AxonConfigurationException;
+import org.axonframework.common.DirectExecutor;
+import org.axonframework.messaging.Message;
+import org.axonframework.messaging.ScopeAware;
+import org.axonframework.messaging.ScopeDescriptor;
+import org.junit.jupiter.api.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Stream;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class validating the {@link TimingWheelDeadlineManager}.
+ */
+class TimingWheelDeadlineManagerTest {
+
+    private static final ScopeDescriptor FIRST_SCOPE = new TestScopeDescriptor("aggregate", "first");
+    private static final ScopeDescriptor SECOND_SCOPE = new TestScopeDescriptor("aggregate", "second");
+
+    private final Map<Object, Instant> triggeredDeadlines = new ConcurrentHashMap<>();
+
+    private TimingWheelDeadlineManager testSubject;
+
+    @BeforeEach
+    void setUp() {
+        ScopeAware scopeAware = new ScopeAware() {
+            @Override
+            public void send(Message<?> message, ScopeDescriptor scopeDescription) {
+                triggeredDeadlines.put(message.getPayload(), Instant.now());
+            }
+
+            @Override
+            public boolean canResolve(ScopeDescriptor scopeDescription) {
+                return true;
+            }
+        };
+        // a small wheel ensures deadlines are spread over, and cascade through, several levels
+        testSubject = TimingWheelDeadlineManager.builder()
+                                                .scopeAwareProvider(scope -> Stream.of(scopeAware))
+                                                .executor(DirectExecutor.INSTANCE)
+                                                .tickDuration(Duration.ofMillis(1))
+                                                .ticksPerWheel(4)
+                                                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        testSubject.shutdown();
+    }
+
+    @Test
+    void deadlinesTriggerAtOrAfterTheirTriggerTime() {
+        List<Integer> delays = Arrays.asList(0, 1, 3, 4, 7, 15, 16, 17, 63, 64, 65, 150, 300);
+        Map<Integer, Instant> triggerTimes = new ConcurrentHashMap<>();
+        for (Integer delay : delays) {
+            Instant triggerTime = Instant.now().plusMillis(delay);
+            triggerTimes.put(delay, triggerTime);
+            testSubject.schedule(triggerTime, "deadline", delay, FIRST_SCOPE);
+        }
+
+        await().atMost(Duration.ofSeconds(2))
+               .untilAsserted(() -> assertEquals(new HashSet<>(delays), triggeredDeadlines.keySet()));
+        for (Integer delay : delays) {
+            assertFalse(triggeredDeadlines.get(delay).isBefore(triggerTimes.get(delay)),
+                        "Deadline with delay " + delay + " triggered too early");
+        }
+    }
+
+    @Test
+    void scheduleInThePastTriggersDeadline() {
+        testSubject.schedule(Instant.now().minusSeconds(60), "deadline", "past", FIRST_SCOPE);
+
+        await().atMost(Duration.ofSeconds(1))
+               .untilAsserted(() -> assertTrue(triggeredDeadlines.containsKey("past")));
+    }
+
+    @Test
+    void cancelScheduleCancelsOnlyTheMatchingDeadline() {
+        String cancelledId = testSubject.schedule(Duration.ofMillis(200), "deadline", "cancelled", FIRST_SCOPE);
+        testSubject.schedule(Duration.ofMillis(200), "deadline", "triggered", FIRST_SCOPE);
+        String otherNameId = testSubject.schedule(Duration.ofMillis(200), "other", "otherName", FIRST_SCOPE);
+
+        testSubject.cancelSchedule("deadline", cancelledId);
+        testSubject.cancelSchedule("deadline", otherNameId);
+
+        await().atMost(Duration.ofSeconds(1))
+               .untilAsserted(() -> assertEquals(new HashSet<>(Arrays.asList("triggered", "otherName")),
+                                                 triggeredDeadlines.keySet()));
+        assertFalse(triggeredDeadlines.containsKey("cancelled"));
+    }
+
+    @Test
+    void cancelAllCancelsAllDeadlinesWithTheGivenName() {
+        testSubject.schedule(Duration.ofMillis(200), "deadline", "first", FIRST_SCOPE);
+        testSubject.schedule(Duration.ofMillis(400), "deadline", "second", SECOND_SCOPE);
+        testSubject.schedule(Duration.ofMillis(50), "other", "other", FIRST_SCOPE);
+
+        testSubject.cancelAll("deadline");
+
+        await().atMost(Duration.ofSeconds(1))
+               .untilAsserted(() -> assertTrue(triggeredDeadlines.containsKey("other")));
+        await().pollDelay(Duration.ofMillis(600))
+               .untilAsserted(() -> assertEquals(1, triggeredDeadlines.size()));
+    }
+
+    @Test
+    void cancelAllWithinScopeCancelsOnlyDeadlinesOfThatScope() {
+        testSubject.schedule(Duration.ofMillis(200), "deadline", "first", FIRST_SCOPE);
+        testSubject.schedule(Duration.ofMillis(50), "deadline", "second", SECOND_SCOPE);
+        testSubject.schedule(Duration.ofMillis(50), "other", "other", FIRST_SCOPE);
+
+        testSubject.cancelAllWithinScope("deadline", FIRST_SCOPE);
+
+        await().atMost(Duration.ofSeconds(1))
+               .untilAsserted(() -> assertEquals(new HashSet<>(Arrays.asList("second", "other")),
+                                                 triggeredDeadlines.keySet()));
+    }
+
+    @Test
+    void cancelledDeadlinesCanBeRescheduledInTheSameScope() {
+        List<String> scheduleIds = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            scheduleIds.add(testSubject.schedule(Duration.ofMillis(200), "deadline", i, FIRST_SCOPE));
+        }
+        testSubject.cancelAllWithinScope("deadline", FIRST_SCOPE);
+        testSubject.schedule(Duration.ofMillis(200), "deadline", "rescheduled", FIRST_SCOPE);
+        scheduleIds.forEach(id -> testSubject.cancelSchedule("deadline", id));
+
+        await().atMost(Duration.ofSeconds(1))
+               .untilAsserted(() -> assertTrue(triggeredDeadlines.containsKey("rescheduled")));
+        await().pollDelay(Duration.ofMillis(200))
+               .untilAsserted(() -> assertEquals(1, triggeredDeadlines.size()));
+    }
+
+    @Test
+    void shutdownInvokesExecutorServiceShutdown() {
+        ExecutorService executorService = mock(ExecutorService.class);
+        TimingWheelDeadlineManager manager = TimingWheelDeadlineManager.builder()
+                                                                       .scopeAwareProvider(scope -> Stream.empty())
+                                                                       .executor(executorService)
+                                                                       .build();
+
+        manager.shutdown();
+
+        verify(executorService).shutdown();
+    }
+
+    @Test
+    void buildWithoutScopeAwareProviderThrowsAxonConfigurationException() {
+        TimingWheelDeadlineManager.Builder builderTestSubject = TimingWheelDeadlineManager.builder();
+
+        assertThrows(AxonConfigurationException.class, builderTestSubject::build);
+    }
+
+    @Test
+    void buildWithNullExecutorThrowsAxonConfigurationException() {
+        TimingWheelDeadlineManager.Builder builderTestSubject = TimingWheelDeadlineManager.builder();
+
+        //noinspection ConstantConditions
+        assertThrows(AxonConfigurationException.class, () -> builderTestSubject.executor(null));
+    }
+
+    @Test
+    void buildWithNonPositiveTickDurationThrowsAxonConfigurationException() {
+        TimingWheelDeadlineManager.Builder builderTestSubject = TimingWheelDeadlineManager.builder();
+
+        assertThrows(AxonConfigurationException.class, () -> builderTestSubject.tickDuration(Duration.ZERO));
+        assertThrows(AxonConfigurationException.class,
+                     () -> builderTestSubject.tickDuration(Duration.ofMillis(-1)));
+    }
+
+    @Test
+    void buildWithTicksPerWheelNotAPowerOfTwoThrowsAxonConfigurationException() {
+        TimingWheelDeadlineManager.Builder builderTestSubject = TimingWheelDeadlineManager.builder();
+
+        assertThrows(AxonConfigurationException.class, () -> builderTestSubject.ticksPerWheel(1));
+        assertThrows(AxonConfigurationException.class, () -> builderTestSubject.ticksPerWheel(100));
+    }
+}
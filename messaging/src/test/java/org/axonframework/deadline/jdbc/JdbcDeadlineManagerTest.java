@@ -0,0 +1,326 @@
+/*
+ * Copyright (c) 2010-2024. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.deadline.jdbc;
+
+import org.axonframework.common.AxonConfigurationException;
+import org.axonframework.common.DirectExecutor;
+import org.axonframework.deadline.DeadlineMessage;
+import org.axonframework.deadline.GenericDeadlineMessage;
+import org.axonframework.deadline.TestScopeDescriptor;
+import org.axonframework.messaging.Message;
+import org.axonframework.messaging.MetaData;
+import org.axonframework.messaging.ScopeAware;
+import org.axonframework.messaging.ScopeDescriptor;
+import org.axonframework.serialization.TestSerializer;
+import org.hsqldb.jdbc.JDBCDataSource;
+import org.junit.jupiter.api.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Stream;
+import javax.sql.DataSource;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class validating the {@link JdbcDeadlineManager}.
+ */
+class JdbcDeadlineManagerTest {
+
+    private static final ScopeDescriptor FIRST_SCOPE = new TestScopeDescriptor("aggregate", "first");
+    private static final ScopeDescriptor SECOND_SCOPE = new TestScopeDescriptor("aggregate", "second");
+    private static final int BATCH_SIZE = 10;
+
+    private final DeadlineSchema schema = DeadlineSchema.defaultSchema();
+    private final Map<Object, DeadlineMessage<?>> triggeredDeadlines = new ConcurrentHashMap<>();
+    private final Map<Object, ScopeDescriptor> triggeredScopes = new ConcurrentHashMap<>();
+
+    private DataSource dataSource;
+    private JdbcDeadlineManager testSubject;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        JDBCDataSource hsqlDataSource = new JDBCDataSource();
+        hsqlDataSource.setUrl("jdbc:hsqldb:mem:axontest");
+        hsqlDataSource.setUser("sa");
+        hsqlDataSource.setPassword("");
+        dataSource = hsqlDataSource;
+        execute("DROP TABLE IF EXISTS " + schema.deadlineTable());
+
+        ScopeAware scopeAware = new ScopeAware() {
+            @Override
+            public void send(Message<?> message, ScopeDescriptor scopeDescription) {
+                triggeredDeadlines.put(message.getPayload(), (DeadlineMessage<?>) message);
+                triggeredScopes.put(message.getPayload(), scopeDescription);
+            }
+
+            @Override
+            public boolean canResolve(ScopeDescriptor scopeDescription) {
+                return true;
+            }
+        };
+        testSubject = JdbcDeadlineManager.builder()
+                                         .scopeAwareProvider(scope -> Stream.of(scopeAware))
+                                         .connectionProvider(dataSource::getConnection)
+                                         .serializer(TestSerializer.JACKSON.getSerializer())
+                                         .executor(DirectExecutor.INSTANCE)
+                                         .pollInterval(Duration.ofMillis(10))
+                                         .batchSize(BATCH_SIZE)
+                                         // HSQLDB does not support SKIP LOCKED
+                                         .skipLockedRows(false)
+                                         .build();
+        testSubject.createSchema(GenericDeadlineTableFactory.INSTANCE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        testSubject.shutdown();
+    }
+
+    @Test
+    void scheduledDeadlineIsTriggeredAndRemoved() {
+        MetaData metaData = MetaData.with("key", "value");
+        testSubject.schedule(Duration.ofMillis(50),
+                             "deadline",
+                             new GenericDeadlineMessage<>("deadline", "payload", metaData),
+                             FIRST_SCOPE);
+
+        await().atMost(Duration.ofSeconds(2))
+               .untilAsserted(() -> assertTrue(triggeredDeadlines.containsKey("payload")));
+        DeadlineMessage<?> result = triggeredDeadlines.get("payload");
+        assertEquals("deadline", result.getDeadlineName());
+        assertEquals(metaData, result.getMetaData());
+        assertEquals(FIRST_SCOPE, triggeredScopes.get("payload"));
+        await().atMost(Duration.ofSeconds(1))
+               .untilAsserted(() -> assertEquals(0, countDeadlines()));
+    }
+
+    @Test
+    void scheduleStoresDeadlineInTable() {
+        String deadlineId = testSubject.schedule(Duration.ofMinutes(5), "deadline", "payload", FIRST_SCOPE);
+
+        assertEquals(1, countDeadlines());
+        assertEquals(1, countDeadlines(schema.deadlineIdentifierColumn() + " = '" + deadlineId + "'"));
+    }
+
+    @Test
+    void scheduleInThePastTriggersDeadline() {
+        testSubject.schedule(Instant.now().minusSeconds(60), "deadline", "past", FIRST_SCOPE);
+
+        await().atMost(Duration.ofSeconds(2))
+               .untilAsserted(() -> assertTrue(triggeredDeadlines.containsKey("past")));
+    }
+
+    @Test
+    void cancelScheduleRemovesOnlyTheMatchingDeadline() {
+        String cancelledId = testSubject.schedule(Duration.ofMinutes(5), "deadline", "cancelled", FIRST_SCOPE);
+        String otherNameId = testSubject.schedule(Duration.ofMinutes(5), "other", "otherName", FIRST_SCOPE);
+        testSubject.schedule(Duration.ofMinutes(5), "deadline", "remaining", FIRST_SCOPE);
+
+        testSubject.cancelSchedule("deadline", cancelledId);
+        testSubject.cancelSchedule("deadline", otherNameId);
+
+        assertEquals(2, countDeadlines());
+        assertEquals(0, countDeadlines(schema.deadlineIdentifierColumn() + " = '" + cancelledId + "'"));
+    }
+
+    @Test
+    void cancelAllRemovesAllDeadlinesWithTheGivenName() {
+        testSubject.schedule(Duration.ofMinutes(5), "deadline", "first", FIRST_SCOPE);
+        testSubject.schedule(Duration.ofMinutes(5), "deadline", "second", SECOND_SCOPE);
+        testSubject.schedule(Duration.ofMinutes(5), "other", "other", FIRST_SCOPE);
+
+        testSubject.cancelAll("deadline");
+
+        assertEquals(1, countDeadlines());
+        assertEquals(1, countDeadlines(schema.deadlineNameColumn() + " = 'other'"));
+    }
+
+    @Test
+    void cancelAllWithinScopeRemovesOnlyDeadlinesOfThatScope() {
+        testSubject.schedule(Duration.ofMillis(200), "deadline", "first", FIRST_SCOPE);
+        testSubject.schedule(Duration.ofMillis(200), "deadline", "second", SECOND_SCOPE);
+        testSubject.schedule(Duration.ofMillis(200), "other", "other", FIRST_SCOPE);
+
+        testSubject.cancelAllWithinScope("deadline", FIRST_SCOPE);
+
+        assertEquals(2, countDeadlines());
+        await().atMost(Duration.ofSeconds(2))
+               .untilAsserted(() -> assertEquals(new HashSet<>(Arrays.asList("second", "other")),
+                                                 triggeredDeadlines.keySet()));
+    }
+
+    @Test
+    void moreDueDeadlinesThanTheBatchSizeAreAllTriggered() {
+        int deadlineCount = BATCH_SIZE * 3 + 5;
+        for (int i = 0; i < deadlineCount; i++) {
+            testSubject.schedule(Instant.now().minusSeconds(1),
+                                 "deadline",
+                                 i,
+                                 new TestScopeDescriptor("aggregate", i % 4));
+        }
+
+        await().atMost(Duration.ofSeconds(5))
+               .untilAsserted(() -> assertEquals(deadlineCount, triggeredDeadlines.size()));
+        await().atMost(Duration.ofSeconds(1))
+               .untilAsserted(() -> assertEquals(0, countDeadlines()));
+    }
+
+    @Test
+    void selectDueDeadlinesLimitsTheBatchInTheQuery() throws SQLException {
+        for (int i = 0; i < BATCH_SIZE + 5; i++) {
+            testSubject.schedule(Duration.ofMinutes(5), "deadline", i, FIRST_SCOPE);
+        }
+        long later = Instant.now().plus(Duration.ofMinutes(10)).toEpochMilli();
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = testSubject.selectDueDeadlines(connection, later, later);
+                 ResultSet resultSet = statement.executeQuery()) {
+                int selected = 0;
+                while (resultSet.next()) {
+                    selected++;
+                }
+                assertEquals(0, statement.getMaxRows());
+                assertEquals(BATCH_SIZE, selected);
+            } finally {
+                connection.rollback();
+            }
+        }
+    }
+
+    @Test
+    void deadlinesClaimedByAnotherNodeAreOnlyTriggeredOnceTheClaimExpires() {
+        testSubject.schedule(Duration.ofMinutes(5), "deadline", "claimed", FIRST_SCOPE);
+        execute("UPDATE " + schema.deadlineTable() + " SET "
+                        + schema.triggerTimeColumn() + " = 0, "
+                        + schema.ownerColumn() + " = 'otherNode', "
+                        + schema.claimedAtColumn() + " = " + Instant.now().toEpochMilli());
+
+        await().pollDelay(Duration.ofMillis(200))
+               .untilAsserted(() -> assertTrue(triggeredDeadlines.isEmpty()));
+
+        execute("UPDATE " + schema.deadlineTable() + " SET " + schema.claimedAtColumn() + " = 0");
+
+        await().atMost(Duration.ofSeconds(2))
+               .untilAsserted(() -> assertTrue(triggeredDeadlines.containsKey("claimed")));
+    }
+
+    @Test
+    void shutdownLeavesProvidedExecutorServiceRunning() {
+        ExecutorService executorService = mock(ExecutorService.class);
+        JdbcDeadlineManager manager = JdbcDeadlineManager.builder()
+                                                         .scopeAwareProvider(scope -> Stream.empty())
+                                                         .connectionProvider(dataSource::getConnection)
+                                                         .serializer(TestSerializer.JACKSON.getSerializer())
+                                                         .executor(executorService)
+                                                         .build();
+
+        manager.shutdown();
+
+        verify(executorService, never()).shutdown();
+    }
+
+    @Test
+    void buildWithoutScopeAwareProviderThrowsAxonConfigurationException() {
+        JdbcDeadlineManager.Builder builderTestSubject =
+                JdbcDeadlineManager.builder()
+                                   .connectionProvider(dataSource::getConnection)
+                                   .serializer(TestSerializer.JACKSON.getSerializer());
+
+        assertThrows(AxonConfigurationException.class, builderTestSubject::build);
+    }
+
+    @Test
+    void buildWithoutConnectionProviderThrowsAxonConfigurationException() {
+        JdbcDeadlineManager.Builder builderTestSubject =
+                JdbcDeadlineManager.builder()
+                                   .scopeAwareProvider(scope -> Stream.empty())
+                                   .serializer(TestSerializer.JACKSON.getSerializer());
+
+        assertThrows(AxonConfigurationException.class, builderTestSubject::build);
+    }
+
+    @Test
+    void buildWithoutSerializerThrowsAxonConfigurationException() {
+        JdbcDeadlineManager.Builder builderTestSubject =
+                JdbcDeadlineManager.builder()
+                                   .scopeAwareProvider(scope -> Stream.empty())
+                                   .connectionProvider(dataSource::getConnection);
+
+        assertThrows(AxonConfigurationException.class, builderTestSubject::build);
+    }
+
+    @Test
+    void buildWithNonPositiveBatchSizeThrowsAxonConfigurationException() {
+        JdbcDeadlineManager.Builder builderTestSubject = JdbcDeadlineManager.builder();
+
+        assertThrows(AxonConfigurationException.class, () -> builderTestSubject.batchSize(0));
+    }
+
+    @Test
+    void buildWithNonPositivePollIntervalThrowsAxonConfigurationException() {
+        JdbcDeadlineManager.Builder builderTestSubject = JdbcDeadlineManager.builder();
+
+        assertThrows(AxonConfigurationException.class, () -> builderTestSubject.pollInterval(Duration.ZERO));
+    }
+
+    @Test
+    void buildWithNonPositiveClaimTimeoutThrowsAxonConfigurationException() {
+        JdbcDeadlineManager.Builder builderTestSubject = JdbcDeadlineManager.builder();
+
+        assertThrows(AxonConfigurationException.class, () -> builderTestSubject.claimTimeout(Duration.ZERO));
+    }
+
+    private int countDeadlines() {
+        return countDeadlines("1 = 1");
+    }
+
+    private int countDeadlines(String condition) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(
+                     "SELECT COUNT(*) FROM " + schema.deadlineTable() + " WHERE " + condition
+             )) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to count the scheduled deadlines", e);
+        }
+    }
+
+    private void execute(String sql) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.executeUpdate(sql);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to execute [" + sql + "]", e);
+        }
+    }
+}
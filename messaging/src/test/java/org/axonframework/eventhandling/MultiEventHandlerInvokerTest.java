@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2020. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -89,6 +89,14 @@ void handleThrowsExceptionIfDelegatesThrowAnException() throws Exception {
         assertThrows(RuntimeException.class, () -> testSubject.handle(testEventMessage, testSegment));
     }
 
+    @Test
+    void segmentClaimedIsForwardedToAllDelegates() {
+        testSubject.segmentClaimed(testSegment);
+
+        verify(mockedEventHandlerInvokerOne).segmentClaimed(testSegment);
+        verify(mockedEventHandlerInvokerTwo).segmentClaimed(testSegment);
+    }
+
     @Test
     void supportResetWhenAllSupport() {
         when(mockedEventHandlerInvokerOne.supportsReset()).thenReturn(true);
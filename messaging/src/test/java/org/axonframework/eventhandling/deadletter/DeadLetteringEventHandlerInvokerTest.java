@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2023. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -48,6 +48,7 @@
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 
+import static java.util.Collections.singletonList;
 import static org.axonframework.utils.EventTestUtils.createEvent;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -313,6 +314,69 @@ void cacheKeepsTrackEnqueuedLetters() throws Exception {
         verify(queue, times(1)).enqueueIfPresent(eq(TEST_SEQUENCE_ID), any());
     }
 
+    @Test
+    void filterSkipsQueueForClaimedSegmentWhenDlqEmpty() throws Exception {
+        setTestSubject(createTestSubject(DeadLetteringEventHandlerInvoker.Builder::enableSequenceIdentifierFilter));
+        doReturn(0L).when(queue).amountOfSequences();
+
+        testSubject.segmentClaimed(Segment.ROOT_SEGMENT);
+        testSubject.handle(TEST_EVENT, Segment.ROOT_SEGMENT);
+
+        verify(handler).handle(TEST_EVENT);
+        verify(queue, never()).deadLetters();
+        verify(queue, never()).enqueueIfPresent(any(), any());
+        verify(queue, never()).enqueue(any(), any());
+    }
+
+    @Test
+    void filterLoadsSequenceIdentifiersFromQueueWhenSegmentIsClaimed() throws Exception {
+        setTestSubject(createTestSubject(DeadLetteringEventHandlerInvoker.Builder::enableSequenceIdentifierFilter));
+        doReturn(1L).when(queue).amountOfSequences();
+        doReturn(singletonList(singletonList(TEST_DEAD_LETTER))).when(queue).deadLetters();
+        when(queue.enqueueIfPresent(any(), any())).thenReturn(true);
+        DomainEventMessage<?> otherEvent = createEvent("other", 0);
+
+        testSubject.segmentClaimed(Segment.ROOT_SEGMENT);
+        testSubject.handle(nextMessage(TEST_EVENT), Segment.ROOT_SEGMENT);
+        testSubject.handle(otherEvent, Segment.ROOT_SEGMENT);
+
+        verify(queue).enqueueIfPresent(eq(TEST_SEQUENCE_ID), any());
+        verify(queue, never()).enqueueIfPresent(eq("other"), any());
+        verify(handler).handle(otherEvent);
+        verify(transactionManager, times(2)).startTransaction();
+    }
+
+    @Test
+    void filterKeepsTrackOfEnqueuedLetters() throws Exception {
+        setTestSubject(createTestSubject(DeadLetteringEventHandlerInvoker.Builder::enableSequenceIdentifierFilter));
+        doReturn(0L).when(queue).amountOfSequences();
+        RuntimeException testCause = new RuntimeException("some-cause");
+        doThrow(testCause).when(handler).handle(TEST_EVENT);
+        when(enqueuePolicy.decide(any(), any())).thenReturn(Decisions.enqueue(testCause));
+        when(queue.enqueueIfPresent(any(), any())).thenReturn(true);
+
+        testSubject.segmentClaimed(Segment.ROOT_SEGMENT);
+        testSubject.handle(TEST_EVENT, Segment.ROOT_SEGMENT);
+        testSubject.handle(nextMessage(TEST_EVENT), Segment.ROOT_SEGMENT);
+
+        verify(queue).enqueue(eq(TEST_SEQUENCE_ID), any());
+        verify(queue).enqueueIfPresent(eq(TEST_SEQUENCE_ID), any());
+    }
+
+    @Test
+    void filterIsNotUsedForSegmentsThatAreNotClaimed() throws Exception {
+        setTestSubject(createTestSubject(DeadLetteringEventHandlerInvoker.Builder::enableSequenceIdentifierFilter));
+        doReturn(0L).when(queue).amountOfSequences();
+        when(queue.enqueueIfPresent(any(), any())).thenReturn(false);
+
+        testSubject.handle(TEST_EVENT, Segment.ROOT_SEGMENT);
+        testSubject.segmentClaimed(Segment.ROOT_SEGMENT);
+        testSubject.segmentReleased(Segment.ROOT_SEGMENT);
+        testSubject.handle(nextMessage(TEST_EVENT), Segment.ROOT_SEGMENT);
+
+        verify(queue, times(2)).enqueueIfPresent(eq(TEST_SEQUENCE_ID), any());
+    }
+
 
     @Test
     void handleMethodDoesNotEnqueueForShouldNotEnqueueDecisionWhenDelegateThrowsAnException() throws Exception {
@@ -515,6 +579,18 @@ void processLettersMatchingSequenceReturnsTrueWhenFirstInvocationReturnsTrue() {
         assertTrue(filterInvoked.get());
     }
 
+    @Test
+    void processSequencesDelegatesToQueueOutsideOfATransaction() {
+        Predicate<DeadLetter<? extends EventMessage<?>>> testFilter = letter -> true;
+        when(queue.processSequences(any(), any(), anyInt())).thenReturn(3);
+
+        int result = testSubject.processSequences(testFilter, 5);
+
+        assertEquals(3, result);
+        verify(queue).processSequences(eq(testFilter), any(), eq(5));
+        verify(transactionManager, never()).startTransaction();
+    }
+
     @Test
     void buildWithNullDeadLetterQueueThrowsAxonConfigurationException() {
         DeadLetteringEventHandlerInvoker.Builder builderTestSubject = DeadLetteringEventHandlerInvoker.builder();
@@ -566,6 +642,23 @@ void buildWithNullListenerInvocationErrorHandlerThrowsAxonConfigurationException
         assertThrows(AxonConfigurationException.class, () -> builderTestSubject.listenerInvocationErrorHandler(null));
     }
 
+    @Test
+    void buildWithNonPositiveSequenceIdentifierFilterSizeThrowsAxonConfigurationException() {
+        DeadLetteringEventHandlerInvoker.Builder builderTestSubject = DeadLetteringEventHandlerInvoker.builder();
+
+        assertThrows(AxonConfigurationException.class, () -> builderTestSubject.sequenceIdentifierFilterSize(0));
+    }
+
+    @Test
+    void buildWithInvalidSequenceIdentifierFilterFalsePositiveRateThrowsAxonConfigurationException() {
+        DeadLetteringEventHandlerInvoker.Builder builderTestSubject = DeadLetteringEventHandlerInvoker.builder();
+
+        assertThrows(AxonConfigurationException.class,
+                     () -> builderTestSubject.sequenceIdentifierFilterFalsePositiveRate(0));
+        assertThrows(AxonConfigurationException.class,
+                     () -> builderTestSubject.sequenceIdentifierFilterFalsePositiveRate(1));
+    }
+
     // This stub TransactionManager is used for spying.
     private static class StubTransactionManager implements TransactionManager {
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2023. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -145,6 +145,10 @@ protected boolean identifierCacheEnabled() {
         return false;
     }
 
+    protected boolean identifierFilterEnabled() {
+        return false;
+    }
+
     @BeforeEach
     void setUp() {
         transactionManager = getTransactionManager();
@@ -179,6 +183,9 @@ void setUp() {
         if (identifierCacheEnabled()) {
             invokerBuilder.enableSequenceIdentifierCache();
         }
+        if (identifierFilterEnabled()) {
+            invokerBuilder.enableSequenceIdentifierFilter();
+        }
         deadLetteringInvoker = invokerBuilder.build();
 
         eventSource = new InMemoryStreamableEventSource();
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2010-2024. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.eventhandling.deadletter;
+
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class validating the {@link SequenceIdentifierFilter}.
+ */
+class SequenceIdentifierFilterTest {
+
+    private static final int EXPECTED_IDENTIFIERS = 100;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private SequenceIdentifierFilter testSubject;
+
+    @BeforeEach
+    void setUp() {
+        testSubject = new SequenceIdentifierFilter(EXPECTED_IDENTIFIERS, FALSE_POSITIVE_RATE);
+    }
+
+    @Test
+    void emptyFilterDoesNotContainAnyIdentifier() {
+        assertFalse(testSubject.mightContain(UUID.randomUUID().toString()));
+        assertFalse(testSubject.mightContain(42L));
+    }
+
+    @Test
+    void addedIdentifiersMightBeContained() {
+        String sequenceIdentifier = UUID.randomUUID().toString();
+
+        testSubject.add(sequenceIdentifier);
+
+        assertTrue(testSubject.mightContain(sequenceIdentifier));
+        assertTrue(testSubject.mightContain(new String(sequenceIdentifier)));
+    }
+
+    @Test
+    void filterNeverReturnsFalseNegativesWhenGrowingBeyondExpectedIdentifiers() {
+        List<String> added = randomIdentifiers(EXPECTED_IDENTIFIERS * 20);
+
+        added.forEach(testSubject::add);
+
+        added.forEach(sequenceIdentifier -> assertTrue(testSubject.mightContain(sequenceIdentifier)));
+    }
+
+    @Test
+    void falsePositiveRateStaysBoundedWhenGrowingBeyondExpectedIdentifiers() {
+        randomIdentifiers(EXPECTED_IDENTIFIERS * 20).forEach(testSubject::add);
+
+        long falsePositives = randomIdentifiers(10_000).stream()
+                                                       .filter(testSubject::mightContain)
+                                                       .count();
+
+        // the combined rate of all grown slices stays below twice the configured rate, leaving ample margin
+        assertTrue(falsePositives < 10_000 * FALSE_POSITIVE_RATE * 4,
+                   "Too many false positives: " + falsePositives);
+    }
+
+    private static List<String> randomIdentifiers(int amount) {
+        return IntStream.range(0, amount)
+                        .mapToObj(i -> UUID.randomUUID().toString())
+                        .collect(Collectors.toList());
+    }
+}
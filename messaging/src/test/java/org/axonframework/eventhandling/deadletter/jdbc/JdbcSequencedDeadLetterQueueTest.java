@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2023. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,13 +17,16 @@
 package org.axonframework.eventhandling.deadletter.jdbc;
 
 import org.axonframework.common.AxonConfigurationException;
+import org.axonframework.common.DirectExecutor;
 import org.axonframework.common.IdentifierFactory;
 import org.axonframework.common.jdbc.ConnectionProvider;
 import org.axonframework.common.transaction.NoTransactionManager;
 import org.axonframework.common.transaction.Transaction;
 import org.axonframework.common.transaction.TransactionManager;
 import org.axonframework.eventhandling.EventMessage;
+import org.axonframework.messaging.deadletter.Cause;
 import org.axonframework.messaging.deadletter.DeadLetter;
+import org.axonframework.messaging.deadletter.Decisions;
 import org.axonframework.messaging.deadletter.GenericDeadLetter;
 import org.axonframework.messaging.deadletter.SequencedDeadLetterQueue;
 import org.axonframework.messaging.deadletter.SequencedDeadLetterQueueTest;
@@ -40,6 +43,19 @@
 import java.sql.SQLException;
 import java.time.Clock;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nonnull;
 import javax.sql.DataSource;
 
 import static org.axonframework.common.DateTimeUtils.formatInstant;
@@ -207,6 +223,147 @@ void invokingEvictWithNonJdbcDeadLetterThrowsWrongDeadLetterTypeException() {
     }
 
     @SuppressWarnings("DataFlowIssue")
+    @Test
+    void processSequencesProcessesEveryClaimedSequenceInOrder() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            JdbcSequencedDeadLetterQueue<EventMessage<?>> testSubject = bulkProcessingQueue(executor);
+            Map<String, List<String>> expected = new HashMap<>();
+            for (String sequenceId : Arrays.asList("first", "second", "third")) {
+                for (int i = 0; i < 5; i++) {
+                    EventMessage<?> event = generateEvent();
+                    testSubject.enqueue(sequenceId, new GenericDeadLetter<>(sequenceId, event, generateThrowable()));
+                    expected.computeIfAbsent(sequenceId, id -> new ArrayList<>()).add(event.getIdentifier());
+                }
+            }
+            Map<String, List<String>> processed = new ConcurrentHashMap<>();
+
+            int result = testSubject.processSequences(letter -> true, letter -> {
+                String sequenceId = ((JdbcDeadLetter<?>) letter).getSequenceIdentifier();
+                processed.computeIfAbsent(sequenceId, id -> new CopyOnWriteArrayList<>())
+                         .add(letter.message().getIdentifier());
+                return Decisions.evict();
+            }, 10);
+
+            assertEquals(3, result);
+            assertEquals(expected, processed);
+            assertEquals(0, testSubject.size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void processSequencesRequeuesFailedLetterAndLeavesRemainderOfItsSequence() {
+        JdbcSequencedDeadLetterQueue<EventMessage<?>> testSubject = bulkProcessingQueue(DirectExecutor.INSTANCE);
+        List<EventMessage<?>> failingSequence = Arrays.asList(generateEvent(), generateEvent(), generateEvent());
+        failingSequence.forEach(event -> testSubject.enqueue(
+                "failing", new GenericDeadLetter<>("failing", event, generateThrowable())
+        ));
+        testSubject.enqueue("succeeding", new GenericDeadLetter<>("succeeding", generateEvent(), generateThrowable()));
+        Throwable requeueCause = generateThrowable();
+
+        int result = testSubject.processSequences(
+                letter -> true,
+                letter -> letter.message().getIdentifier().equals(failingSequence.get(1).getIdentifier())
+                        ? Decisions.requeue(requeueCause)
+                        : Decisions.evict(),
+                10
+        );
+
+        assertEquals(1, result);
+        assertFalse(testSubject.contains("succeeding"));
+        assertEquals(2, testSubject.sequenceSize("failing"));
+        Iterator<DeadLetter<? extends EventMessage<?>>> remainder =
+                testSubject.deadLetterSequence("failing").iterator();
+        DeadLetter<? extends EventMessage<?>> requeued = remainder.next();
+        assertEquals(failingSequence.get(1).getIdentifier(), requeued.message().getIdentifier());
+        assertEquals(requeueCause.getMessage(), requeued.cause().map(Cause::message).orElse(null));
+        assertEquals(failingSequence.get(2).getIdentifier(), remainder.next().message().getIdentifier());
+        // the requeued letter is no longer claimed
+        assertTrue(testSubject.process(letter -> Decisions.evict()));
+    }
+
+    @Test
+    void processSequencesClaimsNoMoreThanMaxSequences() {
+        JdbcSequencedDeadLetterQueue<EventMessage<?>> testSubject = bulkProcessingQueue(DirectExecutor.INSTANCE);
+        for (String sequenceId : Arrays.asList("first", "second", "third")) {
+            testSubject.enqueue(sequenceId, new GenericDeadLetter<>(sequenceId, generateEvent(), generateThrowable()));
+        }
+
+        assertEquals(2, testSubject.processSequences(letter -> true, letter -> Decisions.evict(), 2));
+        assertEquals(1, testSubject.amountOfSequences());
+        assertEquals(0, testSubject.processSequences(letter -> false, letter -> Decisions.evict(), 2));
+        assertEquals(1, testSubject.amountOfSequences());
+    }
+
+    @Test
+    void processSequencesUsesBulkOperationsOfStatementFactory() {
+        AtomicInteger claims = new AtomicInteger();
+        AtomicInteger evictions = new AtomicInteger();
+        DefaultDeadLetterStatementFactory.Builder<EventMessage<?>> factoryBuilder =
+                DefaultDeadLetterStatementFactory.<EventMessage<?>>builder()
+                                                 .schema(schema)
+                                                 .genericSerializer(TestSerializer.JACKSON.getSerializer())
+                                                 .eventSerializer(TestSerializer.JACKSON.getSerializer());
+        DeadLetterStatementFactory<EventMessage<?>> customFactory =
+                new DefaultDeadLetterStatementFactory<EventMessage<?>>(factoryBuilder) {
+                    @Override
+                    public int[] bulkClaim(@Nonnull Connection connection,
+                                           @Nonnull List<String> identifiers,
+                                           @Nonnull Instant current,
+                                           @Nonnull Instant processingStartedLimit) throws SQLException {
+                        claims.addAndGet(identifiers.size());
+                        return super.bulkClaim(connection, identifiers, current, processingStartedLimit);
+                    }
+
+                    @Override
+                    public int bulkEvict(@Nonnull Connection connection,
+                                         @Nonnull List<String> identifiers) throws SQLException {
+                        evictions.addAndGet(identifiers.size());
+                        return super.bulkEvict(connection, identifiers);
+                    }
+                };
+        JdbcSequencedDeadLetterQueue<EventMessage<?>> testSubject =
+                JdbcSequencedDeadLetterQueue.builder()
+                                            .processingGroup(TEST_PROCESSING_GROUP)
+                                            .connectionProvider(dataSource::getConnection)
+                                            .schema(schema)
+                                            .statementFactory(customFactory)
+                                            .transactionManager(transactionManager)
+                                            .genericSerializer(TestSerializer.JACKSON.getSerializer())
+                                            .eventSerializer(TestSerializer.JACKSON.getSerializer())
+                                            .processingExecutor(DirectExecutor.INSTANCE)
+                                            .build();
+        for (String sequenceId : Arrays.asList("first", "second")) {
+            testSubject.enqueue(sequenceId, new GenericDeadLetter<>(sequenceId, generateEvent(), generateThrowable()));
+        }
+
+        assertEquals(2, testSubject.processSequences(letter -> true, letter -> Decisions.evict(), 10));
+        assertEquals(0, testSubject.size());
+        assertEquals(2, claims.get());
+        assertEquals(2, evictions.get());
+    }
+
+    private JdbcSequencedDeadLetterQueue<EventMessage<?>> bulkProcessingQueue(Executor executor) {
+        return JdbcSequencedDeadLetterQueue.builder()
+                                           .processingGroup(TEST_PROCESSING_GROUP)
+                                           .connectionProvider(dataSource::getConnection)
+                                           .schema(schema)
+                                           .transactionManager(transactionManager)
+                                           .genericSerializer(TestSerializer.JACKSON.getSerializer())
+                                           .eventSerializer(TestSerializer.JACKSON.getSerializer())
+                                           .pageSize(2)
+                                           .processingExecutor(executor)
+                                           .build();
+    }
+
+    @Test
+    void buildWithNullProcessingExecutorThrowsAxonConfigurationException() {
+        JdbcSequencedDeadLetterQueue.Builder<EventMessage<?>> testBuilder = JdbcSequencedDeadLetterQueue.builder();
+        assertThrows(AxonConfigurationException.class, () -> testBuilder.processingExecutor(null));
+    }
+
     @Test
     void buildWithNullProcessingGroupThrowsAxonConfigurationException() {
         JdbcSequencedDeadLetterQueue.Builder<EventMessage<?>> testBuilder = JdbcSequencedDeadLetterQueue.builder();
@@ -204,6 +204,36 @@ void startingProcessorClaimsAllAvailableTokens() {
         startAndAssertProcessorClaimsAllTokens();
     }
 
+    @Test
+    void segmentClaimedIsInvokedOnInvokerBeforeEventsOfTheSegmentAreHandled() throws Exception {
+        List<Integer> claimedSegments = new CopyOnWriteArrayList<>();
+        List<Integer> handledBeforeClaim = new CopyOnWriteArrayList<>();
+        CountDownLatch countDownLatch = new CountDownLatch(8);
+        mockEventHandlerInvoker();
+        doAnswer(answer -> {
+            claimedSegments.add(answer.getArgument(0, Segment.class).getSegmentId());
+            // a failing preparation should not prevent the segment from being processed
+            throw new MockException("Simulated failure");
+        }).when(stubEventHandler).segmentClaimed(any());
+        doAnswer(answer -> {
+            int segmentId = answer.getArgument(1, Segment.class).getSegmentId();
+            if (!claimedSegments.contains(segmentId)) {
+                handledBeforeClaim.add(segmentId);
+            }
+            countDownLatch.countDown();
+            return null;
+        }).when(stubEventHandler).handle(any(), any());
+
+        IntStream.range(0, 8)
+                 .mapToObj(GenericEventMessage::new)
+                 .forEach(stubMessageSource::publishMessage);
+        testSubject.start();
+
+        assertTrue(countDownLatch.await(5, TimeUnit.SECONDS));
+        assertTrue(handledBeforeClaim.isEmpty(), "Events were handled before their segment was claimed");
+        verify(stubEventHandler, times(8)).segmentClaimed(any(Segment.class));
+    }
+
     private void startAndAssertProcessorClaimsAllTokens() {
         List<EventMessage<Integer>> events = IntStream.range(0, 100)
                                                       .mapToObj(GenericEventMessage::new)
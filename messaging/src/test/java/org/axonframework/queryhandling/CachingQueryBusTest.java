@@ -0,0 +1,308 @@
+/*
+ * Copyright (c) 2010-2024. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.queryhandling;
+
+import org.axonframework.common.AxonConfigurationException;
+import org.axonframework.common.caching.JCacheAdapter;
+import org.axonframework.messaging.GenericMessage;
+import org.axonframework.messaging.MetaData;
+import org.axonframework.messaging.responsetypes.ResponseType;
+import org.axonframework.messaging.responsetypes.ResponseTypes;
+import org.axonframework.messaging.unitofwork.DefaultUnitOfWork;
+import org.axonframework.messaging.unitofwork.UnitOfWork;
+import org.axonframework.utils.MockException;
+import org.junit.jupiter.api.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.configuration.MutableConfiguration;
+
+import static org.axonframework.messaging.GenericMessage.asMessage;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class validating the {@link CachingQueryBus}.
+ */
+class CachingQueryBusTest {
+
+    private static final String QUERY_NAME = "findBalance";
+    private static final ResponseType<String> RESPONSE_TYPE = ResponseTypes.instanceOf(String.class);
+
+    private CacheManager cacheManager;
+    private JCacheAdapter cache;
+    private SimpleQueryBus delegate;
+    private AtomicInteger handlerInvocations;
+    private Clock clock;
+
+    private CachingQueryBus testSubject;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = Caching.getCachingProvider().getCacheManager();
+        // entries are stored by value, requiring cache keys and responses to be serializable
+        MutableConfiguration<Object, Object> configuration =
+                new MutableConfiguration<>().setTypes(Object.class, Object.class).setStoreByValue(true);
+        cache = new JCacheAdapter(cacheManager.createCache("queryResponses", configuration));
+
+        delegate = SimpleQueryBus.builder().build();
+        handlerInvocations = new AtomicInteger();
+        //noinspection resource
+        delegate.subscribe(QUERY_NAME, String.class, query -> {
+            int invocation = handlerInvocations.incrementAndGet();
+            if ("failing".equals(query.getPayload())) {
+                throw new MockException();
+            }
+            return query.getPayload() + "-" + invocation;
+        });
+
+        clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(0L);
+        testSubject = CachingQueryBus.builder()
+                                     .delegate(delegate)
+                                     .cache(cache)
+                                     .clock(clock)
+                                     .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cacheManager.close();
+    }
+
+    @Test
+    void identicalQueriesAreAnsweredFromTheCache() throws Exception {
+        assertEquals("account-1", query("account"));
+        assertEquals("account-1", query("account"));
+        assertEquals("other-2", query("other"));
+
+        assertEquals(2, handlerInvocations.get());
+    }
+
+    @Test
+    void queriesNotMatchingTheCacheablePredicateAreNotCached() throws Exception {
+        testSubject = CachingQueryBus.builder()
+                                     .delegate(delegate)
+                                     .cache(cache)
+                                     .cacheableQueries(query -> !"account".equals(query.getPayload()))
+                                     .build();
+
+        assertEquals("account-1", query("account"));
+        assertEquals("account-2", query("account"));
+    }
+
+    @Test
+    void selectedMetaDataIsPartOfTheCacheKey() throws Exception {
+        testSubject = CachingQueryBus.builder()
+                                     .delegate(delegate)
+                                     .cache(cache)
+                                     .cacheKeyMetaDataKeys("tenant")
+                                     .build();
+
+        assertEquals("account-1", query("account", MetaData.with("tenant", "a").and("traceId", "1")));
+        assertEquals("account-1", query("account", MetaData.with("tenant", "a").and("traceId", "2")));
+        assertEquals("account-2", query("account", MetaData.with("tenant", "b")));
+    }
+
+    @Test
+    void dispatchInterceptorsAreInvokedBeforeTheCacheIsConsulted() throws Exception {
+        AtomicReference<String> tenant = new AtomicReference<>("a");
+        AtomicInteger interceptions = new AtomicInteger();
+        testSubject = CachingQueryBus.builder()
+                                     .delegate(delegate)
+                                     .cache(cache)
+                                     .cacheKeyMetaDataKeys("tenant")
+                                     .build();
+        //noinspection resource
+        testSubject.registerDispatchInterceptor(queries -> (index, query) -> {
+            interceptions.incrementAndGet();
+            return query.andMetaData(MetaData.with("tenant", tenant.get()));
+        });
+
+        assertEquals("account-1", query("account"));
+        assertEquals("account-1", query("account"));
+        tenant.set("b");
+        assertEquals("account-2", query("account"));
+
+        assertEquals(3, interceptions.get());
+    }
+
+    @Test
+    void exceptionalResponsesAreNotCached() throws Exception {
+        QueryMessage<String, String> query = new GenericQueryMessage<>("failing", QUERY_NAME, RESPONSE_TYPE);
+
+        assertTrue(testSubject.query(query).get().isExceptional());
+        assertTrue(testSubject.query(query).get().isExceptional());
+
+        assertEquals(2, handlerInvocations.get());
+    }
+
+    @Test
+    void cachedResponsesExpireAfterTheirTimeToLive() throws Exception {
+        testSubject = CachingQueryBus.builder()
+                                     .delegate(delegate)
+                                     .cache(cache)
+                                     .clock(clock)
+                                     .timeToLive(Duration.ofSeconds(10))
+                                     .build();
+
+        assertEquals("account-1", query("account"));
+        when(clock.millis()).thenReturn(9_999L);
+        assertEquals("account-1", query("account"));
+        when(clock.millis()).thenReturn(10_000L);
+        assertEquals("account-2", query("account"));
+    }
+
+    @Test
+    void leastRecentlyUsedResponseIsEvictedWhenMaximumEntriesIsExceeded() throws Exception {
+        testSubject = CachingQueryBus.builder()
+                                     .delegate(delegate)
+                                     .cache(cache)
+                                     .maximumEntries(2)
+                                     .build();
+
+        assertEquals("first-1", query("first"));
+        assertEquals("second-2", query("second"));
+        assertEquals("first-1", query("first"));
+        assertEquals("third-3", query("third"));
+
+        assertEquals("first-1", query("first"));
+        assertEquals("third-3", query("third"));
+        assertEquals("second-4", query("second"));
+    }
+
+    @Test
+    void invalidateEvictsMatchingResponses() throws Exception {
+        query("account");
+        query("other");
+
+        testSubject.invalidate(QUERY_NAME, "account");
+
+        assertEquals("account-3", query("account"));
+        assertEquals("other-2", query("other"));
+
+        testSubject.invalidateAll();
+
+        assertEquals("other-4", query("other"));
+    }
+
+    @Test
+    void emittedUpdatesInvalidateResponsesOfMatchingQueries() throws Exception {
+        query("account");
+        query("other");
+
+        testSubject.queryUpdateEmitter().emit(String.class, "account"::equals, "update");
+
+        assertEquals("account-3", query("account"));
+        assertEquals("other-2", query("other"));
+
+        testSubject.queryUpdateEmitter().emitByKey(QUERY_NAME, "other", "update");
+
+        assertEquals("other-4", query("other"));
+    }
+
+    @Test
+    void emittedUpdatesInvalidateResponsesAfterTheUnitOfWorkCommits() throws Exception {
+        query("account");
+
+        UnitOfWork<?> unitOfWork = DefaultUnitOfWork.startAndGet(asMessage("event"));
+        testSubject.queryUpdateEmitter().emitByKey(QUERY_NAME, "account", "update");
+        assertEquals("account-1", query("account"));
+        unitOfWork.commit();
+
+        assertEquals("account-2", query("account"));
+    }
+
+    @Test
+    void updatesEmittedThroughTheEmitterOfTheDelegateInvalidateResponsesOfMatchingQueries() throws Exception {
+        query("account");
+        query("other");
+
+        delegate.queryUpdateEmitter().emitByQueryName(QUERY_NAME, "account"::equals, "update");
+
+        assertEquals("account-3", query("account"));
+        assertEquals("other-2", query("other"));
+    }
+
+    @Test
+    void responsesOfQueriesUpdatedDuringHandlingAreNotCached() throws Exception {
+        //noinspection resource
+        delegate.subscribe("updating", String.class, query -> {
+            int invocation = handlerInvocations.incrementAndGet();
+            delegate.queryUpdateEmitter().emitByKey("updating", query.getPayload(), "update");
+            return query.getPayload() + "-" + invocation;
+        });
+        QueryMessage<String, String> updatingQuery = new GenericQueryMessage<>("account", "updating", RESPONSE_TYPE);
+
+        assertEquals("account-1", testSubject.query(updatingQuery).get().getPayload());
+        assertEquals("account-2", testSubject.query(updatingQuery).get().getPayload());
+
+        //noinspection resource
+        delegate.subscribe("invalidating", String.class, query -> {
+            int invocation = handlerInvocations.incrementAndGet();
+            testSubject.invalidate(QUERY_NAME, "unrelated");
+            return query.getPayload() + "-" + invocation;
+        });
+        QueryMessage<String, String> invalidatingQuery =
+                new GenericQueryMessage<>("account", "invalidating", RESPONSE_TYPE);
+
+        assertEquals("account-3", testSubject.query(invalidatingQuery).get().getPayload());
+        assertEquals("account-3", testSubject.query(invalidatingQuery).get().getPayload());
+    }
+
+    @Test
+    void cachedQueriesShareASingleUpdateListenerPerQueryName() throws Exception {
+        QueryUpdateEmitter emitter = spy(SimpleQueryUpdateEmitter.builder().build());
+        testSubject = CachingQueryBus.builder()
+                                     .delegate(delegate)
+                                     .cache(cache)
+                                     .queryUpdateEmitter(emitter)
+                                     .build();
+
+        query("account");
+        query("other");
+        query("third");
+
+        verify(emitter).registerUpdateListener(eq(QUERY_NAME), any());
+        assertTrue(emitter.activeSubscriptions().isEmpty());
+
+        emitter.emitByKey(QUERY_NAME, "other", "update");
+
+        assertEquals("account-1", query("account"));
+        assertEquals("other-4", query("other"));
+    }
+
+    @Test
+    void buildWithoutDelegateOrCacheThrowsAxonConfigurationException() {
+        assertThrows(AxonConfigurationException.class, () -> CachingQueryBus.builder().cache(cache).build());
+        assertThrows(AxonConfigurationException.class, () -> CachingQueryBus.builder().delegate(delegate).build());
+    }
+
+    private String query(String payload) throws Exception {
+        return query(payload, MetaData.emptyInstance());
+    }
+
+    private String query(String payload, MetaData metaData) throws Exception {
+        QueryMessage<String, String> query =
+                new GenericQueryMessage<>(new GenericMessage<>(payload, metaData), QUERY_NAME, RESPONSE_TYPE);
+        return testSubject.query(query).get().getPayload();
+    }
+}
@@ -28,6 +28,7 @@
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -294,6 +295,28 @@ void subscriptionQuery() {
         assertEquals(MetaData.emptyInstance(), result.getMetaData());
     }
 
+    @Test
+    void subscriptionQueryWithConflationPolicyAttachesThePolicyAsMetaData() {
+        when(mockBus.subscriptionQuery(any(), anyInt()))
+                .thenReturn(new DefaultSubscriptionQueryResult<>(Mono.empty(), Flux.empty(), () -> true));
+        UpdateConflationPolicy expectedPolicy = UpdateConflationPolicy.keyedLatest(Duration.ofMillis(250));
+
+        testSubject.subscriptionQuery("subscription", instanceOf(String.class), instanceOf(String.class),
+                                      expectedPolicy);
+
+        //noinspection unchecked
+        ArgumentCaptor<SubscriptionQueryMessage<String, String, String>> queryMessageCaptor =
+                ArgumentCaptor.forClass(SubscriptionQueryMessage.class);
+
+        verify(mockBus).subscriptionQuery(queryMessageCaptor.capture(), anyInt());
+
+        SubscriptionQueryMessage<String, String, String> result = queryMessageCaptor.getValue();
+        assertEquals("subscription", result.getPayload());
+        assertEquals(String.class.getName(), result.getQueryName());
+        assertEquals(expectedPolicy.asMetaData(), result.getMetaData());
+        assertEquals(expectedPolicy, UpdateConflationPolicy.fromMetaData(result.getMetaData()));
+    }
+
     @Test
     void subscriptionQuerySpecifyingQueryName() {
         String expectedQueryName = "myQueryName";
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2010-2024. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.queryhandling;
+
+import org.axonframework.messaging.MetaData;
+import org.axonframework.messaging.responsetypes.ResponseTypes;
+import org.axonframework.messaging.unitofwork.DefaultUnitOfWork;
+import org.axonframework.messaging.unitofwork.UnitOfWork;
+import org.junit.jupiter.api.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class validating the {@link QueryDeadline} and the {@link QueryDeadlineDispatchInterceptor}.
+ */
+class QueryDeadlineTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T10:00:00Z");
+
+    private final Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+
+    @Test
+    void deadlineIsStoredInMetaData() {
+        QueryDeadline deadline = QueryDeadline.within(Duration.ofSeconds(5), clock);
+
+        MetaData metaData = deadline.asMetaData();
+
+        assertEquals(NOW.plusSeconds(5).toEpochMilli(), metaData.get(QueryDeadline.DEADLINE_KEY));
+        assertEquals(Optional.of(deadline), QueryDeadline.fromMetaData(metaData));
+    }
+
+    @Test
+    void deadlineIsReadFromTextualMetaData() {
+        MetaData metaData = MetaData.with(QueryDeadline.DEADLINE_KEY, String.valueOf(NOW.toEpochMilli()));
+
+        assertEquals(Optional.of(NOW), QueryDeadline.fromMetaData(metaData).map(QueryDeadline::instant));
+        assertFalse(QueryDeadline.fromMetaData(MetaData.emptyInstance()).isPresent());
+    }
+
+    @Test
+    void remainingTimeAndExpiryAreEvaluatedAgainstTheClock() {
+        QueryDeadline upcoming = QueryDeadline.at(NOW.plusMillis(1500), clock);
+        QueryDeadline passed = QueryDeadline.at(NOW.minusMillis(1), clock);
+
+        assertEquals(Duration.ofMillis(1500), upcoming.remaining());
+        assertFalse(upcoming.isExpired());
+        upcoming.checkNotExpired();
+
+        assertEquals(Duration.ZERO, passed.remaining());
+        assertTrue(passed.isExpired());
+        assertThrows(QueryDeadlineExceededException.class, passed::checkNotExpired);
+    }
+
+    @Test
+    void currentReturnsDeadlineOfQueryInUnitOfWork() {
+        assertFalse(QueryDeadline.current().isPresent());
+
+        QueryDeadline deadline = QueryDeadline.at(NOW);
+        QueryMessage<String, String> query =
+                new GenericQueryMessage<>("test", ResponseTypes.instanceOf(String.class))
+                        .andMetaData(deadline.asMetaData());
+        UnitOfWork<?> unitOfWork = DefaultUnitOfWork.startAndGet(query);
+        try {
+            assertEquals(Optional.of(deadline), QueryDeadline.current());
+        } finally {
+            unitOfWork.rollback();
+        }
+    }
+
+    @Test
+    void dispatchInterceptorOnlyAttachesDeadlineToQueriesWithoutOne() {
+        QueryDeadlineDispatchInterceptor testSubject =
+                new QueryDeadlineDispatchInterceptor(Duration.ofSeconds(2), clock);
+        QueryMessage<String, String> withoutDeadline =
+                new GenericQueryMessage<>("test", ResponseTypes.instanceOf(String.class));
+        QueryMessage<String, String> withDeadline =
+                withoutDeadline.andMetaData(QueryDeadline.at(NOW.plusSeconds(10)).asMetaData());
+        List<QueryMessage<?, ?>> queries = Collections.singletonList(withoutDeadline);
+
+        QueryMessage<?, ?> intercepted = testSubject.handle(queries).apply(0, withoutDeadline);
+        QueryMessage<?, ?> untouched = testSubject.handle(queries).apply(0, withDeadline);
+
+        assertEquals(Optional.of(NOW.plusSeconds(2)),
+                     QueryDeadline.fromMetaData(intercepted.getMetaData()).map(QueryDeadline::instant));
+        assertSame(withDeadline, untouched);
+    }
+}
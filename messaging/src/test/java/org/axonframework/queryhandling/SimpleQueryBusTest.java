@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2023. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -39,10 +39,13 @@
 
 import java.lang.reflect.Type;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -50,6 +53,8 @@
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -737,6 +742,69 @@ void scatterGatherReportsExceptionsWithErrorHandler() {
         verify(monitorCallback, times(1)).reportFailure(isA(MockException.class));
     }
 
+    @Test
+    void scatterGatherWithExecutorInvokesHandlersConcurrently() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            testSubject = SimpleQueryBus.builder()
+                                        .messageMonitor(messageMonitor)
+                                        .scatterGatherExecutor(executor)
+                                        .build();
+            CountDownLatch bothHandlersInvoked = new CountDownLatch(2);
+            //noinspection resource
+            testSubject.subscribe(String.class.getName(), String.class, q -> {
+                bothHandlersInvoked.countDown();
+                return bothHandlersInvoked.await(5, TimeUnit.SECONDS) ? q.getPayload() + "1234" : null;
+            });
+            //noinspection resource
+            testSubject.subscribe(String.class.getName(), String.class, q -> {
+                bothHandlersInvoked.countDown();
+                return bothHandlersInvoked.await(5, TimeUnit.SECONDS) ? q.getPayload() + "5678" : null;
+            });
+
+            QueryMessage<String, String> testQueryMessage =
+                    new GenericQueryMessage<>("Hello, World", singleStringResponse);
+            Set<String> results = testSubject.scatterGather(testQueryMessage, 10, TimeUnit.SECONDS)
+                                             .map(Message::getPayload)
+                                             .collect(toSet());
+
+            assertEquals(new HashSet<>(asList("Hello, World1234", "Hello, World5678")), results);
+            verify(monitorCallback, timeout(1000).times(2)).reportSuccess();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void scatterGatherWithExecutorReturnsPartialResultsWhenDeadlineExpires() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch releaseSlowHandler = new CountDownLatch(1);
+        try {
+            testSubject = SimpleQueryBus.builder()
+                                        .messageMonitor(messageMonitor)
+                                        .scatterGatherExecutor(executor)
+                                        .build();
+            //noinspection resource
+            testSubject.subscribe(String.class.getName(), String.class, q -> q.getPayload() + "1234");
+            //noinspection resource
+            testSubject.subscribe(String.class.getName(), String.class, q -> {
+                releaseSlowHandler.await(5, TimeUnit.SECONDS);
+                return q.getPayload() + "5678";
+            });
+
+            QueryMessage<String, String> testQueryMessage =
+                    new GenericQueryMessage<>("Hello, World", singleStringResponse);
+            List<String> results = testSubject.scatterGather(testQueryMessage, 200, TimeUnit.MILLISECONDS)
+                                              .map(Message::getPayload)
+                                              .collect(Collectors.toList());
+
+            assertEquals(Collections.singletonList("Hello, World1234"), results);
+        } finally {
+            releaseSlowHandler.countDown();
+            executor.shutdownNow();
+        }
+    }
+
     @Test
     void queryResponseMessageCorrelationData() throws ExecutionException, InterruptedException {
         //noinspection resource
@@ -864,6 +932,43 @@ void queryReportsExceptionInResponseMessage() throws ExecutionException, Interru
         assertTrue(result.get().isExceptional());
     }
 
+    @Test
+    void queryWithExpiredDeadlineIsNotHandled() throws Exception {
+        AtomicInteger invocations = new AtomicInteger();
+        //noinspection resource
+        testSubject.subscribe(String.class.getName(), String.class, q -> {
+            invocations.incrementAndGet();
+            return "handled";
+        });
+        QueryMessage<String, String> query =
+                new GenericQueryMessage<>("test", ResponseTypes.instanceOf(String.class))
+                        .andMetaData(QueryDeadline.at(Instant.now().minusSeconds(1)).asMetaData());
+
+        QueryResponseMessage<String> result = testSubject.query(query).get();
+
+        assertTrue(result.isExceptional());
+        assertTrue(result.exceptionResult() instanceof QueryDeadlineExceededException);
+        assertEquals(0, invocations.get());
+    }
+
+    @Test
+    void queryHandlerObservesDeadlineOfQuery() throws Exception {
+        //noinspection resource
+        testSubject.subscribe(String.class.getName(), String.class, q -> QueryDeadline.current()
+                                                                                      .map(QueryDeadline::instant)
+                                                                                      .map(Instant::toString)
+                                                                                      .orElse("none"));
+        Instant deadline = Instant.now().plusSeconds(60).truncatedTo(ChronoUnit.MILLIS);
+        QueryMessage<String, String> query =
+                new GenericQueryMessage<>("test", ResponseTypes.instanceOf(String.class))
+                        .andMetaData(QueryDeadline.at(deadline).asMetaData());
+
+        assertEquals(deadline.toString(), testSubject.query(query).get().getPayload());
+        assertEquals("none", testSubject.query(
+                new GenericQueryMessage<>("test", ResponseTypes.instanceOf(String.class))
+        ).get().getPayload());
+    }
+
     @Test
     void queryHandlerDeclaresFutureResponseType() throws Exception {
         Type responseType = ReflectionUtils.methodOf(getClass(), "futureMethod").getGenericReturnType();
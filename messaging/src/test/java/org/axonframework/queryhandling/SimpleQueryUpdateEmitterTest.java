@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2023. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,8 +16,12 @@
 
 package org.axonframework.queryhandling;
 
+import org.axonframework.messaging.GenericMessage;
 import org.axonframework.messaging.Message;
+import org.axonframework.messaging.responsetypes.ResponseType;
 import org.axonframework.messaging.responsetypes.ResponseTypes;
+import org.axonframework.messaging.unitofwork.DefaultUnitOfWork;
+import org.axonframework.messaging.unitofwork.UnitOfWork;
 import org.axonframework.tracing.TestSpanFactory;
 import org.junit.jupiter.api.*;
 import org.reactivestreams.Publisher;
@@ -27,12 +31,15 @@
 
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * Test class validating the {@link SimpleQueryUpdateEmitter}.
@@ -215,6 +222,268 @@ void differentUpdateAreDisambiguatedAndWrongTypesAreFilteredBasedOnQueryTypes()
                     .verifyComplete();
     }
 
+    @Test
+    void keyedUpdatesAreOnlyDeliveredToSubscriptionsWithMatchingNameAndKey() {
+        SimpleQueryUpdateEmitter keyedTestSubject =
+                SimpleQueryUpdateEmitter.builder()
+                                        .subscriptionKeyExtractor("chatMessages", payload -> ((String) payload)
+                                                .split(":")[0])
+                                        .build();
+        UpdateHandlerRegistration<Object> matching = keyedTestSubject.registerUpdateHandler(
+                subscriptionQuery("room-1:alice", "chatMessages", String.class), 1024
+        );
+        UpdateHandlerRegistration<Object> otherKey = keyedTestSubject.registerUpdateHandler(
+                subscriptionQuery("room-2:bob", "chatMessages", String.class), 1024
+        );
+        UpdateHandlerRegistration<Object> otherQueryName = keyedTestSubject.registerUpdateHandler(
+                subscriptionQuery("room-1", "chatMembers", String.class), 1024
+        );
+        UpdateHandlerRegistration<Object> otherResponseType = keyedTestSubject.registerUpdateHandler(
+                subscriptionQuery("room-1:carol", "chatMessages", Integer.class), 1024
+        );
+
+        keyedTestSubject.emitByKey("chatMessages", "room-1", "some-awesome-text");
+        matching.complete();
+        otherKey.complete();
+        otherQueryName.complete();
+        otherResponseType.complete();
+
+        StepVerifier.create(matching.getUpdates().map(Message::getPayload))
+                    .expectNext("some-awesome-text")
+                    .verifyComplete();
+        StepVerifier.create(otherKey.getUpdates()).verifyComplete();
+        StepVerifier.create(otherQueryName.getUpdates()).verifyComplete();
+        StepVerifier.create(otherResponseType.getUpdates()).verifyComplete();
+    }
+
+    @Test
+    void keyedUpdatesUseQueryPayloadAsDefaultKey() {
+        UpdateHandlerRegistration<Object> result = testSubject.registerUpdateHandler(
+                subscriptionQuery("some-payload", "chatMessages", String.class), 1024
+        );
+
+        testSubject.emitByKey("chatMessages", "other-payload", "ignored-text");
+        testSubject.emitByKey("chatMessages", "some-payload", "some-awesome-text");
+        result.complete();
+
+        StepVerifier.create(result.getUpdates().map(Message::getPayload))
+                    .expectNext("some-awesome-text")
+                    .verifyComplete();
+    }
+
+    @Test
+    void updatesEmittedByQueryNameOnlyEvaluateSubscriptionsWithThatQueryName() {
+        UpdateHandlerRegistration<Object> matching = testSubject.registerUpdateHandler(
+                subscriptionQuery("alice", "chatMessages", String.class), 1024
+        );
+        UpdateHandlerRegistration<Object> otherQueryName = testSubject.registerUpdateHandler(
+                subscriptionQuery("bob", "chatMembers", String.class), 1024
+        );
+        List<Object> evaluatedPayloads = new CopyOnWriteArrayList<>();
+
+        testSubject.emitByQueryName("chatMessages", payload -> evaluatedPayloads.add(payload), "some-awesome-text");
+        matching.complete();
+        otherQueryName.complete();
+
+        assertEquals(Collections.singletonList("alice"), evaluatedPayloads);
+        StepVerifier.create(matching.getUpdates().map(Message::getPayload))
+                    .expectNext("some-awesome-text")
+                    .verifyComplete();
+        StepVerifier.create(otherQueryName.getUpdates()).verifyComplete();
+    }
+
+    @Test
+    void updatesEmittedByQueryTypeOnlyEvaluateSubscriptionsWithThatQueryType() {
+        UpdateHandlerRegistration<Object> matching = testSubject.registerUpdateHandler(
+                subscriptionQuery("alice", "chatMessages", String.class), 1024
+        );
+        UpdateHandlerRegistration<Object> otherQueryType = testSubject.registerUpdateHandler(
+                new GenericSubscriptionQueryMessage<>(42,
+                                                      "chatMessages",
+                                                      ResponseTypes.multipleInstancesOf(String.class),
+                                                      ResponseTypes.instanceOf(String.class)),
+                1024
+        );
+        List<Object> evaluatedPayloads = new CopyOnWriteArrayList<>();
+
+        testSubject.emit(String.class, payload -> evaluatedPayloads.add(payload), "some-awesome-text");
+        matching.complete();
+        otherQueryType.complete();
+
+        assertEquals(Collections.singletonList("alice"), evaluatedPayloads);
+        StepVerifier.create(matching.getUpdates().map(Message::getPayload))
+                    .expectNext("some-awesome-text")
+                    .verifyComplete();
+        StepVerifier.create(otherQueryType.getUpdates()).verifyComplete();
+    }
+
+    @Test
+    void filteredUpdatesOnlyEvaluateSubscriptionsAcceptingTheTypeOfTheUpdate() {
+        UpdateHandlerRegistration<Object> matching = testSubject.registerUpdateHandler(
+                subscriptionQuery("alice", "chatMessages", String.class), 1024
+        );
+        UpdateHandlerRegistration<Object> otherUpdateType = testSubject.registerUpdateHandler(
+                subscriptionQuery("bob", "chatMessages", Integer.class), 1024
+        );
+        List<Object> evaluatedPayloads = new CopyOnWriteArrayList<>();
+
+        testSubject.emit(query -> evaluatedPayloads.add(query.getPayload()), "some-awesome-text");
+        matching.complete();
+        otherUpdateType.complete();
+
+        assertEquals(Collections.singletonList("alice"), evaluatedPayloads);
+        StepVerifier.create(matching.getUpdates().map(Message::getPayload))
+                    .expectNext("some-awesome-text")
+                    .verifyComplete();
+        StepVerifier.create(otherUpdateType.getUpdates()).verifyComplete();
+    }
+
+    @Test
+    void cancelledSubscriptionsAreRemovedFromTheIndexes() {
+        UpdateHandlerRegistration<Object> result = testSubject.registerUpdateHandler(
+                subscriptionQuery("some-payload", "chatMessages", String.class), 1024
+        );
+
+        result.getRegistration().cancel();
+        testSubject.emitByKey("chatMessages", "some-payload", "some-awesome-text");
+        testSubject.emit(any -> true, "some-awesome-text");
+
+        assertTrue(testSubject.activeSubscriptions().isEmpty());
+    }
+
+    @Test
+    void latestConflationDeliversOnlyTheMostRecentUpdateOfAWindow() {
+        UpdateHandlerRegistration<Object> result = testSubject.registerUpdateHandler(
+                conflatedSubscriptionQuery(ResponseTypes.instanceOf(String.class),
+                                           UpdateConflationPolicy.latest(Duration.ofMinutes(1))),
+                1024
+        );
+
+        testSubject.emit(any -> true, "first");
+        testSubject.emit(any -> true, "second");
+        testSubject.emit(any -> true, "third");
+        result.complete();
+
+        StepVerifier.create(result.getUpdates().map(Message::getPayload))
+                    .expectNext("third")
+                    .verifyComplete();
+    }
+
+    @Test
+    void keyedLatestConflationDeliversTheMostRecentUpdatePerKeyOfAWindow() {
+        SimpleQueryUpdateEmitter keyedTestSubject =
+                SimpleQueryUpdateEmitter.builder()
+                                        .updateKeyExtractor("chatMessages", payload -> ((String) payload)
+                                                .split(":")[0])
+                                        .build();
+        UpdateHandlerRegistration<Object> result = keyedTestSubject.registerUpdateHandler(
+                conflatedSubscriptionQuery(ResponseTypes.instanceOf(String.class),
+                                           UpdateConflationPolicy.keyedLatest(Duration.ofMinutes(1))),
+                1024
+        );
+
+        keyedTestSubject.emit(any -> true, "alice:hello");
+        keyedTestSubject.emit(any -> true, "bob:hi");
+        keyedTestSubject.emit(any -> true, "alice:bye");
+        result.complete();
+
+        StepVerifier.create(result.getUpdates().map(Message::getPayload))
+                    .expectNext("bob:hi", "alice:bye")
+                    .verifyComplete();
+    }
+
+    @Test
+    void batchedConflationDeliversTheUpdatesOfAWindowAsASingleListUpdate() {
+        UpdateHandlerRegistration<Object> result = testSubject.registerUpdateHandler(
+                conflatedSubscriptionQuery(ResponseTypes.multipleInstancesOf(String.class),
+                                           UpdateConflationPolicy.batched(Duration.ofMinutes(1))),
+                1024
+        );
+
+        testSubject.emit(any -> true, "first");
+        testSubject.emit(any -> true, 42);
+        testSubject.emit(any -> true, "second");
+        result.complete();
+
+        StepVerifier.create(result.getUpdates().map(Message::getPayload))
+                    .expectNext(Arrays.asList("first", "second"))
+                    .verifyComplete();
+    }
+
+    @Test
+    void batchedConflationRequiresAMultipleInstancesUpdateResponseType() {
+        SubscriptionQueryMessage<String, List<String>, ?> query =
+                conflatedSubscriptionQuery(ResponseTypes.instanceOf(String.class),
+                                           UpdateConflationPolicy.batched(Duration.ofMinutes(1)));
+
+        assertThrows(IllegalArgumentException.class, () -> testSubject.registerUpdateHandler(query, 1024));
+        assertTrue(testSubject.activeSubscriptions().isEmpty());
+    }
+
+    @Test
+    void updatesEmittedWithinUnitOfWorkAreDeliveredInEmissionOrderAfterCommit() {
+        UpdateHandlerRegistration<Object> alice = testSubject.registerUpdateHandler(
+                subscriptionQuery("alice", "chatMessages", String.class), 1024
+        );
+        UpdateHandlerRegistration<Object> bob = testSubject.registerUpdateHandler(
+                subscriptionQuery("bob", "chatMessages", String.class), 1024
+        );
+        List<Object> receivedByAlice = new CopyOnWriteArrayList<>();
+        alice.getUpdates().map(Message::getPayload).subscribe(receivedByAlice::add);
+
+        UnitOfWork<?> unitOfWork = DefaultUnitOfWork.startAndGet(null);
+        testSubject.emitByKey("chatMessages", "alice", "first");
+        testSubject.emit(any -> true, "second");
+        testSubject.emitByKey("chatMessages", "bob", "third");
+        testSubject.emit(String.class, "alice"::equals, "fourth");
+        assertTrue(receivedByAlice.isEmpty());
+        unitOfWork.commit();
+
+        alice.complete();
+        bob.complete();
+        assertEquals(Arrays.asList("first", "second", "fourth"), receivedByAlice);
+        StepVerifier.create(bob.getUpdates().map(Message::getPayload))
+                    .expectNext("second", "third")
+                    .verifyComplete();
+    }
+
+    @Test
+    void completingWithinUnitOfWorkRetainsItsOrderRelativeToUpdates() {
+        UpdateHandlerRegistration<Object> result = testSubject.registerUpdateHandler(
+                subscriptionQuery("alice", "chatMessages", String.class), 1024
+        );
+
+        UnitOfWork<?> unitOfWork = DefaultUnitOfWork.startAndGet(null);
+        testSubject.emit(any -> true, "first");
+        testSubject.emit(any -> true, "second");
+        testSubject.complete(any -> true);
+        testSubject.emit(any -> true, "third");
+        unitOfWork.commit();
+
+        StepVerifier.create(result.getUpdates().map(Message::getPayload))
+                    .expectNext("first", "second")
+                    .verifyComplete();
+    }
+
+    private static SubscriptionQueryMessage<String, List<String>, ?> conflatedSubscriptionQuery(
+            ResponseType<?> updateResponseType,
+            UpdateConflationPolicy conflationPolicy
+    ) {
+        return new GenericSubscriptionQueryMessage<>(new GenericMessage<>("some-payload", conflationPolicy.asMetaData()),
+                                                     "chatMessages",
+                                                     ResponseTypes.multipleInstancesOf(String.class),
+                                                     updateResponseType);
+    }
+
+    private static SubscriptionQueryMessage<String, List<String>, ?> subscriptionQuery(String payload,
+                                                                                       String queryName,
+                                                                                       Class<?> updateType) {
+        return new GenericSubscriptionQueryMessage<>(payload,
+                                                     queryName,
+                                                     ResponseTypes.multipleInstancesOf(String.class),
+                                                     ResponseTypes.instanceOf(updateType));
+    }
+
     @Test
     void updateResponseTypeFilteringWorksForMultipleInstanceOfWithArrayAndList() {
         SubscriptionQueryMessage<String, List<String>, List<String>> queryMessage = new GenericSubscriptionQueryMessage<>(
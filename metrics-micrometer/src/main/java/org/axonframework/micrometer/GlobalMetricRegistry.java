@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2020. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,16 +16,24 @@
 
 package org.axonframework.micrometer;
 
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.axonframework.commandhandling.CommandBus;
 import org.axonframework.commandhandling.CommandMessage;
+import org.axonframework.config.Configuration;
 import org.axonframework.config.Configurer;
+import org.axonframework.eventhandling.DomainEventMessage;
 import org.axonframework.eventhandling.EventBus;
 import org.axonframework.eventhandling.EventMessage;
 import org.axonframework.eventhandling.EventProcessor;
+import org.axonframework.eventsourcing.AbstractSnapshotter;
+import org.axonframework.eventsourcing.SnapshotTriggerDefinition;
+import org.axonframework.eventsourcing.Snapshotter;
+import org.axonframework.eventsourcing.eventstore.EventStore;
+import org.axonframework.lifecycle.Phase;
 import org.axonframework.messaging.Message;
 import org.axonframework.monitoring.MessageMonitor;
 import org.axonframework.monitoring.MultiMessageMonitor;
@@ -77,13 +85,16 @@ public GlobalMetricRegistry(MeterRegistry meterRegistry) {
     /**
      * Registers the {@link MeterRegistry} with the given {@code configurer} via {@link
      * Configurer#configureMessageMonitor(Function)}. Components registered by the {@link Configurer} will be added by
-     * invocation of {@link #registerComponent(Class, String)}.
+     * invocation of {@link #registerComponent(Class, String)}. The queue depth of the configured {@link Snapshotter} is
+     * registered through {@link #registerSnapshotterQueueDepth(String, AbstractSnapshotter)} when the configuration
+     * starts.
      *
      * @param configurer the application's {@link Configurer}
      * @return the {@link Configurer}, with the new registration applied, for chaining
      */
     @SuppressWarnings("unchecked")
     public Configurer registerWithConfigurer(Configurer configurer) {
+        configurer.onInitialize(this::registerSnapshotterQueueDepthOnStart);
         return configurer.configureMessageMonitor(
                 configuration
                         -> (componentType, componentName)
@@ -101,6 +112,7 @@ public Configurer registerWithConfigurer(Configurer configurer) {
      */
     @SuppressWarnings("unchecked")
     public Configurer registerWithConfigurerWithDefaultTags(Configurer configurer) {
+        configurer.onInitialize(this::registerSnapshotterQueueDepthOnStart);
         return configurer.configureMessageMonitor(
                 configuration
                         -> (componentType, componentName)
@@ -133,6 +145,12 @@ public MessageMonitor<? extends Message<?>> registerComponent(Class<?> component
         if (QueryUpdateEmitter.class.isAssignableFrom(componentType)) {
             return registerQueryUpdateEmitter(componentName);
         }
+        if (Snapshotter.class.isAssignableFrom(componentType)) {
+            return registerSnapshotter(componentName);
+        }
+        if (SnapshotTriggerDefinition.class.isAssignableFrom(componentType)) {
+            return registerSnapshotTriggerDefinition(componentName);
+        }
         logger.warn("Cannot provide MessageMonitor for component [{}] of type [{}]. Returning No-Op instance.",
                     componentName, componentType.getSimpleName());
         return NoOpMessageMonitor.instance();
@@ -210,6 +228,57 @@ private MessageMonitor<? extends Message<?>> registerQueryUpdateEmitter(String u
         return registerDefaultHandlerMessageMonitor(updateEmitterName);
     }
 
+    /**
+     * Registers new metrics to the registry to monitor a {@link Snapshotter}. The monitor will be registered with the
+     * registry under the given {@code snapshotterName}. The returned {@link MessageMonitor} can be installed on the
+     * {@code Snapshotter} to initiate the monitoring of the snapshots it stores.
+     *
+     * @param snapshotterName the name under which the {@link Snapshotter} should be registered to the registry
+     * @return a {@link MessageMonitor} to monitor the behavior of a {@link Snapshotter}
+     */
+    public MessageMonitor<? super DomainEventMessage<?>> registerSnapshotter(String snapshotterName) {
+        return registerDefaultHandlerMessageMonitor(snapshotterName);
+    }
+
+    /**
+     * Registers new metrics to the registry to monitor the aggregate loads measured by a
+     * {@link SnapshotTriggerDefinition}. The monitor will be registered with the registry under the given
+     * {@code triggerDefinitionName}. The returned {@link MessageMonitor} can be installed on the
+     * {@code SnapshotTriggerDefinition} to initiate the monitoring.
+     *
+     * @param triggerDefinitionName the name under which the {@link SnapshotTriggerDefinition} should be registered to
+     *                              the registry
+     * @return a {@link MessageMonitor} to monitor the aggregate loads measured by a {@link SnapshotTriggerDefinition}
+     */
+    public MessageMonitor<? super DomainEventMessage<?>> registerSnapshotTriggerDefinition(
+            String triggerDefinitionName
+    ) {
+        return registerDefaultHandlerMessageMonitor(triggerDefinitionName);
+    }
+
+    /**
+     * Registers a {@link Gauge} to the registry reporting the number of snapshot requests waiting in the queue of the
+     * given {@code snapshotter}. The gauge will be registered with the registry under the given
+     * {@code snapshotterName}, suffixed with {@code .queueDepth}.
+     *
+     * @param snapshotterName the name under which the {@link Snapshotter} is registered to the registry
+     * @param snapshotter     the {@link AbstractSnapshotter} of which to report the queue depth
+     */
+    public void registerSnapshotterQueueDepth(String snapshotterName, AbstractSnapshotter snapshotter) {
+        Gauge.builder(snapshotterName + ".queueDepth", snapshotter, AbstractSnapshotter::getQueueDepth)
+             .register(registry);
+    }
+
+    private void registerSnapshotterQueueDepthOnStart(Configuration configuration) {
+        configuration.onStart(Phase.INSTRUCTION_COMPONENTS, () -> {
+            // Only resolve the snapshotter when an event store is present, as the default snapshotter requires one
+            if (configuration.eventBus() instanceof EventStore
+                    && configuration.snapshotter() instanceof AbstractSnapshotter) {
+                registerSnapshotterQueueDepth("snapshotter", (AbstractSnapshotter) configuration.snapshotter());
+            }
+        });
+    }
+
     /**
      * Registers new metrics to the registry to monitor a component of the given {@code componentType}. The monitor will
      * be registered with the registry under the given {@code componentName}, utilizing {@link Tag}s. The default set of
@@ -248,6 +317,12 @@ public MessageMonitor<? extends Message<?>> registerComponentWithDefaultTags(Cla
         if (QueryUpdateEmitter.class.isAssignableFrom(componentType)) {
             return registerQueryUpdateEmitter(componentName, PAYLOAD_TYPE_TAGGER_FUNCTION);
         }
+        if (Snapshotter.class.isAssignableFrom(componentType)) {
+            return registerSnapshotter(componentName, PAYLOAD_TYPE_TAGGER_FUNCTION);
+        }
+        if (SnapshotTriggerDefinition.class.isAssignableFrom(componentType)) {
+            return registerSnapshotTriggerDefinition(componentName, PAYLOAD_TYPE_TAGGER_FUNCTION);
+        }
         logger.warn("Cannot provide MessageMonitor for component [{}] of type [{}]. Returning No-Op instance.",
                     componentName, componentType.getSimpleName());
         return NoOpMessageMonitor.instance();
@@ -361,6 +436,40 @@ private MessageMonitor<? extends Message<?>> registerQueryUpdateEmitter(String u
         return registerDefaultHandlerMessageMonitor(updateEmitterName, tagsBuilder);
     }
 
+    /**
+     * Registers new metrics to the registry to monitor a {@link Snapshotter}, using {@link Tag}s through the given
+     * {@code tagsBuilder}. The monitor will be registered with the registry under the given {@code snapshotterName}.
+     * The returned {@link MessageMonitor} can be installed on the {@code Snapshotter} to initiate the monitoring of the
+     * snapshots it stores.
+     *
+     * @param snapshotterName the name under which the {@link Snapshotter} should be registered to the registry
+     * @param tagsBuilder     the function used to construct the list of {@link Tag}, based on the ingested message
+     * @return a {@link MessageMonitor} to monitor the behavior of a {@link Snapshotter}
+     */
+    public MessageMonitor<? super DomainEventMessage<?>> registerSnapshotter(String snapshotterName,
+                                                                            Function<Message<?>, Iterable<Tag>> tagsBuilder) {
+        return registerDefaultHandlerMessageMonitor(snapshotterName, tagsBuilder);
+    }
+
+    /**
+     * Registers new metrics to the registry to monitor the aggregate loads measured by a
+     * {@link SnapshotTriggerDefinition}, using {@link Tag}s through the given {@code tagsBuilder}. The monitor will be
+     * registered with the registry under the given {@code triggerDefinitionName}. The returned {@link MessageMonitor}
+     * can be installed on the {@code SnapshotTriggerDefinition} to initiate the monitoring.
+     *
+     * @param triggerDefinitionName the name under which the {@link SnapshotTriggerDefinition} should be registered to
+     *                              the registry
+     * @param tagsBuilder           the function used to construct the list of {@link Tag}, based on the ingested
+     *                              message
+     * @return a {@link MessageMonitor} to monitor the aggregate loads measured by a {@link SnapshotTriggerDefinition}
+     */
+    public MessageMonitor<? super DomainEventMessage<?>> registerSnapshotTriggerDefinition(
+            String triggerDefinitionName,
+            Function<Message<?>, Iterable<Tag>> tagsBuilder
+    ) {
+        return registerDefaultHandlerMessageMonitor(triggerDefinitionName, tagsBuilder);
+    }
+
     private MessageMonitor<Message<?>> registerDefaultHandlerMessageMonitor(String name) {
         MessageTimerMonitor messageTimerMonitor = MessageTimerMonitor.buildMonitor(name, registry);
         CapacityMonitor capacityMonitor = CapacityMonitor.buildMonitor(name, registry);
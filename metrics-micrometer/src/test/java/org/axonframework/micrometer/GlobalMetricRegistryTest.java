@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2022. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -25,7 +25,12 @@
 import io.micrometer.core.instrument.util.HierarchicalNameMapper;
 import org.axonframework.commandhandling.CommandMessage;
 import org.axonframework.commandhandling.GenericCommandMessage;
+import org.axonframework.eventhandling.DomainEventMessage;
 import org.axonframework.eventhandling.EventMessage;
+import org.axonframework.eventhandling.GenericDomainEventMessage;
+import org.axonframework.eventsourcing.AbstractSnapshotter;
+import org.axonframework.eventsourcing.CostBasedSnapshotTriggerDefinition;
+import org.axonframework.eventsourcing.Snapshotter;
 import org.axonframework.messaging.Message;
 import org.axonframework.monitoring.MessageMonitor;
 import org.axonframework.monitoring.NoOpMessageMonitor;
@@ -37,6 +42,7 @@
 
 import static org.axonframework.eventhandling.GenericEventMessage.asEventMessage;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 class GlobalMetricRegistryTest {
 
@@ -169,6 +175,62 @@ void createCommandBusMonitorWithTags() {
         assertTrue(output.contains("commandBus"));
     }
 
+    @Test
+    void createSnapshotterMonitor() {
+        @SuppressWarnings("unchecked")
+        MessageMonitor<? super DomainEventMessage<?>> monitor =
+                (MessageMonitor<? super DomainEventMessage<?>>) subject.registerComponent(Snapshotter.class,
+                                                                                            "snapshotter");
+
+        monitor.onMessageIngested(new GenericDomainEventMessage<>("type", "id", 0, "snapshot")).reportSuccess();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ConsoleReporter.forRegistry(dropWizardRegistry).outputTo(new PrintStream(out)).build().report();
+        String output = new String(out.toByteArray());
+
+        assertTrue(output.contains("snapshotter"));
+    }
+
+    @Test
+    void createSnapshotTriggerDefinitionMonitor() {
+        @SuppressWarnings("unchecked")
+        MessageMonitor<? super DomainEventMessage<?>> monitor =
+                (MessageMonitor<? super DomainEventMessage<?>>) subject.registerComponent(
+                        CostBasedSnapshotTriggerDefinition.class, "snapshotTrigger"
+                );
+
+        monitor.onMessageIngested(new GenericDomainEventMessage<>("type", "id", 0, "event")).reportSuccess();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ConsoleReporter.forRegistry(dropWizardRegistry).outputTo(new PrintStream(out)).build().report();
+        String output = new String(out.toByteArray());
+
+        assertTrue(output.contains("snapshotTrigger"));
+    }
+
+    @Test
+    void createSnapshotTriggerDefinitionMonitorWithTags() {
+        @SuppressWarnings("unchecked")
+        MessageMonitor<? super DomainEventMessage<?>> monitor =
+                (MessageMonitor<? super DomainEventMessage<?>>) subject.registerComponentWithDefaultTags(
+                        CostBasedSnapshotTriggerDefinition.class, "snapshotTrigger"
+                );
+
+        monitor.onMessageIngested(new GenericDomainEventMessage<>("type", "id", 0, "event")).reportSuccess();
+
+        assertNotNull(subject.getRegistry().find("snapshotTrigger.successCounter").counter());
+    }
+
+    @Test
+    void registerSnapshotterQueueDepth() {
+        AbstractSnapshotter snapshotter = mock(AbstractSnapshotter.class);
+        when(snapshotter.getQueueDepth()).thenReturn(3);
+
+        subject.registerSnapshotterQueueDepth("snapshotter", snapshotter);
+
+        assertEquals(3.0, subject.getRegistry().get("snapshotter.queueDepth").gauge().value());
+    }
+
     @Test
     void createMonitorForUnknownComponent() {
         MessageMonitor<? extends Message<?>> actual = subject.registerComponent(String.class, "test");
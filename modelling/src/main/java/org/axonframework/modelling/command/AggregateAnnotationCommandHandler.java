@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2022. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@
 package org.axonframework.modelling.command;
 
 import org.axonframework.commandhandling.AnnotationCommandHandlerAdapter;
+import org.axonframework.commandhandling.BatchPreparingCommandHandler;
 import org.axonframework.commandhandling.CommandBus;
 import org.axonframework.commandhandling.CommandHandler;
 import org.axonframework.commandhandling.CommandMessage;
@@ -38,8 +39,10 @@
 import java.lang.reflect.Executable;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -47,6 +50,7 @@
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
 
 import static org.axonframework.common.BuilderUtils.assertNonNull;
 import static org.axonframework.common.BuilderUtils.assertThat;
@@ -466,7 +470,7 @@ public boolean canHandle(CommandMessage<?> message) {
         }
     }
 
-    private class AggregateCreateOrUpdateCommandHandler implements MessageHandler<CommandMessage<?>> {
+    private class AggregateCreateOrUpdateCommandHandler implements BatchPreparingCommandHandler {
 
         private final MessageHandlingMember<? super T> handler;
         private final CreationPolicyAggregateFactory<T> factoryMethod;
@@ -496,12 +500,29 @@ command, factoryMethod, handler, resolveNullableAggregateId(command)
             return result;
         }
 
+        @Override
+        public void prepareBatch(@Nonnull List<? extends CommandMessage<?>> commands) {
+            prefetchTargetAggregates(commands);
+        }
+
         @Override
         public boolean canHandle(CommandMessage<?> message) {
             return handler.canHandle(message);
         }
     }
 
+    private void prefetchTargetAggregates(List<? extends CommandMessage<?>> commands) {
+        Collection<String> aggregateIdentifiers = commands.stream()
+                                                          .map(this::resolveNullableAggregateId)
+                                                          .filter(Objects::nonNull)
+                                                          .map(VersionedAggregateIdentifier::getIdentifier)
+                                                          .filter(Objects::nonNull)
+                                                          .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (!aggregateIdentifiers.isEmpty()) {
+            repository.prefetch(aggregateIdentifiers);
+        }
+    }
+
     private VersionedAggregateIdentifier resolveNullableAggregateId(CommandMessage<?> command) {
         try {
             return commandTargetResolver.resolveTarget(command);
@@ -554,7 +575,7 @@ private static <T> boolean handlerHasVoidReturnType(MessageHandlingMember<? supe
                       .isPresent();
     }
 
-    private class AggregateCommandHandler implements MessageHandler<CommandMessage<?>> {
+    private class AggregateCommandHandler implements BatchPreparingCommandHandler {
 
         private final MessageHandlingMember<? super T> handler;
 
@@ -568,6 +589,11 @@ public Object handle(CommandMessage<?> command) throws Exception {
             return repository.load(iv.getIdentifier(), iv.getVersion()).handle(command);
         }
 
+        @Override
+        public void prepareBatch(@Nonnull List<? extends CommandMessage<?>> commands) {
+            prefetchTargetAggregates(commands);
+        }
+
         @Override
         public boolean canHandle(CommandMessage<?> message) {
             return handler.canHandle(message);
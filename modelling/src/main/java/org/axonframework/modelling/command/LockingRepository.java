@@ -111,6 +111,18 @@ protected LockAwareAggregate<T, A> doCreateNew(Callable<T> factoryMethod) throws
         return new LockAwareAggregate<>(aggregate, lockSupplier);
     }
 
+    /**
+     * Obtains the lock for the aggregate with given {@code aggregateIdentifier} from the configured {@link
+     * LockFactory}. The caller is responsible for releasing the returned lock.
+     *
+     * @param aggregateIdentifier the identifier of the aggregate to lock
+     * @return the obtained lock
+     */
+    protected Lock obtainLock(String aggregateIdentifier) {
+        return spanFactory.createObtainLockSpan(aggregateIdentifier)
+                          .runSupplier(() -> lockFactory.obtainLock(aggregateIdentifier));
+    }
+
     /**
      * Creates a new aggregate instance using the given {@code factoryMethod}. Implementations should assume that this
      * method is only called if a UnitOfWork is currently active.
@@ -131,8 +143,7 @@ protected LockAwareAggregate<T, A> doCreateNew(Callable<T> factoryMethod) throws
      */
     @Override
     protected LockAwareAggregate<T, A> doLoad(String aggregateIdentifier, Long expectedVersion) {
-        Lock lock = spanFactory.createObtainLockSpan(aggregateIdentifier)
-                               .runSupplier(() -> lockFactory.obtainLock(aggregateIdentifier));
+        Lock lock = obtainLock(aggregateIdentifier);
         try {
             final A aggregate = doLoadWithLock(aggregateIdentifier, expectedVersion);
             CurrentUnitOfWork.get().onCleanup(u -> lock.release());
@@ -147,8 +158,7 @@ protected LockAwareAggregate<T, A> doLoad(String aggregateIdentifier, Long expec
     @Override
     protected LockAwareAggregate<T, A> doLoadOrCreate(String aggregateIdentifier,
                                                       Callable<T> factoryMethod) throws Exception {
-        Lock lock = spanFactory.createObtainLockSpan(aggregateIdentifier)
-                               .runSupplier(() -> lockFactory.obtainLock(aggregateIdentifier));
+        Lock lock = obtainLock(aggregateIdentifier);
         try {
             final A aggregate = doLoadWithLock(aggregateIdentifier, null);
             CurrentUnitOfWork.get().onCleanup(u -> lock.release());
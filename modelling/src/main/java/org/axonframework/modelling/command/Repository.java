@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2023. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,7 @@
 
 import org.axonframework.messaging.ScopeAware;
 
+import java.util.Collection;
 import java.util.concurrent.Callable;
 import java.util.function.Consumer;
 import javax.annotation.Nonnull;
@@ -98,4 +99,16 @@ default Aggregate<T> loadOrCreate(@Nonnull String aggregateIdentifier, @Nonnull
             throws Exception {
         throw new UnsupportedOperationException("loadOrCreate not implemented on this repository");
     }
+
+    /**
+     * Hints this repository that the aggregates with given {@code aggregateIdentifiers} are about to be loaded, for
+     * example by the commands of a batch. Repositories may use this to fetch the state of these aggregates in a single
+     * round trip, instead of one per aggregate. Identifiers of aggregates that do not exist are ignored.
+     * <p>
+     * Defaults to doing nothing.
+     *
+     * @param aggregateIdentifiers the identifiers of the aggregates that are about to be loaded
+     */
+    default void prefetch(@Nonnull Collection<String> aggregateIdentifiers) {
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2023. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -27,6 +27,8 @@
 import org.axonframework.messaging.Message;
 import org.axonframework.messaging.ScopeAware;
 import org.axonframework.messaging.ScopeDescriptor;
+import org.axonframework.messaging.unitofwork.BatchingUnitOfWork;
+import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
 import org.axonframework.tracing.NoOpSpanFactory;
 import org.axonframework.tracing.Span;
 import org.axonframework.tracing.SpanFactory;
@@ -35,9 +37,10 @@
 import org.slf4j.LoggerFactory;
 
 import java.util.HashSet;
-import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
@@ -59,6 +62,8 @@
     private final Class<T> sagaType;
     private final Supplier<T> sagaFactory;
     private final SagaManagerSpanFactory spanFactory;
+    private final String prefetchResourceKey;
+    private final boolean segmentLookupSupported;
     private volatile ListenerInvocationErrorHandler listenerInvocationErrorHandler;
 
     /**
@@ -77,23 +82,44 @@ protected AbstractSagaManager(Builder<T> builder) {
         this.sagaFactory = builder.sagaFactory;
         this.listenerInvocationErrorHandler = builder.listenerInvocationErrorHandler;
         this.spanFactory = builder.spanFactory;
+        this.prefetchResourceKey = "SagaManager[" + sagaType.getName() + "]/PrefetchedSegment/";
+        this.segmentLookupSupported = !overridesMatchesSegment(getClass());
+    }
+
+    private static boolean overridesMatchesSegment(Class<?> managerType) {
+        for (Class<?> type = managerType; !AbstractSagaManager.class.equals(type); type = type.getSuperclass()) {
+            try {
+                type.getDeclaredMethod("matchesSegment", Segment.class, String.class);
+                return true;
+            } catch (NoSuchMethodException e) {
+                // not declared on this type, continue with its superclass
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the segment to find sagas with in the {@link SagaRepository}. The repository may filter the sagas it
+     * finds on {@link Segment#matches(Object)}, so when {@link #matchesSegment(Segment, String)} is overridden, the
+     * sagas of all segments are looked up and only filtered by this manager.
+     */
+    private Segment lookupSegment(Segment segment) {
+        return segmentLookupSupported ? segment : Segment.ROOT_SEGMENT;
     }
 
     @Override
     public void handle(@Nonnull EventMessage<?> event, @Nonnull Segment segment) throws Exception {
+        prefetchAssociatedSagas(segment);
         Set<AssociationValue> associationValues = extractAssociationValues(event);
-        List<String> sagaIds =
-                associationValues.stream()
-                                 .flatMap(associationValue -> sagaRepository.find(associationValue).stream())
-                                 .collect(Collectors.toList());
+        Segment lookupSegment = lookupSegment(segment);
         Set<Saga<T>> sagas =
-                sagaIds.stream()
-                       .filter(sagaId -> matchesSegment(segment, sagaId))
-                       .map(sagaRepository::load)
-                       .filter(Objects::nonNull)
-                       .filter(Saga::isActive)
-                       .collect(Collectors.toCollection(HashSet::new));
-        boolean sagaMatchesOtherSegment = sagaIds.stream().anyMatch(sagaId -> !matchesSegment(segment, sagaId));
+                associationValues.stream()
+                                 .flatMap(value -> sagaRepository.find(value, lookupSegment).stream())
+                                 .filter(sagaId -> matchesSegment(segment, sagaId))
+                                 .map(sagaRepository::load)
+                                 .filter(Objects::nonNull)
+                                 .filter(Saga::isActive)
+                                 .collect(Collectors.toCollection(HashSet::new));
         boolean sagaOfTypeInvoked = false;
         for (Saga<T> saga : sagas) {
             if (doInvokeSaga(event, saga)) {
@@ -101,11 +127,58 @@ public void handle(@Nonnull EventMessage<?> event, @Nonnull Segment segment) thr
             }
         }
         SagaInitializationPolicy initializationPolicy = getSagaCreationPolicy(event);
-        if (shouldCreateSaga(segment, sagaOfTypeInvoked || sagaMatchesOtherSegment, initializationPolicy)) {
+        if (shouldCreateSaga(segment, sagaOfTypeInvoked, initializationPolicy)
+                && !(initializationPolicy.getCreationPolicy() == SagaCreationPolicy.IF_NONE_FOUND
+                && sagaOfOtherSegmentExists(segment, associationValues))) {
             startNewSaga(event, initializationPolicy.getInitialAssociationValue(), segment);
         }
     }
 
+    /**
+     * Checks whether a saga of another segment is associated with any of the given {@code associationValues}. Sagas
+     * are found per segment, so only when a new saga would be created if none is found, the sagas of all segments are
+     * looked up to prevent creating a saga that already exists in another segment.
+     */
+    private boolean sagaOfOtherSegmentExists(Segment segment, Set<AssociationValue> associationValues) {
+        return associationValues.stream()
+                                .flatMap(associationValue -> sagaRepository.find(associationValue).stream())
+                                .anyMatch(sagaId -> !matchesSegment(segment, sagaId));
+    }
+
+    /**
+     * Resolves the association values of all events in the current {@link BatchingUnitOfWork} at once, through
+     * {@link SagaRepository#findAll(java.util.Collection, Segment)}, and loads the sagas found for the given {@code segment}
+     * before the first event of the batch is handled. The repository may serve the lookups of the individual events
+     * from the results, avoiding a query per event and association value. Only the first invocation for a batch and
+     * segment has any effect.
+     */
+    private void prefetchAssociatedSagas(Segment segment) {
+        if (!CurrentUnitOfWork.isStarted() || !(CurrentUnitOfWork.get() instanceof BatchingUnitOfWork)) {
+            return;
+        }
+        BatchingUnitOfWork<?> unitOfWork = (BatchingUnitOfWork<?>) CurrentUnitOfWork.get();
+        String resourceKey = prefetchResourceKey + segment.getSegmentId();
+        if (unitOfWork.getMessages().size() < 2 || unitOfWork.resources().putIfAbsent(resourceKey, true) != null) {
+            return;
+        }
+        Set<AssociationValue> associationValues = new HashSet<>();
+        for (Message<?> message : unitOfWork.getMessages()) {
+            if (message instanceof EventMessage) {
+                associationValues.addAll(extractAssociationValues((EventMessage<?>) message));
+            }
+        }
+        if (associationValues.isEmpty()) {
+            return;
+        }
+        sagaRepository.findAll(associationValues, lookupSegment(segment))
+                      .values()
+                      .stream()
+                      .flatMap(Set::stream)
+                      .filter(sagaId -> matchesSegment(segment, sagaId))
+                      .collect(Collectors.toCollection(TreeSet::new))
+                      .forEach(sagaRepository::load);
+    }
+
     private boolean shouldCreateSaga(Segment segment, boolean sagaInvoked,
                                      SagaInitializationPolicy initializationPolicy) {
         return ((initializationPolicy.getCreationPolicy() == SagaCreationPolicy.ALWAYS
@@ -144,8 +217,10 @@ protected String createSagaIdentifier(Segment segment) {
     /**
      * Checks whether the given {@code sagaId} matches with the given {@code segment}.
      * <p>
-     * For any complete set of segments, exactly one segment matches with any value.
-     * <p>
+     * For any complete set of segments, exactly one segment matches with any value. As long as this method is not
+     * overridden, sagas are found through {@link SagaRepository#find(AssociationValue, Segment)}, which may exclude the
+     * sagas of other segments in the underlying storage. When it is overridden, the sagas of all segments are found and
+     * filtered with this method instead.
      *
      * @param segment The segment to validate the identifier for
      * @param sagaId  The identifier to test
@@ -215,6 +290,23 @@ public void performReset(Object resetContext) {
         throw new ResetNotSupportedException("Sagas do no support resetting tokens");
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Requests the {@link SagaRepository} to {@link SagaRepository#preload(Segment) preload} the sagas belonging to the
+     * claimed {@code segment}, so that the first events handled after a segment has been claimed do not need to load
+     * their sagas one by one. When {@link #matchesSegment(Segment, String)} is overridden, the sagas to preload are
+     * selected with it through {@link SagaRepository#preload(Predicate)} instead.
+     */
+    @Override
+    public void segmentClaimed(Segment segment) {
+        if (segmentLookupSupported) {
+            sagaRepository.preload(segment);
+        } else {
+            sagaRepository.preload(sagaId -> matchesSegment(segment, sagaId));
+        }
+    }
+
     @Override
     public void send(Message<?> message, ScopeDescriptor scopeDescription) throws Exception {
         if (!(message instanceof EventMessage)) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2018. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,8 +16,16 @@
 
 package org.axonframework.modelling.saga;
 
+import org.axonframework.eventhandling.Segment;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * Interface towards the storage mechanism of Saga instances. Saga Repositories can find sagas either through the
@@ -40,6 +48,97 @@
      */
     Set<String> find(AssociationValue associationValue);
 
+    /**
+     * Find saga instances associated with any of the given {@code associationValues}, per association value.
+     * Implementations may use this to resolve the association values of a whole batch of events at once, and to serve
+     * subsequent invocations of {@link #find(AssociationValue)} in the same Unit of Work from the result.
+     * <p>
+     * The default implementation invokes {@link #find(AssociationValue)} for every association value.
+     *
+     * @param associationValues The values that the returned Sagas must be associated with
+     * @return A Map from every given association value to the identifiers of the Sagas associated with it. Will never
+     * return {@code null}.
+     * @since 4.11.0
+     */
+    default Map<AssociationValue, Set<String>> findAll(Collection<AssociationValue> associationValues) {
+        Map<AssociationValue, Set<String>> result = new HashMap<>();
+        for (AssociationValue associationValue : associationValues) {
+            result.computeIfAbsent(associationValue, this::find);
+        }
+        return result;
+    }
+
+    /**
+     * Loads the Sagas of which the identifier matches the given {@code sagaIdentifierFilter} ahead of processing, for
+     * example into a cache of the underlying storage. Invoked when an event processor claims a segment, with a filter
+     * matching the identifiers of the Sagas belonging to that segment.
+     * <p>
+     * The default implementation does nothing.
+     *
+     * @param sagaIdentifierFilter The filter the identifiers of the Sagas to preload must match
+     * @since 4.11.0
+     */
+    default void preload(Predicate<String> sagaIdentifierFilter) {
+    }
+
+    /**
+     * Find saga instances that have been associated with the given {@code associationValue} and belong to the given
+     * {@code segment}. Implementations may use this to avoid finding the Sagas of other segments in the underlying
+     * storage. The result may still contain Sagas of other segments, so callers should check whether the returned
+     * Sagas belong to the segment.
+     * <p>
+     * The default implementation invokes {@link #find(AssociationValue)} and filters the result using
+     * {@link Segment#matches(Object)}.
+     *
+     * @param associationValue The value that the returned Sagas must be associated with
+     * @param segment          The segment the returned Sagas must belong to
+     * @return A Set containing the identifiers of the found Sagas. Will never return {@code null}.
+     * @since 4.11.0
+     */
+    default Set<String> find(AssociationValue associationValue, Segment segment) {
+        return find(associationValue).stream()
+                                     .filter(segment::matches)
+                                     .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    /**
+     * Find saga instances belonging to the given {@code segment} associated with any of the given
+     * {@code associationValues}, per association value. Like {@link #find(AssociationValue, Segment)}, the result may
+     * still contain Sagas of other segments.
+     * <p>
+     * The default implementation invokes {@link #findAll(Collection)} and filters the result using
+     * {@link Segment#matches(Object)}.
+     *
+     * @param associationValues The values that the returned Sagas must be associated with
+     * @param segment           The segment the returned Sagas must belong to
+     * @return A Map from every given association value to the identifiers of the Sagas associated with it. Will never
+     * return {@code null}.
+     * @since 4.11.0
+     */
+    default Map<AssociationValue, Set<String>> findAll(Collection<AssociationValue> associationValues,
+                                                       Segment segment) {
+        Map<AssociationValue, Set<String>> result = new HashMap<>();
+        findAll(associationValues).forEach((associationValue, sagaIdentifiers) -> result.put(
+                associationValue,
+                sagaIdentifiers.stream().filter(segment::matches).collect(Collectors.toCollection(TreeSet::new))
+        ));
+        return result;
+    }
+
+    /**
+     * Loads the Sagas belonging to the given {@code segment} ahead of processing, for example into a cache of the
+     * underlying storage. Invoked when an event processor claims the segment.
+     * <p>
+     * The default implementation invokes {@link #preload(Predicate)} with a filter matching the identifiers of the
+     * Sagas belonging to the given {@code segment}.
+     *
+     * @param segment The segment the Sagas to preload belong to
+     * @since 4.11.0
+     */
+    default void preload(Segment segment) {
+        preload(segment::matches);
+    }
+
     /**
      * Loads a known Saga instance by its unique identifier.
      * Due to the concurrent nature of Sagas, it is not unlikely for a Saga to have ceased to exist after it has been
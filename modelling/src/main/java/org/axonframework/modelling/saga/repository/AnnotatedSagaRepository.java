@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2022. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,6 +19,7 @@
 import org.axonframework.common.AxonConfigurationException;
 import org.axonframework.common.CollectionUtils;
 import org.axonframework.common.lock.LockFactory;
+import org.axonframework.eventhandling.Segment;
 import org.axonframework.messaging.annotation.HandlerDefinition;
 import org.axonframework.messaging.annotation.MessageHandlerInterceptorMemberChain;
 import org.axonframework.messaging.annotation.ParameterResolverFactory;
@@ -32,12 +33,18 @@
 import org.axonframework.modelling.saga.metamodel.AnnotationSagaMetaModelFactory;
 import org.axonframework.modelling.saga.metamodel.SagaModel;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -62,6 +69,9 @@
 
     private final Map<String, AnnotatedSaga<T>> managedSagas;
     private final String unsavedSagasResourceKey;
+    private final boolean batchedPersistence;
+    private final String pendingSagasResourceKey;
+    private final String storedAssociationsResourceKey;
 
     /**
      * Instantiate a {@link AnnotatedSagaRepository} based on the fields contained in the {@link Builder}.
@@ -83,6 +93,9 @@ protected AnnotatedSagaRepository(Builder<T> builder) {
         this.resourceInjector = builder.resourceInjector;
         this.managedSagas = new ConcurrentHashMap<>();
         this.unsavedSagasResourceKey = "Repository[" + sagaType.getSimpleName() + "]/UnsavedSagas";
+        this.batchedPersistence = builder.batchedPersistence;
+        this.pendingSagasResourceKey = "Repository[" + sagaType.getSimpleName() + "]/PendingSagas";
+        this.storedAssociationsResourceKey = "Repository[" + sagaType.getSimpleName() + "]/StoredAssociations";
     }
 
     /**
@@ -116,10 +129,15 @@ public AnnotatedSaga<T> doLoad(String sagaIdentifier) {
         });
 
         if (loadedSaga != null && unsavedSagaResource(processRoot).add(sagaIdentifier)) {
-            unitOfWork.onPrepareCommit(u -> {
-                unsavedSagaResource(processRoot).remove(sagaIdentifier);
-                commit(loadedSaga);
-            });
+            if (batchedPersistence) {
+                pendingSagaResource(unitOfWork).put(sagaIdentifier, new PendingSaga<>(loadedSaga, false));
+                unitOfWork.onPrepareCommit(u -> flushPendingSagas(unitOfWork, processRoot));
+            } else {
+                unitOfWork.onPrepareCommit(u -> {
+                    unsavedSagaResource(processRoot).remove(sagaIdentifier);
+                    commit(loadedSaga);
+                });
+            }
         }
         return loadedSaga;
     }
@@ -138,13 +156,18 @@ public AnnotatedSaga<T> doCreateInstance(String sagaIdentifier, Supplier<T> saga
                                         chainedInterceptor);
 
             unsavedSagaResource(processRoot).add(sagaIdentifier);
-            unitOfWork.onPrepareCommit(u -> {
-                if (saga.isActive()) {
-                    storeSaga(saga);
-                    saga.getAssociationValues().commit();
-                    unsavedSagaResource(processRoot).remove(sagaIdentifier);
-                }
-            });
+            if (batchedPersistence) {
+                pendingSagaResource(unitOfWork).put(sagaIdentifier, new PendingSaga<>(saga, true));
+                unitOfWork.onPrepareCommit(u -> flushPendingSagas(unitOfWork, processRoot));
+            } else {
+                unitOfWork.onPrepareCommit(u -> {
+                    if (saga.isActive()) {
+                        storeSaga(saga);
+                        saga.getAssociationValues().commit();
+                        unsavedSagaResource(processRoot).remove(sagaIdentifier);
+                    }
+                });
+            }
 
             managedSagas.put(sagaIdentifier, saga);
             processRoot.onCleanup(u -> managedSagas.remove(sagaIdentifier));
@@ -165,6 +188,61 @@ protected Set<String> unsavedSagaResource(UnitOfWork<?> unitOfWork) {
         return unitOfWork.getOrComputeResource(unsavedSagasResourceKey, i -> new HashSet<>());
     }
 
+    private Map<String, PendingSaga<T>> pendingSagaResource(UnitOfWork<?> unitOfWork) {
+        return unitOfWork.getOrComputeResource(pendingSagasResourceKey, i -> new LinkedHashMap<>());
+    }
+
+    /**
+     * Writes all sagas created or loaded in the given {@code unitOfWork} to the saga store in a single
+     * {@link SagaStore#applyChanges(Class, List)} invocation. The first prepare commit handler registered for a saga in
+     * the Unit of Work flushes the sagas of all others, which find nothing left to flush once invoked. As handling has
+     * completed once the Unit of Work prepares to commit, this writes the final state of every saga touched by the
+     * batch of messages processed in the Unit of Work.
+     */
+    private void flushPendingSagas(UnitOfWork<?> unitOfWork, UnitOfWork<?> processRoot) {
+        Map<String, PendingSaga<T>> pendingSagas = pendingSagaResource(unitOfWork);
+        if (pendingSagas.isEmpty()) {
+            return;
+        }
+        List<PendingSaga<T>> flushed = new ArrayList<>(pendingSagas.values());
+        pendingSagas.clear();
+
+        List<SagaChange<T>> changes = new ArrayList<>(flushed.size());
+        for (PendingSaga<T> pendingSaga : flushed) {
+            AnnotatedSaga<T> saga = pendingSaga.saga;
+            if (pendingSaga.created) {
+                if (saga.isActive()) {
+                    changes.add(SagaChange.insert(saga.getSagaIdentifier(),
+                                                  saga.root(),
+                                                  saga.getAssociationValues().asSet()));
+                }
+            } else {
+                unsavedSagaResource(processRoot).remove(saga.getSagaIdentifier());
+                if (saga.isActive()) {
+                    changes.add(SagaChange.update(saga.getSagaIdentifier(), saga.root(), saga.getAssociationValues()));
+                } else {
+                    changes.add(SagaChange.delete(saga.getSagaIdentifier(), CollectionUtils.merge(
+                            saga.getAssociationValues().asSet(),
+                            saga.getAssociationValues().removedAssociations(),
+                            HashSet::new
+                    )));
+                }
+            }
+        }
+        if (!changes.isEmpty()) {
+            sagaStore.applyChanges(sagaType, changes);
+        }
+        for (PendingSaga<T> pendingSaga : flushed) {
+            AnnotatedSaga<T> saga = pendingSaga.saga;
+            if (saga.isActive()) {
+                saga.getAssociationValues().commit();
+                if (pendingSaga.created) {
+                    unsavedSagaResource(processRoot).remove(saga.getSagaIdentifier());
+                }
+            }
+        }
+    }
+
     /**
      * Commits the given modified {@code saga} to the underlying saga store. If the saga is not active anymore it will
      * be deleted. Otherwise the stored saga and its associations will be updated.
@@ -182,14 +260,107 @@ protected void commit(AnnotatedSaga<T> saga) {
 
     @Override
     public Set<String> find(AssociationValue associationValue) {
-        Set<String> sagasFound = new TreeSet<>();
-        sagasFound.addAll(managedSagas.values().stream()
-                                      .filter(saga -> saga.getAssociationValues().contains(associationValue))
-                                      .map(Saga::getSagaIdentifier).collect(Collectors.toList()));
-        sagasFound.addAll(sagaStore.findSagas(sagaType, associationValue));
+        return find(associationValue, Segment.ROOT_SEGMENT);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Stored associations resolved for the same segment earlier in the current Unit of Work, through
+     * {@link #findAll(Collection, Segment)}, are served from the Unit of Work. Otherwise, the stored associations are
+     * resolved through {@link SagaStore#findSagas(Class, AssociationValue, Segment)}.
+     */
+    @Override
+    public Set<String> find(AssociationValue associationValue, Segment segment) {
+        Set<String> sagasFound = findManagedSagas(associationValue, segment);
+        Map<AssociationValue, Set<String>> storedAssociations =
+                CurrentUnitOfWork.isStarted()
+                        ? CurrentUnitOfWork.get().getResource(storedAssociationsResourceKey(segment))
+                        : null;
+        Set<String> storedSagas = storedAssociations != null ? storedAssociations.get(associationValue) : null;
+        sagasFound.addAll(storedSagas != null ? storedSagas : findStoredSagas(associationValue, segment));
         return sagasFound;
     }
 
+    @Override
+    public Map<AssociationValue, Set<String>> findAll(Collection<AssociationValue> associationValues) {
+        return findAll(associationValues, Segment.ROOT_SEGMENT);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The association values are resolved through a single invocation of
+     * {@link SagaStore#findSagas(Class, Collection, Segment)}. The stored associations found are kept in the current
+     * Unit of Work, serving subsequent invocations of {@link #find(AssociationValue, Segment)} with any of the given
+     * association values and the same segment in that Unit of Work. Sagas stored by this repository are written when
+     * the Unit of Work prepares to commit, so the stored associations do not change while it processes its messages.
+     * Associations of the sagas created or loaded in the Unit of Work are always resolved from the managed saga
+     * instances.
+     */
+    @Override
+    public Map<AssociationValue, Set<String>> findAll(Collection<AssociationValue> associationValues,
+                                                      Segment segment) {
+        Map<AssociationValue, Set<String>> storedSagas = Segment.ROOT_SEGMENT.equals(segment)
+                ? sagaStore.findSagas(sagaType, associationValues)
+                : sagaStore.findSagas(sagaType, associationValues, segment);
+        Map<AssociationValue, Set<String>> sagasFound = new HashMap<>();
+        for (AssociationValue associationValue : associationValues) {
+            Set<String> stored = storedSagas.getOrDefault(associationValue, Collections.emptySet());
+            if (CurrentUnitOfWork.isStarted()) {
+                CurrentUnitOfWork.get()
+                                 .<Map<AssociationValue, Set<String>>>getOrComputeResource(
+                                         storedAssociationsResourceKey(segment), k -> new HashMap<>()
+                                 )
+                                 .put(associationValue, stored);
+            }
+            Set<String> found = findManagedSagas(associationValue, segment);
+            found.addAll(stored);
+            sagasFound.put(associationValue, found);
+        }
+        return sagasFound;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Delegates to {@link SagaStore#preload(Class, Predicate)}, which only has effect for stores keeping sagas in
+     * memory, such as the {@link CachingSagaStore}.
+     */
+    @Override
+    public void preload(Predicate<String> sagaIdentifierFilter) {
+        sagaStore.preload(sagaType, sagaIdentifierFilter);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Delegates to {@link SagaStore#preload(Class, Segment)}, which only has effect for stores keeping sagas in
+     * memory, such as the {@link CachingSagaStore}.
+     */
+    @Override
+    public void preload(Segment segment) {
+        sagaStore.preload(sagaType, segment);
+    }
+
+    private Set<String> findStoredSagas(AssociationValue associationValue, Segment segment) {
+        return Segment.ROOT_SEGMENT.equals(segment)
+                ? sagaStore.findSagas(sagaType, associationValue)
+                : sagaStore.findSagas(sagaType, associationValue, segment);
+    }
+
+    private Set<String> findManagedSagas(AssociationValue associationValue, Segment segment) {
+        return managedSagas.values().stream()
+                           .filter(saga -> saga.getAssociationValues().contains(associationValue))
+                           .map(Saga::getSagaIdentifier)
+                           .filter(segment::matches)
+                           .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    private String storedAssociationsResourceKey(Segment segment) {
+        return storedAssociationsResourceKey + "/" + segment.getSegmentId() + "/" + segment.getMask();
+    }
+
     /**
      * Remove the given saga as well as all known association values pointing to it from the repository. If no such saga
      * exists, nothing happens.
@@ -241,6 +412,17 @@ protected AnnotatedSaga<T> doLoadSaga(String sagaIdentifier) {
         return null;
     }
 
+    private static class PendingSaga<T> {
+
+        private final AnnotatedSaga<T> saga;
+        private final boolean created;
+
+        private PendingSaga(AnnotatedSaga<T> saga, boolean created) {
+            this.saga = saga;
+            this.created = created;
+        }
+    }
+
     /**
      * Builder class to instantiate a {@link AnnotatedSagaRepository}.
      * <p>
@@ -261,6 +443,7 @@ protected AnnotatedSaga<T> doLoadSaga(String sagaIdentifier) {
         private MessageHandlerInterceptorMemberChain<T> interceptorMemberChain;
         private SagaStore<? super T> sagaStore;
         private ResourceInjector resourceInjector = NoResourceInjector.INSTANCE;
+        private boolean batchedPersistence = false;
 
         @Override
         public Builder<T> lockFactory(LockFactory lockFactory) {
@@ -364,6 +547,22 @@ public Builder<T> interceptorMemberChain(MessageHandlerInterceptorMemberChain<T>
             return this;
         }
 
+        /**
+         * Sets whether the sagas created or loaded within a {@link UnitOfWork} are written to the {@link SagaStore}
+         * together, through a single {@link SagaStore#applyChanges(Class, List)} invocation when the Unit of Work
+         * prepares to commit. When processing events in batches, this writes all sagas touched by the batch at once,
+         * allowing stores to use JDBC batch statements or a single flush. Defaults to {@code false}, in which case
+         * every saga is written separately through {@link AnnotatedSagaRepository#commit(AnnotatedSaga)} and
+         * {@link AnnotatedSagaRepository#storeSaga(AnnotatedSaga)}.
+         *
+         * @param batchedPersistence whether to write all sagas of a Unit of Work to the store together
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder<T> batchedPersistence(boolean batchedPersistence) {
+            this.batchedPersistence = batchedPersistence;
+            return this;
+        }
+
         /**
          * Initializes a {@link AnnotatedSagaRepository} as specified through this Builder.
          *
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2018. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,9 +18,13 @@
 
 import org.axonframework.modelling.saga.AssociationValue;
 
-import java.io.Serializable;
-import java.util.*;
-import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 
 /**
@@ -30,20 +34,31 @@
  * Note that this "map" does not implement the Map interface. This is mainly due to the specific nature and intent of
  * this implementation. For example, the Map interface does not allow a single key to point to more than one value.
  * <p/>
- * This implementation is thread safe and has an expected average time cost of {@code log(n)}.
+ * The associations are indexed by a hash of the saga type and association value. As most association values refer to
+ * a single Saga, such an entry only holds the identifier of that Saga. A set of identifiers is only allocated once a
+ * second Saga is associated with the same value.
+ * <p/>
+ * This implementation is thread safe and has an expected average time cost of {@code O(1)} for lookups, additions and
+ * removals.
  *
  * @author Allard Buijze
  * @since 0.7
  */
 public class AssociationValueMap {
 
-    private final NavigableSet<SagaAssociationValue> mappings;
+    // rough estimates for a 64-bit JVM with compressed references
+    private static final int INDEX_ENTRY_BYTES = 32 + 24;
+    private static final int IDENTIFIER_SET_BYTES = 64;
+    private static final int IDENTIFIER_SET_ENTRY_BYTES = 48;
+
+    private final ConcurrentMap<IndexKey, Object> mappings = new ConcurrentHashMap<>();
+    private final AtomicInteger associationCount = new AtomicInteger();
+    private final AtomicInteger identifierSetCount = new AtomicInteger();
 
     /**
      * Initializes a new and empty AssociationValueMap.
      */
     public AssociationValueMap() {
-        mappings = new ConcurrentSkipListSet<>(new AssociationValueComparator());
     }
 
     /**
@@ -53,18 +68,15 @@ public AssociationValueMap() {
      * @param associationValue The associationValue to find Sagas for
      * @return A set of Saga identifiers
      */
+    @SuppressWarnings("unchecked")
     public Set<String> findSagas(String sagaType, AssociationValue associationValue) {
-        Set<String> identifiers = new HashSet<>();
-        for (SagaAssociationValue item : mappings.tailSet(new SagaAssociationValue(associationValue, sagaType, null))) {
-            if (!item.getKey().equals(associationValue.getKey())) {
-                // we've had all relevant items
-                break;
-            }
-            if (associationValue.equals(item.getAssociationValue()) && sagaType.equals(item.getSagaType())) {
-                identifiers.add(item.getSagaIdentifier());
-            }
+        Object identifiers = mappings.get(new IndexKey(sagaType, associationValue));
+        if (identifiers == null) {
+            return new HashSet<>();
         }
-        return identifiers;
+        return identifiers instanceof String
+                ? new HashSet<>(Collections.singleton((String) identifiers))
+                : new HashSet<>((Set<String>) identifiers);
     }
 
     /**
@@ -74,8 +86,29 @@ public Set<String> findSagas(String sagaType, AssociationValue associationValue)
      * @param sagaType         The type of the associated Saga
      * @param sagaIdentifier   The identifier of the associated Saga
      */
+    @SuppressWarnings("unchecked")
     public void add(AssociationValue associationValue, String sagaType, String sagaIdentifier) {
-        mappings.add(new SagaAssociationValue(associationValue, sagaType, sagaIdentifier));
+        mappings.compute(new IndexKey(sagaType, associationValue), (key, identifiers) -> {
+            if (identifiers == null) {
+                associationCount.incrementAndGet();
+                return sagaIdentifier;
+            }
+            if (identifiers instanceof String) {
+                if (identifiers.equals(sagaIdentifier)) {
+                    return identifiers;
+                }
+                Set<String> identifierSet = ConcurrentHashMap.newKeySet();
+                identifierSet.add((String) identifiers);
+                identifierSet.add(sagaIdentifier);
+                associationCount.incrementAndGet();
+                identifierSetCount.incrementAndGet();
+                return identifierSet;
+            }
+            if (((Set<String>) identifiers).add(sagaIdentifier)) {
+                associationCount.incrementAndGet();
+            }
+            return identifiers;
+        });
     }
 
     /**
@@ -85,15 +118,35 @@ public void add(AssociationValue associationValue, String sagaType, String sagaI
      * @param sagaType         The type of the associated Saga
      * @param sagaIdentifier   The identifier of the associated Saga
      */
+    @SuppressWarnings("unchecked")
     public void remove(AssociationValue associationValue, String sagaType, String sagaIdentifier) {
-        mappings.remove(new SagaAssociationValue(associationValue, sagaType, sagaIdentifier));
+        mappings.computeIfPresent(new IndexKey(sagaType, associationValue), (key, identifiers) -> {
+            if (identifiers instanceof String) {
+                if (!identifiers.equals(sagaIdentifier)) {
+                    return identifiers;
+                }
+                associationCount.decrementAndGet();
+                return null;
+            }
+            Set<String> identifierSet = (Set<String>) identifiers;
+            if (!identifierSet.remove(sagaIdentifier)) {
+                return identifiers;
+            }
+            associationCount.decrementAndGet();
+            if (identifierSet.size() > 1) {
+                return identifierSet;
+            }
+            // fall back to the compact representation for the remaining saga
+            identifierSetCount.decrementAndGet();
+            return identifierSet.isEmpty() ? null : identifierSet.iterator().next();
+        });
     }
 
     /**
      * Clears all the associations.
      */
     public void clear() {
-        mappings.clear();
+        mappings.keySet().forEach(key -> remove(key));
     }
 
     /**
@@ -107,92 +160,76 @@ public boolean isEmpty() {
 
     /**
      * Returns an approximation of the size of this map. Due to the concurrent nature of this map, size cannot return
-     * an
-     * accurate value.
+     * an accurate value while associations are added or removed concurrently.
      * <p/>
-     * This is not a constant-time operation. The backing store of this map requires full traversal of elements to
-     * calculate this size.
+     * This is a constant-time operation.
      *
      * @return an approximation of the number of elements in this map
      */
     public int size() {
-        return mappings.size();
+        return associationCount.get();
     }
 
-    private static final class SagaAssociationValue {
-
-        private final AssociationValue associationValue;
-        private final String sagaType;
-        private final String sagaIdentifier;
-
-        private SagaAssociationValue(AssociationValue associationValue, String sagaType, String sagaIdentifier) {
-            this.associationValue = associationValue;
-            this.sagaType = sagaType;
-            this.sagaIdentifier = sagaIdentifier;
-        }
-
-        public AssociationValue getAssociationValue() {
-            return associationValue;
-        }
+    /**
+     * Returns a rough estimate of the number of bytes occupied by the index structures of this map. The estimate
+     * includes the hash table entries and the sets of identifiers for association values referring to several Sagas,
+     * but excludes the association values and identifiers themselves, as these are typically shared with the Sagas
+     * they belong to.
+     * <p/>
+     * This is a constant-time operation.
+     *
+     * @return a rough estimate of the number of bytes occupied by this map
+     */
+    public long estimatedMemoryUsage() {
+        int sets = identifierSetCount.get();
+        long indexEntries = mappings.size();
+        long setEntries = Math.max(0, associationCount.get() - (indexEntries - sets));
+        return indexEntries * INDEX_ENTRY_BYTES
+                + (long) sets * IDENTIFIER_SET_BYTES
+                + setEntries * IDENTIFIER_SET_ENTRY_BYTES;
+    }
 
-        public String getSagaIdentifier() {
-            return sagaIdentifier;
-        }
+    private void remove(IndexKey key) {
+        mappings.computeIfPresent(key, (k, identifiers) -> {
+            if (identifiers instanceof Set) {
+                associationCount.addAndGet(-((Set<?>) identifiers).size());
+                identifierSetCount.decrementAndGet();
+            } else {
+                associationCount.decrementAndGet();
+            }
+            return null;
+        });
+    }
 
-        public String getKey() {
-            return associationValue.getKey();
-        }
+    private static final class IndexKey {
 
-        public Object getValue() {
-            return associationValue.getValue();
-        }
+        private final String sagaType;
+        private final AssociationValue associationValue;
+        private final int hashCode;
 
-        public String getSagaType() {
-            return sagaType;
+        private IndexKey(String sagaType, AssociationValue associationValue) {
+            this.sagaType = sagaType;
+            this.associationValue = associationValue;
+            this.hashCode = 31 * Objects.hashCode(sagaType) + associationValue.hashCode();
         }
-    }
-
-    private static class AssociationValueComparator implements Comparator<SagaAssociationValue>, Serializable {
-
-        private static final long serialVersionUID = -8733800489211327001L;
 
-        @SuppressWarnings({"unchecked"})
         @Override
-        public int compare(SagaAssociationValue o1, SagaAssociationValue o2) {
-            int value = o1.getKey().compareTo(o2.getKey());
-            if (value == 0 && !Objects.equals(o1.getValue(), o2.getValue())) {
-                value = o1.getValue().getClass().getName().compareTo(o2.getValue().getClass().getName());
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
             }
-            if (value == 0 && !Objects.equals(o1.getValue(), o2.getValue())) {
-                // the objects are of the same class
-                if (o1.getValue() instanceof Comparable) {
-                    value = ((Comparable) o1.getValue()).compareTo(o2.getValue());
-                } else {
-                    value = o1.getValue().hashCode() - o2.getValue().hashCode();
-                    if (value == 0 && o1.getValue() != o2.getValue()) {
-                        value = o1.getValue().toString().compareTo(o2.getValue().toString());
-                    }
-                }
-            }
-
-            if (value == 0 && !Objects.equals(o1.getSagaType(), o2.getSagaType())) {
-                if (o1.getSagaType() == null) {
-                    return -1;
-                } else if (o2.getSagaType() == null) {
-                    return 1;
-                }
-                return o1.getSagaType().compareTo(o2.getSagaType());
+            if (o == null || getClass() != o.getClass()) {
+                return false;
             }
+            IndexKey other = (IndexKey) o;
+            return hashCode == other.hashCode
+                    && Objects.equals(sagaType, other.sagaType)
+                    && associationValue.equals(other.associationValue);
+        }
 
-            if (value == 0 && !Objects.equals(o1.getSagaIdentifier(), o2.getSagaIdentifier())) {
-                if (o1.getSagaIdentifier() == null) {
-                    return -1;
-                } else if (o2.getSagaIdentifier() == null) {
-                    return 1;
-                }
-                return o1.getSagaIdentifier().compareTo(o2.getSagaIdentifier());
-            }
-            return value;
+        @Override
+        public int hashCode() {
+            return hashCode;
         }
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2022. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,15 +18,30 @@
 
 import org.axonframework.common.AxonConfigurationException;
 import org.axonframework.common.caching.Cache;
+import org.axonframework.eventhandling.Segment;
 import org.axonframework.modelling.saga.AssociationValue;
 import org.axonframework.modelling.saga.AssociationValues;
 import org.axonframework.modelling.saga.SagaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import static org.axonframework.common.BuilderUtils.assertNonNull;
+import static org.axonframework.common.BuilderUtils.assertPositive;
+import static org.axonframework.common.BuilderUtils.assertStrictPositive;
 
 /**
  * Saga Repository implementation that adds caching behavior to the repository it wraps. Both associations and sagas are
@@ -35,6 +50,10 @@
  * <p>
  * Updating associations involves a read and write, which are performed atomically. Therefore, it is unsafe to add or
  * remove specific associations outside this instance. Obviously, clearing and evictions are safe.
+ * <p>
+ * Optionally, the sagas belonging to a segment can be {@link #preload(Class, Predicate) preloaded} into the caches when
+ * an event processor claims that segment. This is enabled by configuring a {@link Builder#preloadLimit(int) preload
+ * limit}, which bounds the number of sagas loaded per segment to protect the memory of the application.
  *
  * @param <T> The saga type
  * @author Allard Buijze
@@ -42,9 +61,14 @@
  */
 public class CachingSagaStore<T> implements SagaStore<T> {
 
+    private static final Logger logger = LoggerFactory.getLogger(CachingSagaStore.class);
+
     private final SagaStore<T> delegate;
     private final Cache associationsCache;
     private final Cache sagaCache;
+    private final int preloadLimit;
+    private final int preloadPageSize;
+    private final int preloadScanLimit;
 
     /**
      * Instantiate a {@link CachingSagaStore} based on the fields contained in the {@link Builder}.
@@ -59,13 +83,18 @@ protected CachingSagaStore(Builder<T> builder) {
         this.delegate = builder.delegateSagaStore;
         this.associationsCache = builder.associationsCache;
         this.sagaCache = builder.sagaCache;
+        this.preloadLimit = builder.preloadLimit;
+        this.preloadPageSize = builder.preloadPageSize;
+        this.preloadScanLimit = builder.preloadScanLimit;
     }
 
     /**
      * Instantiate a Builder to be able to create a {@link CachingSagaStore}.
      * <p>
      * The {@code delegateSagaStore} of type {@link SagaStore}, the {@code associationsCache} and {@code sagaCache}
-     * (both of type {@link Cache}) are <b>hard requirements</b> and as such should be provided.
+     * (both of type {@link Cache}) are <b>hard requirements</b> and as such should be provided. Preloading is
+     * disabled by default, and reads {@code 1000} saga identifiers per page, up to {@code 10000} saga identifiers per
+     * segment, when enabled.
      *
      * @param <T> a generic specifying the Saga type contained in this {@link SagaRepository } implementation
      * @return a Builder to be able to create a {@link CachingSagaStore}
@@ -87,6 +116,38 @@ public Set<String> findSagas(Class<? extends T> sagaType, AssociationValue assoc
         );
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Association values present in the associations cache are resolved from the cache. All others are resolved
+     * through a single invocation of the delegate, after which their results are cached.
+     */
+    @Override
+    public Map<AssociationValue, Set<String>> findSagas(Class<? extends T> sagaType,
+                                                        Collection<AssociationValue> associationValues) {
+        Map<AssociationValue, Set<String>> result = new HashMap<>();
+        List<AssociationValue> uncached = new ArrayList<>();
+        for (AssociationValue associationValue : associationValues) {
+            Set<String> cached = associationsCache.get(cacheKey(associationValue, sagaType));
+            if (cached != null) {
+                result.put(associationValue, cached);
+            } else {
+                uncached.add(associationValue);
+            }
+        }
+        if (!uncached.isEmpty()) {
+            Map<AssociationValue, Set<String>> found = delegate.findSagas(sagaType, uncached);
+            for (AssociationValue associationValue : uncached) {
+                Set<String> sagaIdentifiers = found.getOrDefault(associationValue, Collections.emptySet());
+                result.put(associationValue, associationsCache.computeIfAbsent(
+                        cacheKey(associationValue, sagaType),
+                        () -> new ConcurrentSkipListSet<>(sagaIdentifiers)
+                ));
+            }
+        }
+        return result;
+    }
+
     @Override
     public <S extends T> Entry<S> loadSaga(Class<S> sagaType, String sagaIdentifier) {
         Entry<S> saga = sagaCache.get(sagaIdentifier);
@@ -99,6 +160,120 @@ public <S extends T> Entry<S> loadSaga(Class<S> sagaType, String sagaIdentifier)
         return saga;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Sagas present in the saga cache are served from the cache. All others are loaded through a single invocation of
+     * the delegate, after which they are cached.
+     */
+    @Override
+    public <S extends T> Map<String, Entry<S>> loadSagas(Class<S> sagaType, Collection<String> sagaIdentifiers) {
+        Map<String, Entry<S>> result = new HashMap<>();
+        List<String> uncached = new ArrayList<>();
+        for (String sagaIdentifier : sagaIdentifiers) {
+            Entry<S> cached = sagaCache.get(sagaIdentifier);
+            if (cached != null) {
+                result.put(sagaIdentifier, cached);
+            } else {
+                uncached.add(sagaIdentifier);
+            }
+        }
+        if (!uncached.isEmpty()) {
+            delegate.loadSagas(sagaType, uncached).forEach((sagaIdentifier, entry) -> {
+                sagaCache.put(sagaIdentifier, new CacheEntry<T>(entry));
+                result.put(sagaIdentifier, entry);
+            });
+        }
+        return result;
+    }
+
+    @Override
+    public List<String> findSagaIdentifiers(Class<? extends T> sagaType, String afterSagaIdentifier, int pageSize) {
+        return delegate.findSagaIdentifiers(sagaType, afterSagaIdentifier, pageSize);
+    }
+
+    @Override
+    public List<String> findSagaIdentifiers(Class<? extends T> sagaType, Segment segment,
+                                            String afterSagaIdentifier, int pageSize) {
+        return delegate.findSagaIdentifiers(sagaType, segment, afterSagaIdentifier, pageSize);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Iterates over the identifiers of the stored sagas in pages of the configured
+     * {@link Builder#preloadPageSize(int) preload page size}. Matching sagas that are not cached yet are loaded in bulk
+     * into the saga cache, after which the sagas associated with their association values are resolved into the
+     * associations cache. Preloading stops once the configured {@link Builder#preloadLimit(int) preload limit} of sagas
+     * has been loaded, once the {@link Builder#preloadScanLimit(int) preload scan limit} of identifiers has been read,
+     * or after a page of which all matching sagas were cached already. Does nothing if no preload limit has been
+     * configured.
+     */
+    @Override
+    public void preload(Class<? extends T> sagaType, Predicate<String> sagaIdentifierFilter) {
+        preload(sagaType,
+                (lastSagaIdentifier, pageSize) -> delegate.findSagaIdentifiers(sagaType, lastSagaIdentifier, pageSize),
+                sagaIdentifierFilter);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Like {@link #preload(Class, Predicate)}, but iterates over the pages of identifiers returned by
+     * {@link SagaStore#findSagaIdentifiers(Class, Segment, String, int)} of the delegate, which skips the sagas of
+     * other segments in the underlying storage when the delegate supports doing so.
+     */
+    @Override
+    public void preload(Class<? extends T> sagaType, Segment segment) {
+        preload(sagaType,
+                (lastSagaIdentifier, pageSize) -> delegate.findSagaIdentifiers(sagaType, segment, lastSagaIdentifier,
+                                                                               pageSize),
+                segment::matches);
+    }
+
+    private void preload(Class<? extends T> sagaType, BiFunction<String, Integer, List<String>> pageAfter,
+                         Predicate<String> sagaIdentifierFilter) {
+        if (preloadLimit <= 0) {
+            return;
+        }
+        int preloaded = 0;
+        int scanned = 0;
+        String lastSagaIdentifier = null;
+        List<String> page;
+        int pageSize;
+        do {
+            pageSize = Math.min(preloadPageSize, preloadScanLimit - scanned);
+            page = pageAfter.apply(lastSagaIdentifier, pageSize);
+            if (page.isEmpty()) {
+                break;
+            }
+            scanned += page.size();
+            lastSagaIdentifier = page.get(page.size() - 1);
+            List<String> matching = page.stream().filter(sagaIdentifierFilter).collect(Collectors.toList());
+            List<String> sagasToLoad = matching.stream()
+                                               .filter(sagaIdentifier -> !sagaCache.containsKey(sagaIdentifier))
+                                               .limit((long) preloadLimit - preloaded)
+                                               .collect(Collectors.toList());
+            if (!matching.isEmpty() && sagasToLoad.isEmpty()) {
+                // the sagas of this segment were preloaded before, so the remaining ones are likely cached as well
+                break;
+            }
+            if (!sagasToLoad.isEmpty()) {
+                preloaded += preloadSagas(sagaType, sagasToLoad);
+            }
+        } while (preloaded < preloadLimit && scanned < preloadScanLimit && page.size() >= pageSize);
+        logger.debug("Preloaded {} sagas of type [{}] after reading {} saga identifiers.",
+                     preloaded, sagaType.getName(), scanned);
+    }
+
+    private <S extends T> int preloadSagas(Class<S> sagaType, List<String> sagaIdentifiers) {
+        Map<String, Entry<S>> entries = loadSagas(sagaType, sagaIdentifiers);
+        Set<AssociationValue> associationValues = new HashSet<>();
+        entries.values().forEach(entry -> associationValues.addAll(entry.associationValues()));
+        findSagas(sagaType, associationValues);
+        return entries.size();
+    }
+
     @Override
     public void insertSaga(Class<? extends T> sagaType, String sagaIdentifier, T saga,
                            Set<AssociationValue> associationValues) {
@@ -160,6 +335,30 @@ public void updateSaga(Class<? extends T> sagaType,
         addCachedAssociations(associationValues.addedAssociations(), sagaIdentifier, sagaType);
     }
 
+    @Override
+    public void applyChanges(Class<? extends T> sagaType, List<? extends SagaChange<? extends T>> changes) {
+        for (SagaChange<? extends T> change : changes) {
+            if (change.type() == SagaChange.Type.DELETE) {
+                sagaCache.remove(change.sagaIdentifier());
+                change.associationValues()
+                      .forEach(av -> removeAssociationValueFromCache(sagaType, change.sagaIdentifier(), av));
+            } else if (change.type() == SagaChange.Type.UPDATE) {
+                sagaCache.put(change.sagaIdentifier(), new CacheEntry<>(change.saga(), change.associationValues()));
+            }
+        }
+        delegate.applyChanges(sagaType, changes);
+        for (SagaChange<? extends T> change : changes) {
+            if (change.type() == SagaChange.Type.INSERT) {
+                sagaCache.put(change.sagaIdentifier(), new CacheEntry<>(change.saga(), change.associationValues()));
+                addCachedAssociations(change.associationValues(), change.sagaIdentifier(), sagaType);
+            } else if (change.type() == SagaChange.Type.UPDATE) {
+                change.removedAssociations()
+                      .forEach(av -> removeAssociationValueFromCache(sagaType, change.sagaIdentifier(), av));
+                addCachedAssociations(change.addedAssociations(), change.sagaIdentifier(), sagaType);
+            }
+        }
+    }
+
     private String cacheKey(AssociationValue associationValue, Class<?> sagaType) {
         return sagaType.getName() + "/" + associationValue.getKey() + "=" + associationValue.getValue();
     }
@@ -168,7 +367,9 @@ private String cacheKey(AssociationValue associationValue, Class<?> sagaType) {
      * Builder class to instantiate a {@link CachingSagaStore}.
      * <p>
      * The {@code delegateSagaStore} of type {@link SagaStore}, the {@code associationsCache} and {@code sagaCache}
-     * (both of type {@link Cache}) are <b>hard requirements</b> and as such should be provided.
+     * (both of type {@link Cache}) are <b>hard requirements</b> and as such should be provided. Preloading is
+     * disabled by default, and reads {@code 1000} saga identifiers per page, up to {@code 10000} saga identifiers per
+     * segment, when enabled.
      *
      * @param <T> a generic specifying the Saga type contained in this {@link SagaRepository} implementation
      */
@@ -177,6 +378,9 @@ private String cacheKey(AssociationValue associationValue, Class<?> sagaType) {
         private SagaStore<T> delegateSagaStore;
         private Cache associationsCache;
         private Cache sagaCache;
+        private int preloadLimit = 0;
+        private int preloadPageSize = 1000;
+        private int preloadScanLimit = 10000;
 
         /**
          * Sets the {@link SagaStore} instance providing access to (persisted) entries.
@@ -214,6 +418,49 @@ public Builder<T> sagaCache(Cache sagaCache) {
             return this;
         }
 
+        /**
+         * Sets the maximum number of sagas {@link CachingSagaStore#preload(Class, Predicate) preloaded} into the caches
+         * when an event processor claims a segment. Bounds the memory used by the sagas of a single segment, as well as
+         * the time it takes to claim a segment. Defaults to {@code 0}, which disables preloading.
+         *
+         * @param preloadLimit the maximum number of sagas to preload per segment, or {@code 0} to disable preloading
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder<T> preloadLimit(int preloadLimit) {
+            assertPositive(preloadLimit, "The preload limit may not be negative");
+            this.preloadLimit = preloadLimit;
+            return this;
+        }
+
+        /**
+         * Sets the number of saga identifiers read from the delegate {@link SagaStore} per page while
+         * {@link CachingSagaStore#preload(Class, Predicate) preloading}. Defaults to {@code 1000}.
+         *
+         * @param preloadPageSize the number of saga identifiers read per page while preloading
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder<T> preloadPageSize(int preloadPageSize) {
+            assertStrictPositive(preloadPageSize, "The preload page size should be strictly positive");
+            this.preloadPageSize = preloadPageSize;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of saga identifiers read from the delegate {@link SagaStore} while
+         * {@link CachingSagaStore#preload(Class, Predicate) preloading} the sagas of a segment. When the delegate
+         * cannot select the sagas of a segment in the underlying storage, the identifiers of the sagas of all segments
+         * are read and filtered in memory. This limit bounds the time it takes to claim a segment in that case.
+         * Defaults to {@code 10000}.
+         *
+         * @param preloadScanLimit the maximum number of saga identifiers read while preloading the sagas of a segment
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder<T> preloadScanLimit(int preloadScanLimit) {
+            assertStrictPositive(preloadScanLimit, "The preload scan limit should be strictly positive");
+            this.preloadScanLimit = preloadScanLimit;
+            return this;
+        }
+
         /**
          * Initializes a {@link CachingSagaStore} as specified through this Builder.
          *
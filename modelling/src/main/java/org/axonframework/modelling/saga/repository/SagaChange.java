@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2010-2024. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.modelling.saga.repository;
+
+import org.axonframework.modelling.saga.AssociationValue;
+import org.axonframework.modelling.saga.AssociationValues;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Describes a single modification of a saga that should be written to a {@link SagaStore}: the insertion of a new
+ * saga, the update of an existing saga, or the deletion of a saga. Changes are handed to a store in bulk through
+ * {@link SagaStore#applyChanges(Class, java.util.List)}, allowing the store to write them in as few round trips as
+ * possible.
+ *
+ * @param <T> the type of the saga
+ * @since 4.11.0
+ */
+public final class SagaChange<T> {
+
+    /**
+     * The kinds of modification a {@link SagaChange} may describe.
+     */
+    public enum Type {
+        /**
+         * A new saga, which should be inserted together with its initial association values.
+         */
+        INSERT,
+        /**
+         * An existing saga, of which the state and association values should be updated.
+         */
+        UPDATE,
+        /**
+         * An ended saga, which should be deleted together with all its association values.
+         */
+        DELETE
+    }
+
+    private final Type type;
+    private final String sagaIdentifier;
+    private final T saga;
+    private final Set<AssociationValue> associationValues;
+    private final AssociationValues associationValueChanges;
+
+    private SagaChange(Type type,
+                       String sagaIdentifier,
+                       T saga,
+                       Set<AssociationValue> associationValues,
+                       AssociationValues associationValueChanges) {
+        this.type = type;
+        this.sagaIdentifier = sagaIdentifier;
+        this.saga = saga;
+        this.associationValues = associationValues;
+        this.associationValueChanges = associationValueChanges;
+    }
+
+    /**
+     * Creates a change inserting the given new {@code saga} with its initial {@code associationValues}.
+     *
+     * @param sagaIdentifier    the identifier of the saga
+     * @param saga              the saga instance
+     * @param associationValues the initial association values of the saga
+     * @param <T>               the type of the saga
+     * @return a change inserting the given saga
+     */
+    public static <T> SagaChange<T> insert(String sagaIdentifier, T saga, Set<AssociationValue> associationValues) {
+        return new SagaChange<>(Type.INSERT, sagaIdentifier, saga, associationValues, null);
+    }
+
+    /**
+     * Creates a change updating the stored state of the given {@code saga}. The added and removed associations of the
+     * given {@code associationValues} describe the association values to store and remove. The given
+     * {@code associationValues} should not be committed before this change has been applied.
+     *
+     * @param sagaIdentifier    the identifier of the saga
+     * @param saga              the saga instance
+     * @param associationValues the association values of the saga, including uncommitted changes
+     * @param <T>               the type of the saga
+     * @return a change updating the given saga
+     */
+    public static <T> SagaChange<T> update(String sagaIdentifier, T saga, AssociationValues associationValues) {
+        return new SagaChange<>(Type.UPDATE, sagaIdentifier, saga, null, associationValues);
+    }
+
+    /**
+     * Creates a change deleting the saga with given {@code sagaIdentifier} and all its {@code associationValues}.
+     *
+     * @param sagaIdentifier    the identifier of the saga
+     * @param associationValues all known association values of the saga
+     * @param <T>               the type of the saga
+     * @return a change deleting the given saga
+     */
+    public static <T> SagaChange<T> delete(String sagaIdentifier, Set<AssociationValue> associationValues) {
+        return new SagaChange<>(Type.DELETE, sagaIdentifier, null, associationValues, null);
+    }
+
+    /**
+     * Returns the kind of modification described by this change.
+     *
+     * @return the kind of modification described by this change
+     */
+    public Type type() {
+        return type;
+    }
+
+    /**
+     * Returns the identifier of the saga to modify.
+     *
+     * @return the identifier of the saga to modify
+     */
+    public String sagaIdentifier() {
+        return sagaIdentifier;
+    }
+
+    /**
+     * Returns the saga instance to insert or update, or {@code null} if this change deletes a saga.
+     *
+     * @return the saga instance to insert or update, or {@code null} for deletions
+     */
+    public T saga() {
+        return saga;
+    }
+
+    /**
+     * Returns the association values of the saga. For insertions these are the initial association values, for updates
+     * the current association values, and for deletions all known association values, including removed ones.
+     *
+     * @return the association values of the saga
+     */
+    public Set<AssociationValue> associationValues() {
+        return type == Type.UPDATE ? associationValueChanges.asSet() : associationValues;
+    }
+
+    /**
+     * Returns the association values to store for the saga. For insertions these are all initial association values,
+     * for deletions this is always empty.
+     *
+     * @return the association values to store for the saga
+     */
+    public Set<AssociationValue> addedAssociations() {
+        switch (type) {
+            case INSERT:
+                return associationValues;
+            case UPDATE:
+                return associationValueChanges.addedAssociations();
+            default:
+                return Collections.emptySet();
+        }
+    }
+
+    /**
+     * Returns the association values to remove from an updated saga. For insertions and deletions this is always
+     * empty, as a deletion removes all association values of the saga.
+     *
+     * @return the association values to remove from an updated saga
+     */
+    public Set<AssociationValue> removedAssociations() {
+        return type == Type.UPDATE ? associationValueChanges.removedAssociations() : Collections.emptySet();
+    }
+
+    /**
+     * Returns the {@link AssociationValues} of an updated saga, including its uncommitted changes, or {@code null} for
+     * insertions and deletions.
+     *
+     * @return the {@link AssociationValues} of an updated saga, or {@code null} for insertions and deletions
+     */
+    public AssociationValues associationValueChanges() {
+        return associationValueChanges;
+    }
+
+    @Override
+    public String toString() {
+        return "SagaChange{type=" + type + ", sagaIdentifier='" + sagaIdentifier + "'}";
+    }
+}
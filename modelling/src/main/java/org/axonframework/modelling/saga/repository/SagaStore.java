@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2018. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,10 +16,19 @@
 
 package org.axonframework.modelling.saga.repository;
 
+import org.axonframework.eventhandling.Segment;
 import org.axonframework.modelling.saga.AssociationValue;
 import org.axonframework.modelling.saga.AssociationValues;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
  * Provides a mechanism to find, load update and delete sagas of type {@code T} from an underlying storage like a
@@ -39,6 +48,77 @@
      */
     Set<String> findSagas(Class<? extends T> sagaType, AssociationValue associationValue);
 
+    /**
+     * Returns identifiers of saga instances of the given {@code sagaType} per given association value, for all of the
+     * given {@code associationValues} at once. Implementations may use this to resolve the association values of a
+     * whole batch of events in a single query. The returned Map contains an entry for every given association value,
+     * mapping to an empty Set if no saga is associated with it.
+     * <p>
+     * The default implementation invokes {@link #findSagas(Class, AssociationValue)} for every association value.
+     *
+     * @param sagaType          The type of the returned sagas
+     * @param associationValues The values that the returned sagas must be associated with
+     * @return A Map from every given association value to the identifiers of the sagas associated with it
+     * @since 4.11.0
+     */
+    default Map<AssociationValue, Set<String>> findSagas(Class<? extends T> sagaType,
+                                                         Collection<AssociationValue> associationValues) {
+        Map<AssociationValue, Set<String>> result = new HashMap<>();
+        for (AssociationValue associationValue : associationValues) {
+            result.computeIfAbsent(associationValue, av -> findSagas(sagaType, av));
+        }
+        return result;
+    }
+
+    /**
+     * Returns identifiers of saga instances of the given {@code sagaType} that have been associated with the given
+     * {@code associationValue} and belong to the given {@code segment}. A saga belongs to a segment when the segment
+     * {@link Segment#matches(Object) matches} its identifier. Implementations may use a persisted
+     * {@link SegmentHash segment hash} to avoid returning the sagas of other segments.
+     * <p>
+     * Implementations may return sagas of other segments as well, for example when they were stored before the store
+     * kept track of segment hashes. Callers should therefore still check whether the returned sagas belong to the
+     * segment. The default implementation invokes {@link #findSagas(Class, AssociationValue)} and filters the result.
+     *
+     * @param sagaType         The type of the returned sagas
+     * @param associationValue The value that the returned sagas must be associated with
+     * @param segment          The segment the returned sagas must belong to
+     * @return A set of identifiers of sagas having the correct type and association value, belonging to the segment
+     * @since 4.11.0
+     */
+    default Set<String> findSagas(Class<? extends T> sagaType, AssociationValue associationValue, Segment segment) {
+        return findSagas(sagaType, associationValue).stream()
+                                                    .filter(segment::matches)
+                                                    .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    /**
+     * Returns identifiers of saga instances of the given {@code sagaType} belonging to the given {@code segment} per
+     * given association value, for all of the given {@code associationValues} at once. The returned Map contains an
+     * entry for every given association value, mapping to an empty Set if no saga of the segment is associated with
+     * it. Like {@link #findSagas(Class, AssociationValue, Segment)}, implementations may return sagas of other
+     * segments as well.
+     * <p>
+     * The default implementation invokes {@link #findSagas(Class, Collection)} and filters the result.
+     *
+     * @param sagaType          The type of the returned sagas
+     * @param associationValues The values that the returned sagas must be associated with
+     * @param segment           The segment the returned sagas must belong to
+     * @return A Map from every given association value to the identifiers of the sagas of the segment associated with
+     * it
+     * @since 4.11.0
+     */
+    default Map<AssociationValue, Set<String>> findSagas(Class<? extends T> sagaType,
+                                                         Collection<AssociationValue> associationValues,
+                                                         Segment segment) {
+        Map<AssociationValue, Set<String>> result = new HashMap<>();
+        findSagas(sagaType, associationValues).forEach((associationValue, sagaIdentifiers) -> result.put(
+                associationValue,
+                sagaIdentifiers.stream().filter(segment::matches).collect(Collectors.toCollection(TreeSet::new))
+        ));
+        return result;
+    }
+
     /**
      * Loads a known saga {@link Entry} instance with given {@code sagaType} and unique {@code sagaIdentifier}.
      * <p>
@@ -52,6 +132,101 @@
      */
     <S extends T> Entry<S> loadSaga(Class<S> sagaType, String sagaIdentifier);
 
+    /**
+     * Loads the saga {@link Entry entries} with given {@code sagaType} and {@code sagaIdentifiers} at once.
+     * Implementations may use this to load many sagas in as few round trips as possible. Sagas that do not exist are
+     * absent from the returned Map.
+     * <p>
+     * The default implementation invokes {@link #loadSaga(Class, String)} for every saga identifier.
+     *
+     * @param sagaType        The type of the returned saga entries
+     * @param sagaIdentifiers The unique identifiers of the saga entries to load
+     * @return A Map from saga identifier to saga entry, for every saga found
+     * @since 4.11.0
+     */
+    default <S extends T> Map<String, Entry<S>> loadSagas(Class<S> sagaType, Collection<String> sagaIdentifiers) {
+        Map<String, Entry<S>> result = new HashMap<>();
+        for (String sagaIdentifier : sagaIdentifiers) {
+            Entry<S> entry = loadSaga(sagaType, sagaIdentifier);
+            if (entry != null) {
+                result.put(sagaIdentifier, entry);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a page of at most {@code pageSize} identifiers of sagas of the given {@code sagaType}, in ascending
+     * order, starting after the given {@code afterSagaIdentifier}. Subsequent pages are found by passing the last
+     * identifier of the previous page. Used to iterate over all sagas of a type, for example to
+     * {@link #preload(Class, Predicate) preload} them, without holding all of them in memory at once.
+     * <p>
+     * The default implementation returns an empty list, indicating this store does not support iterating its sagas.
+     *
+     * @param sagaType            The type of the sagas
+     * @param afterSagaIdentifier The identifier after which the page starts, or {@code null} for the first page
+     * @param pageSize            The maximum number of identifiers to return
+     * @return A page of saga identifiers in ascending order, or an empty list if there are no more sagas
+     * @since 4.11.0
+     */
+    default List<String> findSagaIdentifiers(Class<? extends T> sagaType, String afterSagaIdentifier, int pageSize) {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Returns a page of at most {@code pageSize} identifiers of sagas of the given {@code sagaType} belonging to the
+     * given {@code segment}, in ascending order, starting after the given {@code afterSagaIdentifier}. Subsequent
+     * pages are found by passing the last identifier of the previous page. Implementations may use a persisted
+     * {@link SegmentHash segment hash} to avoid iterating over the sagas of other segments. Like
+     * {@link #findSagas(Class, AssociationValue, Segment)}, implementations may return sagas of other segments as
+     * well.
+     * <p>
+     * The default implementation returns the page returned by {@link #findSagaIdentifiers(Class, String, int)}, which
+     * includes the sagas of all segments. Callers filter the identifiers using {@link Segment#matches(String)}, which
+     * keeps the number of identifiers read per page bounded by the {@code pageSize}.
+     *
+     * @param sagaType            The type of the sagas
+     * @param segment             The segment the sagas must belong to
+     * @param afterSagaIdentifier The identifier after which the page starts, or {@code null} for the first page
+     * @param pageSize            The maximum number of identifiers to return
+     * @return A page of saga identifiers in ascending order, or an empty list if there are no more sagas
+     * @since 4.11.0
+     */
+    default List<String> findSagaIdentifiers(Class<? extends T> sagaType, Segment segment,
+                                             String afterSagaIdentifier, int pageSize) {
+        return findSagaIdentifiers(sagaType, afterSagaIdentifier, pageSize);
+    }
+
+    /**
+     * Loads the sagas of given {@code sagaType} of which the identifier matches the given {@code sagaIdentifierFilter},
+     * together with their associations, ahead of processing. Only stores keeping sagas in memory, like the
+     * {@link CachingSagaStore}, benefit from this.
+     * <p>
+     * The default implementation does nothing.
+     *
+     * @param sagaType             The type of the sagas to preload
+     * @param sagaIdentifierFilter The filter the identifiers of the sagas to preload must match
+     * @since 4.11.0
+     */
+    default void preload(Class<? extends T> sagaType, Predicate<String> sagaIdentifierFilter) {
+    }
+
+    /**
+     * Loads the sagas of given {@code sagaType} belonging to the given {@code segment}, together with their
+     * associations, ahead of processing. Only stores keeping sagas in memory, like the {@link CachingSagaStore},
+     * benefit from this.
+     * <p>
+     * The default implementation invokes {@link #preload(Class, Predicate)} with a filter matching the identifiers of
+     * the sagas belonging to the given {@code segment}.
+     *
+     * @param sagaType The type of the sagas to preload
+     * @param segment  The segment the sagas to preload belong to
+     * @since 4.11.0
+     */
+    default void preload(Class<? extends T> sagaType, Segment segment) {
+        preload(sagaType, segment::matches);
+    }
+
     /**
      * Deletes a Saga with given {@code sagaType} and {@code sagaIdentifier} and all its associations. For convenience
      * all known association values are passed along as well, which has the  advantage that the saga store is not
@@ -87,6 +262,37 @@
      */
     void updateSaga(Class<? extends T> sagaType, String sagaIdentifier, T saga, AssociationValues associationValues);
 
+    /**
+     * Applies the given {@code changes} to sagas of given {@code sagaType} in one go. Implementations may use this to
+     * write the changes of all sagas touched by a batch of events in as few round trips as possible, for example using
+     * JDBC batch statements.
+     * <p>
+     * The association values of updated sagas are committed by the caller after this method returns. The default
+     * implementation applies the changes one by one, through {@link #insertSaga(Class, String, Object, Set)},
+     * {@link #updateSaga(Class, String, Object, AssociationValues)} and {@link #deleteSaga(Class, String, Set)}.
+     *
+     * @param sagaType The type of the Sagas
+     * @param changes  The insertions, updates and deletions to apply, in the order in which they were registered
+     * @since 4.11.0
+     */
+    default void applyChanges(Class<? extends T> sagaType, List<? extends SagaChange<? extends T>> changes) {
+        for (SagaChange<? extends T> change : changes) {
+            switch (change.type()) {
+                case INSERT:
+                    insertSaga(sagaType, change.sagaIdentifier(), change.saga(), change.associationValues());
+                    break;
+                case UPDATE:
+                    updateSaga(sagaType, change.sagaIdentifier(), change.saga(), change.associationValueChanges());
+                    break;
+                case DELETE:
+                    deleteSaga(sagaType, change.sagaIdentifier(), change.associationValues());
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown saga change type: " + change.type());
+            }
+        }
+    }
+
     /**
      * Interface describing a Saga entry fetched from a SagaStore.
      *
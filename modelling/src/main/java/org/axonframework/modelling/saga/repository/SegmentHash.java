@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2010-2024. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.modelling.saga.repository;
+
+import org.axonframework.eventhandling.Segment;
+
+/**
+ * Utility class to compute the segment hash of a saga, which {@link SagaStore} implementations may persist to find
+ * the sagas belonging to a {@link Segment} without inspecting every saga.
+ * <p>
+ * A {@link Segment} matches a saga when the lowest bits of the hash code of its identifier, selected by the
+ * {@link Segment#getMask() mask} of the segment, equal the {@link Segment#getSegmentId() segment identifier}. The
+ * segment hash is the bit-reversed hash code of the saga identifier, as an unsigned value. Reversing the bits turns
+ * the lowest bits of the hash code into the highest bits of the segment hash, so that the segment hashes of the sagas
+ * of any segment form a single contiguous range, from {@link #lowerBound(Segment)} up to and including
+ * {@link #upperBound(Segment)}. A store can therefore select the sagas of a segment through an index range scan.
+ *
+ * @since 4.11.0
+ */
+public abstract class SegmentHash {
+
+    private static final long UNSIGNED_INT_MASK = 0xFFFFFFFFL;
+
+    private SegmentHash() {
+        // utility class
+    }
+
+    /**
+     * Returns the segment hash of the saga with given {@code sagaIdentifier}.
+     *
+     * @param sagaIdentifier The identifier of the saga
+     * @return the segment hash of the saga, between {@code 0} and {@code 2^32 - 1}
+     */
+    public static long of(String sagaIdentifier) {
+        return Integer.reverse(sagaIdentifier.hashCode()) & UNSIGNED_INT_MASK;
+    }
+
+    /**
+     * Returns the lowest segment hash of the sagas belonging to the given {@code segment}.
+     *
+     * @param segment The segment to return the lowest segment hash for
+     * @return the lowest segment hash of the sagas belonging to the given {@code segment}
+     */
+    public static long lowerBound(Segment segment) {
+        return Integer.reverse(segment.getSegmentId()) & UNSIGNED_INT_MASK;
+    }
+
+    /**
+     * Returns the highest segment hash of the sagas belonging to the given {@code segment}.
+     *
+     * @param segment The segment to return the highest segment hash for
+     * @return the highest segment hash of the sagas belonging to the given {@code segment}
+     */
+    public static long upperBound(Segment segment) {
+        return lowerBound(segment) + (1L << (Integer.SIZE - Integer.bitCount(segment.getMask()))) - 1;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2018. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,8 +18,12 @@
 
 import org.axonframework.modelling.saga.AssociationValue;
 import org.axonframework.modelling.saga.AssociationValues;
+import org.axonframework.modelling.saga.repository.AssociationValueMap;
 import org.axonframework.modelling.saga.repository.SagaStore;
 
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -27,7 +31,9 @@
 import java.util.stream.Collectors;
 
 /**
- * SagaRepository implementation that stores all Saga instances in memory.
+ * SagaRepository implementation that stores all Saga instances in memory. The association values of the Sagas are
+ * indexed in an {@link AssociationValueMap}, so that finding the Sagas associated with a value does not require a scan
+ * over all Sagas.
  *
  * @author Allard Buijze
  * @since 0.7
@@ -35,20 +41,26 @@
 public class InMemorySagaStore implements SagaStore<Object> {
 
     private final ConcurrentMap<String, ManagedSaga> managedSagas = new ConcurrentHashMap<>();
+    // associations are indexed regardless of saga type, as lookups should also match subtypes of the requested type
+    private final AssociationValueMap associations = new AssociationValueMap();
 
     @Override
     public Set<String> findSagas(Class<?> sagaType, AssociationValue associationValue) {
-        return managedSagas.entrySet()
-                .stream()
-                .filter(avEntry -> sagaType.isInstance(avEntry.getValue().saga()))
-                .filter(avEntry -> avEntry.getValue().associationValues().contains(associationValue))
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toSet());
+        return associations.findSagas(null, associationValue)
+                           .stream()
+                           .filter(sagaIdentifier -> {
+                               ManagedSaga managedSaga = managedSagas.get(sagaIdentifier);
+                               return managedSaga != null && sagaType.isInstance(managedSaga.saga());
+                           })
+                           .collect(Collectors.toSet());
     }
 
     @Override
     public void deleteSaga(Class<?> sagaType, String sagaIdentifier, Set<AssociationValue> associationValues) {
-        managedSagas.remove(sagaIdentifier);
+        managedSagas.computeIfPresent(sagaIdentifier, (id, previous) -> {
+            reindex(sagaIdentifier, previous.associationValues(), Collections.emptySet());
+            return null;
+        });
     }
 
     @SuppressWarnings("unchecked")
@@ -57,14 +69,45 @@ public <S> Entry<S> loadSaga(Class<S> sagaType, String sagaIdentifier) {
         return (Entry<S>) managedSagas.get(sagaIdentifier);
     }
 
+    @Override
+    public List<String> findSagaIdentifiers(Class<?> sagaType, String afterSagaIdentifier, int pageSize) {
+        return managedSagas.entrySet()
+                           .stream()
+                           .filter(entry -> sagaType.isInstance(entry.getValue().saga()))
+                           .map(Map.Entry::getKey)
+                           .filter(sagaId -> afterSagaIdentifier == null || sagaId.compareTo(afterSagaIdentifier) > 0)
+                           .sorted()
+                           .limit(pageSize)
+                           .collect(Collectors.toList());
+    }
+
     @Override
     public void insertSaga(Class<?> sagaType, String sagaIdentifier, Object saga, Set<AssociationValue> associationValues) {
-        managedSagas.put(sagaIdentifier, new ManagedSaga(saga, associationValues));
+        store(sagaIdentifier, saga, associationValues);
     }
 
     @Override
     public void updateSaga(Class<?> sagaType, String sagaIdentifier, Object saga, AssociationValues associationValues) {
-        managedSagas.put(sagaIdentifier, new ManagedSaga(saga, associationValues.asSet()));
+        store(sagaIdentifier, saga, associationValues.asSet());
+    }
+
+    private void store(String sagaIdentifier, Object saga, Set<AssociationValue> associationValues) {
+        Set<AssociationValue> storedAssociations = Collections.unmodifiableSet(new HashSet<>(associationValues));
+        managedSagas.compute(sagaIdentifier, (id, previous) -> {
+            reindex(sagaIdentifier,
+                    previous == null ? Collections.emptySet() : previous.associationValues(),
+                    storedAssociations);
+            return new ManagedSaga(saga, storedAssociations);
+        });
+    }
+
+    private void reindex(String sagaIdentifier, Set<AssociationValue> previous, Set<AssociationValue> current) {
+        previous.stream()
+                .filter(associationValue -> !current.contains(associationValue))
+                .forEach(associationValue -> associations.remove(associationValue, null, sagaIdentifier));
+        current.stream()
+               .filter(associationValue -> !previous.contains(associationValue))
+               .forEach(associationValue -> associations.add(associationValue, null, sagaIdentifier));
     }
 
     /**
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2018. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,7 +15,11 @@
  */
 package org.axonframework.modelling.saga.repository.jdbc;
 
+import org.axonframework.eventhandling.Segment;
 import org.axonframework.modelling.saga.AssociationValue;
+import org.axonframework.modelling.saga.repository.SegmentHash;
+import org.axonframework.modelling.saga.repository.jpa.AssociationValueEntry;
+import org.axonframework.modelling.saga.repository.jpa.SagaEntry;
 import org.axonframework.serialization.SerializedObject;
 import org.axonframework.serialization.SimpleSerializedObject;
 
@@ -23,7 +27,11 @@
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -70,10 +78,7 @@ public PreparedStatement sql_loadSaga(Connection connection, String sagaId) thro
     @Override
     public PreparedStatement sql_removeAssocValue(Connection connection, String key, String value, String sagaType,
                                                   String sagaIdentifier) throws SQLException {
-        final String sql = "DELETE FROM " + sagaSchema.associationValueEntryTable()
-                + " WHERE " + sagaSchema.associationKeyColumn() + " = ? AND " + sagaSchema.associationValueColumn() + " = ?"
-                + " AND " + sagaSchema.sagaTypeColumn() + " = ? AND " + sagaSchema.sagaIdColumn() + " = ?";
-        PreparedStatement preparedStatement = connection.prepareStatement(sql);
+        PreparedStatement preparedStatement = connection.prepareStatement(removeAssocValueSql());
         preparedStatement.setString(1, key);
         preparedStatement.setString(2, value);
         preparedStatement.setString(3, sagaType);
@@ -84,15 +89,14 @@ public PreparedStatement sql_removeAssocValue(Connection connection, String key,
     @Override
     public PreparedStatement sql_storeAssocValue(Connection connection, String key, String value, String sagaType,
                                                  String sagaIdentifier) throws SQLException {
-        final String sql = "INSERT INTO " + sagaSchema.associationValueEntryTable()
-                + " (" + String.join(", ", sagaSchema.associationKeyColumn(), sagaSchema.associationValueColumn(),
-                sagaSchema.sagaTypeColumn(), sagaSchema.sagaIdColumn()) + ")"
-                + " VALUES(?, ?, ?, ?)";
-        PreparedStatement preparedStatement = connection.prepareStatement(sql);
+        PreparedStatement preparedStatement = connection.prepareStatement(storeAssocValueSql());
         preparedStatement.setString(1, key);
         preparedStatement.setString(2, value);
         preparedStatement.setString(3, sagaType);
         preparedStatement.setString(4, sagaIdentifier);
+        if (supportsSegmentFiltering()) {
+            preparedStatement.setLong(5, SegmentHash.of(sagaIdentifier));
+        }
         return preparedStatement;
     }
 
@@ -110,6 +114,216 @@ public PreparedStatement sql_findAssocSagaIdentifiers(Connection connection, Str
         return preparedStatement;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Looks up all association values using a single query. Subclasses customizing
+     * {@link #sql_findAssocSagaIdentifiers(Connection, String, String, String)} should override this method as well.
+     */
+    @Override
+    public Map<AssociationValue, Set<String>> findAssocSagaIdentifiers(Connection connection, String sagaType,
+                                                                      List<AssociationValue> associationValues)
+            throws SQLException {
+        final String sql = "SELECT " + String.join(", ", sagaSchema.associationKeyColumn(),
+                                                   sagaSchema.associationValueColumn(), sagaSchema.sagaIdColumn())
+                + " FROM " + sagaSchema.associationValueEntryTable()
+                + " WHERE " + sagaSchema.sagaTypeColumn() + " = ?"
+                + " AND (" + associationConditions(associationValues.size()) + ")";
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            preparedStatement.setString(1, sagaType);
+            setAssociationParameters(preparedStatement, 2, associationValues);
+            return readAssociatedSagaIdentifiers(preparedStatement);
+        }
+    }
+
+    private String associationConditions(int count) {
+        final String associationCondition = "(" + sagaSchema.associationKeyColumn() + " = ? AND "
+                + sagaSchema.associationValueColumn() + " = ?)";
+        return String.join(" OR ", Collections.nCopies(count, associationCondition));
+    }
+
+    private static void setAssociationParameters(PreparedStatement preparedStatement, int index,
+                                                 List<AssociationValue> associationValues) throws SQLException {
+        for (AssociationValue associationValue : associationValues) {
+            preparedStatement.setString(index++, associationValue.getKey());
+            preparedStatement.setString(index++, associationValue.getValue());
+        }
+    }
+
+    private static Map<AssociationValue, Set<String>> readAssociatedSagaIdentifiers(
+            PreparedStatement preparedStatement
+    ) throws SQLException {
+        Map<AssociationValue, Set<String>> sagaIdentifiers = new HashMap<>();
+        try (ResultSet resultSet = preparedStatement.executeQuery()) {
+            while (resultSet.next()) {
+                sagaIdentifiers.computeIfAbsent(new AssociationValue(resultSet.getString(1), resultSet.getString(2)),
+                                                v -> new HashSet<>())
+                               .add(resultSet.getString(3));
+            }
+        }
+        return sagaIdentifiers;
+    }
+
+    @Override
+    public PreparedStatement sql_findSagaIdentifiers(Connection connection, String sagaType,
+                                                     String afterSagaIdentifier, int pageSize) throws SQLException {
+        final String sql = "SELECT " + sagaSchema.sagaIdColumn() + " FROM " + sagaSchema.sagaEntryTable()
+                + " WHERE " + sagaSchema.sagaTypeColumn() + " = ?"
+                + (afterSagaIdentifier != null ? " AND " + sagaSchema.sagaIdColumn() + " > ?" : "")
+                + " ORDER BY " + sagaSchema.sagaIdColumn();
+        PreparedStatement preparedStatement = connection.prepareStatement(sql);
+        preparedStatement.setString(1, sagaType);
+        if (afterSagaIdentifier != null) {
+            preparedStatement.setString(2, afterSagaIdentifier);
+        }
+        preparedStatement.setMaxRows(pageSize);
+        return preparedStatement;
+    }
+
+    @Override
+    public boolean supportsSagaIdentifierPaging() {
+        return true;
+    }
+
+    @Override
+    public boolean supportsSegmentFiltering() {
+        return sagaSchema.segmentHashColumn() != null;
+    }
+
+    @Override
+    public PreparedStatement sql_findAssocSagaIdentifiers(Connection connection, String key, String value,
+                                                          String sagaType, Segment segment) throws SQLException {
+        final String sql = "SELECT " + sagaSchema.sagaIdColumn() + " FROM " + sagaSchema.associationValueEntryTable()
+                + " WHERE " + sagaSchema.associationKeyColumn() + " = ?"
+                + " AND " + sagaSchema.associationValueColumn() + " = ?"
+                + " AND " + sagaSchema.sagaTypeColumn() + " = ?"
+                + " AND " + segmentCondition();
+        PreparedStatement preparedStatement = connection.prepareStatement(sql);
+        preparedStatement.setString(1, key);
+        preparedStatement.setString(2, value);
+        preparedStatement.setString(3, sagaType);
+        setSegmentParameters(preparedStatement, 4, segment);
+        return preparedStatement;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Looks up all association values using a single query. Subclasses customizing
+     * {@link #sql_findAssocSagaIdentifiers(Connection, String, String, String, Segment)} should override this method as
+     * well.
+     */
+    @Override
+    public Map<AssociationValue, Set<String>> findAssocSagaIdentifiers(Connection connection, String sagaType,
+                                                                      List<AssociationValue> associationValues,
+                                                                      Segment segment) throws SQLException {
+        final String sql = "SELECT " + String.join(", ", sagaSchema.associationKeyColumn(),
+                                                   sagaSchema.associationValueColumn(), sagaSchema.sagaIdColumn())
+                + " FROM " + sagaSchema.associationValueEntryTable()
+                + " WHERE " + sagaSchema.sagaTypeColumn() + " = ?"
+                + " AND " + segmentCondition()
+                + " AND (" + associationConditions(associationValues.size()) + ")";
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            preparedStatement.setString(1, sagaType);
+            int index = setSegmentParameters(preparedStatement, 2, segment);
+            setAssociationParameters(preparedStatement, index, associationValues);
+            return readAssociatedSagaIdentifiers(preparedStatement);
+        }
+    }
+
+    @Override
+    public PreparedStatement sql_findSagaIdentifiers(Connection connection, String sagaType, Segment segment,
+                                                     String afterSagaIdentifier, int pageSize) throws SQLException {
+        final String sql = "SELECT DISTINCT " + sagaSchema.sagaIdColumn()
+                + " FROM " + sagaSchema.associationValueEntryTable()
+                + " WHERE " + sagaSchema.sagaTypeColumn() + " = ?"
+                + " AND " + segmentCondition()
+                + (afterSagaIdentifier != null ? " AND " + sagaSchema.sagaIdColumn() + " > ?" : "")
+                + " ORDER BY " + sagaSchema.sagaIdColumn();
+        PreparedStatement preparedStatement = connection.prepareStatement(sql);
+        preparedStatement.setString(1, sagaType);
+        int index = setSegmentParameters(preparedStatement, 2, segment);
+        if (afterSagaIdentifier != null) {
+            preparedStatement.setString(index, afterSagaIdentifier);
+        }
+        preparedStatement.setMaxRows(pageSize);
+        return preparedStatement;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Loads all sagas using a single query, created by {@link #loadSagasSql(int)}. The serialized sagas are read
+     * using {@link #readSerializedSaga(ResultSet)}, with the saga identifier as an additional fourth column.
+     */
+    @Override
+    public Map<String, SerializedObject<?>> loadSagas(Connection connection,
+                                                      List<String> sagaIdentifiers) throws SQLException {
+        Map<String, SerializedObject<?>> sagas = new HashMap<>();
+        try (PreparedStatement preparedStatement =
+                     connection.prepareStatement(loadSagasSql(sagaIdentifiers.size()))) {
+            for (int i = 0; i < sagaIdentifiers.size(); i++) {
+                preparedStatement.setString(i + 1, sagaIdentifiers.get(i));
+            }
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    sagas.put(resultSet.getString(4), readSerializedSaga(resultSet));
+                }
+            }
+        }
+        return sagas;
+    }
+
+    /**
+     * Returns the SQL query loading the sagas with the given number of identifiers, used by
+     * {@link #loadSagas(Connection, List)}. The query has a parameter for each saga identifier and selects the
+     * serialized saga, its type, its revision and its identifier, in that order.
+     *
+     * @param sagaCount the number of sagas to load
+     * @return the SQL query loading the sagas with the given number of identifiers
+     */
+    protected String loadSagasSql(int sagaCount) {
+        return "SELECT " + String.join(", ", sagaSchema.serializedSagaColumn(), sagaSchema.sagaTypeColumn(),
+                                       sagaSchema.revisionColumn(), sagaSchema.sagaIdColumn())
+                + " FROM " + sagaSchema.sagaEntryTable()
+                + " WHERE " + sagaSchema.sagaIdColumn() + " IN (" + parameters(sagaCount) + ")";
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Finds the associations of all sagas using a single query. Subclasses customizing
+     * {@link #sql_findAssociations(Connection, String, String)} should override this method as well.
+     */
+    @Override
+    public Map<String, Set<AssociationValue>> findAssociationsOfSagas(Connection connection, String sagaType,
+                                                                     List<String> sagaIdentifiers)
+            throws SQLException {
+        final String sql = "SELECT " + String.join(", ", sagaSchema.associationKeyColumn(),
+                                                   sagaSchema.associationValueColumn(), sagaSchema.sagaIdColumn())
+                + " FROM " + sagaSchema.associationValueEntryTable()
+                + " WHERE " + sagaSchema.sagaTypeColumn() + " = ?"
+                + " AND " + sagaSchema.sagaIdColumn() + " IN (" + parameters(sagaIdentifiers.size()) + ")";
+        Map<String, Set<AssociationValue>> associations = new HashMap<>();
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            preparedStatement.setString(1, sagaType);
+            for (int i = 0; i < sagaIdentifiers.size(); i++) {
+                preparedStatement.setString(i + 2, sagaIdentifiers.get(i));
+            }
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    associations.computeIfAbsent(resultSet.getString(3), id -> new HashSet<>())
+                                .add(new AssociationValue(resultSet.getString(1), resultSet.getString(2)));
+                }
+            }
+        }
+        return associations;
+    }
+
+    private static String parameters(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
     @Override
     public PreparedStatement sql_findAssociations(Connection connection, String sagaIdentifier, String sagaType) throws SQLException {
         final String sql = "SELECT " + sagaSchema.associationKeyColumn() + ", " + sagaSchema.associationValueColumn() + " FROM " + sagaSchema.associationValueEntryTable()
@@ -138,8 +352,7 @@ public Set<AssociationValue> readAssociationValues(ResultSet resultSet) throws S
 
     @Override
     public PreparedStatement sql_deleteSagaEntry(Connection connection, String sagaIdentifier) throws SQLException {
-        final String sql = "DELETE FROM " + sagaSchema.sagaEntryTable() + " WHERE " + sagaSchema.sagaIdColumn() + " = ?";
-        PreparedStatement preparedStatement = connection.prepareStatement(sql);
+        PreparedStatement preparedStatement = connection.prepareStatement(deleteSagaEntrySql());
         preparedStatement.setString(1, sagaIdentifier);
         return preparedStatement;
     }
@@ -147,8 +360,7 @@ public PreparedStatement sql_deleteSagaEntry(Connection connection, String sagaI
     @Override
     public PreparedStatement sql_deleteAssociationEntries(Connection connection, String sagaIdentifier)
             throws SQLException {
-        final String sql = "DELETE FROM " + sagaSchema.associationValueEntryTable() + " WHERE " + sagaSchema.sagaIdColumn() + " = ?";
-        PreparedStatement preparedStatement = connection.prepareStatement(sql);
+        PreparedStatement preparedStatement = connection.prepareStatement(deleteAssociationEntriesSql());
         preparedStatement.setString(1, sagaIdentifier);
         return preparedStatement;
     }
@@ -156,10 +368,7 @@ public PreparedStatement sql_deleteAssociationEntries(Connection connection, Str
     @Override
     public PreparedStatement sql_updateSaga(Connection connection, String sagaIdentifier, byte[] serializedSaga,
                                             String sagaType, String revision) throws SQLException {
-        final String sql = "UPDATE " + sagaSchema.sagaEntryTable()
-                + " SET " + sagaSchema.serializedSagaColumn() + " = ?, " + sagaSchema.revisionColumn() + " = ? WHERE "
-                + sagaSchema.sagaIdColumn() + " = ?";
-        PreparedStatement preparedStatement = connection.prepareStatement(sql);
+        PreparedStatement preparedStatement = connection.prepareStatement(updateSagaSql());
         preparedStatement.setBytes(1, serializedSaga);
         preparedStatement.setString(2, revision);
         preparedStatement.setString(3, sagaIdentifier);
@@ -170,10 +379,7 @@ public PreparedStatement sql_updateSaga(Connection connection, String sagaIdenti
     public PreparedStatement sql_storeSaga(Connection connection, String sagaIdentifier, String revision,
                                            String sagaType,
                                            byte[] serializedSaga) throws SQLException {
-        final String sql = "INSERT INTO " + sagaSchema.sagaEntryTable() + "(" +
-                String.join(", ", sagaSchema.sagaIdColumn(), sagaSchema.revisionColumn(), sagaSchema.sagaTypeColumn(),
-                        sagaSchema.serializedSagaColumn()) + ") VALUES(?,?,?,?)";
-        PreparedStatement preparedStatement = connection.prepareStatement(sql);
+        PreparedStatement preparedStatement = connection.prepareStatement(storeSagaSql());
         preparedStatement.setString(1, sagaIdentifier);
         preparedStatement.setString(2, revision);
         preparedStatement.setString(3, sagaType);
@@ -181,6 +387,183 @@ public PreparedStatement sql_storeSaga(Connection connection, String sagaIdentif
         return preparedStatement;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Inserts all entries using a single JDBC batch. Subclasses customizing
+     * {@link #sql_storeSaga(Connection, String, String, String, byte[])} should override this method as well.
+     */
+    @Override
+    public int[] storeSagaBatch(Connection connection, List<SagaEntry<?>> sagaEntries) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(storeSagaSql())) {
+            for (SagaEntry<?> entry : sagaEntries) {
+                preparedStatement.setString(1, entry.getSagaId());
+                preparedStatement.setString(2, entry.getRevision());
+                preparedStatement.setString(3, entry.getSagaType());
+                preparedStatement.setBytes(4, entry.getSerializedSaga());
+                preparedStatement.addBatch();
+            }
+            return preparedStatement.executeBatch();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Updates all entries using a single JDBC batch. Subclasses customizing
+     * {@link #sql_updateSaga(Connection, String, byte[], String, String)} should override this method as well.
+     */
+    @Override
+    public int[] updateSagaBatch(Connection connection, List<SagaEntry<?>> sagaEntries) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(updateSagaSql())) {
+            for (SagaEntry<?> entry : sagaEntries) {
+                preparedStatement.setBytes(1, entry.getSerializedSaga());
+                preparedStatement.setString(2, entry.getRevision());
+                preparedStatement.setString(3, entry.getSagaId());
+                preparedStatement.addBatch();
+            }
+            return preparedStatement.executeBatch();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Stores all associations using a single JDBC batch. Subclasses customizing
+     * {@link #sql_storeAssocValue(Connection, String, String, String, String)} should override this method as well.
+     */
+    @Override
+    public int[] storeAssocValueBatch(Connection connection,
+                                      List<AssociationValueEntry> associationValueEntries) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(storeAssocValueSql())) {
+            addAssociationBatches(preparedStatement, associationValueEntries, supportsSegmentFiltering());
+            return preparedStatement.executeBatch();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Removes all associations using a single JDBC batch. Subclasses customizing
+     * {@link #sql_removeAssocValue(Connection, String, String, String, String)} should override this method as well.
+     */
+    @Override
+    public int[] removeAssocValueBatch(Connection connection,
+                                       List<AssociationValueEntry> associationValueEntries) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(removeAssocValueSql())) {
+            addAssociationBatches(preparedStatement, associationValueEntries, false);
+            return preparedStatement.executeBatch();
+        }
+    }
+
+    private void addAssociationBatches(PreparedStatement preparedStatement,
+                                       List<AssociationValueEntry> associationValueEntries,
+                                       boolean includeSegmentHash) throws SQLException {
+        for (AssociationValueEntry entry : associationValueEntries) {
+            preparedStatement.setString(1, entry.getAssociationValue().getKey());
+            preparedStatement.setString(2, entry.getAssociationValue().getValue());
+            preparedStatement.setString(3, entry.getSagaType());
+            preparedStatement.setString(4, entry.getSagaIdentifier());
+            if (includeSegmentHash) {
+                preparedStatement.setLong(5, SegmentHash.of(entry.getSagaIdentifier()));
+            }
+            preparedStatement.addBatch();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Deletes all sagas using a single JDBC batch. Subclasses customizing
+     * {@link #sql_deleteSagaEntry(Connection, String)} should override this method as well.
+     */
+    @Override
+    public int[] deleteSagaEntryBatch(Connection connection, List<String> sagaIdentifiers) throws SQLException {
+        return executeIdentifierBatch(connection, deleteSagaEntrySql(), sagaIdentifiers);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Deletes the associations of all sagas using a single JDBC batch. Subclasses customizing
+     * {@link #sql_deleteAssociationEntries(Connection, String)} should override this method as well.
+     */
+    @Override
+    public int[] deleteAssociationEntriesBatch(Connection connection,
+                                               List<String> sagaIdentifiers) throws SQLException {
+        return executeIdentifierBatch(connection, deleteAssociationEntriesSql(), sagaIdentifiers);
+    }
+
+    private int[] executeIdentifierBatch(Connection connection, String sql,
+                                         List<String> sagaIdentifiers) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            for (String sagaIdentifier : sagaIdentifiers) {
+                preparedStatement.setString(1, sagaIdentifier);
+                preparedStatement.addBatch();
+            }
+            return preparedStatement.executeBatch();
+        }
+    }
+
+    private String removeAssocValueSql() {
+        return "DELETE FROM " + sagaSchema.associationValueEntryTable()
+                + " WHERE " + sagaSchema.associationKeyColumn() + " = ? AND " + sagaSchema.associationValueColumn() + " = ?"
+                + " AND " + sagaSchema.sagaTypeColumn() + " = ? AND " + sagaSchema.sagaIdColumn() + " = ?";
+    }
+
+    private String storeAssocValueSql() {
+        if (supportsSegmentFiltering()) {
+            return "INSERT INTO " + sagaSchema.associationValueEntryTable()
+                    + " (" + String.join(", ", sagaSchema.associationKeyColumn(), sagaSchema.associationValueColumn(),
+                                         sagaSchema.sagaTypeColumn(), sagaSchema.sagaIdColumn(),
+                                         sagaSchema.segmentHashColumn()) + ")"
+                    + " VALUES(?, ?, ?, ?, ?)";
+        }
+        return "INSERT INTO " + sagaSchema.associationValueEntryTable()
+                + " (" + String.join(", ", sagaSchema.associationKeyColumn(), sagaSchema.associationValueColumn(),
+                sagaSchema.sagaTypeColumn(), sagaSchema.sagaIdColumn()) + ")"
+                + " VALUES(?, ?, ?, ?)";
+    }
+
+    /**
+     * Returns the SQL condition selecting the associations of the sagas belonging to a segment. The condition has two
+     * parameters, the {@link SegmentHash#lowerBound(Segment) lower} and {@link SegmentHash#upperBound(Segment) upper}
+     * bound of the segment hashes of the segment. Associations stored without a segment hash match any segment.
+     *
+     * @return the SQL condition selecting the associations of the sagas belonging to a segment
+     */
+    protected String segmentCondition() {
+        return "(" + sagaSchema.segmentHashColumn() + " BETWEEN ? AND ?"
+                + " OR " + sagaSchema.segmentHashColumn() + " IS NULL)";
+    }
+
+    private static int setSegmentParameters(PreparedStatement preparedStatement, int index, Segment segment)
+            throws SQLException {
+        preparedStatement.setLong(index, SegmentHash.lowerBound(segment));
+        preparedStatement.setLong(index + 1, SegmentHash.upperBound(segment));
+        return index + 2;
+    }
+
+    private String deleteSagaEntrySql() {
+        return "DELETE FROM " + sagaSchema.sagaEntryTable() + " WHERE " + sagaSchema.sagaIdColumn() + " = ?";
+    }
+
+    private String deleteAssociationEntriesSql() {
+        return "DELETE FROM " + sagaSchema.associationValueEntryTable() + " WHERE " + sagaSchema.sagaIdColumn() + " = ?";
+    }
+
+    private String updateSagaSql() {
+        return "UPDATE " + sagaSchema.sagaEntryTable()
+                + " SET " + sagaSchema.serializedSagaColumn() + " = ?, " + sagaSchema.revisionColumn() + " = ? WHERE "
+                + sagaSchema.sagaIdColumn() + " = ?";
+    }
+
+    private String storeSagaSql() {
+        return "INSERT INTO " + sagaSchema.sagaEntryTable() + "(" +
+                String.join(", ", sagaSchema.sagaIdColumn(), sagaSchema.revisionColumn(), sagaSchema.sagaTypeColumn(),
+                        sagaSchema.serializedSagaColumn()) + ") VALUES(?,?,?,?)";
+    }
+
     @Override
     public PreparedStatement sql_createTableAssocValueEntry(Connection conn) throws SQLException {
         final String sql = "create table " + sagaSchema.associationValueEntryTable() + " (\n" +
@@ -189,11 +572,45 @@ public PreparedStatement sql_createTableAssocValueEntry(Connection conn) throws
                 "        " + sagaSchema.associationValueColumn() + " varchar(255),\n" +
                 "        " + sagaSchema.sagaIdColumn() + " varchar(255),\n" +
                 "        " + sagaSchema.sagaTypeColumn() + " varchar(255),\n" +
+                segmentHashColumnDefinition() +
                 "        primary key (id)\n" +
                 "    );\n";
         return conn.prepareStatement(sql);
     }
 
+    @Override
+    public PreparedStatement sql_createSegmentHashIndex(Connection conn) throws SQLException {
+        return conn.prepareStatement(
+                "CREATE INDEX " + sagaSchema.associationValueEntryTable() + "_" + sagaSchema.segmentHashColumn()
+                        + " ON " + sagaSchema.associationValueEntryTable()
+                        + " (" + String.join(", ", sagaSchema.sagaTypeColumn(), sagaSchema.segmentHashColumn(),
+                                             sagaSchema.sagaIdColumn()) + ")"
+        );
+    }
+
+    /**
+     * Returns the definition of the segment hash column for the statement creating the association value table,
+     * including the trailing comma, or an empty String if this schema does not
+     * {@link #supportsSegmentFiltering() support segment filtering}.
+     *
+     * @return the definition of the segment hash column, or an empty String if segment hashes are not stored
+     */
+    protected String segmentHashColumnDefinition() {
+        return supportsSegmentFiltering()
+                ? "        " + sagaSchema.segmentHashColumn() + " " + segmentHashColumnType() + ",\n"
+                : "";
+    }
+
+    /**
+     * Returns the SQL type of the segment hash column, which should be able to hold values between {@code 0} and
+     * {@code 2^32 - 1}. Defaults to {@code bigint}.
+     *
+     * @return the SQL type of the segment hash column
+     */
+    protected String segmentHashColumnType() {
+        return "bigint";
+    }
+
     @Override
     public PreparedStatement sql_createTableSagaEntry(Connection conn) throws SQLException {
         return conn.prepareStatement("create table " + sagaSchema.sagaEntryTable() + " (\n" +
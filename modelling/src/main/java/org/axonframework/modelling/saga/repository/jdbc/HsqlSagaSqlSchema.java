@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2018. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -27,6 +27,22 @@
  */
 public class HsqlSagaSqlSchema extends GenericSagaSqlSchema {
 
+    /**
+     * Initialize a HsqlSagaSqlSchema using the default {@link SagaSchema}.
+     */
+    public HsqlSagaSqlSchema() {
+        super();
+    }
+
+    /**
+     * Initialize a HsqlSagaSqlSchema using the given {@code sagaSchema}.
+     *
+     * @param sagaSchema the saga schema configuration
+     */
+    public HsqlSagaSqlSchema(SagaSchema sagaSchema) {
+        super(sagaSchema);
+    }
+
     @Override
     public PreparedStatement sql_createTableAssocValueEntry(Connection conn) throws SQLException {
         final String s = "create table " + sagaSchema.associationValueEntryTable() + " (\n" +
@@ -35,6 +51,7 @@ public PreparedStatement sql_createTableAssocValueEntry(Connection conn) throws
                 "        " + sagaSchema.associationValueColumn() + " varchar(255),\n" +
                 "        " + sagaSchema.sagaIdColumn() + " varchar(255),\n" +
                 "        " + sagaSchema.sagaTypeColumn() + " varchar(255),\n" +
+                segmentHashColumnDefinition() +
                 "        primary key (id)\n" +
                 "    );\n";
         return conn.prepareStatement(s);
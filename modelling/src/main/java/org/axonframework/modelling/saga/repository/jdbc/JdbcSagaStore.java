@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2022. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,11 +19,16 @@
 import org.axonframework.common.AxonConfigurationException;
 import org.axonframework.common.jdbc.ConnectionProvider;
 import org.axonframework.common.jdbc.DataSourceConnectionProvider;
+import org.axonframework.common.jdbc.JdbcUtils.SqlFunction;
 import org.axonframework.common.jdbc.UnitOfWorkAwareConnectionProviderWrapper;
+import org.axonframework.eventhandling.Segment;
+import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
 import org.axonframework.modelling.saga.AssociationValue;
 import org.axonframework.modelling.saga.AssociationValues;
 import org.axonframework.modelling.saga.SagaStorageException;
+import org.axonframework.modelling.saga.repository.SagaChange;
 import org.axonframework.modelling.saga.repository.SagaStore;
+import org.axonframework.modelling.saga.repository.jpa.AssociationValueEntry;
 import org.axonframework.modelling.saga.repository.jpa.SagaEntry;
 import org.axonframework.serialization.SerializedObject;
 import org.axonframework.serialization.Serializer;
@@ -36,12 +41,23 @@
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.function.Supplier;
 import javax.sql.DataSource;
 
 import static org.axonframework.common.BuilderUtils.assertNonNull;
+import static org.axonframework.common.BuilderUtils.assertStrictPositive;
 import static org.axonframework.common.jdbc.JdbcUtils.closeQuietly;
 
 /**
@@ -62,6 +78,9 @@ public class JdbcSagaStore implements SagaStore<Object> {
 
     private final ConnectionProvider connectionProvider;
     private final SagaSqlSchema sqlSchema;
+    private final int findSagasBatchSize;
+    private final boolean skipUnchangedUpdates;
+    private final String storedSagasResourceKey;
     private Serializer serializer;
 
     /**
@@ -76,13 +95,18 @@ protected JdbcSagaStore(Builder builder) {
         builder.validate();
         this.connectionProvider = builder.connectionProvider;
         this.sqlSchema = builder.sqlSchema;
+        this.findSagasBatchSize = builder.findSagasBatchSize;
+        this.skipUnchangedUpdates = builder.skipUnchangedUpdates;
+        this.storedSagasResourceKey =
+                "SagaStore@" + Integer.toHexString(System.identityHashCode(this)) + "/StoredSagas";
         this.serializer = builder.serializer.get();
     }
 
     /**
      * Instantiate a Builder to be able to create a {@link JdbcSagaStore}.
      * <p>
-     * The {@link SagaSqlSchema} is defaulted to an {@link GenericSagaSqlSchema}.
+     * The {@link SagaSqlSchema} is defaulted to an {@link GenericSagaSqlSchema} and the {@code findSagasBatchSize} to
+     * {@code 100}.
      * <p>
      * The {@link ConnectionProvider} and {@link Serializer} are <b>hard requirements</b> and as such should be
      * provided.
@@ -114,6 +138,7 @@ public <S> Entry<S> loadSaga(Class<S> sagaType, String sagaIdentifier) {
             if (serializedSaga == null) {
                 return null;
             }
+            registerStoredSaga(sagaIdentifier, serializedSaga);
             S loadedSaga = serializer.deserialize(serializedSaga);
             if (logger.isDebugEnabled()) {
                 logger.debug("Loaded saga id [{}] of type [{}]", sagaIdentifier, loadedSaga.getClass().getName());
@@ -131,14 +156,34 @@ public <S> Entry<S> loadSaga(Class<S> sagaType, String sagaIdentifier) {
 
     @Override
     public Set<String> findSagas(Class<?> sagaType, AssociationValue associationValue) {
+        return findSagas(conn -> sqlSchema.sql_findAssocSagaIdentifiers(
+                conn, associationValue.getKey(), associationValue.getValue(), sagaTypeName(sagaType)
+        ));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * When the configured {@link SagaSqlSchema} {@link SagaSqlSchema#supportsSegmentFiltering() supports segment
+     * filtering}, only the associations of the given {@code segment} are read from the database.
+     */
+    @Override
+    public Set<String> findSagas(Class<?> sagaType, AssociationValue associationValue, Segment segment) {
+        if (!sqlSchema.supportsSegmentFiltering()) {
+            return SagaStore.super.findSagas(sagaType, associationValue, segment);
+        }
+        return findSagas(conn -> sqlSchema.sql_findAssocSagaIdentifiers(
+                conn, associationValue.getKey(), associationValue.getValue(), sagaTypeName(sagaType), segment
+        ));
+    }
+
+    private Set<String> findSagas(SqlFunction statementFactory) {
         ResultSet resultSet = null;
         PreparedStatement statement = null;
         Connection conn = null;
         try {
             conn = connectionProvider.getConnection();
-            statement = sqlSchema.sql_findAssocSagaIdentifiers(
-                    conn, associationValue.getKey(), associationValue.getValue(), sagaTypeName(sagaType)
-            );
+            statement = statementFactory.apply(conn);
             resultSet = statement.executeQuery();
             Set<String> result = new TreeSet<>();
             while (resultSet.next()) {
@@ -154,6 +199,169 @@ public Set<String> findSagas(Class<?> sagaType, AssociationValue associationValu
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The association values are resolved on a single connection, using the
+     * {@link SagaSqlSchema#findAssocSagaIdentifiers(Connection, String, List) multi value lookup} of the configured
+     * {@link SagaSqlSchema} per {@link Builder#findSagasBatchSize(int) batch} of association values.
+     */
+    @Override
+    public Map<AssociationValue, Set<String>> findSagas(Class<?> sagaType,
+                                                        Collection<AssociationValue> associationValues) {
+        return findSagasInBatches(sagaType, associationValues, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * When the configured {@link SagaSqlSchema} {@link SagaSqlSchema#supportsSegmentFiltering() supports segment
+     * filtering}, the association values are resolved on a single connection, per
+     * {@link Builder#findSagasBatchSize(int) batch} of association values, only reading the associations of the given
+     * {@code segment}.
+     */
+    @Override
+    public Map<AssociationValue, Set<String>> findSagas(Class<?> sagaType,
+                                                        Collection<AssociationValue> associationValues,
+                                                        Segment segment) {
+        if (!sqlSchema.supportsSegmentFiltering()) {
+            return SagaStore.super.findSagas(sagaType, associationValues, segment);
+        }
+        return findSagasInBatches(sagaType, associationValues, segment);
+    }
+
+    private Map<AssociationValue, Set<String>> findSagasInBatches(Class<?> sagaType,
+                                                                  Collection<AssociationValue> associationValues,
+                                                                  Segment segment) {
+        List<AssociationValue> distinctValues = new ArrayList<>(new LinkedHashSet<>(associationValues));
+        Map<AssociationValue, Set<String>> result = new HashMap<>();
+        distinctValues.forEach(associationValue -> result.put(associationValue, new TreeSet<>()));
+        if (distinctValues.isEmpty()) {
+            return result;
+        }
+        String sagaTypeName = sagaTypeName(sagaType);
+        Connection conn = null;
+        try {
+            conn = connectionProvider.getConnection();
+            for (int start = 0; start < distinctValues.size(); start += findSagasBatchSize) {
+                List<AssociationValue> batch =
+                        distinctValues.subList(start, Math.min(start + findSagasBatchSize, distinctValues.size()));
+                Map<AssociationValue, Set<String>> found = segment == null
+                        ? sqlSchema.findAssocSagaIdentifiers(conn, sagaTypeName, batch)
+                        : sqlSchema.findAssocSagaIdentifiers(conn, sagaTypeName, batch, segment);
+                found.forEach((associationValue, sagaIdentifiers) -> {
+                    Set<String> resolved = result.get(associationValue);
+                    if (resolved != null) {
+                        resolved.addAll(sagaIdentifiers);
+                    }
+                });
+            }
+            return result;
+        } catch (SQLException e) {
+            throw new SagaStorageException("Exception while reading saga associations", e);
+        } finally {
+            closeQuietly(conn);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The sagas are loaded using a single connection, through the
+     * {@link SagaSqlSchema#loadSagas(Connection, List) bulk loading operations} of the configured
+     * {@link SagaSqlSchema}, per {@link Builder#findSagasBatchSize(int) batch} of saga identifiers.
+     */
+    @Override
+    public <S> Map<String, Entry<S>> loadSagas(Class<S> sagaType, Collection<String> sagaIdentifiers) {
+        List<String> distinctIdentifiers = new ArrayList<>(new LinkedHashSet<>(sagaIdentifiers));
+        Map<String, Entry<S>> result = new HashMap<>();
+        String sagaTypeName = sagaTypeName(sagaType);
+        Connection conn = null;
+        try {
+            conn = connectionProvider.getConnection();
+            for (int start = 0; start < distinctIdentifiers.size(); start += findSagasBatchSize) {
+                List<String> batch = distinctIdentifiers.subList(
+                        start, Math.min(start + findSagasBatchSize, distinctIdentifiers.size())
+                );
+                Map<String, S> sagas = new HashMap<>();
+                sqlSchema.loadSagas(conn, batch).forEach((sagaIdentifier, serializedSaga) -> {
+                    registerStoredSaga(sagaIdentifier, serializedSaga);
+                    sagas.put(sagaIdentifier, serializer.deserialize(serializedSaga));
+                });
+                if (!sagas.isEmpty()) {
+                    Map<String, Set<AssociationValue>> associations = sqlSchema.findAssociationsOfSagas(
+                            conn, sagaTypeName, new ArrayList<>(sagas.keySet())
+                    );
+                    sagas.forEach((sagaIdentifier, saga) -> result.put(sagaIdentifier, new EntryImpl<>(
+                            associations.getOrDefault(sagaIdentifier, new HashSet<>()), saga
+                    )));
+                }
+            }
+            return result;
+        } catch (SQLException e) {
+            throw new SagaStorageException("Exception while loading Sagas", e);
+        } finally {
+            closeQuietly(conn);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns an empty list when the {@link SagaSqlSchema} does not
+     * {@link SagaSqlSchema#supportsSagaIdentifierPaging() support paging over saga identifiers}.
+     */
+    @Override
+    public List<String> findSagaIdentifiers(Class<?> sagaType, String afterSagaIdentifier, int pageSize) {
+        if (!sqlSchema.supportsSagaIdentifierPaging()) {
+            return Collections.emptyList();
+        }
+        return findSagaIdentifiers(pageSize, conn -> sqlSchema.sql_findSagaIdentifiers(
+                conn, sagaTypeName(sagaType), afterSagaIdentifier, pageSize
+        ));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * When the configured {@link SagaSqlSchema} {@link SagaSqlSchema#supportsSegmentFiltering() supports segment
+     * filtering}, the identifiers are read from the associations of the given {@code segment}. Sagas without any
+     * association values are not returned in that case.
+     */
+    @Override
+    public List<String> findSagaIdentifiers(Class<?> sagaType, Segment segment,
+                                            String afterSagaIdentifier, int pageSize) {
+        if (!sqlSchema.supportsSegmentFiltering()) {
+            return SagaStore.super.findSagaIdentifiers(sagaType, segment, afterSagaIdentifier, pageSize);
+        }
+        return findSagaIdentifiers(pageSize, conn -> sqlSchema.sql_findSagaIdentifiers(
+                conn, sagaTypeName(sagaType), segment, afterSagaIdentifier, pageSize
+        ));
+    }
+
+    private List<String> findSagaIdentifiers(int pageSize,
+                                             SqlFunction statementFactory) {
+        ResultSet resultSet = null;
+        PreparedStatement statement = null;
+        Connection conn = null;
+        try {
+            conn = connectionProvider.getConnection();
+            statement = statementFactory.apply(conn);
+            resultSet = statement.executeQuery();
+            List<String> result = new ArrayList<>();
+            while (resultSet.next() && result.size() < pageSize) {
+                result.add(resultSet.getString(1));
+            }
+            return result;
+        } catch (SQLException e) {
+            throw new SagaStorageException("Exception while reading saga identifiers", e);
+        } finally {
+            closeQuietly(statement);
+            closeQuietly(resultSet);
+            closeQuietly(conn);
+        }
+    }
+
     @Override
     public void deleteSaga(Class<?> sagaType, String sagaIdentifier, Set<AssociationValue> associationValues) {
         PreparedStatement statement1 = null;
@@ -172,11 +380,26 @@ public void deleteSaga(Class<?> sagaType, String sagaIdentifier, Set<Association
             closeQuietly(statement2);
             closeQuietly(conn);
         }
+        forgetStoredSaga(sagaIdentifier);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * When {@link Builder#skipUnchangedUpdates(boolean) skipping unchanged updates} is enabled, the saga entry is not
+     * written if its serialized form equals the form in which the saga was loaded or stored in the current
+     * {@link org.axonframework.messaging.unitofwork.UnitOfWork}, and its associations did not change either. When its
+     * associations did change, the saga entry is written as well, as the number of updated rows verifies the saga was
+     * not deleted concurrently before its association changes are written.
+     */
     @Override
     public void updateSaga(Class<?> sagaType, String sagaIdentifier, Object saga, AssociationValues associationValues) {
         SagaEntry<?> entry = new SagaEntry<>(saga, sagaIdentifier, serializer);
+        if (isUnchanged(entry) && associationValues.addedAssociations().isEmpty()
+                && associationValues.removedAssociations().isEmpty()) {
+            logger.debug("Skipping update of saga id {}, as it did not change", sagaIdentifier);
+            return;
+        }
         if (logger.isDebugEnabled()) {
             logger.debug("Updating saga id {} as {}", sagaIdentifier, new String(entry.getSerializedSaga(),
                                                                                  Charset.forName("UTF-8")));
@@ -223,6 +446,8 @@ public void updateSaga(Class<?> sagaType, String sagaIdentifier, Object saga, As
 
         if (updateCount == 0) {
             logger.warn("Expected to be able to update a Saga instance, but no rows were found.");
+        } else {
+            registerStoredSaga(entry);
         }
     }
 
@@ -257,6 +482,139 @@ public void insertSaga(Class<?> sagaType, String sagaIdentifier, Object saga,
             closeQuietly(statement);
             closeQuietly(conn);
         }
+        registerStoredSaga(entry);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * All changes are written on a single connection, using the batch operations of the configured
+     * {@link SagaSqlSchema}, such as {@link SagaSqlSchema#updateSagaBatch(Connection, List)}.
+     * <p>
+     * When {@link Builder#skipUnchangedUpdates(boolean) skipping unchanged updates} is enabled, updated sagas whose
+     * serialized form and associations did not change are left out of the batch of saga updates. Sagas of which only
+     * the associations changed remain in the batch, so that their association changes are only written when the saga
+     * still exists.
+     */
+    @Override
+    public void applyChanges(Class<?> sagaType, List<? extends SagaChange<?>> changes) {
+        String sagaTypeName = sagaTypeName(sagaType);
+        List<SagaEntry<?>> insertedSagas = new ArrayList<>();
+        List<SagaEntry<?>> updatedSagas = new ArrayList<>();
+        List<SagaChange<?>> updates = new ArrayList<>();
+        int unchangedUpdates = 0;
+        List<String> deletedSagas = new ArrayList<>();
+        List<AssociationValueEntry> storedAssociations = new ArrayList<>();
+        for (SagaChange<?> change : changes) {
+            switch (change.type()) {
+                case INSERT:
+                    insertedSagas.add(new SagaEntry<>(change.saga(), change.sagaIdentifier(), serializer));
+                    addAssociationEntries(storedAssociations, sagaTypeName, change.sagaIdentifier(),
+                                          change.associationValues());
+                    break;
+                case UPDATE:
+                    SagaEntry<?> updatedSaga = new SagaEntry<>(change.saga(), change.sagaIdentifier(), serializer);
+                    if (isUnchanged(updatedSaga) && change.addedAssociations().isEmpty()
+                            && change.removedAssociations().isEmpty()) {
+                        unchangedUpdates++;
+                    } else {
+                        updatedSagas.add(updatedSaga);
+                        updates.add(change);
+                    }
+                    break;
+                case DELETE:
+                    deletedSagas.add(change.sagaIdentifier());
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown saga change type: " + change.type());
+            }
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("Applying saga changes in batches: {} inserts, {} updates ({} unchanged) and {} deletes",
+                         insertedSagas.size(), updatedSagas.size(), unchangedUpdates, deletedSagas.size());
+        }
+
+        Connection conn = null;
+        try {
+            conn = connectionProvider.getConnection();
+            if (!deletedSagas.isEmpty()) {
+                sqlSchema.deleteAssociationEntriesBatch(conn, deletedSagas);
+                sqlSchema.deleteSagaEntryBatch(conn, deletedSagas);
+            }
+            if (!insertedSagas.isEmpty()) {
+                sqlSchema.storeSagaBatch(conn, insertedSagas);
+            }
+            int[] updateCounts = updatedSagas.isEmpty() ? new int[0] : sqlSchema.updateSagaBatch(conn, updatedSagas);
+
+            List<AssociationValueEntry> removedAssociations = new ArrayList<>();
+            for (int i = 0; i < updates.size(); i++) {
+                SagaChange<?> update = updates.get(i);
+                if (updateCounts[i] == 0) {
+                    logger.warn("Expected to be able to update Saga instance [{}], but no rows were found.",
+                                update.sagaIdentifier());
+                    continue;
+                }
+                addAssociationEntries(storedAssociations, sagaTypeName, update.sagaIdentifier(),
+                                      update.addedAssociations());
+                addAssociationEntries(removedAssociations, sagaTypeName, update.sagaIdentifier(),
+                                      update.removedAssociations());
+                registerStoredSaga(updatedSagas.get(i));
+            }
+            insertedSagas.forEach(this::registerStoredSaga);
+            deletedSagas.forEach(this::forgetStoredSaga);
+            if (!storedAssociations.isEmpty()) {
+                sqlSchema.storeAssocValueBatch(conn, storedAssociations);
+            }
+            if (!removedAssociations.isEmpty()) {
+                sqlSchema.removeAssocValueBatch(conn, removedAssociations);
+            }
+        } catch (SQLException e) {
+            throw new SagaStorageException("Exception occurred while attempting to apply saga changes", e);
+        } finally {
+            closeQuietly(conn);
+        }
+    }
+
+    private boolean isUnchanged(SagaEntry<?> entry) {
+        if (!skipUnchangedUpdates || !CurrentUnitOfWork.isStarted()) {
+            return false;
+        }
+        StoredSaga storedSaga = storedSagas().get(entry.getSagaId());
+        return storedSaga != null && storedSaga.matches(entry);
+    }
+
+    private void registerStoredSaga(String sagaIdentifier, SerializedObject<?> serializedSaga) {
+        if (skipUnchangedUpdates && CurrentUnitOfWork.isStarted()) {
+            SerializedObject<byte[]> bytes = serializer.getConverter().convert(serializedSaga, byte[].class);
+            storedSagas().put(sagaIdentifier, new StoredSaga(
+                    bytes.getData(), bytes.getType().getName(), bytes.getType().getRevision()
+            ));
+        }
+    }
+
+    private void registerStoredSaga(SagaEntry<?> entry) {
+        if (skipUnchangedUpdates && CurrentUnitOfWork.isStarted()) {
+            storedSagas().put(entry.getSagaId(), new StoredSaga(
+                    entry.getSerializedSaga(), entry.getSagaType(), entry.getRevision()
+            ));
+        }
+    }
+
+    private void forgetStoredSaga(String sagaIdentifier) {
+        if (skipUnchangedUpdates && CurrentUnitOfWork.isStarted()) {
+            storedSagas().remove(sagaIdentifier);
+        }
+    }
+
+    private Map<String, StoredSaga> storedSagas() {
+        return CurrentUnitOfWork.get().root().getOrComputeResource(storedSagasResourceKey, k -> new HashMap<>());
+    }
+
+    private static void addAssociationEntries(List<AssociationValueEntry> entries, String sagaTypeName,
+                                              String sagaIdentifier, Set<AssociationValue> associationValues) {
+        for (AssociationValue associationValue : associationValues) {
+            entries.add(new AssociationValueEntry(sagaTypeName, sagaIdentifier, associationValue));
+        }
     }
 
     private Set<AssociationValue> loadAssociations(final Connection conn, final String sagaTypeName, final String sagaIdentifier) throws SQLException {
@@ -296,6 +654,9 @@ public void createSchema() throws SQLException {
         try {
             sqlSchema.sql_createTableSagaEntry(connection).executeUpdate();
             sqlSchema.sql_createTableAssocValueEntry(connection).executeUpdate();
+            if (sqlSchema.supportsSegmentFiltering()) {
+                sqlSchema.sql_createSegmentHashIndex(connection).executeUpdate();
+            }
         } finally {
             closeQuietly(connection);
         }
@@ -304,7 +665,8 @@ public void createSchema() throws SQLException {
     /**
      * Builder class to instantiate a {@link JdbcSagaStore}.
      * <p>
-     * The {@link SagaSqlSchema} is defaulted to an {@link GenericSagaSqlSchema}.
+     * The {@link SagaSqlSchema} is defaulted to an {@link GenericSagaSqlSchema} and the {@code findSagasBatchSize} to
+     * {@code 100}.
      * <p>
      * The {@link ConnectionProvider} and {@link Serializer} are <b>hard requirements</b> and as such should be
      * provided.
@@ -318,6 +680,8 @@ public static class Builder {
         private ConnectionProvider connectionProvider;
         private SagaSqlSchema sqlSchema = new GenericSagaSqlSchema();
         private Supplier<Serializer> serializer;
+        private int findSagasBatchSize = 100;
+        private boolean skipUnchangedUpdates = false;
 
         /**
          * Sets the {@link ConnectionProvider} which provides access to a JDBC connection.
@@ -375,6 +739,41 @@ public Builder serializer(Serializer serializer) {
             return this;
         }
 
+        /**
+         * Sets the maximum number of association values resolved by a single query when finding the sagas of several
+         * association values at once, through {@link JdbcSagaStore#findSagas(Class, Collection)}. Also used as the
+         * maximum number of sagas loaded by a single query through {@link JdbcSagaStore#loadSagas(Class, Collection)}.
+         * Limits the size of the generated statements. Defaults to {@code 100}.
+         *
+         * @param findSagasBatchSize the maximum number of association values resolved by a single query
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder findSagasBatchSize(int findSagasBatchSize) {
+            assertStrictPositive(findSagasBatchSize, "The findSagas batch size should be strictly positive");
+            this.findSagasBatchSize = findSagasBatchSize;
+            return this;
+        }
+
+        /**
+         * Sets whether updates of sagas which did not change are skipped. When enabled, the store remembers the
+         * serialized form of the sagas it loads and stores within a
+         * {@link org.axonframework.messaging.unitofwork.UnitOfWork}. An update of such a saga is not written if its
+         * serialized form and its associations are unchanged, which is common for event handlers which only read the
+         * saga's state. When only the associations changed, the saga is written along with them, to verify it was not
+         * deleted concurrently. Sagas that are updated without being loaded through this store in the same unit of
+         * work, for example because they were served from a cache, are always written.
+         * <p>
+         * Requires the configured {@link Serializer} to produce the same serialized form for equal saga states.
+         * Defaults to {@code false}.
+         *
+         * @param skipUnchangedUpdates whether updates of sagas which did not change should be skipped
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder skipUnchangedUpdates(boolean skipUnchangedUpdates) {
+            this.skipUnchangedUpdates = skipUnchangedUpdates;
+            return this;
+        }
+
         /**
          * Initializes a {@link JdbcSagaStore} as specified through this Builder.
          *
@@ -398,6 +797,25 @@ protected void validate() throws AxonConfigurationException {
         }
     }
 
+    private static final class StoredSaga {
+
+        private final byte[] serializedSaga;
+        private final String sagaType;
+        private final String revision;
+
+        private StoredSaga(byte[] serializedSaga, String sagaType, String revision) {
+            this.serializedSaga = serializedSaga;
+            this.sagaType = sagaType;
+            this.revision = revision;
+        }
+
+        private boolean matches(SagaEntry<?> entry) {
+            return Objects.equals(sagaType, entry.getSagaType())
+                    && Objects.equals(revision, entry.getRevision())
+                    && Arrays.equals(serializedSaga, entry.getSerializedSaga());
+        }
+    }
+
     private static class EntryImpl<S> implements Entry<S> {
 
         private final Set<AssociationValue> associations;
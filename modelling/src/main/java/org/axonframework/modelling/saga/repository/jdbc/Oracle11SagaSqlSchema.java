@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2018. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -46,6 +46,7 @@ public PreparedStatement sql_createTableAssocValueEntry(Connection conn) throws
                 "        " + sagaSchema.associationValueColumn() + " varchar(255),\n" +
                 "        " + sagaSchema.sagaIdColumn() + " varchar(255),\n" +
                 "        " + sagaSchema.sagaTypeColumn() + " varchar(255),\n" +
+                segmentHashColumnDefinition() +
                 "        primary key (id)\n" +
                 "    )")) {
             pst.executeUpdate();
@@ -66,4 +67,9 @@ public PreparedStatement sql_createTableSagaEntry(final Connection conn) throws
                 "        primary key (" + sagaSchema.sagaIdColumn() + ")\n" +
                 "    )");
     }
+
+    @Override
+    protected String segmentHashColumnType() {
+        return "number(19)";
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2023. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -55,6 +55,7 @@ public PreparedStatement sql_createTableAssocValueEntry(Connection conn) throws
                 "        " + sagaSchema.associationValueColumn() + " VARCHAR(255),\n" +
                 "        " + sagaSchema.sagaIdColumn() + " VARCHAR(255),\n" +
                 "        " + sagaSchema.sagaTypeColumn() + " VARCHAR(255),\n" +
+                segmentHashColumnDefinition() +
                 "        PRIMARY KEY (id)\n" +
                 "    );\n";
         return conn.prepareStatement(sql);
@@ -86,6 +87,16 @@ public PreparedStatement sql_loadSaga(Connection connection, String sagaId) thro
         return preparedStatement;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * When {@link #setExclusiveLoad(boolean) exclusive loading} is enabled, the query locks the loaded sagas.
+     */
+    @Override
+    protected String loadSagasSql(int sagaCount) {
+        return exclusiveLoad ? super.loadSagasSql(sagaCount) + " FOR UPDATE" : super.loadSagasSql(sagaCount);
+    }
+
     /**
      * Sets whether loading of Sagas should occur exclusively by a single node, by requiring a row lock from the
      * database.
@@ -103,4 +114,9 @@ public PreparedStatement sql_loadSaga(Connection connection, String sagaId) thro
     public void setExclusiveLoad(boolean exclusiveLoad) {
         this.exclusiveLoad = exclusiveLoad;
     }
+
+    @Override
+    protected String segmentHashColumnType() {
+        return "BIGINT";
+    }
 }
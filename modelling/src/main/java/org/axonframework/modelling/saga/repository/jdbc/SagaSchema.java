@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2018. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -34,6 +34,7 @@ public class SagaSchema {
     private final String associationValueColumn;
     private final String sagaIdColumn;
     private final String sagaTypeColumn;
+    private final String segmentHashColumn;
 
     /**
      * Initialize SagaSchema with default values.
@@ -66,6 +67,7 @@ protected SagaSchema(Builder builder) {
         this.associationValueColumn = builder.associationValueColumn;
         this.sagaIdColumn = builder.sagaIdColumn;
         this.sagaTypeColumn = builder.sagaTypeColumn;
+        this.segmentHashColumn = builder.segmentHashColumn;
     }
 
     /**
@@ -149,6 +151,17 @@ public String sagaTypeColumn() {
         return sagaTypeColumn;
     }
 
+    /**
+     * Returns the name of the segmentHash column of the association value table, or {@code null} if the segment hashes
+     * of sagas are not stored.
+     *
+     * @return the name of the segmentHash column, or {@code null} if segment hashes are not stored
+     * @see org.axonframework.modelling.saga.repository.SegmentHash
+     */
+    public String segmentHashColumn() {
+        return segmentHashColumn;
+    }
+
     /**
      * Builder for an {@link SagaSchema} that gets initialized with default values.
      */
@@ -162,6 +175,7 @@ public static class Builder {
         private String associationValueColumn = "associationValue";
         private String sagaIdColumn = "sagaId";
         private String sagaTypeColumn = "sagaType";
+        private String segmentHashColumn = null;
 
         /**
          * Sets the name of the saga entry table. Defaults to 'SagaEntry'.
@@ -251,6 +265,21 @@ public Builder sagaTypeColumn(String columnName) {
             return this;
         }
 
+        /**
+         * Sets the name of the segment hash column of the association value table. When set, the
+         * {@link org.axonframework.modelling.saga.repository.SegmentHash segment hash} of a saga is stored with each of
+         * its associations, allowing the sagas of a segment to be found without reading the associations of the sagas
+         * of other segments. Associations stored without a segment hash are still found for any segment. Defaults to
+         * {@code null}, meaning segment hashes are not stored.
+         *
+         * @param columnName the name of the column, or {@code null} to not store segment hashes
+         * @return the modified Builder instance
+         */
+        public Builder segmentHashColumn(String columnName) {
+            this.segmentHashColumn = columnName;
+            return this;
+        }
+
         /**
          * Builds a new {@link SagaSchema} from builder values.
          *
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2018. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,13 +15,20 @@
  */
 package org.axonframework.modelling.saga.repository.jdbc;
 
+import org.axonframework.eventhandling.Segment;
 import org.axonframework.modelling.saga.AssociationValue;
+import org.axonframework.modelling.saga.repository.jpa.AssociationValueEntry;
+import org.axonframework.modelling.saga.repository.jpa.SagaEntry;
 import org.axonframework.serialization.SerializedObject;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -89,6 +96,235 @@ PreparedStatement sql_storeAssocValue(Connection connection, String key, String
     PreparedStatement sql_findAssocSagaIdentifiers(Connection connection, String key, String value,
                                                    String sagaType) throws SQLException;
 
+    /**
+     * Finds the identifiers of Sagas of given {@code sagaType} associated with any of the given
+     * {@code associationValues}, returning the identifiers found per association value. Association values without any
+     * saga may be left out of the returned map.
+     * <p>
+     * By default, the association values are looked up one by one using
+     * {@link #sql_findAssocSagaIdentifiers(Connection, String, String, String)}. Implementations may override this
+     * method to look up all association values using a single query.
+     *
+     * @param connection        The connection to execute the statements on
+     * @param sagaType          The type of saga to find associations for
+     * @param associationValues The association values to find saga identifiers for
+     * @return the identifiers of the sagas associated with each of the given association values
+     * @throws SQLException when an error occurs executing the statements
+     * @since 4.11.0
+     */
+    default Map<AssociationValue, Set<String>> findAssocSagaIdentifiers(Connection connection, String sagaType,
+                                                                       List<AssociationValue> associationValues)
+            throws SQLException {
+        Map<AssociationValue, Set<String>> sagaIdentifiers = new HashMap<>();
+        for (AssociationValue associationValue : associationValues) {
+            try (PreparedStatement statement = sql_findAssocSagaIdentifiers(connection,
+                                                                            associationValue.getKey(),
+                                                                            associationValue.getValue(),
+                                                                            sagaType);
+                 ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    sagaIdentifiers.computeIfAbsent(associationValue, v -> new HashSet<>())
+                                   .add(resultSet.getString(1));
+                }
+            }
+        }
+        return sagaIdentifiers;
+    }
+
+    /**
+     * Creates a PreparedStatement that finds at most {@code pageSize} identifiers of Sagas of given {@code sagaType},
+     * greater than the given {@code afterSagaIdentifier}, in ascending order. The ResultSet created by the statement
+     * contains only saga identifiers. Only used when this schema
+     * {@link #supportsSagaIdentifierPaging() supports paging over saga identifiers}.
+     *
+     * @param connection          The connection to create the PreparedStatement for
+     * @param sagaType            The type of saga to find identifiers for
+     * @param afterSagaIdentifier The identifier after which to start, or {@code null} to start at the first saga
+     * @param pageSize            The maximum number of identifiers to find
+     * @return a PreparedStatement that creates a ResultSet containing only saga identifiers when executed
+     * @throws SQLException when an error occurs creating the PreparedStatement
+     * @since 4.11.0
+     */
+    default PreparedStatement sql_findSagaIdentifiers(Connection connection, String sagaType,
+                                                      String afterSagaIdentifier, int pageSize) throws SQLException {
+        throw new UnsupportedOperationException("This schema does not support paging over saga identifiers");
+    }
+
+    /**
+     * Indicates whether this schema supports
+     * {@link #sql_findSagaIdentifiers(Connection, String, String, int) paging over the identifiers} of the stored
+     * sagas. When paging is not supported, the {@link JdbcSagaStore} does not iterate over its sagas, for example to
+     * preload them. Defaults to {@code false}.
+     *
+     * @return {@code true} if paging over the identifiers of the stored sagas is supported, {@code false} otherwise
+     * @since 4.11.0
+     */
+    default boolean supportsSagaIdentifierPaging() {
+        return false;
+    }
+
+    /**
+     * Indicates whether this schema stores the {@link org.axonframework.modelling.saga.repository.SegmentHash segment
+     * hash} of sagas with their associations, supporting the statements finding the sagas of a {@link Segment}, such
+     * as {@link #sql_findAssocSagaIdentifiers(Connection, String, String, String, Segment)}. When segment filtering is
+     * not supported, the {@link JdbcSagaStore} finds the sagas of all segments and filters them in memory. Defaults to
+     * {@code false}.
+     *
+     * @return {@code true} if the statements finding the sagas of a segment are supported, {@code false} otherwise
+     * @since 4.11.0
+     */
+    default boolean supportsSegmentFiltering() {
+        return false;
+    }
+
+    /**
+     * Creates a PreparedStatement that finds identifiers of Sagas of given {@code sagaType} associated with the given
+     * association {@code key} and {@code value}, belonging to the given {@code segment}. Associations stored without a
+     * segment hash are found for any segment. Only used when this schema
+     * {@link #supportsSegmentFiltering() supports segment filtering}.
+     *
+     * @param connection The connection to create the PreparedStatement for
+     * @param key        The key of the association
+     * @param value      The value of the association
+     * @param sagaType   The type of saga to find associations for
+     * @param segment    The segment the sagas must belong to
+     * @return a PreparedStatement that creates a ResultSet containing only saga identifiers when executed
+     * @throws SQLException when an error occurs creating the PreparedStatement
+     * @since 4.11.0
+     */
+    default PreparedStatement sql_findAssocSagaIdentifiers(Connection connection, String key, String value,
+                                                           String sagaType, Segment segment) throws SQLException {
+        throw new UnsupportedOperationException("This schema does not support segment filtering");
+    }
+
+    /**
+     * Finds the identifiers of Sagas of given {@code sagaType} associated with any of the given
+     * {@code associationValues}, belonging to the given {@code segment}, returning the identifiers found per
+     * association value. Association values without any saga may be left out of the returned map. Associations stored
+     * without a segment hash are found for any segment. Only used when this schema
+     * {@link #supportsSegmentFiltering() supports segment filtering}.
+     * <p>
+     * By default, the association values are looked up one by one using
+     * {@link #sql_findAssocSagaIdentifiers(Connection, String, String, String, Segment)}. Implementations may override
+     * this method to look up all association values using a single query.
+     *
+     * @param connection        The connection to execute the statements on
+     * @param sagaType          The type of saga to find associations for
+     * @param associationValues The association values to find saga identifiers for
+     * @param segment           The segment the sagas must belong to
+     * @return the identifiers of the sagas associated with each of the given association values
+     * @throws SQLException when an error occurs executing the statements
+     * @since 4.11.0
+     */
+    default Map<AssociationValue, Set<String>> findAssocSagaIdentifiers(Connection connection, String sagaType,
+                                                                       List<AssociationValue> associationValues,
+                                                                       Segment segment) throws SQLException {
+        Map<AssociationValue, Set<String>> sagaIdentifiers = new HashMap<>();
+        for (AssociationValue associationValue : associationValues) {
+            try (PreparedStatement statement = sql_findAssocSagaIdentifiers(connection,
+                                                                            associationValue.getKey(),
+                                                                            associationValue.getValue(),
+                                                                            sagaType,
+                                                                            segment);
+                 ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    sagaIdentifiers.computeIfAbsent(associationValue, v -> new HashSet<>())
+                                   .add(resultSet.getString(1));
+                }
+            }
+        }
+        return sagaIdentifiers;
+    }
+
+    /**
+     * Creates a PreparedStatement that finds at most {@code pageSize} distinct identifiers of Sagas of given
+     * {@code sagaType} with associations belonging to the given {@code segment}, greater than the given
+     * {@code afterSagaIdentifier}, in ascending order. The ResultSet created by the statement contains only saga
+     * identifiers. Only used when this schema {@link #supportsSegmentFiltering() supports segment filtering}.
+     *
+     * @param connection          The connection to create the PreparedStatement for
+     * @param sagaType            The type of saga to find identifiers for
+     * @param segment             The segment the sagas must belong to
+     * @param afterSagaIdentifier The identifier after which to start, or {@code null} to start at the first saga
+     * @param pageSize            The maximum number of identifiers to find
+     * @return a PreparedStatement that creates a ResultSet containing only saga identifiers when executed
+     * @throws SQLException when an error occurs creating the PreparedStatement
+     * @since 4.11.0
+     */
+    default PreparedStatement sql_findSagaIdentifiers(Connection connection, String sagaType, Segment segment,
+                                                      String afterSagaIdentifier, int pageSize) throws SQLException {
+        throw new UnsupportedOperationException("This schema does not support segment filtering");
+    }
+
+    /**
+     * Creates a PreparedStatement that creates an index on the segment hash column of the table storing Association
+     * Values for Sagas. Only used when this schema {@link #supportsSegmentFiltering() supports segment filtering}.
+     *
+     * @param connection The connection to create the PreparedStatement for
+     * @return a PreparedStatement that creates the index, when executed
+     * @throws SQLException when an error occurs creating the PreparedStatement
+     * @since 4.11.0
+     */
+    default PreparedStatement sql_createSegmentHashIndex(Connection connection) throws SQLException {
+        throw new UnsupportedOperationException("This schema does not support segment filtering");
+    }
+
+    /**
+     * Loads the serialized form of the Sagas with given {@code sagaIdentifiers}, returning them by saga identifier.
+     * Sagas that do not exist are left out of the returned map.
+     * <p>
+     * By default, the sagas are loaded one by one using {@link #sql_loadSaga(Connection, String)} and
+     * {@link #readSerializedSaga(ResultSet)}. Implementations may override this method to load all sagas using a
+     * single query.
+     *
+     * @param connection      The connection to execute the statements on
+     * @param sagaIdentifiers The identifiers of the Sagas to load
+     * @return the serialized form of the sagas found, by saga identifier
+     * @throws SQLException when an error occurs executing the statements
+     * @since 4.11.0
+     */
+    default Map<String, SerializedObject<?>> loadSagas(Connection connection,
+                                                       List<String> sagaIdentifiers) throws SQLException {
+        Map<String, SerializedObject<?>> sagas = new HashMap<>();
+        for (String sagaIdentifier : sagaIdentifiers) {
+            try (PreparedStatement statement = sql_loadSaga(connection, sagaIdentifier);
+                 ResultSet resultSet = statement.executeQuery()) {
+                if (resultSet.next()) {
+                    sagas.put(sagaIdentifier, readSerializedSaga(resultSet));
+                }
+            }
+        }
+        return sagas;
+    }
+
+    /**
+     * Finds the associations of the Sagas of given {@code sagaType} with given {@code sagaIdentifiers}, returning them
+     * by saga identifier. Sagas without associations may be left out of the returned map.
+     * <p>
+     * By default, the associations are found one saga at a time using
+     * {@link #sql_findAssociations(Connection, String, String)} and {@link #readAssociationValues(ResultSet)}.
+     * Implementations may override this method to find the associations of all sagas using a single query.
+     *
+     * @param connection      The connection to execute the statements on
+     * @param sagaType        The type of saga to find associations for
+     * @param sagaIdentifiers The identifiers of the Sagas
+     * @return the associations of the given sagas, by saga identifier
+     * @throws SQLException when an error occurs executing the statements
+     * @since 4.11.0
+     */
+    default Map<String, Set<AssociationValue>> findAssociationsOfSagas(Connection connection, String sagaType,
+                                                                      List<String> sagaIdentifiers)
+            throws SQLException {
+        Map<String, Set<AssociationValue>> associations = new HashMap<>();
+        for (String sagaIdentifier : sagaIdentifiers) {
+            try (PreparedStatement statement = sql_findAssociations(connection, sagaIdentifier, sagaType);
+                 ResultSet resultSet = statement.executeQuery()) {
+                associations.put(sagaIdentifier, readAssociationValues(resultSet));
+            }
+        }
+        return associations;
+    }
+
     /**
      * Creates a PreparedStatement that finds the associations of a Saga of given {@code sagaType} and given {@code
      * sagaIdentifier}.
@@ -153,6 +389,164 @@ PreparedStatement sql_updateSaga(Connection connection, String sagaIdentifier, b
     PreparedStatement sql_storeSaga(Connection connection, String sagaIdentifier, String revision, String sagaType,
                                     byte[] serializedSaga) throws SQLException;
 
+    /**
+     * Inserts the given {@code sagaEntries}, returning the update count of each entry in the same order as the given
+     * entries.
+     * <p>
+     * By default, the entries are inserted one by one using {@link #sql_storeSaga(Connection, String, String, String,
+     * byte[])}. Implementations may override this method to insert all entries using a single JDBC batch.
+     *
+     * @param connection  The connection to execute the statements on
+     * @param sagaEntries The serialized sagas to insert
+     * @return the update count of each of the given entries
+     * @throws SQLException when an error occurs executing the statements
+     * @since 4.11.0
+     */
+    default int[] storeSagaBatch(Connection connection, List<SagaEntry<?>> sagaEntries) throws SQLException {
+        int[] updateCounts = new int[sagaEntries.size()];
+        for (int i = 0; i < sagaEntries.size(); i++) {
+            SagaEntry<?> entry = sagaEntries.get(i);
+            try (PreparedStatement statement = sql_storeSaga(connection, entry.getSagaId(), entry.getRevision(),
+                                                             entry.getSagaType(), entry.getSerializedSaga())) {
+                updateCounts[i] = statement.executeUpdate();
+            }
+        }
+        return updateCounts;
+    }
+
+    /**
+     * Updates the serialized form of the given {@code sagaEntries}, returning the update count of each entry in the
+     * same order as the given entries. An update count of {@code 0} indicates the saga no longer exists.
+     * <p>
+     * By default, the entries are updated one by one using {@link #sql_updateSaga(Connection, String, byte[], String,
+     * String)}. Implementations may override this method to update all entries using a single JDBC batch.
+     *
+     * @param connection  The connection to execute the statements on
+     * @param sagaEntries The serialized sagas to update
+     * @return the update count of each of the given entries
+     * @throws SQLException when an error occurs executing the statements
+     * @since 4.11.0
+     */
+    default int[] updateSagaBatch(Connection connection, List<SagaEntry<?>> sagaEntries) throws SQLException {
+        int[] updateCounts = new int[sagaEntries.size()];
+        for (int i = 0; i < sagaEntries.size(); i++) {
+            SagaEntry<?> entry = sagaEntries.get(i);
+            try (PreparedStatement statement = sql_updateSaga(connection, entry.getSagaId(),
+                                                              entry.getSerializedSaga(), entry.getSagaType(),
+                                                              entry.getRevision())) {
+                updateCounts[i] = statement.executeUpdate();
+            }
+        }
+        return updateCounts;
+    }
+
+    /**
+     * Stores the given {@code associationValueEntries}, returning the update count of each entry in the same order as
+     * the given entries.
+     * <p>
+     * By default, the associations are stored one by one using {@link #sql_storeAssocValue(Connection, String, String,
+     * String, String)}. Implementations may override this method to store all associations using a single JDBC batch.
+     *
+     * @param connection              The connection to execute the statements on
+     * @param associationValueEntries The associations to store
+     * @return the update count of each of the given entries
+     * @throws SQLException when an error occurs executing the statements
+     * @since 4.11.0
+     */
+    default int[] storeAssocValueBatch(Connection connection,
+                                       List<AssociationValueEntry> associationValueEntries) throws SQLException {
+        int[] updateCounts = new int[associationValueEntries.size()];
+        for (int i = 0; i < associationValueEntries.size(); i++) {
+            AssociationValueEntry entry = associationValueEntries.get(i);
+            try (PreparedStatement statement = sql_storeAssocValue(connection,
+                                                                   entry.getAssociationValue().getKey(),
+                                                                   entry.getAssociationValue().getValue(),
+                                                                   entry.getSagaType(),
+                                                                   entry.getSagaIdentifier())) {
+                updateCounts[i] = statement.executeUpdate();
+            }
+        }
+        return updateCounts;
+    }
+
+    /**
+     * Removes the given {@code associationValueEntries}, returning the update count of each entry in the same order as
+     * the given entries.
+     * <p>
+     * By default, the associations are removed one by one using {@link #sql_removeAssocValue(Connection, String,
+     * String, String, String)}. Implementations may override this method to remove all associations using a single
+     * JDBC batch.
+     *
+     * @param connection              The connection to execute the statements on
+     * @param associationValueEntries The associations to remove
+     * @return the update count of each of the given entries
+     * @throws SQLException when an error occurs executing the statements
+     * @since 4.11.0
+     */
+    default int[] removeAssocValueBatch(Connection connection,
+                                        List<AssociationValueEntry> associationValueEntries) throws SQLException {
+        int[] updateCounts = new int[associationValueEntries.size()];
+        for (int i = 0; i < associationValueEntries.size(); i++) {
+            AssociationValueEntry entry = associationValueEntries.get(i);
+            try (PreparedStatement statement = sql_removeAssocValue(connection,
+                                                                    entry.getAssociationValue().getKey(),
+                                                                    entry.getAssociationValue().getValue(),
+                                                                    entry.getSagaType(),
+                                                                    entry.getSagaIdentifier())) {
+                updateCounts[i] = statement.executeUpdate();
+            }
+        }
+        return updateCounts;
+    }
+
+    /**
+     * Deletes the Sagas with given {@code sagaIdentifiers}, returning the update count of each saga in the same order
+     * as the given identifiers.
+     * <p>
+     * By default, the sagas are deleted one by one using {@link #sql_deleteSagaEntry(Connection, String)}.
+     * Implementations may override this method to delete all sagas using a single JDBC batch.
+     *
+     * @param connection      The connection to execute the statements on
+     * @param sagaIdentifiers The identifiers of the Sagas to remove
+     * @return the update count of each of the given sagas
+     * @throws SQLException when an error occurs executing the statements
+     * @since 4.11.0
+     */
+    default int[] deleteSagaEntryBatch(Connection connection, List<String> sagaIdentifiers) throws SQLException {
+        int[] updateCounts = new int[sagaIdentifiers.size()];
+        for (int i = 0; i < sagaIdentifiers.size(); i++) {
+            try (PreparedStatement statement = sql_deleteSagaEntry(connection, sagaIdentifiers.get(i))) {
+                updateCounts[i] = statement.executeUpdate();
+            }
+        }
+        return updateCounts;
+    }
+
+    /**
+     * Deletes all association entries of the Sagas with given {@code sagaIdentifiers}, returning the update count of
+     * each saga in the same order as the given identifiers.
+     * <p>
+     * By default, the associations are deleted one saga at a time using
+     * {@link #sql_deleteAssociationEntries(Connection, String)}. Implementations may override this method to delete the
+     * associations of all sagas using a single JDBC batch.
+     *
+     * @param connection      The connection to execute the statements on
+     * @param sagaIdentifiers The identifiers of the Sagas to remove associations for
+     * @return the update count of each of the given sagas
+     * @throws SQLException when an error occurs executing the statements
+     * @since 4.11.0
+     */
+    default int[] deleteAssociationEntriesBatch(Connection connection,
+                                                List<String> sagaIdentifiers) throws SQLException {
+        int[] updateCounts = new int[sagaIdentifiers.size()];
+        for (int i = 0; i < sagaIdentifiers.size(); i++) {
+            try (PreparedStatement statement = sql_deleteAssociationEntries(connection, sagaIdentifiers.get(i))) {
+                updateCounts[i] = statement.executeUpdate();
+            }
+        }
+        return updateCounts;
+    }
+
     /**
      * Creates a PreparedStatement that creates the table for storing Association Values for Sagas.
      *
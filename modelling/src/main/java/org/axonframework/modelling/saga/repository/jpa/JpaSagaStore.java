@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2023. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,6 +23,7 @@
 import org.axonframework.common.jpa.EntityManagerProvider;
 import org.axonframework.modelling.saga.AssociationValue;
 import org.axonframework.modelling.saga.AssociationValues;
+import org.axonframework.modelling.saga.repository.SagaChange;
 import org.axonframework.modelling.saga.repository.SagaStore;
 import org.axonframework.serialization.Serializer;
 import org.axonframework.serialization.SimpleSerializedObject;
@@ -31,8 +32,13 @@
 import org.slf4j.LoggerFactory;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.function.Supplier;
@@ -56,6 +62,7 @@ public class JpaSagaStore implements SagaStore<Object> {
 
     private static final String SAGA_ID_PARAM = "sagaId";
     private static final String SAGA_TYPE_PARAM = "sagaType";
+    private static final int FIND_SAGAS_BATCH_SIZE = 100;
 
     // Saga Queries, non-final to inject the return type and table name.
     private final String LOAD_SAGA_QUERY =
@@ -64,6 +71,13 @@ public class JpaSagaStore implements SagaStore<Object> {
                     "WHERE se.sagaId = :sagaId";
 
 
+    private final String FIND_SAGA_IDENTIFIERS_QUERY =
+            "SELECT se.sagaId FROM " + sagaEntryEntityName() + " se WHERE se.sagaType = :sagaType ORDER BY se.sagaId";
+
+    private final String FIND_SAGA_IDENTIFIERS_AFTER_QUERY =
+            "SELECT se.sagaId FROM " + sagaEntryEntityName() + " se WHERE se.sagaType = :sagaType " +
+                    "AND se.sagaId > :sagaId ORDER BY se.sagaId";
+
     private final String DELETE_SAGA_QUERY = "DELETE FROM " + sagaEntryEntityName() + " se WHERE se.sagaId = :id";
 
     private final String UPDATE_SAGA_QUERY =
@@ -80,9 +94,16 @@ public class JpaSagaStore implements SagaStore<Object> {
             "SELECT ae.sagaId FROM AssociationValueEntry ae WHERE ae.associationKey = :associationKey " +
                     "AND ae.associationValue = :associationValue AND ae.sagaType = :sagaType";
 
+    private static final String FIND_ASSOCIATED_SAGAS_QUERY =
+            "SELECT ae FROM AssociationValueEntry ae WHERE ae.sagaType = :sagaType " +
+                    "AND ae.associationKey IN :associationKeys AND ae.associationValue IN :associationValues";
+
     private static final String FIND_ASSOCIATIONS_QUERY =
             "SELECT ae FROM AssociationValueEntry ae WHERE ae.sagaType = :sagaType AND ae.sagaId = :sagaId";
 
+    private static final String FIND_ASSOCIATIONS_OF_SAGAS_QUERY =
+            "SELECT ae FROM AssociationValueEntry ae WHERE ae.sagaType = :sagaType AND ae.sagaId IN :sagaIds";
+
     private static final String DELETE_ASSOCIATIONS_QUERY =
             "DELETE FROM AssociationValueEntry ae WHERE ae.sagaId = :sagaId";
 
@@ -90,6 +111,10 @@ public class JpaSagaStore implements SagaStore<Object> {
     private static final String DELETE_ASSOCIATION_NAMED_QUERY = "DELETE_ASSOCIATION_NAMED_QUERY";
     private static final String FIND_ASSOCIATION_IDS_NAMED_QUERY = "FIND_ASSOCIATION_IDS_NAMED_QUERY";
     private static final String FIND_ASSOCIATIONS_NAMED_QUERY = "FIND_ASSOCIATIONS_NAMED_QUERY";
+    private static final String FIND_ASSOCIATED_SAGAS_NAMED_QUERY = "FIND_ASSOCIATED_SAGAS_NAMED_QUERY";
+    private static final String FIND_ASSOCIATIONS_OF_SAGAS_NAMED_QUERY = "FIND_ASSOCIATIONS_OF_SAGAS_NAMED_QUERY";
+    private static final String FIND_SAGA_IDENTIFIERS_NAMED_QUERY = "FIND_SAGA_IDENTIFIERS_NAMED_QUERY";
+    private static final String FIND_SAGA_IDENTIFIERS_AFTER_NAMED_QUERY = "FIND_SAGA_IDENTIFIERS_AFTER_NAMED_QUERY";
     private static final String DELETE_ASSOCIATIONS_NAMED_QUERY = "DELETE_ASSOCIATIONS_NAMED_QUERY";
     private static final String DELETE_SAGA_NAMED_QUERY = "DELETE_SAGA_NAMED_QUERY";
     private static final String UPDATE_SAGA_NAMED_QUERY = "UPDATE_SAGA_NAMED_QUERY";
@@ -140,6 +165,18 @@ private void addNamedQueriesTo(EntityManager entityManager) {
         entityManagerFactory.addNamedQuery(
                 FIND_ASSOCIATIONS_NAMED_QUERY, entityManager.createQuery(FIND_ASSOCIATIONS_QUERY)
         );
+        entityManagerFactory.addNamedQuery(
+                FIND_ASSOCIATED_SAGAS_NAMED_QUERY, entityManager.createQuery(FIND_ASSOCIATED_SAGAS_QUERY)
+        );
+        entityManagerFactory.addNamedQuery(
+                FIND_ASSOCIATIONS_OF_SAGAS_NAMED_QUERY, entityManager.createQuery(FIND_ASSOCIATIONS_OF_SAGAS_QUERY)
+        );
+        entityManagerFactory.addNamedQuery(
+                FIND_SAGA_IDENTIFIERS_NAMED_QUERY, entityManager.createQuery(FIND_SAGA_IDENTIFIERS_QUERY)
+        );
+        entityManagerFactory.addNamedQuery(
+                FIND_SAGA_IDENTIFIERS_AFTER_NAMED_QUERY, entityManager.createQuery(FIND_SAGA_IDENTIFIERS_AFTER_QUERY)
+        );
         entityManagerFactory.addNamedQuery(DELETE_SAGA_NAMED_QUERY, entityManager.createQuery(DELETE_SAGA_QUERY));
         entityManagerFactory.addNamedQuery(UPDATE_SAGA_NAMED_QUERY, entityManager.createQuery(UPDATE_SAGA_QUERY));
     }
@@ -168,6 +205,61 @@ public <S> Entry<S> loadSaga(Class<S> sagaType, String sagaIdentifier) {
         return new EntryImpl<>(associationValues, loadedSaga);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The associations of the sagas are loaded through a single query per batch of saga identifiers.
+     */
+    @Override
+    public <S> Map<String, Entry<S>> loadSagas(Class<S> sagaType, Collection<String> sagaIdentifiers) {
+        EntityManager entityManager = entityManagerProvider.getEntityManager();
+        List<String> distinctIdentifiers = new ArrayList<>(new LinkedHashSet<>(sagaIdentifiers));
+        Map<String, Entry<S>> result = new HashMap<>();
+        for (int start = 0; start < distinctIdentifiers.size(); start += FIND_SAGAS_BATCH_SIZE) {
+            List<String> batch = distinctIdentifiers.subList(
+                    start, Math.min(start + FIND_SAGAS_BATCH_SIZE, distinctIdentifiers.size())
+            );
+            Map<String, Set<AssociationValue>> associations = new HashMap<>();
+            entityManager.createNamedQuery(FIND_ASSOCIATIONS_OF_SAGAS_NAMED_QUERY, AssociationValueEntry.class)
+                         .setParameter(SAGA_TYPE_PARAM, getSagaTypeName(sagaType))
+                         .setParameter("sagaIds", batch)
+                         .getResultList()
+                         .forEach(entry -> associations
+                                 .computeIfAbsent(entry.getSagaIdentifier(), id -> new HashSet<>())
+                                 .add(entry.getAssociationValue()));
+            for (String sagaIdentifier : batch) {
+                List<? extends SimpleSerializedObject<?>> serializedSagaList =
+                        entityManager.createNamedQuery(LOAD_SAGA_NAMED_QUERY, serializedObjectType())
+                                     .setParameter(SAGA_ID_PARAM, sagaIdentifier)
+                                     .setMaxResults(1)
+                                     .getResultList();
+                if (!serializedSagaList.isEmpty()) {
+                    S saga = serializer.deserialize(serializedSagaList.get(0));
+                    result.put(sagaIdentifier, new EntryImpl<>(
+                            associations.getOrDefault(sagaIdentifier, new HashSet<>()), saga
+                    ));
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<String> findSagaIdentifiers(Class<?> sagaType, String afterSagaIdentifier, int pageSize) {
+        EntityManager entityManager = entityManagerProvider.getEntityManager();
+        if (afterSagaIdentifier == null) {
+            return entityManager.createNamedQuery(FIND_SAGA_IDENTIFIERS_NAMED_QUERY, String.class)
+                                .setParameter(SAGA_TYPE_PARAM, getSagaTypeName(sagaType))
+                                .setMaxResults(pageSize)
+                                .getResultList();
+        }
+        return entityManager.createNamedQuery(FIND_SAGA_IDENTIFIERS_AFTER_NAMED_QUERY, String.class)
+                            .setParameter(SAGA_TYPE_PARAM, getSagaTypeName(sagaType))
+                            .setParameter(SAGA_ID_PARAM, afterSagaIdentifier)
+                            .setMaxResults(pageSize)
+                            .getResultList();
+    }
+
     /**
      * Loads the {@link AssociationValue association values} of the saga with given {@code sagaIdentifier} and
      * {@code sagaType}.
@@ -238,9 +330,52 @@ public Set<String> findSagas(Class<?> sagaType, AssociationValue associationValu
         return new TreeSet<>(entries);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The association values are resolved in batches of {@code 100}, selecting the entries matching any of the keys
+     * and any of the values of a batch in a single query.
+     */
+    @Override
+    public Map<AssociationValue, Set<String>> findSagas(Class<?> sagaType,
+                                                        Collection<AssociationValue> associationValues) {
+        EntityManager entityManager = entityManagerProvider.getEntityManager();
+        List<AssociationValue> distinctValues = new ArrayList<>(new LinkedHashSet<>(associationValues));
+        Map<AssociationValue, Set<String>> result = new HashMap<>();
+        distinctValues.forEach(associationValue -> result.put(associationValue, new TreeSet<>()));
+        for (int start = 0; start < distinctValues.size(); start += FIND_SAGAS_BATCH_SIZE) {
+            List<AssociationValue> batch =
+                    distinctValues.subList(start, Math.min(start + FIND_SAGAS_BATCH_SIZE, distinctValues.size()));
+            List<AssociationValueEntry> entries =
+                    entityManager.createNamedQuery(FIND_ASSOCIATED_SAGAS_NAMED_QUERY, AssociationValueEntry.class)
+                                 .setParameter(SAGA_TYPE_PARAM, getSagaTypeName(sagaType))
+                                 .setParameter("associationKeys", batch.stream()
+                                                                       .map(AssociationValue::getKey)
+                                                                       .collect(Collectors.toSet()))
+                                 .setParameter("associationValues", batch.stream()
+                                                                         .map(AssociationValue::getValue)
+                                                                         .collect(Collectors.toSet()))
+                                 .getResultList();
+            for (AssociationValueEntry entry : entries) {
+                Set<String> sagaIdentifiers = result.get(entry.getAssociationValue());
+                if (sagaIdentifiers != null) {
+                    sagaIdentifiers.add(entry.getSagaIdentifier());
+                }
+            }
+        }
+        return result;
+    }
+
     @Override
     public void deleteSaga(Class<?> sagaType, String sagaIdentifier, Set<AssociationValue> associationValues) {
         EntityManager entityManager = entityManagerProvider.getEntityManager();
+        deleteSagaEntry(entityManager, sagaIdentifier);
+        if (useExplicitFlush) {
+            entityManager.flush();
+        }
+    }
+
+    private void deleteSagaEntry(EntityManager entityManager, String sagaIdentifier) {
         try {
             entityManager.createNamedQuery(DELETE_ASSOCIATIONS_NAMED_QUERY)
                          .setParameter(SAGA_ID_PARAM, sagaIdentifier)
@@ -253,14 +388,22 @@ public void deleteSaga(Class<?> sagaType, String sagaIdentifier, Set<Association
                         sagaEntryEntityName(),
                         sagaIdentifier);
         }
-        if (useExplicitFlush) {
-            entityManager.flush();
-        }
     }
 
     @Override
     public void updateSaga(Class<?> sagaType, String sagaIdentifier, Object saga, AssociationValues associationValues) {
         EntityManager entityManager = entityManagerProvider.getEntityManager();
+        updateSagaEntry(entityManager, sagaType, sagaIdentifier, saga, associationValues.removedAssociations());
+        for (AssociationValue associationValue : associationValues.addedAssociations()) {
+            storeAssociationValue(entityManager, sagaType, sagaIdentifier, associationValue);
+        }
+        if (useExplicitFlush) {
+            entityManager.flush();
+        }
+    }
+
+    private void updateSagaEntry(EntityManager entityManager, Class<?> sagaType, String sagaIdentifier, Object saga,
+                                 Set<AssociationValue> removedAssociations) {
         SagaEntry<?> entry = createSagaEntry(saga, sagaIdentifier, serializer);
 
         if (logger.isDebugEnabled()) {
@@ -271,18 +414,12 @@ public void updateSaga(Class<?> sagaType, String sagaIdentifier, Object saga, As
                                        .setParameter("revision", entry.getRevision())
                                        .setParameter(SAGA_ID_PARAM, entry.getSagaId())
                                        .executeUpdate();
-        for (AssociationValue associationValue : associationValues.addedAssociations()) {
-            storeAssociationValue(entityManager, sagaType, sagaIdentifier, associationValue);
-        }
-        for (AssociationValue associationValue : associationValues.removedAssociations()) {
+        for (AssociationValue associationValue : removedAssociations) {
             removeAssociationValue(entityManager, sagaType, sagaIdentifier, associationValue);
         }
         if (updateCount == 0) {
             logger.warn("Expected to be able to update a Saga instance, but no rows were found.");
         }
-        if (useExplicitFlush) {
-            entityManager.flush();
-        }
     }
 
     private String serializedSagaAsString(SagaEntry<?> entry) {
@@ -310,6 +447,52 @@ public void insertSaga(Class<?> sagaType, String sagaIdentifier, Object saga,
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The bulk deletes and updates are executed first, after which all new saga and association entries are persisted.
+     * The {@link EntityManager} is flushed once for all changes, allowing the JPA provider to group the inserts in JDBC
+     * batches.
+     */
+    @Override
+    public void applyChanges(Class<?> sagaType, List<? extends SagaChange<?>> changes) {
+        EntityManager entityManager = entityManagerProvider.getEntityManager();
+        List<SagaEntry<?>> newEntries = new ArrayList<>();
+        List<SagaChange<?>> newAssociations = new ArrayList<>();
+        for (SagaChange<?> change : changes) {
+            switch (change.type()) {
+                case INSERT:
+                    SagaEntry<?> entry = createSagaEntry(change.saga(), change.sagaIdentifier(), serializer);
+                    if (logger.isDebugEnabled()) {
+                        logger.debug("Storing saga id {} as {}",
+                                     change.sagaIdentifier(), serializedSagaAsString(entry));
+                    }
+                    newEntries.add(entry);
+                    newAssociations.add(change);
+                    break;
+                case UPDATE:
+                    updateSagaEntry(entityManager, sagaType, change.sagaIdentifier(), change.saga(),
+                                    change.removedAssociations());
+                    newAssociations.add(change);
+                    break;
+                case DELETE:
+                    deleteSagaEntry(entityManager, change.sagaIdentifier());
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown saga change type: " + change.type());
+            }
+        }
+        newEntries.forEach(entityManager::persist);
+        for (SagaChange<?> change : newAssociations) {
+            for (AssociationValue associationValue : change.addedAssociations()) {
+                storeAssociationValue(entityManager, sagaType, change.sagaIdentifier(), associationValue);
+            }
+        }
+        if (useExplicitFlush) {
+            entityManager.flush();
+        }
+    }
+
     /**
      * Sets whether or not to do an explicit {@link EntityManager#flush()} after each data modifying operation on the
      * backing storage. Default to {@code true}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2023. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,6 +21,7 @@
 import org.axonframework.eventhandling.ListenerInvocationErrorHandler;
 import org.axonframework.eventhandling.Segment;
 import org.axonframework.messaging.ResultMessage;
+import org.axonframework.messaging.unitofwork.BatchingUnitOfWork;
 import org.axonframework.messaging.unitofwork.DefaultUnitOfWork;
 import org.axonframework.messaging.unitofwork.UnitOfWork;
 import org.axonframework.modelling.utils.MockException;
@@ -33,6 +34,7 @@
 import java.util.Collections;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import javax.annotation.Nonnull;
 
@@ -80,6 +82,10 @@ void setUp() {
         when(mockSaga1.canHandle(any(EventMessage.class))).thenReturn(true);
         when(mockSaga2.canHandle(any(EventMessage.class))).thenReturn(true);
 
+        // the segment aware lookups delegate to the lookups stubbed in the tests
+        when(mockSagaRepository.find(any(), any())).thenCallRealMethod();
+        when(mockSagaRepository.findAll(any(), any())).thenCallRealMethod();
+        doCallRealMethod().when(mockSagaRepository).preload(any(Segment.class));
         when(mockSagaRepository.find(eq(associationValue)))
                 .thenReturn(setOf("saga1", "saga2", "saga3", "noSaga"));
 
@@ -108,6 +114,72 @@ void sagasLoaded() throws Exception {
         verify(mockSaga3, never()).handle(event);
     }
 
+    @Test
+    void associationsOfEventBatchAreResolvedAtOnceAndSagasPreloaded() throws Exception {
+        EventMessage<?> event1 = new GenericEventMessage<>(new Object());
+        EventMessage<?> event2 = new GenericEventMessage<>(new Object());
+        when(mockSagaRepository.findAll(any()))
+                .thenReturn(Collections.singletonMap(associationValue, setOf("saga1", "saga2", "saga3", "noSaga")));
+        BatchingUnitOfWork<EventMessage<?>> unitOfWork = new BatchingUnitOfWork<>(Arrays.asList(event1, event2));
+
+        unitOfWork.executeWithResult(() -> {
+            testSubject.handle(unitOfWork.getMessage(), Segment.ROOT_SEGMENT);
+            return null;
+        });
+
+        InOrder inOrder = inOrder(mockSagaRepository, mockSaga1);
+        inOrder.verify(mockSagaRepository).findAll(singleton(associationValue));
+        inOrder.verify(mockSagaRepository).load("saga1");
+        inOrder.verify(mockSaga1).handle(event1);
+        inOrder.verify(mockSaga1).handle(event2);
+        verify(mockSagaRepository, times(1)).findAll(any());
+        verify(mockSagaRepository, times(2)).find(associationValue);
+        verify(mockSaga2).handle(event1);
+        verify(mockSaga2).handle(event2);
+    }
+
+    @Test
+    void claimingSegmentPreloadsSagasOfThatSegment() {
+        Segment[] segments = Segment.ROOT_SEGMENT.split();
+
+        testSubject.segmentClaimed(segments[0]);
+
+        //noinspection unchecked
+        ArgumentCaptor<Predicate<String>> filterCaptor = ArgumentCaptor.forClass(Predicate.class);
+        verify(mockSagaRepository).preload(filterCaptor.capture());
+        Predicate<String> filter = filterCaptor.getValue();
+        for (String sagaId : Arrays.asList("saga1", "saga2", "saga3", "saga4")) {
+            assertEquals(segments[0].matches(sagaId), filter.test(sagaId));
+        }
+    }
+
+    @Test
+    void sagasOfAllSegmentsAreFoundWhenMatchesSegmentIsOverridden() throws Exception {
+        Segment[] segments = Segment.ROOT_SEGMENT.split();
+        testSubject = new TestableAbstractSagaManager(TestableAbstractSagaManager.builder()
+                                                                                 .sagaRepository(mockSagaRepository)
+                                                                                 .associationValue(associationValue)) {
+            @Override
+            protected boolean matchesSegment(Segment segment, String sagaId) {
+                return "saga1".equals(sagaId) == (segment.getSegmentId() == segments[1].getSegmentId());
+            }
+        };
+        EventMessage<?> event = new GenericEventMessage<>(new Object());
+
+        testSubject.handle(event, segments[1]);
+        testSubject.segmentClaimed(segments[1]);
+
+        verify(mockSagaRepository).find(associationValue, Segment.ROOT_SEGMENT);
+        verify(mockSaga1).handle(event);
+        verify(mockSaga2, never()).handle(event);
+        //noinspection unchecked
+        ArgumentCaptor<Predicate<String>> filterCaptor = ArgumentCaptor.forClass(Predicate.class);
+        verify(mockSagaRepository).preload(filterCaptor.capture());
+        verify(mockSagaRepository, never()).preload(any(Segment.class));
+        assertTrue(filterCaptor.getValue().test("saga1"));
+        assertFalse(filterCaptor.getValue().test("saga2"));
+    }
+
     @Test
     void sagaIsTraced() throws Exception {
         EventMessage<?> event = new GenericEventMessage<>(new Object());
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2018. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,11 +19,14 @@
 import org.axonframework.common.IdentifierFactory;
 import org.axonframework.eventhandling.EventHandler;
 import org.axonframework.eventhandling.GenericEventMessage;
+import org.axonframework.eventhandling.Segment;
 import org.axonframework.messaging.Message;
 import org.axonframework.messaging.annotation.MessageHandlerInterceptorMemberChain;
 import org.axonframework.messaging.annotation.MessageHandlingMember;
+import org.axonframework.modelling.saga.AnnotatedSaga;
 import org.axonframework.modelling.saga.AssociationValue;
 import org.axonframework.modelling.saga.Saga;
+import org.axonframework.modelling.saga.SagaLifecycle;
 import org.axonframework.modelling.saga.repository.inmemory.InMemorySagaStore;
 import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
 import org.axonframework.messaging.unitofwork.DefaultUnitOfWork;
@@ -31,9 +34,13 @@
 import org.junit.jupiter.api.*;
 import org.mockito.*;
 
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import javax.annotation.Nonnull;
 
@@ -139,6 +146,99 @@ void loadedFromUnitOfWorkAfterPreviousLoad() {
         verify(store, never()).insertSaga(eq(Object.class), any(), any(), any());
     }
 
+    @Test
+    void batchedPersistenceWritesAllSagasOfUnitOfWorkTogether() {
+        Saga<Object> updatedSaga = testSubject.createInstance("updated", Object::new);
+        Saga<Object> endedSaga = testSubject.createInstance("ended", Object::new);
+        currentUnitOfWork.commit();
+        currentUnitOfWork = startAndGet(null);
+        reset(store);
+        AnnotatedSagaRepository<Object> batchingRepository = AnnotatedSagaRepository.builder()
+                                                                                    .sagaType(Object.class)
+                                                                                    .sagaStore(store)
+                                                                                    .batchedPersistence(true)
+                                                                                    .build();
+
+        batchingRepository.load(updatedSaga.getSagaIdentifier())
+                          .getAssociationValues()
+                          .add(new AssociationValue("test", "value"));
+        ((AnnotatedSaga<Object>) batchingRepository.load(endedSaga.getSagaIdentifier()))
+                .execute(root -> SagaLifecycle.end());
+        Saga<Object> createdSaga = batchingRepository.createInstance("created", Object::new);
+        currentUnitOfWork.commit();
+
+        ArgumentCaptor<List<SagaChange<Object>>> changesCaptor = ArgumentCaptor.forClass(List.class);
+        verify(store).applyChanges(eq(Object.class), changesCaptor.capture());
+        List<SagaChange<Object>> changes = changesCaptor.getValue();
+        assertEquals(3, changes.size());
+        assertEquals(SagaChange.Type.UPDATE, changes.get(0).type());
+        assertEquals(SagaChange.Type.DELETE, changes.get(1).type());
+        assertEquals(SagaChange.Type.INSERT, changes.get(2).type());
+        assertEquals(createdSaga.getSagaIdentifier(), changes.get(2).sagaIdentifier());
+        assertTrue(createdSaga.getAssociationValues().addedAssociations().isEmpty());
+        assertEquals(singleton("updated"), store.findSagas(Object.class, new AssociationValue("test", "value")));
+        assertNull(store.loadSaga(Object.class, "ended"));
+    }
+
+    @Test
+    void batchedPersistenceFlushesSagasLoadedInNestedUnitOfWorkWithThatUnitOfWork() {
+        Saga<Object> saga = testSubject.createInstance("nested", Object::new);
+        currentUnitOfWork.commit();
+        currentUnitOfWork = startAndGet(null);
+        reset(store);
+        AnnotatedSagaRepository<Object> batchingRepository = AnnotatedSagaRepository.builder()
+                                                                                    .sagaType(Object.class)
+                                                                                    .sagaStore(store)
+                                                                                    .batchedPersistence(true)
+                                                                                    .build();
+
+        batchingRepository.createInstance("outer", Object::new);
+        startAndGet(null).execute(() -> batchingRepository.load(saga.getSagaIdentifier()));
+        verify(store).applyChanges(eq(Object.class), argThat(changes -> changes.size() == 1));
+
+        currentUnitOfWork.commit();
+        verify(store, times(2)).applyChanges(eq(Object.class), argThat(changes -> changes.size() == 1));
+    }
+
+    @Test
+    void findAllServesSubsequentLookupsInUnitOfWork() {
+        AssociationValue associationValue = new AssociationValue("test", "value");
+        testSubject.createInstance("stored", Object::new).getAssociationValues().add(associationValue);
+        currentUnitOfWork.commit();
+        currentUnitOfWork = startAndGet(null);
+        reset(store);
+
+        Map<AssociationValue, Set<String>> found = testSubject.findAll(singleton(associationValue));
+        verify(store).findSagas(Object.class, singleton(associationValue));
+        reset(store);
+        testSubject.createInstance("created", Object::new).getAssociationValues().add(associationValue);
+
+        assertEquals(singleton("stored"), found.get(associationValue));
+        assertEquals(new HashSet<>(Arrays.asList("stored", "created")), testSubject.find(associationValue));
+        verify(store, never()).findSagas(any(), any(AssociationValue.class));
+    }
+
+    @Test
+    void findWithSegmentOnlyReturnsSagasOfThatSegment() {
+        AssociationValue associationValue = new AssociationValue("test", "value");
+        List<String> sagaIdentifiers = Arrays.asList("stored1", "stored2", "stored3", "stored4");
+        sagaIdentifiers.forEach(id -> testSubject.createInstance(id, Object::new)
+                                                 .getAssociationValues().add(associationValue));
+        currentUnitOfWork.commit();
+
+        for (Segment segment : Segment.ROOT_SEGMENT.split()) {
+            currentUnitOfWork = startAndGet(null);
+            reset(store);
+            Set<String> expected = sagaIdentifiers.stream().filter(segment::matches).collect(Collectors.toSet());
+
+            assertEquals(expected, testSubject.find(associationValue, segment));
+            assertEquals(expected, testSubject.findAll(singleton(associationValue), segment).get(associationValue));
+            verify(store).findSagas(Object.class, associationValue, segment);
+            verify(store).findSagas(Object.class, singleton(associationValue), segment);
+            currentUnitOfWork.commit();
+        }
+    }
+
     @Test
     void sagaAssociationsVisibleInOtherThreadsBeforeSagaIsCommitted() throws Exception {
         String sagaId = "sagaId";
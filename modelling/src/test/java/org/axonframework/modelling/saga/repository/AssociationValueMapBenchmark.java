@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2010-2024. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.modelling.saga.repository;
+
+import org.axonframework.modelling.saga.AssociationValue;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Benchmark approach for the lookups in, and mutations of, the {@link AssociationValueMap}, compared to the sorted
+ * skip list based implementation it replaced.
+ */
+public class AssociationValueMapBenchmark {
+
+    private static final int SAGA_COUNT = 500_000;
+    private static final int ASSOCIATIONS_PER_SAGA = 2;
+    private static final int LOOKUP_ROUNDS = 5;
+    private static final int ITERATIONS = 5;
+
+    public static void main(String[] args) {
+        String[] sagaIdentifiers = new String[SAGA_COUNT];
+        AssociationValue[][] associationValues = new AssociationValue[SAGA_COUNT][ASSOCIATIONS_PER_SAGA];
+        for (int i = 0; i < SAGA_COUNT; i++) {
+            sagaIdentifiers[i] = UUID.randomUUID().toString();
+            associationValues[i][0] = new AssociationValue("sagaIdentifier", sagaIdentifiers[i]);
+            // every hundred sagas share an association value
+            associationValues[i][1] = new AssociationValue("orderId", "order-" + (i / 100));
+        }
+
+        for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+            System.out.println("Iteration " + (iteration + 1));
+            benchmark("skipList", new SkipListAssociationValueMap(), sagaIdentifiers, associationValues);
+            benchmark("hashIndex", new HashIndexedMap(), sagaIdentifiers, associationValues);
+        }
+    }
+
+    private static void benchmark(String name, BenchmarkedMap map,
+                                  String[] sagaIdentifiers, AssociationValue[][] associationValues) {
+        long start = System.nanoTime();
+        for (int i = 0; i < sagaIdentifiers.length; i++) {
+            for (AssociationValue associationValue : associationValues[i]) {
+                map.add(associationValue, "SagaType", sagaIdentifiers[i]);
+            }
+        }
+        long addNanos = System.nanoTime() - start;
+
+        long found = 0;
+        start = System.nanoTime();
+        for (int round = 0; round < LOOKUP_ROUNDS; round++) {
+            for (AssociationValue[] values : associationValues) {
+                found += map.findSagas("SagaType", values[0]).size();
+            }
+        }
+        long lookupNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < sagaIdentifiers.length; i++) {
+            for (AssociationValue associationValue : associationValues[i]) {
+                map.remove(associationValue, "SagaType", sagaIdentifiers[i]);
+            }
+        }
+        long removeNanos = System.nanoTime() - start;
+
+        int mutations = sagaIdentifiers.length * ASSOCIATIONS_PER_SAGA;
+        System.out.printf("%-10s add: %8.1f ns/op, lookup: %8.1f ns/op, remove: %8.1f ns/op (%d found)%n",
+                          name,
+                          addNanos / (double) mutations,
+                          lookupNanos / (double) (LOOKUP_ROUNDS * sagaIdentifiers.length),
+                          removeNanos / (double) mutations,
+                          found);
+    }
+
+    private interface BenchmarkedMap {
+
+        Set<String> findSagas(String sagaType, AssociationValue associationValue);
+
+        void add(AssociationValue associationValue, String sagaType, String sagaIdentifier);
+
+        void remove(AssociationValue associationValue, String sagaType, String sagaIdentifier);
+    }
+
+    private static class HashIndexedMap implements BenchmarkedMap {
+
+        private final AssociationValueMap delegate = new AssociationValueMap();
+
+        @Override
+        public Set<String> findSagas(String sagaType, AssociationValue associationValue) {
+            return delegate.findSagas(sagaType, associationValue);
+        }
+
+        @Override
+        public void add(AssociationValue associationValue, String sagaType, String sagaIdentifier) {
+            delegate.add(associationValue, sagaType, sagaIdentifier);
+        }
+
+        @Override
+        public void remove(AssociationValue associationValue, String sagaType, String sagaIdentifier) {
+            delegate.remove(associationValue, sagaType, sagaIdentifier);
+        }
+    }
+
+    /**
+     * The former implementation of the {@link AssociationValueMap}, keeping all associations sorted by key, value,
+     * saga type and saga identifier.
+     */
+    private static class SkipListAssociationValueMap implements BenchmarkedMap {
+
+        private static final Comparator<String[]> COMPARATOR = (o1, o2) -> {
+            for (int i = 0; i < o1.length; i++) {
+                if (o1[i] == null || o2[i] == null) {
+                    if (o1[i] != o2[i]) {
+                        return o1[i] == null ? -1 : 1;
+                    }
+                    continue;
+                }
+                int value = o1[i].compareTo(o2[i]);
+                if (value != 0) {
+                    return value;
+                }
+            }
+            return 0;
+        };
+
+        private final NavigableSet<String[]> mappings = new ConcurrentSkipListSet<>(COMPARATOR);
+
+        @Override
+        public Set<String> findSagas(String sagaType, AssociationValue associationValue) {
+            Set<String> identifiers = new HashSet<>();
+            String[] from = entry(associationValue, sagaType, null);
+            for (String[] item : mappings.tailSet(from)) {
+                if (COMPARATOR.compare(entry(associationValue, sagaType, item[3]), item) != 0) {
+                    break;
+                }
+                identifiers.add(item[3]);
+            }
+            return identifiers;
+        }
+
+        @Override
+        public void add(AssociationValue associationValue, String sagaType, String sagaIdentifier) {
+            mappings.add(entry(associationValue, sagaType, sagaIdentifier));
+        }
+
+        @Override
+        public void remove(AssociationValue associationValue, String sagaType, String sagaIdentifier) {
+            mappings.remove(entry(associationValue, sagaType, sagaIdentifier));
+        }
+
+        private static String[] entry(AssociationValue associationValue, String sagaType, String sagaIdentifier) {
+            return new String[]{associationValue.getKey(), associationValue.getValue(), sagaType, sagaIdentifier};
+        }
+    }
+}
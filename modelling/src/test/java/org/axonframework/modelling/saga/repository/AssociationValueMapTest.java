@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2018. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -27,6 +27,7 @@
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 /**
  *
@@ -101,4 +102,45 @@ void findAssociations() {
             assertEquals(item.getKey(), actualResult.iterator().next());
         }
     }
+
+    @Test
+    void sagasSharingAnAssociationValueAreFoundUntilRemoved() {
+        testSubject.add(av("a"), "T", "1");
+        testSubject.add(av("a"), "T", "2");
+        testSubject.add(av("a"), "T", "3");
+        assertEquals(3, testSubject.findSagas("T", av("a")).size());
+
+        testSubject.remove(av("a"), "T", "2");
+        testSubject.remove(av("a"), "T", "3");
+        assertEquals(1, testSubject.size());
+        assertEquals(1, testSubject.findSagas("T", av("a")).size());
+        assertTrue(testSubject.findSagas("T", av("a")).contains("1"));
+
+        testSubject.remove(av("a"), "T", "1");
+        testSubject.remove(av("a"), "T", "1");
+        assertTrue(testSubject.isEmpty());
+        assertEquals(0, testSubject.size());
+        assertTrue(testSubject.findSagas("T", av("a")).isEmpty());
+    }
+
+    @Test
+    void estimatedMemoryUsageGrowsWithAssociationsAndIsReleasedOnRemoval() {
+        assertEquals(0, testSubject.estimatedMemoryUsage());
+
+        testSubject.add(av("a"), "T", "1");
+        long singleSaga = testSubject.estimatedMemoryUsage();
+        assertTrue(singleSaga > 0);
+
+        testSubject.add(av("a"), "T", "2");
+        long twoSagas = testSubject.estimatedMemoryUsage();
+        assertTrue(twoSagas > singleSaga, "A shared association value should allocate a set of identifiers");
+
+        testSubject.remove(av("a"), "T", "2");
+        assertEquals(singleSaga, testSubject.estimatedMemoryUsage());
+
+        testSubject.add(av("b"), "T", "3");
+        testSubject.clear();
+        assertEquals(0, testSubject.estimatedMemoryUsage());
+        assertFalse(testSubject.findSagas("T", av("b")).contains("3"));
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2022. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -29,7 +29,10 @@
 import org.junit.jupiter.api.*;
 import org.mockito.*;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
@@ -39,6 +42,7 @@
 import java.util.stream.IntStream;
 
 import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -98,6 +102,114 @@ void sagaAddedToCacheOnAdd() {
         verify(associationsCache, never()).put(any(), any());
     }
 
+    @Test
+    void findSagasForMultipleAssociationValuesOnlyQueriesUncachedValuesAtDelegate() {
+        AssociationValue cachedValue = new AssociationValue("key", "cached");
+        AssociationValue uncachedValue = new AssociationValue("key", "uncached");
+        AssociationValue unknownValue = new AssociationValue("key", "unknown");
+        testSubject.insertSaga(StubSaga.class, "cached", new StubSaga(), singleton(cachedValue));
+        testSubject.insertSaga(StubSaga.class, "uncached", new StubSaga(), singleton(uncachedValue));
+        testSubject.findSagas(StubSaga.class, cachedValue);
+        reset(delegate);
+
+        Map<AssociationValue, Set<String>> actual =
+                testSubject.findSagas(StubSaga.class, Arrays.asList(cachedValue, uncachedValue, unknownValue));
+
+        assertEquals(singleton("cached"), actual.get(cachedValue));
+        assertEquals(singleton("uncached"), actual.get(uncachedValue));
+        assertEquals(Collections.emptySet(), actual.get(unknownValue));
+        verify(delegate).findSagas(StubSaga.class, Arrays.asList(uncachedValue, unknownValue));
+
+        reset(delegate);
+        testSubject.findSagas(StubSaga.class, uncachedValue);
+        verify(delegate, never()).findSagas(eq(StubSaga.class), any(AssociationValue.class));
+    }
+
+    @Test
+    void preloadLoadsMatchingSagasAndTheirAssociationsUpToTheLimit() {
+        AssociationValue sharedValue = new AssociationValue("shared", "all");
+        for (int i = 0; i < 6; i++) {
+            delegate.insertSaga(StubSaga.class, "saga" + i, new StubSaga(),
+                                new HashSet<>(Arrays.asList(sharedValue, new AssociationValue("key", "value" + i))));
+        }
+        testSubject = CachingSagaStore.<StubSaga>builder()
+                                      .delegateSagaStore(delegate)
+                                      .sagaCache(sagaCache)
+                                      .associationsCache(associationsCache)
+                                      .preloadLimit(2)
+                                      .preloadPageSize(2)
+                                      .build();
+
+        testSubject.preload(StubSaga.class, sagaId -> Integer.parseInt(sagaId.substring(4)) % 2 == 1);
+
+        assertTrue(sagaCache.containsKey("saga1"));
+        assertTrue(sagaCache.containsKey("saga3"));
+        assertFalse(sagaCache.containsKey("saga5"));
+        assertFalse(sagaCache.containsKey("saga0"));
+        verify(delegate).loadSagas(StubSaga.class, singletonList("saga1"));
+        verify(delegate).loadSagas(StubSaga.class, singletonList("saga3"));
+        verify(delegate, never()).findSagaIdentifiers(StubSaga.class, "saga3", 2);
+
+        reset(delegate);
+        assertEquals(6, testSubject.findSagas(StubSaga.class, sharedValue).size());
+        assertEquals(singleton("saga1"), testSubject.findSagas(StubSaga.class, new AssociationValue("key", "value1")));
+        assertNotNull(testSubject.loadSaga(StubSaga.class, "saga3"));
+        verifyNoInteractions(delegate);
+    }
+
+    @Test
+    void preloadStopsAfterPageOfWhichAllMatchingSagasAreCached() {
+        for (int i = 0; i < 6; i++) {
+            delegate.insertSaga(StubSaga.class, "saga" + i, new StubSaga(), Collections.emptySet());
+        }
+        testSubject = CachingSagaStore.<StubSaga>builder()
+                                      .delegateSagaStore(delegate)
+                                      .sagaCache(sagaCache)
+                                      .associationsCache(associationsCache)
+                                      .preloadLimit(10)
+                                      .preloadPageSize(2)
+                                      .build();
+        testSubject.loadSaga(StubSaga.class, "saga0");
+        testSubject.loadSaga(StubSaga.class, "saga1");
+        reset(delegate);
+
+        testSubject.preload(StubSaga.class, sagaId -> true);
+
+        verify(delegate).findSagaIdentifiers(StubSaga.class, null, 2);
+        verify(delegate, never()).findSagaIdentifiers(StubSaga.class, "saga1", 2);
+        verify(delegate, never()).loadSagas(any(), any());
+    }
+
+    @Test
+    void preloadStopsAtScanLimit() {
+        for (int i = 0; i < 6; i++) {
+            delegate.insertSaga(StubSaga.class, "saga" + i, new StubSaga(), Collections.emptySet());
+        }
+        testSubject = CachingSagaStore.<StubSaga>builder()
+                                      .delegateSagaStore(delegate)
+                                      .sagaCache(sagaCache)
+                                      .associationsCache(associationsCache)
+                                      .preloadLimit(10)
+                                      .preloadPageSize(2)
+                                      .preloadScanLimit(3)
+                                      .build();
+        reset(delegate);
+
+        testSubject.preload(StubSaga.class, sagaId -> sagaId.equals("saga5"));
+
+        verify(delegate).findSagaIdentifiers(StubSaga.class, null, 2);
+        verify(delegate).findSagaIdentifiers(StubSaga.class, "saga1", 1);
+        verify(delegate, never()).findSagaIdentifiers(eq(StubSaga.class), eq("saga2"), anyInt());
+        assertFalse(sagaCache.containsKey("saga5"));
+    }
+
+    @Test
+    void preloadIsDisabledByDefault() {
+        testSubject.preload(StubSaga.class, sagaId -> true);
+
+        verifyNoInteractions(delegate);
+    }
+
     @Test
     void associationsAddedToCacheOnLoad() {
         testSubject.insertSaga(StubSaga.class, "id", new StubSaga(), singleton(new AssociationValue("key", "value")));
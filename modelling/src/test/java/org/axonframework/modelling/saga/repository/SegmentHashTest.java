@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2010-2024. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.modelling.saga.repository;
+
+import org.axonframework.eventhandling.Segment;
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class validating the {@link SegmentHash}.
+ */
+class SegmentHashTest {
+
+    @Test
+    void rootSegmentCoversAllSegmentHashes() {
+        assertEquals(0L, SegmentHash.lowerBound(Segment.ROOT_SEGMENT));
+        assertEquals(0xFFFFFFFFL, SegmentHash.upperBound(Segment.ROOT_SEGMENT));
+    }
+
+    @Test
+    void segmentHashFallsWithinBoundsOfMatchingSegmentOnly() {
+        List<Segment> segments = Segment.splitBalanced(Segment.ROOT_SEGMENT, 6);
+        for (int i = 0; i < 1000; i++) {
+            String sagaIdentifier = UUID.randomUUID().toString();
+            long segmentHash = SegmentHash.of(sagaIdentifier);
+            for (Segment segment : segments) {
+                boolean withinBounds = segmentHash >= SegmentHash.lowerBound(segment)
+                        && segmentHash <= SegmentHash.upperBound(segment);
+                assertEquals(segment.matches(sagaIdentifier), withinBounds,
+                             () -> "Unexpected bounds for " + sagaIdentifier + " in " + segment);
+            }
+        }
+    }
+
+    @Test
+    void boundsOfSplitSegmentsAreAdjacent() {
+        Segment[] split = Segment.ROOT_SEGMENT.split()[1].split();
+        long lowest = Math.min(SegmentHash.lowerBound(split[0]), SegmentHash.lowerBound(split[1]));
+        long highest = Math.max(SegmentHash.upperBound(split[0]), SegmentHash.upperBound(split[1]));
+
+        assertEquals(SegmentHash.lowerBound(Segment.ROOT_SEGMENT.split()[1]), lowest);
+        assertEquals(SegmentHash.upperBound(Segment.ROOT_SEGMENT.split()[1]), highest);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2021. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,20 +16,38 @@
 
 package org.axonframework.modelling.saga.repository.jdbc;
 
+import org.axonframework.eventhandling.Segment;
+import org.axonframework.messaging.unitofwork.DefaultUnitOfWork;
 import org.axonframework.modelling.saga.AssociationValue;
 import org.axonframework.modelling.saga.AssociationValues;
 import org.axonframework.modelling.saga.AssociationValuesImpl;
+import org.axonframework.modelling.saga.repository.SagaChange;
 import org.axonframework.modelling.saga.repository.SagaStore;
 import org.axonframework.modelling.saga.repository.StubSaga;
+import org.axonframework.modelling.saga.repository.jpa.SagaEntry;
 import org.axonframework.modelling.utils.TestSerializer;
 import org.hsqldb.jdbc.JDBCDataSource;
 import org.junit.jupiter.api.*;
+import org.mockito.*;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import static java.util.Collections.emptySet;
 import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -105,10 +123,426 @@ void loadSagaByAssociationValue() {
         assertEquals(singleton("123"), actual);
     }
 
+    @Test
+    void applyChangesWritesInsertsUpdatesAndDeletesInBatches() throws SQLException {
+        AssociationValue original = new AssociationValue("key", "value");
+        AssociationValue added = new AssociationValue("key", "added");
+        testSubject.insertSaga(StubSaga.class, "updated", new StubSaga(), singleton(original));
+        testSubject.insertSaga(StubSaga.class, "deleted", new StubSaga(), singleton(original));
+        AssociationValues updatedAssociations = new AssociationValuesImpl(singleton(original));
+        updatedAssociations.remove(original);
+        updatedAssociations.add(added);
+        reset(dataSource);
+
+        testSubject.applyChanges(StubSaga.class, Arrays.asList(
+                SagaChange.insert("inserted", new StubSaga(), singleton(original)),
+                SagaChange.update("updated", new StubSaga(), updatedAssociations),
+                SagaChange.delete("deleted", singleton(original))
+        ));
+
+        verify(dataSource).getConnection();
+        assertNotNull(testSubject.loadSaga(StubSaga.class, "inserted"));
+        assertNull(testSubject.loadSaga(StubSaga.class, "deleted"));
+        SagaStore.Entry<StubSaga> updated = testSubject.loadSaga(StubSaga.class, "updated");
+        assertNotNull(updated);
+        assertEquals(singleton(added), updated.associationValues());
+        assertEquals(singleton("inserted"), testSubject.findSagas(StubSaga.class, original));
+        assertEquals(singleton("updated"), testSubject.findSagas(StubSaga.class, added));
+    }
+
+    @Test
+    void applyChangesSkipsAssociationsOfSagasThatNoLongerExist() {
+        AssociationValues associationValues = new AssociationValuesImpl(emptySet());
+        associationValues.add(new AssociationValue("key", "value"));
+
+        testSubject.applyChanges(StubSaga.class, Collections.singletonList(
+                SagaChange.update("unknown", new StubSaga(), associationValues)
+        ));
+
+        assertNull(testSubject.loadSaga(StubSaga.class, "unknown"));
+        assertTrue(testSubject.findSagas(StubSaga.class, new AssociationValue("key", "value")).isEmpty());
+    }
+
+    @Test
+    void applyChangesKeepsBatchingWhenSchemaOverridesSingleStatements() throws SQLException {
+        SagaSqlSchema customizedSchema = spy(new HsqlSagaSqlSchema() {
+            @Override
+            public PreparedStatement sql_storeSaga(Connection connection, String sagaIdentifier, String revision,
+                                                   String sagaType, byte[] serializedSaga) throws SQLException {
+                return super.sql_storeSaga(connection, sagaIdentifier, revision, sagaType, serializedSaga);
+            }
+        });
+        JdbcSagaStore customizedStore = JdbcSagaStore.builder()
+                                                     .dataSource(dataSource)
+                                                     .sqlSchema(customizedSchema)
+                                                     .serializer(TestSerializer.xStreamSerializer())
+                                                     .build();
+
+        customizedStore.applyChanges(StubSaga.class, Arrays.asList(
+                SagaChange.insert("first", new StubSaga(), singleton(new AssociationValue("key", "value"))),
+                SagaChange.insert("second", new StubSaga(), singleton(new AssociationValue("key", "value")))
+        ));
+
+        assertNotNull(customizedStore.loadSaga(StubSaga.class, "first"));
+        assertNotNull(customizedStore.loadSaga(StubSaga.class, "second"));
+        verify(customizedSchema).storeSagaBatch(any(), anyList());
+        verify(customizedSchema, never()).sql_storeSaga(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void findSagasForMultipleAssociationValuesInBatches() throws SQLException {
+        AssociationValue first = new AssociationValue("key", "first");
+        AssociationValue second = new AssociationValue("key", "second");
+        AssociationValue unknown = new AssociationValue("key", "unknown");
+        testSubject.insertSaga(StubSaga.class, "1", new StubSaga(), singleton(first));
+        testSubject.insertSaga(StubSaga.class, "2", new StubSaga(), singleton(first));
+        testSubject.insertSaga(StubSaga.class, "3", new StubSaga(), singleton(second));
+        testSubject.insertSaga(StubSaga.class, "4", new StubSaga(), singleton(new AssociationValue("other", "first")));
+        SagaSqlSchema sqlSchema = spy(new HsqlSagaSqlSchema());
+        JdbcSagaStore batchingStore = JdbcSagaStore.builder()
+                                                   .dataSource(dataSource)
+                                                   .sqlSchema(sqlSchema)
+                                                   .serializer(TestSerializer.xStreamSerializer())
+                                                   .findSagasBatchSize(2)
+                                                   .build();
+        reset(dataSource);
+
+        Map<AssociationValue, Set<String>> actual =
+                batchingStore.findSagas(StubSaga.class, Arrays.asList(first, second, unknown));
+
+        assertEquals(new HashSet<>(Arrays.asList("1", "2")), actual.get(first));
+        assertEquals(singleton("3"), actual.get(second));
+        assertEquals(emptySet(), actual.get(unknown));
+        verify(dataSource).getConnection();
+        verify(sqlSchema, times(2)).findAssocSagaIdentifiers(any(), any(), anyList());
+    }
+
+    @Test
+    void findSagasForMultipleAssociationValuesKeepsSingleQueryWhenSchemaOverridesSingleLookup()
+            throws SQLException {
+        AssociationValue first = new AssociationValue("key", "first");
+        AssociationValue second = new AssociationValue("key", "second");
+        testSubject.insertSaga(StubSaga.class, "1", new StubSaga(), singleton(first));
+        testSubject.insertSaga(StubSaga.class, "2", new StubSaga(), singleton(second));
+        SagaSqlSchema customizedSchema = spy(new HsqlSagaSqlSchema() {
+            @Override
+            public PreparedStatement sql_findAssocSagaIdentifiers(Connection connection, String key, String value,
+                                                                  String sagaType) throws SQLException {
+                return super.sql_findAssocSagaIdentifiers(connection, key, value, sagaType);
+            }
+        });
+        JdbcSagaStore customizedStore = JdbcSagaStore.builder()
+                                                     .dataSource(dataSource)
+                                                     .sqlSchema(customizedSchema)
+                                                     .serializer(TestSerializer.xStreamSerializer())
+                                                     .build();
+
+        Map<AssociationValue, Set<String>> actual =
+                customizedStore.findSagas(StubSaga.class, Arrays.asList(first, second));
+
+        assertEquals(singleton("1"), actual.get(first));
+        assertEquals(singleton("2"), actual.get(second));
+        verify(customizedSchema).findAssocSagaIdentifiers(any(), any(), anyList());
+        verify(customizedSchema, never()).sql_findAssocSagaIdentifiers(any(), any(), any(), any());
+    }
+
+    @Test
+    void loadSagasLoadsMultipleSagasAndTheirAssociationsInBatches() throws SQLException {
+        AssociationValue first = new AssociationValue("key", "first");
+        AssociationValue second = new AssociationValue("key", "second");
+        testSubject.insertSaga(StubSaga.class, "1", new StubSaga(), new HashSet<>(Arrays.asList(first, second)));
+        testSubject.insertSaga(StubSaga.class, "2", new StubSaga(), singleton(second));
+        testSubject.insertSaga(StubSaga.class, "3", new StubSaga(), emptySet());
+        SagaSqlSchema sqlSchema = spy(new HsqlSagaSqlSchema());
+        JdbcSagaStore batchingStore = JdbcSagaStore.builder()
+                                                   .dataSource(dataSource)
+                                                   .sqlSchema(sqlSchema)
+                                                   .serializer(TestSerializer.xStreamSerializer())
+                                                   .findSagasBatchSize(2)
+                                                   .build();
+        reset(dataSource);
+
+        Map<String, SagaStore.Entry<StubSaga>> actual =
+                batchingStore.loadSagas(StubSaga.class, Arrays.asList("1", "2", "3", "unknown"));
+
+        assertEquals(new HashSet<>(Arrays.asList("1", "2", "3")), actual.keySet());
+        assertEquals(new HashSet<>(Arrays.asList(first, second)), actual.get("1").associationValues());
+        assertEquals(singleton(second), actual.get("2").associationValues());
+        assertEquals(emptySet(), actual.get("3").associationValues());
+        assertNotNull(actual.get("3").saga());
+        verify(dataSource).getConnection();
+        verify(sqlSchema, times(2)).loadSagas(any(Connection.class), anyList());
+        verify(sqlSchema, times(2)).findAssociationsOfSagas(any(), any(), anyList());
+    }
+
+    @Test
+    void loadSagasKeepsSingleQueryWhenSchemaOverridesSingleLoad() throws SQLException {
+        testSubject.insertSaga(StubSaga.class, "1", new StubSaga(), singleton(new AssociationValue("key", "first")));
+        testSubject.insertSaga(StubSaga.class, "2", new StubSaga(), emptySet());
+        SagaSqlSchema customizedSchema = spy(new HsqlSagaSqlSchema() {
+            @Override
+            public PreparedStatement sql_loadSaga(Connection connection, String sagaId) throws SQLException {
+                return super.sql_loadSaga(connection, sagaId);
+            }
+        });
+        JdbcSagaStore customizedStore = JdbcSagaStore.builder()
+                                                     .dataSource(dataSource)
+                                                     .sqlSchema(customizedSchema)
+                                                     .serializer(TestSerializer.xStreamSerializer())
+                                                     .build();
+
+        Map<String, SagaStore.Entry<StubSaga>> actual =
+                customizedStore.loadSagas(StubSaga.class, Arrays.asList("1", "2", "unknown"));
+
+        assertEquals(new HashSet<>(Arrays.asList("1", "2")), actual.keySet());
+        assertEquals(singleton(new AssociationValue("key", "first")), actual.get("1").associationValues());
+        verify(customizedSchema).loadSagas(any(Connection.class), anyList());
+        verify(customizedSchema, never()).sql_loadSaga(any(), any());
+    }
+
+    @Test
+    void postgresSchemaLoadsSagasUsingSingleQuery() throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        PostgresSagaSqlSchema postgresSchema = new PostgresSagaSqlSchema();
+
+        postgresSchema.loadSagas(connection, Arrays.asList("1", "2"));
+        postgresSchema.setExclusiveLoad(true);
+        postgresSchema.loadSagas(connection, Arrays.asList("1", "2"));
+
+        verify(connection).prepareStatement(
+                "SELECT serializedSaga, sagaType, revision, sagaId FROM SagaEntry WHERE sagaId IN (?, ?)"
+        );
+        verify(connection).prepareStatement(
+                "SELECT serializedSaga, sagaType, revision, sagaId FROM SagaEntry WHERE sagaId IN (?, ?) FOR UPDATE"
+        );
+        verify(statement, times(2)).setString(1, "1");
+        verify(statement, times(2)).setString(2, "2");
+    }
+
+    @Test
+    void findSagaIdentifiersReturnsPagesOrderedByIdentifier() {
+        for (String sagaIdentifier : Arrays.asList("c", "a", "d", "b", "e")) {
+            testSubject.insertSaga(StubSaga.class, sagaIdentifier, new StubSaga(), emptySet());
+        }
+
+        assertEquals(Arrays.asList("a", "b"), testSubject.findSagaIdentifiers(StubSaga.class, null, 2));
+        assertEquals(Arrays.asList("c", "d"), testSubject.findSagaIdentifiers(StubSaga.class, "b", 2));
+        assertEquals(Collections.singletonList("e"), testSubject.findSagaIdentifiers(StubSaga.class, "d", 2));
+        assertEquals(Collections.emptyList(), testSubject.findSagaIdentifiers(StubSaga.class, "e", 2));
+    }
+
     @Test
     void updateSagaWhenDeleted() {
         AssociationValues associationsValues = new AssociationValuesImpl(singleton(new AssociationValue("key", "value")));
         testSubject.updateSaga(StubSaga.class, "123456", new StubSaga(), associationsValues);
         assertNull(testSubject.loadSaga(StubSaga.class, "123456"));
     }
+
+    @Test
+    void findSagasOfSegmentOnlyReturnsSagasOfThatSegment() throws SQLException {
+        JdbcSagaStore segmentStore = segmentFilteringStore(new HsqlSagaSqlSchema(segmentHashSchema()));
+        AssociationValue associationValue = new AssociationValue("key", "value");
+        List<String> sagaIdentifiers = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            sagaIdentifiers.add("saga-" + i);
+            segmentStore.insertSaga(StubSaga.class, "saga-" + i, new StubSaga(), singleton(associationValue));
+        }
+
+        for (Segment segment : Segment.splitBalanced(Segment.ROOT_SEGMENT, 2)) {
+            Set<String> expected = sagaIdentifiers.stream().filter(segment::matches).collect(Collectors.toSet());
+
+            assertEquals(expected, segmentStore.findSagas(StubSaga.class, associationValue, segment));
+            assertEquals(expected, segmentStore.findSagas(StubSaga.class, singleton(associationValue), segment)
+                                               .get(associationValue));
+            assertEquals(new TreeSet<>(expected),
+                         new TreeSet<>(segmentStore.findSagaIdentifiers(StubSaga.class, segment, null, 100)));
+        }
+    }
+
+    @Test
+    void findSagasOfSegmentReturnsAssociationsWithoutSegmentHashForEverySegment() throws SQLException {
+        SagaSchema sagaSchema = segmentHashSchema();
+        JdbcSagaStore segmentStore = segmentFilteringStore(new HsqlSagaSqlSchema(sagaSchema));
+        AssociationValue associationValue = new AssociationValue("key", "value");
+        segmentStore.insertSaga(StubSaga.class, "legacy", new StubSaga(), singleton(associationValue));
+        connection.createStatement().executeUpdate(
+                "UPDATE " + sagaSchema.associationValueEntryTable() + " SET " + sagaSchema.segmentHashColumn() + " = NULL"
+        );
+
+        for (Segment segment : Segment.ROOT_SEGMENT.split()) {
+            assertEquals(singleton("legacy"), segmentStore.findSagas(StubSaga.class, associationValue, segment));
+            assertEquals(singletonList("legacy"), segmentStore.findSagaIdentifiers(StubSaga.class, segment, null, 10));
+        }
+    }
+
+    @Test
+    void findSagaIdentifiersOfSegmentReturnsPagesOrderedByIdentifier() throws SQLException {
+        JdbcSagaStore segmentStore = segmentFilteringStore(new HsqlSagaSqlSchema(segmentHashSchema()));
+        Set<AssociationValue> associationValues = new HashSet<>(Arrays.asList(
+                new AssociationValue("key", "first"), new AssociationValue("key", "second")
+        ));
+        for (String sagaIdentifier : Arrays.asList("c", "a", "d", "b", "e")) {
+            segmentStore.insertSaga(StubSaga.class, sagaIdentifier, new StubSaga(), associationValues);
+        }
+
+        assertEquals(Arrays.asList("a", "b"),
+                     segmentStore.findSagaIdentifiers(StubSaga.class, Segment.ROOT_SEGMENT, null, 2));
+        assertEquals(Arrays.asList("c", "d"),
+                     segmentStore.findSagaIdentifiers(StubSaga.class, Segment.ROOT_SEGMENT, "b", 2));
+        assertEquals(singletonList("e"),
+                     segmentStore.findSagaIdentifiers(StubSaga.class, Segment.ROOT_SEGMENT, "d", 2));
+    }
+
+    @Test
+    void findSagasOfSegmentFiltersInMemoryWhenSchemaDoesNotSupportSegmentFiltering() throws SQLException {
+        AssociationValue associationValue = new AssociationValue("key", "value");
+        testSubject.insertSaga(StubSaga.class, "saga-1", new StubSaga(), singleton(associationValue));
+        testSubject.insertSaga(StubSaga.class, "saga-2", new StubSaga(), singleton(associationValue));
+        SagaSqlSchema sqlSchema = spy(new HsqlSagaSqlSchema());
+        JdbcSagaStore nonFilteringStore = JdbcSagaStore.builder()
+                                                       .dataSource(dataSource)
+                                                       .sqlSchema(sqlSchema)
+                                                       .serializer(TestSerializer.xStreamSerializer())
+                                                       .build();
+
+        for (Segment segment : Segment.ROOT_SEGMENT.split()) {
+            Set<String> expected = Stream.of("saga-1", "saga-2").filter(segment::matches).collect(Collectors.toSet());
+            assertEquals(expected, nonFilteringStore.findSagas(StubSaga.class, associationValue, segment));
+        }
+        verify(sqlSchema, never()).sql_findAssocSagaIdentifiers(any(), any(), any(), any(), any(Segment.class));
+    }
+
+    private static SagaSchema segmentHashSchema() {
+        return SagaSchema.builder().segmentHashColumn("segmentHash").build();
+    }
+
+    private JdbcSagaStore segmentFilteringStore(SagaSqlSchema sqlSchema) throws SQLException {
+        connection.createStatement().execute("DROP TABLE SagaEntry");
+        connection.createStatement().execute("DROP TABLE AssociationValueEntry");
+        JdbcSagaStore segmentStore = JdbcSagaStore.builder()
+                                                  .dataSource(dataSource)
+                                                  .sqlSchema(sqlSchema)
+                                                  .serializer(TestSerializer.xStreamSerializer())
+                                                  .build();
+        segmentStore.createSchema();
+        return segmentStore;
+    }
+
+    @Test
+    void updateOfUnchangedSagaIsSkippedWhenEnabled() throws SQLException {
+        testSubject.insertSaga(StubSaga.class, "123", new StubSaga(), emptySet());
+        SagaSqlSchema sqlSchema = spy(new HsqlSagaSqlSchema());
+        JdbcSagaStore skippingStore = skippingStore(sqlSchema);
+        AssociationValue added = new AssociationValue("key", "added");
+
+        DefaultUnitOfWork.startAndGet(null).execute(() -> {
+            SagaStore.Entry<StubSaga> entry = skippingStore.loadSaga(StubSaga.class, "123");
+            AssociationValuesImpl associationValues = new AssociationValuesImpl(entry.associationValues());
+            skippingStore.updateSaga(StubSaga.class, "123", entry.saga(), associationValues);
+            associationValues.add(added);
+            skippingStore.updateSaga(StubSaga.class, "123", entry.saga(), associationValues);
+        });
+
+        // only the update adding an association writes the saga, to verify it still exists
+        verify(sqlSchema).sql_updateSaga(any(), any(), any(), any(), any());
+        assertEquals(singleton("123"), testSubject.findSagas(StubSaga.class, added));
+    }
+
+    @Test
+    void associationsOfUnchangedSagaAreNotWrittenWhenSagaWasDeletedConcurrently() {
+        testSubject.insertSaga(StubSaga.class, "123", new StubSaga(), emptySet());
+        JdbcSagaStore skippingStore = skippingStore(new HsqlSagaSqlSchema());
+        AssociationValue added = new AssociationValue("key", "added");
+
+        DefaultUnitOfWork.startAndGet(null).execute(() -> {
+            SagaStore.Entry<StubSaga> entry = skippingStore.loadSaga(StubSaga.class, "123");
+            testSubject.deleteSaga(StubSaga.class, "123", entry.associationValues());
+            AssociationValuesImpl associationValues = new AssociationValuesImpl(entry.associationValues());
+            associationValues.add(added);
+            skippingStore.updateSaga(StubSaga.class, "123", entry.saga(), associationValues);
+        });
+
+        assertEquals(emptySet(), testSubject.findSagas(StubSaga.class, added));
+    }
+
+    @Test
+    void updateOfChangedSagaIsWrittenWhenSkippingIsEnabled() throws SQLException {
+        testSubject.insertSaga(StubSaga.class, "123", new CountingSaga(), emptySet());
+        SagaSqlSchema sqlSchema = spy(new HsqlSagaSqlSchema());
+        JdbcSagaStore skippingStore = skippingStore(sqlSchema);
+
+        DefaultUnitOfWork.startAndGet(null).execute(() -> {
+            CountingSaga saga = skippingStore.loadSaga(CountingSaga.class, "123").saga();
+            saga.count++;
+            skippingStore.updateSaga(CountingSaga.class, "123", saga, new AssociationValuesImpl());
+        });
+
+        verify(sqlSchema).sql_updateSaga(any(), any(), any(), any(), any());
+        assertEquals(1, testSubject.loadSaga(CountingSaga.class, "123").saga().count);
+    }
+
+    @Test
+    void updateOutsideOfUnitOfWorkIsAlwaysWritten() throws SQLException {
+        testSubject.insertSaga(StubSaga.class, "123", new StubSaga(), emptySet());
+        SagaSqlSchema sqlSchema = spy(new HsqlSagaSqlSchema());
+        JdbcSagaStore skippingStore = skippingStore(sqlSchema);
+
+        StubSaga saga = skippingStore.loadSaga(StubSaga.class, "123").saga();
+        skippingStore.updateSaga(StubSaga.class, "123", saga, new AssociationValuesImpl());
+
+        verify(sqlSchema).sql_updateSaga(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void applyChangesLeavesUnchangedSagasOutOfUpdateBatch() throws SQLException {
+        AssociationValue original = new AssociationValue("key", "original");
+        AssociationValue added = new AssociationValue("key", "added");
+        testSubject.insertSaga(CountingSaga.class, "unchanged", new CountingSaga(), emptySet());
+        testSubject.insertSaga(CountingSaga.class, "associated", new CountingSaga(), singleton(original));
+        testSubject.insertSaga(CountingSaga.class, "changed", new CountingSaga(), emptySet());
+        SagaSqlSchema sqlSchema = spy(new HsqlSagaSqlSchema());
+        JdbcSagaStore skippingStore = skippingStore(sqlSchema);
+
+        DefaultUnitOfWork.startAndGet(null).execute(() -> {
+            Map<String, SagaStore.Entry<CountingSaga>> loaded = skippingStore.loadSagas(
+                    CountingSaga.class, Arrays.asList("unchanged", "associated", "changed")
+            );
+            AssociationValues addedAssociations =
+                    new AssociationValuesImpl(loaded.get("associated").associationValues());
+            addedAssociations.add(added);
+            CountingSaga changed = loaded.get("changed").saga();
+            changed.count++;
+            skippingStore.applyChanges(CountingSaga.class, Arrays.asList(
+                    SagaChange.update("unchanged", loaded.get("unchanged").saga(), new AssociationValuesImpl()),
+                    SagaChange.update("associated", loaded.get("associated").saga(), addedAssociations),
+                    SagaChange.update("changed", changed, new AssociationValuesImpl())
+            ));
+        });
+
+        //noinspection unchecked
+        ArgumentCaptor<List<SagaEntry<?>>> updatedSagas = ArgumentCaptor.forClass(List.class);
+        verify(sqlSchema).updateSagaBatch(any(), updatedSagas.capture());
+        assertEquals(Arrays.asList("associated", "changed"),
+                     updatedSagas.getValue().stream().map(SagaEntry::getSagaId).collect(Collectors.toList()));
+        assertEquals(singleton("associated"), testSubject.findSagas(CountingSaga.class, added));
+        assertEquals(1, testSubject.loadSaga(CountingSaga.class, "changed").saga().count);
+    }
+
+    private JdbcSagaStore skippingStore(SagaSqlSchema sqlSchema) {
+        return JdbcSagaStore.builder()
+                            .dataSource(dataSource)
+                            .sqlSchema(sqlSchema)
+                            .serializer(TestSerializer.xStreamSerializer())
+                            .skipUnchangedUpdates(true)
+                            .build();
+    }
+
+    private static class CountingSaga {
+
+        private int count;
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2023. Axon Framework
+ * Copyright (c) 2010-2024. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -80,7 +80,8 @@ void snapshotterAndSnapshotTriggerDefinitionAreInvoked() {
             commandGateway.send(new TestContext.UpdateCommand(AGGREGATE_ID));
 
             verify(snapshotTriggerDefinition, atLeastOnce()).prepareTrigger(TestContext.TestAggregate.class);
-            verify(snapshotter, atLeastOnce()).scheduleSnapshot(TestContext.TestAggregate.class, AGGREGATE_ID);
+            verify(snapshotter, atLeastOnce())
+                    .scheduleSnapshot(eq(TestContext.TestAggregate.class), eq(AGGREGATE_ID), anyLong());
         });
     }
 
@@ -295,6 +295,8 @@ public SpringAggregateSnapshotter aggregateSnapshotter(Configuration configurati
                                          .parameterResolverFactory(parameterResolverFactory)
                                          .handlerDefinition(handlerDefinition)
                                          .spanFactory(spanFactory)
+                                         .messageMonitor(configuration.messageMonitor(Snapshotter.class,
+                                                                                      "snapshotter"))
                                          .build();
     }
 
@@ -17,12 +17,16 @@
 package org.axonframework.spring.eventsourcing;
 
 import org.axonframework.common.AxonConfigurationException;
+import org.axonframework.common.caching.Cache;
 import org.axonframework.common.transaction.TransactionManager;
+import org.axonframework.eventhandling.DomainEventMessage;
 import org.axonframework.eventsourcing.*;
 import org.axonframework.eventsourcing.eventstore.EventStore;
 import org.axonframework.messaging.annotation.HandlerDefinition;
 import org.axonframework.messaging.annotation.ParameterResolverFactory;
 import org.axonframework.modelling.command.RepositoryProvider;
+import org.axonframework.monitoring.MessageMonitor;
+import org.axonframework.serialization.Serializer;
 import org.axonframework.tracing.SpanFactory;
 import org.springframework.beans.BeansException;
 import org.springframework.context.ApplicationContext;
@@ -31,6 +35,7 @@
 import static org.springframework.beans.factory.BeanFactoryUtils.beansOfTypeIncludingAncestors;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.Executor;
@@ -161,6 +166,42 @@ public Builder transactionManager(TransactionManager transactionManager) {
             return this;
         }
 
+        @Override
+        public Builder queueCapacity(int queueCapacity) {
+            super.queueCapacity(queueCapacity);
+            return this;
+        }
+
+        @Override
+        public Builder storageBatchSize(int storageBatchSize) {
+            super.storageBatchSize(storageBatchSize);
+            return this;
+        }
+
+        @Override
+        public Builder messageMonitor(@Nonnull MessageMonitor<? super DomainEventMessage<?>> messageMonitor) {
+            super.messageMonitor(messageMonitor);
+            return this;
+        }
+
+        @Override
+        public Builder aggregateCaches(Cache... aggregateCaches) {
+            super.aggregateCaches(aggregateCaches);
+            return this;
+        }
+
+        @Override
+        public Builder aggregateCaches(List<Cache> aggregateCaches) {
+            super.aggregateCaches(aggregateCaches);
+            return this;
+        }
+
+        @Override
+        public Builder snapshotSerializer(Serializer snapshotSerializer) {
+            super.snapshotSerializer(snapshotSerializer);
+            return this;
+        }
+
         @Override
         public Builder repositoryProvider(RepositoryProvider repositoryProvider) {
             super.repositoryProvider(repositoryProvider);